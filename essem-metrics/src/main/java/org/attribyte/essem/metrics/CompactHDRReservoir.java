@@ -0,0 +1,388 @@
+/*
+ * Copyright 2018 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.attribyte.essem.metrics;
+
+import com.codahale.metrics.Reservoir;
+import com.codahale.metrics.Snapshot;
+import com.google.common.base.Suppliers;
+import com.google.common.collect.ImmutableList;
+import org.HdrHistogram.Histogram;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static java.lang.Math.toIntExact;
+
+/**
+ * A HDR reservoir that stores counts sparsely, for metrics that record few distinct values.
+ * <p>
+ *    Values are mapped to the same buckets as {@link HDRReservoir}, so snapshots report identical quantiles,
+ *    but only buckets with values are stored. A HDR histogram is built only when a snapshot is read.
+ *    Interval histograms are pooled and reused when snapshots are recycled.
+ * </p>
+ * <p>
+ *    Updates are synchronized, so reservoirs updated at high rates by many threads should use
+ *    {@link HDRReservoir} or {@link StripedHDRReservoir}.
+ * </p>
+ */
+public class CompactHDRReservoir implements Reservoir, MemoryFootprint, IntervalConsumers {
+
+   /**
+    * Creates a compact reservoir.
+    * @param numberOfSignificantValueDigits The number of significant digits in the value (0-5).
+    * @param reportTotalHistogram If {@code true}, the long-running histogram will be reported. Otherwise, the histogram
+    * collected since the last snapshot was acquired will be reported.
+    */
+   public CompactHDRReservoir(final int numberOfSignificantValueDigits, final boolean reportTotalHistogram) {
+      this(Long.MAX_VALUE, numberOfSignificantValueDigits, reportTotalHistogram);
+   }
+
+   /**
+    * Creates a compact reservoir.
+    * @param highestTrackableValue The highest value tracked. Anything larger will be set to the maximum.
+    * @param numberOfSignificantValueDigits The number of significant digits in the value (0-5).
+    * @param reportTotalHistogram If {@code true}, the long-running histogram will be reported. Otherwise, the histogram
+    * collected since the last snapshot was acquired will be reported.
+    */
+   public CompactHDRReservoir(final long highestTrackableValue, final int numberOfSignificantValueDigits,
+                              final boolean reportTotalHistogram) {
+      if(numberOfSignificantValueDigits < 0 || numberOfSignificantValueDigits > 5) {
+         throw new IllegalArgumentException("The 'numberOfSignificantValueDigits' must be 0-5");
+      }
+      this.highestTrackableValue = highestTrackableValue;
+      this.numberOfSignificantValueDigits = numberOfSignificantValueDigits;
+      this.template = template(numberOfSignificantValueDigits);
+      this.reportTotalHistogram = reportTotalHistogram;
+   }
+
+   /**
+    * Gets the number of values in the snapshot that would be returned by {@code getSnapshot}
+    * for the consumer bound to the current thread, without starting a new interval.
+    * @return The number of values.
+    */
+   @Override
+   public synchronized int size() {
+      if(reportTotalHistogram) {
+         return toIntExact(totalCounts.totalCount);
+      }
+      final SparseCounts consumerCounts = consumers.get(HDRReservoir.currentConsumer());
+      return toIntExact(consumerCounts != null ? consumerCounts.totalCount : totalCounts.totalCount);
+   }
+
+   /**
+    * Records a value.
+    * @param value The value.
+    * @throws ArrayIndexOutOfBoundsException if the value is negative, as for {@link HDRReservoir}.
+    */
+   @Override
+   public void update(final long value) {
+      if(value < 0L) {
+         throw new ArrayIndexOutOfBoundsException("Histogram recorded value cannot be negative.");
+      }
+      final long bucketValue = template.lowestEquivalentValue(value < highestTrackableValue ? value : highestTrackableValue);
+      synchronized(this) {
+         totalCounts.add(bucketValue, 1L);
+         for(SparseCounts consumerCounts : consumers.values()) {
+            consumerCounts.add(bucketValue, 1L);
+         }
+      }
+   }
+
+   /**
+    * Gets a snapshot for the consumer bound to the current thread with {@link HDRReservoir#readAs(String, Supplier)},
+    * or the default consumer, and starts a new interval for that consumer.
+    * @return The snapshot.
+    */
+   @Override
+   public Snapshot getSnapshot() {
+      return getSnapshot(HDRReservoir.currentConsumer());
+   }
+
+   /**
+    * Gets a snapshot for a named consumer and starts a new interval for that consumer.
+    * <p>
+    *    The first interval of a new consumer contains all values recorded since the reservoir was created.
+    *    If the total is reported, it is read with the interval. Otherwise, it is read when first used.
+    *    Call {@link HDRReservoir.HDRSnapshot#recycle()} when the snapshot is no longer used to reuse its
+    *    interval histogram.
+    * </p>
+    * @param consumer The consumer name.
+    * @return The snapshot.
+    */
+   public Snapshot getSnapshot(final String consumer) {
+      final SparseCounts intervalCounts;
+      final Supplier<Histogram> totalHistogram;
+      synchronized(this) {
+         SparseCounts consumerCounts = consumers.put(consumer, new SparseCounts());
+         intervalCounts = consumerCounts != null ? consumerCounts : new SparseCounts(totalCounts);
+         if(reportTotalHistogram) { //Reported totals are read with the interval
+            totalHistogram = Suppliers.ofInstance(totalHistogram());
+         } else {
+            totalHistogram = Suppliers.memoize(() -> {
+               synchronized(this) {
+                  return totalHistogram();
+               }
+            });
+         }
+      }
+
+      Histogram intervalHistogram = acquire(numberOfSignificantValueDigits);
+      intervalCounts.recordTo(intervalHistogram);
+      return new HDRReservoir.HDRSnapshot(reportTotalHistogram, totalHistogram, intervalHistogram,
+              new Recycler(intervalHistogram, numberOfSignificantValueDigits));
+   }
+
+   @Override
+   public synchronized void removeConsumer(final String consumer) {
+      if(!consumer.equals(HDRReservoir.DEFAULT_CONSUMER)) {
+         consumers.remove(consumer);
+      }
+   }
+
+   /**
+    * Builds a histogram from the total counts. Must be called while synchronized.
+    * @return The histogram.
+    */
+   private Histogram totalHistogram() {
+      Histogram histogram = new Histogram(numberOfSignificantValueDigits);
+      totalCounts.recordTo(histogram);
+      return histogram;
+   }
+
+   /**
+    * Estimates the memory retained by the total and consumer counts.
+    * @return The estimated footprint in bytes.
+    */
+   @Override
+   public synchronized long getEstimatedFootprintInBytes() {
+      long footprint = totalCounts.getEstimatedFootprintInBytes();
+      for(SparseCounts consumerCounts : consumers.values()) {
+         footprint += consumerCounts.getEstimatedFootprintInBytes();
+      }
+      return footprint;
+   }
+
+   /**
+    * Counts stored in an open-addressing hash table, keyed by the lowest value in the bucket.
+    */
+   private static final class SparseCounts {
+
+      SparseCounts() {
+         this.keys = new long[INITIAL_CAPACITY];
+         this.counts = new long[INITIAL_CAPACITY];
+         Arrays.fill(keys, EMPTY);
+      }
+
+      SparseCounts(final SparseCounts other) {
+         this.keys = other.keys.clone();
+         this.counts = other.counts.clone();
+         this.size = other.size;
+         this.totalCount = other.totalCount;
+      }
+
+      /**
+       * Adds a count to a bucket.
+       * @param key The lowest value in the bucket.
+       * @param count The count.
+       */
+      void add(final long key, final long count) {
+         final int mask = keys.length - 1;
+         int index = (int)((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+         while(true) {
+            if(keys[index] == key) {
+               counts[index] += count;
+               break;
+            } else if(keys[index] == EMPTY) {
+               keys[index] = key;
+               counts[index] = count;
+               if(++size * 4 > keys.length * 3) {
+                  grow();
+               }
+               break;
+            }
+            index = (index + 1) & mask;
+         }
+         totalCount += count;
+      }
+
+      /**
+       * Records all counts to a histogram.
+       * @param histogram The histogram.
+       */
+      void recordTo(final Histogram histogram) {
+         for(int i = 0; i < keys.length; i++) {
+            if(keys[i] != EMPTY) {
+               histogram.recordValueWithCount(keys[i], counts[i]);
+            }
+         }
+      }
+
+      /**
+       * @return The estimated footprint in bytes.
+       */
+      long getEstimatedFootprintInBytes() {
+         return 64L + 16L * keys.length;
+      }
+
+      /**
+       * Doubles the capacity of the table.
+       */
+      private void grow() {
+         final long[] previousKeys = keys;
+         final long[] previousCounts = counts;
+         keys = new long[previousKeys.length * 2];
+         counts = new long[previousCounts.length * 2];
+         Arrays.fill(keys, EMPTY);
+         final long previousTotalCount = totalCount;
+         size = 0;
+         for(int i = 0; i < previousKeys.length; i++) {
+            if(previousKeys[i] != EMPTY) {
+               add(previousKeys[i], previousCounts[i]);
+            }
+         }
+         totalCount = previousTotalCount;
+      }
+
+      private long[] keys;
+      private long[] counts;
+      private int size;
+      long totalCount;
+
+      /**
+       * Marks an empty slot. Recorded values are never negative.
+       */
+      private static final long EMPTY = -1L;
+
+      /**
+       * The initial table capacity (a power of 2).
+       */
+      private static final int INITIAL_CAPACITY = 8;
+   }
+
+   /**
+    * Returns a snapshot's interval histogram to the pool once.
+    */
+   private static final class Recycler implements Runnable {
+
+      Recycler(final Histogram histogram, final int numberOfSignificantValueDigits) {
+         this.histogram = new AtomicReference<>(histogram);
+         this.numberOfSignificantValueDigits = numberOfSignificantValueDigits;
+      }
+
+      @Override
+      public void run() {
+         Histogram histogram = this.histogram.getAndSet(null);
+         if(histogram != null) {
+            release(histogram, numberOfSignificantValueDigits);
+         }
+      }
+
+      private final AtomicReference<Histogram> histogram;
+      private final int numberOfSignificantValueDigits;
+   }
+
+   /**
+    * Gets an empty, never modified, histogram used to map values to buckets. It is never returned to callers.
+    * @param numberOfSignificantValueDigits The number of significant digits.
+    * @return The histogram.
+    */
+   private static Histogram template(final int numberOfSignificantValueDigits) {
+      synchronized(TEMPLATES) {
+         Histogram template = TEMPLATES[numberOfSignificantValueDigits];
+         if(template == null) {
+            template = new Histogram(numberOfSignificantValueDigits);
+            TEMPLATES[numberOfSignificantValueDigits] = template;
+         }
+         return template;
+      }
+   }
+
+   /**
+    * Gets a pooled interval histogram or creates one.
+    * @param numberOfSignificantValueDigits The number of significant digits.
+    * @return The (empty) histogram.
+    */
+   private static Histogram acquire(final int numberOfSignificantValueDigits) {
+      Histogram histogram = POOLS.get(numberOfSignificantValueDigits).poll();
+      return histogram != null ? histogram : new Histogram(numberOfSignificantValueDigits);
+   }
+
+   /**
+    * Resets an interval histogram and returns it to the pool, if there is room.
+    * @param histogram The histogram.
+    * @param numberOfSignificantValueDigits The number of significant digits.
+    */
+   private static void release(final Histogram histogram, final int numberOfSignificantValueDigits) {
+      final ConcurrentLinkedQueue<Histogram> pool = POOLS.get(numberOfSignificantValueDigits);
+      if(pool.size() < MAX_POOLED) {
+         histogram.reset();
+         pool.offer(histogram);
+      }
+   }
+
+   /**
+    * The maximum number of pooled interval histograms for each precision.
+    */
+   private static final int MAX_POOLED = 16;
+
+   /**
+    * Template histograms, by number of significant digits.
+    */
+   private static final Histogram[] TEMPLATES = new Histogram[6];
+
+   /**
+    * Pooled interval histograms, by number of significant digits.
+    */
+   private static final ImmutableList<ConcurrentLinkedQueue<Histogram>> POOLS = ImmutableList.of(
+           new ConcurrentLinkedQueue<>(), new ConcurrentLinkedQueue<>(), new ConcurrentLinkedQueue<>(),
+           new ConcurrentLinkedQueue<>(), new ConcurrentLinkedQueue<>(), new ConcurrentLinkedQueue<>()
+   );
+
+   /**
+    * The highest value tracked.
+    */
+   private final long highestTrackableValue;
+
+   /**
+    * The number of significant digits in the value.
+    */
+   private final int numberOfSignificantValueDigits;
+
+   /**
+    * Maps values to buckets.
+    */
+   private final Histogram template;
+
+   /**
+    * If {@code true}, when {@code getSnapshot} is called, the total histogram (for all time) will be reported.
+    * Otherwise, the histogram since the last call will be reported.
+    */
+   private final boolean reportTotalHistogram;
+
+   /**
+    * The counts recorded since the reservoir was created.
+    */
+   private final SparseCounts totalCounts = new SparseCounts();
+
+   /**
+    * The counts recorded since the last snapshot, by consumer name.
+    * A consumer, including the default consumer, is added when it first reads a snapshot.
+    */
+   private final Map<String, SparseCounts> consumers = new HashMap<>();
+}
@@ -14,9 +14,11 @@
 
 package org.attribyte.essem.metrics;
 
+import com.codahale.metrics.Clock;
 import com.codahale.metrics.Reservoir;
 import com.codahale.metrics.Snapshot;
 import com.google.common.base.Charsets;
+import com.google.common.base.Suppliers;
 import org.HdrHistogram.Histogram;
 import org.HdrHistogram.HistogramIterationValue;
 import org.HdrHistogram.Recorder;
@@ -24,19 +26,42 @@ import org.HdrHistogram.Recorder;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import static java.lang.Math.toIntExact;
 
 /**
  * A High Dynamic Range (HDR) histogram implementation.
  * See: <a href="https://github.com/HdrHistogram/HdrHistogram">HdrHistogram</a>.
+ * <p>
+ *    Values are recorded once. Snapshots are read by named consumers, each with its own
+ *    "since last snapshot" interval, so several reporters may share a registry.
+ *    A consumer's interval is kept only once it has read a snapshot, so a reservoir read only by
+ *    named consumers does not also keep an interval for the default consumer.
+ * </p>
+ * <p>
+ *    The total histogram accumulates from creation or, if a total epoch is configured, from the start of the
+ *    current epoch. The total for the previous epoch is kept for comparison.
+ * </p>
  */
-public class HDRReservoir implements Reservoir {
+public class HDRReservoir implements Reservoir, MemoryFootprint, IntervalConsumers {
 
 
    /**
     * A specialized snapshot that contains both the "total" histogram (since start),
     * and the one collected since {@code getSnapshot} was last called.
+    * <p>
+    *    Snapshots read from a reservoir own their histograms: none is shared with the reservoir or another snapshot.
+    *    If the snapshot reports the total, the total is copied into a recycled histogram when the snapshot is read. Otherwise, the total
+    *    is copied only when first used, so it includes values recorded until then and, if a total epoch has
+    *    ended since the snapshot was read, is the total for the new epoch.
+    *    The snapshot's histograms may be returned to the reservoir with {@link #recycle()} when the snapshot is no longer used.
+    * </p>
     */
    public static final class HDRSnapshot extends Snapshot {
 
@@ -47,16 +72,22 @@ public class HDRReservoir implements Reservoir {
        */
       HDRSnapshot(final Histogram totalHistogram,
                   final Histogram lastSnapshotHistogram) {
-         this.totalHistogram = totalHistogram;
-         this.lastSnapshotHistogram = lastSnapshotHistogram;
-         this.histogram = totalHistogram;
+         this(true, () -> totalHistogram, lastSnapshotHistogram, null);
       }
 
-      private HDRSnapshot(final Histogram histogram, final Histogram totalHistogram,
-                          final Histogram lastSnapshotHistogram) {
-         this.histogram = histogram;
+      /**
+       * Creates the snapshot.
+       * @param total If {@code true}, the snapshot reports the total histogram.
+       * @param totalHistogram Supplies the total histogram.
+       * @param lastSnapshotHistogram The histogram since the last snapshot.
+       * @param recycler Returns the interval histogram for reuse, or {@code null}.
+       */
+      HDRSnapshot(final boolean total, final Supplier<Histogram> totalHistogram,
+                  final Histogram lastSnapshotHistogram, final Runnable recycler) {
+         this.total = total;
          this.totalHistogram = totalHistogram;
          this.lastSnapshotHistogram = lastSnapshotHistogram;
+         this.recycler = recycler;
       }
 
       /**
@@ -65,7 +96,7 @@ public class HDRReservoir implements Reservoir {
        * @return The snapshot.
        */
       public HDRSnapshot fromHistogram(final Histogram histogram) {
-         return new HDRSnapshot(histogram, histogram, histogram);
+         return new HDRSnapshot(histogram, histogram);
       }
 
       /**
@@ -73,8 +104,7 @@ public class HDRReservoir implements Reservoir {
        * @return The snapshot.
        */
       public HDRSnapshot totalSnapshot() {
-         return this.histogram == this.totalHistogram ? this :
-                 new HDRSnapshot(this.totalHistogram, this.lastSnapshotHistogram, this.totalHistogram);
+         return total ? this : new HDRSnapshot(true, totalHistogram, lastSnapshotHistogram, recycler);
       }
 
       /**
@@ -82,8 +112,7 @@ public class HDRReservoir implements Reservoir {
        * @return The snapshot.
        */
       public HDRSnapshot sinceLastSnapshot() {
-         return this.histogram == this.lastSnapshotHistogram ? this :
-                 new HDRSnapshot(this.totalHistogram, this.lastSnapshotHistogram, this.lastSnapshotHistogram);
+         return !total ? this : new HDRSnapshot(false, totalHistogram, lastSnapshotHistogram, recycler);
       }
 
       /**
@@ -91,16 +120,70 @@ public class HDRReservoir implements Reservoir {
        * @return The histogram.
        */
       public Histogram getHistogram() {
-         return histogram;
+         return total ? totalHistogram.get() : lastSnapshotHistogram;
+      }
+
+      /**
+       * Returns the snapshot's histograms to the reservoir for reuse.
+       * <p>
+       *    Neither this snapshot, nor any snapshot derived from it, may be used after it is recycled.
+       * </p>
+       */
+      public void recycle() {
+         if(recycler != null) {
+            recycler.run();
+         }
       }
 
       @Override
       public double getValue(double quantile) {
-         return histogram.getValueAtPercentile(quantile * 100.0);
+         return getHistogram().getValueAtPercentile(quantile * 100.0);
+      }
+
+      /**
+       * Gets the values at several quantiles with a single pass over the histogram.
+       * <p>
+       *    Each value is identical to the value returned by {@link #getValue(double)} for the quantile,
+       *    but the histogram is scanned once instead of once per quantile.
+       * </p>
+       * @param quantiles The quantiles, each in {@code [0.0, 1.0]}, in any order.
+       * @return The values, in the same order as the quantiles.
+       */
+      public double[] getValues(final double[] quantiles) {
+         final double[] values = new double[quantiles.length];
+         final Histogram histogram = getHistogram();
+         final long totalCount = histogram.getTotalCount();
+         if(quantiles.length == 0 || totalCount == 0L) {
+            return values;
+         }
+
+         final long[] targetCounts = new long[quantiles.length];
+         final Integer[] order = new Integer[quantiles.length];
+         for(int i = 0; i < quantiles.length; i++) {
+            double percentile = Math.min(Math.max(Math.nextAfter(quantiles[i] * 100.0, Double.NEGATIVE_INFINITY), 0.0), 100.0);
+            targetCounts[i] = Math.max(1L, (long)Math.ceil(percentile * totalCount / 100.0));
+            order[i] = i;
+         }
+         Arrays.sort(order, (a, b) -> Long.compare(targetCounts[a], targetCounts[b]));
+
+         int next = 0;
+         for(HistogramIterationValue value : histogram.recordedValues()) {
+            final long totalCountToValue = value.getTotalCountToThisValue();
+            while(next < order.length && totalCountToValue >= targetCounts[order[next]]) {
+               final int index = order[next++];
+               final long valueAtIndex = value.getValueIteratedTo();
+               values[index] = quantiles[index] == 0.0 ? histogram.lowestEquivalentValue(valueAtIndex) : valueAtIndex;
+            }
+            if(next == order.length) {
+               break;
+            }
+         }
+         return values;
       }
 
       @Override
       public long[] getValues() {
+         final Histogram histogram = getHistogram();
          final int size = toIntExact(histogram.getTotalCount());
          final long[] values = new long[size];
          int pos = 0;
@@ -116,27 +199,27 @@ public class HDRReservoir implements Reservoir {
 
       @Override
       public int size() {
-         return toIntExact(histogram.getTotalCount());
+         return toIntExact(getHistogram().getTotalCount());
       }
 
       @Override
       public long getMax() {
-         return histogram.getMaxValue();
+         return getHistogram().getMaxValue();
       }
 
       @Override
       public double getMean() {
-         return histogram.getMean();
+         return getHistogram().getMean();
       }
 
       @Override
       public long getMin() {
-         return histogram.getMinValue();
+         return getHistogram().getMinValue();
       }
 
       @Override
       public double getStdDev() {
-         return histogram.getStdDeviation();
+         return getHistogram().getStdDeviation();
       }
 
       @Override
@@ -148,9 +231,10 @@ public class HDRReservoir implements Reservoir {
          }
       }
 
-      private final Histogram histogram;
-      private final Histogram totalHistogram;
+      private final boolean total;
+      private final Supplier<Histogram> totalHistogram;
       private final Histogram lastSnapshotHistogram;
+      private final Runnable recycler;
    }
 
 
@@ -161,10 +245,8 @@ public class HDRReservoir implements Reservoir {
     * collected since the last snapshot was acquired will be reported.
     */
    public HDRReservoir(final int numberOfSignificantValueDigits, final boolean reportTotalHistogram) {
-      this.highestTrackableValue = Long.MAX_VALUE;
-      this.recorder = new Recorder(numberOfSignificantValueDigits);
-      this.totalHistogram = new Histogram(numberOfSignificantValueDigits);
-      this.reportTotalHistogram = reportTotalHistogram;
+      this(Long.MAX_VALUE, new Histogram(numberOfSignificantValueDigits),
+              newRecorders(1, () -> new Recorder(numberOfSignificantValueDigits)), reportTotalHistogram);
    }
 
    /**
@@ -176,52 +258,434 @@ public class HDRReservoir implements Reservoir {
     */
    public HDRReservoir(final long highestTrackableValue, final int numberOfSignificantValueDigits,
                        final boolean reportTotalHistogram) {
+      this(highestTrackableValue, new Histogram(highestTrackableValue, numberOfSignificantValueDigits),
+              newRecorders(1, () -> new Recorder(highestTrackableValue, numberOfSignificantValueDigits)), reportTotalHistogram);
+   }
+
+   /**
+    * Creates a HDR histogram with a total that is reset every epoch.
+    * <p>
+    *    A new epoch starts at the first read after the previous epoch ends.
+    *    The total for the previous epoch is available with {@link #previousEpochSnapshot()}.
+    * </p>
+    * @param numberOfSignificantValueDigits The number of significant digits in the value.
+    * @param reportTotalHistogram If {@code true}, the histogram for the current epoch will be reported. Otherwise, the histogram
+    * collected since the last snapshot was acquired will be reported.
+    * @param totalEpoch The duration of each epoch.
+    * @param totalEpochUnit The epoch duration units.
+    * @param clock The clock.
+    */
+   public HDRReservoir(final int numberOfSignificantValueDigits, final boolean reportTotalHistogram,
+                       final long totalEpoch, final TimeUnit totalEpochUnit, final Clock clock) {
+      this(Long.MAX_VALUE, new Histogram(numberOfSignificantValueDigits),
+              newRecorders(1, () -> new Recorder(numberOfSignificantValueDigits)), reportTotalHistogram,
+              totalEpochUnit.toNanos(totalEpoch), clock);
+   }
+
+   /**
+    * Creates a HDR histogram that records to one or more recorders.
+    * @param highestTrackableValue The highest value tracked. Anything larger will be set to the maximum.
+    * @param totalHistogram The (empty) total histogram, with the same range and precision as the recorders.
+    * @param recorders The recorders.
+    * @param reportTotalHistogram If {@code true}, the long-running histogram will be reported. Otherwise, the histogram
+    * collected since the last snapshot was acquired will be reported.
+    */
+   protected HDRReservoir(final long highestTrackableValue, final Histogram totalHistogram,
+                          final Recorder[] recorders, final boolean reportTotalHistogram) {
+      this(highestTrackableValue, totalHistogram, recorders, reportTotalHistogram, 0L, null);
+   }
+
+   /**
+    * Creates a HDR histogram that records to one or more recorders, with a total that is reset every epoch.
+    * @param highestTrackableValue The highest value tracked. Anything larger will be set to the maximum.
+    * @param totalHistogram The (empty) total histogram, with the same range and precision as the recorders.
+    * @param recorders The recorders.
+    * @param reportTotalHistogram If {@code true}, the long-running histogram will be reported. Otherwise, the histogram
+    * collected since the last snapshot was acquired will be reported.
+    * @param totalEpochNanos The duration of each epoch in nanoseconds.
+    * @param clock The clock used to end epochs, or {@code null} if the total is never reset.
+    */
+   protected HDRReservoir(final long highestTrackableValue, final Histogram totalHistogram,
+                          final Recorder[] recorders, final boolean reportTotalHistogram,
+                          final long totalEpochNanos, final Clock clock) {
+      if(clock != null && totalEpochNanos < 1L) {
+         throw new IllegalArgumentException("The 'totalEpoch' must be > 0");
+      }
+      this.totalEpochNanos = totalEpochNanos;
+      this.clock = clock;
+      this.epochEndTick = clock != null ? clock.getTick() + totalEpochNanos : Long.MAX_VALUE;
       this.highestTrackableValue = highestTrackableValue;
-      this.recorder = new Recorder(highestTrackableValue, numberOfSignificantValueDigits);
-      this.totalHistogram = new Histogram(highestTrackableValue, numberOfSignificantValueDigits);
+      this.recorders = recorders;
+      this.intervalHistograms = new Histogram[recorders.length];
+      this.totalHistogram = totalHistogram;
+      this.emptyHistogram = new Histogram(totalHistogram);
       this.reportTotalHistogram = reportTotalHistogram;
    }
 
+   /**
+    * Creates an array of recorders.
+    * @param count The number of recorders.
+    * @param recorder Creates a recorder.
+    * @return The recorders.
+    * @throws IllegalArgumentException if the count is less than 1.
+    */
+   protected static Recorder[] newRecorders(final int count, final Supplier<Recorder> recorder) {
+      if(count < 1) {
+         throw new IllegalArgumentException("At least one recorder is required");
+      }
+      final Recorder[] recorders = new Recorder[count];
+      for(int i = 0; i < count; i++) {
+         recorders[i] = recorder.get();
+      }
+      return recorders;
+   }
+
+   /**
+    * Gets the number of values in the snapshot that would be returned by {@code getSnapshot}
+    * for the consumer bound to the current thread, without starting a new interval.
+    * @return The number of values.
+    */
    @Override
-   public int size() {
-      return getSnapshot().size();
+   public synchronized int size() {
+      drain();
+      if(reportTotalHistogram) {
+         return toIntExact(totalHistogram.getTotalCount());
+      }
+      final Histogram consumerHistogram = consumers.get(currentConsumer());
+      return toIntExact(consumerHistogram != null ? consumerHistogram.getTotalCount() : totalHistogram.getTotalCount());
    }
 
    @Override
    public void update(long value) {
+      final Recorder recorder = recorders.length == 1 ? recorders[0] :
+              recorders[(int)(Thread.currentThread().getId() % recorders.length)];
       recorder.recordValue(value < this.highestTrackableValue ? value : this.highestTrackableValue);
    }
 
+   /**
+    * Gets a snapshot for the consumer bound to the current thread with {@link #readAs(String, Supplier)},
+    * or the default consumer, and starts a new interval for that consumer.
+    * @return The snapshot.
+    */
    @Override
-   public synchronized Snapshot getSnapshot() {
-      lastSnapshotHistogram = recorder.getIntervalHistogram(lastSnapshotHistogram);
-      totalHistogram.add(lastSnapshotHistogram);
-      HDRSnapshot snapshot = new HDRSnapshot(totalHistogram.copy(), lastSnapshotHistogram.copy());
-      return reportTotalHistogram ? snapshot.totalSnapshot() : snapshot.sinceLastSnapshot();
+   public Snapshot getSnapshot() {
+      return getSnapshot(currentConsumer());
+   }
+
+   /**
+    * Gets a snapshot for a named consumer and starts a new interval for that consumer.
+    * <p>
+    *    Every consumer has its own interval, so consumers do not take values from each other's intervals.
+    *    The first interval of a new consumer contains all values recorded since the reservoir was created.
+    * </p>
+    * <p>
+    *    The consumer's interval histogram is moved to the snapshot, not copied. If the total is reported, it is
+    *    copied into a recycled histogram. Otherwise, it is copied only if the snapshot's total is used.
+    *    Call {@link HDRSnapshot#recycle()} when the snapshot is no longer used to reuse its histograms.
+    * </p>
+    * @param consumer The consumer name.
+    * @return The snapshot.
+    */
+   public synchronized Snapshot getSnapshot(final String consumer) {
+      drain();
+      Histogram consumerHistogram = consumerHistogram(consumer);
+      Histogram nextHistogram = spare();
+      final Histogram intervalHistogram;
+      if(consumerHistogram.getTotalCount() == 0L) {
+         intervalHistogram = nextHistogram; //The consumer keeps its (empty) histogram
+      } else {
+         consumers.put(consumer, nextHistogram);
+         intervalHistogram = consumerHistogram;
+      }
+      if(reportTotalHistogram) {
+         final Histogram totalHistogramCopy = spare();
+         totalHistogramCopy.add(totalHistogram);
+         return new HDRSnapshot(true, Suppliers.ofInstance(totalHistogramCopy), intervalHistogram,
+                 new Recycler(intervalHistogram, totalHistogramCopy));
+      }
+      return new HDRSnapshot(false, totalCopy(), intervalHistogram, new Recycler(intervalHistogram, null));
+   }
+
+   /**
+    * Gets a snapshot for a named consumer without starting a new interval.
+    * @param consumer The consumer name.
+    * @return The snapshot.
+    */
+   public synchronized HDRSnapshot peek(final String consumer) {
+      drain();
+      Histogram consumerHistogram = consumers.get(consumer);
+      return new HDRSnapshot(reportTotalHistogram, totalCopy(),
+              consumerHistogram != null ? consumerHistogram.copy() : totalHistogram.copy(), null);
+   }
+
+   /**
+    * Gets a snapshot of a copy of the total histogram for the previous epoch.
+    * @return The snapshot. It is empty if no epoch has ended or epochs are not configured.
+    */
+   public synchronized HDRSnapshot previousEpochSnapshot() {
+      drain();
+      final Histogram histogram = previousTotalHistogram != null ? previousTotalHistogram.copy() : new Histogram(emptyHistogram);
+      return new HDRSnapshot(histogram, histogram);
    }
 
    /**
-    * The recorder.
+    * Gets a snapshot for the default consumer without starting a new interval.
+    * @return The snapshot.
     */
-   private final Recorder recorder;
+   public HDRSnapshot peek() {
+      return peek(DEFAULT_CONSUMER);
+   }
+
+   @Override
+   public synchronized void removeConsumer(final String consumer) {
+      if(!consumer.equals(DEFAULT_CONSUMER)) {
+         consumers.remove(consumer);
+         while(spares.size() > maxSpares()) {
+            spares.poll();
+         }
+      }
+   }
 
    /**
-    * The last reported histogram.
+    * Estimates the memory retained, including recorders, the total histograms and consumer intervals.
+    * Recorders are estimated from the size of the histogram last read from each, or the empty histogram
+    * if never read. The estimate does not read the recorders, so it does not change the reservoir.
+    * @return The estimated footprint in bytes.
     */
-   private Histogram lastSnapshotHistogram = null;
+   @Override
+   public synchronized long getEstimatedFootprintInBytes() {
+      long footprint = totalHistogram.getEstimatedFootprintInBytes() + emptyHistogram.getEstimatedFootprintInBytes();
+      if(previousTotalHistogram != null) {
+         footprint += previousTotalHistogram.getEstimatedFootprintInBytes();
+      }
+      for(Histogram intervalHistogram : intervalHistograms) {
+         final Histogram recorderHistogram = intervalHistogram != null ? intervalHistogram : emptyHistogram;
+         footprint += 2L * recorderHistogram.getEstimatedFootprintInBytes(); //Recorders hold active and inactive histograms
+      }
+      for(Histogram consumerHistogram : consumers.values()) {
+         footprint += consumerHistogram.getEstimatedFootprintInBytes();
+      }
+      for(Histogram spare : spares) {
+         footprint += spare.getEstimatedFootprintInBytes();
+      }
+      return footprint;
+   }
 
    /**
-    * The totalHistogram.
+    * Reads metrics as a named consumer.
+    * <p>
+    *    While the reader runs, {@code getSnapshot()}, called on the current thread, returns the interval for the consumer.
+    *    This allows reporters that read reservoirs through histograms and timers to have their own intervals.
+    * </p>
+    * @param consumer The consumer name.
+    * @param reader The reader.
+    * @param <T> The type returned by the reader.
+    * @return The value returned by the reader.
     */
-   private final Histogram totalHistogram;
+   public static <T> T readAs(final String consumer, final Supplier<T> reader) {
+      final String previousConsumer = CURRENT_CONSUMER.get();
+      CURRENT_CONSUMER.set(consumer);
+      try {
+         return reader.get();
+      } finally {
+         if(previousConsumer != null) {
+            CURRENT_CONSUMER.set(previousConsumer);
+         } else {
+            CURRENT_CONSUMER.remove();
+         }
+      }
+   }
+
+   /**
+    * @return The consumer bound to the current thread, or the default consumer.
+    */
+   static String currentConsumer() {
+      String consumer = CURRENT_CONSUMER.get();
+      return consumer != null ? consumer : DEFAULT_CONSUMER;
+   }
+
+   /**
+    * Moves values recorded to every recorder since the last read to the total histogram and every consumer's interval.
+    */
+   private void drain() {
+      for(int i = 0; i < recorders.length; i++) {
+         final Histogram intervalHistogram = recorders[i].getIntervalHistogram(intervalHistograms[i]);
+         intervalHistograms[i] = intervalHistogram;
+         if(intervalHistogram.getTotalCount() > 0L) {
+            totalHistogram.add(intervalHistogram);
+            for(Histogram consumerHistogram : consumers.values()) {
+               consumerHistogram.add(intervalHistogram);
+            }
+         }
+      }
+
+      if(clock != null) {
+         final long tick = clock.getTick();
+         if(tick >= epochEndTick) {
+            previousTotalHistogram = totalHistogram;
+            totalHistogram = new Histogram(emptyHistogram); //Not reset, so memory is sized to the current epoch
+            epochEndTick += ((tick - epochEndTick) / totalEpochNanos + 1L) * totalEpochNanos;
+         }
+      }
+   }
+
+   /**
+    * Supplies a copy of the total histogram.
+    * <p>
+    *    If the total is reported, it is copied now, so it matches the interval read with it.
+    *    Otherwise, it is copied, including all values recorded, when first requested.
+    *    Snapshots read with {@code getSnapshot} that report the total copy it into a recycled histogram instead.
+    * </p>
+    * @return The supplier.
+    */
+   private Supplier<Histogram> totalCopy() {
+      if(reportTotalHistogram) {
+         return Suppliers.ofInstance(totalHistogram.copy());
+      }
+      return Suppliers.memoize(() -> {
+         synchronized(this) {
+            drain();
+            return totalHistogram.copy();
+         }
+      });
+   }
+
+   /**
+    * Gets an empty histogram from the pool of spares, or creates one if none is available.
+    * @return The histogram.
+    */
+   private Histogram spare() {
+      Histogram spare = spares.poll();
+      return spare != null ? spare : new Histogram(emptyHistogram);
+   }
+
+   /**
+    * @return The maximum number of spares: one for each consumer's interval and, if the total is reported, its copy.
+    */
+   private int maxSpares() {
+      return reportTotalHistogram ? 2 * consumers.size() : consumers.size();
+   }
+
+   /**
+    * Returns a snapshot histogram to the pool of spares, if there is room.
+    * @param histogram The histogram.
+    */
+   private synchronized void release(final Histogram histogram) {
+      if(spares.size() < maxSpares()) {
+         histogram.reset();
+         spares.offer(histogram);
+      }
+   }
+
+   /**
+    * Returns a snapshot's interval histogram and total copy to the reservoir once.
+    */
+   private final class Recycler implements Runnable {
+
+      Recycler(final Histogram histogram, final Histogram totalHistogram) {
+         this.histogram = histogram;
+         this.totalHistogram = totalHistogram;
+      }
+
+      @Override
+      public void run() {
+         synchronized(HDRReservoir.this) {
+            if(histogram != null) {
+               release(histogram);
+               histogram = null;
+            }
+            if(totalHistogram != null) {
+               release(totalHistogram);
+               totalHistogram = null;
+            }
+         }
+      }
+
+      private Histogram histogram;
+      private Histogram totalHistogram;
+   }
+
+   /**
+    * Gets the interval histogram for a consumer, creating it with all values recorded so far if required.
+    * @param consumer The consumer name.
+    * @return The histogram.
+    */
+   private Histogram consumerHistogram(final String consumer) {
+      Histogram consumerHistogram = consumers.get(consumer);
+      if(consumerHistogram == null) {
+         consumerHistogram = totalHistogram.copy();
+         consumers.put(consumer, consumerHistogram);
+      }
+      return consumerHistogram;
+   }
+
+   /**
+    * The recorders. A thread always records to the same recorder.
+    */
+   private final Recorder[] recorders;
+
+   /**
+    * The histograms last read from each recorder, recycled for the next read.
+    */
+   private final Histogram[] intervalHistograms;
+
+   /**
+    * The total histogram for the current epoch.
+    */
+   private Histogram totalHistogram;
+
+   /**
+    * The total histogram for the previous epoch, never modified, or {@code null} if no epoch has ended.
+    */
+   private Histogram previousTotalHistogram;
+
+   /**
+    * The duration of each epoch in nanoseconds.
+    */
+   private final long totalEpochNanos;
+
+   /**
+    * The clock used to end epochs, or {@code null} if the total is never reset.
+    */
+   private final Clock clock;
+
+   /**
+    * The clock tick when the current epoch ends.
+    */
+   private long epochEndTick;
+
+   /**
+    * The values recorded since the last snapshot, by consumer name.
+    * A consumer, including the default consumer, is added when it first reads a snapshot.
+    */
+   private final Map<String, Histogram> consumers = new HashMap<>();
+
+   /**
+    * Reset histograms returned by recycled snapshots, used for the next interval or total copy.
+    */
+   private final ArrayDeque<Histogram> spares = new ArrayDeque<>();
+
+   /**
+    * An empty histogram, never modified, reported for intervals with no values.
+    */
+   private final Histogram emptyHistogram;
+
+   /**
+    * The consumer bound to the current thread.
+    */
+   private static final ThreadLocal<String> CURRENT_CONSUMER = new ThreadLocal<>();
+
+   /**
+    * The name of the default consumer.
+    */
+   public static final String DEFAULT_CONSUMER = "";
 
    /**
     * The highest value tracked.
     */
    private final long highestTrackableValue;
-
    /**
-    * If {@code true}, when {@code getSnapshot} is called, the total histogram (for all time) will be reported.
+    * If {@code true}, when {@code getSnapshot} is called, the total histogram (for all time or the current epoch) will be reported.
     * Otherwise, the histogram since the last call will be reported.
     */
    private final boolean reportTotalHistogram;
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2018 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.attribyte.essem.metrics;
+
+import com.codahale.metrics.Reservoir;
+
+/**
+ * A histogram that uses a high dynamic range histogram by default.
+ * See: <a href="https://github.com/HdrHistogram/HdrHistogram">HdrHistogram</a>.
+ */
+public class Histogram extends com.codahale.metrics.Histogram implements MemoryFootprint, IntervalConsumers {
+
+   /**
+    * Creates a histogram that reports the histogram since last snapshot,
+    * with no limit on trackable values and 2 significant value digits.
+    */
+   public Histogram() {
+      this(new HDRReservoir(2, HDRReservoir.REPORT_SNAPSHOT_HISTOGRAM));
+   }
+
+   /**
+    * Creates a histogram with a reservoir, for example, a {@link CompactHDRReservoir} for histograms
+    * that record few distinct values.
+    * @param reservoir The reservoir.
+    */
+   public Histogram(final Reservoir reservoir) {
+      super(reservoir);
+      this.reservoir = reservoir;
+   }
+
+   @Override
+   public long getEstimatedFootprintInBytes() {
+      return reservoir instanceof MemoryFootprint ? ((MemoryFootprint)reservoir).getEstimatedFootprintInBytes() : 0L;
+   }
+
+   @Override
+   public void removeConsumer(final String consumer) {
+      if(reservoir instanceof IntervalConsumers) {
+         ((IntervalConsumers)reservoir).removeConsumer(consumer);
+      }
+   }
+
+   /**
+    * The reservoir.
+    */
+   private final Reservoir reservoir;
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2018 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.attribyte.essem.metrics;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricRegistry;
+
+/**
+ * A gauge that reports the estimated memory retained by the reservoirs of all metrics in a registry.
+ * <p>
+ *    Only metrics that implement {@link MemoryFootprint}, for example, {@link Timer} and {@link Histogram},
+ *    are included.
+ * </p>
+ */
+public class ReservoirFootprintGauge implements Gauge<Long> {
+
+   /**
+    * Creates the gauge.
+    * @param registry The registry.
+    */
+   public ReservoirFootprintGauge(final MetricRegistry registry) {
+      this.registry = registry;
+   }
+
+   @Override
+   public Long getValue() {
+      long footprint = 0L;
+      for(Metric metric : registry.getMetrics().values()) {
+         if(metric instanceof MemoryFootprint) {
+            footprint += ((MemoryFootprint)metric).getEstimatedFootprintInBytes();
+         }
+      }
+      return footprint;
+   }
+
+   /**
+    * The registry.
+    */
+   private final MetricRegistry registry;
+}
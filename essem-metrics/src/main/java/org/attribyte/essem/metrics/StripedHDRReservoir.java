@@ -0,0 +1,79 @@
+/*
+ * Copyright 2018 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.attribyte.essem.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * A HDR reservoir that records to several recorders (stripes), selected by thread,
+ * to reduce contention when many threads update the same reservoir.
+ * <p>
+ *    Stripes are merged when a snapshot is read. Each stripe holds two histograms,
+ *    so memory use is proportional to the number of stripes.
+ * </p>
+ */
+public class StripedHDRReservoir extends HDRReservoir {
+
+   /**
+    * Creates a striped reservoir with one stripe for each available processor.
+    * @param numberOfSignificantValueDigits The number of significant digits in the value.
+    * @param reportTotalHistogram If {@code true}, the long-running histogram will be reported. Otherwise, the histogram
+    * collected since the last snapshot was acquired will be reported.
+    */
+   public StripedHDRReservoir(final int numberOfSignificantValueDigits, final boolean reportTotalHistogram) {
+      this(numberOfSignificantValueDigits, reportTotalHistogram, defaultStripes());
+   }
+
+   /**
+    * Creates a striped reservoir.
+    * @param numberOfSignificantValueDigits The number of significant digits in the value.
+    * @param reportTotalHistogram If {@code true}, the long-running histogram will be reported. Otherwise, the histogram
+    * collected since the last snapshot was acquired will be reported.
+    * @param stripes The number of stripes.
+    */
+   public StripedHDRReservoir(final int numberOfSignificantValueDigits, final boolean reportTotalHistogram,
+                              final int stripes) {
+      super(Long.MAX_VALUE, new Histogram(numberOfSignificantValueDigits),
+              newRecorders(stripes, () -> new Recorder(numberOfSignificantValueDigits)), reportTotalHistogram);
+   }
+
+   /**
+    * Creates a striped reservoir.
+    * @param highestTrackableValue The highest value tracked. Anything larger will be set to the maximum.
+    * @param numberOfSignificantValueDigits The number of significant digits in the value.
+    * @param reportTotalHistogram If {@code true}, the long-running histogram will be reported. Otherwise, the histogram
+    * collected since the last snapshot was acquired will be reported.
+    * @param stripes The number of stripes.
+    */
+   public StripedHDRReservoir(final long highestTrackableValue, final int numberOfSignificantValueDigits,
+                              final boolean reportTotalHistogram, final int stripes) {
+      super(highestTrackableValue, new Histogram(highestTrackableValue, numberOfSignificantValueDigits),
+              newRecorders(stripes, () -> new Recorder(highestTrackableValue, numberOfSignificantValueDigits)),
+              reportTotalHistogram);
+   }
+
+   /**
+    * @return The default number of stripes: the number of available processors, up to {@value #MAX_DEFAULT_STRIPES}.
+    */
+   public static int defaultStripes() {
+      return Math.min(Runtime.getRuntime().availableProcessors(), MAX_DEFAULT_STRIPES);
+   }
+
+   /**
+    * The maximum default number of stripes.
+    */
+   public static final int MAX_DEFAULT_STRIPES = 64;
+}
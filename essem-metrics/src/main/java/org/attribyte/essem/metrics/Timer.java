@@ -15,12 +15,19 @@
 package org.attribyte.essem.metrics;
 
 import com.codahale.metrics.Clock;
+import com.codahale.metrics.Reservoir;
+
+import java.util.concurrent.TimeUnit;
 
 /**
  * A timer that uses a high dynamic range histogram by default.
  * See: <a href="https://github.com/HdrHistogram/HdrHistogram">HdrHistogram</a>.
+ * <p>
+ *    In addition to {@code time()}, which allocates a context, durations may be recorded without allocation
+ *    with {@link #startNanos()} and {@link #stopNanos(long)}, or with a reusable per-thread {@link Stopwatch}.
+ * </p>
  */
-public class Timer extends com.codahale.metrics.Timer {
+public class Timer extends com.codahale.metrics.Timer implements MemoryFootprint, IntervalConsumers {
 
    /**
     * Creates a timer that reports the histogram since last snapshot,
@@ -46,7 +53,7 @@ public class Timer extends com.codahale.metrics.Timer {
     * @param numberOfSignificantValueDigits The number of significant digits in the value.
     */
    public Timer(final int numberOfSignificantValueDigits) {
-      super(new HDRReservoir(numberOfSignificantValueDigits, HDRReservoir.REPORT_SNAPSHOT_HISTOGRAM), Clock.defaultClock());
+      this(new HDRReservoir(numberOfSignificantValueDigits, HDRReservoir.REPORT_SNAPSHOT_HISTOGRAM), Clock.defaultClock());
    }
 
    /**
@@ -61,7 +68,7 @@ public class Timer extends com.codahale.metrics.Timer {
                 final int numberOfSignificantValueDigits,
                 final Clock clock,
                 final boolean reportTotalHistogram) {
-      super(new HDRReservoir(highestTrackableValue, numberOfSignificantValueDigits, reportTotalHistogram), clock);
+      this(new HDRReservoir(highestTrackableValue, numberOfSignificantValueDigits, reportTotalHistogram), clock);
    }
 
    /**
@@ -74,6 +81,115 @@ public class Timer extends com.codahale.metrics.Timer {
    public Timer(final int numberOfSignificantValueDigits,
                 final Clock clock,
                 final boolean reportTotalHistogram) {
-      super(new HDRReservoir(numberOfSignificantValueDigits, reportTotalHistogram), clock);
+      this(new HDRReservoir(numberOfSignificantValueDigits, reportTotalHistogram), clock);
+   }
+
+   /**
+    * Creates a timer with a reservoir, for example, a {@link StripedHDRReservoir} for timers
+    * updated by many threads, a {@link CompactHDRReservoir} for timers that record few distinct values,
+    * or a {@link WindowedHDRReservoir} to report a sliding time window.
+    * @param reservoir The reservoir.
+    * @param clock The clock.
+    */
+   public Timer(final Reservoir reservoir, final Clock clock) {
+      super(reservoir, clock);
+      this.reservoir = reservoir;
+      this.clock = clock;
+   }
+
+   /**
+    * Starts timing.
+    * @return The start time, passed to {@link #stopNanos(long)}.
+    */
+   public long startNanos() {
+      return clock.getTick();
+   }
+
+   /**
+    * Stops timing and records the elapsed time.
+    * @param startNanos The start time returned by {@link #startNanos()}.
+    * @return The elapsed time in nanoseconds.
+    */
+   public long stopNanos(final long startNanos) {
+      final long elapsedNanos = clock.getTick() - startNanos;
+      update(elapsedNanos, TimeUnit.NANOSECONDS);
+      return elapsedNanos;
+   }
+
+   /**
+    * Gets the stopwatch for this timer, reused by the current thread.
+    * @return The stopwatch.
+    */
+   public Stopwatch stopwatch() {
+      return stopwatches.get();
+   }
+
+   /**
+    * A reusable stopwatch that records to a timer.
+    * <p>
+    *    A stopwatch is bound to one thread and is not reentrant:
+    *    nested timing with the same timer on the same thread must use {@link #startNanos()}.
+    * </p>
+    */
+   public static final class Stopwatch implements AutoCloseable {
+
+      private Stopwatch(final Timer timer) {
+         this.timer = timer;
+      }
+
+      /**
+       * Starts the stopwatch.
+       * @return This stopwatch.
+       */
+      public Stopwatch start() {
+         startNanos = timer.startNanos();
+         return this;
+      }
+
+      /**
+       * Stops the stopwatch and records the elapsed time.
+       * @return The elapsed time in nanoseconds.
+       */
+      public long stop() {
+         return timer.stopNanos(startNanos);
+      }
+
+      /**
+       * Stops the stopwatch and records the elapsed time.
+       */
+      @Override
+      public void close() {
+         stop();
+      }
+
+      private final Timer timer;
+      private long startNanos;
+   }
+
+   @Override
+   public long getEstimatedFootprintInBytes() {
+      return reservoir instanceof MemoryFootprint ? ((MemoryFootprint)reservoir).getEstimatedFootprintInBytes() : 0L;
+   }
+
+   @Override
+   public void removeConsumer(final String consumer) {
+      if(reservoir instanceof IntervalConsumers) {
+         ((IntervalConsumers)reservoir).removeConsumer(consumer);
+      }
    }
+
+   /**
+    * The reservoir.
+    */
+   private final Reservoir reservoir;
+
+   /**
+    * The clock.
+    */
+   private final Clock clock;
+
+   /**
+    * The stopwatch for each thread.
+    */
+   private final ThreadLocal<Stopwatch> stopwatches = ThreadLocal.withInitial(() -> new Stopwatch(this));
 }
\ No newline at end of file
@@ -0,0 +1,298 @@
+/*
+ * Copyright 2018 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.attribyte.essem.metrics;
+
+import com.codahale.metrics.Clock;
+import com.codahale.metrics.Reservoir;
+import com.codahale.metrics.Snapshot;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.Math.toIntExact;
+
+/**
+ * A HDR reservoir that reports values recorded during a sliding time window.
+ * <p>
+ *    Values are kept in a ring of histograms (slots), each covering a fixed duration.
+ *    A snapshot for a window merges the current slot with as many previous slots as are needed to cover the window,
+ *    so a window includes values recorded between {@code window - slotDuration} and {@code window} ago.
+ *    The ring is allocated when the reservoir is created, and expired slots are reset and reused.
+ * </p>
+ * <p>
+ *    Snapshots do not depend on how often they are read, and reading a snapshot does not start a new interval.
+ * </p>
+ */
+public class WindowedHDRReservoir implements Reservoir, MemoryFootprint {
+
+   /**
+    * Creates a reservoir with one-minute slots that answers windows up to 15 minutes, and reports the last minute.
+    * @param numberOfSignificantValueDigits The number of significant digits in the value.
+    * @param clock The clock.
+    * @return The reservoir.
+    */
+   public static WindowedHDRReservoir fifteenMinutes(final int numberOfSignificantValueDigits, final Clock clock) {
+      return new WindowedHDRReservoir(numberOfSignificantValueDigits, 1L, TimeUnit.MINUTES, 15, 1, clock);
+   }
+
+   /**
+    * Creates a windowed reservoir.
+    * @param numberOfSignificantValueDigits The number of significant digits in the value.
+    * @param slotDuration The duration of each slot.
+    * @param slotDurationUnit The slot duration units.
+    * @param slots The number of slots. The longest window is {@code slots * slotDuration}.
+    * @param reportedSlots The number of slots reported by {@code getSnapshot()}.
+    * @param clock The clock.
+    */
+   public WindowedHDRReservoir(final int numberOfSignificantValueDigits,
+                               final long slotDuration, final TimeUnit slotDurationUnit,
+                               final int slots, final int reportedSlots,
+                               final Clock clock) {
+      this(Long.MAX_VALUE, new Histogram(numberOfSignificantValueDigits), new Recorder(numberOfSignificantValueDigits),
+              slotDuration, slotDurationUnit, slots, reportedSlots, clock);
+   }
+
+   /**
+    * Creates a windowed reservoir.
+    * @param highestTrackableValue The highest value tracked. Anything larger will be set to the maximum.
+    * @param numberOfSignificantValueDigits The number of significant digits in the value.
+    * @param slotDuration The duration of each slot.
+    * @param slotDurationUnit The slot duration units.
+    * @param slots The number of slots. The longest window is {@code slots * slotDuration}.
+    * @param reportedSlots The number of slots reported by {@code getSnapshot()}.
+    * @param clock The clock.
+    */
+   public WindowedHDRReservoir(final long highestTrackableValue, final int numberOfSignificantValueDigits,
+                               final long slotDuration, final TimeUnit slotDurationUnit,
+                               final int slots, final int reportedSlots,
+                               final Clock clock) {
+      this(highestTrackableValue, new Histogram(highestTrackableValue, numberOfSignificantValueDigits),
+              new Recorder(highestTrackableValue, numberOfSignificantValueDigits),
+              slotDuration, slotDurationUnit, slots, reportedSlots, clock);
+   }
+
+   private WindowedHDRReservoir(final long highestTrackableValue, final Histogram template, final Recorder recorder,
+                                final long slotDuration, final TimeUnit slotDurationUnit,
+                                final int slots, final int reportedSlots,
+                                final Clock clock) {
+      if(slotDuration < 1L) {
+         throw new IllegalArgumentException("The 'slotDuration' must be > 0");
+      }
+      if(slots < 1) {
+         throw new IllegalArgumentException("The 'slots' must be > 0");
+      }
+      if(reportedSlots < 1 || reportedSlots > slots) {
+         throw new IllegalArgumentException("The 'reportedSlots' must be 1-" + slots);
+      }
+      this.highestTrackableValue = highestTrackableValue;
+      this.recorder = recorder;
+      this.slotNanos = slotDurationUnit.toNanos(slotDuration);
+      this.slots = new Histogram[slots];
+      this.slots[0] = template;
+      for(int i = 1; i < slots; i++) {
+         this.slots[i] = new Histogram(template);
+      }
+      this.reportedSlots = reportedSlots;
+      this.clock = clock;
+      this.nextRotationTick = clock.getTick() + slotNanos;
+   }
+
+   @Override
+   public void update(final long value) {
+      if(clock.getTick() >= nextRotationTick) {
+         rotate();
+      }
+      recorder.recordValue(value < highestTrackableValue ? value : highestTrackableValue);
+   }
+
+   /**
+    * Gets the number of values in the reported window.
+    * @return The number of values.
+    */
+   @Override
+   public synchronized int size() {
+      rotate();
+      long count = 0L;
+      for(int i = 0; i < reportedSlots; i++) {
+         count += slot(i).getTotalCount();
+      }
+      return toIntExact(count);
+   }
+
+   /**
+    * Gets a snapshot of the reported window.
+    * @return The snapshot.
+    */
+   @Override
+   public Snapshot getSnapshot() {
+      return getSnapshot(reportedSlots);
+   }
+
+   /**
+    * Gets a snapshot of a window.
+    * @param window The window duration. Windows longer than the ring are truncated to the ring.
+    * @param windowUnit The window units.
+    * @return The snapshot.
+    */
+   public HDRReservoir.HDRSnapshot getSnapshot(final long window, final TimeUnit windowUnit) {
+      final long windowSlots = (windowUnit.toNanos(window) + slotNanos - 1L) / slotNanos;
+      return getSnapshot((int)Math.max(1L, Math.min(windowSlots, slots.length)));
+   }
+
+   /**
+    * Gets a snapshot that merges the current slot and previous slots.
+    * <p>
+    *    Call {@link HDRReservoir.HDRSnapshot#recycle()} when the snapshot is no longer used to reuse its histogram.
+    * </p>
+    * @param slotCount The number of slots.
+    * @return The snapshot.
+    */
+   private synchronized HDRReservoir.HDRSnapshot getSnapshot(final int slotCount) {
+      rotate();
+      Histogram spare = spares.poll();
+      final Histogram windowHistogram = spare != null ? spare : new Histogram(slots[0]);
+      for(int i = 0; i < slotCount; i++) {
+         windowHistogram.add(slot(i));
+      }
+      return new HDRReservoir.HDRSnapshot(false, () -> windowHistogram, windowHistogram, new Recycler(windowHistogram));
+   }
+
+   /**
+    * Estimates the memory retained by the slots, recorder and spare histograms.
+    * @return The estimated footprint in bytes.
+    */
+   @Override
+   public synchronized long getEstimatedFootprintInBytes() {
+      long footprint = 0L;
+      for(Histogram slot : slots) {
+         footprint += slot.getEstimatedFootprintInBytes();
+      }
+      if(intervalHistogram != null) {
+         footprint += 2L * intervalHistogram.getEstimatedFootprintInBytes(); //Recorder holds active and inactive histograms
+      }
+      for(Histogram spare : spares) {
+         footprint += spare.getEstimatedFootprintInBytes();
+      }
+      return footprint;
+   }
+
+   /**
+    * Moves recorded values to the current slot, then resets and advances to slots that have started since
+    * the last rotation.
+    */
+   private synchronized void rotate() {
+      intervalHistogram = recorder.getIntervalHistogram(intervalHistogram);
+      slots[current].add(intervalHistogram);
+
+      final long tick = clock.getTick();
+      if(tick >= nextRotationTick) {
+         final long elapsedSlots = (tick - nextRotationTick) / slotNanos + 1L;
+         for(int i = 0; i < Math.min(elapsedSlots, slots.length); i++) {
+            current = (current + 1) % slots.length;
+            slots[current].reset();
+         }
+         nextRotationTick += elapsedSlots * slotNanos;
+      }
+   }
+
+   /**
+    * Gets a slot relative to the current slot.
+    * @param age The number of slots before the current slot.
+    * @return The slot.
+    */
+   private Histogram slot(final int age) {
+      return slots[(current - age + slots.length) % slots.length];
+   }
+
+   /**
+    * Returns a snapshot's histogram to the spares once.
+    */
+   private final class Recycler implements Runnable {
+
+      Recycler(final Histogram histogram) {
+         this.histogram = histogram;
+      }
+
+      @Override
+      public void run() {
+         synchronized(WindowedHDRReservoir.this) {
+            if(histogram != null && spares.size() < MAX_SPARES) {
+               histogram.reset();
+               spares.offer(histogram);
+            }
+            histogram = null;
+         }
+      }
+
+      private Histogram histogram;
+   }
+
+   /**
+    * The maximum number of spare window histograms.
+    */
+   private static final int MAX_SPARES = 2;
+
+   /**
+    * The highest value tracked.
+    */
+   private final long highestTrackableValue;
+
+   /**
+    * The recorder.
+    */
+   private final Recorder recorder;
+
+   /**
+    * The histogram last read from the recorder, recycled for the next read.
+    */
+   private Histogram intervalHistogram;
+
+   /**
+    * The duration of each slot in nanoseconds.
+    */
+   private final long slotNanos;
+
+   /**
+    * The ring of slots.
+    */
+   private final Histogram[] slots;
+
+   /**
+    * The index of the current slot.
+    */
+   private int current;
+
+   /**
+    * The clock tick when the next slot starts.
+    */
+   private volatile long nextRotationTick;
+
+   /**
+    * The number of slots reported by {@code getSnapshot()}.
+    */
+   private final int reportedSlots;
+
+   /**
+    * The clock.
+    */
+   private final Clock clock;
+
+   /**
+    * Reset window histograms returned by recycled snapshots.
+    */
+   private final ArrayDeque<Histogram> spares = new ArrayDeque<>();
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2018 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.attribyte.essem.metrics;
+
+import com.codahale.metrics.Clock;
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.MetricRegistry;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compact HDR reservoir tests.
+ */
+public class CompactHDRReservoirTest {
+
+   /**
+    * Verifies that a compact reservoir reports the same values as a HDR reservoir with a smaller footprint.
+    */
+   @Test
+   public void testCompactReservoir() throws Exception {
+      HDRReservoir reservoir = new HDRReservoir(2, HDRReservoir.REPORT_SNAPSHOT_HISTOGRAM);
+      CompactHDRReservoir compactReservoir = new CompactHDRReservoir(2, HDRReservoir.REPORT_SNAPSHOT_HISTOGRAM);
+      Random random = new Random(42L);
+      for(int i = 0; i < 10000; i++) {
+         long value = 1000L << random.nextInt(20);
+         reservoir.update(value);
+         compactReservoir.update(value);
+      }
+
+      assertEquals(reservoir.size(), compactReservoir.size());
+      long footprint = reservoir.getEstimatedFootprintInBytes();
+      long compactFootprint = compactReservoir.getEstimatedFootprintInBytes();
+      assertTrue(compactFootprint * 10 < footprint);
+
+      double[] quantiles = {0.0, 0.5, 0.75, 0.99, 1.0};
+      HDRReservoir.HDRSnapshot snapshot = (HDRReservoir.HDRSnapshot)reservoir.getSnapshot();
+      HDRReservoir.HDRSnapshot compactSnapshot = (HDRReservoir.HDRSnapshot)compactReservoir.getSnapshot();
+      assertArrayEquals(snapshot.getValues(quantiles), compactSnapshot.getValues(quantiles), 0.0);
+      assertEquals(snapshot.getMin(), compactSnapshot.getMin());
+      assertEquals(snapshot.getMax(), compactSnapshot.getMax());
+      assertEquals(snapshot.getMean(), compactSnapshot.getMean(), 0.0);
+      compactSnapshot.recycle();
+      assertEquals(0, compactReservoir.getSnapshot().size());
+      assertEquals(10000, ((HDRReservoir.HDRSnapshot)compactReservoir.getSnapshot()).totalSnapshot().size());
+
+      HDRReservoir.HDRSnapshot emptySnapshot = (HDRReservoir.HDRSnapshot)compactReservoir.getSnapshot();
+      emptySnapshot.getHistogram().recordValue(1L); //Empty intervals are not shared...
+      assertEquals(0, new CompactHDRReservoir(2, HDRReservoir.REPORT_SNAPSHOT_HISTOGRAM).getSnapshot().size());
+      emptySnapshot.recycle();
+
+      MetricRegistry registry = new MetricRegistry();
+      CompactHDRReservoir timerReservoir = new CompactHDRReservoir(2, HDRReservoir.REPORT_SNAPSHOT_HISTOGRAM);
+      Timer timer = registry.register("test-timer-0", new Timer(timerReservoir, Clock.defaultClock()));
+      timer.update(5L, TimeUnit.MILLISECONDS);
+      registry.register("test-histo-0", new Histogram(compactReservoir));
+      registry.register("test-counter-0", new Counter());
+      assertEquals(timerReservoir.getEstimatedFootprintInBytes() + compactReservoir.getEstimatedFootprintInBytes(),
+              (long)new ReservoirFootprintGauge(registry).getValue());
+   }
+
+   /**
+    * Verifies that negative values are rejected, as they are by a HDR reservoir.
+    */
+   @Test
+   public void testNegativeValue() throws Exception {
+      HDRReservoir reservoir = new HDRReservoir(2, HDRReservoir.REPORT_SNAPSHOT_HISTOGRAM);
+      CompactHDRReservoir compactReservoir = new CompactHDRReservoir(2, HDRReservoir.REPORT_SNAPSHOT_HISTOGRAM);
+      try {
+         reservoir.update(-1L);
+         fail("Expected ArrayIndexOutOfBoundsException");
+      } catch(ArrayIndexOutOfBoundsException e) {
+         //Expected
+      }
+      try {
+         compactReservoir.update(-1L);
+         fail("Expected ArrayIndexOutOfBoundsException");
+      } catch(ArrayIndexOutOfBoundsException e) {
+         //Expected
+      }
+      compactReservoir.update(1L);
+      assertEquals(1, compactReservoir.size());
+      assertEquals(1, compactReservoir.getSnapshot().size());
+   }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2018 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.attribyte.essem.metrics;
+
+import com.codahale.metrics.Clock;
+import com.codahale.metrics.Snapshot;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * HDR reservoir tests.
+ */
+public class HDRReservoirTest {
+
+   /**
+    * Verifies that named consumers have their own intervals, and that size reads the current consumer.
+    */
+   @Test
+   public void testConsumers() throws Exception {
+      HDRReservoir reservoir = new HDRReservoir(2, HDRReservoir.REPORT_SNAPSHOT_HISTOGRAM);
+      Timer timer = new Timer(reservoir, Clock.defaultClock());
+      reservoir.update(100L);
+      reservoir.update(200L);
+      assertEquals(2, (int)HDRReservoir.readAs("consumer-0", reservoir::size)); //Includes values since start
+      assertEquals(2, HDRReservoir.readAs("consumer-0", timer::getSnapshot).size());
+      assertEquals(0, (int)HDRReservoir.readAs("consumer-0", reservoir::size));
+      assertEquals(2, reservoir.size()); //Default consumer, unchanged
+
+      reservoir.update(300L);
+      assertEquals(1, (int)HDRReservoir.readAs("consumer-0", reservoir::size));
+      assertEquals(3, reservoir.size());
+      assertEquals(3, reservoir.getSnapshot().size());
+      assertEquals(0, reservoir.size());
+
+      timer.removeConsumer("consumer-0");
+      assertEquals(3, (int)HDRReservoir.readAs("consumer-0", reservoir::size));
+      timer.removeConsumer(HDRReservoir.DEFAULT_CONSUMER); //Never removed
+      assertEquals(0, reservoir.size());
+   }
+
+   /**
+    * Verifies that the default consumer's interval is kept only once the default consumer reads a snapshot.
+    */
+   @Test
+   public void testLazyDefaultConsumer() throws Exception {
+      HDRReservoir namedReservoir = new HDRReservoir(2, HDRReservoir.REPORT_SNAPSHOT_HISTOGRAM);
+      HDRReservoir defaultReservoir = new HDRReservoir(2, HDRReservoir.REPORT_SNAPSHOT_HISTOGRAM);
+      for(long value = 1L; value < 1000000000L; value *= 2L) {
+         namedReservoir.update(value);
+         defaultReservoir.update(value);
+      }
+      assertEquals(30, HDRReservoir.readAs("consumer-0", namedReservoir::getSnapshot).size());
+      assertEquals(0, HDRReservoir.readAs("consumer-0", namedReservoir::getSnapshot).size());
+      assertEquals(30, HDRReservoir.readAs("consumer-0", defaultReservoir::getSnapshot).size());
+      assertEquals(30, defaultReservoir.getSnapshot().size()); //First interval includes values since start
+      assertTrue(namedReservoir.getEstimatedFootprintInBytes() < defaultReservoir.getEstimatedFootprintInBytes());
+      assertEquals(30, namedReservoir.size());
+   }
+
+   /**
+    * Verifies that snapshot histograms are not shared, and that a reported total is read with the snapshot.
+    */
+   @Test
+   public void testSnapshotIsolation() throws Exception {
+      HDRReservoir reservoir = new HDRReservoir(2, HDRReservoir.REPORT_SNAPSHOT_HISTOGRAM);
+      HDRReservoir.HDRSnapshot emptySnapshot = (HDRReservoir.HDRSnapshot)reservoir.getSnapshot();
+      assertEquals(0, emptySnapshot.size());
+      emptySnapshot.getHistogram().recordValue(1L);
+      assertEquals(0, reservoir.getSnapshot().size());
+      reservoir.update(2L);
+      assertEquals(2L, reservoir.getSnapshot().getMax());
+
+      HDRReservoir totalReservoir = new HDRReservoir(2, HDRReservoir.REPORT_TOTAL_HISTOGRAM);
+      totalReservoir.update(10L);
+      HDRReservoir.HDRSnapshot totalSnapshot = (HDRReservoir.HDRSnapshot)totalReservoir.getSnapshot();
+      totalReservoir.update(20L);
+      assertEquals(1, totalSnapshot.size()); //Point-in-time
+      assertEquals(2, totalReservoir.getSnapshot().size());
+
+      CompactHDRReservoir compactReservoir = new CompactHDRReservoir(2, HDRReservoir.REPORT_TOTAL_HISTOGRAM);
+      compactReservoir.update(10L);
+      Snapshot compactSnapshot = compactReservoir.getSnapshot();
+      compactReservoir.update(20L);
+      assertEquals(1, compactSnapshot.size());
+   }
+
+   /**
+    * Verifies that snapshots move interval histograms, copy the total only when it is used,
+    * and copy a reported total into recycled histograms.
+    */
+   @Test
+   public void testSnapshotRecycling() throws Exception {
+      HDRReservoir reservoir = new HDRReservoir(3, HDRReservoir.REPORT_SNAPSHOT_HISTOGRAM);
+      for(long value = 1L; value < 1000000000L; value *= 2L) {
+         reservoir.update(value);
+      }
+      HDRReservoir.HDRSnapshot snapshot = (HDRReservoir.HDRSnapshot)reservoir.getSnapshot();
+      assertEquals(30, snapshot.size());
+      snapshot.recycle();
+      snapshot.recycle(); //Idempotent
+
+      reservoir.update(5L);
+      snapshot = (HDRReservoir.HDRSnapshot)reservoir.getSnapshot();
+      reservoir.update(6L);
+      assertEquals(1, snapshot.size());
+      assertEquals(32, snapshot.totalSnapshot().size()); //Total when first used
+      snapshot.recycle();
+      assertEquals(1, reservoir.getSnapshot().size());
+
+      long copyBytes = allocatedBytes(() -> reservoir.peek().getHistogram());
+      long snapshotBytes = allocatedBytes(() -> {
+         for(int i = 0; i < 100; i++) {
+            reservoir.update(i);
+            HDRReservoir.HDRSnapshot next = (HDRReservoir.HDRSnapshot)reservoir.getSnapshot();
+            next.getMax();
+            next.recycle();
+         }
+      }) / 100;
+      assertTrue(snapshotBytes * 10 < copyBytes);
+
+      HDRReservoir totalReservoir = new HDRReservoir(3, HDRReservoir.REPORT_TOTAL_HISTOGRAM);
+      for(long value = 1L; value < 1000000000L; value *= 2L) {
+         totalReservoir.update(value);
+      }
+      HDRReservoir.HDRSnapshot totalSnapshot = (HDRReservoir.HDRSnapshot)totalReservoir.getSnapshot();
+      totalReservoir.update(5L);
+      assertEquals(30, totalSnapshot.size()); //Point-in-time
+      totalSnapshot.recycle();
+      totalSnapshot = (HDRReservoir.HDRSnapshot)totalReservoir.getSnapshot();
+      assertEquals(31, totalSnapshot.size());
+      totalSnapshot.recycle();
+
+      long totalSnapshotBytes = allocatedBytes(() -> {
+         for(int i = 0; i < 100; i++) {
+            totalReservoir.update(i);
+            HDRReservoir.HDRSnapshot next = (HDRReservoir.HDRSnapshot)totalReservoir.getSnapshot();
+            next.getMax();
+            next.recycle();
+         }
+      }) / 100;
+      assertTrue(totalSnapshotBytes * 10 < copyBytes);
+   }
+
+   /**
+    * Verifies that the total histogram is reset every epoch and the previous epoch is kept.
+    */
+   @Test
+   public void testTotalEpoch() throws Exception {
+      final AtomicLong tick = new AtomicLong();
+      Clock clock = new Clock() {
+         @Override
+         public long getTick() {
+            return tick.get();
+         }
+      };
+
+      HDRReservoir reservoir = new HDRReservoir(2, HDRReservoir.REPORT_TOTAL_HISTOGRAM, 6L, TimeUnit.HOURS, clock);
+      reservoir.update(10000L);
+      reservoir.update(100L);
+      assertEquals(2, reservoir.getSnapshot().size());
+      assertEquals(0, reservoir.previousEpochSnapshot().size());
+
+      tick.addAndGet(TimeUnit.HOURS.toNanos(7L));
+      reservoir.update(200L);
+      assertEquals(0, reservoir.getSnapshot().size()); //Values recorded before the first read are in the ending epoch
+      assertEquals(3, reservoir.previousEpochSnapshot().size());
+      assertEquals(10000L, reservoir.previousEpochSnapshot().getMax(), 100.0);
+      reservoir.previousEpochSnapshot().getHistogram().reset(); //A copy...
+      assertEquals(3, reservoir.previousEpochSnapshot().size());
+
+      reservoir.update(300L);
+      assertEquals(1, reservoir.getSnapshot().size());
+      tick.addAndGet(TimeUnit.HOURS.toNanos(5L));
+      assertEquals(0, reservoir.getSnapshot().size());
+      assertEquals(300L, reservoir.previousEpochSnapshot().getMax(), 3.0);
+   }
+
+   /**
+    * Measures the bytes allocated by the current thread while running a task.
+    * @param task The task.
+    * @return The number of bytes allocated.
+    */
+   static long allocatedBytes(final Runnable task) {
+      com.sun.management.ThreadMXBean threadBean =
+              (com.sun.management.ThreadMXBean)java.lang.management.ManagementFactory.getThreadMXBean();
+      long threadId = Thread.currentThread().getId();
+      long start = threadBean.getThreadAllocatedBytes(threadId);
+      task.run();
+      return threadBean.getThreadAllocatedBytes(threadId) - start;
+   }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2018 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.attribyte.essem.metrics;
+
+import com.google.common.collect.Lists;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Striped HDR reservoir tests.
+ */
+public class StripedHDRReservoirTest {
+
+   /**
+    * Verifies that a striped reservoir merges all stripes.
+    */
+   @Test
+   public void testStripedReservoir() throws Exception {
+      StripedHDRReservoir reservoir = new StripedHDRReservoir(2, HDRReservoir.REPORT_SNAPSHOT_HISTOGRAM, 4);
+      assertEquals(8 * 10000, updateConcurrently(reservoir, 8, 10000L));
+      assertEquals(8 * 10000, reservoir.size());
+      assertEquals(8 * 10000, reservoir.getSnapshot().size());
+      assertEquals(0, reservoir.getSnapshot().size());
+
+      StripedHDRReservoir totalReservoir = new StripedHDRReservoir(2, HDRReservoir.REPORT_TOTAL_HISTOGRAM);
+      updateConcurrently(totalReservoir, 8, 10000L);
+      assertEquals(8 * 10000, totalReservoir.getSnapshot().size());
+      assertEquals(8 * 10000, totalReservoir.getSnapshot().size());
+      assertEquals(0xFFFL, totalReservoir.getSnapshot().getMax(), 0xFFFL / 100L);
+   }
+
+   /**
+    * Updates a reservoir from several threads, started together.
+    * @param reservoir The reservoir.
+    * @param threads The number of threads.
+    * @param updatesPerThread The number of updates made by each thread.
+    * @return The total number of updates.
+    */
+   private static long updateConcurrently(final HDRReservoir reservoir, final int threads,
+                                          final long updatesPerThread) throws Exception {
+      final CountDownLatch start = new CountDownLatch(1);
+      List<Thread> updaters = Lists.newArrayList();
+      for(int i = 0; i < threads; i++) {
+         Thread updater = new Thread(() -> {
+            try {
+               start.await();
+               for(long j = 0; j < updatesPerThread; j++) {
+                  reservoir.update(j & 0xFFFL);
+               }
+            } catch(InterruptedException ie) {
+               Thread.currentThread().interrupt();
+            }
+         });
+         updater.start();
+         updaters.add(updater);
+      }
+      start.countDown();
+      for(Thread updater : updaters) {
+         updater.join();
+      }
+      return threads * updatesPerThread;
+   }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2018 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.attribyte.essem.metrics;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Timer tests.
+ */
+public class TimerTest {
+
+   /**
+    * Verifies that timing with start/stop and a stopwatch records without allocation.
+    */
+   @Test
+   public void testAllocationFreeTiming() throws Exception {
+      Timer timer = new Timer();
+      Timer.Stopwatch stopwatch = timer.stopwatch();
+      assertSame(stopwatch, timer.stopwatch());
+      for(int i = 0; i < 10000; i++) { //Warm-up
+         timer.stopNanos(timer.startNanos());
+         timer.stopwatch().start().stop();
+      }
+
+      long startStopBytes = HDRReservoirTest.allocatedBytes(() -> {
+         for(int i = 0; i < 100000; i++) {
+            timer.stopNanos(timer.startNanos());
+         }
+      });
+      long stopwatchBytes = HDRReservoirTest.allocatedBytes(() -> {
+         for(int i = 0; i < 100000; i++) {
+            try(Timer.Stopwatch timing = timer.stopwatch().start()) {
+               assertNotNull(timing);
+            }
+         }
+      });
+      assertEquals(0L, startStopBytes / 100000L); //Bytes per operation
+      assertEquals(0L, stopwatchBytes / 100000L);
+      assertEquals(220000L, timer.getCount());
+      assertEquals(220000, timer.getSnapshot().size());
+   }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2018 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.attribyte.essem.metrics;
+
+import com.codahale.metrics.Clock;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Windowed HDR reservoir tests.
+ */
+public class WindowedHDRReservoirTest {
+
+   /**
+    * Verifies that a windowed reservoir reports values from the current and previous slots.
+    */
+   @Test
+   public void testWindowedReservoir() throws Exception {
+      final AtomicLong tick = new AtomicLong();
+      Clock clock = new Clock() {
+         @Override
+         public long getTick() {
+            return tick.get();
+         }
+      };
+
+      WindowedHDRReservoir reservoir = WindowedHDRReservoir.fifteenMinutes(2, clock);
+      Timer timer = new Timer(reservoir, clock);
+      timer.update(100L, TimeUnit.NANOSECONDS);
+      tick.addAndGet(TimeUnit.MINUTES.toNanos(2L));
+      timer.update(200L, TimeUnit.NANOSECONDS);
+      tick.addAndGet(TimeUnit.MINUTES.toNanos(4L));
+      timer.update(250L, TimeUnit.NANOSECONDS);
+
+      assertEquals(1, timer.getSnapshot().size());
+      assertEquals(1, timer.getSnapshot().size()); //Reads do not start a new interval
+      HDRReservoir.HDRSnapshot snapshot = reservoir.getSnapshot(5L, TimeUnit.MINUTES);
+      assertEquals(2, snapshot.size());
+      assertEquals(200L, snapshot.getMin());
+      snapshot.recycle();
+      assertEquals(3, reservoir.getSnapshot(15L, TimeUnit.MINUTES).size());
+      assertEquals(3, reservoir.getSnapshot(1L, TimeUnit.HOURS).size());
+
+      tick.addAndGet(TimeUnit.MINUTES.toNanos(11L));
+      assertEquals(1, reservoir.getSnapshot(15L, TimeUnit.MINUTES).size());
+      tick.addAndGet(TimeUnit.HOURS.toNanos(1L));
+      assertEquals(0, reservoir.getSnapshot(15L, TimeUnit.MINUTES).size());
+
+      long rotationBytes = HDRReservoirTest.allocatedBytes(() -> {
+         for(int i = 0; i < 100; i++) {
+            tick.addAndGet(TimeUnit.MINUTES.toNanos(1L));
+            reservoir.update(i);
+         }
+      });
+      assertTrue(rotationBytes < 1000L);
+   }
+}
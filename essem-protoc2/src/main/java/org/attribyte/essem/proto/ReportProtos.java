@@ -266,6 +266,57 @@ public final class ReportProtos {
      */
     org.attribyte.essem.proto.ReportProtos.EssemReport.AlertOrBuilder getAlertOrBuilder(
         int index);
+
+    /**
+     * <code>repeated .org.attribyte.essem.proto.EssemReport.NameDefinition nameDefinition = 16;</code>
+     */
+    java.util.List<org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition> 
+        getNameDefinitionList();
+    /**
+     * <code>repeated .org.attribyte.essem.proto.EssemReport.NameDefinition nameDefinition = 16;</code>
+     */
+    org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition getNameDefinition(int index);
+    /**
+     * <code>repeated .org.attribyte.essem.proto.EssemReport.NameDefinition nameDefinition = 16;</code>
+     */
+    int getNameDefinitionCount();
+    /**
+     * <code>repeated .org.attribyte.essem.proto.EssemReport.NameDefinition nameDefinition = 16;</code>
+     */
+    java.util.List<? extends org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinitionOrBuilder> 
+        getNameDefinitionOrBuilderList();
+    /**
+     * <code>repeated .org.attribyte.essem.proto.EssemReport.NameDefinition nameDefinition = 16;</code>
+     */
+    org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinitionOrBuilder getNameDefinitionOrBuilder(
+        int index);
+
+    /**
+     * <code>optional uint64 nameDictionaryId = 17;</code>
+     */
+    boolean hasNameDictionaryId();
+    /**
+     * <code>optional uint64 nameDictionaryId = 17;</code>
+     */
+    long getNameDictionaryId();
+
+    /**
+     * <code>optional .org.attribyte.essem.proto.EssemReport.HdrEncoding hdrEncoding = 18;</code>
+     */
+    boolean hasHdrEncoding();
+    /**
+     * <code>optional .org.attribyte.essem.proto.EssemReport.HdrEncoding hdrEncoding = 18;</code>
+     */
+    org.attribyte.essem.proto.ReportProtos.EssemReport.HdrEncoding getHdrEncoding();
+
+    /**
+     * <code>optional bool lean = 19;</code>
+     */
+    boolean hasLean();
+    /**
+     * <code>optional bool lean = 19;</code>
+     */
+    boolean getLean();
   }
   /**
    * Protobuf type {@code org.attribyte.essem.proto.EssemReport}
@@ -430,6 +481,35 @@ public final class ReportProtos {
               alert_.add(input.readMessage(org.attribyte.essem.proto.ReportProtos.EssemReport.Alert.PARSER, extensionRegistry));
               break;
             }
+            case 130: {
+              if (!((mutable_bitField0_ & 0x00008000) == 0x00008000)) {
+                nameDefinition_ = new java.util.ArrayList<org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition>();
+                mutable_bitField0_ |= 0x00008000;
+              }
+              nameDefinition_.add(input.readMessage(org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition.PARSER, extensionRegistry));
+              break;
+            }
+            case 136: {
+              bitField0_ |= 0x00000200;
+              nameDictionaryId_ = input.readUInt64();
+              break;
+            }
+            case 144: {
+              int rawValue = input.readEnum();
+              org.attribyte.essem.proto.ReportProtos.EssemReport.HdrEncoding value = org.attribyte.essem.proto.ReportProtos.EssemReport.HdrEncoding.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(18, rawValue);
+              } else {
+                bitField0_ |= 0x00000400;
+                hdrEncoding_ = value;
+              }
+              break;
+            }
+            case 152: {
+              bitField0_ |= 0x00000800;
+              lean_ = input.readBool();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -456,6 +536,9 @@ public final class ReportProtos {
         if (((mutable_bitField0_ & 0x00004000) == 0x00004000)) {
           alert_ = java.util.Collections.unmodifiableList(alert_);
         }
+        if (((mutable_bitField0_ & 0x00008000) == 0x00008000)) {
+          nameDefinition_ = java.util.Collections.unmodifiableList(nameDefinition_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
@@ -623,6 +706,88 @@ public final class ReportProtos {
       // @@protoc_insertion_point(enum_scope:org.attribyte.essem.proto.EssemReport.TimeUnit)
     }
 
+    /**
+     * Protobuf enum {@code org.attribyte.essem.proto.EssemReport.HdrEncoding}
+     */
+    public enum HdrEncoding
+        implements com.google.protobuf.ProtocolMessageEnum {
+      /**
+       * <code>COMPRESSED = 0;</code>
+       */
+      COMPRESSED(0, 0),
+      /**
+       * <code>RAW = 1;</code>
+       */
+      RAW(1, 1),
+      ;
+
+      /**
+       * <code>COMPRESSED = 0;</code>
+       */
+      public static final int COMPRESSED_VALUE = 0;
+      /**
+       * <code>RAW = 1;</code>
+       */
+      public static final int RAW_VALUE = 1;
+
+
+      public final int getNumber() { return value; }
+
+      public static HdrEncoding valueOf(int value) {
+        switch (value) {
+          case 0: return COMPRESSED;
+          case 1: return RAW;
+          default: return null;
+        }
+      }
+
+      public static com.google.protobuf.Internal.EnumLiteMap<HdrEncoding>
+          internalGetValueMap() {
+        return internalValueMap;
+      }
+      private static com.google.protobuf.Internal.EnumLiteMap<HdrEncoding>
+          internalValueMap =
+            new com.google.protobuf.Internal.EnumLiteMap<HdrEncoding>() {
+              public HdrEncoding findValueByNumber(int number) {
+                return HdrEncoding.valueOf(number);
+              }
+            };
+
+      public final com.google.protobuf.Descriptors.EnumValueDescriptor
+          getValueDescriptor() {
+        return getDescriptor().getValues().get(index);
+      }
+      public final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptorForType() {
+        return getDescriptor();
+      }
+      public static final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptor() {
+        return org.attribyte.essem.proto.ReportProtos.EssemReport.getDescriptor().getEnumTypes().get(1);
+      }
+
+      private static final HdrEncoding[] VALUES = values();
+
+      public static HdrEncoding valueOf(
+          com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+        if (desc.getType() != getDescriptor()) {
+          throw new java.lang.IllegalArgumentException(
+            "EnumValueDescriptor is not for this type.");
+        }
+        return VALUES[desc.getIndex()];
+      }
+
+      private final int index;
+      private final int value;
+
+      private HdrEncoding(int index, int value) {
+        this.index = index;
+        this.value = value;
+      }
+
+      // @@protoc_insertion_point(enum_scope:org.attribyte.essem.proto.EssemReport.HdrEncoding)
+    }
+
     public interface GaugeOrBuilder extends
         // @@protoc_insertion_point(interface_extends:org.attribyte.essem.proto.EssemReport.Gauge)
         com.google.protobuf.MessageOrBuilder {
@@ -663,6 +828,15 @@ public final class ReportProtos {
        */
       com.google.protobuf.ByteString
           getCommentBytes();
+
+      /**
+       * <code>optional uint32 nameId = 4;</code>
+       */
+      boolean hasNameId();
+      /**
+       * <code>optional uint32 nameId = 4;</code>
+       */
+      int getNameId();
     }
     /**
      * Protobuf type {@code org.attribyte.essem.proto.EssemReport.Gauge}
@@ -733,6 +907,11 @@ public final class ReportProtos {
                 comment_ = bs;
                 break;
               }
+              case 32: {
+                bitField0_ |= 0x00000008;
+                nameId_ = input.readUInt32();
+                break;
+              }
             }
           }
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -872,10 +1051,26 @@ public final class ReportProtos {
         }
       }
 
+      public static final int NAMEID_FIELD_NUMBER = 4;
+      private int nameId_;
+      /**
+       * <code>optional uint32 nameId = 4;</code>
+       */
+      public boolean hasNameId() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional uint32 nameId = 4;</code>
+       */
+      public int getNameId() {
+        return nameId_;
+      }
+
       private void initFields() {
         name_ = "";
         value_ = 0D;
         comment_ = "";
+        nameId_ = 0;
       }
       private byte memoizedIsInitialized = -1;
       public final boolean isInitialized() {
@@ -899,6 +1094,9 @@ public final class ReportProtos {
         if (((bitField0_ & 0x00000004) == 0x00000004)) {
           output.writeBytes(3, getCommentBytes());
         }
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          output.writeUInt32(4, nameId_);
+        }
         getUnknownFields().writeTo(output);
       }
 
@@ -920,6 +1118,10 @@ public final class ReportProtos {
           size += com.google.protobuf.CodedOutputStream
             .computeBytesSize(3, getCommentBytes());
         }
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeUInt32Size(4, nameId_);
+        }
         size += getUnknownFields().getSerializedSize();
         memoizedSerializedSize = size;
         return size;
@@ -1043,6 +1245,8 @@ public final class ReportProtos {
           bitField0_ = (bitField0_ & ~0x00000002);
           comment_ = "";
           bitField0_ = (bitField0_ & ~0x00000004);
+          nameId_ = 0;
+          bitField0_ = (bitField0_ & ~0x00000008);
           return this;
         }
 
@@ -1083,6 +1287,10 @@ public final class ReportProtos {
             to_bitField0_ |= 0x00000004;
           }
           result.comment_ = comment_;
+          if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+            to_bitField0_ |= 0x00000008;
+          }
+          result.nameId_ = nameId_;
           result.bitField0_ = to_bitField0_;
           onBuilt();
           return result;
@@ -1112,6 +1320,9 @@ public final class ReportProtos {
             comment_ = other.comment_;
             onChanged();
           }
+          if (other.hasNameId()) {
+            setNameId(other.getNameId());
+          }
           this.mergeUnknownFields(other.getUnknownFields());
           return this;
         }
@@ -1323,6 +1534,38 @@ public final class ReportProtos {
           return this;
         }
 
+        private int nameId_ ;
+        /**
+         * <code>optional uint32 nameId = 4;</code>
+         */
+        public boolean hasNameId() {
+          return ((bitField0_ & 0x00000008) == 0x00000008);
+        }
+        /**
+         * <code>optional uint32 nameId = 4;</code>
+         */
+        public int getNameId() {
+          return nameId_;
+        }
+        /**
+         * <code>optional uint32 nameId = 4;</code>
+         */
+        public Builder setNameId(int value) {
+          bitField0_ |= 0x00000008;
+          nameId_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional uint32 nameId = 4;</code>
+         */
+        public Builder clearNameId() {
+          bitField0_ = (bitField0_ & ~0x00000008);
+          nameId_ = 0;
+          onChanged();
+          return this;
+        }
+
         // @@protoc_insertion_point(builder_scope:org.attribyte.essem.proto.EssemReport.Gauge)
       }
 
@@ -1360,6 +1603,15 @@ public final class ReportProtos {
        * <code>optional uint64 count = 2;</code>
        */
       long getCount();
+
+      /**
+       * <code>optional uint32 nameId = 3;</code>
+       */
+      boolean hasNameId();
+      /**
+       * <code>optional uint32 nameId = 3;</code>
+       */
+      int getNameId();
     }
     /**
      * Protobuf type {@code org.attribyte.essem.proto.EssemReport.Counter}
@@ -1424,6 +1676,11 @@ public final class ReportProtos {
                 count_ = input.readUInt64();
                 break;
               }
+              case 24: {
+                bitField0_ |= 0x00000004;
+                nameId_ = input.readUInt32();
+                break;
+              }
             }
           }
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -1521,9 +1778,25 @@ public final class ReportProtos {
         return count_;
       }
 
+      public static final int NAMEID_FIELD_NUMBER = 3;
+      private int nameId_;
+      /**
+       * <code>optional uint32 nameId = 3;</code>
+       */
+      public boolean hasNameId() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional uint32 nameId = 3;</code>
+       */
+      public int getNameId() {
+        return nameId_;
+      }
+
       private void initFields() {
         name_ = "";
         count_ = 0L;
+        nameId_ = 0;
       }
       private byte memoizedIsInitialized = -1;
       public final boolean isInitialized() {
@@ -1544,6 +1817,9 @@ public final class ReportProtos {
         if (((bitField0_ & 0x00000002) == 0x00000002)) {
           output.writeUInt64(2, count_);
         }
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          output.writeUInt32(3, nameId_);
+        }
         getUnknownFields().writeTo(output);
       }
 
@@ -1561,6 +1837,10 @@ public final class ReportProtos {
           size += com.google.protobuf.CodedOutputStream
             .computeUInt64Size(2, count_);
         }
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeUInt32Size(3, nameId_);
+        }
         size += getUnknownFields().getSerializedSize();
         memoizedSerializedSize = size;
         return size;
@@ -1682,6 +1962,8 @@ public final class ReportProtos {
           bitField0_ = (bitField0_ & ~0x00000001);
           count_ = 0L;
           bitField0_ = (bitField0_ & ~0x00000002);
+          nameId_ = 0;
+          bitField0_ = (bitField0_ & ~0x00000004);
           return this;
         }
 
@@ -1718,6 +2000,10 @@ public final class ReportProtos {
             to_bitField0_ |= 0x00000002;
           }
           result.count_ = count_;
+          if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+            to_bitField0_ |= 0x00000004;
+          }
+          result.nameId_ = nameId_;
           result.bitField0_ = to_bitField0_;
           onBuilt();
           return result;
@@ -1742,6 +2028,9 @@ public final class ReportProtos {
           if (other.hasCount()) {
             setCount(other.getCount());
           }
+          if (other.hasNameId()) {
+            setNameId(other.getNameId());
+          }
           this.mergeUnknownFields(other.getUnknownFields());
           return this;
         }
@@ -1877,6 +2166,38 @@ public final class ReportProtos {
           return this;
         }
 
+        private int nameId_ ;
+        /**
+         * <code>optional uint32 nameId = 3;</code>
+         */
+        public boolean hasNameId() {
+          return ((bitField0_ & 0x00000004) == 0x00000004);
+        }
+        /**
+         * <code>optional uint32 nameId = 3;</code>
+         */
+        public int getNameId() {
+          return nameId_;
+        }
+        /**
+         * <code>optional uint32 nameId = 3;</code>
+         */
+        public Builder setNameId(int value) {
+          bitField0_ |= 0x00000004;
+          nameId_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional uint32 nameId = 3;</code>
+         */
+        public Builder clearNameId() {
+          bitField0_ = (bitField0_ & ~0x00000004);
+          nameId_ = 0;
+          onChanged();
+          return this;
+        }
+
         // @@protoc_insertion_point(builder_scope:org.attribyte.essem.proto.EssemReport.Counter)
       }
 
@@ -1950,6 +2271,15 @@ public final class ReportProtos {
        * <code>optional uint64 count = 6;</code>
        */
       long getCount();
+
+      /**
+       * <code>optional uint32 nameId = 7;</code>
+       */
+      boolean hasNameId();
+      /**
+       * <code>optional uint32 nameId = 7;</code>
+       */
+      int getNameId();
     }
     /**
      * Protobuf type {@code org.attribyte.essem.proto.EssemReport.Meter}
@@ -2034,6 +2364,11 @@ public final class ReportProtos {
                 count_ = input.readUInt64();
                 break;
               }
+              case 56: {
+                bitField0_ |= 0x00000040;
+                nameId_ = input.readUInt32();
+                break;
+              }
             }
           }
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -2191,6 +2526,21 @@ public final class ReportProtos {
         return count_;
       }
 
+      public static final int NAMEID_FIELD_NUMBER = 7;
+      private int nameId_;
+      /**
+       * <code>optional uint32 nameId = 7;</code>
+       */
+      public boolean hasNameId() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>optional uint32 nameId = 7;</code>
+       */
+      public int getNameId() {
+        return nameId_;
+      }
+
       private void initFields() {
         name_ = "";
         oneMinuteRate_ = 0D;
@@ -2198,6 +2548,7 @@ public final class ReportProtos {
         fifteenMinuteRate_ = 0D;
         meanRate_ = 0D;
         count_ = 0L;
+        nameId_ = 0;
       }
       private byte memoizedIsInitialized = -1;
       public final boolean isInitialized() {
@@ -2230,6 +2581,9 @@ public final class ReportProtos {
         if (((bitField0_ & 0x00000020) == 0x00000020)) {
           output.writeUInt64(6, count_);
         }
+        if (((bitField0_ & 0x00000040) == 0x00000040)) {
+          output.writeUInt32(7, nameId_);
+        }
         getUnknownFields().writeTo(output);
       }
 
@@ -2263,6 +2617,10 @@ public final class ReportProtos {
           size += com.google.protobuf.CodedOutputStream
             .computeUInt64Size(6, count_);
         }
+        if (((bitField0_ & 0x00000040) == 0x00000040)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeUInt32Size(7, nameId_);
+        }
         size += getUnknownFields().getSerializedSize();
         memoizedSerializedSize = size;
         return size;
@@ -2392,6 +2750,8 @@ public final class ReportProtos {
           bitField0_ = (bitField0_ & ~0x00000010);
           count_ = 0L;
           bitField0_ = (bitField0_ & ~0x00000020);
+          nameId_ = 0;
+          bitField0_ = (bitField0_ & ~0x00000040);
           return this;
         }
 
@@ -2444,6 +2804,10 @@ public final class ReportProtos {
             to_bitField0_ |= 0x00000020;
           }
           result.count_ = count_;
+          if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+            to_bitField0_ |= 0x00000040;
+          }
+          result.nameId_ = nameId_;
           result.bitField0_ = to_bitField0_;
           onBuilt();
           return result;
@@ -2480,6 +2844,9 @@ public final class ReportProtos {
           if (other.hasCount()) {
             setCount(other.getCount());
           }
+          if (other.hasNameId()) {
+            setNameId(other.getNameId());
+          }
           this.mergeUnknownFields(other.getUnknownFields());
           return this;
         }
@@ -2743,6 +3110,38 @@ public final class ReportProtos {
           return this;
         }
 
+        private int nameId_ ;
+        /**
+         * <code>optional uint32 nameId = 7;</code>
+         */
+        public boolean hasNameId() {
+          return ((bitField0_ & 0x00000040) == 0x00000040);
+        }
+        /**
+         * <code>optional uint32 nameId = 7;</code>
+         */
+        public int getNameId() {
+          return nameId_;
+        }
+        /**
+         * <code>optional uint32 nameId = 7;</code>
+         */
+        public Builder setNameId(int value) {
+          bitField0_ |= 0x00000040;
+          nameId_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional uint32 nameId = 7;</code>
+         */
+        public Builder clearNameId() {
+          bitField0_ = (bitField0_ & ~0x00000040);
+          nameId_ = 0;
+          onChanged();
+          return this;
+        }
+
         // @@protoc_insertion_point(builder_scope:org.attribyte.essem.proto.EssemReport.Meter)
       }
 
@@ -2754,152 +3153,48 @@ public final class ReportProtos {
       // @@protoc_insertion_point(class_scope:org.attribyte.essem.proto.EssemReport.Meter)
     }
 
-    public interface HistogramOrBuilder extends
-        // @@protoc_insertion_point(interface_extends:org.attribyte.essem.proto.EssemReport.Histogram)
+    public interface QuantileOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:org.attribyte.essem.proto.EssemReport.Quantile)
         com.google.protobuf.MessageOrBuilder {
 
       /**
-       * <code>optional string name = 1;</code>
-       */
-      boolean hasName();
-      /**
-       * <code>optional string name = 1;</code>
+       * <code>optional double quantile = 1;</code>
        */
-      java.lang.String getName();
+      boolean hasQuantile();
       /**
-       * <code>optional string name = 1;</code>
+       * <code>optional double quantile = 1;</code>
        */
-      com.google.protobuf.ByteString
-          getNameBytes();
+      double getQuantile();
 
       /**
-       * <code>optional uint64 count = 2;</code>
+       * <code>optional double value = 2;</code>
        */
-      boolean hasCount();
+      boolean hasValue();
       /**
-       * <code>optional uint64 count = 2;</code>
+       * <code>optional double value = 2;</code>
        */
-      long getCount();
-
-      /**
-       * <code>optional double max = 3;</code>
-       */
-      boolean hasMax();
-      /**
-       * <code>optional double max = 3;</code>
-       */
-      double getMax();
-
-      /**
-       * <code>optional double mean = 4;</code>
-       */
-      boolean hasMean();
-      /**
-       * <code>optional double mean = 4;</code>
-       */
-      double getMean();
-
-      /**
-       * <code>optional double min = 5;</code>
-       */
-      boolean hasMin();
-      /**
-       * <code>optional double min = 5;</code>
-       */
-      double getMin();
-
-      /**
-       * <code>optional double std = 6;</code>
-       */
-      boolean hasStd();
-      /**
-       * <code>optional double std = 6;</code>
-       */
-      double getStd();
-
-      /**
-       * <code>optional double median = 7;</code>
-       */
-      boolean hasMedian();
-      /**
-       * <code>optional double median = 7;</code>
-       */
-      double getMedian();
-
-      /**
-       * <code>optional double percentile75 = 8;</code>
-       */
-      boolean hasPercentile75();
-      /**
-       * <code>optional double percentile75 = 8;</code>
-       */
-      double getPercentile75();
-
-      /**
-       * <code>optional double percentile95 = 9;</code>
-       */
-      boolean hasPercentile95();
-      /**
-       * <code>optional double percentile95 = 9;</code>
-       */
-      double getPercentile95();
-
-      /**
-       * <code>optional double percentile98 = 10;</code>
-       */
-      boolean hasPercentile98();
-      /**
-       * <code>optional double percentile98 = 10;</code>
-       */
-      double getPercentile98();
-
-      /**
-       * <code>optional double percentile99 = 11;</code>
-       */
-      boolean hasPercentile99();
-      /**
-       * <code>optional double percentile99 = 11;</code>
-       */
-      double getPercentile99();
-
-      /**
-       * <code>optional double percentile999 = 12;</code>
-       */
-      boolean hasPercentile999();
-      /**
-       * <code>optional double percentile999 = 12;</code>
-       */
-      double getPercentile999();
-
-      /**
-       * <code>optional bytes hdrHistogram = 13;</code>
-       */
-      boolean hasHdrHistogram();
-      /**
-       * <code>optional bytes hdrHistogram = 13;</code>
-       */
-      com.google.protobuf.ByteString getHdrHistogram();
+      double getValue();
     }
     /**
-     * Protobuf type {@code org.attribyte.essem.proto.EssemReport.Histogram}
+     * Protobuf type {@code org.attribyte.essem.proto.EssemReport.Quantile}
      */
-    public static final class Histogram extends
+    public static final class Quantile extends
         com.google.protobuf.GeneratedMessage implements
-        // @@protoc_insertion_point(message_implements:org.attribyte.essem.proto.EssemReport.Histogram)
-        HistogramOrBuilder {
-      // Use Histogram.newBuilder() to construct.
-      private Histogram(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+        // @@protoc_insertion_point(message_implements:org.attribyte.essem.proto.EssemReport.Quantile)
+        QuantileOrBuilder {
+      // Use Quantile.newBuilder() to construct.
+      private Quantile(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
         super(builder);
         this.unknownFields = builder.getUnknownFields();
       }
-      private Histogram(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+      private Quantile(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-      private static final Histogram defaultInstance;
-      public static Histogram getDefaultInstance() {
+      private static final Quantile defaultInstance;
+      public static Quantile getDefaultInstance() {
         return defaultInstance;
       }
 
-      public Histogram getDefaultInstanceForType() {
+      public Quantile getDefaultInstanceForType() {
         return defaultInstance;
       }
 
@@ -2909,7 +3204,7 @@ public final class ReportProtos {
           getUnknownFields() {
         return this.unknownFields;
       }
-      private Histogram(
+      private Quantile(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
@@ -2932,70 +3227,14 @@ public final class ReportProtos {
                 }
                 break;
               }
-              case 10: {
-                com.google.protobuf.ByteString bs = input.readBytes();
+              case 9: {
                 bitField0_ |= 0x00000001;
-                name_ = bs;
+                quantile_ = input.readDouble();
                 break;
               }
-              case 16: {
+              case 17: {
                 bitField0_ |= 0x00000002;
-                count_ = input.readUInt64();
-                break;
-              }
-              case 25: {
-                bitField0_ |= 0x00000004;
-                max_ = input.readDouble();
-                break;
-              }
-              case 33: {
-                bitField0_ |= 0x00000008;
-                mean_ = input.readDouble();
-                break;
-              }
-              case 41: {
-                bitField0_ |= 0x00000010;
-                min_ = input.readDouble();
-                break;
-              }
-              case 49: {
-                bitField0_ |= 0x00000020;
-                std_ = input.readDouble();
-                break;
-              }
-              case 57: {
-                bitField0_ |= 0x00000040;
-                median_ = input.readDouble();
-                break;
-              }
-              case 65: {
-                bitField0_ |= 0x00000080;
-                percentile75_ = input.readDouble();
-                break;
-              }
-              case 73: {
-                bitField0_ |= 0x00000100;
-                percentile95_ = input.readDouble();
-                break;
-              }
-              case 81: {
-                bitField0_ |= 0x00000200;
-                percentile98_ = input.readDouble();
-                break;
-              }
-              case 89: {
-                bitField0_ |= 0x00000400;
-                percentile99_ = input.readDouble();
-                break;
-              }
-              case 97: {
-                bitField0_ |= 0x00000800;
-                percentile999_ = input.readDouble();
-                break;
-              }
-              case 106: {
-                bitField0_ |= 0x00001000;
-                hdrHistogram_ = input.readBytes();
+                value_ = input.readDouble();
                 break;
               }
             }
@@ -3012,320 +3251,84 @@ public final class ReportProtos {
       }
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.attribyte.essem.proto.ReportProtos.internal_static_org_attribyte_essem_proto_EssemReport_Histogram_descriptor;
+        return org.attribyte.essem.proto.ReportProtos.internal_static_org_attribyte_essem_proto_EssemReport_Quantile_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.attribyte.essem.proto.ReportProtos.internal_static_org_attribyte_essem_proto_EssemReport_Histogram_fieldAccessorTable
+        return org.attribyte.essem.proto.ReportProtos.internal_static_org_attribyte_essem_proto_EssemReport_Quantile_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram.class, org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram.Builder.class);
+                org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile.class, org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile.Builder.class);
       }
 
-      public static com.google.protobuf.Parser<Histogram> PARSER =
-          new com.google.protobuf.AbstractParser<Histogram>() {
-        public Histogram parsePartialFrom(
+      public static com.google.protobuf.Parser<Quantile> PARSER =
+          new com.google.protobuf.AbstractParser<Quantile>() {
+        public Quantile parsePartialFrom(
             com.google.protobuf.CodedInputStream input,
             com.google.protobuf.ExtensionRegistryLite extensionRegistry)
             throws com.google.protobuf.InvalidProtocolBufferException {
-          return new Histogram(input, extensionRegistry);
+          return new Quantile(input, extensionRegistry);
         }
       };
 
       @java.lang.Override
-      public com.google.protobuf.Parser<Histogram> getParserForType() {
+      public com.google.protobuf.Parser<Quantile> getParserForType() {
         return PARSER;
       }
 
       private int bitField0_;
-      public static final int NAME_FIELD_NUMBER = 1;
-      private java.lang.Object name_;
+      public static final int QUANTILE_FIELD_NUMBER = 1;
+      private double quantile_;
       /**
-       * <code>optional string name = 1;</code>
+       * <code>optional double quantile = 1;</code>
        */
-      public boolean hasName() {
+      public boolean hasQuantile() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>optional string name = 1;</code>
-       */
-      public java.lang.String getName() {
-        java.lang.Object ref = name_;
-        if (ref instanceof java.lang.String) {
-          return (java.lang.String) ref;
-        } else {
-          com.google.protobuf.ByteString bs = 
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            name_ = s;
-          }
-          return s;
-        }
-      }
-      /**
-       * <code>optional string name = 1;</code>
+       * <code>optional double quantile = 1;</code>
        */
-      public com.google.protobuf.ByteString
-          getNameBytes() {
-        java.lang.Object ref = name_;
-        if (ref instanceof java.lang.String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          name_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+      public double getQuantile() {
+        return quantile_;
       }
 
-      public static final int COUNT_FIELD_NUMBER = 2;
-      private long count_;
+      public static final int VALUE_FIELD_NUMBER = 2;
+      private double value_;
       /**
-       * <code>optional uint64 count = 2;</code>
+       * <code>optional double value = 2;</code>
        */
-      public boolean hasCount() {
+      public boolean hasValue() {
         return ((bitField0_ & 0x00000002) == 0x00000002);
       }
       /**
-       * <code>optional uint64 count = 2;</code>
+       * <code>optional double value = 2;</code>
        */
-      public long getCount() {
-        return count_;
+      public double getValue() {
+        return value_;
       }
 
-      public static final int MAX_FIELD_NUMBER = 3;
-      private double max_;
-      /**
-       * <code>optional double max = 3;</code>
-       */
-      public boolean hasMax() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
+      private void initFields() {
+        quantile_ = 0D;
+        value_ = 0D;
       }
-      /**
-       * <code>optional double max = 3;</code>
-       */
-      public double getMax() {
-        return max_;
-      }
-
-      public static final int MEAN_FIELD_NUMBER = 4;
-      private double mean_;
-      /**
-       * <code>optional double mean = 4;</code>
-       */
-      public boolean hasMean() {
-        return ((bitField0_ & 0x00000008) == 0x00000008);
-      }
-      /**
-       * <code>optional double mean = 4;</code>
-       */
-      public double getMean() {
-        return mean_;
-      }
-
-      public static final int MIN_FIELD_NUMBER = 5;
-      private double min_;
-      /**
-       * <code>optional double min = 5;</code>
-       */
-      public boolean hasMin() {
-        return ((bitField0_ & 0x00000010) == 0x00000010);
-      }
-      /**
-       * <code>optional double min = 5;</code>
-       */
-      public double getMin() {
-        return min_;
-      }
-
-      public static final int STD_FIELD_NUMBER = 6;
-      private double std_;
-      /**
-       * <code>optional double std = 6;</code>
-       */
-      public boolean hasStd() {
-        return ((bitField0_ & 0x00000020) == 0x00000020);
-      }
-      /**
-       * <code>optional double std = 6;</code>
-       */
-      public double getStd() {
-        return std_;
-      }
-
-      public static final int MEDIAN_FIELD_NUMBER = 7;
-      private double median_;
-      /**
-       * <code>optional double median = 7;</code>
-       */
-      public boolean hasMedian() {
-        return ((bitField0_ & 0x00000040) == 0x00000040);
-      }
-      /**
-       * <code>optional double median = 7;</code>
-       */
-      public double getMedian() {
-        return median_;
-      }
-
-      public static final int PERCENTILE75_FIELD_NUMBER = 8;
-      private double percentile75_;
-      /**
-       * <code>optional double percentile75 = 8;</code>
-       */
-      public boolean hasPercentile75() {
-        return ((bitField0_ & 0x00000080) == 0x00000080);
-      }
-      /**
-       * <code>optional double percentile75 = 8;</code>
-       */
-      public double getPercentile75() {
-        return percentile75_;
-      }
-
-      public static final int PERCENTILE95_FIELD_NUMBER = 9;
-      private double percentile95_;
-      /**
-       * <code>optional double percentile95 = 9;</code>
-       */
-      public boolean hasPercentile95() {
-        return ((bitField0_ & 0x00000100) == 0x00000100);
-      }
-      /**
-       * <code>optional double percentile95 = 9;</code>
-       */
-      public double getPercentile95() {
-        return percentile95_;
-      }
-
-      public static final int PERCENTILE98_FIELD_NUMBER = 10;
-      private double percentile98_;
-      /**
-       * <code>optional double percentile98 = 10;</code>
-       */
-      public boolean hasPercentile98() {
-        return ((bitField0_ & 0x00000200) == 0x00000200);
-      }
-      /**
-       * <code>optional double percentile98 = 10;</code>
-       */
-      public double getPercentile98() {
-        return percentile98_;
-      }
-
-      public static final int PERCENTILE99_FIELD_NUMBER = 11;
-      private double percentile99_;
-      /**
-       * <code>optional double percentile99 = 11;</code>
-       */
-      public boolean hasPercentile99() {
-        return ((bitField0_ & 0x00000400) == 0x00000400);
-      }
-      /**
-       * <code>optional double percentile99 = 11;</code>
-       */
-      public double getPercentile99() {
-        return percentile99_;
-      }
-
-      public static final int PERCENTILE999_FIELD_NUMBER = 12;
-      private double percentile999_;
-      /**
-       * <code>optional double percentile999 = 12;</code>
-       */
-      public boolean hasPercentile999() {
-        return ((bitField0_ & 0x00000800) == 0x00000800);
-      }
-      /**
-       * <code>optional double percentile999 = 12;</code>
-       */
-      public double getPercentile999() {
-        return percentile999_;
-      }
-
-      public static final int HDRHISTOGRAM_FIELD_NUMBER = 13;
-      private com.google.protobuf.ByteString hdrHistogram_;
-      /**
-       * <code>optional bytes hdrHistogram = 13;</code>
-       */
-      public boolean hasHdrHistogram() {
-        return ((bitField0_ & 0x00001000) == 0x00001000);
-      }
-      /**
-       * <code>optional bytes hdrHistogram = 13;</code>
-       */
-      public com.google.protobuf.ByteString getHdrHistogram() {
-        return hdrHistogram_;
-      }
-
-      private void initFields() {
-        name_ = "";
-        count_ = 0L;
-        max_ = 0D;
-        mean_ = 0D;
-        min_ = 0D;
-        std_ = 0D;
-        median_ = 0D;
-        percentile75_ = 0D;
-        percentile95_ = 0D;
-        percentile98_ = 0D;
-        percentile99_ = 0D;
-        percentile999_ = 0D;
-        hdrHistogram_ = com.google.protobuf.ByteString.EMPTY;
-      }
-      private byte memoizedIsInitialized = -1;
-      public final boolean isInitialized() {
-        byte isInitialized = memoizedIsInitialized;
-        if (isInitialized == 1) return true;
-        if (isInitialized == 0) return false;
-
-        memoizedIsInitialized = 1;
-        return true;
+      private byte memoizedIsInitialized = -1;
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
       }
 
       public void writeTo(com.google.protobuf.CodedOutputStream output)
                           throws java.io.IOException {
         getSerializedSize();
         if (((bitField0_ & 0x00000001) == 0x00000001)) {
-          output.writeBytes(1, getNameBytes());
+          output.writeDouble(1, quantile_);
         }
         if (((bitField0_ & 0x00000002) == 0x00000002)) {
-          output.writeUInt64(2, count_);
-        }
-        if (((bitField0_ & 0x00000004) == 0x00000004)) {
-          output.writeDouble(3, max_);
-        }
-        if (((bitField0_ & 0x00000008) == 0x00000008)) {
-          output.writeDouble(4, mean_);
-        }
-        if (((bitField0_ & 0x00000010) == 0x00000010)) {
-          output.writeDouble(5, min_);
-        }
-        if (((bitField0_ & 0x00000020) == 0x00000020)) {
-          output.writeDouble(6, std_);
-        }
-        if (((bitField0_ & 0x00000040) == 0x00000040)) {
-          output.writeDouble(7, median_);
-        }
-        if (((bitField0_ & 0x00000080) == 0x00000080)) {
-          output.writeDouble(8, percentile75_);
-        }
-        if (((bitField0_ & 0x00000100) == 0x00000100)) {
-          output.writeDouble(9, percentile95_);
-        }
-        if (((bitField0_ & 0x00000200) == 0x00000200)) {
-          output.writeDouble(10, percentile98_);
-        }
-        if (((bitField0_ & 0x00000400) == 0x00000400)) {
-          output.writeDouble(11, percentile99_);
-        }
-        if (((bitField0_ & 0x00000800) == 0x00000800)) {
-          output.writeDouble(12, percentile999_);
-        }
-        if (((bitField0_ & 0x00001000) == 0x00001000)) {
-          output.writeBytes(13, hdrHistogram_);
+          output.writeDouble(2, value_);
         }
         getUnknownFields().writeTo(output);
       }
@@ -3338,55 +3341,11 @@ public final class ReportProtos {
         size = 0;
         if (((bitField0_ & 0x00000001) == 0x00000001)) {
           size += com.google.protobuf.CodedOutputStream
-            .computeBytesSize(1, getNameBytes());
+            .computeDoubleSize(1, quantile_);
         }
         if (((bitField0_ & 0x00000002) == 0x00000002)) {
           size += com.google.protobuf.CodedOutputStream
-            .computeUInt64Size(2, count_);
-        }
-        if (((bitField0_ & 0x00000004) == 0x00000004)) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeDoubleSize(3, max_);
-        }
-        if (((bitField0_ & 0x00000008) == 0x00000008)) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeDoubleSize(4, mean_);
-        }
-        if (((bitField0_ & 0x00000010) == 0x00000010)) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeDoubleSize(5, min_);
-        }
-        if (((bitField0_ & 0x00000020) == 0x00000020)) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeDoubleSize(6, std_);
-        }
-        if (((bitField0_ & 0x00000040) == 0x00000040)) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeDoubleSize(7, median_);
-        }
-        if (((bitField0_ & 0x00000080) == 0x00000080)) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeDoubleSize(8, percentile75_);
-        }
-        if (((bitField0_ & 0x00000100) == 0x00000100)) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeDoubleSize(9, percentile95_);
-        }
-        if (((bitField0_ & 0x00000200) == 0x00000200)) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeDoubleSize(10, percentile98_);
-        }
-        if (((bitField0_ & 0x00000400) == 0x00000400)) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeDoubleSize(11, percentile99_);
-        }
-        if (((bitField0_ & 0x00000800) == 0x00000800)) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeDoubleSize(12, percentile999_);
-        }
-        if (((bitField0_ & 0x00001000) == 0x00001000)) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeBytesSize(13, hdrHistogram_);
+            .computeDoubleSize(2, value_);
         }
         size += getUnknownFields().getSerializedSize();
         memoizedSerializedSize = size;
@@ -3400,53 +3359,53 @@ public final class ReportProtos {
         return super.writeReplace();
       }
 
-      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram parseFrom(
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile parseFrom(
           com.google.protobuf.ByteString data)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data);
       }
-      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram parseFrom(
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile parseFrom(
           com.google.protobuf.ByteString data,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data, extensionRegistry);
       }
-      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram parseFrom(byte[] data)
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile parseFrom(byte[] data)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data);
       }
-      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram parseFrom(
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile parseFrom(
           byte[] data,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data, extensionRegistry);
       }
-      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram parseFrom(java.io.InputStream input)
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile parseFrom(java.io.InputStream input)
           throws java.io.IOException {
         return PARSER.parseFrom(input);
       }
-      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram parseFrom(
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile parseFrom(
           java.io.InputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
         return PARSER.parseFrom(input, extensionRegistry);
       }
-      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram parseDelimitedFrom(java.io.InputStream input)
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile parseDelimitedFrom(java.io.InputStream input)
           throws java.io.IOException {
         return PARSER.parseDelimitedFrom(input);
       }
-      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram parseDelimitedFrom(
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile parseDelimitedFrom(
           java.io.InputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
         return PARSER.parseDelimitedFrom(input, extensionRegistry);
       }
-      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram parseFrom(
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile parseFrom(
           com.google.protobuf.CodedInputStream input)
           throws java.io.IOException {
         return PARSER.parseFrom(input);
       }
-      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram parseFrom(
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile parseFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
@@ -3455,7 +3414,7 @@ public final class ReportProtos {
 
       public static Builder newBuilder() { return Builder.create(); }
       public Builder newBuilderForType() { return newBuilder(); }
-      public static Builder newBuilder(org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram prototype) {
+      public static Builder newBuilder(org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile prototype) {
         return newBuilder().mergeFrom(prototype);
       }
       public Builder toBuilder() { return newBuilder(this); }
@@ -3467,25 +3426,25 @@ public final class ReportProtos {
         return builder;
       }
       /**
-       * Protobuf type {@code org.attribyte.essem.proto.EssemReport.Histogram}
+       * Protobuf type {@code org.attribyte.essem.proto.EssemReport.Quantile}
        */
       public static final class Builder extends
           com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-          // @@protoc_insertion_point(builder_implements:org.attribyte.essem.proto.EssemReport.Histogram)
-          org.attribyte.essem.proto.ReportProtos.EssemReport.HistogramOrBuilder {
+          // @@protoc_insertion_point(builder_implements:org.attribyte.essem.proto.EssemReport.Quantile)
+          org.attribyte.essem.proto.ReportProtos.EssemReport.QuantileOrBuilder {
         public static final com.google.protobuf.Descriptors.Descriptor
             getDescriptor() {
-          return org.attribyte.essem.proto.ReportProtos.internal_static_org_attribyte_essem_proto_EssemReport_Histogram_descriptor;
+          return org.attribyte.essem.proto.ReportProtos.internal_static_org_attribyte_essem_proto_EssemReport_Quantile_descriptor;
         }
 
         protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
             internalGetFieldAccessorTable() {
-          return org.attribyte.essem.proto.ReportProtos.internal_static_org_attribyte_essem_proto_EssemReport_Histogram_fieldAccessorTable
+          return org.attribyte.essem.proto.ReportProtos.internal_static_org_attribyte_essem_proto_EssemReport_Quantile_fieldAccessorTable
               .ensureFieldAccessorsInitialized(
-                  org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram.class, org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram.Builder.class);
+                  org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile.class, org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile.Builder.class);
         }
 
-        // Construct using org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram.newBuilder()
+        // Construct using org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile.newBuilder()
         private Builder() {
           maybeForceBuilderInitialization();
         }
@@ -3505,32 +3464,10 @@ public final class ReportProtos {
 
         public Builder clear() {
           super.clear();
-          name_ = "";
+          quantile_ = 0D;
           bitField0_ = (bitField0_ & ~0x00000001);
-          count_ = 0L;
+          value_ = 0D;
           bitField0_ = (bitField0_ & ~0x00000002);
-          max_ = 0D;
-          bitField0_ = (bitField0_ & ~0x00000004);
-          mean_ = 0D;
-          bitField0_ = (bitField0_ & ~0x00000008);
-          min_ = 0D;
-          bitField0_ = (bitField0_ & ~0x00000010);
-          std_ = 0D;
-          bitField0_ = (bitField0_ & ~0x00000020);
-          median_ = 0D;
-          bitField0_ = (bitField0_ & ~0x00000040);
-          percentile75_ = 0D;
-          bitField0_ = (bitField0_ & ~0x00000080);
-          percentile95_ = 0D;
-          bitField0_ = (bitField0_ & ~0x00000100);
-          percentile98_ = 0D;
-          bitField0_ = (bitField0_ & ~0x00000200);
-          percentile99_ = 0D;
-          bitField0_ = (bitField0_ & ~0x00000400);
-          percentile999_ = 0D;
-          bitField0_ = (bitField0_ & ~0x00000800);
-          hdrHistogram_ = com.google.protobuf.ByteString.EMPTY;
-          bitField0_ = (bitField0_ & ~0x00001000);
           return this;
         }
 
@@ -3540,133 +3477,54 @@ public final class ReportProtos {
 
         public com.google.protobuf.Descriptors.Descriptor
             getDescriptorForType() {
-          return org.attribyte.essem.proto.ReportProtos.internal_static_org_attribyte_essem_proto_EssemReport_Histogram_descriptor;
+          return org.attribyte.essem.proto.ReportProtos.internal_static_org_attribyte_essem_proto_EssemReport_Quantile_descriptor;
         }
 
-        public org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram getDefaultInstanceForType() {
-          return org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram.getDefaultInstance();
+        public org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile getDefaultInstanceForType() {
+          return org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile.getDefaultInstance();
         }
 
-        public org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram build() {
-          org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram result = buildPartial();
+        public org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile build() {
+          org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile result = buildPartial();
           if (!result.isInitialized()) {
             throw newUninitializedMessageException(result);
           }
           return result;
         }
 
-        public org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram buildPartial() {
-          org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram result = new org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram(this);
+        public org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile buildPartial() {
+          org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile result = new org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile(this);
           int from_bitField0_ = bitField0_;
           int to_bitField0_ = 0;
           if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
             to_bitField0_ |= 0x00000001;
           }
-          result.name_ = name_;
+          result.quantile_ = quantile_;
           if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
             to_bitField0_ |= 0x00000002;
           }
-          result.count_ = count_;
-          if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
-            to_bitField0_ |= 0x00000004;
-          }
-          result.max_ = max_;
-          if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
-            to_bitField0_ |= 0x00000008;
-          }
-          result.mean_ = mean_;
-          if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
-            to_bitField0_ |= 0x00000010;
-          }
-          result.min_ = min_;
-          if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
-            to_bitField0_ |= 0x00000020;
-          }
-          result.std_ = std_;
-          if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
-            to_bitField0_ |= 0x00000040;
-          }
-          result.median_ = median_;
-          if (((from_bitField0_ & 0x00000080) == 0x00000080)) {
-            to_bitField0_ |= 0x00000080;
-          }
-          result.percentile75_ = percentile75_;
-          if (((from_bitField0_ & 0x00000100) == 0x00000100)) {
-            to_bitField0_ |= 0x00000100;
-          }
-          result.percentile95_ = percentile95_;
-          if (((from_bitField0_ & 0x00000200) == 0x00000200)) {
-            to_bitField0_ |= 0x00000200;
-          }
-          result.percentile98_ = percentile98_;
-          if (((from_bitField0_ & 0x00000400) == 0x00000400)) {
-            to_bitField0_ |= 0x00000400;
-          }
-          result.percentile99_ = percentile99_;
-          if (((from_bitField0_ & 0x00000800) == 0x00000800)) {
-            to_bitField0_ |= 0x00000800;
-          }
-          result.percentile999_ = percentile999_;
-          if (((from_bitField0_ & 0x00001000) == 0x00001000)) {
-            to_bitField0_ |= 0x00001000;
-          }
-          result.hdrHistogram_ = hdrHistogram_;
+          result.value_ = value_;
           result.bitField0_ = to_bitField0_;
           onBuilt();
           return result;
         }
 
         public Builder mergeFrom(com.google.protobuf.Message other) {
-          if (other instanceof org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram) {
-            return mergeFrom((org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram)other);
+          if (other instanceof org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile) {
+            return mergeFrom((org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile)other);
           } else {
             super.mergeFrom(other);
             return this;
           }
         }
 
-        public Builder mergeFrom(org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram other) {
-          if (other == org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram.getDefaultInstance()) return this;
-          if (other.hasName()) {
-            bitField0_ |= 0x00000001;
-            name_ = other.name_;
-            onChanged();
-          }
-          if (other.hasCount()) {
-            setCount(other.getCount());
-          }
-          if (other.hasMax()) {
-            setMax(other.getMax());
-          }
-          if (other.hasMean()) {
-            setMean(other.getMean());
-          }
-          if (other.hasMin()) {
-            setMin(other.getMin());
-          }
-          if (other.hasStd()) {
-            setStd(other.getStd());
-          }
-          if (other.hasMedian()) {
-            setMedian(other.getMedian());
-          }
-          if (other.hasPercentile75()) {
-            setPercentile75(other.getPercentile75());
-          }
-          if (other.hasPercentile95()) {
-            setPercentile95(other.getPercentile95());
-          }
-          if (other.hasPercentile98()) {
-            setPercentile98(other.getPercentile98());
-          }
-          if (other.hasPercentile99()) {
-            setPercentile99(other.getPercentile99());
-          }
-          if (other.hasPercentile999()) {
-            setPercentile999(other.getPercentile999());
+        public Builder mergeFrom(org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile other) {
+          if (other == org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile.getDefaultInstance()) return this;
+          if (other.hasQuantile()) {
+            setQuantile(other.getQuantile());
           }
-          if (other.hasHdrHistogram()) {
-            setHdrHistogram(other.getHdrHistogram());
+          if (other.hasValue()) {
+            setValue(other.getValue());
           }
           this.mergeUnknownFields(other.getUnknownFields());
           return this;
@@ -3680,11 +3538,11 @@ public final class ReportProtos {
             com.google.protobuf.CodedInputStream input,
             com.google.protobuf.ExtensionRegistryLite extensionRegistry)
             throws java.io.IOException {
-          org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram parsedMessage = null;
+          org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile parsedMessage = null;
           try {
             parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
           } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-            parsedMessage = (org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram) e.getUnfinishedMessage();
+            parsedMessage = (org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile) e.getUnfinishedMessage();
             throw e;
           } finally {
             if (parsedMessage != null) {
@@ -3695,662 +3553,260 @@ public final class ReportProtos {
         }
         private int bitField0_;
 
-        private java.lang.Object name_ = "";
+        private double quantile_ ;
         /**
-         * <code>optional string name = 1;</code>
+         * <code>optional double quantile = 1;</code>
          */
-        public boolean hasName() {
+        public boolean hasQuantile() {
           return ((bitField0_ & 0x00000001) == 0x00000001);
         }
         /**
-         * <code>optional string name = 1;</code>
-         */
-        public java.lang.String getName() {
-          java.lang.Object ref = name_;
-          if (!(ref instanceof java.lang.String)) {
-            com.google.protobuf.ByteString bs =
-                (com.google.protobuf.ByteString) ref;
-            java.lang.String s = bs.toStringUtf8();
-            if (bs.isValidUtf8()) {
-              name_ = s;
-            }
-            return s;
-          } else {
-            return (java.lang.String) ref;
-          }
-        }
-        /**
-         * <code>optional string name = 1;</code>
+         * <code>optional double quantile = 1;</code>
          */
-        public com.google.protobuf.ByteString
-            getNameBytes() {
-          java.lang.Object ref = name_;
-          if (ref instanceof String) {
-            com.google.protobuf.ByteString b = 
-                com.google.protobuf.ByteString.copyFromUtf8(
-                    (java.lang.String) ref);
-            name_ = b;
-            return b;
-          } else {
-            return (com.google.protobuf.ByteString) ref;
-          }
+        public double getQuantile() {
+          return quantile_;
         }
         /**
-         * <code>optional string name = 1;</code>
+         * <code>optional double quantile = 1;</code>
          */
-        public Builder setName(
-            java.lang.String value) {
-          if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-          name_ = value;
+        public Builder setQuantile(double value) {
+          bitField0_ |= 0x00000001;
+          quantile_ = value;
           onChanged();
           return this;
         }
         /**
-         * <code>optional string name = 1;</code>
+         * <code>optional double quantile = 1;</code>
          */
-        public Builder clearName() {
+        public Builder clearQuantile() {
           bitField0_ = (bitField0_ & ~0x00000001);
-          name_ = getDefaultInstance().getName();
-          onChanged();
-          return this;
-        }
-        /**
-         * <code>optional string name = 1;</code>
-         */
-        public Builder setNameBytes(
-            com.google.protobuf.ByteString value) {
-          if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-          name_ = value;
+          quantile_ = 0D;
           onChanged();
           return this;
         }
 
-        private long count_ ;
+        private double value_ ;
         /**
-         * <code>optional uint64 count = 2;</code>
+         * <code>optional double value = 2;</code>
          */
-        public boolean hasCount() {
+        public boolean hasValue() {
           return ((bitField0_ & 0x00000002) == 0x00000002);
         }
         /**
-         * <code>optional uint64 count = 2;</code>
+         * <code>optional double value = 2;</code>
          */
-        public long getCount() {
-          return count_;
+        public double getValue() {
+          return value_;
         }
         /**
-         * <code>optional uint64 count = 2;</code>
+         * <code>optional double value = 2;</code>
          */
-        public Builder setCount(long value) {
+        public Builder setValue(double value) {
           bitField0_ |= 0x00000002;
-          count_ = value;
+          value_ = value;
           onChanged();
           return this;
         }
         /**
-         * <code>optional uint64 count = 2;</code>
+         * <code>optional double value = 2;</code>
          */
-        public Builder clearCount() {
+        public Builder clearValue() {
           bitField0_ = (bitField0_ & ~0x00000002);
-          count_ = 0L;
+          value_ = 0D;
           onChanged();
           return this;
         }
 
-        private double max_ ;
-        /**
-         * <code>optional double max = 3;</code>
-         */
-        public boolean hasMax() {
-          return ((bitField0_ & 0x00000004) == 0x00000004);
-        }
-        /**
-         * <code>optional double max = 3;</code>
-         */
-        public double getMax() {
-          return max_;
-        }
-        /**
-         * <code>optional double max = 3;</code>
-         */
-        public Builder setMax(double value) {
-          bitField0_ |= 0x00000004;
-          max_ = value;
-          onChanged();
-          return this;
-        }
-        /**
-         * <code>optional double max = 3;</code>
-         */
-        public Builder clearMax() {
-          bitField0_ = (bitField0_ & ~0x00000004);
-          max_ = 0D;
-          onChanged();
-          return this;
-        }
+        // @@protoc_insertion_point(builder_scope:org.attribyte.essem.proto.EssemReport.Quantile)
+      }
 
-        private double mean_ ;
-        /**
-         * <code>optional double mean = 4;</code>
-         */
-        public boolean hasMean() {
-          return ((bitField0_ & 0x00000008) == 0x00000008);
-        }
-        /**
-         * <code>optional double mean = 4;</code>
-         */
-        public double getMean() {
-          return mean_;
-        }
-        /**
-         * <code>optional double mean = 4;</code>
-         */
-        public Builder setMean(double value) {
-          bitField0_ |= 0x00000008;
-          mean_ = value;
-          onChanged();
-          return this;
-        }
-        /**
-         * <code>optional double mean = 4;</code>
-         */
-        public Builder clearMean() {
-          bitField0_ = (bitField0_ & ~0x00000008);
-          mean_ = 0D;
-          onChanged();
-          return this;
-        }
-
-        private double min_ ;
-        /**
-         * <code>optional double min = 5;</code>
-         */
-        public boolean hasMin() {
-          return ((bitField0_ & 0x00000010) == 0x00000010);
-        }
-        /**
-         * <code>optional double min = 5;</code>
-         */
-        public double getMin() {
-          return min_;
-        }
-        /**
-         * <code>optional double min = 5;</code>
-         */
-        public Builder setMin(double value) {
-          bitField0_ |= 0x00000010;
-          min_ = value;
-          onChanged();
-          return this;
-        }
-        /**
-         * <code>optional double min = 5;</code>
-         */
-        public Builder clearMin() {
-          bitField0_ = (bitField0_ & ~0x00000010);
-          min_ = 0D;
-          onChanged();
-          return this;
-        }
+      static {
+        defaultInstance = new Quantile(true);
+        defaultInstance.initFields();
+      }
 
-        private double std_ ;
-        /**
-         * <code>optional double std = 6;</code>
-         */
-        public boolean hasStd() {
-          return ((bitField0_ & 0x00000020) == 0x00000020);
-        }
-        /**
-         * <code>optional double std = 6;</code>
-         */
-        public double getStd() {
-          return std_;
-        }
-        /**
-         * <code>optional double std = 6;</code>
-         */
-        public Builder setStd(double value) {
-          bitField0_ |= 0x00000020;
-          std_ = value;
-          onChanged();
-          return this;
-        }
-        /**
-         * <code>optional double std = 6;</code>
-         */
-        public Builder clearStd() {
-          bitField0_ = (bitField0_ & ~0x00000020);
-          std_ = 0D;
-          onChanged();
-          return this;
-        }
+      // @@protoc_insertion_point(class_scope:org.attribyte.essem.proto.EssemReport.Quantile)
+    }
 
-        private double median_ ;
-        /**
-         * <code>optional double median = 7;</code>
-         */
-        public boolean hasMedian() {
-          return ((bitField0_ & 0x00000040) == 0x00000040);
-        }
-        /**
-         * <code>optional double median = 7;</code>
-         */
-        public double getMedian() {
-          return median_;
-        }
-        /**
-         * <code>optional double median = 7;</code>
-         */
-        public Builder setMedian(double value) {
-          bitField0_ |= 0x00000040;
-          median_ = value;
-          onChanged();
-          return this;
-        }
-        /**
-         * <code>optional double median = 7;</code>
-         */
-        public Builder clearMedian() {
-          bitField0_ = (bitField0_ & ~0x00000040);
-          median_ = 0D;
-          onChanged();
-          return this;
-        }
+    public interface HistogramOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:org.attribyte.essem.proto.EssemReport.Histogram)
+        com.google.protobuf.MessageOrBuilder {
 
-        private double percentile75_ ;
-        /**
-         * <code>optional double percentile75 = 8;</code>
-         */
-        public boolean hasPercentile75() {
-          return ((bitField0_ & 0x00000080) == 0x00000080);
-        }
-        /**
-         * <code>optional double percentile75 = 8;</code>
-         */
-        public double getPercentile75() {
-          return percentile75_;
-        }
-        /**
-         * <code>optional double percentile75 = 8;</code>
-         */
-        public Builder setPercentile75(double value) {
-          bitField0_ |= 0x00000080;
-          percentile75_ = value;
-          onChanged();
-          return this;
-        }
-        /**
-         * <code>optional double percentile75 = 8;</code>
-         */
-        public Builder clearPercentile75() {
-          bitField0_ = (bitField0_ & ~0x00000080);
-          percentile75_ = 0D;
-          onChanged();
-          return this;
-        }
+      /**
+       * <code>optional string name = 1;</code>
+       */
+      boolean hasName();
+      /**
+       * <code>optional string name = 1;</code>
+       */
+      java.lang.String getName();
+      /**
+       * <code>optional string name = 1;</code>
+       */
+      com.google.protobuf.ByteString
+          getNameBytes();
 
-        private double percentile95_ ;
-        /**
-         * <code>optional double percentile95 = 9;</code>
-         */
-        public boolean hasPercentile95() {
-          return ((bitField0_ & 0x00000100) == 0x00000100);
-        }
-        /**
-         * <code>optional double percentile95 = 9;</code>
-         */
-        public double getPercentile95() {
-          return percentile95_;
-        }
-        /**
-         * <code>optional double percentile95 = 9;</code>
-         */
-        public Builder setPercentile95(double value) {
-          bitField0_ |= 0x00000100;
-          percentile95_ = value;
-          onChanged();
-          return this;
-        }
-        /**
-         * <code>optional double percentile95 = 9;</code>
-         */
-        public Builder clearPercentile95() {
-          bitField0_ = (bitField0_ & ~0x00000100);
-          percentile95_ = 0D;
-          onChanged();
-          return this;
-        }
+      /**
+       * <code>optional uint64 count = 2;</code>
+       */
+      boolean hasCount();
+      /**
+       * <code>optional uint64 count = 2;</code>
+       */
+      long getCount();
 
-        private double percentile98_ ;
-        /**
-         * <code>optional double percentile98 = 10;</code>
-         */
-        public boolean hasPercentile98() {
-          return ((bitField0_ & 0x00000200) == 0x00000200);
-        }
-        /**
-         * <code>optional double percentile98 = 10;</code>
-         */
-        public double getPercentile98() {
-          return percentile98_;
-        }
-        /**
-         * <code>optional double percentile98 = 10;</code>
-         */
-        public Builder setPercentile98(double value) {
-          bitField0_ |= 0x00000200;
-          percentile98_ = value;
-          onChanged();
-          return this;
-        }
-        /**
-         * <code>optional double percentile98 = 10;</code>
-         */
-        public Builder clearPercentile98() {
-          bitField0_ = (bitField0_ & ~0x00000200);
-          percentile98_ = 0D;
-          onChanged();
-          return this;
-        }
-
-        private double percentile99_ ;
-        /**
-         * <code>optional double percentile99 = 11;</code>
-         */
-        public boolean hasPercentile99() {
-          return ((bitField0_ & 0x00000400) == 0x00000400);
-        }
-        /**
-         * <code>optional double percentile99 = 11;</code>
-         */
-        public double getPercentile99() {
-          return percentile99_;
-        }
-        /**
-         * <code>optional double percentile99 = 11;</code>
-         */
-        public Builder setPercentile99(double value) {
-          bitField0_ |= 0x00000400;
-          percentile99_ = value;
-          onChanged();
-          return this;
-        }
-        /**
-         * <code>optional double percentile99 = 11;</code>
-         */
-        public Builder clearPercentile99() {
-          bitField0_ = (bitField0_ & ~0x00000400);
-          percentile99_ = 0D;
-          onChanged();
-          return this;
-        }
-
-        private double percentile999_ ;
-        /**
-         * <code>optional double percentile999 = 12;</code>
-         */
-        public boolean hasPercentile999() {
-          return ((bitField0_ & 0x00000800) == 0x00000800);
-        }
-        /**
-         * <code>optional double percentile999 = 12;</code>
-         */
-        public double getPercentile999() {
-          return percentile999_;
-        }
-        /**
-         * <code>optional double percentile999 = 12;</code>
-         */
-        public Builder setPercentile999(double value) {
-          bitField0_ |= 0x00000800;
-          percentile999_ = value;
-          onChanged();
-          return this;
-        }
-        /**
-         * <code>optional double percentile999 = 12;</code>
-         */
-        public Builder clearPercentile999() {
-          bitField0_ = (bitField0_ & ~0x00000800);
-          percentile999_ = 0D;
-          onChanged();
-          return this;
-        }
-
-        private com.google.protobuf.ByteString hdrHistogram_ = com.google.protobuf.ByteString.EMPTY;
-        /**
-         * <code>optional bytes hdrHistogram = 13;</code>
-         */
-        public boolean hasHdrHistogram() {
-          return ((bitField0_ & 0x00001000) == 0x00001000);
-        }
-        /**
-         * <code>optional bytes hdrHistogram = 13;</code>
-         */
-        public com.google.protobuf.ByteString getHdrHistogram() {
-          return hdrHistogram_;
-        }
-        /**
-         * <code>optional bytes hdrHistogram = 13;</code>
-         */
-        public Builder setHdrHistogram(com.google.protobuf.ByteString value) {
-          if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00001000;
-          hdrHistogram_ = value;
-          onChanged();
-          return this;
-        }
-        /**
-         * <code>optional bytes hdrHistogram = 13;</code>
-         */
-        public Builder clearHdrHistogram() {
-          bitField0_ = (bitField0_ & ~0x00001000);
-          hdrHistogram_ = getDefaultInstance().getHdrHistogram();
-          onChanged();
-          return this;
-        }
-
-        // @@protoc_insertion_point(builder_scope:org.attribyte.essem.proto.EssemReport.Histogram)
-      }
-
-      static {
-        defaultInstance = new Histogram(true);
-        defaultInstance.initFields();
-      }
-
-      // @@protoc_insertion_point(class_scope:org.attribyte.essem.proto.EssemReport.Histogram)
-    }
-
-    public interface TimerOrBuilder extends
-        // @@protoc_insertion_point(interface_extends:org.attribyte.essem.proto.EssemReport.Timer)
-        com.google.protobuf.MessageOrBuilder {
-
-      /**
-       * <code>optional string name = 1;</code>
-       */
-      boolean hasName();
-      /**
-       * <code>optional string name = 1;</code>
-       */
-      java.lang.String getName();
-      /**
-       * <code>optional string name = 1;</code>
-       */
-      com.google.protobuf.ByteString
-          getNameBytes();
-
-      /**
-       * <code>optional double oneMinuteRate = 2;</code>
-       */
-      boolean hasOneMinuteRate();
-      /**
-       * <code>optional double oneMinuteRate = 2;</code>
-       */
-      double getOneMinuteRate();
-
-      /**
-       * <code>optional double fiveMinuteRate = 3;</code>
-       */
-      boolean hasFiveMinuteRate();
-      /**
-       * <code>optional double fiveMinuteRate = 3;</code>
-       */
-      double getFiveMinuteRate();
-
-      /**
-       * <code>optional double fifteenMinuteRate = 4;</code>
-       */
-      boolean hasFifteenMinuteRate();
-      /**
-       * <code>optional double fifteenMinuteRate = 4;</code>
-       */
-      double getFifteenMinuteRate();
-
-      /**
-       * <code>optional double meanRate = 5;</code>
-       */
-      boolean hasMeanRate();
-      /**
-       * <code>optional double meanRate = 5;</code>
-       */
-      double getMeanRate();
-
-      /**
-       * <code>optional uint64 count = 6;</code>
-       */
-      boolean hasCount();
-      /**
-       * <code>optional uint64 count = 6;</code>
-       */
-      long getCount();
-
-      /**
-       * <code>optional double max = 7;</code>
-       */
-      boolean hasMax();
-      /**
-       * <code>optional double max = 7;</code>
-       */
-      double getMax();
+      /**
+       * <code>optional double max = 3;</code>
+       */
+      boolean hasMax();
+      /**
+       * <code>optional double max = 3;</code>
+       */
+      double getMax();
 
       /**
-       * <code>optional double mean = 8;</code>
+       * <code>optional double mean = 4;</code>
        */
       boolean hasMean();
       /**
-       * <code>optional double mean = 8;</code>
+       * <code>optional double mean = 4;</code>
        */
       double getMean();
 
       /**
-       * <code>optional double min = 9;</code>
+       * <code>optional double min = 5;</code>
        */
       boolean hasMin();
       /**
-       * <code>optional double min = 9;</code>
+       * <code>optional double min = 5;</code>
        */
       double getMin();
 
       /**
-       * <code>optional double std = 10;</code>
+       * <code>optional double std = 6;</code>
        */
       boolean hasStd();
       /**
-       * <code>optional double std = 10;</code>
+       * <code>optional double std = 6;</code>
        */
       double getStd();
 
       /**
-       * <code>optional double median = 11;</code>
+       * <code>optional double median = 7;</code>
        */
       boolean hasMedian();
       /**
-       * <code>optional double median = 11;</code>
+       * <code>optional double median = 7;</code>
        */
       double getMedian();
 
       /**
-       * <code>optional double percentile75 = 12;</code>
+       * <code>optional double percentile75 = 8;</code>
        */
       boolean hasPercentile75();
       /**
-       * <code>optional double percentile75 = 12;</code>
+       * <code>optional double percentile75 = 8;</code>
        */
       double getPercentile75();
 
       /**
-       * <code>optional double percentile95 = 13;</code>
+       * <code>optional double percentile95 = 9;</code>
        */
       boolean hasPercentile95();
       /**
-       * <code>optional double percentile95 = 13;</code>
+       * <code>optional double percentile95 = 9;</code>
        */
       double getPercentile95();
 
       /**
-       * <code>optional double percentile98 = 14;</code>
+       * <code>optional double percentile98 = 10;</code>
        */
       boolean hasPercentile98();
       /**
-       * <code>optional double percentile98 = 14;</code>
+       * <code>optional double percentile98 = 10;</code>
        */
       double getPercentile98();
 
       /**
-       * <code>optional double percentile99 = 15;</code>
+       * <code>optional double percentile99 = 11;</code>
        */
       boolean hasPercentile99();
       /**
-       * <code>optional double percentile99 = 15;</code>
+       * <code>optional double percentile99 = 11;</code>
        */
       double getPercentile99();
 
       /**
-       * <code>optional double percentile999 = 16;</code>
+       * <code>optional double percentile999 = 12;</code>
        */
       boolean hasPercentile999();
       /**
-       * <code>optional double percentile999 = 16;</code>
+       * <code>optional double percentile999 = 12;</code>
        */
       double getPercentile999();
 
       /**
-       * <code>optional bytes hdrHistogram = 17;</code>
+       * <code>optional bytes hdrHistogram = 13;</code>
        */
       boolean hasHdrHistogram();
       /**
-       * <code>optional bytes hdrHistogram = 17;</code>
+       * <code>optional bytes hdrHistogram = 13;</code>
        */
       com.google.protobuf.ByteString getHdrHistogram();
+
+      /**
+       * <code>optional uint32 nameId = 14;</code>
+       */
+      boolean hasNameId();
+      /**
+       * <code>optional uint32 nameId = 14;</code>
+       */
+      int getNameId();
+
+      /**
+       * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 15;</code>
+       */
+      java.util.List<org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile> 
+          getQuantileList();
+      /**
+       * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 15;</code>
+       */
+      org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile getQuantile(int index);
+      /**
+       * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 15;</code>
+       */
+      int getQuantileCount();
+      /**
+       * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 15;</code>
+       */
+      java.util.List<? extends org.attribyte.essem.proto.ReportProtos.EssemReport.QuantileOrBuilder> 
+          getQuantileOrBuilderList();
+      /**
+       * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 15;</code>
+       */
+      org.attribyte.essem.proto.ReportProtos.EssemReport.QuantileOrBuilder getQuantileOrBuilder(
+          int index);
     }
     /**
-     * Protobuf type {@code org.attribyte.essem.proto.EssemReport.Timer}
+     * Protobuf type {@code org.attribyte.essem.proto.EssemReport.Histogram}
      */
-    public static final class Timer extends
+    public static final class Histogram extends
         com.google.protobuf.GeneratedMessage implements
-        // @@protoc_insertion_point(message_implements:org.attribyte.essem.proto.EssemReport.Timer)
-        TimerOrBuilder {
-      // Use Timer.newBuilder() to construct.
-      private Timer(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+        // @@protoc_insertion_point(message_implements:org.attribyte.essem.proto.EssemReport.Histogram)
+        HistogramOrBuilder {
+      // Use Histogram.newBuilder() to construct.
+      private Histogram(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
         super(builder);
         this.unknownFields = builder.getUnknownFields();
       }
-      private Timer(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+      private Histogram(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-      private static final Timer defaultInstance;
-      public static Timer getDefaultInstance() {
+      private static final Histogram defaultInstance;
+      public static Histogram getDefaultInstance() {
         return defaultInstance;
       }
 
-      public Timer getDefaultInstanceForType() {
+      public Histogram getDefaultInstanceForType() {
         return defaultInstance;
       }
 
@@ -4360,7 +3816,7 @@ public final class ReportProtos {
           getUnknownFields() {
         return this.unknownFields;
       }
-      private Timer(
+      private Histogram(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
@@ -4389,84 +3845,77 @@ public final class ReportProtos {
                 name_ = bs;
                 break;
               }
-              case 17: {
+              case 16: {
                 bitField0_ |= 0x00000002;
-                oneMinuteRate_ = input.readDouble();
+                count_ = input.readUInt64();
                 break;
               }
               case 25: {
                 bitField0_ |= 0x00000004;
-                fiveMinuteRate_ = input.readDouble();
+                max_ = input.readDouble();
                 break;
               }
               case 33: {
                 bitField0_ |= 0x00000008;
-                fifteenMinuteRate_ = input.readDouble();
+                mean_ = input.readDouble();
                 break;
               }
               case 41: {
                 bitField0_ |= 0x00000010;
-                meanRate_ = input.readDouble();
+                min_ = input.readDouble();
                 break;
               }
-              case 48: {
+              case 49: {
                 bitField0_ |= 0x00000020;
-                count_ = input.readUInt64();
+                std_ = input.readDouble();
                 break;
               }
               case 57: {
                 bitField0_ |= 0x00000040;
-                max_ = input.readDouble();
+                median_ = input.readDouble();
                 break;
               }
               case 65: {
                 bitField0_ |= 0x00000080;
-                mean_ = input.readDouble();
+                percentile75_ = input.readDouble();
                 break;
               }
               case 73: {
                 bitField0_ |= 0x00000100;
-                min_ = input.readDouble();
+                percentile95_ = input.readDouble();
                 break;
               }
               case 81: {
                 bitField0_ |= 0x00000200;
-                std_ = input.readDouble();
+                percentile98_ = input.readDouble();
                 break;
               }
               case 89: {
                 bitField0_ |= 0x00000400;
-                median_ = input.readDouble();
+                percentile99_ = input.readDouble();
                 break;
               }
               case 97: {
                 bitField0_ |= 0x00000800;
-                percentile75_ = input.readDouble();
+                percentile999_ = input.readDouble();
                 break;
               }
-              case 105: {
+              case 106: {
                 bitField0_ |= 0x00001000;
-                percentile95_ = input.readDouble();
+                hdrHistogram_ = input.readBytes();
                 break;
               }
-              case 113: {
+              case 112: {
                 bitField0_ |= 0x00002000;
-                percentile98_ = input.readDouble();
-                break;
-              }
-              case 121: {
-                bitField0_ |= 0x00004000;
-                percentile99_ = input.readDouble();
-                break;
-              }
-              case 129: {
-                bitField0_ |= 0x00008000;
-                percentile999_ = input.readDouble();
+                nameId_ = input.readUInt32();
                 break;
               }
-              case 138: {
-                bitField0_ |= 0x00010000;
-                hdrHistogram_ = input.readBytes();
+              case 122: {
+                if (!((mutable_bitField0_ & 0x00004000) == 0x00004000)) {
+                  quantile_ = new java.util.ArrayList<org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile>();
+                  mutable_bitField0_ |= 0x00004000;
+                }
+                quantile_.add(input.readMessage(org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile.PARSER, extensionRegistry));
                 break;
               }
             }
@@ -4477,34 +3926,37 @@ public final class ReportProtos {
           throw new com.google.protobuf.InvalidProtocolBufferException(
               e.getMessage()).setUnfinishedMessage(this);
         } finally {
+          if (((mutable_bitField0_ & 0x00004000) == 0x00004000)) {
+            quantile_ = java.util.Collections.unmodifiableList(quantile_);
+          }
           this.unknownFields = unknownFields.build();
           makeExtensionsImmutable();
         }
       }
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.attribyte.essem.proto.ReportProtos.internal_static_org_attribyte_essem_proto_EssemReport_Timer_descriptor;
+        return org.attribyte.essem.proto.ReportProtos.internal_static_org_attribyte_essem_proto_EssemReport_Histogram_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.attribyte.essem.proto.ReportProtos.internal_static_org_attribyte_essem_proto_EssemReport_Timer_fieldAccessorTable
+        return org.attribyte.essem.proto.ReportProtos.internal_static_org_attribyte_essem_proto_EssemReport_Histogram_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.attribyte.essem.proto.ReportProtos.EssemReport.Timer.class, org.attribyte.essem.proto.ReportProtos.EssemReport.Timer.Builder.class);
+                org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram.class, org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram.Builder.class);
       }
 
-      public static com.google.protobuf.Parser<Timer> PARSER =
-          new com.google.protobuf.AbstractParser<Timer>() {
-        public Timer parsePartialFrom(
+      public static com.google.protobuf.Parser<Histogram> PARSER =
+          new com.google.protobuf.AbstractParser<Histogram>() {
+        public Histogram parsePartialFrom(
             com.google.protobuf.CodedInputStream input,
             com.google.protobuf.ExtensionRegistryLite extensionRegistry)
             throws com.google.protobuf.InvalidProtocolBufferException {
-          return new Timer(input, extensionRegistry);
+          return new Histogram(input, extensionRegistry);
         }
       };
 
       @java.lang.Override
-      public com.google.protobuf.Parser<Timer> getParserForType() {
+      public com.google.protobuf.Parser<Histogram> getParserForType() {
         return PARSER;
       }
 
@@ -4551,252 +4003,238 @@ public final class ReportProtos {
         }
       }
 
-      public static final int ONEMINUTERATE_FIELD_NUMBER = 2;
-      private double oneMinuteRate_;
-      /**
-       * <code>optional double oneMinuteRate = 2;</code>
-       */
-      public boolean hasOneMinuteRate() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
-      }
-      /**
-       * <code>optional double oneMinuteRate = 2;</code>
-       */
-      public double getOneMinuteRate() {
-        return oneMinuteRate_;
-      }
-
-      public static final int FIVEMINUTERATE_FIELD_NUMBER = 3;
-      private double fiveMinuteRate_;
-      /**
-       * <code>optional double fiveMinuteRate = 3;</code>
-       */
-      public boolean hasFiveMinuteRate() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
-      }
-      /**
-       * <code>optional double fiveMinuteRate = 3;</code>
-       */
-      public double getFiveMinuteRate() {
-        return fiveMinuteRate_;
-      }
-
-      public static final int FIFTEENMINUTERATE_FIELD_NUMBER = 4;
-      private double fifteenMinuteRate_;
-      /**
-       * <code>optional double fifteenMinuteRate = 4;</code>
-       */
-      public boolean hasFifteenMinuteRate() {
-        return ((bitField0_ & 0x00000008) == 0x00000008);
-      }
-      /**
-       * <code>optional double fifteenMinuteRate = 4;</code>
-       */
-      public double getFifteenMinuteRate() {
-        return fifteenMinuteRate_;
-      }
-
-      public static final int MEANRATE_FIELD_NUMBER = 5;
-      private double meanRate_;
-      /**
-       * <code>optional double meanRate = 5;</code>
-       */
-      public boolean hasMeanRate() {
-        return ((bitField0_ & 0x00000010) == 0x00000010);
-      }
-      /**
-       * <code>optional double meanRate = 5;</code>
-       */
-      public double getMeanRate() {
-        return meanRate_;
-      }
-
-      public static final int COUNT_FIELD_NUMBER = 6;
+      public static final int COUNT_FIELD_NUMBER = 2;
       private long count_;
       /**
-       * <code>optional uint64 count = 6;</code>
+       * <code>optional uint64 count = 2;</code>
        */
       public boolean hasCount() {
-        return ((bitField0_ & 0x00000020) == 0x00000020);
+        return ((bitField0_ & 0x00000002) == 0x00000002);
       }
       /**
-       * <code>optional uint64 count = 6;</code>
+       * <code>optional uint64 count = 2;</code>
        */
       public long getCount() {
         return count_;
       }
 
-      public static final int MAX_FIELD_NUMBER = 7;
+      public static final int MAX_FIELD_NUMBER = 3;
       private double max_;
       /**
-       * <code>optional double max = 7;</code>
+       * <code>optional double max = 3;</code>
        */
       public boolean hasMax() {
-        return ((bitField0_ & 0x00000040) == 0x00000040);
+        return ((bitField0_ & 0x00000004) == 0x00000004);
       }
       /**
-       * <code>optional double max = 7;</code>
+       * <code>optional double max = 3;</code>
        */
       public double getMax() {
         return max_;
       }
 
-      public static final int MEAN_FIELD_NUMBER = 8;
+      public static final int MEAN_FIELD_NUMBER = 4;
       private double mean_;
       /**
-       * <code>optional double mean = 8;</code>
+       * <code>optional double mean = 4;</code>
        */
       public boolean hasMean() {
-        return ((bitField0_ & 0x00000080) == 0x00000080);
+        return ((bitField0_ & 0x00000008) == 0x00000008);
       }
       /**
-       * <code>optional double mean = 8;</code>
+       * <code>optional double mean = 4;</code>
        */
       public double getMean() {
         return mean_;
       }
 
-      public static final int MIN_FIELD_NUMBER = 9;
+      public static final int MIN_FIELD_NUMBER = 5;
       private double min_;
       /**
-       * <code>optional double min = 9;</code>
+       * <code>optional double min = 5;</code>
        */
       public boolean hasMin() {
-        return ((bitField0_ & 0x00000100) == 0x00000100);
+        return ((bitField0_ & 0x00000010) == 0x00000010);
       }
       /**
-       * <code>optional double min = 9;</code>
+       * <code>optional double min = 5;</code>
        */
       public double getMin() {
         return min_;
       }
 
-      public static final int STD_FIELD_NUMBER = 10;
+      public static final int STD_FIELD_NUMBER = 6;
       private double std_;
       /**
-       * <code>optional double std = 10;</code>
+       * <code>optional double std = 6;</code>
        */
       public boolean hasStd() {
-        return ((bitField0_ & 0x00000200) == 0x00000200);
+        return ((bitField0_ & 0x00000020) == 0x00000020);
       }
       /**
-       * <code>optional double std = 10;</code>
+       * <code>optional double std = 6;</code>
        */
       public double getStd() {
         return std_;
       }
 
-      public static final int MEDIAN_FIELD_NUMBER = 11;
+      public static final int MEDIAN_FIELD_NUMBER = 7;
       private double median_;
       /**
-       * <code>optional double median = 11;</code>
+       * <code>optional double median = 7;</code>
        */
       public boolean hasMedian() {
-        return ((bitField0_ & 0x00000400) == 0x00000400);
+        return ((bitField0_ & 0x00000040) == 0x00000040);
       }
       /**
-       * <code>optional double median = 11;</code>
+       * <code>optional double median = 7;</code>
        */
       public double getMedian() {
         return median_;
       }
 
-      public static final int PERCENTILE75_FIELD_NUMBER = 12;
+      public static final int PERCENTILE75_FIELD_NUMBER = 8;
       private double percentile75_;
       /**
-       * <code>optional double percentile75 = 12;</code>
+       * <code>optional double percentile75 = 8;</code>
        */
       public boolean hasPercentile75() {
-        return ((bitField0_ & 0x00000800) == 0x00000800);
+        return ((bitField0_ & 0x00000080) == 0x00000080);
       }
       /**
-       * <code>optional double percentile75 = 12;</code>
+       * <code>optional double percentile75 = 8;</code>
        */
       public double getPercentile75() {
         return percentile75_;
       }
 
-      public static final int PERCENTILE95_FIELD_NUMBER = 13;
+      public static final int PERCENTILE95_FIELD_NUMBER = 9;
       private double percentile95_;
       /**
-       * <code>optional double percentile95 = 13;</code>
+       * <code>optional double percentile95 = 9;</code>
        */
       public boolean hasPercentile95() {
-        return ((bitField0_ & 0x00001000) == 0x00001000);
+        return ((bitField0_ & 0x00000100) == 0x00000100);
       }
       /**
-       * <code>optional double percentile95 = 13;</code>
+       * <code>optional double percentile95 = 9;</code>
        */
       public double getPercentile95() {
         return percentile95_;
       }
 
-      public static final int PERCENTILE98_FIELD_NUMBER = 14;
+      public static final int PERCENTILE98_FIELD_NUMBER = 10;
       private double percentile98_;
       /**
-       * <code>optional double percentile98 = 14;</code>
+       * <code>optional double percentile98 = 10;</code>
        */
       public boolean hasPercentile98() {
-        return ((bitField0_ & 0x00002000) == 0x00002000);
+        return ((bitField0_ & 0x00000200) == 0x00000200);
       }
       /**
-       * <code>optional double percentile98 = 14;</code>
+       * <code>optional double percentile98 = 10;</code>
        */
       public double getPercentile98() {
         return percentile98_;
       }
 
-      public static final int PERCENTILE99_FIELD_NUMBER = 15;
+      public static final int PERCENTILE99_FIELD_NUMBER = 11;
       private double percentile99_;
       /**
-       * <code>optional double percentile99 = 15;</code>
+       * <code>optional double percentile99 = 11;</code>
        */
       public boolean hasPercentile99() {
-        return ((bitField0_ & 0x00004000) == 0x00004000);
+        return ((bitField0_ & 0x00000400) == 0x00000400);
       }
       /**
-       * <code>optional double percentile99 = 15;</code>
+       * <code>optional double percentile99 = 11;</code>
        */
       public double getPercentile99() {
         return percentile99_;
       }
 
-      public static final int PERCENTILE999_FIELD_NUMBER = 16;
+      public static final int PERCENTILE999_FIELD_NUMBER = 12;
       private double percentile999_;
       /**
-       * <code>optional double percentile999 = 16;</code>
+       * <code>optional double percentile999 = 12;</code>
        */
       public boolean hasPercentile999() {
-        return ((bitField0_ & 0x00008000) == 0x00008000);
+        return ((bitField0_ & 0x00000800) == 0x00000800);
       }
       /**
-       * <code>optional double percentile999 = 16;</code>
+       * <code>optional double percentile999 = 12;</code>
        */
       public double getPercentile999() {
         return percentile999_;
       }
 
-      public static final int HDRHISTOGRAM_FIELD_NUMBER = 17;
+      public static final int HDRHISTOGRAM_FIELD_NUMBER = 13;
       private com.google.protobuf.ByteString hdrHistogram_;
       /**
-       * <code>optional bytes hdrHistogram = 17;</code>
+       * <code>optional bytes hdrHistogram = 13;</code>
        */
       public boolean hasHdrHistogram() {
-        return ((bitField0_ & 0x00010000) == 0x00010000);
+        return ((bitField0_ & 0x00001000) == 0x00001000);
       }
       /**
-       * <code>optional bytes hdrHistogram = 17;</code>
+       * <code>optional bytes hdrHistogram = 13;</code>
        */
       public com.google.protobuf.ByteString getHdrHistogram() {
         return hdrHistogram_;
       }
 
+      public static final int NAMEID_FIELD_NUMBER = 14;
+      private int nameId_;
+      /**
+       * <code>optional uint32 nameId = 14;</code>
+       */
+      public boolean hasNameId() {
+        return ((bitField0_ & 0x00002000) == 0x00002000);
+      }
+      /**
+       * <code>optional uint32 nameId = 14;</code>
+       */
+      public int getNameId() {
+        return nameId_;
+      }
+
+      public static final int QUANTILE_FIELD_NUMBER = 15;
+      private java.util.List<org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile> quantile_;
+      /**
+       * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 15;</code>
+       */
+      public java.util.List<org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile> getQuantileList() {
+        return quantile_;
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 15;</code>
+       */
+      public java.util.List<? extends org.attribyte.essem.proto.ReportProtos.EssemReport.QuantileOrBuilder> 
+          getQuantileOrBuilderList() {
+        return quantile_;
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 15;</code>
+       */
+      public int getQuantileCount() {
+        return quantile_.size();
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 15;</code>
+       */
+      public org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile getQuantile(int index) {
+        return quantile_.get(index);
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 15;</code>
+       */
+      public org.attribyte.essem.proto.ReportProtos.EssemReport.QuantileOrBuilder getQuantileOrBuilder(
+          int index) {
+        return quantile_.get(index);
+      }
+
       private void initFields() {
         name_ = "";
-        oneMinuteRate_ = 0D;
-        fiveMinuteRate_ = 0D;
-        fifteenMinuteRate_ = 0D;
-        meanRate_ = 0D;
         count_ = 0L;
         max_ = 0D;
         mean_ = 0D;
@@ -4809,6 +4247,8 @@ public final class ReportProtos {
         percentile99_ = 0D;
         percentile999_ = 0D;
         hdrHistogram_ = com.google.protobuf.ByteString.EMPTY;
+        nameId_ = 0;
+        quantile_ = java.util.Collections.emptyList();
       }
       private byte memoizedIsInitialized = -1;
       public final boolean isInitialized() {
@@ -4820,1143 +4260,4268 @@ public final class ReportProtos {
         return true;
       }
 
-      public void writeTo(com.google.protobuf.CodedOutputStream output)
-                          throws java.io.IOException {
-        getSerializedSize();
-        if (((bitField0_ & 0x00000001) == 0x00000001)) {
-          output.writeBytes(1, getNameBytes());
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        getSerializedSize();
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          output.writeBytes(1, getNameBytes());
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          output.writeUInt64(2, count_);
+        }
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          output.writeDouble(3, max_);
+        }
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          output.writeDouble(4, mean_);
+        }
+        if (((bitField0_ & 0x00000010) == 0x00000010)) {
+          output.writeDouble(5, min_);
+        }
+        if (((bitField0_ & 0x00000020) == 0x00000020)) {
+          output.writeDouble(6, std_);
+        }
+        if (((bitField0_ & 0x00000040) == 0x00000040)) {
+          output.writeDouble(7, median_);
+        }
+        if (((bitField0_ & 0x00000080) == 0x00000080)) {
+          output.writeDouble(8, percentile75_);
+        }
+        if (((bitField0_ & 0x00000100) == 0x00000100)) {
+          output.writeDouble(9, percentile95_);
+        }
+        if (((bitField0_ & 0x00000200) == 0x00000200)) {
+          output.writeDouble(10, percentile98_);
+        }
+        if (((bitField0_ & 0x00000400) == 0x00000400)) {
+          output.writeDouble(11, percentile99_);
+        }
+        if (((bitField0_ & 0x00000800) == 0x00000800)) {
+          output.writeDouble(12, percentile999_);
+        }
+        if (((bitField0_ & 0x00001000) == 0x00001000)) {
+          output.writeBytes(13, hdrHistogram_);
+        }
+        if (((bitField0_ & 0x00002000) == 0x00002000)) {
+          output.writeUInt32(14, nameId_);
+        }
+        for (int i = 0; i < quantile_.size(); i++) {
+          output.writeMessage(15, quantile_.get(i));
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      private int memoizedSerializedSize = -1;
+      public int getSerializedSize() {
+        int size = memoizedSerializedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(1, getNameBytes());
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeUInt64Size(2, count_);
+        }
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeDoubleSize(3, max_);
+        }
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeDoubleSize(4, mean_);
+        }
+        if (((bitField0_ & 0x00000010) == 0x00000010)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeDoubleSize(5, min_);
+        }
+        if (((bitField0_ & 0x00000020) == 0x00000020)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeDoubleSize(6, std_);
+        }
+        if (((bitField0_ & 0x00000040) == 0x00000040)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeDoubleSize(7, median_);
+        }
+        if (((bitField0_ & 0x00000080) == 0x00000080)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeDoubleSize(8, percentile75_);
+        }
+        if (((bitField0_ & 0x00000100) == 0x00000100)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeDoubleSize(9, percentile95_);
+        }
+        if (((bitField0_ & 0x00000200) == 0x00000200)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeDoubleSize(10, percentile98_);
+        }
+        if (((bitField0_ & 0x00000400) == 0x00000400)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeDoubleSize(11, percentile99_);
+        }
+        if (((bitField0_ & 0x00000800) == 0x00000800)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeDoubleSize(12, percentile999_);
+        }
+        if (((bitField0_ & 0x00001000) == 0x00001000)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(13, hdrHistogram_);
+        }
+        if (((bitField0_ & 0x00002000) == 0x00002000)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeUInt32Size(14, nameId_);
+        }
+        for (int i = 0; i < quantile_.size(); i++) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(15, quantile_.get(i));
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSerializedSize = size;
+        return size;
+      }
+
+      private static final long serialVersionUID = 0L;
+      @java.lang.Override
+      protected java.lang.Object writeReplace()
+          throws java.io.ObjectStreamException {
+        return super.writeReplace();
+      }
+
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input);
+      }
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input, extensionRegistry);
+      }
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+
+      public static Builder newBuilder() { return Builder.create(); }
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder(org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram prototype) {
+        return newBuilder().mergeFrom(prototype);
+      }
+      public Builder toBuilder() { return newBuilder(this); }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code org.attribyte.essem.proto.EssemReport.Histogram}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:org.attribyte.essem.proto.EssemReport.Histogram)
+          org.attribyte.essem.proto.ReportProtos.EssemReport.HistogramOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.attribyte.essem.proto.ReportProtos.internal_static_org_attribyte_essem_proto_EssemReport_Histogram_descriptor;
+        }
+
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.attribyte.essem.proto.ReportProtos.internal_static_org_attribyte_essem_proto_EssemReport_Histogram_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram.class, org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram.Builder.class);
+        }
+
+        // Construct using org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+            getQuantileFieldBuilder();
+          }
+        }
+        private static Builder create() {
+          return new Builder();
+        }
+
+        public Builder clear() {
+          super.clear();
+          name_ = "";
+          bitField0_ = (bitField0_ & ~0x00000001);
+          count_ = 0L;
+          bitField0_ = (bitField0_ & ~0x00000002);
+          max_ = 0D;
+          bitField0_ = (bitField0_ & ~0x00000004);
+          mean_ = 0D;
+          bitField0_ = (bitField0_ & ~0x00000008);
+          min_ = 0D;
+          bitField0_ = (bitField0_ & ~0x00000010);
+          std_ = 0D;
+          bitField0_ = (bitField0_ & ~0x00000020);
+          median_ = 0D;
+          bitField0_ = (bitField0_ & ~0x00000040);
+          percentile75_ = 0D;
+          bitField0_ = (bitField0_ & ~0x00000080);
+          percentile95_ = 0D;
+          bitField0_ = (bitField0_ & ~0x00000100);
+          percentile98_ = 0D;
+          bitField0_ = (bitField0_ & ~0x00000200);
+          percentile99_ = 0D;
+          bitField0_ = (bitField0_ & ~0x00000400);
+          percentile999_ = 0D;
+          bitField0_ = (bitField0_ & ~0x00000800);
+          hdrHistogram_ = com.google.protobuf.ByteString.EMPTY;
+          bitField0_ = (bitField0_ & ~0x00001000);
+          nameId_ = 0;
+          bitField0_ = (bitField0_ & ~0x00002000);
+          if (quantileBuilder_ == null) {
+            quantile_ = java.util.Collections.emptyList();
+            bitField0_ = (bitField0_ & ~0x00004000);
+          } else {
+            quantileBuilder_.clear();
+          }
+          return this;
+        }
+
+        public Builder clone() {
+          return create().mergeFrom(buildPartial());
+        }
+
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.attribyte.essem.proto.ReportProtos.internal_static_org_attribyte_essem_proto_EssemReport_Histogram_descriptor;
+        }
+
+        public org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram getDefaultInstanceForType() {
+          return org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram.getDefaultInstance();
+        }
+
+        public org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram build() {
+          org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        public org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram buildPartial() {
+          org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram result = new org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram(this);
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+            to_bitField0_ |= 0x00000001;
+          }
+          result.name_ = name_;
+          if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+            to_bitField0_ |= 0x00000002;
+          }
+          result.count_ = count_;
+          if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+            to_bitField0_ |= 0x00000004;
+          }
+          result.max_ = max_;
+          if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+            to_bitField0_ |= 0x00000008;
+          }
+          result.mean_ = mean_;
+          if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+            to_bitField0_ |= 0x00000010;
+          }
+          result.min_ = min_;
+          if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+            to_bitField0_ |= 0x00000020;
+          }
+          result.std_ = std_;
+          if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+            to_bitField0_ |= 0x00000040;
+          }
+          result.median_ = median_;
+          if (((from_bitField0_ & 0x00000080) == 0x00000080)) {
+            to_bitField0_ |= 0x00000080;
+          }
+          result.percentile75_ = percentile75_;
+          if (((from_bitField0_ & 0x00000100) == 0x00000100)) {
+            to_bitField0_ |= 0x00000100;
+          }
+          result.percentile95_ = percentile95_;
+          if (((from_bitField0_ & 0x00000200) == 0x00000200)) {
+            to_bitField0_ |= 0x00000200;
+          }
+          result.percentile98_ = percentile98_;
+          if (((from_bitField0_ & 0x00000400) == 0x00000400)) {
+            to_bitField0_ |= 0x00000400;
+          }
+          result.percentile99_ = percentile99_;
+          if (((from_bitField0_ & 0x00000800) == 0x00000800)) {
+            to_bitField0_ |= 0x00000800;
+          }
+          result.percentile999_ = percentile999_;
+          if (((from_bitField0_ & 0x00001000) == 0x00001000)) {
+            to_bitField0_ |= 0x00001000;
+          }
+          result.hdrHistogram_ = hdrHistogram_;
+          if (((from_bitField0_ & 0x00002000) == 0x00002000)) {
+            to_bitField0_ |= 0x00002000;
+          }
+          result.nameId_ = nameId_;
+          if (quantileBuilder_ == null) {
+            if (((bitField0_ & 0x00004000) == 0x00004000)) {
+              quantile_ = java.util.Collections.unmodifiableList(quantile_);
+              bitField0_ = (bitField0_ & ~0x00004000);
+            }
+            result.quantile_ = quantile_;
+          } else {
+            result.quantile_ = quantileBuilder_.build();
+          }
+          result.bitField0_ = to_bitField0_;
+          onBuilt();
+          return result;
+        }
+
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram) {
+            return mergeFrom((org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram other) {
+          if (other == org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram.getDefaultInstance()) return this;
+          if (other.hasName()) {
+            bitField0_ |= 0x00000001;
+            name_ = other.name_;
+            onChanged();
+          }
+          if (other.hasCount()) {
+            setCount(other.getCount());
+          }
+          if (other.hasMax()) {
+            setMax(other.getMax());
+          }
+          if (other.hasMean()) {
+            setMean(other.getMean());
+          }
+          if (other.hasMin()) {
+            setMin(other.getMin());
+          }
+          if (other.hasStd()) {
+            setStd(other.getStd());
+          }
+          if (other.hasMedian()) {
+            setMedian(other.getMedian());
+          }
+          if (other.hasPercentile75()) {
+            setPercentile75(other.getPercentile75());
+          }
+          if (other.hasPercentile95()) {
+            setPercentile95(other.getPercentile95());
+          }
+          if (other.hasPercentile98()) {
+            setPercentile98(other.getPercentile98());
+          }
+          if (other.hasPercentile99()) {
+            setPercentile99(other.getPercentile99());
+          }
+          if (other.hasPercentile999()) {
+            setPercentile999(other.getPercentile999());
+          }
+          if (other.hasHdrHistogram()) {
+            setHdrHistogram(other.getHdrHistogram());
+          }
+          if (other.hasNameId()) {
+            setNameId(other.getNameId());
+          }
+          if (quantileBuilder_ == null) {
+            if (!other.quantile_.isEmpty()) {
+              if (quantile_.isEmpty()) {
+                quantile_ = other.quantile_;
+                bitField0_ = (bitField0_ & ~0x00004000);
+              } else {
+                ensureQuantileIsMutable();
+                quantile_.addAll(other.quantile_);
+              }
+              onChanged();
+            }
+          } else {
+            if (!other.quantile_.isEmpty()) {
+              if (quantileBuilder_.isEmpty()) {
+                quantileBuilder_.dispose();
+                quantileBuilder_ = null;
+                quantile_ = other.quantile_;
+                bitField0_ = (bitField0_ & ~0x00004000);
+                quantileBuilder_ = 
+                  com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                     getQuantileFieldBuilder() : null;
+              } else {
+                quantileBuilder_.addAllMessages(other.quantile_);
+              }
+            }
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          return this;
+        }
+
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (org.attribyte.essem.proto.ReportProtos.EssemReport.Histogram) e.getUnfinishedMessage();
+            throw e;
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+        private int bitField0_;
+
+        private java.lang.Object name_ = "";
+        /**
+         * <code>optional string name = 1;</code>
+         */
+        public boolean hasName() {
+          return ((bitField0_ & 0x00000001) == 0x00000001);
+        }
+        /**
+         * <code>optional string name = 1;</code>
+         */
+        public java.lang.String getName() {
+          java.lang.Object ref = name_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              name_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string name = 1;</code>
+         */
+        public com.google.protobuf.ByteString
+            getNameBytes() {
+          java.lang.Object ref = name_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            name_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string name = 1;</code>
+         */
+        public Builder setName(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          name_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string name = 1;</code>
+         */
+        public Builder clearName() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          name_ = getDefaultInstance().getName();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string name = 1;</code>
+         */
+        public Builder setNameBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          name_ = value;
+          onChanged();
+          return this;
+        }
+
+        private long count_ ;
+        /**
+         * <code>optional uint64 count = 2;</code>
+         */
+        public boolean hasCount() {
+          return ((bitField0_ & 0x00000002) == 0x00000002);
+        }
+        /**
+         * <code>optional uint64 count = 2;</code>
+         */
+        public long getCount() {
+          return count_;
+        }
+        /**
+         * <code>optional uint64 count = 2;</code>
+         */
+        public Builder setCount(long value) {
+          bitField0_ |= 0x00000002;
+          count_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional uint64 count = 2;</code>
+         */
+        public Builder clearCount() {
+          bitField0_ = (bitField0_ & ~0x00000002);
+          count_ = 0L;
+          onChanged();
+          return this;
+        }
+
+        private double max_ ;
+        /**
+         * <code>optional double max = 3;</code>
+         */
+        public boolean hasMax() {
+          return ((bitField0_ & 0x00000004) == 0x00000004);
+        }
+        /**
+         * <code>optional double max = 3;</code>
+         */
+        public double getMax() {
+          return max_;
+        }
+        /**
+         * <code>optional double max = 3;</code>
+         */
+        public Builder setMax(double value) {
+          bitField0_ |= 0x00000004;
+          max_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional double max = 3;</code>
+         */
+        public Builder clearMax() {
+          bitField0_ = (bitField0_ & ~0x00000004);
+          max_ = 0D;
+          onChanged();
+          return this;
+        }
+
+        private double mean_ ;
+        /**
+         * <code>optional double mean = 4;</code>
+         */
+        public boolean hasMean() {
+          return ((bitField0_ & 0x00000008) == 0x00000008);
+        }
+        /**
+         * <code>optional double mean = 4;</code>
+         */
+        public double getMean() {
+          return mean_;
+        }
+        /**
+         * <code>optional double mean = 4;</code>
+         */
+        public Builder setMean(double value) {
+          bitField0_ |= 0x00000008;
+          mean_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional double mean = 4;</code>
+         */
+        public Builder clearMean() {
+          bitField0_ = (bitField0_ & ~0x00000008);
+          mean_ = 0D;
+          onChanged();
+          return this;
+        }
+
+        private double min_ ;
+        /**
+         * <code>optional double min = 5;</code>
+         */
+        public boolean hasMin() {
+          return ((bitField0_ & 0x00000010) == 0x00000010);
+        }
+        /**
+         * <code>optional double min = 5;</code>
+         */
+        public double getMin() {
+          return min_;
+        }
+        /**
+         * <code>optional double min = 5;</code>
+         */
+        public Builder setMin(double value) {
+          bitField0_ |= 0x00000010;
+          min_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional double min = 5;</code>
+         */
+        public Builder clearMin() {
+          bitField0_ = (bitField0_ & ~0x00000010);
+          min_ = 0D;
+          onChanged();
+          return this;
+        }
+
+        private double std_ ;
+        /**
+         * <code>optional double std = 6;</code>
+         */
+        public boolean hasStd() {
+          return ((bitField0_ & 0x00000020) == 0x00000020);
+        }
+        /**
+         * <code>optional double std = 6;</code>
+         */
+        public double getStd() {
+          return std_;
+        }
+        /**
+         * <code>optional double std = 6;</code>
+         */
+        public Builder setStd(double value) {
+          bitField0_ |= 0x00000020;
+          std_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional double std = 6;</code>
+         */
+        public Builder clearStd() {
+          bitField0_ = (bitField0_ & ~0x00000020);
+          std_ = 0D;
+          onChanged();
+          return this;
+        }
+
+        private double median_ ;
+        /**
+         * <code>optional double median = 7;</code>
+         */
+        public boolean hasMedian() {
+          return ((bitField0_ & 0x00000040) == 0x00000040);
+        }
+        /**
+         * <code>optional double median = 7;</code>
+         */
+        public double getMedian() {
+          return median_;
+        }
+        /**
+         * <code>optional double median = 7;</code>
+         */
+        public Builder setMedian(double value) {
+          bitField0_ |= 0x00000040;
+          median_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional double median = 7;</code>
+         */
+        public Builder clearMedian() {
+          bitField0_ = (bitField0_ & ~0x00000040);
+          median_ = 0D;
+          onChanged();
+          return this;
+        }
+
+        private double percentile75_ ;
+        /**
+         * <code>optional double percentile75 = 8;</code>
+         */
+        public boolean hasPercentile75() {
+          return ((bitField0_ & 0x00000080) == 0x00000080);
+        }
+        /**
+         * <code>optional double percentile75 = 8;</code>
+         */
+        public double getPercentile75() {
+          return percentile75_;
+        }
+        /**
+         * <code>optional double percentile75 = 8;</code>
+         */
+        public Builder setPercentile75(double value) {
+          bitField0_ |= 0x00000080;
+          percentile75_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional double percentile75 = 8;</code>
+         */
+        public Builder clearPercentile75() {
+          bitField0_ = (bitField0_ & ~0x00000080);
+          percentile75_ = 0D;
+          onChanged();
+          return this;
+        }
+
+        private double percentile95_ ;
+        /**
+         * <code>optional double percentile95 = 9;</code>
+         */
+        public boolean hasPercentile95() {
+          return ((bitField0_ & 0x00000100) == 0x00000100);
+        }
+        /**
+         * <code>optional double percentile95 = 9;</code>
+         */
+        public double getPercentile95() {
+          return percentile95_;
+        }
+        /**
+         * <code>optional double percentile95 = 9;</code>
+         */
+        public Builder setPercentile95(double value) {
+          bitField0_ |= 0x00000100;
+          percentile95_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional double percentile95 = 9;</code>
+         */
+        public Builder clearPercentile95() {
+          bitField0_ = (bitField0_ & ~0x00000100);
+          percentile95_ = 0D;
+          onChanged();
+          return this;
+        }
+
+        private double percentile98_ ;
+        /**
+         * <code>optional double percentile98 = 10;</code>
+         */
+        public boolean hasPercentile98() {
+          return ((bitField0_ & 0x00000200) == 0x00000200);
+        }
+        /**
+         * <code>optional double percentile98 = 10;</code>
+         */
+        public double getPercentile98() {
+          return percentile98_;
+        }
+        /**
+         * <code>optional double percentile98 = 10;</code>
+         */
+        public Builder setPercentile98(double value) {
+          bitField0_ |= 0x00000200;
+          percentile98_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional double percentile98 = 10;</code>
+         */
+        public Builder clearPercentile98() {
+          bitField0_ = (bitField0_ & ~0x00000200);
+          percentile98_ = 0D;
+          onChanged();
+          return this;
+        }
+
+        private double percentile99_ ;
+        /**
+         * <code>optional double percentile99 = 11;</code>
+         */
+        public boolean hasPercentile99() {
+          return ((bitField0_ & 0x00000400) == 0x00000400);
+        }
+        /**
+         * <code>optional double percentile99 = 11;</code>
+         */
+        public double getPercentile99() {
+          return percentile99_;
+        }
+        /**
+         * <code>optional double percentile99 = 11;</code>
+         */
+        public Builder setPercentile99(double value) {
+          bitField0_ |= 0x00000400;
+          percentile99_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional double percentile99 = 11;</code>
+         */
+        public Builder clearPercentile99() {
+          bitField0_ = (bitField0_ & ~0x00000400);
+          percentile99_ = 0D;
+          onChanged();
+          return this;
+        }
+
+        private double percentile999_ ;
+        /**
+         * <code>optional double percentile999 = 12;</code>
+         */
+        public boolean hasPercentile999() {
+          return ((bitField0_ & 0x00000800) == 0x00000800);
+        }
+        /**
+         * <code>optional double percentile999 = 12;</code>
+         */
+        public double getPercentile999() {
+          return percentile999_;
+        }
+        /**
+         * <code>optional double percentile999 = 12;</code>
+         */
+        public Builder setPercentile999(double value) {
+          bitField0_ |= 0x00000800;
+          percentile999_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional double percentile999 = 12;</code>
+         */
+        public Builder clearPercentile999() {
+          bitField0_ = (bitField0_ & ~0x00000800);
+          percentile999_ = 0D;
+          onChanged();
+          return this;
+        }
+
+        private com.google.protobuf.ByteString hdrHistogram_ = com.google.protobuf.ByteString.EMPTY;
+        /**
+         * <code>optional bytes hdrHistogram = 13;</code>
+         */
+        public boolean hasHdrHistogram() {
+          return ((bitField0_ & 0x00001000) == 0x00001000);
+        }
+        /**
+         * <code>optional bytes hdrHistogram = 13;</code>
+         */
+        public com.google.protobuf.ByteString getHdrHistogram() {
+          return hdrHistogram_;
+        }
+        /**
+         * <code>optional bytes hdrHistogram = 13;</code>
+         */
+        public Builder setHdrHistogram(com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00001000;
+          hdrHistogram_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional bytes hdrHistogram = 13;</code>
+         */
+        public Builder clearHdrHistogram() {
+          bitField0_ = (bitField0_ & ~0x00001000);
+          hdrHistogram_ = getDefaultInstance().getHdrHistogram();
+          onChanged();
+          return this;
+        }
+
+        private int nameId_ ;
+        /**
+         * <code>optional uint32 nameId = 14;</code>
+         */
+        public boolean hasNameId() {
+          return ((bitField0_ & 0x00002000) == 0x00002000);
+        }
+        /**
+         * <code>optional uint32 nameId = 14;</code>
+         */
+        public int getNameId() {
+          return nameId_;
+        }
+        /**
+         * <code>optional uint32 nameId = 14;</code>
+         */
+        public Builder setNameId(int value) {
+          bitField0_ |= 0x00002000;
+          nameId_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional uint32 nameId = 14;</code>
+         */
+        public Builder clearNameId() {
+          bitField0_ = (bitField0_ & ~0x00002000);
+          nameId_ = 0;
+          onChanged();
+          return this;
+        }
+
+        private java.util.List<org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile> quantile_ =
+          java.util.Collections.emptyList();
+        private void ensureQuantileIsMutable() {
+          if (!((bitField0_ & 0x00004000) == 0x00004000)) {
+            quantile_ = new java.util.ArrayList<org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile>(quantile_);
+            bitField0_ |= 0x00004000;
+           }
+        }
+
+        private com.google.protobuf.RepeatedFieldBuilder<
+            org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile, org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile.Builder, org.attribyte.essem.proto.ReportProtos.EssemReport.QuantileOrBuilder> quantileBuilder_;
+
+        /**
+         * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 15;</code>
+         */
+        public java.util.List<org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile> getQuantileList() {
+          if (quantileBuilder_ == null) {
+            return java.util.Collections.unmodifiableList(quantile_);
+          } else {
+            return quantileBuilder_.getMessageList();
+          }
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 15;</code>
+         */
+        public int getQuantileCount() {
+          if (quantileBuilder_ == null) {
+            return quantile_.size();
+          } else {
+            return quantileBuilder_.getCount();
+          }
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 15;</code>
+         */
+        public org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile getQuantile(int index) {
+          if (quantileBuilder_ == null) {
+            return quantile_.get(index);
+          } else {
+            return quantileBuilder_.getMessage(index);
+          }
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 15;</code>
+         */
+        public Builder setQuantile(
+            int index, org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile value) {
+          if (quantileBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureQuantileIsMutable();
+            quantile_.set(index, value);
+            onChanged();
+          } else {
+            quantileBuilder_.setMessage(index, value);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 15;</code>
+         */
+        public Builder setQuantile(
+            int index, org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile.Builder builderForValue) {
+          if (quantileBuilder_ == null) {
+            ensureQuantileIsMutable();
+            quantile_.set(index, builderForValue.build());
+            onChanged();
+          } else {
+            quantileBuilder_.setMessage(index, builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 15;</code>
+         */
+        public Builder addQuantile(org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile value) {
+          if (quantileBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureQuantileIsMutable();
+            quantile_.add(value);
+            onChanged();
+          } else {
+            quantileBuilder_.addMessage(value);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 15;</code>
+         */
+        public Builder addQuantile(
+            int index, org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile value) {
+          if (quantileBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureQuantileIsMutable();
+            quantile_.add(index, value);
+            onChanged();
+          } else {
+            quantileBuilder_.addMessage(index, value);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 15;</code>
+         */
+        public Builder addQuantile(
+            org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile.Builder builderForValue) {
+          if (quantileBuilder_ == null) {
+            ensureQuantileIsMutable();
+            quantile_.add(builderForValue.build());
+            onChanged();
+          } else {
+            quantileBuilder_.addMessage(builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 15;</code>
+         */
+        public Builder addQuantile(
+            int index, org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile.Builder builderForValue) {
+          if (quantileBuilder_ == null) {
+            ensureQuantileIsMutable();
+            quantile_.add(index, builderForValue.build());
+            onChanged();
+          } else {
+            quantileBuilder_.addMessage(index, builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 15;</code>
+         */
+        public Builder addAllQuantile(
+            java.lang.Iterable<? extends org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile> values) {
+          if (quantileBuilder_ == null) {
+            ensureQuantileIsMutable();
+            com.google.protobuf.AbstractMessageLite.Builder.addAll(
+                values, quantile_);
+            onChanged();
+          } else {
+            quantileBuilder_.addAllMessages(values);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 15;</code>
+         */
+        public Builder clearQuantile() {
+          if (quantileBuilder_ == null) {
+            quantile_ = java.util.Collections.emptyList();
+            bitField0_ = (bitField0_ & ~0x00004000);
+            onChanged();
+          } else {
+            quantileBuilder_.clear();
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 15;</code>
+         */
+        public Builder removeQuantile(int index) {
+          if (quantileBuilder_ == null) {
+            ensureQuantileIsMutable();
+            quantile_.remove(index);
+            onChanged();
+          } else {
+            quantileBuilder_.remove(index);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 15;</code>
+         */
+        public org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile.Builder getQuantileBuilder(
+            int index) {
+          return getQuantileFieldBuilder().getBuilder(index);
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 15;</code>
+         */
+        public org.attribyte.essem.proto.ReportProtos.EssemReport.QuantileOrBuilder getQuantileOrBuilder(
+            int index) {
+          if (quantileBuilder_ == null) {
+            return quantile_.get(index);  } else {
+            return quantileBuilder_.getMessageOrBuilder(index);
+          }
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 15;</code>
+         */
+        public java.util.List<? extends org.attribyte.essem.proto.ReportProtos.EssemReport.QuantileOrBuilder> 
+             getQuantileOrBuilderList() {
+          if (quantileBuilder_ != null) {
+            return quantileBuilder_.getMessageOrBuilderList();
+          } else {
+            return java.util.Collections.unmodifiableList(quantile_);
+          }
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 15;</code>
+         */
+        public org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile.Builder addQuantileBuilder() {
+          return getQuantileFieldBuilder().addBuilder(
+              org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile.getDefaultInstance());
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 15;</code>
+         */
+        public org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile.Builder addQuantileBuilder(
+            int index) {
+          return getQuantileFieldBuilder().addBuilder(
+              index, org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile.getDefaultInstance());
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 15;</code>
+         */
+        public java.util.List<org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile.Builder> 
+             getQuantileBuilderList() {
+          return getQuantileFieldBuilder().getBuilderList();
+        }
+        private com.google.protobuf.RepeatedFieldBuilder<
+            org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile, org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile.Builder, org.attribyte.essem.proto.ReportProtos.EssemReport.QuantileOrBuilder> 
+            getQuantileFieldBuilder() {
+          if (quantileBuilder_ == null) {
+            quantileBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+                org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile, org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile.Builder, org.attribyte.essem.proto.ReportProtos.EssemReport.QuantileOrBuilder>(
+                    quantile_,
+                    ((bitField0_ & 0x00004000) == 0x00004000),
+                    getParentForChildren(),
+                    isClean());
+            quantile_ = null;
+          }
+          return quantileBuilder_;
+        }
+
+        // @@protoc_insertion_point(builder_scope:org.attribyte.essem.proto.EssemReport.Histogram)
+      }
+
+      static {
+        defaultInstance = new Histogram(true);
+        defaultInstance.initFields();
+      }
+
+      // @@protoc_insertion_point(class_scope:org.attribyte.essem.proto.EssemReport.Histogram)
+    }
+
+    public interface TimerOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:org.attribyte.essem.proto.EssemReport.Timer)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>optional string name = 1;</code>
+       */
+      boolean hasName();
+      /**
+       * <code>optional string name = 1;</code>
+       */
+      java.lang.String getName();
+      /**
+       * <code>optional string name = 1;</code>
+       */
+      com.google.protobuf.ByteString
+          getNameBytes();
+
+      /**
+       * <code>optional double oneMinuteRate = 2;</code>
+       */
+      boolean hasOneMinuteRate();
+      /**
+       * <code>optional double oneMinuteRate = 2;</code>
+       */
+      double getOneMinuteRate();
+
+      /**
+       * <code>optional double fiveMinuteRate = 3;</code>
+       */
+      boolean hasFiveMinuteRate();
+      /**
+       * <code>optional double fiveMinuteRate = 3;</code>
+       */
+      double getFiveMinuteRate();
+
+      /**
+       * <code>optional double fifteenMinuteRate = 4;</code>
+       */
+      boolean hasFifteenMinuteRate();
+      /**
+       * <code>optional double fifteenMinuteRate = 4;</code>
+       */
+      double getFifteenMinuteRate();
+
+      /**
+       * <code>optional double meanRate = 5;</code>
+       */
+      boolean hasMeanRate();
+      /**
+       * <code>optional double meanRate = 5;</code>
+       */
+      double getMeanRate();
+
+      /**
+       * <code>optional uint64 count = 6;</code>
+       */
+      boolean hasCount();
+      /**
+       * <code>optional uint64 count = 6;</code>
+       */
+      long getCount();
+
+      /**
+       * <code>optional double max = 7;</code>
+       */
+      boolean hasMax();
+      /**
+       * <code>optional double max = 7;</code>
+       */
+      double getMax();
+
+      /**
+       * <code>optional double mean = 8;</code>
+       */
+      boolean hasMean();
+      /**
+       * <code>optional double mean = 8;</code>
+       */
+      double getMean();
+
+      /**
+       * <code>optional double min = 9;</code>
+       */
+      boolean hasMin();
+      /**
+       * <code>optional double min = 9;</code>
+       */
+      double getMin();
+
+      /**
+       * <code>optional double std = 10;</code>
+       */
+      boolean hasStd();
+      /**
+       * <code>optional double std = 10;</code>
+       */
+      double getStd();
+
+      /**
+       * <code>optional double median = 11;</code>
+       */
+      boolean hasMedian();
+      /**
+       * <code>optional double median = 11;</code>
+       */
+      double getMedian();
+
+      /**
+       * <code>optional double percentile75 = 12;</code>
+       */
+      boolean hasPercentile75();
+      /**
+       * <code>optional double percentile75 = 12;</code>
+       */
+      double getPercentile75();
+
+      /**
+       * <code>optional double percentile95 = 13;</code>
+       */
+      boolean hasPercentile95();
+      /**
+       * <code>optional double percentile95 = 13;</code>
+       */
+      double getPercentile95();
+
+      /**
+       * <code>optional double percentile98 = 14;</code>
+       */
+      boolean hasPercentile98();
+      /**
+       * <code>optional double percentile98 = 14;</code>
+       */
+      double getPercentile98();
+
+      /**
+       * <code>optional double percentile99 = 15;</code>
+       */
+      boolean hasPercentile99();
+      /**
+       * <code>optional double percentile99 = 15;</code>
+       */
+      double getPercentile99();
+
+      /**
+       * <code>optional double percentile999 = 16;</code>
+       */
+      boolean hasPercentile999();
+      /**
+       * <code>optional double percentile999 = 16;</code>
+       */
+      double getPercentile999();
+
+      /**
+       * <code>optional bytes hdrHistogram = 17;</code>
+       */
+      boolean hasHdrHistogram();
+      /**
+       * <code>optional bytes hdrHistogram = 17;</code>
+       */
+      com.google.protobuf.ByteString getHdrHistogram();
+
+      /**
+       * <code>optional uint32 nameId = 18;</code>
+       */
+      boolean hasNameId();
+      /**
+       * <code>optional uint32 nameId = 18;</code>
+       */
+      int getNameId();
+
+      /**
+       * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 19;</code>
+       */
+      java.util.List<org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile> 
+          getQuantileList();
+      /**
+       * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 19;</code>
+       */
+      org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile getQuantile(int index);
+      /**
+       * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 19;</code>
+       */
+      int getQuantileCount();
+      /**
+       * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 19;</code>
+       */
+      java.util.List<? extends org.attribyte.essem.proto.ReportProtos.EssemReport.QuantileOrBuilder> 
+          getQuantileOrBuilderList();
+      /**
+       * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 19;</code>
+       */
+      org.attribyte.essem.proto.ReportProtos.EssemReport.QuantileOrBuilder getQuantileOrBuilder(
+          int index);
+    }
+    /**
+     * Protobuf type {@code org.attribyte.essem.proto.EssemReport.Timer}
+     */
+    public static final class Timer extends
+        com.google.protobuf.GeneratedMessage implements
+        // @@protoc_insertion_point(message_implements:org.attribyte.essem.proto.EssemReport.Timer)
+        TimerOrBuilder {
+      // Use Timer.newBuilder() to construct.
+      private Timer(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+        super(builder);
+        this.unknownFields = builder.getUnknownFields();
+      }
+      private Timer(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+      private static final Timer defaultInstance;
+      public static Timer getDefaultInstance() {
+        return defaultInstance;
+      }
+
+      public Timer getDefaultInstanceForType() {
+        return defaultInstance;
+      }
+
+      private final com.google.protobuf.UnknownFieldSet unknownFields;
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+          getUnknownFields() {
+        return this.unknownFields;
+      }
+      private Timer(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        initFields();
+        int mutable_bitField0_ = 0;
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              default: {
+                if (!parseUnknownField(input, unknownFields,
+                                       extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+              case 10: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000001;
+                name_ = bs;
+                break;
+              }
+              case 17: {
+                bitField0_ |= 0x00000002;
+                oneMinuteRate_ = input.readDouble();
+                break;
+              }
+              case 25: {
+                bitField0_ |= 0x00000004;
+                fiveMinuteRate_ = input.readDouble();
+                break;
+              }
+              case 33: {
+                bitField0_ |= 0x00000008;
+                fifteenMinuteRate_ = input.readDouble();
+                break;
+              }
+              case 41: {
+                bitField0_ |= 0x00000010;
+                meanRate_ = input.readDouble();
+                break;
+              }
+              case 48: {
+                bitField0_ |= 0x00000020;
+                count_ = input.readUInt64();
+                break;
+              }
+              case 57: {
+                bitField0_ |= 0x00000040;
+                max_ = input.readDouble();
+                break;
+              }
+              case 65: {
+                bitField0_ |= 0x00000080;
+                mean_ = input.readDouble();
+                break;
+              }
+              case 73: {
+                bitField0_ |= 0x00000100;
+                min_ = input.readDouble();
+                break;
+              }
+              case 81: {
+                bitField0_ |= 0x00000200;
+                std_ = input.readDouble();
+                break;
+              }
+              case 89: {
+                bitField0_ |= 0x00000400;
+                median_ = input.readDouble();
+                break;
+              }
+              case 97: {
+                bitField0_ |= 0x00000800;
+                percentile75_ = input.readDouble();
+                break;
+              }
+              case 105: {
+                bitField0_ |= 0x00001000;
+                percentile95_ = input.readDouble();
+                break;
+              }
+              case 113: {
+                bitField0_ |= 0x00002000;
+                percentile98_ = input.readDouble();
+                break;
+              }
+              case 121: {
+                bitField0_ |= 0x00004000;
+                percentile99_ = input.readDouble();
+                break;
+              }
+              case 129: {
+                bitField0_ |= 0x00008000;
+                percentile999_ = input.readDouble();
+                break;
+              }
+              case 138: {
+                bitField0_ |= 0x00010000;
+                hdrHistogram_ = input.readBytes();
+                break;
+              }
+              case 144: {
+                bitField0_ |= 0x00020000;
+                nameId_ = input.readUInt32();
+                break;
+              }
+              case 154: {
+                if (!((mutable_bitField0_ & 0x00040000) == 0x00040000)) {
+                  quantile_ = new java.util.ArrayList<org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile>();
+                  mutable_bitField0_ |= 0x00040000;
+                }
+                quantile_.add(input.readMessage(org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile.PARSER, extensionRegistry));
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(
+              e.getMessage()).setUnfinishedMessage(this);
+        } finally {
+          if (((mutable_bitField0_ & 0x00040000) == 0x00040000)) {
+            quantile_ = java.util.Collections.unmodifiableList(quantile_);
+          }
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
+      }
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.attribyte.essem.proto.ReportProtos.internal_static_org_attribyte_essem_proto_EssemReport_Timer_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.attribyte.essem.proto.ReportProtos.internal_static_org_attribyte_essem_proto_EssemReport_Timer_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.attribyte.essem.proto.ReportProtos.EssemReport.Timer.class, org.attribyte.essem.proto.ReportProtos.EssemReport.Timer.Builder.class);
+      }
+
+      public static com.google.protobuf.Parser<Timer> PARSER =
+          new com.google.protobuf.AbstractParser<Timer>() {
+        public Timer parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new Timer(input, extensionRegistry);
+        }
+      };
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<Timer> getParserForType() {
+        return PARSER;
+      }
+
+      private int bitField0_;
+      public static final int NAME_FIELD_NUMBER = 1;
+      private java.lang.Object name_;
+      /**
+       * <code>optional string name = 1;</code>
+       */
+      public boolean hasName() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional string name = 1;</code>
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            name_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string name = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int ONEMINUTERATE_FIELD_NUMBER = 2;
+      private double oneMinuteRate_;
+      /**
+       * <code>optional double oneMinuteRate = 2;</code>
+       */
+      public boolean hasOneMinuteRate() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional double oneMinuteRate = 2;</code>
+       */
+      public double getOneMinuteRate() {
+        return oneMinuteRate_;
+      }
+
+      public static final int FIVEMINUTERATE_FIELD_NUMBER = 3;
+      private double fiveMinuteRate_;
+      /**
+       * <code>optional double fiveMinuteRate = 3;</code>
+       */
+      public boolean hasFiveMinuteRate() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional double fiveMinuteRate = 3;</code>
+       */
+      public double getFiveMinuteRate() {
+        return fiveMinuteRate_;
+      }
+
+      public static final int FIFTEENMINUTERATE_FIELD_NUMBER = 4;
+      private double fifteenMinuteRate_;
+      /**
+       * <code>optional double fifteenMinuteRate = 4;</code>
+       */
+      public boolean hasFifteenMinuteRate() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional double fifteenMinuteRate = 4;</code>
+       */
+      public double getFifteenMinuteRate() {
+        return fifteenMinuteRate_;
+      }
+
+      public static final int MEANRATE_FIELD_NUMBER = 5;
+      private double meanRate_;
+      /**
+       * <code>optional double meanRate = 5;</code>
+       */
+      public boolean hasMeanRate() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional double meanRate = 5;</code>
+       */
+      public double getMeanRate() {
+        return meanRate_;
+      }
+
+      public static final int COUNT_FIELD_NUMBER = 6;
+      private long count_;
+      /**
+       * <code>optional uint64 count = 6;</code>
+       */
+      public boolean hasCount() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>optional uint64 count = 6;</code>
+       */
+      public long getCount() {
+        return count_;
+      }
+
+      public static final int MAX_FIELD_NUMBER = 7;
+      private double max_;
+      /**
+       * <code>optional double max = 7;</code>
+       */
+      public boolean hasMax() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>optional double max = 7;</code>
+       */
+      public double getMax() {
+        return max_;
+      }
+
+      public static final int MEAN_FIELD_NUMBER = 8;
+      private double mean_;
+      /**
+       * <code>optional double mean = 8;</code>
+       */
+      public boolean hasMean() {
+        return ((bitField0_ & 0x00000080) == 0x00000080);
+      }
+      /**
+       * <code>optional double mean = 8;</code>
+       */
+      public double getMean() {
+        return mean_;
+      }
+
+      public static final int MIN_FIELD_NUMBER = 9;
+      private double min_;
+      /**
+       * <code>optional double min = 9;</code>
+       */
+      public boolean hasMin() {
+        return ((bitField0_ & 0x00000100) == 0x00000100);
+      }
+      /**
+       * <code>optional double min = 9;</code>
+       */
+      public double getMin() {
+        return min_;
+      }
+
+      public static final int STD_FIELD_NUMBER = 10;
+      private double std_;
+      /**
+       * <code>optional double std = 10;</code>
+       */
+      public boolean hasStd() {
+        return ((bitField0_ & 0x00000200) == 0x00000200);
+      }
+      /**
+       * <code>optional double std = 10;</code>
+       */
+      public double getStd() {
+        return std_;
+      }
+
+      public static final int MEDIAN_FIELD_NUMBER = 11;
+      private double median_;
+      /**
+       * <code>optional double median = 11;</code>
+       */
+      public boolean hasMedian() {
+        return ((bitField0_ & 0x00000400) == 0x00000400);
+      }
+      /**
+       * <code>optional double median = 11;</code>
+       */
+      public double getMedian() {
+        return median_;
+      }
+
+      public static final int PERCENTILE75_FIELD_NUMBER = 12;
+      private double percentile75_;
+      /**
+       * <code>optional double percentile75 = 12;</code>
+       */
+      public boolean hasPercentile75() {
+        return ((bitField0_ & 0x00000800) == 0x00000800);
+      }
+      /**
+       * <code>optional double percentile75 = 12;</code>
+       */
+      public double getPercentile75() {
+        return percentile75_;
+      }
+
+      public static final int PERCENTILE95_FIELD_NUMBER = 13;
+      private double percentile95_;
+      /**
+       * <code>optional double percentile95 = 13;</code>
+       */
+      public boolean hasPercentile95() {
+        return ((bitField0_ & 0x00001000) == 0x00001000);
+      }
+      /**
+       * <code>optional double percentile95 = 13;</code>
+       */
+      public double getPercentile95() {
+        return percentile95_;
+      }
+
+      public static final int PERCENTILE98_FIELD_NUMBER = 14;
+      private double percentile98_;
+      /**
+       * <code>optional double percentile98 = 14;</code>
+       */
+      public boolean hasPercentile98() {
+        return ((bitField0_ & 0x00002000) == 0x00002000);
+      }
+      /**
+       * <code>optional double percentile98 = 14;</code>
+       */
+      public double getPercentile98() {
+        return percentile98_;
+      }
+
+      public static final int PERCENTILE99_FIELD_NUMBER = 15;
+      private double percentile99_;
+      /**
+       * <code>optional double percentile99 = 15;</code>
+       */
+      public boolean hasPercentile99() {
+        return ((bitField0_ & 0x00004000) == 0x00004000);
+      }
+      /**
+       * <code>optional double percentile99 = 15;</code>
+       */
+      public double getPercentile99() {
+        return percentile99_;
+      }
+
+      public static final int PERCENTILE999_FIELD_NUMBER = 16;
+      private double percentile999_;
+      /**
+       * <code>optional double percentile999 = 16;</code>
+       */
+      public boolean hasPercentile999() {
+        return ((bitField0_ & 0x00008000) == 0x00008000);
+      }
+      /**
+       * <code>optional double percentile999 = 16;</code>
+       */
+      public double getPercentile999() {
+        return percentile999_;
+      }
+
+      public static final int HDRHISTOGRAM_FIELD_NUMBER = 17;
+      private com.google.protobuf.ByteString hdrHistogram_;
+      /**
+       * <code>optional bytes hdrHistogram = 17;</code>
+       */
+      public boolean hasHdrHistogram() {
+        return ((bitField0_ & 0x00010000) == 0x00010000);
+      }
+      /**
+       * <code>optional bytes hdrHistogram = 17;</code>
+       */
+      public com.google.protobuf.ByteString getHdrHistogram() {
+        return hdrHistogram_;
+      }
+
+      public static final int NAMEID_FIELD_NUMBER = 18;
+      private int nameId_;
+      /**
+       * <code>optional uint32 nameId = 18;</code>
+       */
+      public boolean hasNameId() {
+        return ((bitField0_ & 0x00020000) == 0x00020000);
+      }
+      /**
+       * <code>optional uint32 nameId = 18;</code>
+       */
+      public int getNameId() {
+        return nameId_;
+      }
+
+      public static final int QUANTILE_FIELD_NUMBER = 19;
+      private java.util.List<org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile> quantile_;
+      /**
+       * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 19;</code>
+       */
+      public java.util.List<org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile> getQuantileList() {
+        return quantile_;
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 19;</code>
+       */
+      public java.util.List<? extends org.attribyte.essem.proto.ReportProtos.EssemReport.QuantileOrBuilder> 
+          getQuantileOrBuilderList() {
+        return quantile_;
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 19;</code>
+       */
+      public int getQuantileCount() {
+        return quantile_.size();
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 19;</code>
+       */
+      public org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile getQuantile(int index) {
+        return quantile_.get(index);
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 19;</code>
+       */
+      public org.attribyte.essem.proto.ReportProtos.EssemReport.QuantileOrBuilder getQuantileOrBuilder(
+          int index) {
+        return quantile_.get(index);
+      }
+
+      private void initFields() {
+        name_ = "";
+        oneMinuteRate_ = 0D;
+        fiveMinuteRate_ = 0D;
+        fifteenMinuteRate_ = 0D;
+        meanRate_ = 0D;
+        count_ = 0L;
+        max_ = 0D;
+        mean_ = 0D;
+        min_ = 0D;
+        std_ = 0D;
+        median_ = 0D;
+        percentile75_ = 0D;
+        percentile95_ = 0D;
+        percentile98_ = 0D;
+        percentile99_ = 0D;
+        percentile999_ = 0D;
+        hdrHistogram_ = com.google.protobuf.ByteString.EMPTY;
+        nameId_ = 0;
+        quantile_ = java.util.Collections.emptyList();
+      }
+      private byte memoizedIsInitialized = -1;
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        getSerializedSize();
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          output.writeBytes(1, getNameBytes());
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          output.writeDouble(2, oneMinuteRate_);
+        }
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          output.writeDouble(3, fiveMinuteRate_);
+        }
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          output.writeDouble(4, fifteenMinuteRate_);
+        }
+        if (((bitField0_ & 0x00000010) == 0x00000010)) {
+          output.writeDouble(5, meanRate_);
+        }
+        if (((bitField0_ & 0x00000020) == 0x00000020)) {
+          output.writeUInt64(6, count_);
+        }
+        if (((bitField0_ & 0x00000040) == 0x00000040)) {
+          output.writeDouble(7, max_);
+        }
+        if (((bitField0_ & 0x00000080) == 0x00000080)) {
+          output.writeDouble(8, mean_);
+        }
+        if (((bitField0_ & 0x00000100) == 0x00000100)) {
+          output.writeDouble(9, min_);
+        }
+        if (((bitField0_ & 0x00000200) == 0x00000200)) {
+          output.writeDouble(10, std_);
+        }
+        if (((bitField0_ & 0x00000400) == 0x00000400)) {
+          output.writeDouble(11, median_);
+        }
+        if (((bitField0_ & 0x00000800) == 0x00000800)) {
+          output.writeDouble(12, percentile75_);
+        }
+        if (((bitField0_ & 0x00001000) == 0x00001000)) {
+          output.writeDouble(13, percentile95_);
+        }
+        if (((bitField0_ & 0x00002000) == 0x00002000)) {
+          output.writeDouble(14, percentile98_);
+        }
+        if (((bitField0_ & 0x00004000) == 0x00004000)) {
+          output.writeDouble(15, percentile99_);
+        }
+        if (((bitField0_ & 0x00008000) == 0x00008000)) {
+          output.writeDouble(16, percentile999_);
+        }
+        if (((bitField0_ & 0x00010000) == 0x00010000)) {
+          output.writeBytes(17, hdrHistogram_);
+        }
+        if (((bitField0_ & 0x00020000) == 0x00020000)) {
+          output.writeUInt32(18, nameId_);
+        }
+        for (int i = 0; i < quantile_.size(); i++) {
+          output.writeMessage(19, quantile_.get(i));
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      private int memoizedSerializedSize = -1;
+      public int getSerializedSize() {
+        int size = memoizedSerializedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(1, getNameBytes());
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeDoubleSize(2, oneMinuteRate_);
+        }
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeDoubleSize(3, fiveMinuteRate_);
+        }
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeDoubleSize(4, fifteenMinuteRate_);
+        }
+        if (((bitField0_ & 0x00000010) == 0x00000010)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeDoubleSize(5, meanRate_);
+        }
+        if (((bitField0_ & 0x00000020) == 0x00000020)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeUInt64Size(6, count_);
+        }
+        if (((bitField0_ & 0x00000040) == 0x00000040)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeDoubleSize(7, max_);
+        }
+        if (((bitField0_ & 0x00000080) == 0x00000080)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeDoubleSize(8, mean_);
+        }
+        if (((bitField0_ & 0x00000100) == 0x00000100)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeDoubleSize(9, min_);
+        }
+        if (((bitField0_ & 0x00000200) == 0x00000200)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeDoubleSize(10, std_);
+        }
+        if (((bitField0_ & 0x00000400) == 0x00000400)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeDoubleSize(11, median_);
+        }
+        if (((bitField0_ & 0x00000800) == 0x00000800)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeDoubleSize(12, percentile75_);
+        }
+        if (((bitField0_ & 0x00001000) == 0x00001000)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeDoubleSize(13, percentile95_);
+        }
+        if (((bitField0_ & 0x00002000) == 0x00002000)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeDoubleSize(14, percentile98_);
+        }
+        if (((bitField0_ & 0x00004000) == 0x00004000)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeDoubleSize(15, percentile99_);
+        }
+        if (((bitField0_ & 0x00008000) == 0x00008000)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeDoubleSize(16, percentile999_);
+        }
+        if (((bitField0_ & 0x00010000) == 0x00010000)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(17, hdrHistogram_);
+        }
+        if (((bitField0_ & 0x00020000) == 0x00020000)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeUInt32Size(18, nameId_);
+        }
+        for (int i = 0; i < quantile_.size(); i++) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(19, quantile_.get(i));
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSerializedSize = size;
+        return size;
+      }
+
+      private static final long serialVersionUID = 0L;
+      @java.lang.Override
+      protected java.lang.Object writeReplace()
+          throws java.io.ObjectStreamException {
+        return super.writeReplace();
+      }
+
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Timer parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Timer parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Timer parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Timer parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Timer parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Timer parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Timer parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input);
+      }
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Timer parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input, extensionRegistry);
+      }
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Timer parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Timer parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+
+      public static Builder newBuilder() { return Builder.create(); }
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder(org.attribyte.essem.proto.ReportProtos.EssemReport.Timer prototype) {
+        return newBuilder().mergeFrom(prototype);
+      }
+      public Builder toBuilder() { return newBuilder(this); }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code org.attribyte.essem.proto.EssemReport.Timer}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:org.attribyte.essem.proto.EssemReport.Timer)
+          org.attribyte.essem.proto.ReportProtos.EssemReport.TimerOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.attribyte.essem.proto.ReportProtos.internal_static_org_attribyte_essem_proto_EssemReport_Timer_descriptor;
+        }
+
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.attribyte.essem.proto.ReportProtos.internal_static_org_attribyte_essem_proto_EssemReport_Timer_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.attribyte.essem.proto.ReportProtos.EssemReport.Timer.class, org.attribyte.essem.proto.ReportProtos.EssemReport.Timer.Builder.class);
+        }
+
+        // Construct using org.attribyte.essem.proto.ReportProtos.EssemReport.Timer.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+            getQuantileFieldBuilder();
+          }
+        }
+        private static Builder create() {
+          return new Builder();
+        }
+
+        public Builder clear() {
+          super.clear();
+          name_ = "";
+          bitField0_ = (bitField0_ & ~0x00000001);
+          oneMinuteRate_ = 0D;
+          bitField0_ = (bitField0_ & ~0x00000002);
+          fiveMinuteRate_ = 0D;
+          bitField0_ = (bitField0_ & ~0x00000004);
+          fifteenMinuteRate_ = 0D;
+          bitField0_ = (bitField0_ & ~0x00000008);
+          meanRate_ = 0D;
+          bitField0_ = (bitField0_ & ~0x00000010);
+          count_ = 0L;
+          bitField0_ = (bitField0_ & ~0x00000020);
+          max_ = 0D;
+          bitField0_ = (bitField0_ & ~0x00000040);
+          mean_ = 0D;
+          bitField0_ = (bitField0_ & ~0x00000080);
+          min_ = 0D;
+          bitField0_ = (bitField0_ & ~0x00000100);
+          std_ = 0D;
+          bitField0_ = (bitField0_ & ~0x00000200);
+          median_ = 0D;
+          bitField0_ = (bitField0_ & ~0x00000400);
+          percentile75_ = 0D;
+          bitField0_ = (bitField0_ & ~0x00000800);
+          percentile95_ = 0D;
+          bitField0_ = (bitField0_ & ~0x00001000);
+          percentile98_ = 0D;
+          bitField0_ = (bitField0_ & ~0x00002000);
+          percentile99_ = 0D;
+          bitField0_ = (bitField0_ & ~0x00004000);
+          percentile999_ = 0D;
+          bitField0_ = (bitField0_ & ~0x00008000);
+          hdrHistogram_ = com.google.protobuf.ByteString.EMPTY;
+          bitField0_ = (bitField0_ & ~0x00010000);
+          nameId_ = 0;
+          bitField0_ = (bitField0_ & ~0x00020000);
+          if (quantileBuilder_ == null) {
+            quantile_ = java.util.Collections.emptyList();
+            bitField0_ = (bitField0_ & ~0x00040000);
+          } else {
+            quantileBuilder_.clear();
+          }
+          return this;
+        }
+
+        public Builder clone() {
+          return create().mergeFrom(buildPartial());
+        }
+
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.attribyte.essem.proto.ReportProtos.internal_static_org_attribyte_essem_proto_EssemReport_Timer_descriptor;
+        }
+
+        public org.attribyte.essem.proto.ReportProtos.EssemReport.Timer getDefaultInstanceForType() {
+          return org.attribyte.essem.proto.ReportProtos.EssemReport.Timer.getDefaultInstance();
+        }
+
+        public org.attribyte.essem.proto.ReportProtos.EssemReport.Timer build() {
+          org.attribyte.essem.proto.ReportProtos.EssemReport.Timer result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        public org.attribyte.essem.proto.ReportProtos.EssemReport.Timer buildPartial() {
+          org.attribyte.essem.proto.ReportProtos.EssemReport.Timer result = new org.attribyte.essem.proto.ReportProtos.EssemReport.Timer(this);
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+            to_bitField0_ |= 0x00000001;
+          }
+          result.name_ = name_;
+          if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+            to_bitField0_ |= 0x00000002;
+          }
+          result.oneMinuteRate_ = oneMinuteRate_;
+          if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+            to_bitField0_ |= 0x00000004;
+          }
+          result.fiveMinuteRate_ = fiveMinuteRate_;
+          if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+            to_bitField0_ |= 0x00000008;
+          }
+          result.fifteenMinuteRate_ = fifteenMinuteRate_;
+          if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+            to_bitField0_ |= 0x00000010;
+          }
+          result.meanRate_ = meanRate_;
+          if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+            to_bitField0_ |= 0x00000020;
+          }
+          result.count_ = count_;
+          if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+            to_bitField0_ |= 0x00000040;
+          }
+          result.max_ = max_;
+          if (((from_bitField0_ & 0x00000080) == 0x00000080)) {
+            to_bitField0_ |= 0x00000080;
+          }
+          result.mean_ = mean_;
+          if (((from_bitField0_ & 0x00000100) == 0x00000100)) {
+            to_bitField0_ |= 0x00000100;
+          }
+          result.min_ = min_;
+          if (((from_bitField0_ & 0x00000200) == 0x00000200)) {
+            to_bitField0_ |= 0x00000200;
+          }
+          result.std_ = std_;
+          if (((from_bitField0_ & 0x00000400) == 0x00000400)) {
+            to_bitField0_ |= 0x00000400;
+          }
+          result.median_ = median_;
+          if (((from_bitField0_ & 0x00000800) == 0x00000800)) {
+            to_bitField0_ |= 0x00000800;
+          }
+          result.percentile75_ = percentile75_;
+          if (((from_bitField0_ & 0x00001000) == 0x00001000)) {
+            to_bitField0_ |= 0x00001000;
+          }
+          result.percentile95_ = percentile95_;
+          if (((from_bitField0_ & 0x00002000) == 0x00002000)) {
+            to_bitField0_ |= 0x00002000;
+          }
+          result.percentile98_ = percentile98_;
+          if (((from_bitField0_ & 0x00004000) == 0x00004000)) {
+            to_bitField0_ |= 0x00004000;
+          }
+          result.percentile99_ = percentile99_;
+          if (((from_bitField0_ & 0x00008000) == 0x00008000)) {
+            to_bitField0_ |= 0x00008000;
+          }
+          result.percentile999_ = percentile999_;
+          if (((from_bitField0_ & 0x00010000) == 0x00010000)) {
+            to_bitField0_ |= 0x00010000;
+          }
+          result.hdrHistogram_ = hdrHistogram_;
+          if (((from_bitField0_ & 0x00020000) == 0x00020000)) {
+            to_bitField0_ |= 0x00020000;
+          }
+          result.nameId_ = nameId_;
+          if (quantileBuilder_ == null) {
+            if (((bitField0_ & 0x00040000) == 0x00040000)) {
+              quantile_ = java.util.Collections.unmodifiableList(quantile_);
+              bitField0_ = (bitField0_ & ~0x00040000);
+            }
+            result.quantile_ = quantile_;
+          } else {
+            result.quantile_ = quantileBuilder_.build();
+          }
+          result.bitField0_ = to_bitField0_;
+          onBuilt();
+          return result;
+        }
+
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.attribyte.essem.proto.ReportProtos.EssemReport.Timer) {
+            return mergeFrom((org.attribyte.essem.proto.ReportProtos.EssemReport.Timer)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.attribyte.essem.proto.ReportProtos.EssemReport.Timer other) {
+          if (other == org.attribyte.essem.proto.ReportProtos.EssemReport.Timer.getDefaultInstance()) return this;
+          if (other.hasName()) {
+            bitField0_ |= 0x00000001;
+            name_ = other.name_;
+            onChanged();
+          }
+          if (other.hasOneMinuteRate()) {
+            setOneMinuteRate(other.getOneMinuteRate());
+          }
+          if (other.hasFiveMinuteRate()) {
+            setFiveMinuteRate(other.getFiveMinuteRate());
+          }
+          if (other.hasFifteenMinuteRate()) {
+            setFifteenMinuteRate(other.getFifteenMinuteRate());
+          }
+          if (other.hasMeanRate()) {
+            setMeanRate(other.getMeanRate());
+          }
+          if (other.hasCount()) {
+            setCount(other.getCount());
+          }
+          if (other.hasMax()) {
+            setMax(other.getMax());
+          }
+          if (other.hasMean()) {
+            setMean(other.getMean());
+          }
+          if (other.hasMin()) {
+            setMin(other.getMin());
+          }
+          if (other.hasStd()) {
+            setStd(other.getStd());
+          }
+          if (other.hasMedian()) {
+            setMedian(other.getMedian());
+          }
+          if (other.hasPercentile75()) {
+            setPercentile75(other.getPercentile75());
+          }
+          if (other.hasPercentile95()) {
+            setPercentile95(other.getPercentile95());
+          }
+          if (other.hasPercentile98()) {
+            setPercentile98(other.getPercentile98());
+          }
+          if (other.hasPercentile99()) {
+            setPercentile99(other.getPercentile99());
+          }
+          if (other.hasPercentile999()) {
+            setPercentile999(other.getPercentile999());
+          }
+          if (other.hasHdrHistogram()) {
+            setHdrHistogram(other.getHdrHistogram());
+          }
+          if (other.hasNameId()) {
+            setNameId(other.getNameId());
+          }
+          if (quantileBuilder_ == null) {
+            if (!other.quantile_.isEmpty()) {
+              if (quantile_.isEmpty()) {
+                quantile_ = other.quantile_;
+                bitField0_ = (bitField0_ & ~0x00040000);
+              } else {
+                ensureQuantileIsMutable();
+                quantile_.addAll(other.quantile_);
+              }
+              onChanged();
+            }
+          } else {
+            if (!other.quantile_.isEmpty()) {
+              if (quantileBuilder_.isEmpty()) {
+                quantileBuilder_.dispose();
+                quantileBuilder_ = null;
+                quantile_ = other.quantile_;
+                bitField0_ = (bitField0_ & ~0x00040000);
+                quantileBuilder_ = 
+                  com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                     getQuantileFieldBuilder() : null;
+              } else {
+                quantileBuilder_.addAllMessages(other.quantile_);
+              }
+            }
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          return this;
+        }
+
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          org.attribyte.essem.proto.ReportProtos.EssemReport.Timer parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (org.attribyte.essem.proto.ReportProtos.EssemReport.Timer) e.getUnfinishedMessage();
+            throw e;
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+        private int bitField0_;
+
+        private java.lang.Object name_ = "";
+        /**
+         * <code>optional string name = 1;</code>
+         */
+        public boolean hasName() {
+          return ((bitField0_ & 0x00000001) == 0x00000001);
+        }
+        /**
+         * <code>optional string name = 1;</code>
+         */
+        public java.lang.String getName() {
+          java.lang.Object ref = name_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              name_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string name = 1;</code>
+         */
+        public com.google.protobuf.ByteString
+            getNameBytes() {
+          java.lang.Object ref = name_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            name_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string name = 1;</code>
+         */
+        public Builder setName(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          name_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string name = 1;</code>
+         */
+        public Builder clearName() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          name_ = getDefaultInstance().getName();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string name = 1;</code>
+         */
+        public Builder setNameBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          name_ = value;
+          onChanged();
+          return this;
+        }
+
+        private double oneMinuteRate_ ;
+        /**
+         * <code>optional double oneMinuteRate = 2;</code>
+         */
+        public boolean hasOneMinuteRate() {
+          return ((bitField0_ & 0x00000002) == 0x00000002);
+        }
+        /**
+         * <code>optional double oneMinuteRate = 2;</code>
+         */
+        public double getOneMinuteRate() {
+          return oneMinuteRate_;
+        }
+        /**
+         * <code>optional double oneMinuteRate = 2;</code>
+         */
+        public Builder setOneMinuteRate(double value) {
+          bitField0_ |= 0x00000002;
+          oneMinuteRate_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional double oneMinuteRate = 2;</code>
+         */
+        public Builder clearOneMinuteRate() {
+          bitField0_ = (bitField0_ & ~0x00000002);
+          oneMinuteRate_ = 0D;
+          onChanged();
+          return this;
+        }
+
+        private double fiveMinuteRate_ ;
+        /**
+         * <code>optional double fiveMinuteRate = 3;</code>
+         */
+        public boolean hasFiveMinuteRate() {
+          return ((bitField0_ & 0x00000004) == 0x00000004);
+        }
+        /**
+         * <code>optional double fiveMinuteRate = 3;</code>
+         */
+        public double getFiveMinuteRate() {
+          return fiveMinuteRate_;
+        }
+        /**
+         * <code>optional double fiveMinuteRate = 3;</code>
+         */
+        public Builder setFiveMinuteRate(double value) {
+          bitField0_ |= 0x00000004;
+          fiveMinuteRate_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional double fiveMinuteRate = 3;</code>
+         */
+        public Builder clearFiveMinuteRate() {
+          bitField0_ = (bitField0_ & ~0x00000004);
+          fiveMinuteRate_ = 0D;
+          onChanged();
+          return this;
+        }
+
+        private double fifteenMinuteRate_ ;
+        /**
+         * <code>optional double fifteenMinuteRate = 4;</code>
+         */
+        public boolean hasFifteenMinuteRate() {
+          return ((bitField0_ & 0x00000008) == 0x00000008);
         }
-        if (((bitField0_ & 0x00000002) == 0x00000002)) {
-          output.writeDouble(2, oneMinuteRate_);
+        /**
+         * <code>optional double fifteenMinuteRate = 4;</code>
+         */
+        public double getFifteenMinuteRate() {
+          return fifteenMinuteRate_;
         }
-        if (((bitField0_ & 0x00000004) == 0x00000004)) {
-          output.writeDouble(3, fiveMinuteRate_);
+        /**
+         * <code>optional double fifteenMinuteRate = 4;</code>
+         */
+        public Builder setFifteenMinuteRate(double value) {
+          bitField0_ |= 0x00000008;
+          fifteenMinuteRate_ = value;
+          onChanged();
+          return this;
         }
-        if (((bitField0_ & 0x00000008) == 0x00000008)) {
-          output.writeDouble(4, fifteenMinuteRate_);
+        /**
+         * <code>optional double fifteenMinuteRate = 4;</code>
+         */
+        public Builder clearFifteenMinuteRate() {
+          bitField0_ = (bitField0_ & ~0x00000008);
+          fifteenMinuteRate_ = 0D;
+          onChanged();
+          return this;
         }
-        if (((bitField0_ & 0x00000010) == 0x00000010)) {
-          output.writeDouble(5, meanRate_);
+
+        private double meanRate_ ;
+        /**
+         * <code>optional double meanRate = 5;</code>
+         */
+        public boolean hasMeanRate() {
+          return ((bitField0_ & 0x00000010) == 0x00000010);
         }
-        if (((bitField0_ & 0x00000020) == 0x00000020)) {
-          output.writeUInt64(6, count_);
+        /**
+         * <code>optional double meanRate = 5;</code>
+         */
+        public double getMeanRate() {
+          return meanRate_;
         }
-        if (((bitField0_ & 0x00000040) == 0x00000040)) {
-          output.writeDouble(7, max_);
+        /**
+         * <code>optional double meanRate = 5;</code>
+         */
+        public Builder setMeanRate(double value) {
+          bitField0_ |= 0x00000010;
+          meanRate_ = value;
+          onChanged();
+          return this;
         }
-        if (((bitField0_ & 0x00000080) == 0x00000080)) {
-          output.writeDouble(8, mean_);
+        /**
+         * <code>optional double meanRate = 5;</code>
+         */
+        public Builder clearMeanRate() {
+          bitField0_ = (bitField0_ & ~0x00000010);
+          meanRate_ = 0D;
+          onChanged();
+          return this;
         }
-        if (((bitField0_ & 0x00000100) == 0x00000100)) {
-          output.writeDouble(9, min_);
+
+        private long count_ ;
+        /**
+         * <code>optional uint64 count = 6;</code>
+         */
+        public boolean hasCount() {
+          return ((bitField0_ & 0x00000020) == 0x00000020);
         }
-        if (((bitField0_ & 0x00000200) == 0x00000200)) {
-          output.writeDouble(10, std_);
+        /**
+         * <code>optional uint64 count = 6;</code>
+         */
+        public long getCount() {
+          return count_;
         }
-        if (((bitField0_ & 0x00000400) == 0x00000400)) {
-          output.writeDouble(11, median_);
+        /**
+         * <code>optional uint64 count = 6;</code>
+         */
+        public Builder setCount(long value) {
+          bitField0_ |= 0x00000020;
+          count_ = value;
+          onChanged();
+          return this;
         }
-        if (((bitField0_ & 0x00000800) == 0x00000800)) {
-          output.writeDouble(12, percentile75_);
+        /**
+         * <code>optional uint64 count = 6;</code>
+         */
+        public Builder clearCount() {
+          bitField0_ = (bitField0_ & ~0x00000020);
+          count_ = 0L;
+          onChanged();
+          return this;
         }
-        if (((bitField0_ & 0x00001000) == 0x00001000)) {
-          output.writeDouble(13, percentile95_);
+
+        private double max_ ;
+        /**
+         * <code>optional double max = 7;</code>
+         */
+        public boolean hasMax() {
+          return ((bitField0_ & 0x00000040) == 0x00000040);
         }
-        if (((bitField0_ & 0x00002000) == 0x00002000)) {
-          output.writeDouble(14, percentile98_);
+        /**
+         * <code>optional double max = 7;</code>
+         */
+        public double getMax() {
+          return max_;
         }
-        if (((bitField0_ & 0x00004000) == 0x00004000)) {
-          output.writeDouble(15, percentile99_);
+        /**
+         * <code>optional double max = 7;</code>
+         */
+        public Builder setMax(double value) {
+          bitField0_ |= 0x00000040;
+          max_ = value;
+          onChanged();
+          return this;
         }
-        if (((bitField0_ & 0x00008000) == 0x00008000)) {
-          output.writeDouble(16, percentile999_);
+        /**
+         * <code>optional double max = 7;</code>
+         */
+        public Builder clearMax() {
+          bitField0_ = (bitField0_ & ~0x00000040);
+          max_ = 0D;
+          onChanged();
+          return this;
         }
-        if (((bitField0_ & 0x00010000) == 0x00010000)) {
-          output.writeBytes(17, hdrHistogram_);
+
+        private double mean_ ;
+        /**
+         * <code>optional double mean = 8;</code>
+         */
+        public boolean hasMean() {
+          return ((bitField0_ & 0x00000080) == 0x00000080);
+        }
+        /**
+         * <code>optional double mean = 8;</code>
+         */
+        public double getMean() {
+          return mean_;
+        }
+        /**
+         * <code>optional double mean = 8;</code>
+         */
+        public Builder setMean(double value) {
+          bitField0_ |= 0x00000080;
+          mean_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional double mean = 8;</code>
+         */
+        public Builder clearMean() {
+          bitField0_ = (bitField0_ & ~0x00000080);
+          mean_ = 0D;
+          onChanged();
+          return this;
         }
-        getUnknownFields().writeTo(output);
-      }
 
-      private int memoizedSerializedSize = -1;
-      public int getSerializedSize() {
-        int size = memoizedSerializedSize;
-        if (size != -1) return size;
+        private double min_ ;
+        /**
+         * <code>optional double min = 9;</code>
+         */
+        public boolean hasMin() {
+          return ((bitField0_ & 0x00000100) == 0x00000100);
+        }
+        /**
+         * <code>optional double min = 9;</code>
+         */
+        public double getMin() {
+          return min_;
+        }
+        /**
+         * <code>optional double min = 9;</code>
+         */
+        public Builder setMin(double value) {
+          bitField0_ |= 0x00000100;
+          min_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional double min = 9;</code>
+         */
+        public Builder clearMin() {
+          bitField0_ = (bitField0_ & ~0x00000100);
+          min_ = 0D;
+          onChanged();
+          return this;
+        }
 
-        size = 0;
-        if (((bitField0_ & 0x00000001) == 0x00000001)) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeBytesSize(1, getNameBytes());
+        private double std_ ;
+        /**
+         * <code>optional double std = 10;</code>
+         */
+        public boolean hasStd() {
+          return ((bitField0_ & 0x00000200) == 0x00000200);
+        }
+        /**
+         * <code>optional double std = 10;</code>
+         */
+        public double getStd() {
+          return std_;
+        }
+        /**
+         * <code>optional double std = 10;</code>
+         */
+        public Builder setStd(double value) {
+          bitField0_ |= 0x00000200;
+          std_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional double std = 10;</code>
+         */
+        public Builder clearStd() {
+          bitField0_ = (bitField0_ & ~0x00000200);
+          std_ = 0D;
+          onChanged();
+          return this;
         }
-        if (((bitField0_ & 0x00000002) == 0x00000002)) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeDoubleSize(2, oneMinuteRate_);
+
+        private double median_ ;
+        /**
+         * <code>optional double median = 11;</code>
+         */
+        public boolean hasMedian() {
+          return ((bitField0_ & 0x00000400) == 0x00000400);
         }
-        if (((bitField0_ & 0x00000004) == 0x00000004)) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeDoubleSize(3, fiveMinuteRate_);
+        /**
+         * <code>optional double median = 11;</code>
+         */
+        public double getMedian() {
+          return median_;
         }
-        if (((bitField0_ & 0x00000008) == 0x00000008)) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeDoubleSize(4, fifteenMinuteRate_);
+        /**
+         * <code>optional double median = 11;</code>
+         */
+        public Builder setMedian(double value) {
+          bitField0_ |= 0x00000400;
+          median_ = value;
+          onChanged();
+          return this;
         }
-        if (((bitField0_ & 0x00000010) == 0x00000010)) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeDoubleSize(5, meanRate_);
+        /**
+         * <code>optional double median = 11;</code>
+         */
+        public Builder clearMedian() {
+          bitField0_ = (bitField0_ & ~0x00000400);
+          median_ = 0D;
+          onChanged();
+          return this;
         }
-        if (((bitField0_ & 0x00000020) == 0x00000020)) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeUInt64Size(6, count_);
+
+        private double percentile75_ ;
+        /**
+         * <code>optional double percentile75 = 12;</code>
+         */
+        public boolean hasPercentile75() {
+          return ((bitField0_ & 0x00000800) == 0x00000800);
         }
-        if (((bitField0_ & 0x00000040) == 0x00000040)) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeDoubleSize(7, max_);
+        /**
+         * <code>optional double percentile75 = 12;</code>
+         */
+        public double getPercentile75() {
+          return percentile75_;
         }
-        if (((bitField0_ & 0x00000080) == 0x00000080)) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeDoubleSize(8, mean_);
+        /**
+         * <code>optional double percentile75 = 12;</code>
+         */
+        public Builder setPercentile75(double value) {
+          bitField0_ |= 0x00000800;
+          percentile75_ = value;
+          onChanged();
+          return this;
         }
-        if (((bitField0_ & 0x00000100) == 0x00000100)) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeDoubleSize(9, min_);
+        /**
+         * <code>optional double percentile75 = 12;</code>
+         */
+        public Builder clearPercentile75() {
+          bitField0_ = (bitField0_ & ~0x00000800);
+          percentile75_ = 0D;
+          onChanged();
+          return this;
         }
-        if (((bitField0_ & 0x00000200) == 0x00000200)) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeDoubleSize(10, std_);
+
+        private double percentile95_ ;
+        /**
+         * <code>optional double percentile95 = 13;</code>
+         */
+        public boolean hasPercentile95() {
+          return ((bitField0_ & 0x00001000) == 0x00001000);
         }
-        if (((bitField0_ & 0x00000400) == 0x00000400)) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeDoubleSize(11, median_);
+        /**
+         * <code>optional double percentile95 = 13;</code>
+         */
+        public double getPercentile95() {
+          return percentile95_;
         }
-        if (((bitField0_ & 0x00000800) == 0x00000800)) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeDoubleSize(12, percentile75_);
+        /**
+         * <code>optional double percentile95 = 13;</code>
+         */
+        public Builder setPercentile95(double value) {
+          bitField0_ |= 0x00001000;
+          percentile95_ = value;
+          onChanged();
+          return this;
         }
-        if (((bitField0_ & 0x00001000) == 0x00001000)) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeDoubleSize(13, percentile95_);
+        /**
+         * <code>optional double percentile95 = 13;</code>
+         */
+        public Builder clearPercentile95() {
+          bitField0_ = (bitField0_ & ~0x00001000);
+          percentile95_ = 0D;
+          onChanged();
+          return this;
         }
-        if (((bitField0_ & 0x00002000) == 0x00002000)) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeDoubleSize(14, percentile98_);
+
+        private double percentile98_ ;
+        /**
+         * <code>optional double percentile98 = 14;</code>
+         */
+        public boolean hasPercentile98() {
+          return ((bitField0_ & 0x00002000) == 0x00002000);
         }
-        if (((bitField0_ & 0x00004000) == 0x00004000)) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeDoubleSize(15, percentile99_);
+        /**
+         * <code>optional double percentile98 = 14;</code>
+         */
+        public double getPercentile98() {
+          return percentile98_;
         }
-        if (((bitField0_ & 0x00008000) == 0x00008000)) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeDoubleSize(16, percentile999_);
+        /**
+         * <code>optional double percentile98 = 14;</code>
+         */
+        public Builder setPercentile98(double value) {
+          bitField0_ |= 0x00002000;
+          percentile98_ = value;
+          onChanged();
+          return this;
         }
-        if (((bitField0_ & 0x00010000) == 0x00010000)) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeBytesSize(17, hdrHistogram_);
+        /**
+         * <code>optional double percentile98 = 14;</code>
+         */
+        public Builder clearPercentile98() {
+          bitField0_ = (bitField0_ & ~0x00002000);
+          percentile98_ = 0D;
+          onChanged();
+          return this;
         }
-        size += getUnknownFields().getSerializedSize();
-        memoizedSerializedSize = size;
-        return size;
-      }
-
-      private static final long serialVersionUID = 0L;
-      @java.lang.Override
-      protected java.lang.Object writeReplace()
-          throws java.io.ObjectStreamException {
-        return super.writeReplace();
-      }
-
-      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Timer parseFrom(
-          com.google.protobuf.ByteString data)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data);
-      }
-      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Timer parseFrom(
-          com.google.protobuf.ByteString data,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data, extensionRegistry);
-      }
-      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Timer parseFrom(byte[] data)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data);
-      }
-      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Timer parseFrom(
-          byte[] data,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data, extensionRegistry);
-      }
-      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Timer parseFrom(java.io.InputStream input)
-          throws java.io.IOException {
-        return PARSER.parseFrom(input);
-      }
-      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Timer parseFrom(
-          java.io.InputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        return PARSER.parseFrom(input, extensionRegistry);
-      }
-      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Timer parseDelimitedFrom(java.io.InputStream input)
-          throws java.io.IOException {
-        return PARSER.parseDelimitedFrom(input);
-      }
-      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Timer parseDelimitedFrom(
-          java.io.InputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        return PARSER.parseDelimitedFrom(input, extensionRegistry);
-      }
-      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Timer parseFrom(
-          com.google.protobuf.CodedInputStream input)
-          throws java.io.IOException {
-        return PARSER.parseFrom(input);
-      }
-      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Timer parseFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        return PARSER.parseFrom(input, extensionRegistry);
-      }
-
-      public static Builder newBuilder() { return Builder.create(); }
-      public Builder newBuilderForType() { return newBuilder(); }
-      public static Builder newBuilder(org.attribyte.essem.proto.ReportProtos.EssemReport.Timer prototype) {
-        return newBuilder().mergeFrom(prototype);
-      }
-      public Builder toBuilder() { return newBuilder(this); }
 
-      @java.lang.Override
-      protected Builder newBuilderForType(
-          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-        Builder builder = new Builder(parent);
-        return builder;
-      }
-      /**
-       * Protobuf type {@code org.attribyte.essem.proto.EssemReport.Timer}
-       */
-      public static final class Builder extends
-          com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-          // @@protoc_insertion_point(builder_implements:org.attribyte.essem.proto.EssemReport.Timer)
-          org.attribyte.essem.proto.ReportProtos.EssemReport.TimerOrBuilder {
-        public static final com.google.protobuf.Descriptors.Descriptor
-            getDescriptor() {
-          return org.attribyte.essem.proto.ReportProtos.internal_static_org_attribyte_essem_proto_EssemReport_Timer_descriptor;
+        private double percentile99_ ;
+        /**
+         * <code>optional double percentile99 = 15;</code>
+         */
+        public boolean hasPercentile99() {
+          return ((bitField0_ & 0x00004000) == 0x00004000);
+        }
+        /**
+         * <code>optional double percentile99 = 15;</code>
+         */
+        public double getPercentile99() {
+          return percentile99_;
         }
-
-        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-            internalGetFieldAccessorTable() {
-          return org.attribyte.essem.proto.ReportProtos.internal_static_org_attribyte_essem_proto_EssemReport_Timer_fieldAccessorTable
-              .ensureFieldAccessorsInitialized(
-                  org.attribyte.essem.proto.ReportProtos.EssemReport.Timer.class, org.attribyte.essem.proto.ReportProtos.EssemReport.Timer.Builder.class);
+        /**
+         * <code>optional double percentile99 = 15;</code>
+         */
+        public Builder setPercentile99(double value) {
+          bitField0_ |= 0x00004000;
+          percentile99_ = value;
+          onChanged();
+          return this;
         }
-
-        // Construct using org.attribyte.essem.proto.ReportProtos.EssemReport.Timer.newBuilder()
-        private Builder() {
-          maybeForceBuilderInitialization();
+        /**
+         * <code>optional double percentile99 = 15;</code>
+         */
+        public Builder clearPercentile99() {
+          bitField0_ = (bitField0_ & ~0x00004000);
+          percentile99_ = 0D;
+          onChanged();
+          return this;
         }
 
-        private Builder(
-            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-          super(parent);
-          maybeForceBuilderInitialization();
+        private double percentile999_ ;
+        /**
+         * <code>optional double percentile999 = 16;</code>
+         */
+        public boolean hasPercentile999() {
+          return ((bitField0_ & 0x00008000) == 0x00008000);
         }
-        private void maybeForceBuilderInitialization() {
-          if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-          }
+        /**
+         * <code>optional double percentile999 = 16;</code>
+         */
+        public double getPercentile999() {
+          return percentile999_;
         }
-        private static Builder create() {
-          return new Builder();
+        /**
+         * <code>optional double percentile999 = 16;</code>
+         */
+        public Builder setPercentile999(double value) {
+          bitField0_ |= 0x00008000;
+          percentile999_ = value;
+          onChanged();
+          return this;
         }
-
-        public Builder clear() {
-          super.clear();
-          name_ = "";
-          bitField0_ = (bitField0_ & ~0x00000001);
-          oneMinuteRate_ = 0D;
-          bitField0_ = (bitField0_ & ~0x00000002);
-          fiveMinuteRate_ = 0D;
-          bitField0_ = (bitField0_ & ~0x00000004);
-          fifteenMinuteRate_ = 0D;
-          bitField0_ = (bitField0_ & ~0x00000008);
-          meanRate_ = 0D;
-          bitField0_ = (bitField0_ & ~0x00000010);
-          count_ = 0L;
-          bitField0_ = (bitField0_ & ~0x00000020);
-          max_ = 0D;
-          bitField0_ = (bitField0_ & ~0x00000040);
-          mean_ = 0D;
-          bitField0_ = (bitField0_ & ~0x00000080);
-          min_ = 0D;
-          bitField0_ = (bitField0_ & ~0x00000100);
-          std_ = 0D;
-          bitField0_ = (bitField0_ & ~0x00000200);
-          median_ = 0D;
-          bitField0_ = (bitField0_ & ~0x00000400);
-          percentile75_ = 0D;
-          bitField0_ = (bitField0_ & ~0x00000800);
-          percentile95_ = 0D;
-          bitField0_ = (bitField0_ & ~0x00001000);
-          percentile98_ = 0D;
-          bitField0_ = (bitField0_ & ~0x00002000);
-          percentile99_ = 0D;
-          bitField0_ = (bitField0_ & ~0x00004000);
-          percentile999_ = 0D;
+        /**
+         * <code>optional double percentile999 = 16;</code>
+         */
+        public Builder clearPercentile999() {
           bitField0_ = (bitField0_ & ~0x00008000);
-          hdrHistogram_ = com.google.protobuf.ByteString.EMPTY;
-          bitField0_ = (bitField0_ & ~0x00010000);
+          percentile999_ = 0D;
+          onChanged();
           return this;
         }
 
-        public Builder clone() {
-          return create().mergeFrom(buildPartial());
+        private com.google.protobuf.ByteString hdrHistogram_ = com.google.protobuf.ByteString.EMPTY;
+        /**
+         * <code>optional bytes hdrHistogram = 17;</code>
+         */
+        public boolean hasHdrHistogram() {
+          return ((bitField0_ & 0x00010000) == 0x00010000);
         }
-
-        public com.google.protobuf.Descriptors.Descriptor
-            getDescriptorForType() {
-          return org.attribyte.essem.proto.ReportProtos.internal_static_org_attribyte_essem_proto_EssemReport_Timer_descriptor;
+        /**
+         * <code>optional bytes hdrHistogram = 17;</code>
+         */
+        public com.google.protobuf.ByteString getHdrHistogram() {
+          return hdrHistogram_;
         }
-
-        public org.attribyte.essem.proto.ReportProtos.EssemReport.Timer getDefaultInstanceForType() {
-          return org.attribyte.essem.proto.ReportProtos.EssemReport.Timer.getDefaultInstance();
+        /**
+         * <code>optional bytes hdrHistogram = 17;</code>
+         */
+        public Builder setHdrHistogram(com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00010000;
+          hdrHistogram_ = value;
+          onChanged();
+          return this;
         }
-
-        public org.attribyte.essem.proto.ReportProtos.EssemReport.Timer build() {
-          org.attribyte.essem.proto.ReportProtos.EssemReport.Timer result = buildPartial();
-          if (!result.isInitialized()) {
-            throw newUninitializedMessageException(result);
-          }
-          return result;
+        /**
+         * <code>optional bytes hdrHistogram = 17;</code>
+         */
+        public Builder clearHdrHistogram() {
+          bitField0_ = (bitField0_ & ~0x00010000);
+          hdrHistogram_ = getDefaultInstance().getHdrHistogram();
+          onChanged();
+          return this;
         }
 
-        public org.attribyte.essem.proto.ReportProtos.EssemReport.Timer buildPartial() {
-          org.attribyte.essem.proto.ReportProtos.EssemReport.Timer result = new org.attribyte.essem.proto.ReportProtos.EssemReport.Timer(this);
-          int from_bitField0_ = bitField0_;
-          int to_bitField0_ = 0;
-          if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
-            to_bitField0_ |= 0x00000001;
-          }
-          result.name_ = name_;
-          if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
-            to_bitField0_ |= 0x00000002;
-          }
-          result.oneMinuteRate_ = oneMinuteRate_;
-          if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
-            to_bitField0_ |= 0x00000004;
-          }
-          result.fiveMinuteRate_ = fiveMinuteRate_;
-          if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
-            to_bitField0_ |= 0x00000008;
-          }
-          result.fifteenMinuteRate_ = fifteenMinuteRate_;
-          if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
-            to_bitField0_ |= 0x00000010;
-          }
-          result.meanRate_ = meanRate_;
-          if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
-            to_bitField0_ |= 0x00000020;
-          }
-          result.count_ = count_;
-          if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
-            to_bitField0_ |= 0x00000040;
-          }
-          result.max_ = max_;
-          if (((from_bitField0_ & 0x00000080) == 0x00000080)) {
-            to_bitField0_ |= 0x00000080;
-          }
-          result.mean_ = mean_;
-          if (((from_bitField0_ & 0x00000100) == 0x00000100)) {
-            to_bitField0_ |= 0x00000100;
-          }
-          result.min_ = min_;
-          if (((from_bitField0_ & 0x00000200) == 0x00000200)) {
-            to_bitField0_ |= 0x00000200;
-          }
-          result.std_ = std_;
-          if (((from_bitField0_ & 0x00000400) == 0x00000400)) {
-            to_bitField0_ |= 0x00000400;
-          }
-          result.median_ = median_;
-          if (((from_bitField0_ & 0x00000800) == 0x00000800)) {
-            to_bitField0_ |= 0x00000800;
-          }
-          result.percentile75_ = percentile75_;
-          if (((from_bitField0_ & 0x00001000) == 0x00001000)) {
-            to_bitField0_ |= 0x00001000;
-          }
-          result.percentile95_ = percentile95_;
-          if (((from_bitField0_ & 0x00002000) == 0x00002000)) {
-            to_bitField0_ |= 0x00002000;
-          }
-          result.percentile98_ = percentile98_;
-          if (((from_bitField0_ & 0x00004000) == 0x00004000)) {
-            to_bitField0_ |= 0x00004000;
-          }
-          result.percentile99_ = percentile99_;
-          if (((from_bitField0_ & 0x00008000) == 0x00008000)) {
-            to_bitField0_ |= 0x00008000;
-          }
-          result.percentile999_ = percentile999_;
-          if (((from_bitField0_ & 0x00010000) == 0x00010000)) {
-            to_bitField0_ |= 0x00010000;
-          }
-          result.hdrHistogram_ = hdrHistogram_;
-          result.bitField0_ = to_bitField0_;
-          onBuilt();
-          return result;
+        private int nameId_ ;
+        /**
+         * <code>optional uint32 nameId = 18;</code>
+         */
+        public boolean hasNameId() {
+          return ((bitField0_ & 0x00020000) == 0x00020000);
+        }
+        /**
+         * <code>optional uint32 nameId = 18;</code>
+         */
+        public int getNameId() {
+          return nameId_;
+        }
+        /**
+         * <code>optional uint32 nameId = 18;</code>
+         */
+        public Builder setNameId(int value) {
+          bitField0_ |= 0x00020000;
+          nameId_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional uint32 nameId = 18;</code>
+         */
+        public Builder clearNameId() {
+          bitField0_ = (bitField0_ & ~0x00020000);
+          nameId_ = 0;
+          onChanged();
+          return this;
         }
 
-        public Builder mergeFrom(com.google.protobuf.Message other) {
-          if (other instanceof org.attribyte.essem.proto.ReportProtos.EssemReport.Timer) {
-            return mergeFrom((org.attribyte.essem.proto.ReportProtos.EssemReport.Timer)other);
-          } else {
-            super.mergeFrom(other);
-            return this;
-          }
+        private java.util.List<org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile> quantile_ =
+          java.util.Collections.emptyList();
+        private void ensureQuantileIsMutable() {
+          if (!((bitField0_ & 0x00040000) == 0x00040000)) {
+            quantile_ = new java.util.ArrayList<org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile>(quantile_);
+            bitField0_ |= 0x00040000;
+           }
         }
 
-        public Builder mergeFrom(org.attribyte.essem.proto.ReportProtos.EssemReport.Timer other) {
-          if (other == org.attribyte.essem.proto.ReportProtos.EssemReport.Timer.getDefaultInstance()) return this;
-          if (other.hasName()) {
-            bitField0_ |= 0x00000001;
-            name_ = other.name_;
-            onChanged();
-          }
-          if (other.hasOneMinuteRate()) {
-            setOneMinuteRate(other.getOneMinuteRate());
-          }
-          if (other.hasFiveMinuteRate()) {
-            setFiveMinuteRate(other.getFiveMinuteRate());
+        private com.google.protobuf.RepeatedFieldBuilder<
+            org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile, org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile.Builder, org.attribyte.essem.proto.ReportProtos.EssemReport.QuantileOrBuilder> quantileBuilder_;
+
+        /**
+         * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 19;</code>
+         */
+        public java.util.List<org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile> getQuantileList() {
+          if (quantileBuilder_ == null) {
+            return java.util.Collections.unmodifiableList(quantile_);
+          } else {
+            return quantileBuilder_.getMessageList();
           }
-          if (other.hasFifteenMinuteRate()) {
-            setFifteenMinuteRate(other.getFifteenMinuteRate());
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 19;</code>
+         */
+        public int getQuantileCount() {
+          if (quantileBuilder_ == null) {
+            return quantile_.size();
+          } else {
+            return quantileBuilder_.getCount();
           }
-          if (other.hasMeanRate()) {
-            setMeanRate(other.getMeanRate());
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 19;</code>
+         */
+        public org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile getQuantile(int index) {
+          if (quantileBuilder_ == null) {
+            return quantile_.get(index);
+          } else {
+            return quantileBuilder_.getMessage(index);
           }
-          if (other.hasCount()) {
-            setCount(other.getCount());
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 19;</code>
+         */
+        public Builder setQuantile(
+            int index, org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile value) {
+          if (quantileBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureQuantileIsMutable();
+            quantile_.set(index, value);
+            onChanged();
+          } else {
+            quantileBuilder_.setMessage(index, value);
           }
-          if (other.hasMax()) {
-            setMax(other.getMax());
+          return this;
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 19;</code>
+         */
+        public Builder setQuantile(
+            int index, org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile.Builder builderForValue) {
+          if (quantileBuilder_ == null) {
+            ensureQuantileIsMutable();
+            quantile_.set(index, builderForValue.build());
+            onChanged();
+          } else {
+            quantileBuilder_.setMessage(index, builderForValue.build());
           }
-          if (other.hasMean()) {
-            setMean(other.getMean());
+          return this;
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 19;</code>
+         */
+        public Builder addQuantile(org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile value) {
+          if (quantileBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureQuantileIsMutable();
+            quantile_.add(value);
+            onChanged();
+          } else {
+            quantileBuilder_.addMessage(value);
           }
-          if (other.hasMin()) {
-            setMin(other.getMin());
+          return this;
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 19;</code>
+         */
+        public Builder addQuantile(
+            int index, org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile value) {
+          if (quantileBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureQuantileIsMutable();
+            quantile_.add(index, value);
+            onChanged();
+          } else {
+            quantileBuilder_.addMessage(index, value);
           }
-          if (other.hasStd()) {
-            setStd(other.getStd());
+          return this;
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 19;</code>
+         */
+        public Builder addQuantile(
+            org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile.Builder builderForValue) {
+          if (quantileBuilder_ == null) {
+            ensureQuantileIsMutable();
+            quantile_.add(builderForValue.build());
+            onChanged();
+          } else {
+            quantileBuilder_.addMessage(builderForValue.build());
           }
-          if (other.hasMedian()) {
-            setMedian(other.getMedian());
+          return this;
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 19;</code>
+         */
+        public Builder addQuantile(
+            int index, org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile.Builder builderForValue) {
+          if (quantileBuilder_ == null) {
+            ensureQuantileIsMutable();
+            quantile_.add(index, builderForValue.build());
+            onChanged();
+          } else {
+            quantileBuilder_.addMessage(index, builderForValue.build());
           }
-          if (other.hasPercentile75()) {
-            setPercentile75(other.getPercentile75());
+          return this;
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 19;</code>
+         */
+        public Builder addAllQuantile(
+            java.lang.Iterable<? extends org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile> values) {
+          if (quantileBuilder_ == null) {
+            ensureQuantileIsMutable();
+            com.google.protobuf.AbstractMessageLite.Builder.addAll(
+                values, quantile_);
+            onChanged();
+          } else {
+            quantileBuilder_.addAllMessages(values);
           }
-          if (other.hasPercentile95()) {
-            setPercentile95(other.getPercentile95());
+          return this;
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 19;</code>
+         */
+        public Builder clearQuantile() {
+          if (quantileBuilder_ == null) {
+            quantile_ = java.util.Collections.emptyList();
+            bitField0_ = (bitField0_ & ~0x00040000);
+            onChanged();
+          } else {
+            quantileBuilder_.clear();
           }
-          if (other.hasPercentile98()) {
-            setPercentile98(other.getPercentile98());
+          return this;
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 19;</code>
+         */
+        public Builder removeQuantile(int index) {
+          if (quantileBuilder_ == null) {
+            ensureQuantileIsMutable();
+            quantile_.remove(index);
+            onChanged();
+          } else {
+            quantileBuilder_.remove(index);
           }
-          if (other.hasPercentile99()) {
-            setPercentile99(other.getPercentile99());
+          return this;
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 19;</code>
+         */
+        public org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile.Builder getQuantileBuilder(
+            int index) {
+          return getQuantileFieldBuilder().getBuilder(index);
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 19;</code>
+         */
+        public org.attribyte.essem.proto.ReportProtos.EssemReport.QuantileOrBuilder getQuantileOrBuilder(
+            int index) {
+          if (quantileBuilder_ == null) {
+            return quantile_.get(index);  } else {
+            return quantileBuilder_.getMessageOrBuilder(index);
           }
-          if (other.hasPercentile999()) {
-            setPercentile999(other.getPercentile999());
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 19;</code>
+         */
+        public java.util.List<? extends org.attribyte.essem.proto.ReportProtos.EssemReport.QuantileOrBuilder> 
+             getQuantileOrBuilderList() {
+          if (quantileBuilder_ != null) {
+            return quantileBuilder_.getMessageOrBuilderList();
+          } else {
+            return java.util.Collections.unmodifiableList(quantile_);
           }
-          if (other.hasHdrHistogram()) {
-            setHdrHistogram(other.getHdrHistogram());
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 19;</code>
+         */
+        public org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile.Builder addQuantileBuilder() {
+          return getQuantileFieldBuilder().addBuilder(
+              org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile.getDefaultInstance());
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 19;</code>
+         */
+        public org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile.Builder addQuantileBuilder(
+            int index) {
+          return getQuantileFieldBuilder().addBuilder(
+              index, org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile.getDefaultInstance());
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto.EssemReport.Quantile quantile = 19;</code>
+         */
+        public java.util.List<org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile.Builder> 
+             getQuantileBuilderList() {
+          return getQuantileFieldBuilder().getBuilderList();
+        }
+        private com.google.protobuf.RepeatedFieldBuilder<
+            org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile, org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile.Builder, org.attribyte.essem.proto.ReportProtos.EssemReport.QuantileOrBuilder> 
+            getQuantileFieldBuilder() {
+          if (quantileBuilder_ == null) {
+            quantileBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+                org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile, org.attribyte.essem.proto.ReportProtos.EssemReport.Quantile.Builder, org.attribyte.essem.proto.ReportProtos.EssemReport.QuantileOrBuilder>(
+                    quantile_,
+                    ((bitField0_ & 0x00040000) == 0x00040000),
+                    getParentForChildren(),
+                    isClean());
+            quantile_ = null;
           }
-          this.mergeUnknownFields(other.getUnknownFields());
-          return this;
+          return quantileBuilder_;
         }
 
-        public final boolean isInitialized() {
-          return true;
+        // @@protoc_insertion_point(builder_scope:org.attribyte.essem.proto.EssemReport.Timer)
+      }
+
+      static {
+        defaultInstance = new Timer(true);
+        defaultInstance.initFields();
+      }
+
+      // @@protoc_insertion_point(class_scope:org.attribyte.essem.proto.EssemReport.Timer)
+    }
+
+    public interface AlertOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:org.attribyte.essem.proto.EssemReport.Alert)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>optional string name = 1;</code>
+       */
+      boolean hasName();
+      /**
+       * <code>optional string name = 1;</code>
+       */
+      java.lang.String getName();
+      /**
+       * <code>optional string name = 1;</code>
+       */
+      com.google.protobuf.ByteString
+          getNameBytes();
+
+      /**
+       * <code>optional .org.attribyte.essem.proto.EssemReport.Alert.Severity severity = 2;</code>
+       */
+      boolean hasSeverity();
+      /**
+       * <code>optional .org.attribyte.essem.proto.EssemReport.Alert.Severity severity = 2;</code>
+       */
+      org.attribyte.essem.proto.ReportProtos.EssemReport.Alert.Severity getSeverity();
+
+      /**
+       * <code>optional string value = 3;</code>
+       */
+      boolean hasValue();
+      /**
+       * <code>optional string value = 3;</code>
+       */
+      java.lang.String getValue();
+      /**
+       * <code>optional string value = 3;</code>
+       */
+      com.google.protobuf.ByteString
+          getValueBytes();
+    }
+    /**
+     * Protobuf type {@code org.attribyte.essem.proto.EssemReport.Alert}
+     */
+    public static final class Alert extends
+        com.google.protobuf.GeneratedMessage implements
+        // @@protoc_insertion_point(message_implements:org.attribyte.essem.proto.EssemReport.Alert)
+        AlertOrBuilder {
+      // Use Alert.newBuilder() to construct.
+      private Alert(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+        super(builder);
+        this.unknownFields = builder.getUnknownFields();
+      }
+      private Alert(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+      private static final Alert defaultInstance;
+      public static Alert getDefaultInstance() {
+        return defaultInstance;
+      }
+
+      public Alert getDefaultInstanceForType() {
+        return defaultInstance;
+      }
+
+      private final com.google.protobuf.UnknownFieldSet unknownFields;
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+          getUnknownFields() {
+        return this.unknownFields;
+      }
+      private Alert(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        initFields();
+        int mutable_bitField0_ = 0;
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              default: {
+                if (!parseUnknownField(input, unknownFields,
+                                       extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+              case 10: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000001;
+                name_ = bs;
+                break;
+              }
+              case 16: {
+                int rawValue = input.readEnum();
+                org.attribyte.essem.proto.ReportProtos.EssemReport.Alert.Severity value = org.attribyte.essem.proto.ReportProtos.EssemReport.Alert.Severity.valueOf(rawValue);
+                if (value == null) {
+                  unknownFields.mergeVarintField(2, rawValue);
+                } else {
+                  bitField0_ |= 0x00000002;
+                  severity_ = value;
+                }
+                break;
+              }
+              case 26: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000004;
+                value_ = bs;
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(
+              e.getMessage()).setUnfinishedMessage(this);
+        } finally {
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
         }
+      }
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.attribyte.essem.proto.ReportProtos.internal_static_org_attribyte_essem_proto_EssemReport_Alert_descriptor;
+      }
 
-        public Builder mergeFrom(
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.attribyte.essem.proto.ReportProtos.internal_static_org_attribyte_essem_proto_EssemReport_Alert_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.attribyte.essem.proto.ReportProtos.EssemReport.Alert.class, org.attribyte.essem.proto.ReportProtos.EssemReport.Alert.Builder.class);
+      }
+
+      public static com.google.protobuf.Parser<Alert> PARSER =
+          new com.google.protobuf.AbstractParser<Alert>() {
+        public Alert parsePartialFrom(
             com.google.protobuf.CodedInputStream input,
             com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws java.io.IOException {
-          org.attribyte.essem.proto.ReportProtos.EssemReport.Timer parsedMessage = null;
-          try {
-            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-            parsedMessage = (org.attribyte.essem.proto.ReportProtos.EssemReport.Timer) e.getUnfinishedMessage();
-            throw e;
-          } finally {
-            if (parsedMessage != null) {
-              mergeFrom(parsedMessage);
-            }
-          }
-          return this;
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new Alert(input, extensionRegistry);
         }
-        private int bitField0_;
+      };
 
-        private java.lang.Object name_ = "";
+      @java.lang.Override
+      public com.google.protobuf.Parser<Alert> getParserForType() {
+        return PARSER;
+      }
+
+      /**
+       * Protobuf enum {@code org.attribyte.essem.proto.EssemReport.Alert.Severity}
+       */
+      public enum Severity
+          implements com.google.protobuf.ProtocolMessageEnum {
         /**
-         * <code>optional string name = 1;</code>
+         * <code>UNKNOWN = 0;</code>
          */
-        public boolean hasName() {
-          return ((bitField0_ & 0x00000001) == 0x00000001);
-        }
+        UNKNOWN(0, 0),
         /**
-         * <code>optional string name = 1;</code>
+         * <code>INFO = 1;</code>
          */
-        public java.lang.String getName() {
-          java.lang.Object ref = name_;
-          if (!(ref instanceof java.lang.String)) {
-            com.google.protobuf.ByteString bs =
-                (com.google.protobuf.ByteString) ref;
-            java.lang.String s = bs.toStringUtf8();
-            if (bs.isValidUtf8()) {
-              name_ = s;
-            }
-            return s;
-          } else {
-            return (java.lang.String) ref;
-          }
-        }
+        INFO(1, 1),
         /**
-         * <code>optional string name = 1;</code>
+         * <code>WARN = 2;</code>
          */
-        public com.google.protobuf.ByteString
-            getNameBytes() {
-          java.lang.Object ref = name_;
-          if (ref instanceof String) {
-            com.google.protobuf.ByteString b = 
-                com.google.protobuf.ByteString.copyFromUtf8(
-                    (java.lang.String) ref);
-            name_ = b;
-            return b;
-          } else {
-            return (com.google.protobuf.ByteString) ref;
-          }
-        }
+        WARN(2, 2),
         /**
-         * <code>optional string name = 1;</code>
+         * <code>ERROR = 3;</code>
          */
-        public Builder setName(
-            java.lang.String value) {
-          if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-          name_ = value;
-          onChanged();
-          return this;
-        }
+        ERROR(3, 3),
         /**
-         * <code>optional string name = 1;</code>
+         * <code>FATAL = 4;</code>
          */
-        public Builder clearName() {
-          bitField0_ = (bitField0_ & ~0x00000001);
-          name_ = getDefaultInstance().getName();
-          onChanged();
-          return this;
-        }
+        FATAL(4, 4),
+        ;
+
         /**
-         * <code>optional string name = 1;</code>
+         * <code>UNKNOWN = 0;</code>
          */
-        public Builder setNameBytes(
-            com.google.protobuf.ByteString value) {
-          if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-          name_ = value;
-          onChanged();
-          return this;
-        }
-
-        private double oneMinuteRate_ ;
+        public static final int UNKNOWN_VALUE = 0;
         /**
-         * <code>optional double oneMinuteRate = 2;</code>
+         * <code>INFO = 1;</code>
          */
-        public boolean hasOneMinuteRate() {
-          return ((bitField0_ & 0x00000002) == 0x00000002);
-        }
+        public static final int INFO_VALUE = 1;
         /**
-         * <code>optional double oneMinuteRate = 2;</code>
+         * <code>WARN = 2;</code>
          */
-        public double getOneMinuteRate() {
-          return oneMinuteRate_;
-        }
+        public static final int WARN_VALUE = 2;
         /**
-         * <code>optional double oneMinuteRate = 2;</code>
+         * <code>ERROR = 3;</code>
          */
-        public Builder setOneMinuteRate(double value) {
-          bitField0_ |= 0x00000002;
-          oneMinuteRate_ = value;
-          onChanged();
-          return this;
-        }
+        public static final int ERROR_VALUE = 3;
         /**
-         * <code>optional double oneMinuteRate = 2;</code>
+         * <code>FATAL = 4;</code>
          */
-        public Builder clearOneMinuteRate() {
-          bitField0_ = (bitField0_ & ~0x00000002);
-          oneMinuteRate_ = 0D;
-          onChanged();
-          return this;
+        public static final int FATAL_VALUE = 4;
+
+
+        public final int getNumber() { return value; }
+
+        public static Severity valueOf(int value) {
+          switch (value) {
+            case 0: return UNKNOWN;
+            case 1: return INFO;
+            case 2: return WARN;
+            case 3: return ERROR;
+            case 4: return FATAL;
+            default: return null;
+          }
         }
 
-        private double fiveMinuteRate_ ;
-        /**
-         * <code>optional double fiveMinuteRate = 3;</code>
-         */
-        public boolean hasFiveMinuteRate() {
-          return ((bitField0_ & 0x00000004) == 0x00000004);
+        public static com.google.protobuf.Internal.EnumLiteMap<Severity>
+            internalGetValueMap() {
+          return internalValueMap;
         }
-        /**
-         * <code>optional double fiveMinuteRate = 3;</code>
-         */
-        public double getFiveMinuteRate() {
-          return fiveMinuteRate_;
+        private static com.google.protobuf.Internal.EnumLiteMap<Severity>
+            internalValueMap =
+              new com.google.protobuf.Internal.EnumLiteMap<Severity>() {
+                public Severity findValueByNumber(int number) {
+                  return Severity.valueOf(number);
+                }
+              };
+
+        public final com.google.protobuf.Descriptors.EnumValueDescriptor
+            getValueDescriptor() {
+          return getDescriptor().getValues().get(index);
+        }
+        public final com.google.protobuf.Descriptors.EnumDescriptor
+            getDescriptorForType() {
+          return getDescriptor();
+        }
+        public static final com.google.protobuf.Descriptors.EnumDescriptor
+            getDescriptor() {
+          return org.attribyte.essem.proto.ReportProtos.EssemReport.Alert.getDescriptor().getEnumTypes().get(0);
+        }
+
+        private static final Severity[] VALUES = values();
+
+        public static Severity valueOf(
+            com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+          if (desc.getType() != getDescriptor()) {
+            throw new java.lang.IllegalArgumentException(
+              "EnumValueDescriptor is not for this type.");
+          }
+          return VALUES[desc.getIndex()];
+        }
+
+        private final int index;
+        private final int value;
+
+        private Severity(int index, int value) {
+          this.index = index;
+          this.value = value;
+        }
+
+        // @@protoc_insertion_point(enum_scope:org.attribyte.essem.proto.EssemReport.Alert.Severity)
+      }
+
+      private int bitField0_;
+      public static final int NAME_FIELD_NUMBER = 1;
+      private java.lang.Object name_;
+      /**
+       * <code>optional string name = 1;</code>
+       */
+      public boolean hasName() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional string name = 1;</code>
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            name_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string name = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
         }
-        /**
-         * <code>optional double fiveMinuteRate = 3;</code>
-         */
-        public Builder setFiveMinuteRate(double value) {
-          bitField0_ |= 0x00000004;
-          fiveMinuteRate_ = value;
-          onChanged();
-          return this;
+      }
+
+      public static final int SEVERITY_FIELD_NUMBER = 2;
+      private org.attribyte.essem.proto.ReportProtos.EssemReport.Alert.Severity severity_;
+      /**
+       * <code>optional .org.attribyte.essem.proto.EssemReport.Alert.Severity severity = 2;</code>
+       */
+      public boolean hasSeverity() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional .org.attribyte.essem.proto.EssemReport.Alert.Severity severity = 2;</code>
+       */
+      public org.attribyte.essem.proto.ReportProtos.EssemReport.Alert.Severity getSeverity() {
+        return severity_;
+      }
+
+      public static final int VALUE_FIELD_NUMBER = 3;
+      private java.lang.Object value_;
+      /**
+       * <code>optional string value = 3;</code>
+       */
+      public boolean hasValue() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional string value = 3;</code>
+       */
+      public java.lang.String getValue() {
+        java.lang.Object ref = value_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            value_ = s;
+          }
+          return s;
         }
-        /**
-         * <code>optional double fiveMinuteRate = 3;</code>
-         */
-        public Builder clearFiveMinuteRate() {
-          bitField0_ = (bitField0_ & ~0x00000004);
-          fiveMinuteRate_ = 0D;
-          onChanged();
-          return this;
+      }
+      /**
+       * <code>optional string value = 3;</code>
+       */
+      public com.google.protobuf.ByteString
+          getValueBytes() {
+        java.lang.Object ref = value_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          value_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
         }
+      }
 
-        private double fifteenMinuteRate_ ;
-        /**
-         * <code>optional double fifteenMinuteRate = 4;</code>
-         */
-        public boolean hasFifteenMinuteRate() {
-          return ((bitField0_ & 0x00000008) == 0x00000008);
-        }
-        /**
-         * <code>optional double fifteenMinuteRate = 4;</code>
-         */
-        public double getFifteenMinuteRate() {
-          return fifteenMinuteRate_;
+      private void initFields() {
+        name_ = "";
+        severity_ = org.attribyte.essem.proto.ReportProtos.EssemReport.Alert.Severity.UNKNOWN;
+        value_ = "";
+      }
+      private byte memoizedIsInitialized = -1;
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        getSerializedSize();
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          output.writeBytes(1, getNameBytes());
         }
-        /**
-         * <code>optional double fifteenMinuteRate = 4;</code>
-         */
-        public Builder setFifteenMinuteRate(double value) {
-          bitField0_ |= 0x00000008;
-          fifteenMinuteRate_ = value;
-          onChanged();
-          return this;
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          output.writeEnum(2, severity_.getNumber());
         }
-        /**
-         * <code>optional double fifteenMinuteRate = 4;</code>
-         */
-        public Builder clearFifteenMinuteRate() {
-          bitField0_ = (bitField0_ & ~0x00000008);
-          fifteenMinuteRate_ = 0D;
-          onChanged();
-          return this;
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          output.writeBytes(3, getValueBytes());
         }
+        getUnknownFields().writeTo(output);
+      }
 
-        private double meanRate_ ;
-        /**
-         * <code>optional double meanRate = 5;</code>
-         */
-        public boolean hasMeanRate() {
-          return ((bitField0_ & 0x00000010) == 0x00000010);
+      private int memoizedSerializedSize = -1;
+      public int getSerializedSize() {
+        int size = memoizedSerializedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(1, getNameBytes());
         }
-        /**
-         * <code>optional double meanRate = 5;</code>
-         */
-        public double getMeanRate() {
-          return meanRate_;
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeEnumSize(2, severity_.getNumber());
         }
-        /**
-         * <code>optional double meanRate = 5;</code>
-         */
-        public Builder setMeanRate(double value) {
-          bitField0_ |= 0x00000010;
-          meanRate_ = value;
-          onChanged();
-          return this;
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(3, getValueBytes());
         }
-        /**
-         * <code>optional double meanRate = 5;</code>
-         */
-        public Builder clearMeanRate() {
-          bitField0_ = (bitField0_ & ~0x00000010);
-          meanRate_ = 0D;
-          onChanged();
-          return this;
+        size += getUnknownFields().getSerializedSize();
+        memoizedSerializedSize = size;
+        return size;
+      }
+
+      private static final long serialVersionUID = 0L;
+      @java.lang.Override
+      protected java.lang.Object writeReplace()
+          throws java.io.ObjectStreamException {
+        return super.writeReplace();
+      }
+
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Alert parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Alert parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Alert parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Alert parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Alert parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Alert parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Alert parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input);
+      }
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Alert parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input, extensionRegistry);
+      }
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Alert parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Alert parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+
+      public static Builder newBuilder() { return Builder.create(); }
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder(org.attribyte.essem.proto.ReportProtos.EssemReport.Alert prototype) {
+        return newBuilder().mergeFrom(prototype);
+      }
+      public Builder toBuilder() { return newBuilder(this); }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code org.attribyte.essem.proto.EssemReport.Alert}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:org.attribyte.essem.proto.EssemReport.Alert)
+          org.attribyte.essem.proto.ReportProtos.EssemReport.AlertOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.attribyte.essem.proto.ReportProtos.internal_static_org_attribyte_essem_proto_EssemReport_Alert_descriptor;
         }
 
-        private long count_ ;
-        /**
-         * <code>optional uint64 count = 6;</code>
-         */
-        public boolean hasCount() {
-          return ((bitField0_ & 0x00000020) == 0x00000020);
-        }
-        /**
-         * <code>optional uint64 count = 6;</code>
-         */
-        public long getCount() {
-          return count_;
-        }
-        /**
-         * <code>optional uint64 count = 6;</code>
-         */
-        public Builder setCount(long value) {
-          bitField0_ |= 0x00000020;
-          count_ = value;
-          onChanged();
-          return this;
-        }
-        /**
-         * <code>optional uint64 count = 6;</code>
-         */
-        public Builder clearCount() {
-          bitField0_ = (bitField0_ & ~0x00000020);
-          count_ = 0L;
-          onChanged();
-          return this;
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.attribyte.essem.proto.ReportProtos.internal_static_org_attribyte_essem_proto_EssemReport_Alert_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.attribyte.essem.proto.ReportProtos.EssemReport.Alert.class, org.attribyte.essem.proto.ReportProtos.EssemReport.Alert.Builder.class);
         }
 
-        private double max_ ;
-        /**
-         * <code>optional double max = 7;</code>
-         */
-        public boolean hasMax() {
-          return ((bitField0_ & 0x00000040) == 0x00000040);
-        }
-        /**
-         * <code>optional double max = 7;</code>
-         */
-        public double getMax() {
-          return max_;
-        }
-        /**
-         * <code>optional double max = 7;</code>
-         */
-        public Builder setMax(double value) {
-          bitField0_ |= 0x00000040;
-          max_ = value;
-          onChanged();
-          return this;
-        }
-        /**
-         * <code>optional double max = 7;</code>
-         */
-        public Builder clearMax() {
-          bitField0_ = (bitField0_ & ~0x00000040);
-          max_ = 0D;
-          onChanged();
-          return this;
+        // Construct using org.attribyte.essem.proto.ReportProtos.EssemReport.Alert.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
         }
 
-        private double mean_ ;
-        /**
-         * <code>optional double mean = 8;</code>
-         */
-        public boolean hasMean() {
-          return ((bitField0_ & 0x00000080) == 0x00000080);
-        }
-        /**
-         * <code>optional double mean = 8;</code>
-         */
-        public double getMean() {
-          return mean_;
+        private Builder(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
         }
-        /**
-         * <code>optional double mean = 8;</code>
-         */
-        public Builder setMean(double value) {
-          bitField0_ |= 0x00000080;
-          mean_ = value;
-          onChanged();
-          return this;
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          }
         }
-        /**
-         * <code>optional double mean = 8;</code>
-         */
-        public Builder clearMean() {
-          bitField0_ = (bitField0_ & ~0x00000080);
-          mean_ = 0D;
-          onChanged();
-          return this;
+        private static Builder create() {
+          return new Builder();
         }
 
-        private double min_ ;
-        /**
-         * <code>optional double min = 9;</code>
-         */
-        public boolean hasMin() {
-          return ((bitField0_ & 0x00000100) == 0x00000100);
-        }
-        /**
-         * <code>optional double min = 9;</code>
-         */
-        public double getMin() {
-          return min_;
-        }
-        /**
-         * <code>optional double min = 9;</code>
-         */
-        public Builder setMin(double value) {
-          bitField0_ |= 0x00000100;
-          min_ = value;
-          onChanged();
-          return this;
-        }
-        /**
-         * <code>optional double min = 9;</code>
-         */
-        public Builder clearMin() {
-          bitField0_ = (bitField0_ & ~0x00000100);
-          min_ = 0D;
-          onChanged();
+        public Builder clear() {
+          super.clear();
+          name_ = "";
+          bitField0_ = (bitField0_ & ~0x00000001);
+          severity_ = org.attribyte.essem.proto.ReportProtos.EssemReport.Alert.Severity.UNKNOWN;
+          bitField0_ = (bitField0_ & ~0x00000002);
+          value_ = "";
+          bitField0_ = (bitField0_ & ~0x00000004);
           return this;
         }
 
-        private double std_ ;
-        /**
-         * <code>optional double std = 10;</code>
-         */
-        public boolean hasStd() {
-          return ((bitField0_ & 0x00000200) == 0x00000200);
-        }
-        /**
-         * <code>optional double std = 10;</code>
-         */
-        public double getStd() {
-          return std_;
+        public Builder clone() {
+          return create().mergeFrom(buildPartial());
         }
-        /**
-         * <code>optional double std = 10;</code>
-         */
-        public Builder setStd(double value) {
-          bitField0_ |= 0x00000200;
-          std_ = value;
-          onChanged();
-          return this;
+
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.attribyte.essem.proto.ReportProtos.internal_static_org_attribyte_essem_proto_EssemReport_Alert_descriptor;
         }
-        /**
-         * <code>optional double std = 10;</code>
-         */
-        public Builder clearStd() {
-          bitField0_ = (bitField0_ & ~0x00000200);
-          std_ = 0D;
-          onChanged();
-          return this;
+
+        public org.attribyte.essem.proto.ReportProtos.EssemReport.Alert getDefaultInstanceForType() {
+          return org.attribyte.essem.proto.ReportProtos.EssemReport.Alert.getDefaultInstance();
         }
 
-        private double median_ ;
-        /**
-         * <code>optional double median = 11;</code>
-         */
-        public boolean hasMedian() {
-          return ((bitField0_ & 0x00000400) == 0x00000400);
+        public org.attribyte.essem.proto.ReportProtos.EssemReport.Alert build() {
+          org.attribyte.essem.proto.ReportProtos.EssemReport.Alert result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
         }
-        /**
-         * <code>optional double median = 11;</code>
-         */
-        public double getMedian() {
-          return median_;
+
+        public org.attribyte.essem.proto.ReportProtos.EssemReport.Alert buildPartial() {
+          org.attribyte.essem.proto.ReportProtos.EssemReport.Alert result = new org.attribyte.essem.proto.ReportProtos.EssemReport.Alert(this);
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+            to_bitField0_ |= 0x00000001;
+          }
+          result.name_ = name_;
+          if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+            to_bitField0_ |= 0x00000002;
+          }
+          result.severity_ = severity_;
+          if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+            to_bitField0_ |= 0x00000004;
+          }
+          result.value_ = value_;
+          result.bitField0_ = to_bitField0_;
+          onBuilt();
+          return result;
         }
-        /**
-         * <code>optional double median = 11;</code>
-         */
-        public Builder setMedian(double value) {
-          bitField0_ |= 0x00000400;
-          median_ = value;
-          onChanged();
-          return this;
+
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.attribyte.essem.proto.ReportProtos.EssemReport.Alert) {
+            return mergeFrom((org.attribyte.essem.proto.ReportProtos.EssemReport.Alert)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
         }
-        /**
-         * <code>optional double median = 11;</code>
-         */
-        public Builder clearMedian() {
-          bitField0_ = (bitField0_ & ~0x00000400);
-          median_ = 0D;
-          onChanged();
+
+        public Builder mergeFrom(org.attribyte.essem.proto.ReportProtos.EssemReport.Alert other) {
+          if (other == org.attribyte.essem.proto.ReportProtos.EssemReport.Alert.getDefaultInstance()) return this;
+          if (other.hasName()) {
+            bitField0_ |= 0x00000001;
+            name_ = other.name_;
+            onChanged();
+          }
+          if (other.hasSeverity()) {
+            setSeverity(other.getSeverity());
+          }
+          if (other.hasValue()) {
+            bitField0_ |= 0x00000004;
+            value_ = other.value_;
+            onChanged();
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
           return this;
         }
 
-        private double percentile75_ ;
-        /**
-         * <code>optional double percentile75 = 12;</code>
-         */
-        public boolean hasPercentile75() {
-          return ((bitField0_ & 0x00000800) == 0x00000800);
-        }
-        /**
-         * <code>optional double percentile75 = 12;</code>
-         */
-        public double getPercentile75() {
-          return percentile75_;
-        }
-        /**
-         * <code>optional double percentile75 = 12;</code>
-         */
-        public Builder setPercentile75(double value) {
-          bitField0_ |= 0x00000800;
-          percentile75_ = value;
-          onChanged();
-          return this;
+        public final boolean isInitialized() {
+          return true;
         }
-        /**
-         * <code>optional double percentile75 = 12;</code>
-         */
-        public Builder clearPercentile75() {
-          bitField0_ = (bitField0_ & ~0x00000800);
-          percentile75_ = 0D;
-          onChanged();
+
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          org.attribyte.essem.proto.ReportProtos.EssemReport.Alert parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (org.attribyte.essem.proto.ReportProtos.EssemReport.Alert) e.getUnfinishedMessage();
+            throw e;
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
           return this;
         }
+        private int bitField0_;
 
-        private double percentile95_ ;
+        private java.lang.Object name_ = "";
         /**
-         * <code>optional double percentile95 = 13;</code>
+         * <code>optional string name = 1;</code>
          */
-        public boolean hasPercentile95() {
-          return ((bitField0_ & 0x00001000) == 0x00001000);
+        public boolean hasName() {
+          return ((bitField0_ & 0x00000001) == 0x00000001);
         }
         /**
-         * <code>optional double percentile95 = 13;</code>
+         * <code>optional string name = 1;</code>
          */
-        public double getPercentile95() {
-          return percentile95_;
+        public java.lang.String getName() {
+          java.lang.Object ref = name_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              name_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
         }
         /**
-         * <code>optional double percentile95 = 13;</code>
+         * <code>optional string name = 1;</code>
          */
-        public Builder setPercentile95(double value) {
-          bitField0_ |= 0x00001000;
-          percentile95_ = value;
-          onChanged();
-          return this;
+        public com.google.protobuf.ByteString
+            getNameBytes() {
+          java.lang.Object ref = name_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            name_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
         }
         /**
-         * <code>optional double percentile95 = 13;</code>
+         * <code>optional string name = 1;</code>
          */
-        public Builder clearPercentile95() {
-          bitField0_ = (bitField0_ & ~0x00001000);
-          percentile95_ = 0D;
+        public Builder setName(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          name_ = value;
           onChanged();
           return this;
         }
-
-        private double percentile98_ ;
-        /**
-         * <code>optional double percentile98 = 14;</code>
-         */
-        public boolean hasPercentile98() {
-          return ((bitField0_ & 0x00002000) == 0x00002000);
-        }
-        /**
-         * <code>optional double percentile98 = 14;</code>
-         */
-        public double getPercentile98() {
-          return percentile98_;
-        }
         /**
-         * <code>optional double percentile98 = 14;</code>
+         * <code>optional string name = 1;</code>
          */
-        public Builder setPercentile98(double value) {
-          bitField0_ |= 0x00002000;
-          percentile98_ = value;
+        public Builder clearName() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          name_ = getDefaultInstance().getName();
           onChanged();
           return this;
         }
         /**
-         * <code>optional double percentile98 = 14;</code>
+         * <code>optional string name = 1;</code>
          */
-        public Builder clearPercentile98() {
-          bitField0_ = (bitField0_ & ~0x00002000);
-          percentile98_ = 0D;
+        public Builder setNameBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          name_ = value;
           onChanged();
           return this;
         }
 
-        private double percentile99_ ;
+        private org.attribyte.essem.proto.ReportProtos.EssemReport.Alert.Severity severity_ = org.attribyte.essem.proto.ReportProtos.EssemReport.Alert.Severity.UNKNOWN;
         /**
-         * <code>optional double percentile99 = 15;</code>
+         * <code>optional .org.attribyte.essem.proto.EssemReport.Alert.Severity severity = 2;</code>
          */
-        public boolean hasPercentile99() {
-          return ((bitField0_ & 0x00004000) == 0x00004000);
+        public boolean hasSeverity() {
+          return ((bitField0_ & 0x00000002) == 0x00000002);
         }
         /**
-         * <code>optional double percentile99 = 15;</code>
+         * <code>optional .org.attribyte.essem.proto.EssemReport.Alert.Severity severity = 2;</code>
          */
-        public double getPercentile99() {
-          return percentile99_;
+        public org.attribyte.essem.proto.ReportProtos.EssemReport.Alert.Severity getSeverity() {
+          return severity_;
         }
         /**
-         * <code>optional double percentile99 = 15;</code>
+         * <code>optional .org.attribyte.essem.proto.EssemReport.Alert.Severity severity = 2;</code>
          */
-        public Builder setPercentile99(double value) {
-          bitField0_ |= 0x00004000;
-          percentile99_ = value;
+        public Builder setSeverity(org.attribyte.essem.proto.ReportProtos.EssemReport.Alert.Severity value) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          bitField0_ |= 0x00000002;
+          severity_ = value;
           onChanged();
           return this;
         }
         /**
-         * <code>optional double percentile99 = 15;</code>
+         * <code>optional .org.attribyte.essem.proto.EssemReport.Alert.Severity severity = 2;</code>
          */
-        public Builder clearPercentile99() {
-          bitField0_ = (bitField0_ & ~0x00004000);
-          percentile99_ = 0D;
+        public Builder clearSeverity() {
+          bitField0_ = (bitField0_ & ~0x00000002);
+          severity_ = org.attribyte.essem.proto.ReportProtos.EssemReport.Alert.Severity.UNKNOWN;
           onChanged();
           return this;
         }
 
-        private double percentile999_ ;
+        private java.lang.Object value_ = "";
         /**
-         * <code>optional double percentile999 = 16;</code>
+         * <code>optional string value = 3;</code>
          */
-        public boolean hasPercentile999() {
-          return ((bitField0_ & 0x00008000) == 0x00008000);
+        public boolean hasValue() {
+          return ((bitField0_ & 0x00000004) == 0x00000004);
         }
         /**
-         * <code>optional double percentile999 = 16;</code>
+         * <code>optional string value = 3;</code>
          */
-        public double getPercentile999() {
-          return percentile999_;
+        public java.lang.String getValue() {
+          java.lang.Object ref = value_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              value_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
         }
         /**
-         * <code>optional double percentile999 = 16;</code>
+         * <code>optional string value = 3;</code>
          */
-        public Builder setPercentile999(double value) {
-          bitField0_ |= 0x00008000;
-          percentile999_ = value;
-          onChanged();
-          return this;
+        public com.google.protobuf.ByteString
+            getValueBytes() {
+          java.lang.Object ref = value_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            value_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
         }
         /**
-         * <code>optional double percentile999 = 16;</code>
+         * <code>optional string value = 3;</code>
          */
-        public Builder clearPercentile999() {
-          bitField0_ = (bitField0_ & ~0x00008000);
-          percentile999_ = 0D;
+        public Builder setValue(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+          value_ = value;
           onChanged();
           return this;
         }
-
-        private com.google.protobuf.ByteString hdrHistogram_ = com.google.protobuf.ByteString.EMPTY;
-        /**
-         * <code>optional bytes hdrHistogram = 17;</code>
-         */
-        public boolean hasHdrHistogram() {
-          return ((bitField0_ & 0x00010000) == 0x00010000);
-        }
         /**
-         * <code>optional bytes hdrHistogram = 17;</code>
-         */
-        public com.google.protobuf.ByteString getHdrHistogram() {
-          return hdrHistogram_;
-        }
-        /**
-         * <code>optional bytes hdrHistogram = 17;</code>
+         * <code>optional string value = 3;</code>
          */
-        public Builder setHdrHistogram(com.google.protobuf.ByteString value) {
-          if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00010000;
-          hdrHistogram_ = value;
+        public Builder clearValue() {
+          bitField0_ = (bitField0_ & ~0x00000004);
+          value_ = getDefaultInstance().getValue();
           onChanged();
           return this;
         }
         /**
-         * <code>optional bytes hdrHistogram = 17;</code>
+         * <code>optional string value = 3;</code>
          */
-        public Builder clearHdrHistogram() {
-          bitField0_ = (bitField0_ & ~0x00010000);
-          hdrHistogram_ = getDefaultInstance().getHdrHistogram();
+        public Builder setValueBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+          value_ = value;
           onChanged();
           return this;
         }
 
-        // @@protoc_insertion_point(builder_scope:org.attribyte.essem.proto.EssemReport.Timer)
+        // @@protoc_insertion_point(builder_scope:org.attribyte.essem.proto.EssemReport.Alert)
       }
 
       static {
-        defaultInstance = new Timer(true);
+        defaultInstance = new Alert(true);
         defaultInstance.initFields();
       }
 
-      // @@protoc_insertion_point(class_scope:org.attribyte.essem.proto.EssemReport.Timer)
+      // @@protoc_insertion_point(class_scope:org.attribyte.essem.proto.EssemReport.Alert)
     }
 
-    public interface AlertOrBuilder extends
-        // @@protoc_insertion_point(interface_extends:org.attribyte.essem.proto.EssemReport.Alert)
+    public interface NameDefinitionOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:org.attribyte.essem.proto.EssemReport.NameDefinition)
         com.google.protobuf.MessageOrBuilder {
 
       /**
-       * <code>optional string name = 1;</code>
-       */
-      boolean hasName();
-      /**
-       * <code>optional string name = 1;</code>
-       */
-      java.lang.String getName();
-      /**
-       * <code>optional string name = 1;</code>
-       */
-      com.google.protobuf.ByteString
-          getNameBytes();
-
-      /**
-       * <code>optional .org.attribyte.essem.proto.EssemReport.Alert.Severity severity = 2;</code>
+       * <code>optional uint32 id = 1;</code>
        */
-      boolean hasSeverity();
+      boolean hasId();
       /**
-       * <code>optional .org.attribyte.essem.proto.EssemReport.Alert.Severity severity = 2;</code>
+       * <code>optional uint32 id = 1;</code>
        */
-      org.attribyte.essem.proto.ReportProtos.EssemReport.Alert.Severity getSeverity();
+      int getId();
 
       /**
-       * <code>optional string value = 3;</code>
+       * <code>optional string name = 2;</code>
        */
-      boolean hasValue();
+      boolean hasName();
       /**
-       * <code>optional string value = 3;</code>
+       * <code>optional string name = 2;</code>
        */
-      java.lang.String getValue();
+      java.lang.String getName();
       /**
-       * <code>optional string value = 3;</code>
+       * <code>optional string name = 2;</code>
        */
       com.google.protobuf.ByteString
-          getValueBytes();
+          getNameBytes();
     }
     /**
-     * Protobuf type {@code org.attribyte.essem.proto.EssemReport.Alert}
+     * Protobuf type {@code org.attribyte.essem.proto.EssemReport.NameDefinition}
      */
-    public static final class Alert extends
+    public static final class NameDefinition extends
         com.google.protobuf.GeneratedMessage implements
-        // @@protoc_insertion_point(message_implements:org.attribyte.essem.proto.EssemReport.Alert)
-        AlertOrBuilder {
-      // Use Alert.newBuilder() to construct.
-      private Alert(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+        // @@protoc_insertion_point(message_implements:org.attribyte.essem.proto.EssemReport.NameDefinition)
+        NameDefinitionOrBuilder {
+      // Use NameDefinition.newBuilder() to construct.
+      private NameDefinition(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
         super(builder);
         this.unknownFields = builder.getUnknownFields();
       }
-      private Alert(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+      private NameDefinition(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-      private static final Alert defaultInstance;
-      public static Alert getDefaultInstance() {
+      private static final NameDefinition defaultInstance;
+      public static NameDefinition getDefaultInstance() {
         return defaultInstance;
       }
 
-      public Alert getDefaultInstanceForType() {
+      public NameDefinition getDefaultInstanceForType() {
         return defaultInstance;
       }
 
@@ -5966,7 +8531,7 @@ public final class ReportProtos {
           getUnknownFields() {
         return this.unknownFields;
       }
-      private Alert(
+      private NameDefinition(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
@@ -5989,27 +8554,15 @@ public final class ReportProtos {
                 }
                 break;
               }
-              case 10: {
-                com.google.protobuf.ByteString bs = input.readBytes();
+              case 8: {
                 bitField0_ |= 0x00000001;
-                name_ = bs;
-                break;
-              }
-              case 16: {
-                int rawValue = input.readEnum();
-                org.attribyte.essem.proto.ReportProtos.EssemReport.Alert.Severity value = org.attribyte.essem.proto.ReportProtos.EssemReport.Alert.Severity.valueOf(rawValue);
-                if (value == null) {
-                  unknownFields.mergeVarintField(2, rawValue);
-                } else {
-                  bitField0_ |= 0x00000002;
-                  severity_ = value;
-                }
+                id_ = input.readUInt32();
                 break;
               }
-              case 26: {
+              case 18: {
                 com.google.protobuf.ByteString bs = input.readBytes();
-                bitField0_ |= 0x00000004;
-                value_ = bs;
+                bitField0_ |= 0x00000002;
+                name_ = bs;
                 break;
               }
             }
@@ -6026,211 +8579,60 @@ public final class ReportProtos {
       }
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.attribyte.essem.proto.ReportProtos.internal_static_org_attribyte_essem_proto_EssemReport_Alert_descriptor;
+        return org.attribyte.essem.proto.ReportProtos.internal_static_org_attribyte_essem_proto_EssemReport_NameDefinition_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.attribyte.essem.proto.ReportProtos.internal_static_org_attribyte_essem_proto_EssemReport_Alert_fieldAccessorTable
+        return org.attribyte.essem.proto.ReportProtos.internal_static_org_attribyte_essem_proto_EssemReport_NameDefinition_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.attribyte.essem.proto.ReportProtos.EssemReport.Alert.class, org.attribyte.essem.proto.ReportProtos.EssemReport.Alert.Builder.class);
+                org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition.class, org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition.Builder.class);
       }
 
-      public static com.google.protobuf.Parser<Alert> PARSER =
-          new com.google.protobuf.AbstractParser<Alert>() {
-        public Alert parsePartialFrom(
+      public static com.google.protobuf.Parser<NameDefinition> PARSER =
+          new com.google.protobuf.AbstractParser<NameDefinition>() {
+        public NameDefinition parsePartialFrom(
             com.google.protobuf.CodedInputStream input,
             com.google.protobuf.ExtensionRegistryLite extensionRegistry)
             throws com.google.protobuf.InvalidProtocolBufferException {
-          return new Alert(input, extensionRegistry);
+          return new NameDefinition(input, extensionRegistry);
         }
       };
 
       @java.lang.Override
-      public com.google.protobuf.Parser<Alert> getParserForType() {
+      public com.google.protobuf.Parser<NameDefinition> getParserForType() {
         return PARSER;
       }
 
-      /**
-       * Protobuf enum {@code org.attribyte.essem.proto.EssemReport.Alert.Severity}
-       */
-      public enum Severity
-          implements com.google.protobuf.ProtocolMessageEnum {
-        /**
-         * <code>UNKNOWN = 0;</code>
-         */
-        UNKNOWN(0, 0),
-        /**
-         * <code>INFO = 1;</code>
-         */
-        INFO(1, 1),
-        /**
-         * <code>WARN = 2;</code>
-         */
-        WARN(2, 2),
-        /**
-         * <code>ERROR = 3;</code>
-         */
-        ERROR(3, 3),
-        /**
-         * <code>FATAL = 4;</code>
-         */
-        FATAL(4, 4),
-        ;
-
-        /**
-         * <code>UNKNOWN = 0;</code>
-         */
-        public static final int UNKNOWN_VALUE = 0;
-        /**
-         * <code>INFO = 1;</code>
-         */
-        public static final int INFO_VALUE = 1;
-        /**
-         * <code>WARN = 2;</code>
-         */
-        public static final int WARN_VALUE = 2;
-        /**
-         * <code>ERROR = 3;</code>
-         */
-        public static final int ERROR_VALUE = 3;
-        /**
-         * <code>FATAL = 4;</code>
-         */
-        public static final int FATAL_VALUE = 4;
-
-
-        public final int getNumber() { return value; }
-
-        public static Severity valueOf(int value) {
-          switch (value) {
-            case 0: return UNKNOWN;
-            case 1: return INFO;
-            case 2: return WARN;
-            case 3: return ERROR;
-            case 4: return FATAL;
-            default: return null;
-          }
-        }
-
-        public static com.google.protobuf.Internal.EnumLiteMap<Severity>
-            internalGetValueMap() {
-          return internalValueMap;
-        }
-        private static com.google.protobuf.Internal.EnumLiteMap<Severity>
-            internalValueMap =
-              new com.google.protobuf.Internal.EnumLiteMap<Severity>() {
-                public Severity findValueByNumber(int number) {
-                  return Severity.valueOf(number);
-                }
-              };
-
-        public final com.google.protobuf.Descriptors.EnumValueDescriptor
-            getValueDescriptor() {
-          return getDescriptor().getValues().get(index);
-        }
-        public final com.google.protobuf.Descriptors.EnumDescriptor
-            getDescriptorForType() {
-          return getDescriptor();
-        }
-        public static final com.google.protobuf.Descriptors.EnumDescriptor
-            getDescriptor() {
-          return org.attribyte.essem.proto.ReportProtos.EssemReport.Alert.getDescriptor().getEnumTypes().get(0);
-        }
-
-        private static final Severity[] VALUES = values();
-
-        public static Severity valueOf(
-            com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
-          if (desc.getType() != getDescriptor()) {
-            throw new java.lang.IllegalArgumentException(
-              "EnumValueDescriptor is not for this type.");
-          }
-          return VALUES[desc.getIndex()];
-        }
-
-        private final int index;
-        private final int value;
-
-        private Severity(int index, int value) {
-          this.index = index;
-          this.value = value;
-        }
-
-        // @@protoc_insertion_point(enum_scope:org.attribyte.essem.proto.EssemReport.Alert.Severity)
-      }
-
       private int bitField0_;
-      public static final int NAME_FIELD_NUMBER = 1;
-      private java.lang.Object name_;
+      public static final int ID_FIELD_NUMBER = 1;
+      private int id_;
       /**
-       * <code>optional string name = 1;</code>
+       * <code>optional uint32 id = 1;</code>
        */
-      public boolean hasName() {
+      public boolean hasId() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>optional string name = 1;</code>
-       */
-      public java.lang.String getName() {
-        java.lang.Object ref = name_;
-        if (ref instanceof java.lang.String) {
-          return (java.lang.String) ref;
-        } else {
-          com.google.protobuf.ByteString bs = 
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            name_ = s;
-          }
-          return s;
-        }
-      }
-      /**
-       * <code>optional string name = 1;</code>
+       * <code>optional uint32 id = 1;</code>
        */
-      public com.google.protobuf.ByteString
-          getNameBytes() {
-        java.lang.Object ref = name_;
-        if (ref instanceof java.lang.String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          name_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+      public int getId() {
+        return id_;
       }
 
-      public static final int SEVERITY_FIELD_NUMBER = 2;
-      private org.attribyte.essem.proto.ReportProtos.EssemReport.Alert.Severity severity_;
+      public static final int NAME_FIELD_NUMBER = 2;
+      private java.lang.Object name_;
       /**
-       * <code>optional .org.attribyte.essem.proto.EssemReport.Alert.Severity severity = 2;</code>
+       * <code>optional string name = 2;</code>
        */
-      public boolean hasSeverity() {
+      public boolean hasName() {
         return ((bitField0_ & 0x00000002) == 0x00000002);
       }
       /**
-       * <code>optional .org.attribyte.essem.proto.EssemReport.Alert.Severity severity = 2;</code>
-       */
-      public org.attribyte.essem.proto.ReportProtos.EssemReport.Alert.Severity getSeverity() {
-        return severity_;
-      }
-
-      public static final int VALUE_FIELD_NUMBER = 3;
-      private java.lang.Object value_;
-      /**
-       * <code>optional string value = 3;</code>
-       */
-      public boolean hasValue() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
-      }
-      /**
-       * <code>optional string value = 3;</code>
+       * <code>optional string name = 2;</code>
        */
-      public java.lang.String getValue() {
-        java.lang.Object ref = value_;
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
         if (ref instanceof java.lang.String) {
           return (java.lang.String) ref;
         } else {
@@ -6238,22 +8640,22 @@ public final class ReportProtos {
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
-            value_ = s;
+            name_ = s;
           }
           return s;
         }
       }
       /**
-       * <code>optional string value = 3;</code>
+       * <code>optional string name = 2;</code>
        */
       public com.google.protobuf.ByteString
-          getValueBytes() {
-        java.lang.Object ref = value_;
+          getNameBytes() {
+        java.lang.Object ref = name_;
         if (ref instanceof java.lang.String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          value_ = b;
+          name_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
@@ -6261,9 +8663,8 @@ public final class ReportProtos {
       }
 
       private void initFields() {
+        id_ = 0;
         name_ = "";
-        severity_ = org.attribyte.essem.proto.ReportProtos.EssemReport.Alert.Severity.UNKNOWN;
-        value_ = "";
       }
       private byte memoizedIsInitialized = -1;
       public final boolean isInitialized() {
@@ -6279,13 +8680,10 @@ public final class ReportProtos {
                           throws java.io.IOException {
         getSerializedSize();
         if (((bitField0_ & 0x00000001) == 0x00000001)) {
-          output.writeBytes(1, getNameBytes());
+          output.writeUInt32(1, id_);
         }
         if (((bitField0_ & 0x00000002) == 0x00000002)) {
-          output.writeEnum(2, severity_.getNumber());
-        }
-        if (((bitField0_ & 0x00000004) == 0x00000004)) {
-          output.writeBytes(3, getValueBytes());
+          output.writeBytes(2, getNameBytes());
         }
         getUnknownFields().writeTo(output);
       }
@@ -6298,15 +8696,11 @@ public final class ReportProtos {
         size = 0;
         if (((bitField0_ & 0x00000001) == 0x00000001)) {
           size += com.google.protobuf.CodedOutputStream
-            .computeBytesSize(1, getNameBytes());
+            .computeUInt32Size(1, id_);
         }
         if (((bitField0_ & 0x00000002) == 0x00000002)) {
           size += com.google.protobuf.CodedOutputStream
-            .computeEnumSize(2, severity_.getNumber());
-        }
-        if (((bitField0_ & 0x00000004) == 0x00000004)) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeBytesSize(3, getValueBytes());
+            .computeBytesSize(2, getNameBytes());
         }
         size += getUnknownFields().getSerializedSize();
         memoizedSerializedSize = size;
@@ -6320,53 +8714,53 @@ public final class ReportProtos {
         return super.writeReplace();
       }
 
-      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Alert parseFrom(
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition parseFrom(
           com.google.protobuf.ByteString data)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data);
       }
-      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Alert parseFrom(
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition parseFrom(
           com.google.protobuf.ByteString data,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data, extensionRegistry);
       }
-      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Alert parseFrom(byte[] data)
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition parseFrom(byte[] data)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data);
       }
-      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Alert parseFrom(
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition parseFrom(
           byte[] data,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data, extensionRegistry);
       }
-      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Alert parseFrom(java.io.InputStream input)
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition parseFrom(java.io.InputStream input)
           throws java.io.IOException {
         return PARSER.parseFrom(input);
       }
-      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Alert parseFrom(
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition parseFrom(
           java.io.InputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
         return PARSER.parseFrom(input, extensionRegistry);
       }
-      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Alert parseDelimitedFrom(java.io.InputStream input)
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition parseDelimitedFrom(java.io.InputStream input)
           throws java.io.IOException {
         return PARSER.parseDelimitedFrom(input);
       }
-      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Alert parseDelimitedFrom(
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition parseDelimitedFrom(
           java.io.InputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
         return PARSER.parseDelimitedFrom(input, extensionRegistry);
       }
-      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Alert parseFrom(
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition parseFrom(
           com.google.protobuf.CodedInputStream input)
           throws java.io.IOException {
         return PARSER.parseFrom(input);
       }
-      public static org.attribyte.essem.proto.ReportProtos.EssemReport.Alert parseFrom(
+      public static org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition parseFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
@@ -6375,7 +8769,7 @@ public final class ReportProtos {
 
       public static Builder newBuilder() { return Builder.create(); }
       public Builder newBuilderForType() { return newBuilder(); }
-      public static Builder newBuilder(org.attribyte.essem.proto.ReportProtos.EssemReport.Alert prototype) {
+      public static Builder newBuilder(org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition prototype) {
         return newBuilder().mergeFrom(prototype);
       }
       public Builder toBuilder() { return newBuilder(this); }
@@ -6387,25 +8781,25 @@ public final class ReportProtos {
         return builder;
       }
       /**
-       * Protobuf type {@code org.attribyte.essem.proto.EssemReport.Alert}
+       * Protobuf type {@code org.attribyte.essem.proto.EssemReport.NameDefinition}
        */
       public static final class Builder extends
           com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-          // @@protoc_insertion_point(builder_implements:org.attribyte.essem.proto.EssemReport.Alert)
-          org.attribyte.essem.proto.ReportProtos.EssemReport.AlertOrBuilder {
+          // @@protoc_insertion_point(builder_implements:org.attribyte.essem.proto.EssemReport.NameDefinition)
+          org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinitionOrBuilder {
         public static final com.google.protobuf.Descriptors.Descriptor
             getDescriptor() {
-          return org.attribyte.essem.proto.ReportProtos.internal_static_org_attribyte_essem_proto_EssemReport_Alert_descriptor;
+          return org.attribyte.essem.proto.ReportProtos.internal_static_org_attribyte_essem_proto_EssemReport_NameDefinition_descriptor;
         }
 
         protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
             internalGetFieldAccessorTable() {
-          return org.attribyte.essem.proto.ReportProtos.internal_static_org_attribyte_essem_proto_EssemReport_Alert_fieldAccessorTable
+          return org.attribyte.essem.proto.ReportProtos.internal_static_org_attribyte_essem_proto_EssemReport_NameDefinition_fieldAccessorTable
               .ensureFieldAccessorsInitialized(
-                  org.attribyte.essem.proto.ReportProtos.EssemReport.Alert.class, org.attribyte.essem.proto.ReportProtos.EssemReport.Alert.Builder.class);
+                  org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition.class, org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition.Builder.class);
         }
 
-        // Construct using org.attribyte.essem.proto.ReportProtos.EssemReport.Alert.newBuilder()
+        // Construct using org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition.newBuilder()
         private Builder() {
           maybeForceBuilderInitialization();
         }
@@ -6425,12 +8819,10 @@ public final class ReportProtos {
 
         public Builder clear() {
           super.clear();
-          name_ = "";
+          id_ = 0;
           bitField0_ = (bitField0_ & ~0x00000001);
-          severity_ = org.attribyte.essem.proto.ReportProtos.EssemReport.Alert.Severity.UNKNOWN;
+          name_ = "";
           bitField0_ = (bitField0_ & ~0x00000002);
-          value_ = "";
-          bitField0_ = (bitField0_ & ~0x00000004);
           return this;
         }
 
@@ -6440,66 +8832,57 @@ public final class ReportProtos {
 
         public com.google.protobuf.Descriptors.Descriptor
             getDescriptorForType() {
-          return org.attribyte.essem.proto.ReportProtos.internal_static_org_attribyte_essem_proto_EssemReport_Alert_descriptor;
+          return org.attribyte.essem.proto.ReportProtos.internal_static_org_attribyte_essem_proto_EssemReport_NameDefinition_descriptor;
         }
 
-        public org.attribyte.essem.proto.ReportProtos.EssemReport.Alert getDefaultInstanceForType() {
-          return org.attribyte.essem.proto.ReportProtos.EssemReport.Alert.getDefaultInstance();
+        public org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition getDefaultInstanceForType() {
+          return org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition.getDefaultInstance();
         }
 
-        public org.attribyte.essem.proto.ReportProtos.EssemReport.Alert build() {
-          org.attribyte.essem.proto.ReportProtos.EssemReport.Alert result = buildPartial();
+        public org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition build() {
+          org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition result = buildPartial();
           if (!result.isInitialized()) {
             throw newUninitializedMessageException(result);
           }
           return result;
         }
 
-        public org.attribyte.essem.proto.ReportProtos.EssemReport.Alert buildPartial() {
-          org.attribyte.essem.proto.ReportProtos.EssemReport.Alert result = new org.attribyte.essem.proto.ReportProtos.EssemReport.Alert(this);
+        public org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition buildPartial() {
+          org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition result = new org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition(this);
           int from_bitField0_ = bitField0_;
           int to_bitField0_ = 0;
           if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
             to_bitField0_ |= 0x00000001;
           }
-          result.name_ = name_;
+          result.id_ = id_;
           if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
             to_bitField0_ |= 0x00000002;
           }
-          result.severity_ = severity_;
-          if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
-            to_bitField0_ |= 0x00000004;
-          }
-          result.value_ = value_;
+          result.name_ = name_;
           result.bitField0_ = to_bitField0_;
           onBuilt();
           return result;
         }
 
         public Builder mergeFrom(com.google.protobuf.Message other) {
-          if (other instanceof org.attribyte.essem.proto.ReportProtos.EssemReport.Alert) {
-            return mergeFrom((org.attribyte.essem.proto.ReportProtos.EssemReport.Alert)other);
+          if (other instanceof org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition) {
+            return mergeFrom((org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition)other);
           } else {
             super.mergeFrom(other);
             return this;
           }
         }
 
-        public Builder mergeFrom(org.attribyte.essem.proto.ReportProtos.EssemReport.Alert other) {
-          if (other == org.attribyte.essem.proto.ReportProtos.EssemReport.Alert.getDefaultInstance()) return this;
+        public Builder mergeFrom(org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition other) {
+          if (other == org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition.getDefaultInstance()) return this;
+          if (other.hasId()) {
+            setId(other.getId());
+          }
           if (other.hasName()) {
-            bitField0_ |= 0x00000001;
+            bitField0_ |= 0x00000002;
             name_ = other.name_;
             onChanged();
           }
-          if (other.hasSeverity()) {
-            setSeverity(other.getSeverity());
-          }
-          if (other.hasValue()) {
-            bitField0_ |= 0x00000004;
-            value_ = other.value_;
-            onChanged();
-          }
           this.mergeUnknownFields(other.getUnknownFields());
           return this;
         }
@@ -6512,11 +8895,11 @@ public final class ReportProtos {
             com.google.protobuf.CodedInputStream input,
             com.google.protobuf.ExtensionRegistryLite extensionRegistry)
             throws java.io.IOException {
-          org.attribyte.essem.proto.ReportProtos.EssemReport.Alert parsedMessage = null;
+          org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition parsedMessage = null;
           try {
             parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
           } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-            parsedMessage = (org.attribyte.essem.proto.ReportProtos.EssemReport.Alert) e.getUnfinishedMessage();
+            parsedMessage = (org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition) e.getUnfinishedMessage();
             throw e;
           } finally {
             if (parsedMessage != null) {
@@ -6527,135 +8910,56 @@ public final class ReportProtos {
         }
         private int bitField0_;
 
-        private java.lang.Object name_ = "";
+        private int id_ ;
         /**
-         * <code>optional string name = 1;</code>
+         * <code>optional uint32 id = 1;</code>
          */
-        public boolean hasName() {
+        public boolean hasId() {
           return ((bitField0_ & 0x00000001) == 0x00000001);
         }
         /**
-         * <code>optional string name = 1;</code>
-         */
-        public java.lang.String getName() {
-          java.lang.Object ref = name_;
-          if (!(ref instanceof java.lang.String)) {
-            com.google.protobuf.ByteString bs =
-                (com.google.protobuf.ByteString) ref;
-            java.lang.String s = bs.toStringUtf8();
-            if (bs.isValidUtf8()) {
-              name_ = s;
-            }
-            return s;
-          } else {
-            return (java.lang.String) ref;
-          }
-        }
-        /**
-         * <code>optional string name = 1;</code>
+         * <code>optional uint32 id = 1;</code>
          */
-        public com.google.protobuf.ByteString
-            getNameBytes() {
-          java.lang.Object ref = name_;
-          if (ref instanceof String) {
-            com.google.protobuf.ByteString b = 
-                com.google.protobuf.ByteString.copyFromUtf8(
-                    (java.lang.String) ref);
-            name_ = b;
-            return b;
-          } else {
-            return (com.google.protobuf.ByteString) ref;
-          }
+        public int getId() {
+          return id_;
         }
         /**
-         * <code>optional string name = 1;</code>
+         * <code>optional uint32 id = 1;</code>
          */
-        public Builder setName(
-            java.lang.String value) {
-          if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-          name_ = value;
+        public Builder setId(int value) {
+          bitField0_ |= 0x00000001;
+          id_ = value;
           onChanged();
           return this;
         }
         /**
-         * <code>optional string name = 1;</code>
+         * <code>optional uint32 id = 1;</code>
          */
-        public Builder clearName() {
+        public Builder clearId() {
           bitField0_ = (bitField0_ & ~0x00000001);
-          name_ = getDefaultInstance().getName();
-          onChanged();
-          return this;
-        }
-        /**
-         * <code>optional string name = 1;</code>
-         */
-        public Builder setNameBytes(
-            com.google.protobuf.ByteString value) {
-          if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-          name_ = value;
+          id_ = 0;
           onChanged();
           return this;
         }
 
-        private org.attribyte.essem.proto.ReportProtos.EssemReport.Alert.Severity severity_ = org.attribyte.essem.proto.ReportProtos.EssemReport.Alert.Severity.UNKNOWN;
+        private java.lang.Object name_ = "";
         /**
-         * <code>optional .org.attribyte.essem.proto.EssemReport.Alert.Severity severity = 2;</code>
+         * <code>optional string name = 2;</code>
          */
-        public boolean hasSeverity() {
+        public boolean hasName() {
           return ((bitField0_ & 0x00000002) == 0x00000002);
         }
         /**
-         * <code>optional .org.attribyte.essem.proto.EssemReport.Alert.Severity severity = 2;</code>
-         */
-        public org.attribyte.essem.proto.ReportProtos.EssemReport.Alert.Severity getSeverity() {
-          return severity_;
-        }
-        /**
-         * <code>optional .org.attribyte.essem.proto.EssemReport.Alert.Severity severity = 2;</code>
-         */
-        public Builder setSeverity(org.attribyte.essem.proto.ReportProtos.EssemReport.Alert.Severity value) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          bitField0_ |= 0x00000002;
-          severity_ = value;
-          onChanged();
-          return this;
-        }
-        /**
-         * <code>optional .org.attribyte.essem.proto.EssemReport.Alert.Severity severity = 2;</code>
-         */
-        public Builder clearSeverity() {
-          bitField0_ = (bitField0_ & ~0x00000002);
-          severity_ = org.attribyte.essem.proto.ReportProtos.EssemReport.Alert.Severity.UNKNOWN;
-          onChanged();
-          return this;
-        }
-
-        private java.lang.Object value_ = "";
-        /**
-         * <code>optional string value = 3;</code>
-         */
-        public boolean hasValue() {
-          return ((bitField0_ & 0x00000004) == 0x00000004);
-        }
-        /**
-         * <code>optional string value = 3;</code>
+         * <code>optional string name = 2;</code>
          */
-        public java.lang.String getValue() {
-          java.lang.Object ref = value_;
+        public java.lang.String getName() {
+          java.lang.Object ref = name_;
           if (!(ref instanceof java.lang.String)) {
             com.google.protobuf.ByteString bs =
                 (com.google.protobuf.ByteString) ref;
             java.lang.String s = bs.toStringUtf8();
             if (bs.isValidUtf8()) {
-              value_ = s;
+              name_ = s;
             }
             return s;
           } else {
@@ -6663,66 +8967,66 @@ public final class ReportProtos {
           }
         }
         /**
-         * <code>optional string value = 3;</code>
+         * <code>optional string name = 2;</code>
          */
         public com.google.protobuf.ByteString
-            getValueBytes() {
-          java.lang.Object ref = value_;
+            getNameBytes() {
+          java.lang.Object ref = name_;
           if (ref instanceof String) {
             com.google.protobuf.ByteString b = 
                 com.google.protobuf.ByteString.copyFromUtf8(
                     (java.lang.String) ref);
-            value_ = b;
+            name_ = b;
             return b;
           } else {
             return (com.google.protobuf.ByteString) ref;
           }
         }
         /**
-         * <code>optional string value = 3;</code>
+         * <code>optional string name = 2;</code>
          */
-        public Builder setValue(
+        public Builder setName(
             java.lang.String value) {
           if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000004;
-          value_ = value;
+  bitField0_ |= 0x00000002;
+          name_ = value;
           onChanged();
           return this;
         }
         /**
-         * <code>optional string value = 3;</code>
+         * <code>optional string name = 2;</code>
          */
-        public Builder clearValue() {
-          bitField0_ = (bitField0_ & ~0x00000004);
-          value_ = getDefaultInstance().getValue();
+        public Builder clearName() {
+          bitField0_ = (bitField0_ & ~0x00000002);
+          name_ = getDefaultInstance().getName();
           onChanged();
           return this;
         }
         /**
-         * <code>optional string value = 3;</code>
+         * <code>optional string name = 2;</code>
          */
-        public Builder setValueBytes(
+        public Builder setNameBytes(
             com.google.protobuf.ByteString value) {
           if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000004;
-          value_ = value;
+  bitField0_ |= 0x00000002;
+          name_ = value;
           onChanged();
           return this;
         }
 
-        // @@protoc_insertion_point(builder_scope:org.attribyte.essem.proto.EssemReport.Alert)
+        // @@protoc_insertion_point(builder_scope:org.attribyte.essem.proto.EssemReport.NameDefinition)
       }
 
       static {
-        defaultInstance = new Alert(true);
+        defaultInstance = new NameDefinition(true);
         defaultInstance.initFields();
       }
 
-      // @@protoc_insertion_point(class_scope:org.attribyte.essem.proto.EssemReport.Alert)
+      // @@protoc_insertion_point(class_scope:org.attribyte.essem.proto.EssemReport.NameDefinition)
     }
 
     private int bitField0_;
@@ -7198,39 +9502,119 @@ public final class ReportProtos {
       }
     }
 
-    public static final int ALERT_FIELD_NUMBER = 15;
-    private java.util.List<org.attribyte.essem.proto.ReportProtos.EssemReport.Alert> alert_;
+    public static final int ALERT_FIELD_NUMBER = 15;
+    private java.util.List<org.attribyte.essem.proto.ReportProtos.EssemReport.Alert> alert_;
+    /**
+     * <code>repeated .org.attribyte.essem.proto.EssemReport.Alert alert = 15;</code>
+     */
+    public java.util.List<org.attribyte.essem.proto.ReportProtos.EssemReport.Alert> getAlertList() {
+      return alert_;
+    }
+    /**
+     * <code>repeated .org.attribyte.essem.proto.EssemReport.Alert alert = 15;</code>
+     */
+    public java.util.List<? extends org.attribyte.essem.proto.ReportProtos.EssemReport.AlertOrBuilder> 
+        getAlertOrBuilderList() {
+      return alert_;
+    }
+    /**
+     * <code>repeated .org.attribyte.essem.proto.EssemReport.Alert alert = 15;</code>
+     */
+    public int getAlertCount() {
+      return alert_.size();
+    }
+    /**
+     * <code>repeated .org.attribyte.essem.proto.EssemReport.Alert alert = 15;</code>
+     */
+    public org.attribyte.essem.proto.ReportProtos.EssemReport.Alert getAlert(int index) {
+      return alert_.get(index);
+    }
+    /**
+     * <code>repeated .org.attribyte.essem.proto.EssemReport.Alert alert = 15;</code>
+     */
+    public org.attribyte.essem.proto.ReportProtos.EssemReport.AlertOrBuilder getAlertOrBuilder(
+        int index) {
+      return alert_.get(index);
+    }
+
+    public static final int NAMEDEFINITION_FIELD_NUMBER = 16;
+    private java.util.List<org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition> nameDefinition_;
+    /**
+     * <code>repeated .org.attribyte.essem.proto.EssemReport.NameDefinition nameDefinition = 16;</code>
+     */
+    public java.util.List<org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition> getNameDefinitionList() {
+      return nameDefinition_;
+    }
+    /**
+     * <code>repeated .org.attribyte.essem.proto.EssemReport.NameDefinition nameDefinition = 16;</code>
+     */
+    public java.util.List<? extends org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinitionOrBuilder> 
+        getNameDefinitionOrBuilderList() {
+      return nameDefinition_;
+    }
+    /**
+     * <code>repeated .org.attribyte.essem.proto.EssemReport.NameDefinition nameDefinition = 16;</code>
+     */
+    public int getNameDefinitionCount() {
+      return nameDefinition_.size();
+    }
+    /**
+     * <code>repeated .org.attribyte.essem.proto.EssemReport.NameDefinition nameDefinition = 16;</code>
+     */
+    public org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition getNameDefinition(int index) {
+      return nameDefinition_.get(index);
+    }
+    /**
+     * <code>repeated .org.attribyte.essem.proto.EssemReport.NameDefinition nameDefinition = 16;</code>
+     */
+    public org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinitionOrBuilder getNameDefinitionOrBuilder(
+        int index) {
+      return nameDefinition_.get(index);
+    }
+
+    public static final int NAMEDICTIONARYID_FIELD_NUMBER = 17;
+    private long nameDictionaryId_;
     /**
-     * <code>repeated .org.attribyte.essem.proto.EssemReport.Alert alert = 15;</code>
+     * <code>optional uint64 nameDictionaryId = 17;</code>
      */
-    public java.util.List<org.attribyte.essem.proto.ReportProtos.EssemReport.Alert> getAlertList() {
-      return alert_;
+    public boolean hasNameDictionaryId() {
+      return ((bitField0_ & 0x00000200) == 0x00000200);
     }
     /**
-     * <code>repeated .org.attribyte.essem.proto.EssemReport.Alert alert = 15;</code>
+     * <code>optional uint64 nameDictionaryId = 17;</code>
      */
-    public java.util.List<? extends org.attribyte.essem.proto.ReportProtos.EssemReport.AlertOrBuilder> 
-        getAlertOrBuilderList() {
-      return alert_;
+    public long getNameDictionaryId() {
+      return nameDictionaryId_;
     }
+
+    public static final int HDRENCODING_FIELD_NUMBER = 18;
+    private org.attribyte.essem.proto.ReportProtos.EssemReport.HdrEncoding hdrEncoding_;
     /**
-     * <code>repeated .org.attribyte.essem.proto.EssemReport.Alert alert = 15;</code>
+     * <code>optional .org.attribyte.essem.proto.EssemReport.HdrEncoding hdrEncoding = 18;</code>
      */
-    public int getAlertCount() {
-      return alert_.size();
+    public boolean hasHdrEncoding() {
+      return ((bitField0_ & 0x00000400) == 0x00000400);
     }
     /**
-     * <code>repeated .org.attribyte.essem.proto.EssemReport.Alert alert = 15;</code>
+     * <code>optional .org.attribyte.essem.proto.EssemReport.HdrEncoding hdrEncoding = 18;</code>
      */
-    public org.attribyte.essem.proto.ReportProtos.EssemReport.Alert getAlert(int index) {
-      return alert_.get(index);
+    public org.attribyte.essem.proto.ReportProtos.EssemReport.HdrEncoding getHdrEncoding() {
+      return hdrEncoding_;
     }
+
+    public static final int LEAN_FIELD_NUMBER = 19;
+    private boolean lean_;
     /**
-     * <code>repeated .org.attribyte.essem.proto.EssemReport.Alert alert = 15;</code>
+     * <code>optional bool lean = 19;</code>
      */
-    public org.attribyte.essem.proto.ReportProtos.EssemReport.AlertOrBuilder getAlertOrBuilder(
-        int index) {
-      return alert_.get(index);
+    public boolean hasLean() {
+      return ((bitField0_ & 0x00000800) == 0x00000800);
+    }
+    /**
+     * <code>optional bool lean = 19;</code>
+     */
+    public boolean getLean() {
+      return lean_;
     }
 
     private void initFields() {
@@ -7249,6 +9633,10 @@ public final class ReportProtos {
       status_ = "";
       description_ = "";
       alert_ = java.util.Collections.emptyList();
+      nameDefinition_ = java.util.Collections.emptyList();
+      nameDictionaryId_ = 0L;
+      hdrEncoding_ = org.attribyte.essem.proto.ReportProtos.EssemReport.HdrEncoding.COMPRESSED;
+      lean_ = false;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -7308,6 +9696,18 @@ public final class ReportProtos {
       for (int i = 0; i < alert_.size(); i++) {
         output.writeMessage(15, alert_.get(i));
       }
+      for (int i = 0; i < nameDefinition_.size(); i++) {
+        output.writeMessage(16, nameDefinition_.get(i));
+      }
+      if (((bitField0_ & 0x00000200) == 0x00000200)) {
+        output.writeUInt64(17, nameDictionaryId_);
+      }
+      if (((bitField0_ & 0x00000400) == 0x00000400)) {
+        output.writeEnum(18, hdrEncoding_.getNumber());
+      }
+      if (((bitField0_ & 0x00000800) == 0x00000800)) {
+        output.writeBool(19, lean_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -7377,6 +9777,22 @@ public final class ReportProtos {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(15, alert_.get(i));
       }
+      for (int i = 0; i < nameDefinition_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(16, nameDefinition_.get(i));
+      }
+      if (((bitField0_ & 0x00000200) == 0x00000200)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(17, nameDictionaryId_);
+      }
+      if (((bitField0_ & 0x00000400) == 0x00000400)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(18, hdrEncoding_.getNumber());
+      }
+      if (((bitField0_ & 0x00000800) == 0x00000800)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(19, lean_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -7492,6 +9908,7 @@ public final class ReportProtos {
           getHistogramFieldBuilder();
           getGaugeFieldBuilder();
           getAlertFieldBuilder();
+          getNameDefinitionFieldBuilder();
         }
       }
       private static Builder create() {
@@ -7554,6 +9971,18 @@ public final class ReportProtos {
         } else {
           alertBuilder_.clear();
         }
+        if (nameDefinitionBuilder_ == null) {
+          nameDefinition_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00008000);
+        } else {
+          nameDefinitionBuilder_.clear();
+        }
+        nameDictionaryId_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00010000);
+        hdrEncoding_ = org.attribyte.essem.proto.ReportProtos.EssemReport.HdrEncoding.COMPRESSED;
+        bitField0_ = (bitField0_ & ~0x00020000);
+        lean_ = false;
+        bitField0_ = (bitField0_ & ~0x00040000);
         return this;
       }
 
@@ -7672,6 +10101,27 @@ public final class ReportProtos {
         } else {
           result.alert_ = alertBuilder_.build();
         }
+        if (nameDefinitionBuilder_ == null) {
+          if (((bitField0_ & 0x00008000) == 0x00008000)) {
+            nameDefinition_ = java.util.Collections.unmodifiableList(nameDefinition_);
+            bitField0_ = (bitField0_ & ~0x00008000);
+          }
+          result.nameDefinition_ = nameDefinition_;
+        } else {
+          result.nameDefinition_ = nameDefinitionBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00010000) == 0x00010000)) {
+          to_bitField0_ |= 0x00000200;
+        }
+        result.nameDictionaryId_ = nameDictionaryId_;
+        if (((from_bitField0_ & 0x00020000) == 0x00020000)) {
+          to_bitField0_ |= 0x00000400;
+        }
+        result.hdrEncoding_ = hdrEncoding_;
+        if (((from_bitField0_ & 0x00040000) == 0x00040000)) {
+          to_bitField0_ |= 0x00000800;
+        }
+        result.lean_ = lean_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -7883,6 +10333,41 @@ public final class ReportProtos {
             }
           }
         }
+        if (nameDefinitionBuilder_ == null) {
+          if (!other.nameDefinition_.isEmpty()) {
+            if (nameDefinition_.isEmpty()) {
+              nameDefinition_ = other.nameDefinition_;
+              bitField0_ = (bitField0_ & ~0x00008000);
+            } else {
+              ensureNameDefinitionIsMutable();
+              nameDefinition_.addAll(other.nameDefinition_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.nameDefinition_.isEmpty()) {
+            if (nameDefinitionBuilder_.isEmpty()) {
+              nameDefinitionBuilder_.dispose();
+              nameDefinitionBuilder_ = null;
+              nameDefinition_ = other.nameDefinition_;
+              bitField0_ = (bitField0_ & ~0x00008000);
+              nameDefinitionBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getNameDefinitionFieldBuilder() : null;
+            } else {
+              nameDefinitionBuilder_.addAllMessages(other.nameDefinition_);
+            }
+          }
+        }
+        if (other.hasNameDictionaryId()) {
+          setNameDictionaryId(other.getNameDictionaryId());
+        }
+        if (other.hasHdrEncoding()) {
+          setHdrEncoding(other.getHdrEncoding());
+        }
+        if (other.hasLean()) {
+          setLean(other.getLean());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -9908,6 +12393,345 @@ public final class ReportProtos {
         return alertBuilder_;
       }
 
+      private java.util.List<org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition> nameDefinition_ =
+        java.util.Collections.emptyList();
+      private void ensureNameDefinitionIsMutable() {
+        if (!((bitField0_ & 0x00008000) == 0x00008000)) {
+          nameDefinition_ = new java.util.ArrayList<org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition>(nameDefinition_);
+          bitField0_ |= 0x00008000;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition, org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition.Builder, org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinitionOrBuilder> nameDefinitionBuilder_;
+
+      /**
+       * <code>repeated .org.attribyte.essem.proto.EssemReport.NameDefinition nameDefinition = 16;</code>
+       */
+      public java.util.List<org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition> getNameDefinitionList() {
+        if (nameDefinitionBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(nameDefinition_);
+        } else {
+          return nameDefinitionBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto.EssemReport.NameDefinition nameDefinition = 16;</code>
+       */
+      public int getNameDefinitionCount() {
+        if (nameDefinitionBuilder_ == null) {
+          return nameDefinition_.size();
+        } else {
+          return nameDefinitionBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto.EssemReport.NameDefinition nameDefinition = 16;</code>
+       */
+      public org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition getNameDefinition(int index) {
+        if (nameDefinitionBuilder_ == null) {
+          return nameDefinition_.get(index);
+        } else {
+          return nameDefinitionBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto.EssemReport.NameDefinition nameDefinition = 16;</code>
+       */
+      public Builder setNameDefinition(
+          int index, org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition value) {
+        if (nameDefinitionBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNameDefinitionIsMutable();
+          nameDefinition_.set(index, value);
+          onChanged();
+        } else {
+          nameDefinitionBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto.EssemReport.NameDefinition nameDefinition = 16;</code>
+       */
+      public Builder setNameDefinition(
+          int index, org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition.Builder builderForValue) {
+        if (nameDefinitionBuilder_ == null) {
+          ensureNameDefinitionIsMutable();
+          nameDefinition_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          nameDefinitionBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto.EssemReport.NameDefinition nameDefinition = 16;</code>
+       */
+      public Builder addNameDefinition(org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition value) {
+        if (nameDefinitionBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNameDefinitionIsMutable();
+          nameDefinition_.add(value);
+          onChanged();
+        } else {
+          nameDefinitionBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto.EssemReport.NameDefinition nameDefinition = 16;</code>
+       */
+      public Builder addNameDefinition(
+          int index, org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition value) {
+        if (nameDefinitionBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNameDefinitionIsMutable();
+          nameDefinition_.add(index, value);
+          onChanged();
+        } else {
+          nameDefinitionBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto.EssemReport.NameDefinition nameDefinition = 16;</code>
+       */
+      public Builder addNameDefinition(
+          org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition.Builder builderForValue) {
+        if (nameDefinitionBuilder_ == null) {
+          ensureNameDefinitionIsMutable();
+          nameDefinition_.add(builderForValue.build());
+          onChanged();
+        } else {
+          nameDefinitionBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto.EssemReport.NameDefinition nameDefinition = 16;</code>
+       */
+      public Builder addNameDefinition(
+          int index, org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition.Builder builderForValue) {
+        if (nameDefinitionBuilder_ == null) {
+          ensureNameDefinitionIsMutable();
+          nameDefinition_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          nameDefinitionBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto.EssemReport.NameDefinition nameDefinition = 16;</code>
+       */
+      public Builder addAllNameDefinition(
+          java.lang.Iterable<? extends org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition> values) {
+        if (nameDefinitionBuilder_ == null) {
+          ensureNameDefinitionIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, nameDefinition_);
+          onChanged();
+        } else {
+          nameDefinitionBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto.EssemReport.NameDefinition nameDefinition = 16;</code>
+       */
+      public Builder clearNameDefinition() {
+        if (nameDefinitionBuilder_ == null) {
+          nameDefinition_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00008000);
+          onChanged();
+        } else {
+          nameDefinitionBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto.EssemReport.NameDefinition nameDefinition = 16;</code>
+       */
+      public Builder removeNameDefinition(int index) {
+        if (nameDefinitionBuilder_ == null) {
+          ensureNameDefinitionIsMutable();
+          nameDefinition_.remove(index);
+          onChanged();
+        } else {
+          nameDefinitionBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto.EssemReport.NameDefinition nameDefinition = 16;</code>
+       */
+      public org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition.Builder getNameDefinitionBuilder(
+          int index) {
+        return getNameDefinitionFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto.EssemReport.NameDefinition nameDefinition = 16;</code>
+       */
+      public org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinitionOrBuilder getNameDefinitionOrBuilder(
+          int index) {
+        if (nameDefinitionBuilder_ == null) {
+          return nameDefinition_.get(index);  } else {
+          return nameDefinitionBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto.EssemReport.NameDefinition nameDefinition = 16;</code>
+       */
+      public java.util.List<? extends org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinitionOrBuilder> 
+           getNameDefinitionOrBuilderList() {
+        if (nameDefinitionBuilder_ != null) {
+          return nameDefinitionBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(nameDefinition_);
+        }
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto.EssemReport.NameDefinition nameDefinition = 16;</code>
+       */
+      public org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition.Builder addNameDefinitionBuilder() {
+        return getNameDefinitionFieldBuilder().addBuilder(
+            org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto.EssemReport.NameDefinition nameDefinition = 16;</code>
+       */
+      public org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition.Builder addNameDefinitionBuilder(
+          int index) {
+        return getNameDefinitionFieldBuilder().addBuilder(
+            index, org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto.EssemReport.NameDefinition nameDefinition = 16;</code>
+       */
+      public java.util.List<org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition.Builder> 
+           getNameDefinitionBuilderList() {
+        return getNameDefinitionFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition, org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition.Builder, org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinitionOrBuilder> 
+          getNameDefinitionFieldBuilder() {
+        if (nameDefinitionBuilder_ == null) {
+          nameDefinitionBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition, org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinition.Builder, org.attribyte.essem.proto.ReportProtos.EssemReport.NameDefinitionOrBuilder>(
+                  nameDefinition_,
+                  ((bitField0_ & 0x00008000) == 0x00008000),
+                  getParentForChildren(),
+                  isClean());
+          nameDefinition_ = null;
+        }
+        return nameDefinitionBuilder_;
+      }
+
+      private long nameDictionaryId_ ;
+      /**
+       * <code>optional uint64 nameDictionaryId = 17;</code>
+       */
+      public boolean hasNameDictionaryId() {
+        return ((bitField0_ & 0x00010000) == 0x00010000);
+      }
+      /**
+       * <code>optional uint64 nameDictionaryId = 17;</code>
+       */
+      public long getNameDictionaryId() {
+        return nameDictionaryId_;
+      }
+      /**
+       * <code>optional uint64 nameDictionaryId = 17;</code>
+       */
+      public Builder setNameDictionaryId(long value) {
+        bitField0_ |= 0x00010000;
+        nameDictionaryId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 nameDictionaryId = 17;</code>
+       */
+      public Builder clearNameDictionaryId() {
+        bitField0_ = (bitField0_ & ~0x00010000);
+        nameDictionaryId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private org.attribyte.essem.proto.ReportProtos.EssemReport.HdrEncoding hdrEncoding_ = org.attribyte.essem.proto.ReportProtos.EssemReport.HdrEncoding.COMPRESSED;
+      /**
+       * <code>optional .org.attribyte.essem.proto.EssemReport.HdrEncoding hdrEncoding = 18;</code>
+       */
+      public boolean hasHdrEncoding() {
+        return ((bitField0_ & 0x00020000) == 0x00020000);
+      }
+      /**
+       * <code>optional .org.attribyte.essem.proto.EssemReport.HdrEncoding hdrEncoding = 18;</code>
+       */
+      public org.attribyte.essem.proto.ReportProtos.EssemReport.HdrEncoding getHdrEncoding() {
+        return hdrEncoding_;
+      }
+      /**
+       * <code>optional .org.attribyte.essem.proto.EssemReport.HdrEncoding hdrEncoding = 18;</code>
+       */
+      public Builder setHdrEncoding(org.attribyte.essem.proto.ReportProtos.EssemReport.HdrEncoding value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00020000;
+        hdrEncoding_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .org.attribyte.essem.proto.EssemReport.HdrEncoding hdrEncoding = 18;</code>
+       */
+      public Builder clearHdrEncoding() {
+        bitField0_ = (bitField0_ & ~0x00020000);
+        hdrEncoding_ = org.attribyte.essem.proto.ReportProtos.EssemReport.HdrEncoding.COMPRESSED;
+        onChanged();
+        return this;
+      }
+
+      private boolean lean_ ;
+      /**
+       * <code>optional bool lean = 19;</code>
+       */
+      public boolean hasLean() {
+        return ((bitField0_ & 0x00040000) == 0x00040000);
+      }
+      /**
+       * <code>optional bool lean = 19;</code>
+       */
+      public boolean getLean() {
+        return lean_;
+      }
+      /**
+       * <code>optional bool lean = 19;</code>
+       */
+      public Builder setLean(boolean value) {
+        bitField0_ |= 0x00040000;
+        lean_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool lean = 19;</code>
+       */
+      public Builder clearLean() {
+        bitField0_ = (bitField0_ & ~0x00040000);
+        lean_ = false;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:org.attribyte.essem.proto.EssemReport)
     }
 
@@ -9939,6 +12763,11 @@ public final class ReportProtos {
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_org_attribyte_essem_proto_EssemReport_Meter_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_attribyte_essem_proto_EssemReport_Quantile_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_org_attribyte_essem_proto_EssemReport_Quantile_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_org_attribyte_essem_proto_EssemReport_Histogram_descriptor;
   private static
@@ -9954,6 +12783,11 @@ public final class ReportProtos {
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_org_attribyte_essem_proto_EssemReport_Alert_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_attribyte_essem_proto_EssemReport_NameDefinition_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_org_attribyte_essem_proto_EssemReport_NameDefinition_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -9964,7 +12798,7 @@ public final class ReportProtos {
   static {
     java.lang.String[] descriptorData = {
       "\n\021EssemReport.proto\022\031org.attribyte.essem" +
-      ".proto\"\316\r\n\013EssemReport\022;\n\005meter\030\001 \003(\0132,." +
+      ".proto\"\345\021\n\013EssemReport\022;\n\005meter\030\001 \003(\0132,." +
       "org.attribyte.essem.proto.EssemReport.Me" +
       "ter\022;\n\005timer\030\002 \003(\0132,.org.attribyte.essem" +
       ".proto.EssemReport.Timer\022?\n\007counter\030\003 \003(" +
@@ -9980,35 +12814,48 @@ public final class ReportProtos {
       "\004host\030\n \001(\t\022\020\n\010instance\030\013 \001(\t\022\014\n\004role\030\014 " +
       "\001(\t\022\016\n\006status\030\r \001(\t\022\023\n\013description\030\016 \001(\t" +
       "\022;\n\005alert\030\017 \003(\0132,.org.attribyte.essem.pr" +
-      "oto.EssemReport.Alert\0325\n\005Gauge\022\014\n\004name\030\001" +
-      " \001(\t\022\r\n\005value\030\002 \001(\001\022\017\n\007comment\030\003 \001(\t\032&\n\007" +
-      "Counter\022\014\n\004name\030\001 \001(\t\022\r\n\005count\030\002 \001(\004\032\200\001\n",
-      "\005Meter\022\014\n\004name\030\001 \001(\t\022\025\n\roneMinuteRate\030\002 " +
-      "\001(\001\022\026\n\016fiveMinuteRate\030\003 \001(\001\022\031\n\021fifteenMi" +
-      "nuteRate\030\004 \001(\001\022\020\n\010meanRate\030\005 \001(\001\022\r\n\005coun" +
-      "t\030\006 \001(\004\032\362\001\n\tHistogram\022\014\n\004name\030\001 \001(\t\022\r\n\005c" +
-      "ount\030\002 \001(\004\022\013\n\003max\030\003 \001(\001\022\014\n\004mean\030\004 \001(\001\022\013\n" +
-      "\003min\030\005 \001(\001\022\013\n\003std\030\006 \001(\001\022\016\n\006median\030\007 \001(\001\022" +
-      "\024\n\014percentile75\030\010 \001(\001\022\024\n\014percentile95\030\t " +
-      "\001(\001\022\024\n\014percentile98\030\n \001(\001\022\024\n\014percentile9" +
-      "9\030\013 \001(\001\022\025\n\rpercentile999\030\014 \001(\001\022\024\n\014hdrHis" +
-      "togram\030\r \001(\014\032\312\002\n\005Timer\022\014\n\004name\030\001 \001(\t\022\025\n\r",
-      "oneMinuteRate\030\002 \001(\001\022\026\n\016fiveMinuteRate\030\003 " +
-      "\001(\001\022\031\n\021fifteenMinuteRate\030\004 \001(\001\022\020\n\010meanRa" +
-      "te\030\005 \001(\001\022\r\n\005count\030\006 \001(\004\022\013\n\003max\030\007 \001(\001\022\014\n\004" +
-      "mean\030\010 \001(\001\022\013\n\003min\030\t \001(\001\022\013\n\003std\030\n \001(\001\022\016\n\006" +
-      "median\030\013 \001(\001\022\024\n\014percentile75\030\014 \001(\001\022\024\n\014pe" +
-      "rcentile95\030\r \001(\001\022\024\n\014percentile98\030\016 \001(\001\022\024" +
-      "\n\014percentile99\030\017 \001(\001\022\025\n\rpercentile999\030\020 " +
-      "\001(\001\022\024\n\014hdrHistogram\030\021 \001(\014\032\260\001\n\005Alert\022\014\n\004n" +
-      "ame\030\001 \001(\t\022G\n\010severity\030\002 \001(\01625.org.attrib" +
-      "yte.essem.proto.EssemReport.Alert.Severi",
-      "ty\022\r\n\005value\030\003 \001(\t\"A\n\010Severity\022\013\n\007UNKNOWN" +
-      "\020\000\022\010\n\004INFO\020\001\022\010\n\004WARN\020\002\022\t\n\005ERROR\020\003\022\t\n\005FAT" +
-      "AL\020\004\"i\n\010TimeUnit\022\013\n\007UNKNOWN\020\000\022\t\n\005NANOS\020\001" +
-      "\022\n\n\006MICROS\020\002\022\n\n\006MILLIS\020\003\022\013\n\007SECONDS\020\004\022\013\n" +
-      "\007MINUTES\020\005\022\t\n\005HOURS\020\006\022\010\n\004DAYS\020\007B\016B\014Repor" +
-      "tProtos"
+      "oto.EssemReport.Alert\022M\n\016nameDefinition\030" +
+      "\020 \003(\01325.org.attribyte.essem.proto.EssemR" +
+      "eport.NameDefinition\022\030\n\020nameDictionaryId",
+      "\030\021 \001(\004\022G\n\013hdrEncoding\030\022 \001(\01622.org.attrib" +
+      "yte.essem.proto.EssemReport.HdrEncoding\022" +
+      "\014\n\004lean\030\023 \001(\010\032E\n\005Gauge\022\014\n\004name\030\001 \001(\t\022\r\n\005" +
+      "value\030\002 \001(\001\022\017\n\007comment\030\003 \001(\t\022\016\n\006nameId\030\004" +
+      " \001(\r\0326\n\007Counter\022\014\n\004name\030\001 \001(\t\022\r\n\005count\030\002" +
+      " \001(\004\022\016\n\006nameId\030\003 \001(\r\032\220\001\n\005Meter\022\014\n\004name\030\001" +
+      " \001(\t\022\025\n\roneMinuteRate\030\002 \001(\001\022\026\n\016fiveMinut" +
+      "eRate\030\003 \001(\001\022\031\n\021fifteenMinuteRate\030\004 \001(\001\022\020" +
+      "\n\010meanRate\030\005 \001(\001\022\r\n\005count\030\006 \001(\004\022\016\n\006nameI" +
+      "d\030\007 \001(\r\032+\n\010Quantile\022\020\n\010quantile\030\001 \001(\001\022\r\n",
+      "\005value\030\002 \001(\001\032\305\002\n\tHistogram\022\014\n\004name\030\001 \001(\t" +
+      "\022\r\n\005count\030\002 \001(\004\022\013\n\003max\030\003 \001(\001\022\014\n\004mean\030\004 \001" +
+      "(\001\022\013\n\003min\030\005 \001(\001\022\013\n\003std\030\006 \001(\001\022\016\n\006median\030\007" +
+      " \001(\001\022\024\n\014percentile75\030\010 \001(\001\022\024\n\014percentile" +
+      "95\030\t \001(\001\022\024\n\014percentile98\030\n \001(\001\022\024\n\014percen" +
+      "tile99\030\013 \001(\001\022\025\n\rpercentile999\030\014 \001(\001\022\024\n\014h" +
+      "drHistogram\030\r \001(\014\022\016\n\006nameId\030\016 \001(\r\022A\n\010qua" +
+      "ntile\030\017 \003(\0132/.org.attribyte.essem.proto." +
+      "EssemReport.Quantile\032\235\003\n\005Timer\022\014\n\004name\030\001" +
+      " \001(\t\022\025\n\roneMinuteRate\030\002 \001(\001\022\026\n\016fiveMinut",
+      "eRate\030\003 \001(\001\022\031\n\021fifteenMinuteRate\030\004 \001(\001\022\020" +
+      "\n\010meanRate\030\005 \001(\001\022\r\n\005count\030\006 \001(\004\022\013\n\003max\030\007" +
+      " \001(\001\022\014\n\004mean\030\010 \001(\001\022\013\n\003min\030\t \001(\001\022\013\n\003std\030\n" +
+      " \001(\001\022\016\n\006median\030\013 \001(\001\022\024\n\014percentile75\030\014 \001" +
+      "(\001\022\024\n\014percentile95\030\r \001(\001\022\024\n\014percentile98" +
+      "\030\016 \001(\001\022\024\n\014percentile99\030\017 \001(\001\022\025\n\rpercenti" +
+      "le999\030\020 \001(\001\022\024\n\014hdrHistogram\030\021 \001(\014\022\016\n\006nam" +
+      "eId\030\022 \001(\r\022A\n\010quantile\030\023 \003(\0132/.org.attrib" +
+      "yte.essem.proto.EssemReport.Quantile\032\260\001\n" +
+      "\005Alert\022\014\n\004name\030\001 \001(\t\022G\n\010severity\030\002 \001(\01625",
+      ".org.attribyte.essem.proto.EssemReport.A" +
+      "lert.Severity\022\r\n\005value\030\003 \001(\t\"A\n\010Severity" +
+      "\022\013\n\007UNKNOWN\020\000\022\010\n\004INFO\020\001\022\010\n\004WARN\020\002\022\t\n\005ERR" +
+      "OR\020\003\022\t\n\005FATAL\020\004\032*\n\016NameDefinition\022\n\n\002id\030" +
+      "\001 \001(\r\022\014\n\004name\030\002 \001(\t\"i\n\010TimeUnit\022\013\n\007UNKNO" +
+      "WN\020\000\022\t\n\005NANOS\020\001\022\n\n\006MICROS\020\002\022\n\n\006MILLIS\020\003\022" +
+      "\013\n\007SECONDS\020\004\022\013\n\007MINUTES\020\005\022\t\n\005HOURS\020\006\022\010\n\004" +
+      "DAYS\020\007\"&\n\013HdrEncoding\022\016\n\nCOMPRESSED\020\000\022\007\n" +
+      "\003RAW\020\001B\016B\014ReportProtos"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -10027,43 +12874,55 @@ public final class ReportProtos {
     internal_static_org_attribyte_essem_proto_EssemReport_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_org_attribyte_essem_proto_EssemReport_descriptor,
-        new java.lang.String[] { "Meter", "Timer", "Counter", "Histogram", "Gauge", "Timestamp", "RateUnit", "DurationUnit", "Application", "Host", "Instance", "Role", "Status", "Description", "Alert", });
+        new java.lang.String[] { "Meter", "Timer", "Counter", "Histogram", "Gauge", "Timestamp", "RateUnit", "DurationUnit", "Application", "Host", "Instance", "Role", "Status", "Description", "Alert", "NameDefinition", "NameDictionaryId", "HdrEncoding", "Lean", });
     internal_static_org_attribyte_essem_proto_EssemReport_Gauge_descriptor =
       internal_static_org_attribyte_essem_proto_EssemReport_descriptor.getNestedTypes().get(0);
     internal_static_org_attribyte_essem_proto_EssemReport_Gauge_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_org_attribyte_essem_proto_EssemReport_Gauge_descriptor,
-        new java.lang.String[] { "Name", "Value", "Comment", });
+        new java.lang.String[] { "Name", "Value", "Comment", "NameId", });
     internal_static_org_attribyte_essem_proto_EssemReport_Counter_descriptor =
       internal_static_org_attribyte_essem_proto_EssemReport_descriptor.getNestedTypes().get(1);
     internal_static_org_attribyte_essem_proto_EssemReport_Counter_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_org_attribyte_essem_proto_EssemReport_Counter_descriptor,
-        new java.lang.String[] { "Name", "Count", });
+        new java.lang.String[] { "Name", "Count", "NameId", });
     internal_static_org_attribyte_essem_proto_EssemReport_Meter_descriptor =
       internal_static_org_attribyte_essem_proto_EssemReport_descriptor.getNestedTypes().get(2);
     internal_static_org_attribyte_essem_proto_EssemReport_Meter_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_org_attribyte_essem_proto_EssemReport_Meter_descriptor,
-        new java.lang.String[] { "Name", "OneMinuteRate", "FiveMinuteRate", "FifteenMinuteRate", "MeanRate", "Count", });
-    internal_static_org_attribyte_essem_proto_EssemReport_Histogram_descriptor =
+        new java.lang.String[] { "Name", "OneMinuteRate", "FiveMinuteRate", "FifteenMinuteRate", "MeanRate", "Count", "NameId", });
+    internal_static_org_attribyte_essem_proto_EssemReport_Quantile_descriptor =
       internal_static_org_attribyte_essem_proto_EssemReport_descriptor.getNestedTypes().get(3);
+    internal_static_org_attribyte_essem_proto_EssemReport_Quantile_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_org_attribyte_essem_proto_EssemReport_Quantile_descriptor,
+        new java.lang.String[] { "Quantile", "Value", });
+    internal_static_org_attribyte_essem_proto_EssemReport_Histogram_descriptor =
+      internal_static_org_attribyte_essem_proto_EssemReport_descriptor.getNestedTypes().get(4);
     internal_static_org_attribyte_essem_proto_EssemReport_Histogram_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_org_attribyte_essem_proto_EssemReport_Histogram_descriptor,
-        new java.lang.String[] { "Name", "Count", "Max", "Mean", "Min", "Std", "Median", "Percentile75", "Percentile95", "Percentile98", "Percentile99", "Percentile999", "HdrHistogram", });
+        new java.lang.String[] { "Name", "Count", "Max", "Mean", "Min", "Std", "Median", "Percentile75", "Percentile95", "Percentile98", "Percentile99", "Percentile999", "HdrHistogram", "NameId", "Quantile", });
     internal_static_org_attribyte_essem_proto_EssemReport_Timer_descriptor =
-      internal_static_org_attribyte_essem_proto_EssemReport_descriptor.getNestedTypes().get(4);
+      internal_static_org_attribyte_essem_proto_EssemReport_descriptor.getNestedTypes().get(5);
     internal_static_org_attribyte_essem_proto_EssemReport_Timer_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_org_attribyte_essem_proto_EssemReport_Timer_descriptor,
-        new java.lang.String[] { "Name", "OneMinuteRate", "FiveMinuteRate", "FifteenMinuteRate", "MeanRate", "Count", "Max", "Mean", "Min", "Std", "Median", "Percentile75", "Percentile95", "Percentile98", "Percentile99", "Percentile999", "HdrHistogram", });
+        new java.lang.String[] { "Name", "OneMinuteRate", "FiveMinuteRate", "FifteenMinuteRate", "MeanRate", "Count", "Max", "Mean", "Min", "Std", "Median", "Percentile75", "Percentile95", "Percentile98", "Percentile99", "Percentile999", "HdrHistogram", "NameId", "Quantile", });
     internal_static_org_attribyte_essem_proto_EssemReport_Alert_descriptor =
-      internal_static_org_attribyte_essem_proto_EssemReport_descriptor.getNestedTypes().get(5);
+      internal_static_org_attribyte_essem_proto_EssemReport_descriptor.getNestedTypes().get(6);
     internal_static_org_attribyte_essem_proto_EssemReport_Alert_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_org_attribyte_essem_proto_EssemReport_Alert_descriptor,
         new java.lang.String[] { "Name", "Severity", "Value", });
+    internal_static_org_attribyte_essem_proto_EssemReport_NameDefinition_descriptor =
+      internal_static_org_attribyte_essem_proto_EssemReport_descriptor.getNestedTypes().get(7);
+    internal_static_org_attribyte_essem_proto_EssemReport_NameDefinition_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_org_attribyte_essem_proto_EssemReport_NameDefinition_descriptor,
+        new java.lang.String[] { "Id", "Name", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
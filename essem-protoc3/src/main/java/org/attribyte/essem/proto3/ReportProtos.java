@@ -244,6 +244,49 @@ public final class ReportProtos {
      */
     org.attribyte.essem.proto3.ReportProtos.EssemReport.AlertOrBuilder getAlertOrBuilder(
         int index);
+
+    /**
+     * <code>repeated .org.attribyte.essem.proto3.EssemReport.NameDefinition nameDefinition = 16;</code>
+     */
+    java.util.List<org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition> 
+        getNameDefinitionList();
+    /**
+     * <code>repeated .org.attribyte.essem.proto3.EssemReport.NameDefinition nameDefinition = 16;</code>
+     */
+    org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition getNameDefinition(int index);
+    /**
+     * <code>repeated .org.attribyte.essem.proto3.EssemReport.NameDefinition nameDefinition = 16;</code>
+     */
+    int getNameDefinitionCount();
+    /**
+     * <code>repeated .org.attribyte.essem.proto3.EssemReport.NameDefinition nameDefinition = 16;</code>
+     */
+    java.util.List<? extends org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinitionOrBuilder> 
+        getNameDefinitionOrBuilderList();
+    /**
+     * <code>repeated .org.attribyte.essem.proto3.EssemReport.NameDefinition nameDefinition = 16;</code>
+     */
+    org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinitionOrBuilder getNameDefinitionOrBuilder(
+        int index);
+
+    /**
+     * <code>uint64 nameDictionaryId = 17;</code>
+     */
+    long getNameDictionaryId();
+
+    /**
+     * <code>.org.attribyte.essem.proto3.EssemReport.HdrEncoding hdrEncoding = 18;</code>
+     */
+    int getHdrEncodingValue();
+    /**
+     * <code>.org.attribyte.essem.proto3.EssemReport.HdrEncoding hdrEncoding = 18;</code>
+     */
+    org.attribyte.essem.proto3.ReportProtos.EssemReport.HdrEncoding getHdrEncoding();
+
+    /**
+     * <code>bool lean = 19;</code>
+     */
+    boolean getLean();
   }
   /**
    * Protobuf type {@code org.attribyte.essem.proto3.EssemReport}
@@ -273,6 +316,10 @@ public final class ReportProtos {
       status_ = "";
       description_ = "";
       alert_ = java.util.Collections.emptyList();
+      nameDefinition_ = java.util.Collections.emptyList();
+      nameDictionaryId_ = 0L;
+      hdrEncoding_ = 0;
+      lean_ = false;
     }
 
     @java.lang.Override
@@ -406,6 +453,31 @@ public final class ReportProtos {
                   input.readMessage(org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert.parser(), extensionRegistry));
               break;
             }
+            case 130: {
+              if (!((mutable_bitField0_ & 0x00008000) == 0x00008000)) {
+                nameDefinition_ = new java.util.ArrayList<org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition>();
+                mutable_bitField0_ |= 0x00008000;
+              }
+              nameDefinition_.add(
+                  input.readMessage(org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition.parser(), extensionRegistry));
+              break;
+            }
+            case 136: {
+
+              nameDictionaryId_ = input.readUInt64();
+              break;
+            }
+            case 144: {
+              int rawValue = input.readEnum();
+
+              hdrEncoding_ = rawValue;
+              break;
+            }
+            case 152: {
+
+              lean_ = input.readBool();
+              break;
+            }
             default: {
               if (!parseUnknownFieldProto3(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -439,6 +511,9 @@ public final class ReportProtos {
         if (((mutable_bitField0_ & 0x00004000) == 0x00004000)) {
           alert_ = java.util.Collections.unmodifiableList(alert_);
         }
+        if (((mutable_bitField0_ & 0x00008000) == 0x00008000)) {
+          nameDefinition_ = java.util.Collections.unmodifiableList(nameDefinition_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
@@ -608,6 +683,104 @@ public final class ReportProtos {
       // @@protoc_insertion_point(enum_scope:org.attribyte.essem.proto3.EssemReport.TimeUnit)
     }
 
+    /**
+     * Protobuf enum {@code org.attribyte.essem.proto3.EssemReport.HdrEncoding}
+     */
+    public enum HdrEncoding
+        implements com.google.protobuf.ProtocolMessageEnum {
+      /**
+       * <code>COMPRESSED = 0;</code>
+       */
+      COMPRESSED(0),
+      /**
+       * <code>RAW = 1;</code>
+       */
+      RAW(1),
+      UNRECOGNIZED(-1),
+      ;
+
+      /**
+       * <code>COMPRESSED = 0;</code>
+       */
+      public static final int COMPRESSED_VALUE = 0;
+      /**
+       * <code>RAW = 1;</code>
+       */
+      public static final int RAW_VALUE = 1;
+
+
+      public final int getNumber() {
+        if (this == UNRECOGNIZED) {
+          throw new java.lang.IllegalArgumentException(
+              "Can't get the number of an unknown enum value.");
+        }
+        return value;
+      }
+
+      /**
+       * @deprecated Use {@link #forNumber(int)} instead.
+       */
+      @java.lang.Deprecated
+      public static HdrEncoding valueOf(int value) {
+        return forNumber(value);
+      }
+
+      public static HdrEncoding forNumber(int value) {
+        switch (value) {
+          case 0: return COMPRESSED;
+          case 1: return RAW;
+          default: return null;
+        }
+      }
+
+      public static com.google.protobuf.Internal.EnumLiteMap<HdrEncoding>
+          internalGetValueMap() {
+        return internalValueMap;
+      }
+      private static final com.google.protobuf.Internal.EnumLiteMap<
+          HdrEncoding> internalValueMap =
+            new com.google.protobuf.Internal.EnumLiteMap<HdrEncoding>() {
+              public HdrEncoding findValueByNumber(int number) {
+                return HdrEncoding.forNumber(number);
+              }
+            };
+
+      public final com.google.protobuf.Descriptors.EnumValueDescriptor
+          getValueDescriptor() {
+        return getDescriptor().getValues().get(ordinal());
+      }
+      public final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptorForType() {
+        return getDescriptor();
+      }
+      public static final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptor() {
+        return org.attribyte.essem.proto3.ReportProtos.EssemReport.getDescriptor().getEnumTypes().get(1);
+      }
+
+      private static final HdrEncoding[] VALUES = values();
+
+      public static HdrEncoding valueOf(
+          com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+        if (desc.getType() != getDescriptor()) {
+          throw new java.lang.IllegalArgumentException(
+            "EnumValueDescriptor is not for this type.");
+        }
+        if (desc.getIndex() == -1) {
+          return UNRECOGNIZED;
+        }
+        return VALUES[desc.getIndex()];
+      }
+
+      private final int value;
+
+      private HdrEncoding(int value) {
+        this.value = value;
+      }
+
+      // @@protoc_insertion_point(enum_scope:org.attribyte.essem.proto3.EssemReport.HdrEncoding)
+    }
+
     public interface GaugeOrBuilder extends
         // @@protoc_insertion_point(interface_extends:org.attribyte.essem.proto3.EssemReport.Gauge)
         com.google.protobuf.MessageOrBuilder {
@@ -636,6 +809,11 @@ public final class ReportProtos {
        */
       com.google.protobuf.ByteString
           getCommentBytes();
+
+      /**
+       * <code>uint32 nameId = 4;</code>
+       */
+      int getNameId();
     }
     /**
      * Protobuf type {@code org.attribyte.essem.proto3.EssemReport.Gauge}
@@ -653,6 +831,7 @@ public final class ReportProtos {
         name_ = "";
         value_ = 0D;
         comment_ = "";
+        nameId_ = 0;
       }
 
       @java.lang.Override
@@ -696,6 +875,11 @@ public final class ReportProtos {
                 comment_ = s;
                 break;
               }
+              case 32: {
+
+                nameId_ = input.readUInt32();
+                break;
+              }
               default: {
                 if (!parseUnknownFieldProto3(
                     input, unknownFields, extensionRegistry, tag)) {
@@ -805,6 +989,15 @@ public final class ReportProtos {
         }
       }
 
+      public static final int NAMEID_FIELD_NUMBER = 4;
+      private int nameId_;
+      /**
+       * <code>uint32 nameId = 4;</code>
+       */
+      public int getNameId() {
+        return nameId_;
+      }
+
       private byte memoizedIsInitialized = -1;
       @java.lang.Override
       public final boolean isInitialized() {
@@ -828,6 +1021,9 @@ public final class ReportProtos {
         if (!getCommentBytes().isEmpty()) {
           com.google.protobuf.GeneratedMessageV3.writeString(output, 3, comment_);
         }
+        if (nameId_ != 0) {
+          output.writeUInt32(4, nameId_);
+        }
         unknownFields.writeTo(output);
       }
 
@@ -847,6 +1043,10 @@ public final class ReportProtos {
         if (!getCommentBytes().isEmpty()) {
           size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, comment_);
         }
+        if (nameId_ != 0) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeUInt32Size(4, nameId_);
+        }
         size += unknownFields.getSerializedSize();
         memoizedSize = size;
         return size;
@@ -871,6 +1071,8 @@ public final class ReportProtos {
                 other.getValue()));
         result = result && getComment()
             .equals(other.getComment());
+        result = result && (getNameId()
+            == other.getNameId());
         result = result && unknownFields.equals(other.unknownFields);
         return result;
       }
@@ -889,6 +1091,8 @@ public final class ReportProtos {
             java.lang.Double.doubleToLongBits(getValue()));
         hash = (37 * hash) + COMMENT_FIELD_NUMBER;
         hash = (53 * hash) + getComment().hashCode();
+        hash = (37 * hash) + NAMEID_FIELD_NUMBER;
+        hash = (53 * hash) + getNameId();
         hash = (29 * hash) + unknownFields.hashCode();
         memoizedHashCode = hash;
         return hash;
@@ -1028,6 +1232,8 @@ public final class ReportProtos {
 
           comment_ = "";
 
+          nameId_ = 0;
+
           return this;
         }
 
@@ -1057,6 +1263,7 @@ public final class ReportProtos {
           result.name_ = name_;
           result.value_ = value_;
           result.comment_ = comment_;
+          result.nameId_ = nameId_;
           onBuilt();
           return result;
         }
@@ -1116,6 +1323,9 @@ public final class ReportProtos {
             comment_ = other.comment_;
             onChanged();
           }
+          if (other.getNameId() != 0) {
+            setNameId(other.getNameId());
+          }
           this.mergeUnknownFields(other.unknownFields);
           onChanged();
           return this;
@@ -1308,6 +1518,32 @@ public final class ReportProtos {
           onChanged();
           return this;
         }
+
+        private int nameId_ ;
+        /**
+         * <code>uint32 nameId = 4;</code>
+         */
+        public int getNameId() {
+          return nameId_;
+        }
+        /**
+         * <code>uint32 nameId = 4;</code>
+         */
+        public Builder setNameId(int value) {
+          
+          nameId_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>uint32 nameId = 4;</code>
+         */
+        public Builder clearNameId() {
+          
+          nameId_ = 0;
+          onChanged();
+          return this;
+        }
         @java.lang.Override
         public final Builder setUnknownFields(
             final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -1379,6 +1615,11 @@ public final class ReportProtos {
        * <code>uint64 count = 2;</code>
        */
       long getCount();
+
+      /**
+       * <code>uint32 nameId = 3;</code>
+       */
+      int getNameId();
     }
     /**
      * Protobuf type {@code org.attribyte.essem.proto3.EssemReport.Counter}
@@ -1395,6 +1636,7 @@ public final class ReportProtos {
       private Counter() {
         name_ = "";
         count_ = 0L;
+        nameId_ = 0;
       }
 
       @java.lang.Override
@@ -1432,6 +1674,11 @@ public final class ReportProtos {
                 count_ = input.readUInt64();
                 break;
               }
+              case 24: {
+
+                nameId_ = input.readUInt32();
+                break;
+              }
               default: {
                 if (!parseUnknownFieldProto3(
                     input, unknownFields, extensionRegistry, tag)) {
@@ -1507,6 +1754,15 @@ public final class ReportProtos {
         return count_;
       }
 
+      public static final int NAMEID_FIELD_NUMBER = 3;
+      private int nameId_;
+      /**
+       * <code>uint32 nameId = 3;</code>
+       */
+      public int getNameId() {
+        return nameId_;
+      }
+
       private byte memoizedIsInitialized = -1;
       @java.lang.Override
       public final boolean isInitialized() {
@@ -1527,6 +1783,9 @@ public final class ReportProtos {
         if (count_ != 0L) {
           output.writeUInt64(2, count_);
         }
+        if (nameId_ != 0) {
+          output.writeUInt32(3, nameId_);
+        }
         unknownFields.writeTo(output);
       }
 
@@ -1543,6 +1802,10 @@ public final class ReportProtos {
           size += com.google.protobuf.CodedOutputStream
             .computeUInt64Size(2, count_);
         }
+        if (nameId_ != 0) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeUInt32Size(3, nameId_);
+        }
         size += unknownFields.getSerializedSize();
         memoizedSize = size;
         return size;
@@ -1563,6 +1826,8 @@ public final class ReportProtos {
             .equals(other.getName());
         result = result && (getCount()
             == other.getCount());
+        result = result && (getNameId()
+            == other.getNameId());
         result = result && unknownFields.equals(other.unknownFields);
         return result;
       }
@@ -1579,6 +1844,8 @@ public final class ReportProtos {
         hash = (37 * hash) + COUNT_FIELD_NUMBER;
         hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
             getCount());
+        hash = (37 * hash) + NAMEID_FIELD_NUMBER;
+        hash = (53 * hash) + getNameId();
         hash = (29 * hash) + unknownFields.hashCode();
         memoizedHashCode = hash;
         return hash;
@@ -1716,6 +1983,8 @@ public final class ReportProtos {
 
           count_ = 0L;
 
+          nameId_ = 0;
+
           return this;
         }
 
@@ -1744,6 +2013,7 @@ public final class ReportProtos {
           org.attribyte.essem.proto3.ReportProtos.EssemReport.Counter result = new org.attribyte.essem.proto3.ReportProtos.EssemReport.Counter(this);
           result.name_ = name_;
           result.count_ = count_;
+          result.nameId_ = nameId_;
           onBuilt();
           return result;
         }
@@ -1799,6 +2069,9 @@ public final class ReportProtos {
           if (other.getCount() != 0L) {
             setCount(other.getCount());
           }
+          if (other.getNameId() != 0) {
+            setNameId(other.getNameId());
+          }
           this.mergeUnknownFields(other.unknownFields);
           onChanged();
           return this;
@@ -1922,6 +2195,32 @@ public final class ReportProtos {
           onChanged();
           return this;
         }
+
+        private int nameId_ ;
+        /**
+         * <code>uint32 nameId = 3;</code>
+         */
+        public int getNameId() {
+          return nameId_;
+        }
+        /**
+         * <code>uint32 nameId = 3;</code>
+         */
+        public Builder setNameId(int value) {
+          
+          nameId_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>uint32 nameId = 3;</code>
+         */
+        public Builder clearNameId() {
+          
+          nameId_ = 0;
+          onChanged();
+          return this;
+        }
         @java.lang.Override
         public final Builder setUnknownFields(
             final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -2013,6 +2312,11 @@ public final class ReportProtos {
        * <code>uint64 count = 6;</code>
        */
       long getCount();
+
+      /**
+       * <code>uint32 nameId = 7;</code>
+       */
+      int getNameId();
     }
     /**
      * Protobuf type {@code org.attribyte.essem.proto3.EssemReport.Meter}
@@ -2033,6 +2337,7 @@ public final class ReportProtos {
         fifteenMinuteRate_ = 0D;
         meanRate_ = 0D;
         count_ = 0L;
+        nameId_ = 0;
       }
 
       @java.lang.Override
@@ -2090,6 +2395,11 @@ public final class ReportProtos {
                 count_ = input.readUInt64();
                 break;
               }
+              case 56: {
+
+                nameId_ = input.readUInt32();
+                break;
+              }
               default: {
                 if (!parseUnknownFieldProto3(
                     input, unknownFields, extensionRegistry, tag)) {
@@ -2201,6 +2511,15 @@ public final class ReportProtos {
         return count_;
       }
 
+      public static final int NAMEID_FIELD_NUMBER = 7;
+      private int nameId_;
+      /**
+       * <code>uint32 nameId = 7;</code>
+       */
+      public int getNameId() {
+        return nameId_;
+      }
+
       private byte memoizedIsInitialized = -1;
       @java.lang.Override
       public final boolean isInitialized() {
@@ -2233,6 +2552,9 @@ public final class ReportProtos {
         if (count_ != 0L) {
           output.writeUInt64(6, count_);
         }
+        if (nameId_ != 0) {
+          output.writeUInt32(7, nameId_);
+        }
         unknownFields.writeTo(output);
       }
 
@@ -2265,6 +2587,10 @@ public final class ReportProtos {
           size += com.google.protobuf.CodedOutputStream
             .computeUInt64Size(6, count_);
         }
+        if (nameId_ != 0) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeUInt32Size(7, nameId_);
+        }
         size += unknownFields.getSerializedSize();
         memoizedSize = size;
         return size;
@@ -2301,6 +2627,8 @@ public final class ReportProtos {
                 other.getMeanRate()));
         result = result && (getCount()
             == other.getCount());
+        result = result && (getNameId()
+            == other.getNameId());
         result = result && unknownFields.equals(other.unknownFields);
         return result;
       }
@@ -2329,6 +2657,8 @@ public final class ReportProtos {
         hash = (37 * hash) + COUNT_FIELD_NUMBER;
         hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
             getCount());
+        hash = (37 * hash) + NAMEID_FIELD_NUMBER;
+        hash = (53 * hash) + getNameId();
         hash = (29 * hash) + unknownFields.hashCode();
         memoizedHashCode = hash;
         return hash;
@@ -2474,6 +2804,8 @@ public final class ReportProtos {
 
           count_ = 0L;
 
+          nameId_ = 0;
+
           return this;
         }
 
@@ -2506,6 +2838,7 @@ public final class ReportProtos {
           result.fifteenMinuteRate_ = fifteenMinuteRate_;
           result.meanRate_ = meanRate_;
           result.count_ = count_;
+          result.nameId_ = nameId_;
           onBuilt();
           return result;
         }
@@ -2573,6 +2906,9 @@ public final class ReportProtos {
           if (other.getCount() != 0L) {
             setCount(other.getCount());
           }
+          if (other.getNameId() != 0) {
+            setNameId(other.getNameId());
+          }
           this.mergeUnknownFields(other.unknownFields);
           onChanged();
           return this;
@@ -2800,6 +3136,32 @@ public final class ReportProtos {
           onChanged();
           return this;
         }
+
+        private int nameId_ ;
+        /**
+         * <code>uint32 nameId = 7;</code>
+         */
+        public int getNameId() {
+          return nameId_;
+        }
+        /**
+         * <code>uint32 nameId = 7;</code>
+         */
+        public Builder setNameId(int value) {
+          
+          nameId_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>uint32 nameId = 7;</code>
+         */
+        public Builder clearNameId() {
+          
+          nameId_ = 0;
+          onChanged();
+          return this;
+        }
         @java.lang.Override
         public final Builder setUnknownFields(
             final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -2853,196 +3215,69 @@ public final class ReportProtos {
 
     }
 
-    public interface HistogramOrBuilder extends
-        // @@protoc_insertion_point(interface_extends:org.attribyte.essem.proto3.EssemReport.Histogram)
+    public interface QuantileOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:org.attribyte.essem.proto3.EssemReport.Quantile)
         com.google.protobuf.MessageOrBuilder {
 
       /**
-       * <code>string name = 1;</code>
-       */
-      java.lang.String getName();
-      /**
-       * <code>string name = 1;</code>
+       * <code>double quantile = 1;</code>
        */
-      com.google.protobuf.ByteString
-          getNameBytes();
+      double getQuantile();
 
       /**
-       * <code>uint64 count = 2;</code>
+       * <code>double value = 2;</code>
        */
-      long getCount();
+      double getValue();
+    }
+    /**
+     * Protobuf type {@code org.attribyte.essem.proto3.EssemReport.Quantile}
+     */
+    public  static final class Quantile extends
+        com.google.protobuf.GeneratedMessageV3 implements
+        // @@protoc_insertion_point(message_implements:org.attribyte.essem.proto3.EssemReport.Quantile)
+        QuantileOrBuilder {
+    private static final long serialVersionUID = 0L;
+      // Use Quantile.newBuilder() to construct.
+      private Quantile(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+        super(builder);
+      }
+      private Quantile() {
+        quantile_ = 0D;
+        value_ = 0D;
+      }
 
-      /**
-       * <code>double max = 3;</code>
-       */
-      double getMax();
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+      getUnknownFields() {
+        return this.unknownFields;
+      }
+      private Quantile(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        this();
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        int mutable_bitField0_ = 0;
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 9: {
 
-      /**
-       * <code>double mean = 4;</code>
-       */
-      double getMean();
-
-      /**
-       * <code>double min = 5;</code>
-       */
-      double getMin();
-
-      /**
-       * <code>double std = 6;</code>
-       */
-      double getStd();
-
-      /**
-       * <code>double median = 7;</code>
-       */
-      double getMedian();
-
-      /**
-       * <code>double percentile75 = 8;</code>
-       */
-      double getPercentile75();
-
-      /**
-       * <code>double percentile95 = 9;</code>
-       */
-      double getPercentile95();
-
-      /**
-       * <code>double percentile98 = 10;</code>
-       */
-      double getPercentile98();
-
-      /**
-       * <code>double percentile99 = 11;</code>
-       */
-      double getPercentile99();
-
-      /**
-       * <code>double percentile999 = 12;</code>
-       */
-      double getPercentile999();
-
-      /**
-       * <code>bytes hdrHistogram = 13;</code>
-       */
-      com.google.protobuf.ByteString getHdrHistogram();
-    }
-    /**
-     * Protobuf type {@code org.attribyte.essem.proto3.EssemReport.Histogram}
-     */
-    public  static final class Histogram extends
-        com.google.protobuf.GeneratedMessageV3 implements
-        // @@protoc_insertion_point(message_implements:org.attribyte.essem.proto3.EssemReport.Histogram)
-        HistogramOrBuilder {
-    private static final long serialVersionUID = 0L;
-      // Use Histogram.newBuilder() to construct.
-      private Histogram(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
-        super(builder);
-      }
-      private Histogram() {
-        name_ = "";
-        count_ = 0L;
-        max_ = 0D;
-        mean_ = 0D;
-        min_ = 0D;
-        std_ = 0D;
-        median_ = 0D;
-        percentile75_ = 0D;
-        percentile95_ = 0D;
-        percentile98_ = 0D;
-        percentile99_ = 0D;
-        percentile999_ = 0D;
-        hdrHistogram_ = com.google.protobuf.ByteString.EMPTY;
-      }
-
-      @java.lang.Override
-      public final com.google.protobuf.UnknownFieldSet
-      getUnknownFields() {
-        return this.unknownFields;
-      }
-      private Histogram(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        this();
-        if (extensionRegistry == null) {
-          throw new java.lang.NullPointerException();
-        }
-        int mutable_bitField0_ = 0;
-        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-            com.google.protobuf.UnknownFieldSet.newBuilder();
-        try {
-          boolean done = false;
-          while (!done) {
-            int tag = input.readTag();
-            switch (tag) {
-              case 0:
-                done = true;
-                break;
-              case 10: {
-                java.lang.String s = input.readStringRequireUtf8();
-
-                name_ = s;
-                break;
-              }
-              case 16: {
-
-                count_ = input.readUInt64();
-                break;
-              }
-              case 25: {
-
-                max_ = input.readDouble();
-                break;
-              }
-              case 33: {
-
-                mean_ = input.readDouble();
-                break;
-              }
-              case 41: {
-
-                min_ = input.readDouble();
-                break;
-              }
-              case 49: {
-
-                std_ = input.readDouble();
+                quantile_ = input.readDouble();
                 break;
               }
-              case 57: {
-
-                median_ = input.readDouble();
-                break;
-              }
-              case 65: {
-
-                percentile75_ = input.readDouble();
-                break;
-              }
-              case 73: {
-
-                percentile95_ = input.readDouble();
-                break;
-              }
-              case 81: {
-
-                percentile98_ = input.readDouble();
-                break;
-              }
-              case 89: {
-
-                percentile99_ = input.readDouble();
-                break;
-              }
-              case 97: {
-
-                percentile999_ = input.readDouble();
-                break;
-              }
-              case 106: {
+              case 17: {
 
-                hdrHistogram_ = input.readBytes();
+                value_ = input.readDouble();
                 break;
               }
               default: {
@@ -3066,271 +3301,71 @@ public final class ReportProtos {
       }
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.attribyte.essem.proto3.ReportProtos.internal_static_org_attribyte_essem_proto3_EssemReport_Histogram_descriptor;
+        return org.attribyte.essem.proto3.ReportProtos.internal_static_org_attribyte_essem_proto3_EssemReport_Quantile_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.attribyte.essem.proto3.ReportProtos.internal_static_org_attribyte_essem_proto3_EssemReport_Histogram_fieldAccessorTable
+        return org.attribyte.essem.proto3.ReportProtos.internal_static_org_attribyte_essem_proto3_EssemReport_Quantile_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram.class, org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram.Builder.class);
+                org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile.class, org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile.Builder.class);
       }
 
-      public static final int NAME_FIELD_NUMBER = 1;
-      private volatile java.lang.Object name_;
-      /**
-       * <code>string name = 1;</code>
-       */
-      public java.lang.String getName() {
-        java.lang.Object ref = name_;
-        if (ref instanceof java.lang.String) {
-          return (java.lang.String) ref;
-        } else {
-          com.google.protobuf.ByteString bs = 
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          name_ = s;
-          return s;
-        }
-      }
+      public static final int QUANTILE_FIELD_NUMBER = 1;
+      private double quantile_;
       /**
-       * <code>string name = 1;</code>
+       * <code>double quantile = 1;</code>
        */
-      public com.google.protobuf.ByteString
-          getNameBytes() {
-        java.lang.Object ref = name_;
-        if (ref instanceof java.lang.String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          name_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+      public double getQuantile() {
+        return quantile_;
       }
 
-      public static final int COUNT_FIELD_NUMBER = 2;
-      private long count_;
+      public static final int VALUE_FIELD_NUMBER = 2;
+      private double value_;
       /**
-       * <code>uint64 count = 2;</code>
+       * <code>double value = 2;</code>
        */
-      public long getCount() {
-        return count_;
+      public double getValue() {
+        return value_;
       }
 
-      public static final int MAX_FIELD_NUMBER = 3;
-      private double max_;
-      /**
-       * <code>double max = 3;</code>
-       */
-      public double getMax() {
-        return max_;
-      }
+      private byte memoizedIsInitialized = -1;
+      @java.lang.Override
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
 
-      public static final int MEAN_FIELD_NUMBER = 4;
-      private double mean_;
-      /**
-       * <code>double mean = 4;</code>
-       */
-      public double getMean() {
-        return mean_;
+        memoizedIsInitialized = 1;
+        return true;
       }
 
-      public static final int MIN_FIELD_NUMBER = 5;
-      private double min_;
-      /**
-       * <code>double min = 5;</code>
-       */
-      public double getMin() {
-        return min_;
+      @java.lang.Override
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        if (quantile_ != 0D) {
+          output.writeDouble(1, quantile_);
+        }
+        if (value_ != 0D) {
+          output.writeDouble(2, value_);
+        }
+        unknownFields.writeTo(output);
       }
 
-      public static final int STD_FIELD_NUMBER = 6;
-      private double std_;
-      /**
-       * <code>double std = 6;</code>
-       */
-      public double getStd() {
-        return std_;
-      }
-
-      public static final int MEDIAN_FIELD_NUMBER = 7;
-      private double median_;
-      /**
-       * <code>double median = 7;</code>
-       */
-      public double getMedian() {
-        return median_;
-      }
-
-      public static final int PERCENTILE75_FIELD_NUMBER = 8;
-      private double percentile75_;
-      /**
-       * <code>double percentile75 = 8;</code>
-       */
-      public double getPercentile75() {
-        return percentile75_;
-      }
-
-      public static final int PERCENTILE95_FIELD_NUMBER = 9;
-      private double percentile95_;
-      /**
-       * <code>double percentile95 = 9;</code>
-       */
-      public double getPercentile95() {
-        return percentile95_;
-      }
-
-      public static final int PERCENTILE98_FIELD_NUMBER = 10;
-      private double percentile98_;
-      /**
-       * <code>double percentile98 = 10;</code>
-       */
-      public double getPercentile98() {
-        return percentile98_;
-      }
-
-      public static final int PERCENTILE99_FIELD_NUMBER = 11;
-      private double percentile99_;
-      /**
-       * <code>double percentile99 = 11;</code>
-       */
-      public double getPercentile99() {
-        return percentile99_;
-      }
-
-      public static final int PERCENTILE999_FIELD_NUMBER = 12;
-      private double percentile999_;
-      /**
-       * <code>double percentile999 = 12;</code>
-       */
-      public double getPercentile999() {
-        return percentile999_;
-      }
-
-      public static final int HDRHISTOGRAM_FIELD_NUMBER = 13;
-      private com.google.protobuf.ByteString hdrHistogram_;
-      /**
-       * <code>bytes hdrHistogram = 13;</code>
-       */
-      public com.google.protobuf.ByteString getHdrHistogram() {
-        return hdrHistogram_;
-      }
-
-      private byte memoizedIsInitialized = -1;
-      @java.lang.Override
-      public final boolean isInitialized() {
-        byte isInitialized = memoizedIsInitialized;
-        if (isInitialized == 1) return true;
-        if (isInitialized == 0) return false;
-
-        memoizedIsInitialized = 1;
-        return true;
-      }
-
-      @java.lang.Override
-      public void writeTo(com.google.protobuf.CodedOutputStream output)
-                          throws java.io.IOException {
-        if (!getNameBytes().isEmpty()) {
-          com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
-        }
-        if (count_ != 0L) {
-          output.writeUInt64(2, count_);
-        }
-        if (max_ != 0D) {
-          output.writeDouble(3, max_);
-        }
-        if (mean_ != 0D) {
-          output.writeDouble(4, mean_);
-        }
-        if (min_ != 0D) {
-          output.writeDouble(5, min_);
-        }
-        if (std_ != 0D) {
-          output.writeDouble(6, std_);
-        }
-        if (median_ != 0D) {
-          output.writeDouble(7, median_);
-        }
-        if (percentile75_ != 0D) {
-          output.writeDouble(8, percentile75_);
-        }
-        if (percentile95_ != 0D) {
-          output.writeDouble(9, percentile95_);
-        }
-        if (percentile98_ != 0D) {
-          output.writeDouble(10, percentile98_);
-        }
-        if (percentile99_ != 0D) {
-          output.writeDouble(11, percentile99_);
-        }
-        if (percentile999_ != 0D) {
-          output.writeDouble(12, percentile999_);
-        }
-        if (!hdrHistogram_.isEmpty()) {
-          output.writeBytes(13, hdrHistogram_);
-        }
-        unknownFields.writeTo(output);
-      }
-
-      @java.lang.Override
-      public int getSerializedSize() {
-        int size = memoizedSize;
-        if (size != -1) return size;
+      @java.lang.Override
+      public int getSerializedSize() {
+        int size = memoizedSize;
+        if (size != -1) return size;
 
         size = 0;
-        if (!getNameBytes().isEmpty()) {
-          size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
-        }
-        if (count_ != 0L) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeUInt64Size(2, count_);
-        }
-        if (max_ != 0D) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeDoubleSize(3, max_);
-        }
-        if (mean_ != 0D) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeDoubleSize(4, mean_);
-        }
-        if (min_ != 0D) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeDoubleSize(5, min_);
-        }
-        if (std_ != 0D) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeDoubleSize(6, std_);
-        }
-        if (median_ != 0D) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeDoubleSize(7, median_);
-        }
-        if (percentile75_ != 0D) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeDoubleSize(8, percentile75_);
-        }
-        if (percentile95_ != 0D) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeDoubleSize(9, percentile95_);
-        }
-        if (percentile98_ != 0D) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeDoubleSize(10, percentile98_);
-        }
-        if (percentile99_ != 0D) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeDoubleSize(11, percentile99_);
-        }
-        if (percentile999_ != 0D) {
+        if (quantile_ != 0D) {
           size += com.google.protobuf.CodedOutputStream
-            .computeDoubleSize(12, percentile999_);
+            .computeDoubleSize(1, quantile_);
         }
-        if (!hdrHistogram_.isEmpty()) {
+        if (value_ != 0D) {
           size += com.google.protobuf.CodedOutputStream
-            .computeBytesSize(13, hdrHistogram_);
+            .computeDoubleSize(2, value_);
         }
         size += unknownFields.getSerializedSize();
         memoizedSize = size;
@@ -3342,58 +3377,20 @@ public final class ReportProtos {
         if (obj == this) {
          return true;
         }
-        if (!(obj instanceof org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram)) {
+        if (!(obj instanceof org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile)) {
           return super.equals(obj);
         }
-        org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram other = (org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram) obj;
+        org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile other = (org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile) obj;
 
         boolean result = true;
-        result = result && getName()
-            .equals(other.getName());
-        result = result && (getCount()
-            == other.getCount());
-        result = result && (
-            java.lang.Double.doubleToLongBits(getMax())
-            == java.lang.Double.doubleToLongBits(
-                other.getMax()));
-        result = result && (
-            java.lang.Double.doubleToLongBits(getMean())
-            == java.lang.Double.doubleToLongBits(
-                other.getMean()));
-        result = result && (
-            java.lang.Double.doubleToLongBits(getMin())
-            == java.lang.Double.doubleToLongBits(
-                other.getMin()));
-        result = result && (
-            java.lang.Double.doubleToLongBits(getStd())
-            == java.lang.Double.doubleToLongBits(
-                other.getStd()));
-        result = result && (
-            java.lang.Double.doubleToLongBits(getMedian())
-            == java.lang.Double.doubleToLongBits(
-                other.getMedian()));
-        result = result && (
-            java.lang.Double.doubleToLongBits(getPercentile75())
-            == java.lang.Double.doubleToLongBits(
-                other.getPercentile75()));
-        result = result && (
-            java.lang.Double.doubleToLongBits(getPercentile95())
-            == java.lang.Double.doubleToLongBits(
-                other.getPercentile95()));
-        result = result && (
-            java.lang.Double.doubleToLongBits(getPercentile98())
-            == java.lang.Double.doubleToLongBits(
-                other.getPercentile98()));
         result = result && (
-            java.lang.Double.doubleToLongBits(getPercentile99())
+            java.lang.Double.doubleToLongBits(getQuantile())
             == java.lang.Double.doubleToLongBits(
-                other.getPercentile99()));
+                other.getQuantile()));
         result = result && (
-            java.lang.Double.doubleToLongBits(getPercentile999())
+            java.lang.Double.doubleToLongBits(getValue())
             == java.lang.Double.doubleToLongBits(
-                other.getPercentile999()));
-        result = result && getHdrHistogram()
-            .equals(other.getHdrHistogram());
+                other.getValue()));
         result = result && unknownFields.equals(other.unknownFields);
         return result;
       }
@@ -3405,111 +3402,80 @@ public final class ReportProtos {
         }
         int hash = 41;
         hash = (19 * hash) + getDescriptor().hashCode();
-        hash = (37 * hash) + NAME_FIELD_NUMBER;
-        hash = (53 * hash) + getName().hashCode();
-        hash = (37 * hash) + COUNT_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-            getCount());
-        hash = (37 * hash) + MAX_FIELD_NUMBER;
+        hash = (37 * hash) + QUANTILE_FIELD_NUMBER;
         hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-            java.lang.Double.doubleToLongBits(getMax()));
-        hash = (37 * hash) + MEAN_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-            java.lang.Double.doubleToLongBits(getMean()));
-        hash = (37 * hash) + MIN_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-            java.lang.Double.doubleToLongBits(getMin()));
-        hash = (37 * hash) + STD_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-            java.lang.Double.doubleToLongBits(getStd()));
-        hash = (37 * hash) + MEDIAN_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-            java.lang.Double.doubleToLongBits(getMedian()));
-        hash = (37 * hash) + PERCENTILE75_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-            java.lang.Double.doubleToLongBits(getPercentile75()));
-        hash = (37 * hash) + PERCENTILE95_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-            java.lang.Double.doubleToLongBits(getPercentile95()));
-        hash = (37 * hash) + PERCENTILE98_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-            java.lang.Double.doubleToLongBits(getPercentile98()));
-        hash = (37 * hash) + PERCENTILE99_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-            java.lang.Double.doubleToLongBits(getPercentile99()));
-        hash = (37 * hash) + PERCENTILE999_FIELD_NUMBER;
+            java.lang.Double.doubleToLongBits(getQuantile()));
+        hash = (37 * hash) + VALUE_FIELD_NUMBER;
         hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-            java.lang.Double.doubleToLongBits(getPercentile999()));
-        hash = (37 * hash) + HDRHISTOGRAM_FIELD_NUMBER;
-        hash = (53 * hash) + getHdrHistogram().hashCode();
+            java.lang.Double.doubleToLongBits(getValue()));
         hash = (29 * hash) + unknownFields.hashCode();
         memoizedHashCode = hash;
         return hash;
       }
 
-      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram parseFrom(
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile parseFrom(
           java.nio.ByteBuffer data)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data);
       }
-      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram parseFrom(
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile parseFrom(
           java.nio.ByteBuffer data,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data, extensionRegistry);
       }
-      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram parseFrom(
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile parseFrom(
           com.google.protobuf.ByteString data)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data);
       }
-      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram parseFrom(
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile parseFrom(
           com.google.protobuf.ByteString data,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data, extensionRegistry);
       }
-      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram parseFrom(byte[] data)
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile parseFrom(byte[] data)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data);
       }
-      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram parseFrom(
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile parseFrom(
           byte[] data,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data, extensionRegistry);
       }
-      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram parseFrom(java.io.InputStream input)
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile parseFrom(java.io.InputStream input)
           throws java.io.IOException {
         return com.google.protobuf.GeneratedMessageV3
             .parseWithIOException(PARSER, input);
       }
-      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram parseFrom(
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile parseFrom(
           java.io.InputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
         return com.google.protobuf.GeneratedMessageV3
             .parseWithIOException(PARSER, input, extensionRegistry);
       }
-      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram parseDelimitedFrom(java.io.InputStream input)
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile parseDelimitedFrom(java.io.InputStream input)
           throws java.io.IOException {
         return com.google.protobuf.GeneratedMessageV3
             .parseDelimitedWithIOException(PARSER, input);
       }
-      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram parseDelimitedFrom(
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile parseDelimitedFrom(
           java.io.InputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
         return com.google.protobuf.GeneratedMessageV3
             .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
       }
-      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram parseFrom(
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile parseFrom(
           com.google.protobuf.CodedInputStream input)
           throws java.io.IOException {
         return com.google.protobuf.GeneratedMessageV3
             .parseWithIOException(PARSER, input);
       }
-      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram parseFrom(
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile parseFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
@@ -3522,7 +3488,7 @@ public final class ReportProtos {
       public static Builder newBuilder() {
         return DEFAULT_INSTANCE.toBuilder();
       }
-      public static Builder newBuilder(org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram prototype) {
+      public static Builder newBuilder(org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile prototype) {
         return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
       }
       @java.lang.Override
@@ -3538,26 +3504,26 @@ public final class ReportProtos {
         return builder;
       }
       /**
-       * Protobuf type {@code org.attribyte.essem.proto3.EssemReport.Histogram}
+       * Protobuf type {@code org.attribyte.essem.proto3.EssemReport.Quantile}
        */
       public static final class Builder extends
           com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-          // @@protoc_insertion_point(builder_implements:org.attribyte.essem.proto3.EssemReport.Histogram)
-          org.attribyte.essem.proto3.ReportProtos.EssemReport.HistogramOrBuilder {
+          // @@protoc_insertion_point(builder_implements:org.attribyte.essem.proto3.EssemReport.Quantile)
+          org.attribyte.essem.proto3.ReportProtos.EssemReport.QuantileOrBuilder {
         public static final com.google.protobuf.Descriptors.Descriptor
             getDescriptor() {
-          return org.attribyte.essem.proto3.ReportProtos.internal_static_org_attribyte_essem_proto3_EssemReport_Histogram_descriptor;
+          return org.attribyte.essem.proto3.ReportProtos.internal_static_org_attribyte_essem_proto3_EssemReport_Quantile_descriptor;
         }
 
         @java.lang.Override
         protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
             internalGetFieldAccessorTable() {
-          return org.attribyte.essem.proto3.ReportProtos.internal_static_org_attribyte_essem_proto3_EssemReport_Histogram_fieldAccessorTable
+          return org.attribyte.essem.proto3.ReportProtos.internal_static_org_attribyte_essem_proto3_EssemReport_Quantile_fieldAccessorTable
               .ensureFieldAccessorsInitialized(
-                  org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram.class, org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram.Builder.class);
+                  org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile.class, org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile.Builder.class);
         }
 
-        // Construct using org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram.newBuilder()
+        // Construct using org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile.newBuilder()
         private Builder() {
           maybeForceBuilderInitialization();
         }
@@ -3575,31 +3541,9 @@ public final class ReportProtos {
         @java.lang.Override
         public Builder clear() {
           super.clear();
-          name_ = "";
-
-          count_ = 0L;
-
-          max_ = 0D;
-
-          mean_ = 0D;
-
-          min_ = 0D;
-
-          std_ = 0D;
-
-          median_ = 0D;
+          quantile_ = 0D;
 
-          percentile75_ = 0D;
-
-          percentile95_ = 0D;
-
-          percentile98_ = 0D;
-
-          percentile99_ = 0D;
-
-          percentile999_ = 0D;
-
-          hdrHistogram_ = com.google.protobuf.ByteString.EMPTY;
+          value_ = 0D;
 
           return this;
         }
@@ -3607,17 +3551,17 @@ public final class ReportProtos {
         @java.lang.Override
         public com.google.protobuf.Descriptors.Descriptor
             getDescriptorForType() {
-          return org.attribyte.essem.proto3.ReportProtos.internal_static_org_attribyte_essem_proto3_EssemReport_Histogram_descriptor;
+          return org.attribyte.essem.proto3.ReportProtos.internal_static_org_attribyte_essem_proto3_EssemReport_Quantile_descriptor;
         }
 
         @java.lang.Override
-        public org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram getDefaultInstanceForType() {
-          return org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram.getDefaultInstance();
+        public org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile getDefaultInstanceForType() {
+          return org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile.getDefaultInstance();
         }
 
         @java.lang.Override
-        public org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram build() {
-          org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram result = buildPartial();
+        public org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile build() {
+          org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile result = buildPartial();
           if (!result.isInitialized()) {
             throw newUninitializedMessageException(result);
           }
@@ -3625,21 +3569,10 @@ public final class ReportProtos {
         }
 
         @java.lang.Override
-        public org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram buildPartial() {
-          org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram result = new org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram(this);
-          result.name_ = name_;
-          result.count_ = count_;
-          result.max_ = max_;
-          result.mean_ = mean_;
-          result.min_ = min_;
-          result.std_ = std_;
-          result.median_ = median_;
-          result.percentile75_ = percentile75_;
-          result.percentile95_ = percentile95_;
-          result.percentile98_ = percentile98_;
-          result.percentile99_ = percentile99_;
-          result.percentile999_ = percentile999_;
-          result.hdrHistogram_ = hdrHistogram_;
+        public org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile buildPartial() {
+          org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile result = new org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile(this);
+          result.quantile_ = quantile_;
+          result.value_ = value_;
           onBuilt();
           return result;
         }
@@ -3678,55 +3611,21 @@ public final class ReportProtos {
         }
         @java.lang.Override
         public Builder mergeFrom(com.google.protobuf.Message other) {
-          if (other instanceof org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram) {
-            return mergeFrom((org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram)other);
+          if (other instanceof org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile) {
+            return mergeFrom((org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile)other);
           } else {
             super.mergeFrom(other);
             return this;
           }
         }
 
-        public Builder mergeFrom(org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram other) {
-          if (other == org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram.getDefaultInstance()) return this;
-          if (!other.getName().isEmpty()) {
-            name_ = other.name_;
-            onChanged();
-          }
-          if (other.getCount() != 0L) {
-            setCount(other.getCount());
-          }
-          if (other.getMax() != 0D) {
-            setMax(other.getMax());
-          }
-          if (other.getMean() != 0D) {
-            setMean(other.getMean());
-          }
-          if (other.getMin() != 0D) {
-            setMin(other.getMin());
-          }
-          if (other.getStd() != 0D) {
-            setStd(other.getStd());
-          }
-          if (other.getMedian() != 0D) {
-            setMedian(other.getMedian());
-          }
-          if (other.getPercentile75() != 0D) {
-            setPercentile75(other.getPercentile75());
-          }
-          if (other.getPercentile95() != 0D) {
-            setPercentile95(other.getPercentile95());
+        public Builder mergeFrom(org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile other) {
+          if (other == org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile.getDefaultInstance()) return this;
+          if (other.getQuantile() != 0D) {
+            setQuantile(other.getQuantile());
           }
-          if (other.getPercentile98() != 0D) {
-            setPercentile98(other.getPercentile98());
-          }
-          if (other.getPercentile99() != 0D) {
-            setPercentile99(other.getPercentile99());
-          }
-          if (other.getPercentile999() != 0D) {
-            setPercentile999(other.getPercentile999());
-          }
-          if (other.getHdrHistogram() != com.google.protobuf.ByteString.EMPTY) {
-            setHdrHistogram(other.getHdrHistogram());
+          if (other.getValue() != 0D) {
+            setValue(other.getValue());
           }
           this.mergeUnknownFields(other.unknownFields);
           onChanged();
@@ -3743,11 +3642,11 @@ public final class ReportProtos {
             com.google.protobuf.CodedInputStream input,
             com.google.protobuf.ExtensionRegistryLite extensionRegistry)
             throws java.io.IOException {
-          org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram parsedMessage = null;
+          org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile parsedMessage = null;
           try {
             parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
           } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-            parsedMessage = (org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram) e.getUnfinishedMessage();
+            parsedMessage = (org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile) e.getUnfinishedMessage();
             throw e.unwrapIOException();
           } finally {
             if (parsedMessage != null) {
@@ -3757,554 +3656,227 @@ public final class ReportProtos {
           return this;
         }
 
-        private java.lang.Object name_ = "";
-        /**
-         * <code>string name = 1;</code>
-         */
-        public java.lang.String getName() {
-          java.lang.Object ref = name_;
-          if (!(ref instanceof java.lang.String)) {
-            com.google.protobuf.ByteString bs =
-                (com.google.protobuf.ByteString) ref;
-            java.lang.String s = bs.toStringUtf8();
-            name_ = s;
-            return s;
-          } else {
-            return (java.lang.String) ref;
-          }
-        }
-        /**
-         * <code>string name = 1;</code>
-         */
-        public com.google.protobuf.ByteString
-            getNameBytes() {
-          java.lang.Object ref = name_;
-          if (ref instanceof String) {
-            com.google.protobuf.ByteString b = 
-                com.google.protobuf.ByteString.copyFromUtf8(
-                    (java.lang.String) ref);
-            name_ = b;
-            return b;
-          } else {
-            return (com.google.protobuf.ByteString) ref;
-          }
-        }
+        private double quantile_ ;
         /**
-         * <code>string name = 1;</code>
+         * <code>double quantile = 1;</code>
          */
-        public Builder setName(
-            java.lang.String value) {
-          if (value == null) {
-    throw new NullPointerException();
-  }
-  
-          name_ = value;
-          onChanged();
-          return this;
+        public double getQuantile() {
+          return quantile_;
         }
         /**
-         * <code>string name = 1;</code>
+         * <code>double quantile = 1;</code>
          */
-        public Builder clearName() {
+        public Builder setQuantile(double value) {
           
-          name_ = getDefaultInstance().getName();
+          quantile_ = value;
           onChanged();
           return this;
         }
         /**
-         * <code>string name = 1;</code>
+         * <code>double quantile = 1;</code>
          */
-        public Builder setNameBytes(
-            com.google.protobuf.ByteString value) {
-          if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
+        public Builder clearQuantile() {
           
-          name_ = value;
+          quantile_ = 0D;
           onChanged();
           return this;
         }
 
-        private long count_ ;
-        /**
-         * <code>uint64 count = 2;</code>
-         */
-        public long getCount() {
-          return count_;
-        }
+        private double value_ ;
         /**
-         * <code>uint64 count = 2;</code>
+         * <code>double value = 2;</code>
          */
-        public Builder setCount(long value) {
-          
-          count_ = value;
-          onChanged();
-          return this;
+        public double getValue() {
+          return value_;
         }
         /**
-         * <code>uint64 count = 2;</code>
+         * <code>double value = 2;</code>
          */
-        public Builder clearCount() {
+        public Builder setValue(double value) {
           
-          count_ = 0L;
+          value_ = value;
           onChanged();
           return this;
         }
-
-        private double max_ ;
-        /**
-         * <code>double max = 3;</code>
-         */
-        public double getMax() {
-          return max_;
-        }
         /**
-         * <code>double max = 3;</code>
+         * <code>double value = 2;</code>
          */
-        public Builder setMax(double value) {
+        public Builder clearValue() {
           
-          max_ = value;
+          value_ = 0D;
           onChanged();
           return this;
         }
-        /**
-         * <code>double max = 3;</code>
-         */
-        public Builder clearMax() {
-          
-          max_ = 0D;
-          onChanged();
-          return this;
+        @java.lang.Override
+        public final Builder setUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.setUnknownFieldsProto3(unknownFields);
         }
 
-        private double mean_ ;
-        /**
-         * <code>double mean = 4;</code>
-         */
-        public double getMean() {
-          return mean_;
-        }
-        /**
-         * <code>double mean = 4;</code>
-         */
-        public Builder setMean(double value) {
-          
-          mean_ = value;
-          onChanged();
-          return this;
+        @java.lang.Override
+        public final Builder mergeUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.mergeUnknownFields(unknownFields);
         }
-        /**
-         * <code>double mean = 4;</code>
-         */
-        public Builder clearMean() {
-          
-          mean_ = 0D;
-          onChanged();
-          return this;
+
+
+        // @@protoc_insertion_point(builder_scope:org.attribyte.essem.proto3.EssemReport.Quantile)
+      }
+
+      // @@protoc_insertion_point(class_scope:org.attribyte.essem.proto3.EssemReport.Quantile)
+      private static final org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile DEFAULT_INSTANCE;
+      static {
+        DEFAULT_INSTANCE = new org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile();
+      }
+
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile getDefaultInstance() {
+        return DEFAULT_INSTANCE;
+      }
+
+      private static final com.google.protobuf.Parser<Quantile>
+          PARSER = new com.google.protobuf.AbstractParser<Quantile>() {
+        @java.lang.Override
+        public Quantile parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new Quantile(input, extensionRegistry);
         }
+      };
 
-        private double min_ ;
-        /**
-         * <code>double min = 5;</code>
-         */
-        public double getMin() {
-          return min_;
-        }
-        /**
-         * <code>double min = 5;</code>
-         */
-        public Builder setMin(double value) {
-          
-          min_ = value;
-          onChanged();
-          return this;
-        }
-        /**
-         * <code>double min = 5;</code>
-         */
-        public Builder clearMin() {
-          
-          min_ = 0D;
-          onChanged();
-          return this;
-        }
+      public static com.google.protobuf.Parser<Quantile> parser() {
+        return PARSER;
+      }
 
-        private double std_ ;
-        /**
-         * <code>double std = 6;</code>
-         */
-        public double getStd() {
-          return std_;
-        }
-        /**
-         * <code>double std = 6;</code>
-         */
-        public Builder setStd(double value) {
-          
-          std_ = value;
-          onChanged();
-          return this;
-        }
-        /**
-         * <code>double std = 6;</code>
-         */
-        public Builder clearStd() {
-          
-          std_ = 0D;
-          onChanged();
-          return this;
-        }
+      @java.lang.Override
+      public com.google.protobuf.Parser<Quantile> getParserForType() {
+        return PARSER;
+      }
 
-        private double median_ ;
-        /**
-         * <code>double median = 7;</code>
-         */
-        public double getMedian() {
-          return median_;
-        }
-        /**
-         * <code>double median = 7;</code>
-         */
-        public Builder setMedian(double value) {
-          
-          median_ = value;
-          onChanged();
-          return this;
-        }
-        /**
-         * <code>double median = 7;</code>
-         */
-        public Builder clearMedian() {
-          
-          median_ = 0D;
-          onChanged();
-          return this;
-        }
+      @java.lang.Override
+      public org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile getDefaultInstanceForType() {
+        return DEFAULT_INSTANCE;
+      }
 
-        private double percentile75_ ;
-        /**
-         * <code>double percentile75 = 8;</code>
-         */
-        public double getPercentile75() {
-          return percentile75_;
-        }
-        /**
-         * <code>double percentile75 = 8;</code>
-         */
-        public Builder setPercentile75(double value) {
-          
-          percentile75_ = value;
-          onChanged();
-          return this;
-        }
-        /**
-         * <code>double percentile75 = 8;</code>
-         */
-        public Builder clearPercentile75() {
-          
-          percentile75_ = 0D;
-          onChanged();
-          return this;
-        }
+    }
 
-        private double percentile95_ ;
-        /**
-         * <code>double percentile95 = 9;</code>
-         */
-        public double getPercentile95() {
-          return percentile95_;
-        }
-        /**
-         * <code>double percentile95 = 9;</code>
-         */
-        public Builder setPercentile95(double value) {
-          
-          percentile95_ = value;
-          onChanged();
-          return this;
-        }
-        /**
-         * <code>double percentile95 = 9;</code>
-         */
-        public Builder clearPercentile95() {
-          
-          percentile95_ = 0D;
-          onChanged();
-          return this;
-        }
+    public interface HistogramOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:org.attribyte.essem.proto3.EssemReport.Histogram)
+        com.google.protobuf.MessageOrBuilder {
 
-        private double percentile98_ ;
-        /**
-         * <code>double percentile98 = 10;</code>
-         */
-        public double getPercentile98() {
-          return percentile98_;
-        }
-        /**
-         * <code>double percentile98 = 10;</code>
-         */
-        public Builder setPercentile98(double value) {
-          
-          percentile98_ = value;
-          onChanged();
-          return this;
-        }
-        /**
-         * <code>double percentile98 = 10;</code>
-         */
-        public Builder clearPercentile98() {
-          
-          percentile98_ = 0D;
-          onChanged();
-          return this;
-        }
+      /**
+       * <code>string name = 1;</code>
+       */
+      java.lang.String getName();
+      /**
+       * <code>string name = 1;</code>
+       */
+      com.google.protobuf.ByteString
+          getNameBytes();
 
-        private double percentile99_ ;
-        /**
-         * <code>double percentile99 = 11;</code>
-         */
-        public double getPercentile99() {
-          return percentile99_;
-        }
-        /**
-         * <code>double percentile99 = 11;</code>
-         */
-        public Builder setPercentile99(double value) {
-          
-          percentile99_ = value;
-          onChanged();
-          return this;
-        }
-        /**
-         * <code>double percentile99 = 11;</code>
-         */
-        public Builder clearPercentile99() {
-          
-          percentile99_ = 0D;
-          onChanged();
-          return this;
-        }
+      /**
+       * <code>uint64 count = 2;</code>
+       */
+      long getCount();
 
-        private double percentile999_ ;
-        /**
-         * <code>double percentile999 = 12;</code>
-         */
-        public double getPercentile999() {
-          return percentile999_;
-        }
-        /**
-         * <code>double percentile999 = 12;</code>
-         */
-        public Builder setPercentile999(double value) {
-          
-          percentile999_ = value;
-          onChanged();
-          return this;
-        }
-        /**
-         * <code>double percentile999 = 12;</code>
-         */
-        public Builder clearPercentile999() {
-          
-          percentile999_ = 0D;
-          onChanged();
-          return this;
-        }
-
-        private com.google.protobuf.ByteString hdrHistogram_ = com.google.protobuf.ByteString.EMPTY;
-        /**
-         * <code>bytes hdrHistogram = 13;</code>
-         */
-        public com.google.protobuf.ByteString getHdrHistogram() {
-          return hdrHistogram_;
-        }
-        /**
-         * <code>bytes hdrHistogram = 13;</code>
-         */
-        public Builder setHdrHistogram(com.google.protobuf.ByteString value) {
-          if (value == null) {
-    throw new NullPointerException();
-  }
-  
-          hdrHistogram_ = value;
-          onChanged();
-          return this;
-        }
-        /**
-         * <code>bytes hdrHistogram = 13;</code>
-         */
-        public Builder clearHdrHistogram() {
-          
-          hdrHistogram_ = getDefaultInstance().getHdrHistogram();
-          onChanged();
-          return this;
-        }
-        @java.lang.Override
-        public final Builder setUnknownFields(
-            final com.google.protobuf.UnknownFieldSet unknownFields) {
-          return super.setUnknownFieldsProto3(unknownFields);
-        }
-
-        @java.lang.Override
-        public final Builder mergeUnknownFields(
-            final com.google.protobuf.UnknownFieldSet unknownFields) {
-          return super.mergeUnknownFields(unknownFields);
-        }
-
-
-        // @@protoc_insertion_point(builder_scope:org.attribyte.essem.proto3.EssemReport.Histogram)
-      }
-
-      // @@protoc_insertion_point(class_scope:org.attribyte.essem.proto3.EssemReport.Histogram)
-      private static final org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram DEFAULT_INSTANCE;
-      static {
-        DEFAULT_INSTANCE = new org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram();
-      }
-
-      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram getDefaultInstance() {
-        return DEFAULT_INSTANCE;
-      }
-
-      private static final com.google.protobuf.Parser<Histogram>
-          PARSER = new com.google.protobuf.AbstractParser<Histogram>() {
-        @java.lang.Override
-        public Histogram parsePartialFrom(
-            com.google.protobuf.CodedInputStream input,
-            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws com.google.protobuf.InvalidProtocolBufferException {
-          return new Histogram(input, extensionRegistry);
-        }
-      };
-
-      public static com.google.protobuf.Parser<Histogram> parser() {
-        return PARSER;
-      }
-
-      @java.lang.Override
-      public com.google.protobuf.Parser<Histogram> getParserForType() {
-        return PARSER;
-      }
-
-      @java.lang.Override
-      public org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram getDefaultInstanceForType() {
-        return DEFAULT_INSTANCE;
-      }
-
-    }
-
-    public interface TimerOrBuilder extends
-        // @@protoc_insertion_point(interface_extends:org.attribyte.essem.proto3.EssemReport.Timer)
-        com.google.protobuf.MessageOrBuilder {
-
-      /**
-       * <code>string name = 1;</code>
-       */
-      java.lang.String getName();
-      /**
-       * <code>string name = 1;</code>
-       */
-      com.google.protobuf.ByteString
-          getNameBytes();
+      /**
+       * <code>double max = 3;</code>
+       */
+      double getMax();
 
       /**
-       * <code>double oneMinuteRate = 2;</code>
+       * <code>double mean = 4;</code>
        */
-      double getOneMinuteRate();
+      double getMean();
 
       /**
-       * <code>double fiveMinuteRate = 3;</code>
+       * <code>double min = 5;</code>
        */
-      double getFiveMinuteRate();
+      double getMin();
 
       /**
-       * <code>double fifteenMinuteRate = 4;</code>
+       * <code>double std = 6;</code>
        */
-      double getFifteenMinuteRate();
+      double getStd();
 
       /**
-       * <code>double meanRate = 5;</code>
+       * <code>double median = 7;</code>
        */
-      double getMeanRate();
+      double getMedian();
 
       /**
-       * <code>uint64 count = 6;</code>
+       * <code>double percentile75 = 8;</code>
        */
-      long getCount();
+      double getPercentile75();
 
       /**
-       * <code>double max = 7;</code>
+       * <code>double percentile95 = 9;</code>
        */
-      double getMax();
+      double getPercentile95();
 
       /**
-       * <code>double mean = 8;</code>
+       * <code>double percentile98 = 10;</code>
        */
-      double getMean();
+      double getPercentile98();
 
       /**
-       * <code>double min = 9;</code>
+       * <code>double percentile99 = 11;</code>
        */
-      double getMin();
+      double getPercentile99();
 
       /**
-       * <code>double std = 10;</code>
+       * <code>double percentile999 = 12;</code>
        */
-      double getStd();
+      double getPercentile999();
 
       /**
-       * <code>double median = 11;</code>
+       * <code>bytes hdrHistogram = 13;</code>
        */
-      double getMedian();
+      com.google.protobuf.ByteString getHdrHistogram();
 
       /**
-       * <code>double percentile75 = 12;</code>
+       * <code>uint32 nameId = 14;</code>
        */
-      double getPercentile75();
+      int getNameId();
 
       /**
-       * <code>double percentile95 = 13;</code>
+       * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 15;</code>
        */
-      double getPercentile95();
-
+      java.util.List<org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile> 
+          getQuantileList();
       /**
-       * <code>double percentile98 = 14;</code>
+       * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 15;</code>
        */
-      double getPercentile98();
-
+      org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile getQuantile(int index);
       /**
-       * <code>double percentile99 = 15;</code>
+       * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 15;</code>
        */
-      double getPercentile99();
-
+      int getQuantileCount();
       /**
-       * <code>double percentile999 = 16;</code>
+       * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 15;</code>
        */
-      double getPercentile999();
-
+      java.util.List<? extends org.attribyte.essem.proto3.ReportProtos.EssemReport.QuantileOrBuilder> 
+          getQuantileOrBuilderList();
       /**
-       * <code>bytes hdrHistogram = 17;</code>
+       * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 15;</code>
        */
-      com.google.protobuf.ByteString getHdrHistogram();
+      org.attribyte.essem.proto3.ReportProtos.EssemReport.QuantileOrBuilder getQuantileOrBuilder(
+          int index);
     }
     /**
-     * Protobuf type {@code org.attribyte.essem.proto3.EssemReport.Timer}
+     * Protobuf type {@code org.attribyte.essem.proto3.EssemReport.Histogram}
      */
-    public  static final class Timer extends
+    public  static final class Histogram extends
         com.google.protobuf.GeneratedMessageV3 implements
-        // @@protoc_insertion_point(message_implements:org.attribyte.essem.proto3.EssemReport.Timer)
-        TimerOrBuilder {
+        // @@protoc_insertion_point(message_implements:org.attribyte.essem.proto3.EssemReport.Histogram)
+        HistogramOrBuilder {
     private static final long serialVersionUID = 0L;
-      // Use Timer.newBuilder() to construct.
-      private Timer(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      // Use Histogram.newBuilder() to construct.
+      private Histogram(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
         super(builder);
       }
-      private Timer() {
+      private Histogram() {
         name_ = "";
-        oneMinuteRate_ = 0D;
-        fiveMinuteRate_ = 0D;
-        fifteenMinuteRate_ = 0D;
-        meanRate_ = 0D;
         count_ = 0L;
         max_ = 0D;
         mean_ = 0D;
@@ -4317,6 +3889,8 @@ public final class ReportProtos {
         percentile99_ = 0D;
         percentile999_ = 0D;
         hdrHistogram_ = com.google.protobuf.ByteString.EMPTY;
+        nameId_ = 0;
+        quantile_ = java.util.Collections.emptyList();
       }
 
       @java.lang.Override
@@ -4324,7 +3898,7 @@ public final class ReportProtos {
       getUnknownFields() {
         return this.unknownFields;
       }
-      private Timer(
+      private Histogram(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
@@ -4349,84 +3923,78 @@ public final class ReportProtos {
                 name_ = s;
                 break;
               }
-              case 17: {
+              case 16: {
 
-                oneMinuteRate_ = input.readDouble();
+                count_ = input.readUInt64();
                 break;
               }
               case 25: {
 
-                fiveMinuteRate_ = input.readDouble();
+                max_ = input.readDouble();
                 break;
               }
               case 33: {
 
-                fifteenMinuteRate_ = input.readDouble();
+                mean_ = input.readDouble();
                 break;
               }
               case 41: {
 
-                meanRate_ = input.readDouble();
+                min_ = input.readDouble();
                 break;
               }
-              case 48: {
+              case 49: {
 
-                count_ = input.readUInt64();
+                std_ = input.readDouble();
                 break;
               }
               case 57: {
 
-                max_ = input.readDouble();
+                median_ = input.readDouble();
                 break;
               }
               case 65: {
 
-                mean_ = input.readDouble();
+                percentile75_ = input.readDouble();
                 break;
               }
               case 73: {
 
-                min_ = input.readDouble();
+                percentile95_ = input.readDouble();
                 break;
               }
               case 81: {
 
-                std_ = input.readDouble();
+                percentile98_ = input.readDouble();
                 break;
               }
               case 89: {
 
-                median_ = input.readDouble();
+                percentile99_ = input.readDouble();
                 break;
               }
               case 97: {
 
-                percentile75_ = input.readDouble();
-                break;
-              }
-              case 105: {
-
-                percentile95_ = input.readDouble();
-                break;
-              }
-              case 113: {
-
-                percentile98_ = input.readDouble();
+                percentile999_ = input.readDouble();
                 break;
               }
-              case 121: {
+              case 106: {
 
-                percentile99_ = input.readDouble();
+                hdrHistogram_ = input.readBytes();
                 break;
               }
-              case 129: {
+              case 112: {
 
-                percentile999_ = input.readDouble();
+                nameId_ = input.readUInt32();
                 break;
               }
-              case 138: {
-
-                hdrHistogram_ = input.readBytes();
+              case 122: {
+                if (!((mutable_bitField0_ & 0x00004000) == 0x00004000)) {
+                  quantile_ = new java.util.ArrayList<org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile>();
+                  mutable_bitField0_ |= 0x00004000;
+                }
+                quantile_.add(
+                    input.readMessage(org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile.parser(), extensionRegistry));
                 break;
               }
               default: {
@@ -4444,23 +4012,27 @@ public final class ReportProtos {
           throw new com.google.protobuf.InvalidProtocolBufferException(
               e).setUnfinishedMessage(this);
         } finally {
+          if (((mutable_bitField0_ & 0x00004000) == 0x00004000)) {
+            quantile_ = java.util.Collections.unmodifiableList(quantile_);
+          }
           this.unknownFields = unknownFields.build();
           makeExtensionsImmutable();
         }
       }
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.attribyte.essem.proto3.ReportProtos.internal_static_org_attribyte_essem_proto3_EssemReport_Timer_descriptor;
+        return org.attribyte.essem.proto3.ReportProtos.internal_static_org_attribyte_essem_proto3_EssemReport_Histogram_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.attribyte.essem.proto3.ReportProtos.internal_static_org_attribyte_essem_proto3_EssemReport_Timer_fieldAccessorTable
+        return org.attribyte.essem.proto3.ReportProtos.internal_static_org_attribyte_essem_proto3_EssemReport_Histogram_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer.class, org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer.Builder.class);
+                org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram.class, org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram.Builder.class);
       }
 
+      private int bitField0_;
       public static final int NAME_FIELD_NUMBER = 1;
       private volatile java.lang.Object name_;
       /**
@@ -4495,150 +4067,158 @@ public final class ReportProtos {
         }
       }
 
-      public static final int ONEMINUTERATE_FIELD_NUMBER = 2;
-      private double oneMinuteRate_;
-      /**
-       * <code>double oneMinuteRate = 2;</code>
-       */
-      public double getOneMinuteRate() {
-        return oneMinuteRate_;
-      }
-
-      public static final int FIVEMINUTERATE_FIELD_NUMBER = 3;
-      private double fiveMinuteRate_;
-      /**
-       * <code>double fiveMinuteRate = 3;</code>
-       */
-      public double getFiveMinuteRate() {
-        return fiveMinuteRate_;
-      }
-
-      public static final int FIFTEENMINUTERATE_FIELD_NUMBER = 4;
-      private double fifteenMinuteRate_;
-      /**
-       * <code>double fifteenMinuteRate = 4;</code>
-       */
-      public double getFifteenMinuteRate() {
-        return fifteenMinuteRate_;
-      }
-
-      public static final int MEANRATE_FIELD_NUMBER = 5;
-      private double meanRate_;
-      /**
-       * <code>double meanRate = 5;</code>
-       */
-      public double getMeanRate() {
-        return meanRate_;
-      }
-
-      public static final int COUNT_FIELD_NUMBER = 6;
+      public static final int COUNT_FIELD_NUMBER = 2;
       private long count_;
       /**
-       * <code>uint64 count = 6;</code>
+       * <code>uint64 count = 2;</code>
        */
       public long getCount() {
         return count_;
       }
 
-      public static final int MAX_FIELD_NUMBER = 7;
+      public static final int MAX_FIELD_NUMBER = 3;
       private double max_;
       /**
-       * <code>double max = 7;</code>
+       * <code>double max = 3;</code>
        */
       public double getMax() {
         return max_;
       }
 
-      public static final int MEAN_FIELD_NUMBER = 8;
+      public static final int MEAN_FIELD_NUMBER = 4;
       private double mean_;
       /**
-       * <code>double mean = 8;</code>
+       * <code>double mean = 4;</code>
        */
       public double getMean() {
         return mean_;
       }
 
-      public static final int MIN_FIELD_NUMBER = 9;
+      public static final int MIN_FIELD_NUMBER = 5;
       private double min_;
       /**
-       * <code>double min = 9;</code>
+       * <code>double min = 5;</code>
        */
       public double getMin() {
         return min_;
       }
 
-      public static final int STD_FIELD_NUMBER = 10;
+      public static final int STD_FIELD_NUMBER = 6;
       private double std_;
       /**
-       * <code>double std = 10;</code>
+       * <code>double std = 6;</code>
        */
       public double getStd() {
         return std_;
       }
 
-      public static final int MEDIAN_FIELD_NUMBER = 11;
+      public static final int MEDIAN_FIELD_NUMBER = 7;
       private double median_;
       /**
-       * <code>double median = 11;</code>
+       * <code>double median = 7;</code>
        */
       public double getMedian() {
         return median_;
       }
 
-      public static final int PERCENTILE75_FIELD_NUMBER = 12;
+      public static final int PERCENTILE75_FIELD_NUMBER = 8;
       private double percentile75_;
       /**
-       * <code>double percentile75 = 12;</code>
+       * <code>double percentile75 = 8;</code>
        */
       public double getPercentile75() {
         return percentile75_;
       }
 
-      public static final int PERCENTILE95_FIELD_NUMBER = 13;
+      public static final int PERCENTILE95_FIELD_NUMBER = 9;
       private double percentile95_;
       /**
-       * <code>double percentile95 = 13;</code>
+       * <code>double percentile95 = 9;</code>
        */
       public double getPercentile95() {
         return percentile95_;
       }
 
-      public static final int PERCENTILE98_FIELD_NUMBER = 14;
+      public static final int PERCENTILE98_FIELD_NUMBER = 10;
       private double percentile98_;
       /**
-       * <code>double percentile98 = 14;</code>
+       * <code>double percentile98 = 10;</code>
        */
       public double getPercentile98() {
         return percentile98_;
       }
 
-      public static final int PERCENTILE99_FIELD_NUMBER = 15;
+      public static final int PERCENTILE99_FIELD_NUMBER = 11;
       private double percentile99_;
       /**
-       * <code>double percentile99 = 15;</code>
+       * <code>double percentile99 = 11;</code>
        */
       public double getPercentile99() {
         return percentile99_;
       }
 
-      public static final int PERCENTILE999_FIELD_NUMBER = 16;
+      public static final int PERCENTILE999_FIELD_NUMBER = 12;
       private double percentile999_;
       /**
-       * <code>double percentile999 = 16;</code>
+       * <code>double percentile999 = 12;</code>
        */
       public double getPercentile999() {
         return percentile999_;
       }
 
-      public static final int HDRHISTOGRAM_FIELD_NUMBER = 17;
+      public static final int HDRHISTOGRAM_FIELD_NUMBER = 13;
       private com.google.protobuf.ByteString hdrHistogram_;
       /**
-       * <code>bytes hdrHistogram = 17;</code>
+       * <code>bytes hdrHistogram = 13;</code>
        */
       public com.google.protobuf.ByteString getHdrHistogram() {
         return hdrHistogram_;
       }
 
+      public static final int NAMEID_FIELD_NUMBER = 14;
+      private int nameId_;
+      /**
+       * <code>uint32 nameId = 14;</code>
+       */
+      public int getNameId() {
+        return nameId_;
+      }
+
+      public static final int QUANTILE_FIELD_NUMBER = 15;
+      private java.util.List<org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile> quantile_;
+      /**
+       * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 15;</code>
+       */
+      public java.util.List<org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile> getQuantileList() {
+        return quantile_;
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 15;</code>
+       */
+      public java.util.List<? extends org.attribyte.essem.proto3.ReportProtos.EssemReport.QuantileOrBuilder> 
+          getQuantileOrBuilderList() {
+        return quantile_;
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 15;</code>
+       */
+      public int getQuantileCount() {
+        return quantile_.size();
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 15;</code>
+       */
+      public org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile getQuantile(int index) {
+        return quantile_.get(index);
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 15;</code>
+       */
+      public org.attribyte.essem.proto3.ReportProtos.EssemReport.QuantileOrBuilder getQuantileOrBuilder(
+          int index) {
+        return quantile_.get(index);
+      }
+
       private byte memoizedIsInitialized = -1;
       @java.lang.Override
       public final boolean isInitialized() {
@@ -4656,53 +4236,47 @@ public final class ReportProtos {
         if (!getNameBytes().isEmpty()) {
           com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
         }
-        if (oneMinuteRate_ != 0D) {
-          output.writeDouble(2, oneMinuteRate_);
-        }
-        if (fiveMinuteRate_ != 0D) {
-          output.writeDouble(3, fiveMinuteRate_);
-        }
-        if (fifteenMinuteRate_ != 0D) {
-          output.writeDouble(4, fifteenMinuteRate_);
-        }
-        if (meanRate_ != 0D) {
-          output.writeDouble(5, meanRate_);
-        }
         if (count_ != 0L) {
-          output.writeUInt64(6, count_);
+          output.writeUInt64(2, count_);
         }
         if (max_ != 0D) {
-          output.writeDouble(7, max_);
+          output.writeDouble(3, max_);
         }
         if (mean_ != 0D) {
-          output.writeDouble(8, mean_);
+          output.writeDouble(4, mean_);
         }
         if (min_ != 0D) {
-          output.writeDouble(9, min_);
+          output.writeDouble(5, min_);
         }
         if (std_ != 0D) {
-          output.writeDouble(10, std_);
+          output.writeDouble(6, std_);
         }
         if (median_ != 0D) {
-          output.writeDouble(11, median_);
+          output.writeDouble(7, median_);
         }
         if (percentile75_ != 0D) {
-          output.writeDouble(12, percentile75_);
+          output.writeDouble(8, percentile75_);
         }
         if (percentile95_ != 0D) {
-          output.writeDouble(13, percentile95_);
+          output.writeDouble(9, percentile95_);
         }
         if (percentile98_ != 0D) {
-          output.writeDouble(14, percentile98_);
+          output.writeDouble(10, percentile98_);
         }
         if (percentile99_ != 0D) {
-          output.writeDouble(15, percentile99_);
+          output.writeDouble(11, percentile99_);
         }
         if (percentile999_ != 0D) {
-          output.writeDouble(16, percentile999_);
+          output.writeDouble(12, percentile999_);
         }
         if (!hdrHistogram_.isEmpty()) {
-          output.writeBytes(17, hdrHistogram_);
+          output.writeBytes(13, hdrHistogram_);
+        }
+        if (nameId_ != 0) {
+          output.writeUInt32(14, nameId_);
+        }
+        for (int i = 0; i < quantile_.size(); i++) {
+          output.writeMessage(15, quantile_.get(i));
         }
         unknownFields.writeTo(output);
       }
@@ -4716,69 +4290,61 @@ public final class ReportProtos {
         if (!getNameBytes().isEmpty()) {
           size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
         }
-        if (oneMinuteRate_ != 0D) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeDoubleSize(2, oneMinuteRate_);
-        }
-        if (fiveMinuteRate_ != 0D) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeDoubleSize(3, fiveMinuteRate_);
-        }
-        if (fifteenMinuteRate_ != 0D) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeDoubleSize(4, fifteenMinuteRate_);
-        }
-        if (meanRate_ != 0D) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeDoubleSize(5, meanRate_);
-        }
         if (count_ != 0L) {
           size += com.google.protobuf.CodedOutputStream
-            .computeUInt64Size(6, count_);
+            .computeUInt64Size(2, count_);
         }
         if (max_ != 0D) {
           size += com.google.protobuf.CodedOutputStream
-            .computeDoubleSize(7, max_);
+            .computeDoubleSize(3, max_);
         }
         if (mean_ != 0D) {
           size += com.google.protobuf.CodedOutputStream
-            .computeDoubleSize(8, mean_);
+            .computeDoubleSize(4, mean_);
         }
         if (min_ != 0D) {
           size += com.google.protobuf.CodedOutputStream
-            .computeDoubleSize(9, min_);
+            .computeDoubleSize(5, min_);
         }
         if (std_ != 0D) {
           size += com.google.protobuf.CodedOutputStream
-            .computeDoubleSize(10, std_);
+            .computeDoubleSize(6, std_);
         }
         if (median_ != 0D) {
           size += com.google.protobuf.CodedOutputStream
-            .computeDoubleSize(11, median_);
+            .computeDoubleSize(7, median_);
         }
         if (percentile75_ != 0D) {
           size += com.google.protobuf.CodedOutputStream
-            .computeDoubleSize(12, percentile75_);
+            .computeDoubleSize(8, percentile75_);
         }
         if (percentile95_ != 0D) {
           size += com.google.protobuf.CodedOutputStream
-            .computeDoubleSize(13, percentile95_);
+            .computeDoubleSize(9, percentile95_);
         }
         if (percentile98_ != 0D) {
           size += com.google.protobuf.CodedOutputStream
-            .computeDoubleSize(14, percentile98_);
+            .computeDoubleSize(10, percentile98_);
         }
         if (percentile99_ != 0D) {
           size += com.google.protobuf.CodedOutputStream
-            .computeDoubleSize(15, percentile99_);
+            .computeDoubleSize(11, percentile99_);
         }
         if (percentile999_ != 0D) {
           size += com.google.protobuf.CodedOutputStream
-            .computeDoubleSize(16, percentile999_);
+            .computeDoubleSize(12, percentile999_);
         }
         if (!hdrHistogram_.isEmpty()) {
           size += com.google.protobuf.CodedOutputStream
-            .computeBytesSize(17, hdrHistogram_);
+            .computeBytesSize(13, hdrHistogram_);
+        }
+        if (nameId_ != 0) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeUInt32Size(14, nameId_);
+        }
+        for (int i = 0; i < quantile_.size(); i++) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(15, quantile_.get(i));
         }
         size += unknownFields.getSerializedSize();
         memoizedSize = size;
@@ -4790,30 +4356,14 @@ public final class ReportProtos {
         if (obj == this) {
          return true;
         }
-        if (!(obj instanceof org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer)) {
+        if (!(obj instanceof org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram)) {
           return super.equals(obj);
         }
-        org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer other = (org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer) obj;
+        org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram other = (org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram) obj;
 
         boolean result = true;
         result = result && getName()
             .equals(other.getName());
-        result = result && (
-            java.lang.Double.doubleToLongBits(getOneMinuteRate())
-            == java.lang.Double.doubleToLongBits(
-                other.getOneMinuteRate()));
-        result = result && (
-            java.lang.Double.doubleToLongBits(getFiveMinuteRate())
-            == java.lang.Double.doubleToLongBits(
-                other.getFiveMinuteRate()));
-        result = result && (
-            java.lang.Double.doubleToLongBits(getFifteenMinuteRate())
-            == java.lang.Double.doubleToLongBits(
-                other.getFifteenMinuteRate()));
-        result = result && (
-            java.lang.Double.doubleToLongBits(getMeanRate())
-            == java.lang.Double.doubleToLongBits(
-                other.getMeanRate()));
         result = result && (getCount()
             == other.getCount());
         result = result && (
@@ -4858,6 +4408,10 @@ public final class ReportProtos {
                 other.getPercentile999()));
         result = result && getHdrHistogram()
             .equals(other.getHdrHistogram());
+        result = result && (getNameId()
+            == other.getNameId());
+        result = result && getQuantileList()
+            .equals(other.getQuantileList());
         result = result && unknownFields.equals(other.unknownFields);
         return result;
       }
@@ -4871,18 +4425,6 @@ public final class ReportProtos {
         hash = (19 * hash) + getDescriptor().hashCode();
         hash = (37 * hash) + NAME_FIELD_NUMBER;
         hash = (53 * hash) + getName().hashCode();
-        hash = (37 * hash) + ONEMINUTERATE_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-            java.lang.Double.doubleToLongBits(getOneMinuteRate()));
-        hash = (37 * hash) + FIVEMINUTERATE_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-            java.lang.Double.doubleToLongBits(getFiveMinuteRate()));
-        hash = (37 * hash) + FIFTEENMINUTERATE_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-            java.lang.Double.doubleToLongBits(getFifteenMinuteRate()));
-        hash = (37 * hash) + MEANRATE_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-            java.lang.Double.doubleToLongBits(getMeanRate()));
         hash = (37 * hash) + COUNT_FIELD_NUMBER;
         hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
             getCount());
@@ -4918,74 +4460,80 @@ public final class ReportProtos {
             java.lang.Double.doubleToLongBits(getPercentile999()));
         hash = (37 * hash) + HDRHISTOGRAM_FIELD_NUMBER;
         hash = (53 * hash) + getHdrHistogram().hashCode();
+        hash = (37 * hash) + NAMEID_FIELD_NUMBER;
+        hash = (53 * hash) + getNameId();
+        if (getQuantileCount() > 0) {
+          hash = (37 * hash) + QUANTILE_FIELD_NUMBER;
+          hash = (53 * hash) + getQuantileList().hashCode();
+        }
         hash = (29 * hash) + unknownFields.hashCode();
         memoizedHashCode = hash;
         return hash;
       }
 
-      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer parseFrom(
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram parseFrom(
           java.nio.ByteBuffer data)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data);
       }
-      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer parseFrom(
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram parseFrom(
           java.nio.ByteBuffer data,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data, extensionRegistry);
       }
-      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer parseFrom(
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram parseFrom(
           com.google.protobuf.ByteString data)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data);
       }
-      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer parseFrom(
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram parseFrom(
           com.google.protobuf.ByteString data,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data, extensionRegistry);
       }
-      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer parseFrom(byte[] data)
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram parseFrom(byte[] data)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data);
       }
-      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer parseFrom(
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram parseFrom(
           byte[] data,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data, extensionRegistry);
       }
-      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer parseFrom(java.io.InputStream input)
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram parseFrom(java.io.InputStream input)
           throws java.io.IOException {
         return com.google.protobuf.GeneratedMessageV3
             .parseWithIOException(PARSER, input);
       }
-      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer parseFrom(
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram parseFrom(
           java.io.InputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
         return com.google.protobuf.GeneratedMessageV3
             .parseWithIOException(PARSER, input, extensionRegistry);
       }
-      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer parseDelimitedFrom(java.io.InputStream input)
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram parseDelimitedFrom(java.io.InputStream input)
           throws java.io.IOException {
         return com.google.protobuf.GeneratedMessageV3
             .parseDelimitedWithIOException(PARSER, input);
       }
-      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer parseDelimitedFrom(
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram parseDelimitedFrom(
           java.io.InputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
         return com.google.protobuf.GeneratedMessageV3
             .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
       }
-      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer parseFrom(
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram parseFrom(
           com.google.protobuf.CodedInputStream input)
           throws java.io.IOException {
         return com.google.protobuf.GeneratedMessageV3
             .parseWithIOException(PARSER, input);
       }
-      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer parseFrom(
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram parseFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
@@ -4993,754 +4541,3889 @@ public final class ReportProtos {
             .parseWithIOException(PARSER, input, extensionRegistry);
       }
 
-      @java.lang.Override
-      public Builder newBuilderForType() { return newBuilder(); }
-      public static Builder newBuilder() {
-        return DEFAULT_INSTANCE.toBuilder();
-      }
-      public static Builder newBuilder(org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer prototype) {
-        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
-      }
-      @java.lang.Override
-      public Builder toBuilder() {
-        return this == DEFAULT_INSTANCE
-            ? new Builder() : new Builder().mergeFrom(this);
-      }
+      @java.lang.Override
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder() {
+        return DEFAULT_INSTANCE.toBuilder();
+      }
+      public static Builder newBuilder(org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram prototype) {
+        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+      }
+      @java.lang.Override
+      public Builder toBuilder() {
+        return this == DEFAULT_INSTANCE
+            ? new Builder() : new Builder().mergeFrom(this);
+      }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code org.attribyte.essem.proto3.EssemReport.Histogram}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:org.attribyte.essem.proto3.EssemReport.Histogram)
+          org.attribyte.essem.proto3.ReportProtos.EssemReport.HistogramOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.attribyte.essem.proto3.ReportProtos.internal_static_org_attribyte_essem_proto3_EssemReport_Histogram_descriptor;
+        }
+
+        @java.lang.Override
+        protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.attribyte.essem.proto3.ReportProtos.internal_static_org_attribyte_essem_proto3_EssemReport_Histogram_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram.class, org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram.Builder.class);
+        }
+
+        // Construct using org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessageV3
+                  .alwaysUseFieldBuilders) {
+            getQuantileFieldBuilder();
+          }
+        }
+        @java.lang.Override
+        public Builder clear() {
+          super.clear();
+          name_ = "";
+
+          count_ = 0L;
+
+          max_ = 0D;
+
+          mean_ = 0D;
+
+          min_ = 0D;
+
+          std_ = 0D;
+
+          median_ = 0D;
+
+          percentile75_ = 0D;
+
+          percentile95_ = 0D;
+
+          percentile98_ = 0D;
+
+          percentile99_ = 0D;
+
+          percentile999_ = 0D;
+
+          hdrHistogram_ = com.google.protobuf.ByteString.EMPTY;
+
+          nameId_ = 0;
+
+          if (quantileBuilder_ == null) {
+            quantile_ = java.util.Collections.emptyList();
+            bitField0_ = (bitField0_ & ~0x00004000);
+          } else {
+            quantileBuilder_.clear();
+          }
+          return this;
+        }
+
+        @java.lang.Override
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.attribyte.essem.proto3.ReportProtos.internal_static_org_attribyte_essem_proto3_EssemReport_Histogram_descriptor;
+        }
+
+        @java.lang.Override
+        public org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram getDefaultInstanceForType() {
+          return org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram.getDefaultInstance();
+        }
+
+        @java.lang.Override
+        public org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram build() {
+          org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        @java.lang.Override
+        public org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram buildPartial() {
+          org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram result = new org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram(this);
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          result.name_ = name_;
+          result.count_ = count_;
+          result.max_ = max_;
+          result.mean_ = mean_;
+          result.min_ = min_;
+          result.std_ = std_;
+          result.median_ = median_;
+          result.percentile75_ = percentile75_;
+          result.percentile95_ = percentile95_;
+          result.percentile98_ = percentile98_;
+          result.percentile99_ = percentile99_;
+          result.percentile999_ = percentile999_;
+          result.hdrHistogram_ = hdrHistogram_;
+          result.nameId_ = nameId_;
+          if (quantileBuilder_ == null) {
+            if (((bitField0_ & 0x00004000) == 0x00004000)) {
+              quantile_ = java.util.Collections.unmodifiableList(quantile_);
+              bitField0_ = (bitField0_ & ~0x00004000);
+            }
+            result.quantile_ = quantile_;
+          } else {
+            result.quantile_ = quantileBuilder_.build();
+          }
+          result.bitField0_ = to_bitField0_;
+          onBuilt();
+          return result;
+        }
+
+        @java.lang.Override
+        public Builder clone() {
+          return (Builder) super.clone();
+        }
+        @java.lang.Override
+        public Builder setField(
+            com.google.protobuf.Descriptors.FieldDescriptor field,
+            java.lang.Object value) {
+          return (Builder) super.setField(field, value);
+        }
+        @java.lang.Override
+        public Builder clearField(
+            com.google.protobuf.Descriptors.FieldDescriptor field) {
+          return (Builder) super.clearField(field);
+        }
+        @java.lang.Override
+        public Builder clearOneof(
+            com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+          return (Builder) super.clearOneof(oneof);
+        }
+        @java.lang.Override
+        public Builder setRepeatedField(
+            com.google.protobuf.Descriptors.FieldDescriptor field,
+            int index, java.lang.Object value) {
+          return (Builder) super.setRepeatedField(field, index, value);
+        }
+        @java.lang.Override
+        public Builder addRepeatedField(
+            com.google.protobuf.Descriptors.FieldDescriptor field,
+            java.lang.Object value) {
+          return (Builder) super.addRepeatedField(field, value);
+        }
+        @java.lang.Override
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram) {
+            return mergeFrom((org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram other) {
+          if (other == org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram.getDefaultInstance()) return this;
+          if (!other.getName().isEmpty()) {
+            name_ = other.name_;
+            onChanged();
+          }
+          if (other.getCount() != 0L) {
+            setCount(other.getCount());
+          }
+          if (other.getMax() != 0D) {
+            setMax(other.getMax());
+          }
+          if (other.getMean() != 0D) {
+            setMean(other.getMean());
+          }
+          if (other.getMin() != 0D) {
+            setMin(other.getMin());
+          }
+          if (other.getStd() != 0D) {
+            setStd(other.getStd());
+          }
+          if (other.getMedian() != 0D) {
+            setMedian(other.getMedian());
+          }
+          if (other.getPercentile75() != 0D) {
+            setPercentile75(other.getPercentile75());
+          }
+          if (other.getPercentile95() != 0D) {
+            setPercentile95(other.getPercentile95());
+          }
+          if (other.getPercentile98() != 0D) {
+            setPercentile98(other.getPercentile98());
+          }
+          if (other.getPercentile99() != 0D) {
+            setPercentile99(other.getPercentile99());
+          }
+          if (other.getPercentile999() != 0D) {
+            setPercentile999(other.getPercentile999());
+          }
+          if (other.getHdrHistogram() != com.google.protobuf.ByteString.EMPTY) {
+            setHdrHistogram(other.getHdrHistogram());
+          }
+          if (other.getNameId() != 0) {
+            setNameId(other.getNameId());
+          }
+          if (quantileBuilder_ == null) {
+            if (!other.quantile_.isEmpty()) {
+              if (quantile_.isEmpty()) {
+                quantile_ = other.quantile_;
+                bitField0_ = (bitField0_ & ~0x00004000);
+              } else {
+                ensureQuantileIsMutable();
+                quantile_.addAll(other.quantile_);
+              }
+              onChanged();
+            }
+          } else {
+            if (!other.quantile_.isEmpty()) {
+              if (quantileBuilder_.isEmpty()) {
+                quantileBuilder_.dispose();
+                quantileBuilder_ = null;
+                quantile_ = other.quantile_;
+                bitField0_ = (bitField0_ & ~0x00004000);
+                quantileBuilder_ = 
+                  com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                     getQuantileFieldBuilder() : null;
+              } else {
+                quantileBuilder_.addAllMessages(other.quantile_);
+              }
+            }
+          }
+          this.mergeUnknownFields(other.unknownFields);
+          onChanged();
+          return this;
+        }
+
+        @java.lang.Override
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram) e.getUnfinishedMessage();
+            throw e.unwrapIOException();
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+        private int bitField0_;
+
+        private java.lang.Object name_ = "";
+        /**
+         * <code>string name = 1;</code>
+         */
+        public java.lang.String getName() {
+          java.lang.Object ref = name_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            name_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>string name = 1;</code>
+         */
+        public com.google.protobuf.ByteString
+            getNameBytes() {
+          java.lang.Object ref = name_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            name_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>string name = 1;</code>
+         */
+        public Builder setName(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  
+          name_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string name = 1;</code>
+         */
+        public Builder clearName() {
+          
+          name_ = getDefaultInstance().getName();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string name = 1;</code>
+         */
+        public Builder setNameBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+          
+          name_ = value;
+          onChanged();
+          return this;
+        }
+
+        private long count_ ;
+        /**
+         * <code>uint64 count = 2;</code>
+         */
+        public long getCount() {
+          return count_;
+        }
+        /**
+         * <code>uint64 count = 2;</code>
+         */
+        public Builder setCount(long value) {
+          
+          count_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>uint64 count = 2;</code>
+         */
+        public Builder clearCount() {
+          
+          count_ = 0L;
+          onChanged();
+          return this;
+        }
+
+        private double max_ ;
+        /**
+         * <code>double max = 3;</code>
+         */
+        public double getMax() {
+          return max_;
+        }
+        /**
+         * <code>double max = 3;</code>
+         */
+        public Builder setMax(double value) {
+          
+          max_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>double max = 3;</code>
+         */
+        public Builder clearMax() {
+          
+          max_ = 0D;
+          onChanged();
+          return this;
+        }
+
+        private double mean_ ;
+        /**
+         * <code>double mean = 4;</code>
+         */
+        public double getMean() {
+          return mean_;
+        }
+        /**
+         * <code>double mean = 4;</code>
+         */
+        public Builder setMean(double value) {
+          
+          mean_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>double mean = 4;</code>
+         */
+        public Builder clearMean() {
+          
+          mean_ = 0D;
+          onChanged();
+          return this;
+        }
+
+        private double min_ ;
+        /**
+         * <code>double min = 5;</code>
+         */
+        public double getMin() {
+          return min_;
+        }
+        /**
+         * <code>double min = 5;</code>
+         */
+        public Builder setMin(double value) {
+          
+          min_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>double min = 5;</code>
+         */
+        public Builder clearMin() {
+          
+          min_ = 0D;
+          onChanged();
+          return this;
+        }
+
+        private double std_ ;
+        /**
+         * <code>double std = 6;</code>
+         */
+        public double getStd() {
+          return std_;
+        }
+        /**
+         * <code>double std = 6;</code>
+         */
+        public Builder setStd(double value) {
+          
+          std_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>double std = 6;</code>
+         */
+        public Builder clearStd() {
+          
+          std_ = 0D;
+          onChanged();
+          return this;
+        }
+
+        private double median_ ;
+        /**
+         * <code>double median = 7;</code>
+         */
+        public double getMedian() {
+          return median_;
+        }
+        /**
+         * <code>double median = 7;</code>
+         */
+        public Builder setMedian(double value) {
+          
+          median_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>double median = 7;</code>
+         */
+        public Builder clearMedian() {
+          
+          median_ = 0D;
+          onChanged();
+          return this;
+        }
+
+        private double percentile75_ ;
+        /**
+         * <code>double percentile75 = 8;</code>
+         */
+        public double getPercentile75() {
+          return percentile75_;
+        }
+        /**
+         * <code>double percentile75 = 8;</code>
+         */
+        public Builder setPercentile75(double value) {
+          
+          percentile75_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>double percentile75 = 8;</code>
+         */
+        public Builder clearPercentile75() {
+          
+          percentile75_ = 0D;
+          onChanged();
+          return this;
+        }
+
+        private double percentile95_ ;
+        /**
+         * <code>double percentile95 = 9;</code>
+         */
+        public double getPercentile95() {
+          return percentile95_;
+        }
+        /**
+         * <code>double percentile95 = 9;</code>
+         */
+        public Builder setPercentile95(double value) {
+          
+          percentile95_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>double percentile95 = 9;</code>
+         */
+        public Builder clearPercentile95() {
+          
+          percentile95_ = 0D;
+          onChanged();
+          return this;
+        }
+
+        private double percentile98_ ;
+        /**
+         * <code>double percentile98 = 10;</code>
+         */
+        public double getPercentile98() {
+          return percentile98_;
+        }
+        /**
+         * <code>double percentile98 = 10;</code>
+         */
+        public Builder setPercentile98(double value) {
+          
+          percentile98_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>double percentile98 = 10;</code>
+         */
+        public Builder clearPercentile98() {
+          
+          percentile98_ = 0D;
+          onChanged();
+          return this;
+        }
+
+        private double percentile99_ ;
+        /**
+         * <code>double percentile99 = 11;</code>
+         */
+        public double getPercentile99() {
+          return percentile99_;
+        }
+        /**
+         * <code>double percentile99 = 11;</code>
+         */
+        public Builder setPercentile99(double value) {
+          
+          percentile99_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>double percentile99 = 11;</code>
+         */
+        public Builder clearPercentile99() {
+          
+          percentile99_ = 0D;
+          onChanged();
+          return this;
+        }
+
+        private double percentile999_ ;
+        /**
+         * <code>double percentile999 = 12;</code>
+         */
+        public double getPercentile999() {
+          return percentile999_;
+        }
+        /**
+         * <code>double percentile999 = 12;</code>
+         */
+        public Builder setPercentile999(double value) {
+          
+          percentile999_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>double percentile999 = 12;</code>
+         */
+        public Builder clearPercentile999() {
+          
+          percentile999_ = 0D;
+          onChanged();
+          return this;
+        }
+
+        private com.google.protobuf.ByteString hdrHistogram_ = com.google.protobuf.ByteString.EMPTY;
+        /**
+         * <code>bytes hdrHistogram = 13;</code>
+         */
+        public com.google.protobuf.ByteString getHdrHistogram() {
+          return hdrHistogram_;
+        }
+        /**
+         * <code>bytes hdrHistogram = 13;</code>
+         */
+        public Builder setHdrHistogram(com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  
+          hdrHistogram_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>bytes hdrHistogram = 13;</code>
+         */
+        public Builder clearHdrHistogram() {
+          
+          hdrHistogram_ = getDefaultInstance().getHdrHistogram();
+          onChanged();
+          return this;
+        }
+
+        private int nameId_ ;
+        /**
+         * <code>uint32 nameId = 14;</code>
+         */
+        public int getNameId() {
+          return nameId_;
+        }
+        /**
+         * <code>uint32 nameId = 14;</code>
+         */
+        public Builder setNameId(int value) {
+          
+          nameId_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>uint32 nameId = 14;</code>
+         */
+        public Builder clearNameId() {
+          
+          nameId_ = 0;
+          onChanged();
+          return this;
+        }
+
+        private java.util.List<org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile> quantile_ =
+          java.util.Collections.emptyList();
+        private void ensureQuantileIsMutable() {
+          if (!((bitField0_ & 0x00004000) == 0x00004000)) {
+            quantile_ = new java.util.ArrayList<org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile>(quantile_);
+            bitField0_ |= 0x00004000;
+           }
+        }
+
+        private com.google.protobuf.RepeatedFieldBuilderV3<
+            org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile, org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile.Builder, org.attribyte.essem.proto3.ReportProtos.EssemReport.QuantileOrBuilder> quantileBuilder_;
+
+        /**
+         * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 15;</code>
+         */
+        public java.util.List<org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile> getQuantileList() {
+          if (quantileBuilder_ == null) {
+            return java.util.Collections.unmodifiableList(quantile_);
+          } else {
+            return quantileBuilder_.getMessageList();
+          }
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 15;</code>
+         */
+        public int getQuantileCount() {
+          if (quantileBuilder_ == null) {
+            return quantile_.size();
+          } else {
+            return quantileBuilder_.getCount();
+          }
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 15;</code>
+         */
+        public org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile getQuantile(int index) {
+          if (quantileBuilder_ == null) {
+            return quantile_.get(index);
+          } else {
+            return quantileBuilder_.getMessage(index);
+          }
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 15;</code>
+         */
+        public Builder setQuantile(
+            int index, org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile value) {
+          if (quantileBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureQuantileIsMutable();
+            quantile_.set(index, value);
+            onChanged();
+          } else {
+            quantileBuilder_.setMessage(index, value);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 15;</code>
+         */
+        public Builder setQuantile(
+            int index, org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile.Builder builderForValue) {
+          if (quantileBuilder_ == null) {
+            ensureQuantileIsMutable();
+            quantile_.set(index, builderForValue.build());
+            onChanged();
+          } else {
+            quantileBuilder_.setMessage(index, builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 15;</code>
+         */
+        public Builder addQuantile(org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile value) {
+          if (quantileBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureQuantileIsMutable();
+            quantile_.add(value);
+            onChanged();
+          } else {
+            quantileBuilder_.addMessage(value);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 15;</code>
+         */
+        public Builder addQuantile(
+            int index, org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile value) {
+          if (quantileBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureQuantileIsMutable();
+            quantile_.add(index, value);
+            onChanged();
+          } else {
+            quantileBuilder_.addMessage(index, value);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 15;</code>
+         */
+        public Builder addQuantile(
+            org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile.Builder builderForValue) {
+          if (quantileBuilder_ == null) {
+            ensureQuantileIsMutable();
+            quantile_.add(builderForValue.build());
+            onChanged();
+          } else {
+            quantileBuilder_.addMessage(builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 15;</code>
+         */
+        public Builder addQuantile(
+            int index, org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile.Builder builderForValue) {
+          if (quantileBuilder_ == null) {
+            ensureQuantileIsMutable();
+            quantile_.add(index, builderForValue.build());
+            onChanged();
+          } else {
+            quantileBuilder_.addMessage(index, builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 15;</code>
+         */
+        public Builder addAllQuantile(
+            java.lang.Iterable<? extends org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile> values) {
+          if (quantileBuilder_ == null) {
+            ensureQuantileIsMutable();
+            com.google.protobuf.AbstractMessageLite.Builder.addAll(
+                values, quantile_);
+            onChanged();
+          } else {
+            quantileBuilder_.addAllMessages(values);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 15;</code>
+         */
+        public Builder clearQuantile() {
+          if (quantileBuilder_ == null) {
+            quantile_ = java.util.Collections.emptyList();
+            bitField0_ = (bitField0_ & ~0x00004000);
+            onChanged();
+          } else {
+            quantileBuilder_.clear();
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 15;</code>
+         */
+        public Builder removeQuantile(int index) {
+          if (quantileBuilder_ == null) {
+            ensureQuantileIsMutable();
+            quantile_.remove(index);
+            onChanged();
+          } else {
+            quantileBuilder_.remove(index);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 15;</code>
+         */
+        public org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile.Builder getQuantileBuilder(
+            int index) {
+          return getQuantileFieldBuilder().getBuilder(index);
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 15;</code>
+         */
+        public org.attribyte.essem.proto3.ReportProtos.EssemReport.QuantileOrBuilder getQuantileOrBuilder(
+            int index) {
+          if (quantileBuilder_ == null) {
+            return quantile_.get(index);  } else {
+            return quantileBuilder_.getMessageOrBuilder(index);
+          }
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 15;</code>
+         */
+        public java.util.List<? extends org.attribyte.essem.proto3.ReportProtos.EssemReport.QuantileOrBuilder> 
+             getQuantileOrBuilderList() {
+          if (quantileBuilder_ != null) {
+            return quantileBuilder_.getMessageOrBuilderList();
+          } else {
+            return java.util.Collections.unmodifiableList(quantile_);
+          }
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 15;</code>
+         */
+        public org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile.Builder addQuantileBuilder() {
+          return getQuantileFieldBuilder().addBuilder(
+              org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile.getDefaultInstance());
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 15;</code>
+         */
+        public org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile.Builder addQuantileBuilder(
+            int index) {
+          return getQuantileFieldBuilder().addBuilder(
+              index, org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile.getDefaultInstance());
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 15;</code>
+         */
+        public java.util.List<org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile.Builder> 
+             getQuantileBuilderList() {
+          return getQuantileFieldBuilder().getBuilderList();
+        }
+        private com.google.protobuf.RepeatedFieldBuilderV3<
+            org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile, org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile.Builder, org.attribyte.essem.proto3.ReportProtos.EssemReport.QuantileOrBuilder> 
+            getQuantileFieldBuilder() {
+          if (quantileBuilder_ == null) {
+            quantileBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+                org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile, org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile.Builder, org.attribyte.essem.proto3.ReportProtos.EssemReport.QuantileOrBuilder>(
+                    quantile_,
+                    ((bitField0_ & 0x00004000) == 0x00004000),
+                    getParentForChildren(),
+                    isClean());
+            quantile_ = null;
+          }
+          return quantileBuilder_;
+        }
+        @java.lang.Override
+        public final Builder setUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.setUnknownFieldsProto3(unknownFields);
+        }
+
+        @java.lang.Override
+        public final Builder mergeUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.mergeUnknownFields(unknownFields);
+        }
+
+
+        // @@protoc_insertion_point(builder_scope:org.attribyte.essem.proto3.EssemReport.Histogram)
+      }
+
+      // @@protoc_insertion_point(class_scope:org.attribyte.essem.proto3.EssemReport.Histogram)
+      private static final org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram DEFAULT_INSTANCE;
+      static {
+        DEFAULT_INSTANCE = new org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram();
+      }
+
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram getDefaultInstance() {
+        return DEFAULT_INSTANCE;
+      }
+
+      private static final com.google.protobuf.Parser<Histogram>
+          PARSER = new com.google.protobuf.AbstractParser<Histogram>() {
+        @java.lang.Override
+        public Histogram parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new Histogram(input, extensionRegistry);
+        }
+      };
+
+      public static com.google.protobuf.Parser<Histogram> parser() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<Histogram> getParserForType() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public org.attribyte.essem.proto3.ReportProtos.EssemReport.Histogram getDefaultInstanceForType() {
+        return DEFAULT_INSTANCE;
+      }
+
+    }
+
+    public interface TimerOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:org.attribyte.essem.proto3.EssemReport.Timer)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>string name = 1;</code>
+       */
+      java.lang.String getName();
+      /**
+       * <code>string name = 1;</code>
+       */
+      com.google.protobuf.ByteString
+          getNameBytes();
+
+      /**
+       * <code>double oneMinuteRate = 2;</code>
+       */
+      double getOneMinuteRate();
+
+      /**
+       * <code>double fiveMinuteRate = 3;</code>
+       */
+      double getFiveMinuteRate();
+
+      /**
+       * <code>double fifteenMinuteRate = 4;</code>
+       */
+      double getFifteenMinuteRate();
+
+      /**
+       * <code>double meanRate = 5;</code>
+       */
+      double getMeanRate();
+
+      /**
+       * <code>uint64 count = 6;</code>
+       */
+      long getCount();
+
+      /**
+       * <code>double max = 7;</code>
+       */
+      double getMax();
+
+      /**
+       * <code>double mean = 8;</code>
+       */
+      double getMean();
+
+      /**
+       * <code>double min = 9;</code>
+       */
+      double getMin();
+
+      /**
+       * <code>double std = 10;</code>
+       */
+      double getStd();
+
+      /**
+       * <code>double median = 11;</code>
+       */
+      double getMedian();
+
+      /**
+       * <code>double percentile75 = 12;</code>
+       */
+      double getPercentile75();
+
+      /**
+       * <code>double percentile95 = 13;</code>
+       */
+      double getPercentile95();
+
+      /**
+       * <code>double percentile98 = 14;</code>
+       */
+      double getPercentile98();
+
+      /**
+       * <code>double percentile99 = 15;</code>
+       */
+      double getPercentile99();
+
+      /**
+       * <code>double percentile999 = 16;</code>
+       */
+      double getPercentile999();
+
+      /**
+       * <code>bytes hdrHistogram = 17;</code>
+       */
+      com.google.protobuf.ByteString getHdrHistogram();
+
+      /**
+       * <code>uint32 nameId = 18;</code>
+       */
+      int getNameId();
+
+      /**
+       * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 19;</code>
+       */
+      java.util.List<org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile> 
+          getQuantileList();
+      /**
+       * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 19;</code>
+       */
+      org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile getQuantile(int index);
+      /**
+       * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 19;</code>
+       */
+      int getQuantileCount();
+      /**
+       * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 19;</code>
+       */
+      java.util.List<? extends org.attribyte.essem.proto3.ReportProtos.EssemReport.QuantileOrBuilder> 
+          getQuantileOrBuilderList();
+      /**
+       * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 19;</code>
+       */
+      org.attribyte.essem.proto3.ReportProtos.EssemReport.QuantileOrBuilder getQuantileOrBuilder(
+          int index);
+    }
+    /**
+     * Protobuf type {@code org.attribyte.essem.proto3.EssemReport.Timer}
+     */
+    public  static final class Timer extends
+        com.google.protobuf.GeneratedMessageV3 implements
+        // @@protoc_insertion_point(message_implements:org.attribyte.essem.proto3.EssemReport.Timer)
+        TimerOrBuilder {
+    private static final long serialVersionUID = 0L;
+      // Use Timer.newBuilder() to construct.
+      private Timer(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+        super(builder);
+      }
+      private Timer() {
+        name_ = "";
+        oneMinuteRate_ = 0D;
+        fiveMinuteRate_ = 0D;
+        fifteenMinuteRate_ = 0D;
+        meanRate_ = 0D;
+        count_ = 0L;
+        max_ = 0D;
+        mean_ = 0D;
+        min_ = 0D;
+        std_ = 0D;
+        median_ = 0D;
+        percentile75_ = 0D;
+        percentile95_ = 0D;
+        percentile98_ = 0D;
+        percentile99_ = 0D;
+        percentile999_ = 0D;
+        hdrHistogram_ = com.google.protobuf.ByteString.EMPTY;
+        nameId_ = 0;
+        quantile_ = java.util.Collections.emptyList();
+      }
+
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+      getUnknownFields() {
+        return this.unknownFields;
+      }
+      private Timer(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        this();
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        int mutable_bitField0_ = 0;
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                java.lang.String s = input.readStringRequireUtf8();
+
+                name_ = s;
+                break;
+              }
+              case 17: {
+
+                oneMinuteRate_ = input.readDouble();
+                break;
+              }
+              case 25: {
+
+                fiveMinuteRate_ = input.readDouble();
+                break;
+              }
+              case 33: {
+
+                fifteenMinuteRate_ = input.readDouble();
+                break;
+              }
+              case 41: {
+
+                meanRate_ = input.readDouble();
+                break;
+              }
+              case 48: {
+
+                count_ = input.readUInt64();
+                break;
+              }
+              case 57: {
+
+                max_ = input.readDouble();
+                break;
+              }
+              case 65: {
+
+                mean_ = input.readDouble();
+                break;
+              }
+              case 73: {
+
+                min_ = input.readDouble();
+                break;
+              }
+              case 81: {
+
+                std_ = input.readDouble();
+                break;
+              }
+              case 89: {
+
+                median_ = input.readDouble();
+                break;
+              }
+              case 97: {
+
+                percentile75_ = input.readDouble();
+                break;
+              }
+              case 105: {
+
+                percentile95_ = input.readDouble();
+                break;
+              }
+              case 113: {
+
+                percentile98_ = input.readDouble();
+                break;
+              }
+              case 121: {
+
+                percentile99_ = input.readDouble();
+                break;
+              }
+              case 129: {
+
+                percentile999_ = input.readDouble();
+                break;
+              }
+              case 138: {
+
+                hdrHistogram_ = input.readBytes();
+                break;
+              }
+              case 144: {
+
+                nameId_ = input.readUInt32();
+                break;
+              }
+              case 154: {
+                if (!((mutable_bitField0_ & 0x00040000) == 0x00040000)) {
+                  quantile_ = new java.util.ArrayList<org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile>();
+                  mutable_bitField0_ |= 0x00040000;
+                }
+                quantile_.add(
+                    input.readMessage(org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile.parser(), extensionRegistry));
+                break;
+              }
+              default: {
+                if (!parseUnknownFieldProto3(
+                    input, unknownFields, extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(
+              e).setUnfinishedMessage(this);
+        } finally {
+          if (((mutable_bitField0_ & 0x00040000) == 0x00040000)) {
+            quantile_ = java.util.Collections.unmodifiableList(quantile_);
+          }
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
+      }
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.attribyte.essem.proto3.ReportProtos.internal_static_org_attribyte_essem_proto3_EssemReport_Timer_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.attribyte.essem.proto3.ReportProtos.internal_static_org_attribyte_essem_proto3_EssemReport_Timer_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer.class, org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer.Builder.class);
+      }
+
+      private int bitField0_;
+      public static final int NAME_FIELD_NUMBER = 1;
+      private volatile java.lang.Object name_;
+      /**
+       * <code>string name = 1;</code>
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        }
+      }
+      /**
+       * <code>string name = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int ONEMINUTERATE_FIELD_NUMBER = 2;
+      private double oneMinuteRate_;
+      /**
+       * <code>double oneMinuteRate = 2;</code>
+       */
+      public double getOneMinuteRate() {
+        return oneMinuteRate_;
+      }
+
+      public static final int FIVEMINUTERATE_FIELD_NUMBER = 3;
+      private double fiveMinuteRate_;
+      /**
+       * <code>double fiveMinuteRate = 3;</code>
+       */
+      public double getFiveMinuteRate() {
+        return fiveMinuteRate_;
+      }
+
+      public static final int FIFTEENMINUTERATE_FIELD_NUMBER = 4;
+      private double fifteenMinuteRate_;
+      /**
+       * <code>double fifteenMinuteRate = 4;</code>
+       */
+      public double getFifteenMinuteRate() {
+        return fifteenMinuteRate_;
+      }
+
+      public static final int MEANRATE_FIELD_NUMBER = 5;
+      private double meanRate_;
+      /**
+       * <code>double meanRate = 5;</code>
+       */
+      public double getMeanRate() {
+        return meanRate_;
+      }
+
+      public static final int COUNT_FIELD_NUMBER = 6;
+      private long count_;
+      /**
+       * <code>uint64 count = 6;</code>
+       */
+      public long getCount() {
+        return count_;
+      }
+
+      public static final int MAX_FIELD_NUMBER = 7;
+      private double max_;
+      /**
+       * <code>double max = 7;</code>
+       */
+      public double getMax() {
+        return max_;
+      }
+
+      public static final int MEAN_FIELD_NUMBER = 8;
+      private double mean_;
+      /**
+       * <code>double mean = 8;</code>
+       */
+      public double getMean() {
+        return mean_;
+      }
+
+      public static final int MIN_FIELD_NUMBER = 9;
+      private double min_;
+      /**
+       * <code>double min = 9;</code>
+       */
+      public double getMin() {
+        return min_;
+      }
+
+      public static final int STD_FIELD_NUMBER = 10;
+      private double std_;
+      /**
+       * <code>double std = 10;</code>
+       */
+      public double getStd() {
+        return std_;
+      }
+
+      public static final int MEDIAN_FIELD_NUMBER = 11;
+      private double median_;
+      /**
+       * <code>double median = 11;</code>
+       */
+      public double getMedian() {
+        return median_;
+      }
+
+      public static final int PERCENTILE75_FIELD_NUMBER = 12;
+      private double percentile75_;
+      /**
+       * <code>double percentile75 = 12;</code>
+       */
+      public double getPercentile75() {
+        return percentile75_;
+      }
+
+      public static final int PERCENTILE95_FIELD_NUMBER = 13;
+      private double percentile95_;
+      /**
+       * <code>double percentile95 = 13;</code>
+       */
+      public double getPercentile95() {
+        return percentile95_;
+      }
+
+      public static final int PERCENTILE98_FIELD_NUMBER = 14;
+      private double percentile98_;
+      /**
+       * <code>double percentile98 = 14;</code>
+       */
+      public double getPercentile98() {
+        return percentile98_;
+      }
+
+      public static final int PERCENTILE99_FIELD_NUMBER = 15;
+      private double percentile99_;
+      /**
+       * <code>double percentile99 = 15;</code>
+       */
+      public double getPercentile99() {
+        return percentile99_;
+      }
+
+      public static final int PERCENTILE999_FIELD_NUMBER = 16;
+      private double percentile999_;
+      /**
+       * <code>double percentile999 = 16;</code>
+       */
+      public double getPercentile999() {
+        return percentile999_;
+      }
+
+      public static final int HDRHISTOGRAM_FIELD_NUMBER = 17;
+      private com.google.protobuf.ByteString hdrHistogram_;
+      /**
+       * <code>bytes hdrHistogram = 17;</code>
+       */
+      public com.google.protobuf.ByteString getHdrHistogram() {
+        return hdrHistogram_;
+      }
+
+      public static final int NAMEID_FIELD_NUMBER = 18;
+      private int nameId_;
+      /**
+       * <code>uint32 nameId = 18;</code>
+       */
+      public int getNameId() {
+        return nameId_;
+      }
+
+      public static final int QUANTILE_FIELD_NUMBER = 19;
+      private java.util.List<org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile> quantile_;
+      /**
+       * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 19;</code>
+       */
+      public java.util.List<org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile> getQuantileList() {
+        return quantile_;
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 19;</code>
+       */
+      public java.util.List<? extends org.attribyte.essem.proto3.ReportProtos.EssemReport.QuantileOrBuilder> 
+          getQuantileOrBuilderList() {
+        return quantile_;
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 19;</code>
+       */
+      public int getQuantileCount() {
+        return quantile_.size();
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 19;</code>
+       */
+      public org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile getQuantile(int index) {
+        return quantile_.get(index);
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 19;</code>
+       */
+      public org.attribyte.essem.proto3.ReportProtos.EssemReport.QuantileOrBuilder getQuantileOrBuilder(
+          int index) {
+        return quantile_.get(index);
+      }
+
+      private byte memoizedIsInitialized = -1;
+      @java.lang.Override
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      @java.lang.Override
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        if (!getNameBytes().isEmpty()) {
+          com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
+        }
+        if (oneMinuteRate_ != 0D) {
+          output.writeDouble(2, oneMinuteRate_);
+        }
+        if (fiveMinuteRate_ != 0D) {
+          output.writeDouble(3, fiveMinuteRate_);
+        }
+        if (fifteenMinuteRate_ != 0D) {
+          output.writeDouble(4, fifteenMinuteRate_);
+        }
+        if (meanRate_ != 0D) {
+          output.writeDouble(5, meanRate_);
+        }
+        if (count_ != 0L) {
+          output.writeUInt64(6, count_);
+        }
+        if (max_ != 0D) {
+          output.writeDouble(7, max_);
+        }
+        if (mean_ != 0D) {
+          output.writeDouble(8, mean_);
+        }
+        if (min_ != 0D) {
+          output.writeDouble(9, min_);
+        }
+        if (std_ != 0D) {
+          output.writeDouble(10, std_);
+        }
+        if (median_ != 0D) {
+          output.writeDouble(11, median_);
+        }
+        if (percentile75_ != 0D) {
+          output.writeDouble(12, percentile75_);
+        }
+        if (percentile95_ != 0D) {
+          output.writeDouble(13, percentile95_);
+        }
+        if (percentile98_ != 0D) {
+          output.writeDouble(14, percentile98_);
+        }
+        if (percentile99_ != 0D) {
+          output.writeDouble(15, percentile99_);
+        }
+        if (percentile999_ != 0D) {
+          output.writeDouble(16, percentile999_);
+        }
+        if (!hdrHistogram_.isEmpty()) {
+          output.writeBytes(17, hdrHistogram_);
+        }
+        if (nameId_ != 0) {
+          output.writeUInt32(18, nameId_);
+        }
+        for (int i = 0; i < quantile_.size(); i++) {
+          output.writeMessage(19, quantile_.get(i));
+        }
+        unknownFields.writeTo(output);
+      }
+
+      @java.lang.Override
+      public int getSerializedSize() {
+        int size = memoizedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (!getNameBytes().isEmpty()) {
+          size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
+        }
+        if (oneMinuteRate_ != 0D) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeDoubleSize(2, oneMinuteRate_);
+        }
+        if (fiveMinuteRate_ != 0D) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeDoubleSize(3, fiveMinuteRate_);
+        }
+        if (fifteenMinuteRate_ != 0D) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeDoubleSize(4, fifteenMinuteRate_);
+        }
+        if (meanRate_ != 0D) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeDoubleSize(5, meanRate_);
+        }
+        if (count_ != 0L) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeUInt64Size(6, count_);
+        }
+        if (max_ != 0D) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeDoubleSize(7, max_);
+        }
+        if (mean_ != 0D) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeDoubleSize(8, mean_);
+        }
+        if (min_ != 0D) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeDoubleSize(9, min_);
+        }
+        if (std_ != 0D) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeDoubleSize(10, std_);
+        }
+        if (median_ != 0D) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeDoubleSize(11, median_);
+        }
+        if (percentile75_ != 0D) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeDoubleSize(12, percentile75_);
+        }
+        if (percentile95_ != 0D) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeDoubleSize(13, percentile95_);
+        }
+        if (percentile98_ != 0D) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeDoubleSize(14, percentile98_);
+        }
+        if (percentile99_ != 0D) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeDoubleSize(15, percentile99_);
+        }
+        if (percentile999_ != 0D) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeDoubleSize(16, percentile999_);
+        }
+        if (!hdrHistogram_.isEmpty()) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(17, hdrHistogram_);
+        }
+        if (nameId_ != 0) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeUInt32Size(18, nameId_);
+        }
+        for (int i = 0; i < quantile_.size(); i++) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(19, quantile_.get(i));
+        }
+        size += unknownFields.getSerializedSize();
+        memoizedSize = size;
+        return size;
+      }
+
+      @java.lang.Override
+      public boolean equals(final java.lang.Object obj) {
+        if (obj == this) {
+         return true;
+        }
+        if (!(obj instanceof org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer)) {
+          return super.equals(obj);
+        }
+        org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer other = (org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer) obj;
+
+        boolean result = true;
+        result = result && getName()
+            .equals(other.getName());
+        result = result && (
+            java.lang.Double.doubleToLongBits(getOneMinuteRate())
+            == java.lang.Double.doubleToLongBits(
+                other.getOneMinuteRate()));
+        result = result && (
+            java.lang.Double.doubleToLongBits(getFiveMinuteRate())
+            == java.lang.Double.doubleToLongBits(
+                other.getFiveMinuteRate()));
+        result = result && (
+            java.lang.Double.doubleToLongBits(getFifteenMinuteRate())
+            == java.lang.Double.doubleToLongBits(
+                other.getFifteenMinuteRate()));
+        result = result && (
+            java.lang.Double.doubleToLongBits(getMeanRate())
+            == java.lang.Double.doubleToLongBits(
+                other.getMeanRate()));
+        result = result && (getCount()
+            == other.getCount());
+        result = result && (
+            java.lang.Double.doubleToLongBits(getMax())
+            == java.lang.Double.doubleToLongBits(
+                other.getMax()));
+        result = result && (
+            java.lang.Double.doubleToLongBits(getMean())
+            == java.lang.Double.doubleToLongBits(
+                other.getMean()));
+        result = result && (
+            java.lang.Double.doubleToLongBits(getMin())
+            == java.lang.Double.doubleToLongBits(
+                other.getMin()));
+        result = result && (
+            java.lang.Double.doubleToLongBits(getStd())
+            == java.lang.Double.doubleToLongBits(
+                other.getStd()));
+        result = result && (
+            java.lang.Double.doubleToLongBits(getMedian())
+            == java.lang.Double.doubleToLongBits(
+                other.getMedian()));
+        result = result && (
+            java.lang.Double.doubleToLongBits(getPercentile75())
+            == java.lang.Double.doubleToLongBits(
+                other.getPercentile75()));
+        result = result && (
+            java.lang.Double.doubleToLongBits(getPercentile95())
+            == java.lang.Double.doubleToLongBits(
+                other.getPercentile95()));
+        result = result && (
+            java.lang.Double.doubleToLongBits(getPercentile98())
+            == java.lang.Double.doubleToLongBits(
+                other.getPercentile98()));
+        result = result && (
+            java.lang.Double.doubleToLongBits(getPercentile99())
+            == java.lang.Double.doubleToLongBits(
+                other.getPercentile99()));
+        result = result && (
+            java.lang.Double.doubleToLongBits(getPercentile999())
+            == java.lang.Double.doubleToLongBits(
+                other.getPercentile999()));
+        result = result && getHdrHistogram()
+            .equals(other.getHdrHistogram());
+        result = result && (getNameId()
+            == other.getNameId());
+        result = result && getQuantileList()
+            .equals(other.getQuantileList());
+        result = result && unknownFields.equals(other.unknownFields);
+        return result;
+      }
+
+      @java.lang.Override
+      public int hashCode() {
+        if (memoizedHashCode != 0) {
+          return memoizedHashCode;
+        }
+        int hash = 41;
+        hash = (19 * hash) + getDescriptor().hashCode();
+        hash = (37 * hash) + NAME_FIELD_NUMBER;
+        hash = (53 * hash) + getName().hashCode();
+        hash = (37 * hash) + ONEMINUTERATE_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            java.lang.Double.doubleToLongBits(getOneMinuteRate()));
+        hash = (37 * hash) + FIVEMINUTERATE_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            java.lang.Double.doubleToLongBits(getFiveMinuteRate()));
+        hash = (37 * hash) + FIFTEENMINUTERATE_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            java.lang.Double.doubleToLongBits(getFifteenMinuteRate()));
+        hash = (37 * hash) + MEANRATE_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            java.lang.Double.doubleToLongBits(getMeanRate()));
+        hash = (37 * hash) + COUNT_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getCount());
+        hash = (37 * hash) + MAX_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            java.lang.Double.doubleToLongBits(getMax()));
+        hash = (37 * hash) + MEAN_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            java.lang.Double.doubleToLongBits(getMean()));
+        hash = (37 * hash) + MIN_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            java.lang.Double.doubleToLongBits(getMin()));
+        hash = (37 * hash) + STD_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            java.lang.Double.doubleToLongBits(getStd()));
+        hash = (37 * hash) + MEDIAN_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            java.lang.Double.doubleToLongBits(getMedian()));
+        hash = (37 * hash) + PERCENTILE75_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            java.lang.Double.doubleToLongBits(getPercentile75()));
+        hash = (37 * hash) + PERCENTILE95_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            java.lang.Double.doubleToLongBits(getPercentile95()));
+        hash = (37 * hash) + PERCENTILE98_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            java.lang.Double.doubleToLongBits(getPercentile98()));
+        hash = (37 * hash) + PERCENTILE99_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            java.lang.Double.doubleToLongBits(getPercentile99()));
+        hash = (37 * hash) + PERCENTILE999_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            java.lang.Double.doubleToLongBits(getPercentile999()));
+        hash = (37 * hash) + HDRHISTOGRAM_FIELD_NUMBER;
+        hash = (53 * hash) + getHdrHistogram().hashCode();
+        hash = (37 * hash) + NAMEID_FIELD_NUMBER;
+        hash = (53 * hash) + getNameId();
+        if (getQuantileCount() > 0) {
+          hash = (37 * hash) + QUANTILE_FIELD_NUMBER;
+          hash = (53 * hash) + getQuantileList().hashCode();
+        }
+        hash = (29 * hash) + unknownFields.hashCode();
+        memoizedHashCode = hash;
+        return hash;
+      }
+
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer parseFrom(
+          java.nio.ByteBuffer data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer parseFrom(
+          java.nio.ByteBuffer data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input);
+      }
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      @java.lang.Override
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder() {
+        return DEFAULT_INSTANCE.toBuilder();
+      }
+      public static Builder newBuilder(org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer prototype) {
+        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+      }
+      @java.lang.Override
+      public Builder toBuilder() {
+        return this == DEFAULT_INSTANCE
+            ? new Builder() : new Builder().mergeFrom(this);
+      }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code org.attribyte.essem.proto3.EssemReport.Timer}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:org.attribyte.essem.proto3.EssemReport.Timer)
+          org.attribyte.essem.proto3.ReportProtos.EssemReport.TimerOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.attribyte.essem.proto3.ReportProtos.internal_static_org_attribyte_essem_proto3_EssemReport_Timer_descriptor;
+        }
+
+        @java.lang.Override
+        protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.attribyte.essem.proto3.ReportProtos.internal_static_org_attribyte_essem_proto3_EssemReport_Timer_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer.class, org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer.Builder.class);
+        }
+
+        // Construct using org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessageV3
+                  .alwaysUseFieldBuilders) {
+            getQuantileFieldBuilder();
+          }
+        }
+        @java.lang.Override
+        public Builder clear() {
+          super.clear();
+          name_ = "";
+
+          oneMinuteRate_ = 0D;
+
+          fiveMinuteRate_ = 0D;
+
+          fifteenMinuteRate_ = 0D;
+
+          meanRate_ = 0D;
+
+          count_ = 0L;
+
+          max_ = 0D;
+
+          mean_ = 0D;
+
+          min_ = 0D;
+
+          std_ = 0D;
+
+          median_ = 0D;
+
+          percentile75_ = 0D;
+
+          percentile95_ = 0D;
+
+          percentile98_ = 0D;
+
+          percentile99_ = 0D;
+
+          percentile999_ = 0D;
+
+          hdrHistogram_ = com.google.protobuf.ByteString.EMPTY;
+
+          nameId_ = 0;
+
+          if (quantileBuilder_ == null) {
+            quantile_ = java.util.Collections.emptyList();
+            bitField0_ = (bitField0_ & ~0x00040000);
+          } else {
+            quantileBuilder_.clear();
+          }
+          return this;
+        }
+
+        @java.lang.Override
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.attribyte.essem.proto3.ReportProtos.internal_static_org_attribyte_essem_proto3_EssemReport_Timer_descriptor;
+        }
+
+        @java.lang.Override
+        public org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer getDefaultInstanceForType() {
+          return org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer.getDefaultInstance();
+        }
+
+        @java.lang.Override
+        public org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer build() {
+          org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        @java.lang.Override
+        public org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer buildPartial() {
+          org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer result = new org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer(this);
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          result.name_ = name_;
+          result.oneMinuteRate_ = oneMinuteRate_;
+          result.fiveMinuteRate_ = fiveMinuteRate_;
+          result.fifteenMinuteRate_ = fifteenMinuteRate_;
+          result.meanRate_ = meanRate_;
+          result.count_ = count_;
+          result.max_ = max_;
+          result.mean_ = mean_;
+          result.min_ = min_;
+          result.std_ = std_;
+          result.median_ = median_;
+          result.percentile75_ = percentile75_;
+          result.percentile95_ = percentile95_;
+          result.percentile98_ = percentile98_;
+          result.percentile99_ = percentile99_;
+          result.percentile999_ = percentile999_;
+          result.hdrHistogram_ = hdrHistogram_;
+          result.nameId_ = nameId_;
+          if (quantileBuilder_ == null) {
+            if (((bitField0_ & 0x00040000) == 0x00040000)) {
+              quantile_ = java.util.Collections.unmodifiableList(quantile_);
+              bitField0_ = (bitField0_ & ~0x00040000);
+            }
+            result.quantile_ = quantile_;
+          } else {
+            result.quantile_ = quantileBuilder_.build();
+          }
+          result.bitField0_ = to_bitField0_;
+          onBuilt();
+          return result;
+        }
+
+        @java.lang.Override
+        public Builder clone() {
+          return (Builder) super.clone();
+        }
+        @java.lang.Override
+        public Builder setField(
+            com.google.protobuf.Descriptors.FieldDescriptor field,
+            java.lang.Object value) {
+          return (Builder) super.setField(field, value);
+        }
+        @java.lang.Override
+        public Builder clearField(
+            com.google.protobuf.Descriptors.FieldDescriptor field) {
+          return (Builder) super.clearField(field);
+        }
+        @java.lang.Override
+        public Builder clearOneof(
+            com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+          return (Builder) super.clearOneof(oneof);
+        }
+        @java.lang.Override
+        public Builder setRepeatedField(
+            com.google.protobuf.Descriptors.FieldDescriptor field,
+            int index, java.lang.Object value) {
+          return (Builder) super.setRepeatedField(field, index, value);
+        }
+        @java.lang.Override
+        public Builder addRepeatedField(
+            com.google.protobuf.Descriptors.FieldDescriptor field,
+            java.lang.Object value) {
+          return (Builder) super.addRepeatedField(field, value);
+        }
+        @java.lang.Override
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer) {
+            return mergeFrom((org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer other) {
+          if (other == org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer.getDefaultInstance()) return this;
+          if (!other.getName().isEmpty()) {
+            name_ = other.name_;
+            onChanged();
+          }
+          if (other.getOneMinuteRate() != 0D) {
+            setOneMinuteRate(other.getOneMinuteRate());
+          }
+          if (other.getFiveMinuteRate() != 0D) {
+            setFiveMinuteRate(other.getFiveMinuteRate());
+          }
+          if (other.getFifteenMinuteRate() != 0D) {
+            setFifteenMinuteRate(other.getFifteenMinuteRate());
+          }
+          if (other.getMeanRate() != 0D) {
+            setMeanRate(other.getMeanRate());
+          }
+          if (other.getCount() != 0L) {
+            setCount(other.getCount());
+          }
+          if (other.getMax() != 0D) {
+            setMax(other.getMax());
+          }
+          if (other.getMean() != 0D) {
+            setMean(other.getMean());
+          }
+          if (other.getMin() != 0D) {
+            setMin(other.getMin());
+          }
+          if (other.getStd() != 0D) {
+            setStd(other.getStd());
+          }
+          if (other.getMedian() != 0D) {
+            setMedian(other.getMedian());
+          }
+          if (other.getPercentile75() != 0D) {
+            setPercentile75(other.getPercentile75());
+          }
+          if (other.getPercentile95() != 0D) {
+            setPercentile95(other.getPercentile95());
+          }
+          if (other.getPercentile98() != 0D) {
+            setPercentile98(other.getPercentile98());
+          }
+          if (other.getPercentile99() != 0D) {
+            setPercentile99(other.getPercentile99());
+          }
+          if (other.getPercentile999() != 0D) {
+            setPercentile999(other.getPercentile999());
+          }
+          if (other.getHdrHistogram() != com.google.protobuf.ByteString.EMPTY) {
+            setHdrHistogram(other.getHdrHistogram());
+          }
+          if (other.getNameId() != 0) {
+            setNameId(other.getNameId());
+          }
+          if (quantileBuilder_ == null) {
+            if (!other.quantile_.isEmpty()) {
+              if (quantile_.isEmpty()) {
+                quantile_ = other.quantile_;
+                bitField0_ = (bitField0_ & ~0x00040000);
+              } else {
+                ensureQuantileIsMutable();
+                quantile_.addAll(other.quantile_);
+              }
+              onChanged();
+            }
+          } else {
+            if (!other.quantile_.isEmpty()) {
+              if (quantileBuilder_.isEmpty()) {
+                quantileBuilder_.dispose();
+                quantileBuilder_ = null;
+                quantile_ = other.quantile_;
+                bitField0_ = (bitField0_ & ~0x00040000);
+                quantileBuilder_ = 
+                  com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                     getQuantileFieldBuilder() : null;
+              } else {
+                quantileBuilder_.addAllMessages(other.quantile_);
+              }
+            }
+          }
+          this.mergeUnknownFields(other.unknownFields);
+          onChanged();
+          return this;
+        }
+
+        @java.lang.Override
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer) e.getUnfinishedMessage();
+            throw e.unwrapIOException();
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+        private int bitField0_;
+
+        private java.lang.Object name_ = "";
+        /**
+         * <code>string name = 1;</code>
+         */
+        public java.lang.String getName() {
+          java.lang.Object ref = name_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            name_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>string name = 1;</code>
+         */
+        public com.google.protobuf.ByteString
+            getNameBytes() {
+          java.lang.Object ref = name_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            name_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>string name = 1;</code>
+         */
+        public Builder setName(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  
+          name_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string name = 1;</code>
+         */
+        public Builder clearName() {
+          
+          name_ = getDefaultInstance().getName();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string name = 1;</code>
+         */
+        public Builder setNameBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+          
+          name_ = value;
+          onChanged();
+          return this;
+        }
+
+        private double oneMinuteRate_ ;
+        /**
+         * <code>double oneMinuteRate = 2;</code>
+         */
+        public double getOneMinuteRate() {
+          return oneMinuteRate_;
+        }
+        /**
+         * <code>double oneMinuteRate = 2;</code>
+         */
+        public Builder setOneMinuteRate(double value) {
+          
+          oneMinuteRate_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>double oneMinuteRate = 2;</code>
+         */
+        public Builder clearOneMinuteRate() {
+          
+          oneMinuteRate_ = 0D;
+          onChanged();
+          return this;
+        }
+
+        private double fiveMinuteRate_ ;
+        /**
+         * <code>double fiveMinuteRate = 3;</code>
+         */
+        public double getFiveMinuteRate() {
+          return fiveMinuteRate_;
+        }
+        /**
+         * <code>double fiveMinuteRate = 3;</code>
+         */
+        public Builder setFiveMinuteRate(double value) {
+          
+          fiveMinuteRate_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>double fiveMinuteRate = 3;</code>
+         */
+        public Builder clearFiveMinuteRate() {
+          
+          fiveMinuteRate_ = 0D;
+          onChanged();
+          return this;
+        }
+
+        private double fifteenMinuteRate_ ;
+        /**
+         * <code>double fifteenMinuteRate = 4;</code>
+         */
+        public double getFifteenMinuteRate() {
+          return fifteenMinuteRate_;
+        }
+        /**
+         * <code>double fifteenMinuteRate = 4;</code>
+         */
+        public Builder setFifteenMinuteRate(double value) {
+          
+          fifteenMinuteRate_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>double fifteenMinuteRate = 4;</code>
+         */
+        public Builder clearFifteenMinuteRate() {
+          
+          fifteenMinuteRate_ = 0D;
+          onChanged();
+          return this;
+        }
+
+        private double meanRate_ ;
+        /**
+         * <code>double meanRate = 5;</code>
+         */
+        public double getMeanRate() {
+          return meanRate_;
+        }
+        /**
+         * <code>double meanRate = 5;</code>
+         */
+        public Builder setMeanRate(double value) {
+          
+          meanRate_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>double meanRate = 5;</code>
+         */
+        public Builder clearMeanRate() {
+          
+          meanRate_ = 0D;
+          onChanged();
+          return this;
+        }
+
+        private long count_ ;
+        /**
+         * <code>uint64 count = 6;</code>
+         */
+        public long getCount() {
+          return count_;
+        }
+        /**
+         * <code>uint64 count = 6;</code>
+         */
+        public Builder setCount(long value) {
+          
+          count_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>uint64 count = 6;</code>
+         */
+        public Builder clearCount() {
+          
+          count_ = 0L;
+          onChanged();
+          return this;
+        }
+
+        private double max_ ;
+        /**
+         * <code>double max = 7;</code>
+         */
+        public double getMax() {
+          return max_;
+        }
+        /**
+         * <code>double max = 7;</code>
+         */
+        public Builder setMax(double value) {
+          
+          max_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>double max = 7;</code>
+         */
+        public Builder clearMax() {
+          
+          max_ = 0D;
+          onChanged();
+          return this;
+        }
+
+        private double mean_ ;
+        /**
+         * <code>double mean = 8;</code>
+         */
+        public double getMean() {
+          return mean_;
+        }
+        /**
+         * <code>double mean = 8;</code>
+         */
+        public Builder setMean(double value) {
+          
+          mean_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>double mean = 8;</code>
+         */
+        public Builder clearMean() {
+          
+          mean_ = 0D;
+          onChanged();
+          return this;
+        }
+
+        private double min_ ;
+        /**
+         * <code>double min = 9;</code>
+         */
+        public double getMin() {
+          return min_;
+        }
+        /**
+         * <code>double min = 9;</code>
+         */
+        public Builder setMin(double value) {
+          
+          min_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>double min = 9;</code>
+         */
+        public Builder clearMin() {
+          
+          min_ = 0D;
+          onChanged();
+          return this;
+        }
+
+        private double std_ ;
+        /**
+         * <code>double std = 10;</code>
+         */
+        public double getStd() {
+          return std_;
+        }
+        /**
+         * <code>double std = 10;</code>
+         */
+        public Builder setStd(double value) {
+          
+          std_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>double std = 10;</code>
+         */
+        public Builder clearStd() {
+          
+          std_ = 0D;
+          onChanged();
+          return this;
+        }
+
+        private double median_ ;
+        /**
+         * <code>double median = 11;</code>
+         */
+        public double getMedian() {
+          return median_;
+        }
+        /**
+         * <code>double median = 11;</code>
+         */
+        public Builder setMedian(double value) {
+          
+          median_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>double median = 11;</code>
+         */
+        public Builder clearMedian() {
+          
+          median_ = 0D;
+          onChanged();
+          return this;
+        }
+
+        private double percentile75_ ;
+        /**
+         * <code>double percentile75 = 12;</code>
+         */
+        public double getPercentile75() {
+          return percentile75_;
+        }
+        /**
+         * <code>double percentile75 = 12;</code>
+         */
+        public Builder setPercentile75(double value) {
+          
+          percentile75_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>double percentile75 = 12;</code>
+         */
+        public Builder clearPercentile75() {
+          
+          percentile75_ = 0D;
+          onChanged();
+          return this;
+        }
+
+        private double percentile95_ ;
+        /**
+         * <code>double percentile95 = 13;</code>
+         */
+        public double getPercentile95() {
+          return percentile95_;
+        }
+        /**
+         * <code>double percentile95 = 13;</code>
+         */
+        public Builder setPercentile95(double value) {
+          
+          percentile95_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>double percentile95 = 13;</code>
+         */
+        public Builder clearPercentile95() {
+          
+          percentile95_ = 0D;
+          onChanged();
+          return this;
+        }
+
+        private double percentile98_ ;
+        /**
+         * <code>double percentile98 = 14;</code>
+         */
+        public double getPercentile98() {
+          return percentile98_;
+        }
+        /**
+         * <code>double percentile98 = 14;</code>
+         */
+        public Builder setPercentile98(double value) {
+          
+          percentile98_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>double percentile98 = 14;</code>
+         */
+        public Builder clearPercentile98() {
+          
+          percentile98_ = 0D;
+          onChanged();
+          return this;
+        }
+
+        private double percentile99_ ;
+        /**
+         * <code>double percentile99 = 15;</code>
+         */
+        public double getPercentile99() {
+          return percentile99_;
+        }
+        /**
+         * <code>double percentile99 = 15;</code>
+         */
+        public Builder setPercentile99(double value) {
+          
+          percentile99_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>double percentile99 = 15;</code>
+         */
+        public Builder clearPercentile99() {
+          
+          percentile99_ = 0D;
+          onChanged();
+          return this;
+        }
 
-      @java.lang.Override
-      protected Builder newBuilderForType(
-          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-        Builder builder = new Builder(parent);
-        return builder;
-      }
-      /**
-       * Protobuf type {@code org.attribyte.essem.proto3.EssemReport.Timer}
-       */
-      public static final class Builder extends
-          com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-          // @@protoc_insertion_point(builder_implements:org.attribyte.essem.proto3.EssemReport.Timer)
-          org.attribyte.essem.proto3.ReportProtos.EssemReport.TimerOrBuilder {
-        public static final com.google.protobuf.Descriptors.Descriptor
-            getDescriptor() {
-          return org.attribyte.essem.proto3.ReportProtos.internal_static_org_attribyte_essem_proto3_EssemReport_Timer_descriptor;
+        private double percentile999_ ;
+        /**
+         * <code>double percentile999 = 16;</code>
+         */
+        public double getPercentile999() {
+          return percentile999_;
+        }
+        /**
+         * <code>double percentile999 = 16;</code>
+         */
+        public Builder setPercentile999(double value) {
+          
+          percentile999_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>double percentile999 = 16;</code>
+         */
+        public Builder clearPercentile999() {
+          
+          percentile999_ = 0D;
+          onChanged();
+          return this;
         }
 
-        @java.lang.Override
-        protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-            internalGetFieldAccessorTable() {
-          return org.attribyte.essem.proto3.ReportProtos.internal_static_org_attribyte_essem_proto3_EssemReport_Timer_fieldAccessorTable
-              .ensureFieldAccessorsInitialized(
-                  org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer.class, org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer.Builder.class);
+        private com.google.protobuf.ByteString hdrHistogram_ = com.google.protobuf.ByteString.EMPTY;
+        /**
+         * <code>bytes hdrHistogram = 17;</code>
+         */
+        public com.google.protobuf.ByteString getHdrHistogram() {
+          return hdrHistogram_;
+        }
+        /**
+         * <code>bytes hdrHistogram = 17;</code>
+         */
+        public Builder setHdrHistogram(com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  
+          hdrHistogram_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>bytes hdrHistogram = 17;</code>
+         */
+        public Builder clearHdrHistogram() {
+          
+          hdrHistogram_ = getDefaultInstance().getHdrHistogram();
+          onChanged();
+          return this;
         }
 
-        // Construct using org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer.newBuilder()
-        private Builder() {
-          maybeForceBuilderInitialization();
+        private int nameId_ ;
+        /**
+         * <code>uint32 nameId = 18;</code>
+         */
+        public int getNameId() {
+          return nameId_;
+        }
+        /**
+         * <code>uint32 nameId = 18;</code>
+         */
+        public Builder setNameId(int value) {
+          
+          nameId_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>uint32 nameId = 18;</code>
+         */
+        public Builder clearNameId() {
+          
+          nameId_ = 0;
+          onChanged();
+          return this;
         }
 
-        private Builder(
-            com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-          super(parent);
-          maybeForceBuilderInitialization();
+        private java.util.List<org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile> quantile_ =
+          java.util.Collections.emptyList();
+        private void ensureQuantileIsMutable() {
+          if (!((bitField0_ & 0x00040000) == 0x00040000)) {
+            quantile_ = new java.util.ArrayList<org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile>(quantile_);
+            bitField0_ |= 0x00040000;
+           }
         }
-        private void maybeForceBuilderInitialization() {
-          if (com.google.protobuf.GeneratedMessageV3
-                  .alwaysUseFieldBuilders) {
+
+        private com.google.protobuf.RepeatedFieldBuilderV3<
+            org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile, org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile.Builder, org.attribyte.essem.proto3.ReportProtos.EssemReport.QuantileOrBuilder> quantileBuilder_;
+
+        /**
+         * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 19;</code>
+         */
+        public java.util.List<org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile> getQuantileList() {
+          if (quantileBuilder_ == null) {
+            return java.util.Collections.unmodifiableList(quantile_);
+          } else {
+            return quantileBuilder_.getMessageList();
+          }
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 19;</code>
+         */
+        public int getQuantileCount() {
+          if (quantileBuilder_ == null) {
+            return quantile_.size();
+          } else {
+            return quantileBuilder_.getCount();
+          }
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 19;</code>
+         */
+        public org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile getQuantile(int index) {
+          if (quantileBuilder_ == null) {
+            return quantile_.get(index);
+          } else {
+            return quantileBuilder_.getMessage(index);
+          }
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 19;</code>
+         */
+        public Builder setQuantile(
+            int index, org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile value) {
+          if (quantileBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureQuantileIsMutable();
+            quantile_.set(index, value);
+            onChanged();
+          } else {
+            quantileBuilder_.setMessage(index, value);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 19;</code>
+         */
+        public Builder setQuantile(
+            int index, org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile.Builder builderForValue) {
+          if (quantileBuilder_ == null) {
+            ensureQuantileIsMutable();
+            quantile_.set(index, builderForValue.build());
+            onChanged();
+          } else {
+            quantileBuilder_.setMessage(index, builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 19;</code>
+         */
+        public Builder addQuantile(org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile value) {
+          if (quantileBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureQuantileIsMutable();
+            quantile_.add(value);
+            onChanged();
+          } else {
+            quantileBuilder_.addMessage(value);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 19;</code>
+         */
+        public Builder addQuantile(
+            int index, org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile value) {
+          if (quantileBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureQuantileIsMutable();
+            quantile_.add(index, value);
+            onChanged();
+          } else {
+            quantileBuilder_.addMessage(index, value);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 19;</code>
+         */
+        public Builder addQuantile(
+            org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile.Builder builderForValue) {
+          if (quantileBuilder_ == null) {
+            ensureQuantileIsMutable();
+            quantile_.add(builderForValue.build());
+            onChanged();
+          } else {
+            quantileBuilder_.addMessage(builderForValue.build());
           }
+          return this;
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 19;</code>
+         */
+        public Builder addQuantile(
+            int index, org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile.Builder builderForValue) {
+          if (quantileBuilder_ == null) {
+            ensureQuantileIsMutable();
+            quantile_.add(index, builderForValue.build());
+            onChanged();
+          } else {
+            quantileBuilder_.addMessage(index, builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 19;</code>
+         */
+        public Builder addAllQuantile(
+            java.lang.Iterable<? extends org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile> values) {
+          if (quantileBuilder_ == null) {
+            ensureQuantileIsMutable();
+            com.google.protobuf.AbstractMessageLite.Builder.addAll(
+                values, quantile_);
+            onChanged();
+          } else {
+            quantileBuilder_.addAllMessages(values);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 19;</code>
+         */
+        public Builder clearQuantile() {
+          if (quantileBuilder_ == null) {
+            quantile_ = java.util.Collections.emptyList();
+            bitField0_ = (bitField0_ & ~0x00040000);
+            onChanged();
+          } else {
+            quantileBuilder_.clear();
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 19;</code>
+         */
+        public Builder removeQuantile(int index) {
+          if (quantileBuilder_ == null) {
+            ensureQuantileIsMutable();
+            quantile_.remove(index);
+            onChanged();
+          } else {
+            quantileBuilder_.remove(index);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 19;</code>
+         */
+        public org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile.Builder getQuantileBuilder(
+            int index) {
+          return getQuantileFieldBuilder().getBuilder(index);
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 19;</code>
+         */
+        public org.attribyte.essem.proto3.ReportProtos.EssemReport.QuantileOrBuilder getQuantileOrBuilder(
+            int index) {
+          if (quantileBuilder_ == null) {
+            return quantile_.get(index);  } else {
+            return quantileBuilder_.getMessageOrBuilder(index);
+          }
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 19;</code>
+         */
+        public java.util.List<? extends org.attribyte.essem.proto3.ReportProtos.EssemReport.QuantileOrBuilder> 
+             getQuantileOrBuilderList() {
+          if (quantileBuilder_ != null) {
+            return quantileBuilder_.getMessageOrBuilderList();
+          } else {
+            return java.util.Collections.unmodifiableList(quantile_);
+          }
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 19;</code>
+         */
+        public org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile.Builder addQuantileBuilder() {
+          return getQuantileFieldBuilder().addBuilder(
+              org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile.getDefaultInstance());
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 19;</code>
+         */
+        public org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile.Builder addQuantileBuilder(
+            int index) {
+          return getQuantileFieldBuilder().addBuilder(
+              index, org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile.getDefaultInstance());
+        }
+        /**
+         * <code>repeated .org.attribyte.essem.proto3.EssemReport.Quantile quantile = 19;</code>
+         */
+        public java.util.List<org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile.Builder> 
+             getQuantileBuilderList() {
+          return getQuantileFieldBuilder().getBuilderList();
+        }
+        private com.google.protobuf.RepeatedFieldBuilderV3<
+            org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile, org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile.Builder, org.attribyte.essem.proto3.ReportProtos.EssemReport.QuantileOrBuilder> 
+            getQuantileFieldBuilder() {
+          if (quantileBuilder_ == null) {
+            quantileBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+                org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile, org.attribyte.essem.proto3.ReportProtos.EssemReport.Quantile.Builder, org.attribyte.essem.proto3.ReportProtos.EssemReport.QuantileOrBuilder>(
+                    quantile_,
+                    ((bitField0_ & 0x00040000) == 0x00040000),
+                    getParentForChildren(),
+                    isClean());
+            quantile_ = null;
+          }
+          return quantileBuilder_;
         }
         @java.lang.Override
-        public Builder clear() {
-          super.clear();
-          name_ = "";
+        public final Builder setUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.setUnknownFieldsProto3(unknownFields);
+        }
+
+        @java.lang.Override
+        public final Builder mergeUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.mergeUnknownFields(unknownFields);
+        }
 
-          oneMinuteRate_ = 0D;
 
-          fiveMinuteRate_ = 0D;
+        // @@protoc_insertion_point(builder_scope:org.attribyte.essem.proto3.EssemReport.Timer)
+      }
 
-          fifteenMinuteRate_ = 0D;
+      // @@protoc_insertion_point(class_scope:org.attribyte.essem.proto3.EssemReport.Timer)
+      private static final org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer DEFAULT_INSTANCE;
+      static {
+        DEFAULT_INSTANCE = new org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer();
+      }
 
-          meanRate_ = 0D;
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer getDefaultInstance() {
+        return DEFAULT_INSTANCE;
+      }
 
-          count_ = 0L;
+      private static final com.google.protobuf.Parser<Timer>
+          PARSER = new com.google.protobuf.AbstractParser<Timer>() {
+        @java.lang.Override
+        public Timer parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new Timer(input, extensionRegistry);
+        }
+      };
 
-          max_ = 0D;
+      public static com.google.protobuf.Parser<Timer> parser() {
+        return PARSER;
+      }
 
-          mean_ = 0D;
+      @java.lang.Override
+      public com.google.protobuf.Parser<Timer> getParserForType() {
+        return PARSER;
+      }
 
-          min_ = 0D;
+      @java.lang.Override
+      public org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer getDefaultInstanceForType() {
+        return DEFAULT_INSTANCE;
+      }
 
-          std_ = 0D;
+    }
 
-          median_ = 0D;
+    public interface AlertOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:org.attribyte.essem.proto3.EssemReport.Alert)
+        com.google.protobuf.MessageOrBuilder {
 
-          percentile75_ = 0D;
+      /**
+       * <code>string name = 1;</code>
+       */
+      java.lang.String getName();
+      /**
+       * <code>string name = 1;</code>
+       */
+      com.google.protobuf.ByteString
+          getNameBytes();
 
-          percentile95_ = 0D;
+      /**
+       * <code>.org.attribyte.essem.proto3.EssemReport.Alert.Severity severity = 2;</code>
+       */
+      int getSeverityValue();
+      /**
+       * <code>.org.attribyte.essem.proto3.EssemReport.Alert.Severity severity = 2;</code>
+       */
+      org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert.Severity getSeverity();
 
-          percentile98_ = 0D;
+      /**
+       * <code>string value = 3;</code>
+       */
+      java.lang.String getValue();
+      /**
+       * <code>string value = 3;</code>
+       */
+      com.google.protobuf.ByteString
+          getValueBytes();
+    }
+    /**
+     * Protobuf type {@code org.attribyte.essem.proto3.EssemReport.Alert}
+     */
+    public  static final class Alert extends
+        com.google.protobuf.GeneratedMessageV3 implements
+        // @@protoc_insertion_point(message_implements:org.attribyte.essem.proto3.EssemReport.Alert)
+        AlertOrBuilder {
+    private static final long serialVersionUID = 0L;
+      // Use Alert.newBuilder() to construct.
+      private Alert(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+        super(builder);
+      }
+      private Alert() {
+        name_ = "";
+        severity_ = 0;
+        value_ = "";
+      }
 
-          percentile99_ = 0D;
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+      getUnknownFields() {
+        return this.unknownFields;
+      }
+      private Alert(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        this();
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        int mutable_bitField0_ = 0;
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                java.lang.String s = input.readStringRequireUtf8();
 
-          percentile999_ = 0D;
+                name_ = s;
+                break;
+              }
+              case 16: {
+                int rawValue = input.readEnum();
 
-          hdrHistogram_ = com.google.protobuf.ByteString.EMPTY;
+                severity_ = rawValue;
+                break;
+              }
+              case 26: {
+                java.lang.String s = input.readStringRequireUtf8();
 
-          return this;
+                value_ = s;
+                break;
+              }
+              default: {
+                if (!parseUnknownFieldProto3(
+                    input, unknownFields, extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(
+              e).setUnfinishedMessage(this);
+        } finally {
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
         }
+      }
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.attribyte.essem.proto3.ReportProtos.internal_static_org_attribyte_essem_proto3_EssemReport_Alert_descriptor;
+      }
 
-        @java.lang.Override
-        public com.google.protobuf.Descriptors.Descriptor
-            getDescriptorForType() {
-          return org.attribyte.essem.proto3.ReportProtos.internal_static_org_attribyte_essem_proto3_EssemReport_Timer_descriptor;
-        }
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.attribyte.essem.proto3.ReportProtos.internal_static_org_attribyte_essem_proto3_EssemReport_Alert_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert.class, org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert.Builder.class);
+      }
 
-        @java.lang.Override
-        public org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer getDefaultInstanceForType() {
-          return org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer.getDefaultInstance();
-        }
+      /**
+       * Protobuf enum {@code org.attribyte.essem.proto3.EssemReport.Alert.Severity}
+       */
+      public enum Severity
+          implements com.google.protobuf.ProtocolMessageEnum {
+        /**
+         * <code>UNKNOWN = 0;</code>
+         */
+        UNKNOWN(0),
+        /**
+         * <code>INFO = 1;</code>
+         */
+        INFO(1),
+        /**
+         * <code>WARN = 2;</code>
+         */
+        WARN(2),
+        /**
+         * <code>ERROR = 3;</code>
+         */
+        ERROR(3),
+        /**
+         * <code>FATAL = 4;</code>
+         */
+        FATAL(4),
+        UNRECOGNIZED(-1),
+        ;
 
-        @java.lang.Override
-        public org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer build() {
-          org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer result = buildPartial();
-          if (!result.isInitialized()) {
-            throw newUninitializedMessageException(result);
-          }
-          return result;
-        }
+        /**
+         * <code>UNKNOWN = 0;</code>
+         */
+        public static final int UNKNOWN_VALUE = 0;
+        /**
+         * <code>INFO = 1;</code>
+         */
+        public static final int INFO_VALUE = 1;
+        /**
+         * <code>WARN = 2;</code>
+         */
+        public static final int WARN_VALUE = 2;
+        /**
+         * <code>ERROR = 3;</code>
+         */
+        public static final int ERROR_VALUE = 3;
+        /**
+         * <code>FATAL = 4;</code>
+         */
+        public static final int FATAL_VALUE = 4;
 
-        @java.lang.Override
-        public org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer buildPartial() {
-          org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer result = new org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer(this);
-          result.name_ = name_;
-          result.oneMinuteRate_ = oneMinuteRate_;
-          result.fiveMinuteRate_ = fiveMinuteRate_;
-          result.fifteenMinuteRate_ = fifteenMinuteRate_;
-          result.meanRate_ = meanRate_;
-          result.count_ = count_;
-          result.max_ = max_;
-          result.mean_ = mean_;
-          result.min_ = min_;
-          result.std_ = std_;
-          result.median_ = median_;
-          result.percentile75_ = percentile75_;
-          result.percentile95_ = percentile95_;
-          result.percentile98_ = percentile98_;
-          result.percentile99_ = percentile99_;
-          result.percentile999_ = percentile999_;
-          result.hdrHistogram_ = hdrHistogram_;
-          onBuilt();
-          return result;
+
+        public final int getNumber() {
+          if (this == UNRECOGNIZED) {
+            throw new java.lang.IllegalArgumentException(
+                "Can't get the number of an unknown enum value.");
+          }
+          return value;
         }
 
-        @java.lang.Override
-        public Builder clone() {
-          return (Builder) super.clone();
-        }
-        @java.lang.Override
-        public Builder setField(
-            com.google.protobuf.Descriptors.FieldDescriptor field,
-            java.lang.Object value) {
-          return (Builder) super.setField(field, value);
+        /**
+         * @deprecated Use {@link #forNumber(int)} instead.
+         */
+        @java.lang.Deprecated
+        public static Severity valueOf(int value) {
+          return forNumber(value);
         }
-        @java.lang.Override
-        public Builder clearField(
-            com.google.protobuf.Descriptors.FieldDescriptor field) {
-          return (Builder) super.clearField(field);
+
+        public static Severity forNumber(int value) {
+          switch (value) {
+            case 0: return UNKNOWN;
+            case 1: return INFO;
+            case 2: return WARN;
+            case 3: return ERROR;
+            case 4: return FATAL;
+            default: return null;
+          }
         }
-        @java.lang.Override
-        public Builder clearOneof(
-            com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-          return (Builder) super.clearOneof(oneof);
+
+        public static com.google.protobuf.Internal.EnumLiteMap<Severity>
+            internalGetValueMap() {
+          return internalValueMap;
         }
-        @java.lang.Override
-        public Builder setRepeatedField(
-            com.google.protobuf.Descriptors.FieldDescriptor field,
-            int index, java.lang.Object value) {
-          return (Builder) super.setRepeatedField(field, index, value);
+        private static final com.google.protobuf.Internal.EnumLiteMap<
+            Severity> internalValueMap =
+              new com.google.protobuf.Internal.EnumLiteMap<Severity>() {
+                public Severity findValueByNumber(int number) {
+                  return Severity.forNumber(number);
+                }
+              };
+
+        public final com.google.protobuf.Descriptors.EnumValueDescriptor
+            getValueDescriptor() {
+          return getDescriptor().getValues().get(ordinal());
         }
-        @java.lang.Override
-        public Builder addRepeatedField(
-            com.google.protobuf.Descriptors.FieldDescriptor field,
-            java.lang.Object value) {
-          return (Builder) super.addRepeatedField(field, value);
+        public final com.google.protobuf.Descriptors.EnumDescriptor
+            getDescriptorForType() {
+          return getDescriptor();
         }
-        @java.lang.Override
-        public Builder mergeFrom(com.google.protobuf.Message other) {
-          if (other instanceof org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer) {
-            return mergeFrom((org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer)other);
-          } else {
-            super.mergeFrom(other);
-            return this;
-          }
+        public static final com.google.protobuf.Descriptors.EnumDescriptor
+            getDescriptor() {
+          return org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert.getDescriptor().getEnumTypes().get(0);
         }
 
-        public Builder mergeFrom(org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer other) {
-          if (other == org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer.getDefaultInstance()) return this;
-          if (!other.getName().isEmpty()) {
-            name_ = other.name_;
-            onChanged();
-          }
-          if (other.getOneMinuteRate() != 0D) {
-            setOneMinuteRate(other.getOneMinuteRate());
-          }
-          if (other.getFiveMinuteRate() != 0D) {
-            setFiveMinuteRate(other.getFiveMinuteRate());
-          }
-          if (other.getFifteenMinuteRate() != 0D) {
-            setFifteenMinuteRate(other.getFifteenMinuteRate());
-          }
-          if (other.getMeanRate() != 0D) {
-            setMeanRate(other.getMeanRate());
-          }
-          if (other.getCount() != 0L) {
-            setCount(other.getCount());
-          }
-          if (other.getMax() != 0D) {
-            setMax(other.getMax());
-          }
-          if (other.getMean() != 0D) {
-            setMean(other.getMean());
-          }
-          if (other.getMin() != 0D) {
-            setMin(other.getMin());
-          }
-          if (other.getStd() != 0D) {
-            setStd(other.getStd());
-          }
-          if (other.getMedian() != 0D) {
-            setMedian(other.getMedian());
-          }
-          if (other.getPercentile75() != 0D) {
-            setPercentile75(other.getPercentile75());
-          }
-          if (other.getPercentile95() != 0D) {
-            setPercentile95(other.getPercentile95());
-          }
-          if (other.getPercentile98() != 0D) {
-            setPercentile98(other.getPercentile98());
-          }
-          if (other.getPercentile99() != 0D) {
-            setPercentile99(other.getPercentile99());
-          }
-          if (other.getPercentile999() != 0D) {
-            setPercentile999(other.getPercentile999());
+        private static final Severity[] VALUES = values();
+
+        public static Severity valueOf(
+            com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+          if (desc.getType() != getDescriptor()) {
+            throw new java.lang.IllegalArgumentException(
+              "EnumValueDescriptor is not for this type.");
           }
-          if (other.getHdrHistogram() != com.google.protobuf.ByteString.EMPTY) {
-            setHdrHistogram(other.getHdrHistogram());
+          if (desc.getIndex() == -1) {
+            return UNRECOGNIZED;
           }
-          this.mergeUnknownFields(other.unknownFields);
-          onChanged();
-          return this;
+          return VALUES[desc.getIndex()];
         }
 
-        @java.lang.Override
-        public final boolean isInitialized() {
-          return true;
-        }
+        private final int value;
 
-        @java.lang.Override
-        public Builder mergeFrom(
-            com.google.protobuf.CodedInputStream input,
-            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws java.io.IOException {
-          org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer parsedMessage = null;
-          try {
-            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-            parsedMessage = (org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer) e.getUnfinishedMessage();
-            throw e.unwrapIOException();
-          } finally {
-            if (parsedMessage != null) {
-              mergeFrom(parsedMessage);
-            }
-          }
-          return this;
+        private Severity(int value) {
+          this.value = value;
         }
 
-        private java.lang.Object name_ = "";
-        /**
-         * <code>string name = 1;</code>
-         */
-        public java.lang.String getName() {
-          java.lang.Object ref = name_;
-          if (!(ref instanceof java.lang.String)) {
-            com.google.protobuf.ByteString bs =
-                (com.google.protobuf.ByteString) ref;
-            java.lang.String s = bs.toStringUtf8();
-            name_ = s;
-            return s;
-          } else {
-            return (java.lang.String) ref;
-          }
+        // @@protoc_insertion_point(enum_scope:org.attribyte.essem.proto3.EssemReport.Alert.Severity)
+      }
+
+      public static final int NAME_FIELD_NUMBER = 1;
+      private volatile java.lang.Object name_;
+      /**
+       * <code>string name = 1;</code>
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
         }
-        /**
-         * <code>string name = 1;</code>
-         */
-        public com.google.protobuf.ByteString
-            getNameBytes() {
-          java.lang.Object ref = name_;
-          if (ref instanceof String) {
-            com.google.protobuf.ByteString b = 
-                com.google.protobuf.ByteString.copyFromUtf8(
-                    (java.lang.String) ref);
-            name_ = b;
-            return b;
-          } else {
-            return (com.google.protobuf.ByteString) ref;
-          }
+      }
+      /**
+       * <code>string name = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int SEVERITY_FIELD_NUMBER = 2;
+      private int severity_;
+      /**
+       * <code>.org.attribyte.essem.proto3.EssemReport.Alert.Severity severity = 2;</code>
+       */
+      public int getSeverityValue() {
+        return severity_;
+      }
+      /**
+       * <code>.org.attribyte.essem.proto3.EssemReport.Alert.Severity severity = 2;</code>
+       */
+      public org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert.Severity getSeverity() {
+        @SuppressWarnings("deprecation")
+        org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert.Severity result = org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert.Severity.valueOf(severity_);
+        return result == null ? org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert.Severity.UNRECOGNIZED : result;
+      }
+
+      public static final int VALUE_FIELD_NUMBER = 3;
+      private volatile java.lang.Object value_;
+      /**
+       * <code>string value = 3;</code>
+       */
+      public java.lang.String getValue() {
+        java.lang.Object ref = value_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          value_ = s;
+          return s;
         }
-        /**
-         * <code>string name = 1;</code>
-         */
-        public Builder setName(
-            java.lang.String value) {
-          if (value == null) {
-    throw new NullPointerException();
-  }
-  
-          name_ = value;
-          onChanged();
-          return this;
+      }
+      /**
+       * <code>string value = 3;</code>
+       */
+      public com.google.protobuf.ByteString
+          getValueBytes() {
+        java.lang.Object ref = value_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          value_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
         }
-        /**
-         * <code>string name = 1;</code>
-         */
-        public Builder clearName() {
-          
-          name_ = getDefaultInstance().getName();
-          onChanged();
-          return this;
+      }
+
+      private byte memoizedIsInitialized = -1;
+      @java.lang.Override
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      @java.lang.Override
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        if (!getNameBytes().isEmpty()) {
+          com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
         }
-        /**
-         * <code>string name = 1;</code>
-         */
-        public Builder setNameBytes(
-            com.google.protobuf.ByteString value) {
-          if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-          
-          name_ = value;
-          onChanged();
-          return this;
+        if (severity_ != org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert.Severity.UNKNOWN.getNumber()) {
+          output.writeEnum(2, severity_);
+        }
+        if (!getValueBytes().isEmpty()) {
+          com.google.protobuf.GeneratedMessageV3.writeString(output, 3, value_);
         }
+        unknownFields.writeTo(output);
+      }
 
-        private double oneMinuteRate_ ;
-        /**
-         * <code>double oneMinuteRate = 2;</code>
-         */
-        public double getOneMinuteRate() {
-          return oneMinuteRate_;
+      @java.lang.Override
+      public int getSerializedSize() {
+        int size = memoizedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (!getNameBytes().isEmpty()) {
+          size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
         }
-        /**
-         * <code>double oneMinuteRate = 2;</code>
-         */
-        public Builder setOneMinuteRate(double value) {
-          
-          oneMinuteRate_ = value;
-          onChanged();
-          return this;
+        if (severity_ != org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert.Severity.UNKNOWN.getNumber()) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeEnumSize(2, severity_);
         }
-        /**
-         * <code>double oneMinuteRate = 2;</code>
-         */
-        public Builder clearOneMinuteRate() {
-          
-          oneMinuteRate_ = 0D;
-          onChanged();
-          return this;
+        if (!getValueBytes().isEmpty()) {
+          size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, value_);
         }
+        size += unknownFields.getSerializedSize();
+        memoizedSize = size;
+        return size;
+      }
 
-        private double fiveMinuteRate_ ;
-        /**
-         * <code>double fiveMinuteRate = 3;</code>
-         */
-        public double getFiveMinuteRate() {
-          return fiveMinuteRate_;
+      @java.lang.Override
+      public boolean equals(final java.lang.Object obj) {
+        if (obj == this) {
+         return true;
         }
-        /**
-         * <code>double fiveMinuteRate = 3;</code>
-         */
-        public Builder setFiveMinuteRate(double value) {
-          
-          fiveMinuteRate_ = value;
-          onChanged();
-          return this;
+        if (!(obj instanceof org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert)) {
+          return super.equals(obj);
         }
-        /**
-         * <code>double fiveMinuteRate = 3;</code>
-         */
-        public Builder clearFiveMinuteRate() {
-          
-          fiveMinuteRate_ = 0D;
-          onChanged();
-          return this;
+        org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert other = (org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert) obj;
+
+        boolean result = true;
+        result = result && getName()
+            .equals(other.getName());
+        result = result && severity_ == other.severity_;
+        result = result && getValue()
+            .equals(other.getValue());
+        result = result && unknownFields.equals(other.unknownFields);
+        return result;
+      }
+
+      @java.lang.Override
+      public int hashCode() {
+        if (memoizedHashCode != 0) {
+          return memoizedHashCode;
         }
+        int hash = 41;
+        hash = (19 * hash) + getDescriptor().hashCode();
+        hash = (37 * hash) + NAME_FIELD_NUMBER;
+        hash = (53 * hash) + getName().hashCode();
+        hash = (37 * hash) + SEVERITY_FIELD_NUMBER;
+        hash = (53 * hash) + severity_;
+        hash = (37 * hash) + VALUE_FIELD_NUMBER;
+        hash = (53 * hash) + getValue().hashCode();
+        hash = (29 * hash) + unknownFields.hashCode();
+        memoizedHashCode = hash;
+        return hash;
+      }
+
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert parseFrom(
+          java.nio.ByteBuffer data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert parseFrom(
+          java.nio.ByteBuffer data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input);
+      }
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      @java.lang.Override
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder() {
+        return DEFAULT_INSTANCE.toBuilder();
+      }
+      public static Builder newBuilder(org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert prototype) {
+        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+      }
+      @java.lang.Override
+      public Builder toBuilder() {
+        return this == DEFAULT_INSTANCE
+            ? new Builder() : new Builder().mergeFrom(this);
+      }
 
-        private double fifteenMinuteRate_ ;
-        /**
-         * <code>double fifteenMinuteRate = 4;</code>
-         */
-        public double getFifteenMinuteRate() {
-          return fifteenMinuteRate_;
-        }
-        /**
-         * <code>double fifteenMinuteRate = 4;</code>
-         */
-        public Builder setFifteenMinuteRate(double value) {
-          
-          fifteenMinuteRate_ = value;
-          onChanged();
-          return this;
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code org.attribyte.essem.proto3.EssemReport.Alert}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:org.attribyte.essem.proto3.EssemReport.Alert)
+          org.attribyte.essem.proto3.ReportProtos.EssemReport.AlertOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.attribyte.essem.proto3.ReportProtos.internal_static_org_attribyte_essem_proto3_EssemReport_Alert_descriptor;
         }
-        /**
-         * <code>double fifteenMinuteRate = 4;</code>
-         */
-        public Builder clearFifteenMinuteRate() {
-          
-          fifteenMinuteRate_ = 0D;
-          onChanged();
-          return this;
+
+        @java.lang.Override
+        protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.attribyte.essem.proto3.ReportProtos.internal_static_org_attribyte_essem_proto3_EssemReport_Alert_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert.class, org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert.Builder.class);
         }
 
-        private double meanRate_ ;
-        /**
-         * <code>double meanRate = 5;</code>
-         */
-        public double getMeanRate() {
-          return meanRate_;
+        // Construct using org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
         }
-        /**
-         * <code>double meanRate = 5;</code>
-         */
-        public Builder setMeanRate(double value) {
-          
-          meanRate_ = value;
-          onChanged();
-          return this;
+
+        private Builder(
+            com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
         }
-        /**
-         * <code>double meanRate = 5;</code>
-         */
-        public Builder clearMeanRate() {
-          
-          meanRate_ = 0D;
-          onChanged();
-          return this;
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessageV3
+                  .alwaysUseFieldBuilders) {
+          }
         }
+        @java.lang.Override
+        public Builder clear() {
+          super.clear();
+          name_ = "";
+
+          severity_ = 0;
+
+          value_ = "";
 
-        private long count_ ;
-        /**
-         * <code>uint64 count = 6;</code>
-         */
-        public long getCount() {
-          return count_;
-        }
-        /**
-         * <code>uint64 count = 6;</code>
-         */
-        public Builder setCount(long value) {
-          
-          count_ = value;
-          onChanged();
           return this;
         }
-        /**
-         * <code>uint64 count = 6;</code>
-         */
-        public Builder clearCount() {
-          
-          count_ = 0L;
-          onChanged();
-          return this;
+
+        @java.lang.Override
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.attribyte.essem.proto3.ReportProtos.internal_static_org_attribyte_essem_proto3_EssemReport_Alert_descriptor;
         }
 
-        private double max_ ;
-        /**
-         * <code>double max = 7;</code>
-         */
-        public double getMax() {
-          return max_;
+        @java.lang.Override
+        public org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert getDefaultInstanceForType() {
+          return org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert.getDefaultInstance();
         }
-        /**
-         * <code>double max = 7;</code>
-         */
-        public Builder setMax(double value) {
-          
-          max_ = value;
-          onChanged();
-          return this;
+
+        @java.lang.Override
+        public org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert build() {
+          org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
         }
-        /**
-         * <code>double max = 7;</code>
-         */
-        public Builder clearMax() {
-          
-          max_ = 0D;
-          onChanged();
-          return this;
+
+        @java.lang.Override
+        public org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert buildPartial() {
+          org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert result = new org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert(this);
+          result.name_ = name_;
+          result.severity_ = severity_;
+          result.value_ = value_;
+          onBuilt();
+          return result;
         }
 
-        private double mean_ ;
-        /**
-         * <code>double mean = 8;</code>
-         */
-        public double getMean() {
-          return mean_;
+        @java.lang.Override
+        public Builder clone() {
+          return (Builder) super.clone();
         }
-        /**
-         * <code>double mean = 8;</code>
-         */
-        public Builder setMean(double value) {
-          
-          mean_ = value;
-          onChanged();
-          return this;
+        @java.lang.Override
+        public Builder setField(
+            com.google.protobuf.Descriptors.FieldDescriptor field,
+            java.lang.Object value) {
+          return (Builder) super.setField(field, value);
         }
-        /**
-         * <code>double mean = 8;</code>
-         */
-        public Builder clearMean() {
-          
-          mean_ = 0D;
-          onChanged();
-          return this;
+        @java.lang.Override
+        public Builder clearField(
+            com.google.protobuf.Descriptors.FieldDescriptor field) {
+          return (Builder) super.clearField(field);
         }
-
-        private double min_ ;
-        /**
-         * <code>double min = 9;</code>
-         */
-        public double getMin() {
-          return min_;
+        @java.lang.Override
+        public Builder clearOneof(
+            com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+          return (Builder) super.clearOneof(oneof);
         }
-        /**
-         * <code>double min = 9;</code>
-         */
-        public Builder setMin(double value) {
-          
-          min_ = value;
-          onChanged();
-          return this;
+        @java.lang.Override
+        public Builder setRepeatedField(
+            com.google.protobuf.Descriptors.FieldDescriptor field,
+            int index, java.lang.Object value) {
+          return (Builder) super.setRepeatedField(field, index, value);
         }
-        /**
-         * <code>double min = 9;</code>
-         */
-        public Builder clearMin() {
-          
-          min_ = 0D;
-          onChanged();
-          return this;
+        @java.lang.Override
+        public Builder addRepeatedField(
+            com.google.protobuf.Descriptors.FieldDescriptor field,
+            java.lang.Object value) {
+          return (Builder) super.addRepeatedField(field, value);
         }
-
-        private double std_ ;
-        /**
-         * <code>double std = 10;</code>
-         */
-        public double getStd() {
-          return std_;
+        @java.lang.Override
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert) {
+            return mergeFrom((org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
         }
-        /**
-         * <code>double std = 10;</code>
-         */
-        public Builder setStd(double value) {
-          
-          std_ = value;
+
+        public Builder mergeFrom(org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert other) {
+          if (other == org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert.getDefaultInstance()) return this;
+          if (!other.getName().isEmpty()) {
+            name_ = other.name_;
+            onChanged();
+          }
+          if (other.severity_ != 0) {
+            setSeverityValue(other.getSeverityValue());
+          }
+          if (!other.getValue().isEmpty()) {
+            value_ = other.value_;
+            onChanged();
+          }
+          this.mergeUnknownFields(other.unknownFields);
           onChanged();
           return this;
         }
-        /**
-         * <code>double std = 10;</code>
-         */
-        public Builder clearStd() {
-          
-          std_ = 0D;
-          onChanged();
+
+        @java.lang.Override
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert) e.getUnfinishedMessage();
+            throw e.unwrapIOException();
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
           return this;
         }
 
-        private double median_ ;
+        private java.lang.Object name_ = "";
         /**
-         * <code>double median = 11;</code>
+         * <code>string name = 1;</code>
          */
-        public double getMedian() {
-          return median_;
+        public java.lang.String getName() {
+          java.lang.Object ref = name_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            name_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
         }
         /**
-         * <code>double median = 11;</code>
+         * <code>string name = 1;</code>
          */
-        public Builder setMedian(double value) {
-          
-          median_ = value;
-          onChanged();
-          return this;
+        public com.google.protobuf.ByteString
+            getNameBytes() {
+          java.lang.Object ref = name_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            name_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
         }
         /**
-         * <code>double median = 11;</code>
+         * <code>string name = 1;</code>
          */
-        public Builder clearMedian() {
-          
-          median_ = 0D;
+        public Builder setName(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  
+          name_ = value;
           onChanged();
           return this;
         }
-
-        private double percentile75_ ;
-        /**
-         * <code>double percentile75 = 12;</code>
-         */
-        public double getPercentile75() {
-          return percentile75_;
-        }
         /**
-         * <code>double percentile75 = 12;</code>
+         * <code>string name = 1;</code>
          */
-        public Builder setPercentile75(double value) {
+        public Builder clearName() {
           
-          percentile75_ = value;
+          name_ = getDefaultInstance().getName();
           onChanged();
           return this;
         }
         /**
-         * <code>double percentile75 = 12;</code>
+         * <code>string name = 1;</code>
          */
-        public Builder clearPercentile75() {
+        public Builder setNameBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
           
-          percentile75_ = 0D;
+          name_ = value;
           onChanged();
           return this;
         }
 
-        private double percentile95_ ;
-        /**
-         * <code>double percentile95 = 13;</code>
-         */
-        public double getPercentile95() {
-          return percentile95_;
-        }
+        private int severity_ = 0;
         /**
-         * <code>double percentile95 = 13;</code>
+         * <code>.org.attribyte.essem.proto3.EssemReport.Alert.Severity severity = 2;</code>
          */
-        public Builder setPercentile95(double value) {
-          
-          percentile95_ = value;
-          onChanged();
-          return this;
+        public int getSeverityValue() {
+          return severity_;
         }
         /**
-         * <code>double percentile95 = 13;</code>
+         * <code>.org.attribyte.essem.proto3.EssemReport.Alert.Severity severity = 2;</code>
          */
-        public Builder clearPercentile95() {
-          
-          percentile95_ = 0D;
+        public Builder setSeverityValue(int value) {
+          severity_ = value;
           onChanged();
           return this;
         }
-
-        private double percentile98_ ;
         /**
-         * <code>double percentile98 = 14;</code>
+         * <code>.org.attribyte.essem.proto3.EssemReport.Alert.Severity severity = 2;</code>
          */
-        public double getPercentile98() {
-          return percentile98_;
+        public org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert.Severity getSeverity() {
+          @SuppressWarnings("deprecation")
+          org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert.Severity result = org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert.Severity.valueOf(severity_);
+          return result == null ? org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert.Severity.UNRECOGNIZED : result;
         }
         /**
-         * <code>double percentile98 = 14;</code>
+         * <code>.org.attribyte.essem.proto3.EssemReport.Alert.Severity severity = 2;</code>
          */
-        public Builder setPercentile98(double value) {
+        public Builder setSeverity(org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert.Severity value) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
           
-          percentile98_ = value;
+          severity_ = value.getNumber();
           onChanged();
           return this;
         }
         /**
-         * <code>double percentile98 = 14;</code>
+         * <code>.org.attribyte.essem.proto3.EssemReport.Alert.Severity severity = 2;</code>
          */
-        public Builder clearPercentile98() {
+        public Builder clearSeverity() {
           
-          percentile98_ = 0D;
+          severity_ = 0;
           onChanged();
           return this;
         }
 
-        private double percentile99_ ;
-        /**
-         * <code>double percentile99 = 15;</code>
-         */
-        public double getPercentile99() {
-          return percentile99_;
-        }
-        /**
-         * <code>double percentile99 = 15;</code>
-         */
-        public Builder setPercentile99(double value) {
-          
-          percentile99_ = value;
-          onChanged();
-          return this;
-        }
+        private java.lang.Object value_ = "";
         /**
-         * <code>double percentile99 = 15;</code>
+         * <code>string value = 3;</code>
          */
-        public Builder clearPercentile99() {
-          
-          percentile99_ = 0D;
-          onChanged();
-          return this;
+        public java.lang.String getValue() {
+          java.lang.Object ref = value_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            value_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
         }
-
-        private double percentile999_ ;
         /**
-         * <code>double percentile999 = 16;</code>
+         * <code>string value = 3;</code>
          */
-        public double getPercentile999() {
-          return percentile999_;
+        public com.google.protobuf.ByteString
+            getValueBytes() {
+          java.lang.Object ref = value_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            value_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
         }
         /**
-         * <code>double percentile999 = 16;</code>
+         * <code>string value = 3;</code>
          */
-        public Builder setPercentile999(double value) {
-          
-          percentile999_ = value;
+        public Builder setValue(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  
+          value_ = value;
           onChanged();
           return this;
         }
         /**
-         * <code>double percentile999 = 16;</code>
+         * <code>string value = 3;</code>
          */
-        public Builder clearPercentile999() {
+        public Builder clearValue() {
           
-          percentile999_ = 0D;
+          value_ = getDefaultInstance().getValue();
           onChanged();
           return this;
         }
-
-        private com.google.protobuf.ByteString hdrHistogram_ = com.google.protobuf.ByteString.EMPTY;
-        /**
-         * <code>bytes hdrHistogram = 17;</code>
-         */
-        public com.google.protobuf.ByteString getHdrHistogram() {
-          return hdrHistogram_;
-        }
         /**
-         * <code>bytes hdrHistogram = 17;</code>
+         * <code>string value = 3;</code>
          */
-        public Builder setHdrHistogram(com.google.protobuf.ByteString value) {
+        public Builder setValueBytes(
+            com.google.protobuf.ByteString value) {
           if (value == null) {
     throw new NullPointerException();
   }
-  
-          hdrHistogram_ = value;
-          onChanged();
-          return this;
-        }
-        /**
-         * <code>bytes hdrHistogram = 17;</code>
-         */
-        public Builder clearHdrHistogram() {
+  checkByteStringIsUtf8(value);
           
-          hdrHistogram_ = getDefaultInstance().getHdrHistogram();
+          value_ = value;
           onChanged();
           return this;
         }
@@ -5757,95 +8440,80 @@ public final class ReportProtos {
         }
 
 
-        // @@protoc_insertion_point(builder_scope:org.attribyte.essem.proto3.EssemReport.Timer)
+        // @@protoc_insertion_point(builder_scope:org.attribyte.essem.proto3.EssemReport.Alert)
       }
 
-      // @@protoc_insertion_point(class_scope:org.attribyte.essem.proto3.EssemReport.Timer)
-      private static final org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer DEFAULT_INSTANCE;
+      // @@protoc_insertion_point(class_scope:org.attribyte.essem.proto3.EssemReport.Alert)
+      private static final org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert DEFAULT_INSTANCE;
       static {
-        DEFAULT_INSTANCE = new org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer();
+        DEFAULT_INSTANCE = new org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert();
       }
 
-      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer getDefaultInstance() {
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert getDefaultInstance() {
         return DEFAULT_INSTANCE;
       }
 
-      private static final com.google.protobuf.Parser<Timer>
-          PARSER = new com.google.protobuf.AbstractParser<Timer>() {
+      private static final com.google.protobuf.Parser<Alert>
+          PARSER = new com.google.protobuf.AbstractParser<Alert>() {
         @java.lang.Override
-        public Timer parsePartialFrom(
+        public Alert parsePartialFrom(
             com.google.protobuf.CodedInputStream input,
             com.google.protobuf.ExtensionRegistryLite extensionRegistry)
             throws com.google.protobuf.InvalidProtocolBufferException {
-          return new Timer(input, extensionRegistry);
+          return new Alert(input, extensionRegistry);
         }
       };
 
-      public static com.google.protobuf.Parser<Timer> parser() {
+      public static com.google.protobuf.Parser<Alert> parser() {
         return PARSER;
       }
 
       @java.lang.Override
-      public com.google.protobuf.Parser<Timer> getParserForType() {
+      public com.google.protobuf.Parser<Alert> getParserForType() {
         return PARSER;
       }
 
       @java.lang.Override
-      public org.attribyte.essem.proto3.ReportProtos.EssemReport.Timer getDefaultInstanceForType() {
+      public org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert getDefaultInstanceForType() {
         return DEFAULT_INSTANCE;
       }
 
     }
 
-    public interface AlertOrBuilder extends
-        // @@protoc_insertion_point(interface_extends:org.attribyte.essem.proto3.EssemReport.Alert)
+    public interface NameDefinitionOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:org.attribyte.essem.proto3.EssemReport.NameDefinition)
         com.google.protobuf.MessageOrBuilder {
 
       /**
-       * <code>string name = 1;</code>
-       */
-      java.lang.String getName();
-      /**
-       * <code>string name = 1;</code>
-       */
-      com.google.protobuf.ByteString
-          getNameBytes();
-
-      /**
-       * <code>.org.attribyte.essem.proto3.EssemReport.Alert.Severity severity = 2;</code>
-       */
-      int getSeverityValue();
-      /**
-       * <code>.org.attribyte.essem.proto3.EssemReport.Alert.Severity severity = 2;</code>
+       * <code>uint32 id = 1;</code>
        */
-      org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert.Severity getSeverity();
+      int getId();
 
       /**
-       * <code>string value = 3;</code>
+       * <code>string name = 2;</code>
        */
-      java.lang.String getValue();
+      java.lang.String getName();
       /**
-       * <code>string value = 3;</code>
+       * <code>string name = 2;</code>
        */
       com.google.protobuf.ByteString
-          getValueBytes();
+          getNameBytes();
     }
     /**
-     * Protobuf type {@code org.attribyte.essem.proto3.EssemReport.Alert}
+     * Protobuf type {@code org.attribyte.essem.proto3.EssemReport.NameDefinition}
      */
-    public  static final class Alert extends
+    public  static final class NameDefinition extends
         com.google.protobuf.GeneratedMessageV3 implements
-        // @@protoc_insertion_point(message_implements:org.attribyte.essem.proto3.EssemReport.Alert)
-        AlertOrBuilder {
+        // @@protoc_insertion_point(message_implements:org.attribyte.essem.proto3.EssemReport.NameDefinition)
+        NameDefinitionOrBuilder {
     private static final long serialVersionUID = 0L;
-      // Use Alert.newBuilder() to construct.
-      private Alert(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      // Use NameDefinition.newBuilder() to construct.
+      private NameDefinition(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
         super(builder);
       }
-      private Alert() {
+      private NameDefinition() {
+        id_ = 0;
         name_ = "";
-        severity_ = 0;
-        value_ = "";
       }
 
       @java.lang.Override
@@ -5853,7 +8521,7 @@ public final class ReportProtos {
       getUnknownFields() {
         return this.unknownFields;
       }
-      private Alert(
+      private NameDefinition(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
@@ -5872,22 +8540,15 @@ public final class ReportProtos {
               case 0:
                 done = true;
                 break;
-              case 10: {
-                java.lang.String s = input.readStringRequireUtf8();
-
-                name_ = s;
-                break;
-              }
-              case 16: {
-                int rawValue = input.readEnum();
+              case 8: {
 
-                severity_ = rawValue;
+                id_ = input.readUInt32();
                 break;
               }
-              case 26: {
+              case 18: {
                 java.lang.String s = input.readStringRequireUtf8();
 
-                value_ = s;
+                name_ = s;
                 break;
               }
               default: {
@@ -5911,146 +8572,30 @@ public final class ReportProtos {
       }
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.attribyte.essem.proto3.ReportProtos.internal_static_org_attribyte_essem_proto3_EssemReport_Alert_descriptor;
+        return org.attribyte.essem.proto3.ReportProtos.internal_static_org_attribyte_essem_proto3_EssemReport_NameDefinition_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.attribyte.essem.proto3.ReportProtos.internal_static_org_attribyte_essem_proto3_EssemReport_Alert_fieldAccessorTable
+        return org.attribyte.essem.proto3.ReportProtos.internal_static_org_attribyte_essem_proto3_EssemReport_NameDefinition_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert.class, org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert.Builder.class);
+                org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition.class, org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition.Builder.class);
       }
 
+      public static final int ID_FIELD_NUMBER = 1;
+      private int id_;
       /**
-       * Protobuf enum {@code org.attribyte.essem.proto3.EssemReport.Alert.Severity}
+       * <code>uint32 id = 1;</code>
        */
-      public enum Severity
-          implements com.google.protobuf.ProtocolMessageEnum {
-        /**
-         * <code>UNKNOWN = 0;</code>
-         */
-        UNKNOWN(0),
-        /**
-         * <code>INFO = 1;</code>
-         */
-        INFO(1),
-        /**
-         * <code>WARN = 2;</code>
-         */
-        WARN(2),
-        /**
-         * <code>ERROR = 3;</code>
-         */
-        ERROR(3),
-        /**
-         * <code>FATAL = 4;</code>
-         */
-        FATAL(4),
-        UNRECOGNIZED(-1),
-        ;
-
-        /**
-         * <code>UNKNOWN = 0;</code>
-         */
-        public static final int UNKNOWN_VALUE = 0;
-        /**
-         * <code>INFO = 1;</code>
-         */
-        public static final int INFO_VALUE = 1;
-        /**
-         * <code>WARN = 2;</code>
-         */
-        public static final int WARN_VALUE = 2;
-        /**
-         * <code>ERROR = 3;</code>
-         */
-        public static final int ERROR_VALUE = 3;
-        /**
-         * <code>FATAL = 4;</code>
-         */
-        public static final int FATAL_VALUE = 4;
-
-
-        public final int getNumber() {
-          if (this == UNRECOGNIZED) {
-            throw new java.lang.IllegalArgumentException(
-                "Can't get the number of an unknown enum value.");
-          }
-          return value;
-        }
-
-        /**
-         * @deprecated Use {@link #forNumber(int)} instead.
-         */
-        @java.lang.Deprecated
-        public static Severity valueOf(int value) {
-          return forNumber(value);
-        }
-
-        public static Severity forNumber(int value) {
-          switch (value) {
-            case 0: return UNKNOWN;
-            case 1: return INFO;
-            case 2: return WARN;
-            case 3: return ERROR;
-            case 4: return FATAL;
-            default: return null;
-          }
-        }
-
-        public static com.google.protobuf.Internal.EnumLiteMap<Severity>
-            internalGetValueMap() {
-          return internalValueMap;
-        }
-        private static final com.google.protobuf.Internal.EnumLiteMap<
-            Severity> internalValueMap =
-              new com.google.protobuf.Internal.EnumLiteMap<Severity>() {
-                public Severity findValueByNumber(int number) {
-                  return Severity.forNumber(number);
-                }
-              };
-
-        public final com.google.protobuf.Descriptors.EnumValueDescriptor
-            getValueDescriptor() {
-          return getDescriptor().getValues().get(ordinal());
-        }
-        public final com.google.protobuf.Descriptors.EnumDescriptor
-            getDescriptorForType() {
-          return getDescriptor();
-        }
-        public static final com.google.protobuf.Descriptors.EnumDescriptor
-            getDescriptor() {
-          return org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert.getDescriptor().getEnumTypes().get(0);
-        }
-
-        private static final Severity[] VALUES = values();
-
-        public static Severity valueOf(
-            com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
-          if (desc.getType() != getDescriptor()) {
-            throw new java.lang.IllegalArgumentException(
-              "EnumValueDescriptor is not for this type.");
-          }
-          if (desc.getIndex() == -1) {
-            return UNRECOGNIZED;
-          }
-          return VALUES[desc.getIndex()];
-        }
-
-        private final int value;
-
-        private Severity(int value) {
-          this.value = value;
-        }
-
-        // @@protoc_insertion_point(enum_scope:org.attribyte.essem.proto3.EssemReport.Alert.Severity)
+      public int getId() {
+        return id_;
       }
 
-      public static final int NAME_FIELD_NUMBER = 1;
+      public static final int NAME_FIELD_NUMBER = 2;
       private volatile java.lang.Object name_;
       /**
-       * <code>string name = 1;</code>
+       * <code>string name = 2;</code>
        */
       public java.lang.String getName() {
         java.lang.Object ref = name_;
@@ -6065,7 +8610,7 @@ public final class ReportProtos {
         }
       }
       /**
-       * <code>string name = 1;</code>
+       * <code>string name = 2;</code>
        */
       public com.google.protobuf.ByteString
           getNameBytes() {
@@ -6081,57 +8626,6 @@ public final class ReportProtos {
         }
       }
 
-      public static final int SEVERITY_FIELD_NUMBER = 2;
-      private int severity_;
-      /**
-       * <code>.org.attribyte.essem.proto3.EssemReport.Alert.Severity severity = 2;</code>
-       */
-      public int getSeverityValue() {
-        return severity_;
-      }
-      /**
-       * <code>.org.attribyte.essem.proto3.EssemReport.Alert.Severity severity = 2;</code>
-       */
-      public org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert.Severity getSeverity() {
-        @SuppressWarnings("deprecation")
-        org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert.Severity result = org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert.Severity.valueOf(severity_);
-        return result == null ? org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert.Severity.UNRECOGNIZED : result;
-      }
-
-      public static final int VALUE_FIELD_NUMBER = 3;
-      private volatile java.lang.Object value_;
-      /**
-       * <code>string value = 3;</code>
-       */
-      public java.lang.String getValue() {
-        java.lang.Object ref = value_;
-        if (ref instanceof java.lang.String) {
-          return (java.lang.String) ref;
-        } else {
-          com.google.protobuf.ByteString bs = 
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          value_ = s;
-          return s;
-        }
-      }
-      /**
-       * <code>string value = 3;</code>
-       */
-      public com.google.protobuf.ByteString
-          getValueBytes() {
-        java.lang.Object ref = value_;
-        if (ref instanceof java.lang.String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          value_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
-
       private byte memoizedIsInitialized = -1;
       @java.lang.Override
       public final boolean isInitialized() {
@@ -6143,17 +8637,14 @@ public final class ReportProtos {
         return true;
       }
 
-      @java.lang.Override
-      public void writeTo(com.google.protobuf.CodedOutputStream output)
-                          throws java.io.IOException {
-        if (!getNameBytes().isEmpty()) {
-          com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
-        }
-        if (severity_ != org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert.Severity.UNKNOWN.getNumber()) {
-          output.writeEnum(2, severity_);
+      @java.lang.Override
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        if (id_ != 0) {
+          output.writeUInt32(1, id_);
         }
-        if (!getValueBytes().isEmpty()) {
-          com.google.protobuf.GeneratedMessageV3.writeString(output, 3, value_);
+        if (!getNameBytes().isEmpty()) {
+          com.google.protobuf.GeneratedMessageV3.writeString(output, 2, name_);
         }
         unknownFields.writeTo(output);
       }
@@ -6164,15 +8655,12 @@ public final class ReportProtos {
         if (size != -1) return size;
 
         size = 0;
-        if (!getNameBytes().isEmpty()) {
-          size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
-        }
-        if (severity_ != org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert.Severity.UNKNOWN.getNumber()) {
+        if (id_ != 0) {
           size += com.google.protobuf.CodedOutputStream
-            .computeEnumSize(2, severity_);
+            .computeUInt32Size(1, id_);
         }
-        if (!getValueBytes().isEmpty()) {
-          size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, value_);
+        if (!getNameBytes().isEmpty()) {
+          size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, name_);
         }
         size += unknownFields.getSerializedSize();
         memoizedSize = size;
@@ -6184,17 +8672,16 @@ public final class ReportProtos {
         if (obj == this) {
          return true;
         }
-        if (!(obj instanceof org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert)) {
+        if (!(obj instanceof org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition)) {
           return super.equals(obj);
         }
-        org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert other = (org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert) obj;
+        org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition other = (org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition) obj;
 
         boolean result = true;
+        result = result && (getId()
+            == other.getId());
         result = result && getName()
             .equals(other.getName());
-        result = result && severity_ == other.severity_;
-        result = result && getValue()
-            .equals(other.getValue());
         result = result && unknownFields.equals(other.unknownFields);
         return result;
       }
@@ -6206,80 +8693,78 @@ public final class ReportProtos {
         }
         int hash = 41;
         hash = (19 * hash) + getDescriptor().hashCode();
+        hash = (37 * hash) + ID_FIELD_NUMBER;
+        hash = (53 * hash) + getId();
         hash = (37 * hash) + NAME_FIELD_NUMBER;
         hash = (53 * hash) + getName().hashCode();
-        hash = (37 * hash) + SEVERITY_FIELD_NUMBER;
-        hash = (53 * hash) + severity_;
-        hash = (37 * hash) + VALUE_FIELD_NUMBER;
-        hash = (53 * hash) + getValue().hashCode();
         hash = (29 * hash) + unknownFields.hashCode();
         memoizedHashCode = hash;
         return hash;
       }
 
-      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert parseFrom(
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition parseFrom(
           java.nio.ByteBuffer data)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data);
       }
-      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert parseFrom(
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition parseFrom(
           java.nio.ByteBuffer data,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data, extensionRegistry);
       }
-      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert parseFrom(
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition parseFrom(
           com.google.protobuf.ByteString data)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data);
       }
-      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert parseFrom(
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition parseFrom(
           com.google.protobuf.ByteString data,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data, extensionRegistry);
       }
-      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert parseFrom(byte[] data)
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition parseFrom(byte[] data)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data);
       }
-      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert parseFrom(
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition parseFrom(
           byte[] data,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data, extensionRegistry);
       }
-      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert parseFrom(java.io.InputStream input)
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition parseFrom(java.io.InputStream input)
           throws java.io.IOException {
         return com.google.protobuf.GeneratedMessageV3
             .parseWithIOException(PARSER, input);
       }
-      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert parseFrom(
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition parseFrom(
           java.io.InputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
         return com.google.protobuf.GeneratedMessageV3
             .parseWithIOException(PARSER, input, extensionRegistry);
       }
-      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert parseDelimitedFrom(java.io.InputStream input)
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition parseDelimitedFrom(java.io.InputStream input)
           throws java.io.IOException {
         return com.google.protobuf.GeneratedMessageV3
             .parseDelimitedWithIOException(PARSER, input);
       }
-      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert parseDelimitedFrom(
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition parseDelimitedFrom(
           java.io.InputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
         return com.google.protobuf.GeneratedMessageV3
             .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
       }
-      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert parseFrom(
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition parseFrom(
           com.google.protobuf.CodedInputStream input)
           throws java.io.IOException {
         return com.google.protobuf.GeneratedMessageV3
             .parseWithIOException(PARSER, input);
       }
-      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert parseFrom(
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition parseFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
@@ -6292,7 +8777,7 @@ public final class ReportProtos {
       public static Builder newBuilder() {
         return DEFAULT_INSTANCE.toBuilder();
       }
-      public static Builder newBuilder(org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert prototype) {
+      public static Builder newBuilder(org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition prototype) {
         return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
       }
       @java.lang.Override
@@ -6308,26 +8793,26 @@ public final class ReportProtos {
         return builder;
       }
       /**
-       * Protobuf type {@code org.attribyte.essem.proto3.EssemReport.Alert}
+       * Protobuf type {@code org.attribyte.essem.proto3.EssemReport.NameDefinition}
        */
       public static final class Builder extends
           com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-          // @@protoc_insertion_point(builder_implements:org.attribyte.essem.proto3.EssemReport.Alert)
-          org.attribyte.essem.proto3.ReportProtos.EssemReport.AlertOrBuilder {
+          // @@protoc_insertion_point(builder_implements:org.attribyte.essem.proto3.EssemReport.NameDefinition)
+          org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinitionOrBuilder {
         public static final com.google.protobuf.Descriptors.Descriptor
             getDescriptor() {
-          return org.attribyte.essem.proto3.ReportProtos.internal_static_org_attribyte_essem_proto3_EssemReport_Alert_descriptor;
+          return org.attribyte.essem.proto3.ReportProtos.internal_static_org_attribyte_essem_proto3_EssemReport_NameDefinition_descriptor;
         }
 
         @java.lang.Override
         protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
             internalGetFieldAccessorTable() {
-          return org.attribyte.essem.proto3.ReportProtos.internal_static_org_attribyte_essem_proto3_EssemReport_Alert_fieldAccessorTable
+          return org.attribyte.essem.proto3.ReportProtos.internal_static_org_attribyte_essem_proto3_EssemReport_NameDefinition_fieldAccessorTable
               .ensureFieldAccessorsInitialized(
-                  org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert.class, org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert.Builder.class);
+                  org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition.class, org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition.Builder.class);
         }
 
-        // Construct using org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert.newBuilder()
+        // Construct using org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition.newBuilder()
         private Builder() {
           maybeForceBuilderInitialization();
         }
@@ -6345,11 +8830,9 @@ public final class ReportProtos {
         @java.lang.Override
         public Builder clear() {
           super.clear();
-          name_ = "";
+          id_ = 0;
 
-          severity_ = 0;
-
-          value_ = "";
+          name_ = "";
 
           return this;
         }
@@ -6357,17 +8840,17 @@ public final class ReportProtos {
         @java.lang.Override
         public com.google.protobuf.Descriptors.Descriptor
             getDescriptorForType() {
-          return org.attribyte.essem.proto3.ReportProtos.internal_static_org_attribyte_essem_proto3_EssemReport_Alert_descriptor;
+          return org.attribyte.essem.proto3.ReportProtos.internal_static_org_attribyte_essem_proto3_EssemReport_NameDefinition_descriptor;
         }
 
         @java.lang.Override
-        public org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert getDefaultInstanceForType() {
-          return org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert.getDefaultInstance();
+        public org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition getDefaultInstanceForType() {
+          return org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition.getDefaultInstance();
         }
 
         @java.lang.Override
-        public org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert build() {
-          org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert result = buildPartial();
+        public org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition build() {
+          org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition result = buildPartial();
           if (!result.isInitialized()) {
             throw newUninitializedMessageException(result);
           }
@@ -6375,11 +8858,10 @@ public final class ReportProtos {
         }
 
         @java.lang.Override
-        public org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert buildPartial() {
-          org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert result = new org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert(this);
+        public org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition buildPartial() {
+          org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition result = new org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition(this);
+          result.id_ = id_;
           result.name_ = name_;
-          result.severity_ = severity_;
-          result.value_ = value_;
           onBuilt();
           return result;
         }
@@ -6418,27 +8900,23 @@ public final class ReportProtos {
         }
         @java.lang.Override
         public Builder mergeFrom(com.google.protobuf.Message other) {
-          if (other instanceof org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert) {
-            return mergeFrom((org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert)other);
+          if (other instanceof org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition) {
+            return mergeFrom((org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition)other);
           } else {
             super.mergeFrom(other);
             return this;
           }
         }
 
-        public Builder mergeFrom(org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert other) {
-          if (other == org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert.getDefaultInstance()) return this;
+        public Builder mergeFrom(org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition other) {
+          if (other == org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition.getDefaultInstance()) return this;
+          if (other.getId() != 0) {
+            setId(other.getId());
+          }
           if (!other.getName().isEmpty()) {
             name_ = other.name_;
             onChanged();
           }
-          if (other.severity_ != 0) {
-            setSeverityValue(other.getSeverityValue());
-          }
-          if (!other.getValue().isEmpty()) {
-            value_ = other.value_;
-            onChanged();
-          }
           this.mergeUnknownFields(other.unknownFields);
           onChanged();
           return this;
@@ -6454,11 +8932,11 @@ public final class ReportProtos {
             com.google.protobuf.CodedInputStream input,
             com.google.protobuf.ExtensionRegistryLite extensionRegistry)
             throws java.io.IOException {
-          org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert parsedMessage = null;
+          org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition parsedMessage = null;
           try {
             parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
           } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-            parsedMessage = (org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert) e.getUnfinishedMessage();
+            parsedMessage = (org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition) e.getUnfinishedMessage();
             throw e.unwrapIOException();
           } finally {
             if (parsedMessage != null) {
@@ -6468,185 +8946,97 @@ public final class ReportProtos {
           return this;
         }
 
-        private java.lang.Object name_ = "";
-        /**
-         * <code>string name = 1;</code>
-         */
-        public java.lang.String getName() {
-          java.lang.Object ref = name_;
-          if (!(ref instanceof java.lang.String)) {
-            com.google.protobuf.ByteString bs =
-                (com.google.protobuf.ByteString) ref;
-            java.lang.String s = bs.toStringUtf8();
-            name_ = s;
-            return s;
-          } else {
-            return (java.lang.String) ref;
-          }
-        }
-        /**
-         * <code>string name = 1;</code>
-         */
-        public com.google.protobuf.ByteString
-            getNameBytes() {
-          java.lang.Object ref = name_;
-          if (ref instanceof String) {
-            com.google.protobuf.ByteString b = 
-                com.google.protobuf.ByteString.copyFromUtf8(
-                    (java.lang.String) ref);
-            name_ = b;
-            return b;
-          } else {
-            return (com.google.protobuf.ByteString) ref;
-          }
-        }
-        /**
-         * <code>string name = 1;</code>
-         */
-        public Builder setName(
-            java.lang.String value) {
-          if (value == null) {
-    throw new NullPointerException();
-  }
-  
-          name_ = value;
-          onChanged();
-          return this;
-        }
-        /**
-         * <code>string name = 1;</code>
-         */
-        public Builder clearName() {
-          
-          name_ = getDefaultInstance().getName();
-          onChanged();
-          return this;
-        }
-        /**
-         * <code>string name = 1;</code>
-         */
-        public Builder setNameBytes(
-            com.google.protobuf.ByteString value) {
-          if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-          
-          name_ = value;
-          onChanged();
-          return this;
-        }
-
-        private int severity_ = 0;
-        /**
-         * <code>.org.attribyte.essem.proto3.EssemReport.Alert.Severity severity = 2;</code>
-         */
-        public int getSeverityValue() {
-          return severity_;
-        }
-        /**
-         * <code>.org.attribyte.essem.proto3.EssemReport.Alert.Severity severity = 2;</code>
-         */
-        public Builder setSeverityValue(int value) {
-          severity_ = value;
-          onChanged();
-          return this;
-        }
+        private int id_ ;
         /**
-         * <code>.org.attribyte.essem.proto3.EssemReport.Alert.Severity severity = 2;</code>
+         * <code>uint32 id = 1;</code>
          */
-        public org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert.Severity getSeverity() {
-          @SuppressWarnings("deprecation")
-          org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert.Severity result = org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert.Severity.valueOf(severity_);
-          return result == null ? org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert.Severity.UNRECOGNIZED : result;
+        public int getId() {
+          return id_;
         }
         /**
-         * <code>.org.attribyte.essem.proto3.EssemReport.Alert.Severity severity = 2;</code>
+         * <code>uint32 id = 1;</code>
          */
-        public Builder setSeverity(org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert.Severity value) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
+        public Builder setId(int value) {
           
-          severity_ = value.getNumber();
+          id_ = value;
           onChanged();
           return this;
         }
         /**
-         * <code>.org.attribyte.essem.proto3.EssemReport.Alert.Severity severity = 2;</code>
+         * <code>uint32 id = 1;</code>
          */
-        public Builder clearSeverity() {
+        public Builder clearId() {
           
-          severity_ = 0;
+          id_ = 0;
           onChanged();
           return this;
         }
 
-        private java.lang.Object value_ = "";
+        private java.lang.Object name_ = "";
         /**
-         * <code>string value = 3;</code>
+         * <code>string name = 2;</code>
          */
-        public java.lang.String getValue() {
-          java.lang.Object ref = value_;
+        public java.lang.String getName() {
+          java.lang.Object ref = name_;
           if (!(ref instanceof java.lang.String)) {
             com.google.protobuf.ByteString bs =
                 (com.google.protobuf.ByteString) ref;
             java.lang.String s = bs.toStringUtf8();
-            value_ = s;
+            name_ = s;
             return s;
           } else {
             return (java.lang.String) ref;
           }
         }
         /**
-         * <code>string value = 3;</code>
+         * <code>string name = 2;</code>
          */
         public com.google.protobuf.ByteString
-            getValueBytes() {
-          java.lang.Object ref = value_;
+            getNameBytes() {
+          java.lang.Object ref = name_;
           if (ref instanceof String) {
             com.google.protobuf.ByteString b = 
                 com.google.protobuf.ByteString.copyFromUtf8(
                     (java.lang.String) ref);
-            value_ = b;
+            name_ = b;
             return b;
           } else {
             return (com.google.protobuf.ByteString) ref;
           }
         }
         /**
-         * <code>string value = 3;</code>
+         * <code>string name = 2;</code>
          */
-        public Builder setValue(
+        public Builder setName(
             java.lang.String value) {
           if (value == null) {
     throw new NullPointerException();
   }
   
-          value_ = value;
+          name_ = value;
           onChanged();
           return this;
         }
         /**
-         * <code>string value = 3;</code>
+         * <code>string name = 2;</code>
          */
-        public Builder clearValue() {
+        public Builder clearName() {
           
-          value_ = getDefaultInstance().getValue();
+          name_ = getDefaultInstance().getName();
           onChanged();
           return this;
         }
         /**
-         * <code>string value = 3;</code>
+         * <code>string name = 2;</code>
          */
-        public Builder setValueBytes(
+        public Builder setNameBytes(
             com.google.protobuf.ByteString value) {
           if (value == null) {
     throw new NullPointerException();
   }
   checkByteStringIsUtf8(value);
           
-          value_ = value;
+          name_ = value;
           onChanged();
           return this;
         }
@@ -6663,41 +9053,41 @@ public final class ReportProtos {
         }
 
 
-        // @@protoc_insertion_point(builder_scope:org.attribyte.essem.proto3.EssemReport.Alert)
+        // @@protoc_insertion_point(builder_scope:org.attribyte.essem.proto3.EssemReport.NameDefinition)
       }
 
-      // @@protoc_insertion_point(class_scope:org.attribyte.essem.proto3.EssemReport.Alert)
-      private static final org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert DEFAULT_INSTANCE;
+      // @@protoc_insertion_point(class_scope:org.attribyte.essem.proto3.EssemReport.NameDefinition)
+      private static final org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition DEFAULT_INSTANCE;
       static {
-        DEFAULT_INSTANCE = new org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert();
+        DEFAULT_INSTANCE = new org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition();
       }
 
-      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert getDefaultInstance() {
+      public static org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition getDefaultInstance() {
         return DEFAULT_INSTANCE;
       }
 
-      private static final com.google.protobuf.Parser<Alert>
-          PARSER = new com.google.protobuf.AbstractParser<Alert>() {
+      private static final com.google.protobuf.Parser<NameDefinition>
+          PARSER = new com.google.protobuf.AbstractParser<NameDefinition>() {
         @java.lang.Override
-        public Alert parsePartialFrom(
+        public NameDefinition parsePartialFrom(
             com.google.protobuf.CodedInputStream input,
             com.google.protobuf.ExtensionRegistryLite extensionRegistry)
             throws com.google.protobuf.InvalidProtocolBufferException {
-          return new Alert(input, extensionRegistry);
+          return new NameDefinition(input, extensionRegistry);
         }
       };
 
-      public static com.google.protobuf.Parser<Alert> parser() {
+      public static com.google.protobuf.Parser<NameDefinition> parser() {
         return PARSER;
       }
 
       @java.lang.Override
-      public com.google.protobuf.Parser<Alert> getParserForType() {
+      public com.google.protobuf.Parser<NameDefinition> getParserForType() {
         return PARSER;
       }
 
       @java.lang.Override
-      public org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert getDefaultInstanceForType() {
+      public org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition getDefaultInstanceForType() {
         return DEFAULT_INSTANCE;
       }
 
@@ -7129,36 +9519,106 @@ public final class ReportProtos {
     public static final int ALERT_FIELD_NUMBER = 15;
     private java.util.List<org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert> alert_;
     /**
-     * <code>repeated .org.attribyte.essem.proto3.EssemReport.Alert alert = 15;</code>
+     * <code>repeated .org.attribyte.essem.proto3.EssemReport.Alert alert = 15;</code>
+     */
+    public java.util.List<org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert> getAlertList() {
+      return alert_;
+    }
+    /**
+     * <code>repeated .org.attribyte.essem.proto3.EssemReport.Alert alert = 15;</code>
+     */
+    public java.util.List<? extends org.attribyte.essem.proto3.ReportProtos.EssemReport.AlertOrBuilder> 
+        getAlertOrBuilderList() {
+      return alert_;
+    }
+    /**
+     * <code>repeated .org.attribyte.essem.proto3.EssemReport.Alert alert = 15;</code>
+     */
+    public int getAlertCount() {
+      return alert_.size();
+    }
+    /**
+     * <code>repeated .org.attribyte.essem.proto3.EssemReport.Alert alert = 15;</code>
+     */
+    public org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert getAlert(int index) {
+      return alert_.get(index);
+    }
+    /**
+     * <code>repeated .org.attribyte.essem.proto3.EssemReport.Alert alert = 15;</code>
+     */
+    public org.attribyte.essem.proto3.ReportProtos.EssemReport.AlertOrBuilder getAlertOrBuilder(
+        int index) {
+      return alert_.get(index);
+    }
+
+    public static final int NAMEDEFINITION_FIELD_NUMBER = 16;
+    private java.util.List<org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition> nameDefinition_;
+    /**
+     * <code>repeated .org.attribyte.essem.proto3.EssemReport.NameDefinition nameDefinition = 16;</code>
+     */
+    public java.util.List<org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition> getNameDefinitionList() {
+      return nameDefinition_;
+    }
+    /**
+     * <code>repeated .org.attribyte.essem.proto3.EssemReport.NameDefinition nameDefinition = 16;</code>
+     */
+    public java.util.List<? extends org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinitionOrBuilder> 
+        getNameDefinitionOrBuilderList() {
+      return nameDefinition_;
+    }
+    /**
+     * <code>repeated .org.attribyte.essem.proto3.EssemReport.NameDefinition nameDefinition = 16;</code>
+     */
+    public int getNameDefinitionCount() {
+      return nameDefinition_.size();
+    }
+    /**
+     * <code>repeated .org.attribyte.essem.proto3.EssemReport.NameDefinition nameDefinition = 16;</code>
+     */
+    public org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition getNameDefinition(int index) {
+      return nameDefinition_.get(index);
+    }
+    /**
+     * <code>repeated .org.attribyte.essem.proto3.EssemReport.NameDefinition nameDefinition = 16;</code>
      */
-    public java.util.List<org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert> getAlertList() {
-      return alert_;
+    public org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinitionOrBuilder getNameDefinitionOrBuilder(
+        int index) {
+      return nameDefinition_.get(index);
     }
+
+    public static final int NAMEDICTIONARYID_FIELD_NUMBER = 17;
+    private long nameDictionaryId_;
     /**
-     * <code>repeated .org.attribyte.essem.proto3.EssemReport.Alert alert = 15;</code>
+     * <code>uint64 nameDictionaryId = 17;</code>
      */
-    public java.util.List<? extends org.attribyte.essem.proto3.ReportProtos.EssemReport.AlertOrBuilder> 
-        getAlertOrBuilderList() {
-      return alert_;
+    public long getNameDictionaryId() {
+      return nameDictionaryId_;
     }
+
+    public static final int HDRENCODING_FIELD_NUMBER = 18;
+    private int hdrEncoding_;
     /**
-     * <code>repeated .org.attribyte.essem.proto3.EssemReport.Alert alert = 15;</code>
+     * <code>.org.attribyte.essem.proto3.EssemReport.HdrEncoding hdrEncoding = 18;</code>
      */
-    public int getAlertCount() {
-      return alert_.size();
+    public int getHdrEncodingValue() {
+      return hdrEncoding_;
     }
     /**
-     * <code>repeated .org.attribyte.essem.proto3.EssemReport.Alert alert = 15;</code>
+     * <code>.org.attribyte.essem.proto3.EssemReport.HdrEncoding hdrEncoding = 18;</code>
      */
-    public org.attribyte.essem.proto3.ReportProtos.EssemReport.Alert getAlert(int index) {
-      return alert_.get(index);
+    public org.attribyte.essem.proto3.ReportProtos.EssemReport.HdrEncoding getHdrEncoding() {
+      @SuppressWarnings("deprecation")
+      org.attribyte.essem.proto3.ReportProtos.EssemReport.HdrEncoding result = org.attribyte.essem.proto3.ReportProtos.EssemReport.HdrEncoding.valueOf(hdrEncoding_);
+      return result == null ? org.attribyte.essem.proto3.ReportProtos.EssemReport.HdrEncoding.UNRECOGNIZED : result;
     }
+
+    public static final int LEAN_FIELD_NUMBER = 19;
+    private boolean lean_;
     /**
-     * <code>repeated .org.attribyte.essem.proto3.EssemReport.Alert alert = 15;</code>
+     * <code>bool lean = 19;</code>
      */
-    public org.attribyte.essem.proto3.ReportProtos.EssemReport.AlertOrBuilder getAlertOrBuilder(
-        int index) {
-      return alert_.get(index);
+    public boolean getLean() {
+      return lean_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -7220,6 +9680,18 @@ public final class ReportProtos {
       for (int i = 0; i < alert_.size(); i++) {
         output.writeMessage(15, alert_.get(i));
       }
+      for (int i = 0; i < nameDefinition_.size(); i++) {
+        output.writeMessage(16, nameDefinition_.get(i));
+      }
+      if (nameDictionaryId_ != 0L) {
+        output.writeUInt64(17, nameDictionaryId_);
+      }
+      if (hdrEncoding_ != org.attribyte.essem.proto3.ReportProtos.EssemReport.HdrEncoding.COMPRESSED.getNumber()) {
+        output.writeEnum(18, hdrEncoding_);
+      }
+      if (lean_ != false) {
+        output.writeBool(19, lean_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -7283,6 +9755,22 @@ public final class ReportProtos {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(15, alert_.get(i));
       }
+      for (int i = 0; i < nameDefinition_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(16, nameDefinition_.get(i));
+      }
+      if (nameDictionaryId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(17, nameDictionaryId_);
+      }
+      if (hdrEncoding_ != org.attribyte.essem.proto3.ReportProtos.EssemReport.HdrEncoding.COMPRESSED.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(18, hdrEncoding_);
+      }
+      if (lean_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(19, lean_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -7327,6 +9815,13 @@ public final class ReportProtos {
           .equals(other.getDescription());
       result = result && getAlertList()
           .equals(other.getAlertList());
+      result = result && getNameDefinitionList()
+          .equals(other.getNameDefinitionList());
+      result = result && (getNameDictionaryId()
+          == other.getNameDictionaryId());
+      result = result && hdrEncoding_ == other.hdrEncoding_;
+      result = result && (getLean()
+          == other.getLean());
       result = result && unknownFields.equals(other.unknownFields);
       return result;
     }
@@ -7381,6 +9876,18 @@ public final class ReportProtos {
         hash = (37 * hash) + ALERT_FIELD_NUMBER;
         hash = (53 * hash) + getAlertList().hashCode();
       }
+      if (getNameDefinitionCount() > 0) {
+        hash = (37 * hash) + NAMEDEFINITION_FIELD_NUMBER;
+        hash = (53 * hash) + getNameDefinitionList().hashCode();
+      }
+      hash = (37 * hash) + NAMEDICTIONARYID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getNameDictionaryId());
+      hash = (37 * hash) + HDRENCODING_FIELD_NUMBER;
+      hash = (53 * hash) + hdrEncoding_;
+      hash = (37 * hash) + LEAN_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getLean());
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -7515,6 +10022,7 @@ public final class ReportProtos {
           getHistogramFieldBuilder();
           getGaugeFieldBuilder();
           getAlertFieldBuilder();
+          getNameDefinitionFieldBuilder();
         }
       }
       @java.lang.Override
@@ -7574,6 +10082,18 @@ public final class ReportProtos {
         } else {
           alertBuilder_.clear();
         }
+        if (nameDefinitionBuilder_ == null) {
+          nameDefinition_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00008000);
+        } else {
+          nameDefinitionBuilder_.clear();
+        }
+        nameDictionaryId_ = 0L;
+
+        hdrEncoding_ = 0;
+
+        lean_ = false;
+
         return this;
       }
 
@@ -7665,6 +10185,18 @@ public final class ReportProtos {
         } else {
           result.alert_ = alertBuilder_.build();
         }
+        if (nameDefinitionBuilder_ == null) {
+          if (((bitField0_ & 0x00008000) == 0x00008000)) {
+            nameDefinition_ = java.util.Collections.unmodifiableList(nameDefinition_);
+            bitField0_ = (bitField0_ & ~0x00008000);
+          }
+          result.nameDefinition_ = nameDefinition_;
+        } else {
+          result.nameDefinition_ = nameDefinitionBuilder_.build();
+        }
+        result.nameDictionaryId_ = nameDictionaryId_;
+        result.hdrEncoding_ = hdrEncoding_;
+        result.lean_ = lean_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -7903,6 +10435,41 @@ public final class ReportProtos {
             }
           }
         }
+        if (nameDefinitionBuilder_ == null) {
+          if (!other.nameDefinition_.isEmpty()) {
+            if (nameDefinition_.isEmpty()) {
+              nameDefinition_ = other.nameDefinition_;
+              bitField0_ = (bitField0_ & ~0x00008000);
+            } else {
+              ensureNameDefinitionIsMutable();
+              nameDefinition_.addAll(other.nameDefinition_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.nameDefinition_.isEmpty()) {
+            if (nameDefinitionBuilder_.isEmpty()) {
+              nameDefinitionBuilder_.dispose();
+              nameDefinitionBuilder_ = null;
+              nameDefinition_ = other.nameDefinition_;
+              bitField0_ = (bitField0_ & ~0x00008000);
+              nameDefinitionBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getNameDefinitionFieldBuilder() : null;
+            } else {
+              nameDefinitionBuilder_.addAllMessages(other.nameDefinition_);
+            }
+          }
+        }
+        if (other.getNameDictionaryId() != 0L) {
+          setNameDictionaryId(other.getNameDictionaryId());
+        }
+        if (other.hdrEncoding_ != 0) {
+          setHdrEncodingValue(other.getHdrEncodingValue());
+        }
+        if (other.getLean() != false) {
+          setLean(other.getLean());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -9902,6 +12469,343 @@ public final class ReportProtos {
         }
         return alertBuilder_;
       }
+
+      private java.util.List<org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition> nameDefinition_ =
+        java.util.Collections.emptyList();
+      private void ensureNameDefinitionIsMutable() {
+        if (!((bitField0_ & 0x00008000) == 0x00008000)) {
+          nameDefinition_ = new java.util.ArrayList<org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition>(nameDefinition_);
+          bitField0_ |= 0x00008000;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition, org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition.Builder, org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinitionOrBuilder> nameDefinitionBuilder_;
+
+      /**
+       * <code>repeated .org.attribyte.essem.proto3.EssemReport.NameDefinition nameDefinition = 16;</code>
+       */
+      public java.util.List<org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition> getNameDefinitionList() {
+        if (nameDefinitionBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(nameDefinition_);
+        } else {
+          return nameDefinitionBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto3.EssemReport.NameDefinition nameDefinition = 16;</code>
+       */
+      public int getNameDefinitionCount() {
+        if (nameDefinitionBuilder_ == null) {
+          return nameDefinition_.size();
+        } else {
+          return nameDefinitionBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto3.EssemReport.NameDefinition nameDefinition = 16;</code>
+       */
+      public org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition getNameDefinition(int index) {
+        if (nameDefinitionBuilder_ == null) {
+          return nameDefinition_.get(index);
+        } else {
+          return nameDefinitionBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto3.EssemReport.NameDefinition nameDefinition = 16;</code>
+       */
+      public Builder setNameDefinition(
+          int index, org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition value) {
+        if (nameDefinitionBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNameDefinitionIsMutable();
+          nameDefinition_.set(index, value);
+          onChanged();
+        } else {
+          nameDefinitionBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto3.EssemReport.NameDefinition nameDefinition = 16;</code>
+       */
+      public Builder setNameDefinition(
+          int index, org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition.Builder builderForValue) {
+        if (nameDefinitionBuilder_ == null) {
+          ensureNameDefinitionIsMutable();
+          nameDefinition_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          nameDefinitionBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto3.EssemReport.NameDefinition nameDefinition = 16;</code>
+       */
+      public Builder addNameDefinition(org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition value) {
+        if (nameDefinitionBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNameDefinitionIsMutable();
+          nameDefinition_.add(value);
+          onChanged();
+        } else {
+          nameDefinitionBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto3.EssemReport.NameDefinition nameDefinition = 16;</code>
+       */
+      public Builder addNameDefinition(
+          int index, org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition value) {
+        if (nameDefinitionBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNameDefinitionIsMutable();
+          nameDefinition_.add(index, value);
+          onChanged();
+        } else {
+          nameDefinitionBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto3.EssemReport.NameDefinition nameDefinition = 16;</code>
+       */
+      public Builder addNameDefinition(
+          org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition.Builder builderForValue) {
+        if (nameDefinitionBuilder_ == null) {
+          ensureNameDefinitionIsMutable();
+          nameDefinition_.add(builderForValue.build());
+          onChanged();
+        } else {
+          nameDefinitionBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto3.EssemReport.NameDefinition nameDefinition = 16;</code>
+       */
+      public Builder addNameDefinition(
+          int index, org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition.Builder builderForValue) {
+        if (nameDefinitionBuilder_ == null) {
+          ensureNameDefinitionIsMutable();
+          nameDefinition_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          nameDefinitionBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto3.EssemReport.NameDefinition nameDefinition = 16;</code>
+       */
+      public Builder addAllNameDefinition(
+          java.lang.Iterable<? extends org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition> values) {
+        if (nameDefinitionBuilder_ == null) {
+          ensureNameDefinitionIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, nameDefinition_);
+          onChanged();
+        } else {
+          nameDefinitionBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto3.EssemReport.NameDefinition nameDefinition = 16;</code>
+       */
+      public Builder clearNameDefinition() {
+        if (nameDefinitionBuilder_ == null) {
+          nameDefinition_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00008000);
+          onChanged();
+        } else {
+          nameDefinitionBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto3.EssemReport.NameDefinition nameDefinition = 16;</code>
+       */
+      public Builder removeNameDefinition(int index) {
+        if (nameDefinitionBuilder_ == null) {
+          ensureNameDefinitionIsMutable();
+          nameDefinition_.remove(index);
+          onChanged();
+        } else {
+          nameDefinitionBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto3.EssemReport.NameDefinition nameDefinition = 16;</code>
+       */
+      public org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition.Builder getNameDefinitionBuilder(
+          int index) {
+        return getNameDefinitionFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto3.EssemReport.NameDefinition nameDefinition = 16;</code>
+       */
+      public org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinitionOrBuilder getNameDefinitionOrBuilder(
+          int index) {
+        if (nameDefinitionBuilder_ == null) {
+          return nameDefinition_.get(index);  } else {
+          return nameDefinitionBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto3.EssemReport.NameDefinition nameDefinition = 16;</code>
+       */
+      public java.util.List<? extends org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinitionOrBuilder> 
+           getNameDefinitionOrBuilderList() {
+        if (nameDefinitionBuilder_ != null) {
+          return nameDefinitionBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(nameDefinition_);
+        }
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto3.EssemReport.NameDefinition nameDefinition = 16;</code>
+       */
+      public org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition.Builder addNameDefinitionBuilder() {
+        return getNameDefinitionFieldBuilder().addBuilder(
+            org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto3.EssemReport.NameDefinition nameDefinition = 16;</code>
+       */
+      public org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition.Builder addNameDefinitionBuilder(
+          int index) {
+        return getNameDefinitionFieldBuilder().addBuilder(
+            index, org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .org.attribyte.essem.proto3.EssemReport.NameDefinition nameDefinition = 16;</code>
+       */
+      public java.util.List<org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition.Builder> 
+           getNameDefinitionBuilderList() {
+        return getNameDefinitionFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition, org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition.Builder, org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinitionOrBuilder> 
+          getNameDefinitionFieldBuilder() {
+        if (nameDefinitionBuilder_ == null) {
+          nameDefinitionBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition, org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinition.Builder, org.attribyte.essem.proto3.ReportProtos.EssemReport.NameDefinitionOrBuilder>(
+                  nameDefinition_,
+                  ((bitField0_ & 0x00008000) == 0x00008000),
+                  getParentForChildren(),
+                  isClean());
+          nameDefinition_ = null;
+        }
+        return nameDefinitionBuilder_;
+      }
+
+      private long nameDictionaryId_ ;
+      /**
+       * <code>uint64 nameDictionaryId = 17;</code>
+       */
+      public long getNameDictionaryId() {
+        return nameDictionaryId_;
+      }
+      /**
+       * <code>uint64 nameDictionaryId = 17;</code>
+       */
+      public Builder setNameDictionaryId(long value) {
+        
+        nameDictionaryId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 nameDictionaryId = 17;</code>
+       */
+      public Builder clearNameDictionaryId() {
+        
+        nameDictionaryId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int hdrEncoding_ = 0;
+      /**
+       * <code>.org.attribyte.essem.proto3.EssemReport.HdrEncoding hdrEncoding = 18;</code>
+       */
+      public int getHdrEncodingValue() {
+        return hdrEncoding_;
+      }
+      /**
+       * <code>.org.attribyte.essem.proto3.EssemReport.HdrEncoding hdrEncoding = 18;</code>
+       */
+      public Builder setHdrEncodingValue(int value) {
+        hdrEncoding_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.org.attribyte.essem.proto3.EssemReport.HdrEncoding hdrEncoding = 18;</code>
+       */
+      public org.attribyte.essem.proto3.ReportProtos.EssemReport.HdrEncoding getHdrEncoding() {
+        @SuppressWarnings("deprecation")
+        org.attribyte.essem.proto3.ReportProtos.EssemReport.HdrEncoding result = org.attribyte.essem.proto3.ReportProtos.EssemReport.HdrEncoding.valueOf(hdrEncoding_);
+        return result == null ? org.attribyte.essem.proto3.ReportProtos.EssemReport.HdrEncoding.UNRECOGNIZED : result;
+      }
+      /**
+       * <code>.org.attribyte.essem.proto3.EssemReport.HdrEncoding hdrEncoding = 18;</code>
+       */
+      public Builder setHdrEncoding(org.attribyte.essem.proto3.ReportProtos.EssemReport.HdrEncoding value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        
+        hdrEncoding_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.org.attribyte.essem.proto3.EssemReport.HdrEncoding hdrEncoding = 18;</code>
+       */
+      public Builder clearHdrEncoding() {
+        
+        hdrEncoding_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private boolean lean_ ;
+      /**
+       * <code>bool lean = 19;</code>
+       */
+      public boolean getLean() {
+        return lean_;
+      }
+      /**
+       * <code>bool lean = 19;</code>
+       */
+      public Builder setLean(boolean value) {
+        
+        lean_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool lean = 19;</code>
+       */
+      public Builder clearLean() {
+        
+        lean_ = false;
+        onChanged();
+        return this;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -9975,6 +12879,11 @@ public final class ReportProtos {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_org_attribyte_essem_proto3_EssemReport_Meter_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_attribyte_essem_proto3_EssemReport_Quantile_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_attribyte_essem_proto3_EssemReport_Quantile_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_org_attribyte_essem_proto3_EssemReport_Histogram_descriptor;
   private static final 
@@ -9990,6 +12899,11 @@ public final class ReportProtos {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_org_attribyte_essem_proto3_EssemReport_Alert_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_attribyte_essem_proto3_EssemReport_NameDefinition_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_attribyte_essem_proto3_EssemReport_NameDefinition_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -10000,7 +12914,7 @@ public final class ReportProtos {
   static {
     java.lang.String[] descriptorData = {
       "\n\021EssemReport.proto\022\032org.attribyte.essem" +
-      ".proto3\"\327\r\n\013EssemReport\022<\n\005meter\030\001 \003(\0132-" +
+      ".proto3\"\362\021\n\013EssemReport\022<\n\005meter\030\001 \003(\0132-" +
       ".org.attribyte.essem.proto3.EssemReport." +
       "Meter\022<\n\005timer\030\002 \003(\0132-.org.attribyte.ess" +
       "em.proto3.EssemReport.Timer\022@\n\007counter\030\003" +
@@ -10016,35 +12930,49 @@ public final class ReportProtos {
       "\t \001(\t\022\014\n\004host\030\n \001(\t\022\020\n\010instance\030\013 \001(\t\022\014\n" +
       "\004role\030\014 \001(\t\022\016\n\006status\030\r \001(\t\022\023\n\013descripti" +
       "on\030\016 \001(\t\022<\n\005alert\030\017 \003(\0132-.org.attribyte." +
-      "essem.proto3.EssemReport.Alert\0325\n\005Gauge\022" +
-      "\014\n\004name\030\001 \001(\t\022\r\n\005value\030\002 \001(\001\022\017\n\007comment\030" +
-      "\003 \001(\t\032&\n\007Counter\022\014\n\004name\030\001 \001(\t\022\r\n\005count\030" +
-      "\002 \001(\004\032\200\001\n\005Meter\022\014\n\004name\030\001 \001(\t\022\025\n\roneMinu" +
-      "teRate\030\002 \001(\001\022\026\n\016fiveMinuteRate\030\003 \001(\001\022\031\n\021" +
-      "fifteenMinuteRate\030\004 \001(\001\022\020\n\010meanRate\030\005 \001(" +
-      "\001\022\r\n\005count\030\006 \001(\004\032\362\001\n\tHistogram\022\014\n\004name\030\001" +
-      " \001(\t\022\r\n\005count\030\002 \001(\004\022\013\n\003max\030\003 \001(\001\022\014\n\004mean" +
-      "\030\004 \001(\001\022\013\n\003min\030\005 \001(\001\022\013\n\003std\030\006 \001(\001\022\016\n\006medi" +
-      "an\030\007 \001(\001\022\024\n\014percentile75\030\010 \001(\001\022\024\n\014percen" +
-      "tile95\030\t \001(\001\022\024\n\014percentile98\030\n \001(\001\022\024\n\014pe" +
-      "rcentile99\030\013 \001(\001\022\025\n\rpercentile999\030\014 \001(\001\022" +
-      "\024\n\014hdrHistogram\030\r \001(\014\032\312\002\n\005Timer\022\014\n\004name\030" +
-      "\001 \001(\t\022\025\n\roneMinuteRate\030\002 \001(\001\022\026\n\016fiveMinu" +
-      "teRate\030\003 \001(\001\022\031\n\021fifteenMinuteRate\030\004 \001(\001\022" +
-      "\020\n\010meanRate\030\005 \001(\001\022\r\n\005count\030\006 \001(\004\022\013\n\003max\030" +
-      "\007 \001(\001\022\014\n\004mean\030\010 \001(\001\022\013\n\003min\030\t \001(\001\022\013\n\003std\030" +
-      "\n \001(\001\022\016\n\006median\030\013 \001(\001\022\024\n\014percentile75\030\014 " +
-      "\001(\001\022\024\n\014percentile95\030\r \001(\001\022\024\n\014percentile9" +
-      "8\030\016 \001(\001\022\024\n\014percentile99\030\017 \001(\001\022\025\n\rpercent" +
-      "ile999\030\020 \001(\001\022\024\n\014hdrHistogram\030\021 \001(\014\032\261\001\n\005A" +
-      "lert\022\014\n\004name\030\001 \001(\t\022H\n\010severity\030\002 \001(\01626.o" +
-      "rg.attribyte.essem.proto3.EssemReport.Al" +
-      "ert.Severity\022\r\n\005value\030\003 \001(\t\"A\n\010Severity\022" +
-      "\013\n\007UNKNOWN\020\000\022\010\n\004INFO\020\001\022\010\n\004WARN\020\002\022\t\n\005ERRO" +
-      "R\020\003\022\t\n\005FATAL\020\004\"i\n\010TimeUnit\022\013\n\007UNKNOWN\020\000\022" +
-      "\t\n\005NANOS\020\001\022\n\n\006MICROS\020\002\022\n\n\006MILLIS\020\003\022\013\n\007SE" +
-      "CONDS\020\004\022\013\n\007MINUTES\020\005\022\t\n\005HOURS\020\006\022\010\n\004DAYS\020" +
-      "\007B\016B\014ReportProtosb\006proto3"
+      "essem.proto3.EssemReport.Alert\022N\n\016nameDe" +
+      "finition\030\020 \003(\01326.org.attribyte.essem.pro" +
+      "to3.EssemReport.NameDefinition\022\030\n\020nameDi" +
+      "ctionaryId\030\021 \001(\004\022H\n\013hdrEncoding\030\022 \001(\01623." +
+      "org.attribyte.essem.proto3.EssemReport.H" +
+      "drEncoding\022\014\n\004lean\030\023 \001(\010\032E\n\005Gauge\022\014\n\004nam" +
+      "e\030\001 \001(\t\022\r\n\005value\030\002 \001(\001\022\017\n\007comment\030\003 \001(\t\022" +
+      "\016\n\006nameId\030\004 \001(\r\0326\n\007Counter\022\014\n\004name\030\001 \001(\t" +
+      "\022\r\n\005count\030\002 \001(\004\022\016\n\006nameId\030\003 \001(\r\032\220\001\n\005Mete" +
+      "r\022\014\n\004name\030\001 \001(\t\022\025\n\roneMinuteRate\030\002 \001(\001\022\026" +
+      "\n\016fiveMinuteRate\030\003 \001(\001\022\031\n\021fifteenMinuteR" +
+      "ate\030\004 \001(\001\022\020\n\010meanRate\030\005 \001(\001\022\r\n\005count\030\006 \001" +
+      "(\004\022\016\n\006nameId\030\007 \001(\r\032+\n\010Quantile\022\020\n\010quanti" +
+      "le\030\001 \001(\001\022\r\n\005value\030\002 \001(\001\032\306\002\n\tHistogram\022\014\n" +
+      "\004name\030\001 \001(\t\022\r\n\005count\030\002 \001(\004\022\013\n\003max\030\003 \001(\001\022" +
+      "\014\n\004mean\030\004 \001(\001\022\013\n\003min\030\005 \001(\001\022\013\n\003std\030\006 \001(\001\022" +
+      "\016\n\006median\030\007 \001(\001\022\024\n\014percentile75\030\010 \001(\001\022\024\n" +
+      "\014percentile95\030\t \001(\001\022\024\n\014percentile98\030\n \001(" +
+      "\001\022\024\n\014percentile99\030\013 \001(\001\022\025\n\rpercentile999" +
+      "\030\014 \001(\001\022\024\n\014hdrHistogram\030\r \001(\014\022\016\n\006nameId\030\016" +
+      " \001(\r\022B\n\010quantile\030\017 \003(\01320.org.attribyte.e" +
+      "ssem.proto3.EssemReport.Quantile\032\236\003\n\005Tim" +
+      "er\022\014\n\004name\030\001 \001(\t\022\025\n\roneMinuteRate\030\002 \001(\001\022" +
+      "\026\n\016fiveMinuteRate\030\003 \001(\001\022\031\n\021fifteenMinute" +
+      "Rate\030\004 \001(\001\022\020\n\010meanRate\030\005 \001(\001\022\r\n\005count\030\006 " +
+      "\001(\004\022\013\n\003max\030\007 \001(\001\022\014\n\004mean\030\010 \001(\001\022\013\n\003min\030\t " +
+      "\001(\001\022\013\n\003std\030\n \001(\001\022\016\n\006median\030\013 \001(\001\022\024\n\014perc" +
+      "entile75\030\014 \001(\001\022\024\n\014percentile95\030\r \001(\001\022\024\n\014" +
+      "percentile98\030\016 \001(\001\022\024\n\014percentile99\030\017 \001(\001" +
+      "\022\025\n\rpercentile999\030\020 \001(\001\022\024\n\014hdrHistogram\030" +
+      "\021 \001(\014\022\016\n\006nameId\030\022 \001(\r\022B\n\010quantile\030\023 \003(\0132" +
+      "0.org.attribyte.essem.proto3.EssemReport" +
+      ".Quantile\032\261\001\n\005Alert\022\014\n\004name\030\001 \001(\t\022H\n\010sev" +
+      "erity\030\002 \001(\01626.org.attribyte.essem.proto3" +
+      ".EssemReport.Alert.Severity\022\r\n\005value\030\003 \001" +
+      "(\t\"A\n\010Severity\022\013\n\007UNKNOWN\020\000\022\010\n\004INFO\020\001\022\010\n" +
+      "\004WARN\020\002\022\t\n\005ERROR\020\003\022\t\n\005FATAL\020\004\032*\n\016NameDef" +
+      "inition\022\n\n\002id\030\001 \001(\r\022\014\n\004name\030\002 \001(\t\"i\n\010Tim" +
+      "eUnit\022\013\n\007UNKNOWN\020\000\022\t\n\005NANOS\020\001\022\n\n\006MICROS\020" +
+      "\002\022\n\n\006MILLIS\020\003\022\013\n\007SECONDS\020\004\022\013\n\007MINUTES\020\005\022" +
+      "\t\n\005HOURS\020\006\022\010\n\004DAYS\020\007\"&\n\013HdrEncoding\022\016\n\nC" +
+      "OMPRESSED\020\000\022\007\n\003RAW\020\001B\016B\014ReportProtosb\006pr" +
+      "oto3"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -10063,43 +12991,55 @@ public final class ReportProtos {
     internal_static_org_attribyte_essem_proto3_EssemReport_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_attribyte_essem_proto3_EssemReport_descriptor,
-        new java.lang.String[] { "Meter", "Timer", "Counter", "Histogram", "Gauge", "Timestamp", "RateUnit", "DurationUnit", "Application", "Host", "Instance", "Role", "Status", "Description", "Alert", });
+        new java.lang.String[] { "Meter", "Timer", "Counter", "Histogram", "Gauge", "Timestamp", "RateUnit", "DurationUnit", "Application", "Host", "Instance", "Role", "Status", "Description", "Alert", "NameDefinition", "NameDictionaryId", "HdrEncoding", "Lean", });
     internal_static_org_attribyte_essem_proto3_EssemReport_Gauge_descriptor =
       internal_static_org_attribyte_essem_proto3_EssemReport_descriptor.getNestedTypes().get(0);
     internal_static_org_attribyte_essem_proto3_EssemReport_Gauge_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_attribyte_essem_proto3_EssemReport_Gauge_descriptor,
-        new java.lang.String[] { "Name", "Value", "Comment", });
+        new java.lang.String[] { "Name", "Value", "Comment", "NameId", });
     internal_static_org_attribyte_essem_proto3_EssemReport_Counter_descriptor =
       internal_static_org_attribyte_essem_proto3_EssemReport_descriptor.getNestedTypes().get(1);
     internal_static_org_attribyte_essem_proto3_EssemReport_Counter_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_attribyte_essem_proto3_EssemReport_Counter_descriptor,
-        new java.lang.String[] { "Name", "Count", });
+        new java.lang.String[] { "Name", "Count", "NameId", });
     internal_static_org_attribyte_essem_proto3_EssemReport_Meter_descriptor =
       internal_static_org_attribyte_essem_proto3_EssemReport_descriptor.getNestedTypes().get(2);
     internal_static_org_attribyte_essem_proto3_EssemReport_Meter_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_attribyte_essem_proto3_EssemReport_Meter_descriptor,
-        new java.lang.String[] { "Name", "OneMinuteRate", "FiveMinuteRate", "FifteenMinuteRate", "MeanRate", "Count", });
-    internal_static_org_attribyte_essem_proto3_EssemReport_Histogram_descriptor =
+        new java.lang.String[] { "Name", "OneMinuteRate", "FiveMinuteRate", "FifteenMinuteRate", "MeanRate", "Count", "NameId", });
+    internal_static_org_attribyte_essem_proto3_EssemReport_Quantile_descriptor =
       internal_static_org_attribyte_essem_proto3_EssemReport_descriptor.getNestedTypes().get(3);
+    internal_static_org_attribyte_essem_proto3_EssemReport_Quantile_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_attribyte_essem_proto3_EssemReport_Quantile_descriptor,
+        new java.lang.String[] { "Quantile", "Value", });
+    internal_static_org_attribyte_essem_proto3_EssemReport_Histogram_descriptor =
+      internal_static_org_attribyte_essem_proto3_EssemReport_descriptor.getNestedTypes().get(4);
     internal_static_org_attribyte_essem_proto3_EssemReport_Histogram_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_attribyte_essem_proto3_EssemReport_Histogram_descriptor,
-        new java.lang.String[] { "Name", "Count", "Max", "Mean", "Min", "Std", "Median", "Percentile75", "Percentile95", "Percentile98", "Percentile99", "Percentile999", "HdrHistogram", });
+        new java.lang.String[] { "Name", "Count", "Max", "Mean", "Min", "Std", "Median", "Percentile75", "Percentile95", "Percentile98", "Percentile99", "Percentile999", "HdrHistogram", "NameId", "Quantile", });
     internal_static_org_attribyte_essem_proto3_EssemReport_Timer_descriptor =
-      internal_static_org_attribyte_essem_proto3_EssemReport_descriptor.getNestedTypes().get(4);
+      internal_static_org_attribyte_essem_proto3_EssemReport_descriptor.getNestedTypes().get(5);
     internal_static_org_attribyte_essem_proto3_EssemReport_Timer_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_attribyte_essem_proto3_EssemReport_Timer_descriptor,
-        new java.lang.String[] { "Name", "OneMinuteRate", "FiveMinuteRate", "FifteenMinuteRate", "MeanRate", "Count", "Max", "Mean", "Min", "Std", "Median", "Percentile75", "Percentile95", "Percentile98", "Percentile99", "Percentile999", "HdrHistogram", });
+        new java.lang.String[] { "Name", "OneMinuteRate", "FiveMinuteRate", "FifteenMinuteRate", "MeanRate", "Count", "Max", "Mean", "Min", "Std", "Median", "Percentile75", "Percentile95", "Percentile98", "Percentile99", "Percentile999", "HdrHistogram", "NameId", "Quantile", });
     internal_static_org_attribyte_essem_proto3_EssemReport_Alert_descriptor =
-      internal_static_org_attribyte_essem_proto3_EssemReport_descriptor.getNestedTypes().get(5);
+      internal_static_org_attribyte_essem_proto3_EssemReport_descriptor.getNestedTypes().get(6);
     internal_static_org_attribyte_essem_proto3_EssemReport_Alert_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_attribyte_essem_proto3_EssemReport_Alert_descriptor,
         new java.lang.String[] { "Name", "Severity", "Value", });
+    internal_static_org_attribyte_essem_proto3_EssemReport_NameDefinition_descriptor =
+      internal_static_org_attribyte_essem_proto3_EssemReport_descriptor.getNestedTypes().get(7);
+    internal_static_org_attribyte_essem_proto3_EssemReport_NameDefinition_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_attribyte_essem_proto3_EssemReport_NameDefinition_descriptor,
+        new java.lang.String[] { "Id", "Name", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2018 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.essem.reporter;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Metric;
+import com.google.common.collect.ImmutableMap;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Map;
+import java.util.zip.Deflater;
+
+/**
+ * Compresses reports with zlib 'deflate', selecting the level from the measured cost and benefit of each level.
+ * <p>
+ *    For each candidate level, an exponentially-weighted average of the fraction of bytes saved and
+ *    the CPU time spent per input byte is kept. The level with the highest score,
+ *    {@code savedFraction - cpuNanosPerByte / cpuNanosPerSavedByte}, is used, except that every
+ *    {@value #EXPLORE_INTERVAL} reports another level is tried so that the averages follow changes in the reports.
+ * </p>
+ */
+public class AdaptiveCompressor extends DeflateCompressor {
+
+   /**
+    * Creates an adaptive compressor with the default value of a saved byte.
+    */
+   public AdaptiveCompressor() {
+      this(DEFAULT_CPU_NANOS_PER_SAVED_BYTE);
+   }
+
+   /**
+    * Creates an adaptive compressor.
+    * @param cpuNanosPerSavedByte The CPU time, in nanoseconds, worth spending to save one byte on the wire.
+    */
+   public AdaptiveCompressor(final double cpuNanosPerSavedByte) {
+      super(Deflater.BEST_COMPRESSION);
+      if(cpuNanosPerSavedByte <= 0.0) {
+         throw new IllegalArgumentException("The 'cpuNanosPerSavedByte' must be > 0");
+      }
+      this.cpuNanosPerSavedByte = cpuNanosPerSavedByte;
+   }
+
+   @Override
+   protected synchronized int selectLevel() {
+      count++;
+      for(int i = 0; i < LEVELS.length; i++) {
+         if(samples[i] == 0) { //Measure every level at least once...
+            return LEVELS[i];
+         }
+      }
+
+      if(count % EXPLORE_INTERVAL == 0) {
+         exploreIndex = (exploreIndex + 1) % LEVELS.length;
+         return LEVELS[exploreIndex];
+      }
+
+      int best = 0;
+      double bestScore = Double.NEGATIVE_INFINITY;
+      for(int i = 0; i < LEVELS.length; i++) {
+         double score = savedFraction[i] - cpuNanosPerByte[i] / cpuNanosPerSavedByte;
+         if(score > bestScore) {
+            bestScore = score;
+            best = i;
+         }
+      }
+      currentLevel = LEVELS[best];
+      return currentLevel;
+   }
+
+   @Override
+   protected synchronized void completed(final int level, final long bytesIn, final long bytesOut, final long cpuNanos) {
+      if(bytesIn <= 0L) {
+         return;
+      }
+      for(int i = 0; i < LEVELS.length; i++) {
+         if(LEVELS[i] == level) {
+            double saved = 1.0 - (double)bytesOut / (double)bytesIn;
+            double nanosPerByte = (double)cpuNanos / (double)bytesIn;
+            if(samples[i]++ == 0) {
+               savedFraction[i] = saved;
+               cpuNanosPerByte[i] = nanosPerByte;
+            } else {
+               savedFraction[i] += ALPHA * (saved - savedFraction[i]);
+               cpuNanosPerByte[i] += ALPHA * (nanosPerByte - cpuNanosPerByte[i]);
+            }
+            return;
+         }
+      }
+   }
+
+   @Override
+   public Map<String, Metric> getMetrics() {
+      return ImmutableMap.<String, Metric>builder()
+              .putAll(super.getMetrics())
+              .put("compress-level", (Gauge<Integer>)() -> currentLevel)
+              .build();
+   }
+
+   /**
+    * Gets the CPU time used by the current thread, or the elapsed time if CPU time is not measured by this JVM.
+    * @return The time in nanoseconds.
+    */
+   static long currentThreadCPUNanos() {
+      return CPU_TIME_SUPPORTED ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : System.nanoTime();
+   }
+
+   /**
+    * The default CPU time, in nanoseconds, worth spending to save one byte ({@value}).
+    */
+   public static final double DEFAULT_CPU_NANOS_PER_SAVED_BYTE = 100.0;
+
+   /**
+    * The candidate levels.
+    */
+   private static final int[] LEVELS = new int[] {1, 3, 6, 9};
+
+   /**
+    * A level other than the best is tried once every {@value} reports.
+    */
+   private static final int EXPLORE_INTERVAL = 16;
+
+   /**
+    * The weight of the newest sample in the averages.
+    */
+   private static final double ALPHA = 0.2;
+
+   private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+   private static final boolean CPU_TIME_SUPPORTED =
+           THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported() && THREAD_MX_BEAN.isThreadCpuTimeEnabled();
+
+   private final double cpuNanosPerSavedByte;
+   private final double[] savedFraction = new double[LEVELS.length];
+   private final double[] cpuNanosPerByte = new double[LEVELS.length];
+   private final int[] samples = new int[LEVELS.length];
+   private long count;
+   private int exploreIndex;
+   private volatile int currentLevel = Deflater.BEST_COMPRESSION;
+}
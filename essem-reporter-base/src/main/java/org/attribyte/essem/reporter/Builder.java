@@ -22,16 +22,21 @@ import com.codahale.metrics.Clock;
 import com.codahale.metrics.MetricFilter;
 import com.codahale.metrics.MetricRegistry;
 import com.google.common.base.Charsets;
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
 import com.google.common.io.BaseEncoding;
 
+import java.io.File;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.Collections;
 import java.util.List;
 import java.util.Properties;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
+import java.util.regex.Pattern;
 
-public abstract class Builder {
+public abstract class Builder extends ReporterArguments {
 
    /**
     * The target URI property name ('{@value}').
@@ -54,7 +59,11 @@ public abstract class Builder {
    public static final String INSTANCE_PROPERTY = "instance";
 
    /**
-    * The deflate flag property ('{@value}').
+    * The deflate property ('{@value}').
+    * <p>
+    *    One of {@code true}, {@code false}, {@code level:N}, {@code dictionary}, {@code dictionary:N} or {@code adaptive}.
+    *    See {@link ReportCompressor#fromConfig(String, Supplier)}.
+    * </p>
     */
    public static final String DEFLATE_PROPERTY = "deflate";
 
@@ -83,6 +92,32 @@ public abstract class Builder {
     */
    public static final String SKIP_UNCHANGED_PROPERTY = "skipUnchanged";
 
+   /**
+    * The skip unchanged gauges flag property ('{@value}').
+    */
+   public static final String SKIP_UNCHANGED_GAUGES_PROPERTY = "skipUnchangedGauges";
+
+   /**
+    * The maximum absolute difference for gauge values considered unchanged property ('{@value}').
+    */
+   public static final String GAUGE_ABSOLUTE_EPSILON_PROPERTY = "gaugeAbsoluteEpsilon";
+
+   /**
+    * The maximum relative difference for gauge values considered unchanged property ('{@value}').
+    * <p>
+    *    For example, {@code 0.01} skips gauges within 1% of the last reported value.
+    * </p>
+    */
+   public static final String GAUGE_RELATIVE_EPSILON_PROPERTY = "gaugeRelativeEpsilon";
+
+   /**
+    * The refresh intervals property ('{@value}').
+    * <p>
+    *    If set, unchanged metrics are reported after being skipped for this many consecutive intervals.
+    * </p>
+    */
+   public static final String REFRESH_INTERVALS_PROPERTY = "refreshIntervals";
+
    /**
     * The Basic auth username property ('{@value}').
     */
@@ -101,6 +136,175 @@ public abstract class Builder {
     */
    public static final String HDR_REPORT_PROPERTY = "hdrReport";
 
+   /**
+    * The HDR Histogram encoding property ('{@value}').
+    * <p>
+    *    Allowed values COMPRESSED (the default) or RAW.
+    * </p>
+    */
+   public static final String HDR_ENCODING_PROPERTY = "hdrEncoding";
+
+   /**
+    * The lean report flag property ('{@value}').
+    */
+   public static final String LEAN_PROPERTY = "lean";
+
+   /**
+    * The number of significant digits of reported HDR histograms property ('{@value}').
+    * <p>
+    *    If set, histograms recorded with more digits are downsampled before they are reported.
+    * </p>
+    */
+   public static final String HDR_SIGNIFICANT_DIGITS_PROPERTY = "hdrSignificantDigits";
+
+   /**
+    * The maximum value of reported HDR histograms property ('{@value}').
+    * <p>
+    *    If set, larger values are reported as this value.
+    * </p>
+    */
+   public static final String HDR_MAX_VALUE_PROPERTY = "hdrMaxValue";
+
+   /**
+    * The HDR reservoir consumer name property ('{@value}').
+    * <p>
+    *    Set a different name for each reporter that shares a registry.
+    * </p>
+    */
+   public static final String HDR_CONSUMER_PROPERTY = "hdrConsumer";
+
+   /**
+    * The reported quantiles property ('{@value}').
+    * <p>
+    *    A comma-separated list of quantiles in {@code [0.0, 1.0]}, for example, {@code 0.5,0.99,0.9999}.
+    * </p>
+    */
+   public static final String QUANTILES_PROPERTY = "quantiles";
+
+   /**
+    * The number of asynchronous send threads property ('{@value}').
+    * <p>
+    *    If greater than zero, asynchronous reports are sent by a {@link URLConnectionTransport}
+    *    with this many threads instead of on the calling thread.
+    * </p>
+    */
+   public static final String ASYNC_SEND_THREADS_PROPERTY = "asyncSendThreads";
+
+   /**
+    * The streaming flag property ('{@value}').
+    */
+   public static final String STREAMING_PROPERTY = "streaming";
+
+   /**
+    * The name dictionary flag property ('{@value}').
+    */
+   public static final String NAME_DICTIONARY_PROPERTY = "nameDictionary";
+
+   /**
+    * The reservoir footprint gauge flag property ('{@value}').
+    */
+   public static final String RESERVOIR_FOOTPRINT_PROPERTY = "reservoirFootprint";
+
+   /**
+    * The spool directory property ('{@value}').
+    * <p>
+    *    If set, reports that fail to send are spooled to this directory and replayed.
+    * </p>
+    */
+   public static final String SPOOL_DIRECTORY_PROPERTY = "spoolDirectory";
+
+   /**
+    * The maximum spool size in bytes property ('{@value}').
+    */
+   public static final String SPOOL_MAX_BYTES_PROPERTY = "spoolMaxBytes";
+
+   /**
+    * The maximum age of a spooled report in seconds property ('{@value}').
+    */
+   public static final String SPOOL_MAX_AGE_PROPERTY = "spoolMaxAgeSeconds";
+
+   /**
+    * The send queue capacity property ('{@value}').
+    * <p>
+    *    If set, reports are sent by a dedicated thread through a queue with this capacity.
+    * </p>
+    */
+   public static final String SEND_QUEUE_CAPACITY_PROPERTY = "sendQueueCapacity";
+
+   /**
+    * The send queue overflow policy property ('{@value}').
+    * <p>
+    *    Allowed values DROP_OLDEST (the default), DROP_NEWEST or KEEP_NEWEST.
+    * </p>
+    */
+   public static final String SEND_QUEUE_OVERFLOW_PROPERTY = "sendQueueOverflow";
+
+   /**
+    * The build parallelism property ('{@value}').
+    * <p>
+    *    If greater than zero, reports are built in parallel by at most this many threads.
+    * </p>
+    */
+   public static final String BUILD_PARALLELISM_PROPERTY = "buildParallelism";
+
+   /**
+    * The maximum report size property ('{@value}').
+    * <p>
+    *    If set, reports larger than this many (uncompressed) bytes are split into several smaller reports.
+    * </p>
+    */
+   public static final String MAX_REPORT_BYTES_PROPERTY = "maxReportBytes";
+
+   /**
+    * The slow report cycle threshold property ('{@value}').
+    * <p>
+    *    If set, report cycles that take longer than this many milliseconds are logged with the most expensive metrics.
+    * </p>
+    */
+   public static final String SLOW_CYCLE_MILLIS_PROPERTY = "slowCycleMillis";
+
+   /**
+    * The gauge timeout property ('{@value}').
+    * <p>
+    *    If set, gauges are evaluated concurrently and a gauge that takes longer
+    *    than this many milliseconds is reported with a fallback value.
+    * </p>
+    */
+   public static final String GAUGE_TIMEOUT_MILLIS_PROPERTY = "gaugeTimeoutMillis";
+
+   /**
+    * The number of gauge evaluation threads property ('{@value}').
+    */
+   public static final String GAUGE_THREADS_PROPERTY = "gaugeThreads";
+
+   /**
+    * The gauge timeout fallback property ('{@value}').
+    * <p>
+    *    Allowed values LAST_VALUE (the default) or COMMENT.
+    * </p>
+    */
+   public static final String GAUGE_TIMEOUT_FALLBACK_PROPERTY = "gaugeTimeoutFallback";
+
+   /**
+    * The default number of gauge evaluation threads ({@value}).
+    */
+   public static final int DEFAULT_GAUGE_THREADS = 4;
+
+   /**
+    * The number of significant digits of reported HDR histograms if only a maximum value is configured ({@value}).
+    */
+   public static final int DEFAULT_HDR_SIGNIFICANT_DIGITS = 5;
+
+   /**
+    * The default maximum spool size in bytes ({@value}).
+    */
+   public static final long DEFAULT_SPOOL_MAX_BYTES = 64L * 1024L * 1024L;
+
+   /**
+    * The default maximum age of a spooled report in milliseconds ({@value}).
+    */
+   public static final long DEFAULT_SPOOL_MAX_AGE_MILLIS = TimeUnit.HOURS.toMillis(24L);
+
    /**
     * Determine if the minimum required properties are available.
     * @param props The properties.
@@ -160,6 +364,95 @@ public abstract class Builder {
          EssemReporter.HdrReport.valueOf(hdrReportStr.toUpperCase());
       }
 
+      String hdrEncodingStr = props.getProperty(HDR_ENCODING_PROPERTY, "").trim();
+      if(!hdrEncodingStr.isEmpty()) {
+         EssemReporter.HdrEncoding.valueOf(hdrEncodingStr.toUpperCase());
+      }
+
+      ReportCompressor.fromConfig(props.getProperty(DEFLATE_PROPERTY, "false"), Collections::emptySet);
+
+      String spoolMaxBytes = props.getProperty(SPOOL_MAX_BYTES_PROPERTY, "").trim();
+      if(!spoolMaxBytes.isEmpty()) {
+         Long.parseLong(spoolMaxBytes);
+      }
+
+      String spoolMaxAge = props.getProperty(SPOOL_MAX_AGE_PROPERTY, "").trim();
+      if(!spoolMaxAge.isEmpty()) {
+         Long.parseLong(spoolMaxAge);
+      }
+
+      String sendQueueCapacity = props.getProperty(SEND_QUEUE_CAPACITY_PROPERTY, "").trim();
+      if(!sendQueueCapacity.isEmpty()) {
+         Integer.parseInt(sendQueueCapacity);
+      }
+
+      String sendQueueOverflow = props.getProperty(SEND_QUEUE_OVERFLOW_PROPERTY, "").trim();
+      if(!sendQueueOverflow.isEmpty()) {
+         SendQueue.OverflowPolicy.valueOf(sendQueueOverflow.toUpperCase());
+      }
+
+      String buildParallelism = props.getProperty(BUILD_PARALLELISM_PROPERTY, "").trim();
+      if(!buildParallelism.isEmpty() && Integer.parseInt(buildParallelism) < 0) {
+         throw new IllegalArgumentException("The 'buildParallelism' must be >= 0");
+      }
+
+      String asyncSendThreads = props.getProperty(ASYNC_SEND_THREADS_PROPERTY, "").trim();
+      if(!asyncSendThreads.isEmpty() && Integer.parseInt(asyncSendThreads) < 0) {
+         throw new IllegalArgumentException("The 'asyncSendThreads' must be >= 0");
+      }
+
+      String maxReportBytes = props.getProperty(MAX_REPORT_BYTES_PROPERTY, "").trim();
+      if(!maxReportBytes.isEmpty() && Integer.parseInt(maxReportBytes) < 0) {
+         throw new IllegalArgumentException("The 'maxReportBytes' must be >= 0");
+      }
+
+      String slowCycleMillis = props.getProperty(SLOW_CYCLE_MILLIS_PROPERTY, "").trim();
+      if(!slowCycleMillis.isEmpty() && Long.parseLong(slowCycleMillis) < 0L) {
+         throw new IllegalArgumentException("The 'slowCycleMillis' must be >= 0");
+      }
+
+      String gaugeTimeoutMillis = props.getProperty(GAUGE_TIMEOUT_MILLIS_PROPERTY, "").trim();
+      if(!gaugeTimeoutMillis.isEmpty() && Long.parseLong(gaugeTimeoutMillis) < 0L) {
+         throw new IllegalArgumentException("The 'gaugeTimeoutMillis' must be >= 0");
+      }
+
+      String gaugeThreads = props.getProperty(GAUGE_THREADS_PROPERTY, "").trim();
+      if(!gaugeThreads.isEmpty() && Integer.parseInt(gaugeThreads) < 1) {
+         throw new IllegalArgumentException("The 'gaugeThreads' must be > 0");
+      }
+
+      String gaugeTimeoutFallback = props.getProperty(GAUGE_TIMEOUT_FALLBACK_PROPERTY, "").trim();
+      if(!gaugeTimeoutFallback.isEmpty()) {
+         GaugeEvaluator.Fallback.valueOf(gaugeTimeoutFallback.toUpperCase());
+      }
+
+      String gaugeAbsoluteEpsilon = props.getProperty(GAUGE_ABSOLUTE_EPSILON_PROPERTY, "").trim();
+      if(!gaugeAbsoluteEpsilon.isEmpty() && Double.parseDouble(gaugeAbsoluteEpsilon) < 0.0) {
+         throw new IllegalArgumentException("The 'gaugeAbsoluteEpsilon' must be >= 0");
+      }
+
+      String gaugeRelativeEpsilon = props.getProperty(GAUGE_RELATIVE_EPSILON_PROPERTY, "").trim();
+      if(!gaugeRelativeEpsilon.isEmpty() && Double.parseDouble(gaugeRelativeEpsilon) < 0.0) {
+         throw new IllegalArgumentException("The 'gaugeRelativeEpsilon' must be >= 0");
+      }
+
+      String quantiles = props.getProperty(QUANTILES_PROPERTY, "").trim();
+      if(!quantiles.isEmpty()) {
+         validateQuantiles(parseQuantiles(quantiles));
+      }
+
+      String hdrSignificantDigits = props.getProperty(HDR_SIGNIFICANT_DIGITS_PROPERTY, "").trim();
+      String hdrMaxValue = props.getProperty(HDR_MAX_VALUE_PROPERTY, "").trim();
+      if(!hdrSignificantDigits.isEmpty() || !hdrMaxValue.isEmpty()) {
+         new HDRPrecision(hdrSignificantDigits.isEmpty() ? DEFAULT_HDR_SIGNIFICANT_DIGITS : Integer.parseInt(hdrSignificantDigits),
+                 hdrMaxValue.isEmpty() ? 0L : Long.parseLong(hdrMaxValue));
+      }
+
+      String refreshIntervals = props.getProperty(REFRESH_INTERVALS_PROPERTY, "").trim();
+      if(!refreshIntervals.isEmpty() && Integer.parseInt(refreshIntervals) < 0) {
+         throw new IllegalArgumentException("The 'refreshIntervals' must be >= 0");
+      }
+
       return props;
    }
 
@@ -169,15 +462,7 @@ public abstract class Builder {
     * @param registry The registry to report.
     */
    protected Builder(final URI uri, final MetricRegistry registry) {
-      this.uri = uri;
-      this.registry = registry;
-      this.clock = Clock.defaultClock();
-      this.rateUnit = TimeUnit.SECONDS;
-      this.durationUnit = TimeUnit.MILLISECONDS;
-      this.filter = MetricFilter.ALL;
-      this.application = null;
-      this.host = null;
-      this.instance = null;
+      super(uri, registry);
    }
 
    /**
@@ -241,16 +526,133 @@ public abstract class Builder {
          convertDurationsTo(unit);
       }
 
-      boolean deflate = props.getProperty(DEFLATE_PROPERTY, "false").equalsIgnoreCase("true");
-      withDeflate(deflate);
+      withCompressor(ReportCompressor.fromConfig(props.getProperty(DEFLATE_PROPERTY, "false"), registry::getNames));
 
       boolean skipUnchanged = props.getProperty(SKIP_UNCHANGED_PROPERTY, "false").equalsIgnoreCase("true");
       skipUnchangedMetrics(skipUnchanged);
 
+      boolean skipUnchangedGauges = props.getProperty(SKIP_UNCHANGED_GAUGES_PROPERTY, "false").equalsIgnoreCase("true");
+      if(skipUnchangedGauges) {
+         String gaugeAbsoluteEpsilon = props.getProperty(GAUGE_ABSOLUTE_EPSILON_PROPERTY, "").trim();
+         String gaugeRelativeEpsilon = props.getProperty(GAUGE_RELATIVE_EPSILON_PROPERTY, "").trim();
+         skipUnchangedGauges(gaugeAbsoluteEpsilon.isEmpty() ? 0.0 : Double.parseDouble(gaugeAbsoluteEpsilon),
+                 gaugeRelativeEpsilon.isEmpty() ? 0.0 : Double.parseDouble(gaugeRelativeEpsilon));
+      }
+
+      String refreshIntervals = props.getProperty(REFRESH_INTERVALS_PROPERTY, "").trim();
+      if(!refreshIntervals.isEmpty()) {
+         withRefreshIntervals(Integer.parseInt(refreshIntervals));
+      }
+
+      String quantiles = props.getProperty(QUANTILES_PROPERTY, "").trim();
+      if(!quantiles.isEmpty()) {
+         withQuantiles(parseQuantiles(quantiles));
+      }
+
       String hdrReportStr = props.getProperty(HDR_REPORT_PROPERTY, "").trim();
       if(!hdrReportStr.isEmpty()) {
          setHdrReport(EssemReporter.HdrReport.valueOf(hdrReportStr.toUpperCase()));
       }
+
+      String hdrEncodingStr = props.getProperty(HDR_ENCODING_PROPERTY, "").trim();
+      if(!hdrEncodingStr.isEmpty()) {
+         setHdrEncoding(EssemReporter.HdrEncoding.valueOf(hdrEncodingStr.toUpperCase()));
+      }
+
+      boolean lean = props.getProperty(LEAN_PROPERTY, "false").equalsIgnoreCase("true");
+      withLeanReports(lean);
+
+      String hdrConsumer = props.getProperty(HDR_CONSUMER_PROPERTY, "").trim();
+      if(!hdrConsumer.isEmpty()) {
+         withHdrConsumer(hdrConsumer);
+      }
+
+      String hdrSignificantDigits = props.getProperty(HDR_SIGNIFICANT_DIGITS_PROPERTY, "").trim();
+      String hdrMaxValue = props.getProperty(HDR_MAX_VALUE_PROPERTY, "").trim();
+      if(!hdrSignificantDigits.isEmpty() || !hdrMaxValue.isEmpty()) {
+         withHdrPrecision(hdrSignificantDigits.isEmpty() ? DEFAULT_HDR_SIGNIFICANT_DIGITS : Integer.parseInt(hdrSignificantDigits),
+                 hdrMaxValue.isEmpty() ? 0L : Long.parseLong(hdrMaxValue));
+      }
+
+      String asyncSendThreads = props.getProperty(ASYNC_SEND_THREADS_PROPERTY, "").trim();
+      if(!asyncSendThreads.isEmpty() && Integer.parseInt(asyncSendThreads) > 0) {
+         withTransport(new URLConnectionTransport(Integer.parseInt(asyncSendThreads)));
+      }
+
+      boolean streaming = props.getProperty(STREAMING_PROPERTY, "false").equalsIgnoreCase("true");
+      withStreaming(streaming);
+
+      boolean nameDictionary = props.getProperty(NAME_DICTIONARY_PROPERTY, "false").equalsIgnoreCase("true");
+      withNameDictionary(nameDictionary);
+
+      boolean reservoirFootprint = props.getProperty(RESERVOIR_FOOTPRINT_PROPERTY, "false").equalsIgnoreCase("true");
+      withReservoirFootprint(reservoirFootprint);
+
+      String spoolDirectory = props.getProperty(SPOOL_DIRECTORY_PROPERTY, "").trim();
+      if(!spoolDirectory.isEmpty()) {
+         String spoolMaxBytes = props.getProperty(SPOOL_MAX_BYTES_PROPERTY, "").trim();
+         String spoolMaxAge = props.getProperty(SPOOL_MAX_AGE_PROPERTY, "").trim();
+         withSpool(new File(spoolDirectory),
+                 spoolMaxBytes.isEmpty() ? DEFAULT_SPOOL_MAX_BYTES : Long.parseLong(spoolMaxBytes),
+                 spoolMaxAge.isEmpty() ? DEFAULT_SPOOL_MAX_AGE_MILLIS : TimeUnit.SECONDS.toMillis(Long.parseLong(spoolMaxAge)));
+      }
+
+      String sendQueueCapacity = props.getProperty(SEND_QUEUE_CAPACITY_PROPERTY, "").trim();
+      if(!sendQueueCapacity.isEmpty()) {
+         String sendQueueOverflow = props.getProperty(SEND_QUEUE_OVERFLOW_PROPERTY, "").trim();
+         withSendQueue(Integer.parseInt(sendQueueCapacity),
+                 sendQueueOverflow.isEmpty() ? SendQueue.OverflowPolicy.DROP_OLDEST :
+                         SendQueue.OverflowPolicy.valueOf(sendQueueOverflow.toUpperCase()));
+      }
+
+      String buildParallelism = props.getProperty(BUILD_PARALLELISM_PROPERTY, "").trim();
+      if(!buildParallelism.isEmpty()) {
+         withBuildParallelism(Integer.parseInt(buildParallelism));
+      }
+
+      String maxReportBytes = props.getProperty(MAX_REPORT_BYTES_PROPERTY, "").trim();
+      if(!maxReportBytes.isEmpty()) {
+         withMaxReportBytes(Integer.parseInt(maxReportBytes));
+      }
+
+      String slowCycleMillis = props.getProperty(SLOW_CYCLE_MILLIS_PROPERTY, "").trim();
+      if(!slowCycleMillis.isEmpty()) {
+         withSlowCycleLog(Long.parseLong(slowCycleMillis));
+      }
+
+      String gaugeTimeoutMillis = props.getProperty(GAUGE_TIMEOUT_MILLIS_PROPERTY, "").trim();
+      if(!gaugeTimeoutMillis.isEmpty()) {
+         String gaugeThreads = props.getProperty(GAUGE_THREADS_PROPERTY, "").trim();
+         String gaugeTimeoutFallback = props.getProperty(GAUGE_TIMEOUT_FALLBACK_PROPERTY, "").trim();
+         withGaugeTimeout(Long.parseLong(gaugeTimeoutMillis),
+                 gaugeThreads.isEmpty() ? DEFAULT_GAUGE_THREADS : Integer.parseInt(gaugeThreads),
+                 gaugeTimeoutFallback.isEmpty() ? GaugeEvaluator.Fallback.LAST_VALUE :
+                         GaugeEvaluator.Fallback.valueOf(gaugeTimeoutFallback.toUpperCase()));
+      }
+   }
+
+   /**
+    * Parses a comma-separated list of quantiles.
+    * @param quantiles The quantiles string.
+    * @return The quantiles.
+    * @throws NumberFormatException if a quantile is not a number.
+    */
+   private static double[] parseQuantiles(final String quantiles) {
+      return Splitter.on(',').omitEmptyStrings().trimResults().splitToList(quantiles)
+              .stream().mapToDouble(Double::parseDouble).toArray();
+   }
+
+   /**
+    * Validates quantiles.
+    * @param quantiles The quantiles.
+    * @throws IllegalArgumentException if a quantile is not in {@code [0.0, 1.0]}.
+    */
+   private static void validateQuantiles(final double[] quantiles) {
+      for(double quantile : quantiles) {
+         if(!(quantile >= 0.0 && quantile <= 1.0)) {
+            throw new IllegalArgumentException("Quantiles must be in [0.0, 1.0]");
+         }
+      }
    }
 
    /**
@@ -399,6 +801,21 @@ public abstract class Builder {
     */
    public Builder withDeflate(final boolean deflate) {
       this.deflate = deflate;
+      this.compressor = null;
+      return this;
+   }
+
+   /**
+    * Configures the strategy used to compress sent reports.
+    * <p>
+    *    If not configured, and 'deflate' is set, reports are deflated with the best compression.
+    * </p>
+    * @param compressor The compressor, or {@code null} to send reports uncompressed.
+    * @return A self-reference.
+    */
+   public Builder withCompressor(final ReportCompressor compressor) {
+      this.compressor = compressor;
+      this.deflate = compressor != null;
       return this;
    }
 
@@ -413,6 +830,57 @@ public abstract class Builder {
       return this;
    }
 
+   /**
+    * Configures the reporter to skip numeric gauges with values unchanged since the last report.
+    * <p>
+    *    A value is unchanged if it differs from the last reported value by no more than the absolute epsilon,
+    *    or by no more than the relative epsilon times the last reported value. With both {@code 0},
+    *    only identical values are skipped.
+    * </p>
+    * @param absoluteEpsilon The maximum absolute difference.
+    * @param relativeEpsilon The maximum relative difference.
+    * @return A self-reference.
+    */
+   public Builder skipUnchangedGauges(final double absoluteEpsilon, final double relativeEpsilon) {
+      if(absoluteEpsilon < 0.0 || relativeEpsilon < 0.0) {
+         throw new IllegalArgumentException("The epsilon must be >= 0");
+      }
+      this.skipUnchangedGauges = true;
+      this.gaugeAbsoluteEpsilon = absoluteEpsilon;
+      this.gaugeRelativeEpsilon = relativeEpsilon;
+      return this;
+   }
+
+   /**
+    * Configures the maximum number of consecutive intervals an unchanged metric is skipped.
+    * After that, it is reported, even if unchanged, so the server is never stale for longer than that.
+    * @param refreshIntervals The number of intervals, or {@code 0} (the default) to skip unchanged metrics indefinitely.
+    * @return A self-reference.
+    */
+   public Builder withRefreshIntervals(final int refreshIntervals) {
+      if(refreshIntervals < 0) {
+         throw new IllegalArgumentException("The 'refreshIntervals' must be >= 0");
+      }
+      this.refreshIntervals = refreshIntervals;
+      return this;
+   }
+
+   /**
+    * Configures the quantiles reported for histograms and timers.
+    * <p>
+    *    The median, 75th, 95th, 98th, 99th and 99.9th percentiles are reported in their dedicated fields.
+    *    Any other quantile is reported in the repeated {@code quantile} field.
+    *    By default, only these six are reported. Default quantiles not configured are not reported.
+    * </p>
+    * @param quantiles The quantiles, each in {@code [0.0, 1.0]}.
+    * @return A self-reference.
+    */
+   public Builder withQuantiles(final double... quantiles) {
+      validateQuantiles(quantiles);
+      this.quantiles = quantiles.clone();
+      return this;
+   }
+
    /**
     * Sets the HDR histogram report mode. Default is {@code SNAPSHOT}.
     * @param hdrReport The HDR report mode.
@@ -423,6 +891,252 @@ public abstract class Builder {
       return this;
    }
 
+   /**
+    * Sets the HDR histogram encoding. Default is {@code COMPRESSED}.
+    * <p>
+    *    When reports are compressed, {@code RAW} avoids compressing each histogram
+    *    before the report is compressed again.
+    * </p>
+    * @param hdrEncoding The HDR encoding.
+    * @return A self-reference.
+    */
+   public Builder setHdrEncoding(final EssemReporter.HdrEncoding hdrEncoding) {
+      this.hdrEncoding = hdrEncoding;
+      return this;
+   }
+
+   /**
+    * Configures lean reports, for servers that derive statistics from HDR histograms and rates from counts.
+    * <p>
+    *    Meters report only their count. Histograms and timers report only their count and HDR histogram.
+    *    Histograms and timers without an HDR histogram, or if HDR reporting is disabled, are reported in full.
+    * </p>
+    * @param lean Should reports be lean?
+    * @return A self-reference.
+    */
+   public Builder withLeanReports(final boolean lean) {
+      this.lean = lean;
+      return this;
+   }
+
+   /**
+    * Configures the name of the consumer that reads intervals from HDR reservoirs.
+    * <p>
+    *    Reading a snapshot starts a new interval. Reporters that share a registry must have
+    *    different consumer names, or each takes values from the other's intervals.
+    * </p>
+    * <p>
+    *    The consumer is removed when the reporter is stopped from essem histograms and timers in the registry.
+    *    For reservoirs used by other metrics, the caller must call {@code removeConsumer}.
+    * </p>
+    * @param hdrConsumer The consumer name, or {@code null} for the default consumer.
+    * @return A self-reference.
+    */
+   public Builder withHdrConsumer(final String hdrConsumer) {
+      this.hdrConsumer = hdrConsumer;
+      return this;
+   }
+
+   /**
+    * Configures the precision of all reported HDR histograms not matched by a pattern.
+    * See {@link HDRPrecision} for error bounds.
+    * @param significantDigits The number of significant digits (0-5). Histograms recorded with more digits are downsampled.
+    * @param maxValue The maximum value, or {@code 0} if the value range is not capped.
+    * @return A self-reference.
+    */
+   public Builder withHdrPrecision(final int significantDigits, final long maxValue) {
+      this.hdrPrecision = new HDRPrecision(significantDigits, maxValue);
+      return this;
+   }
+
+   /**
+    * Configures the precision of reported HDR histograms for metrics with names that match a pattern.
+    * Patterns are matched in the order they are added.
+    * See {@link HDRPrecision} for error bounds.
+    * @param pattern A regular expression that matches the complete metric name.
+    * @param significantDigits The number of significant digits (0-5). Histograms recorded with more digits are downsampled.
+    * @param maxValue The maximum value, or {@code 0} if the value range is not capped.
+    * @return A self-reference.
+    */
+   public Builder withHdrPrecision(final String pattern, final int significantDigits, final long maxValue) {
+      this.hdrPatternPrecisions.add(new HDRPrecision(Pattern.compile(pattern), significantDigits, maxValue));
+      return this;
+   }
+
+   /**
+    * Sets the transport used to send reports.
+    * Default is a {@link URLConnectionTransport} that sends on the calling thread
+    * and reuses connections through the JDK's keep-alive cache.
+    * @param transport The transport.
+    * @return A self-reference.
+    */
+   public Builder withTransport(final ReportTransport transport) {
+      this.transport = transport;
+      return this;
+   }
+
+   /**
+    * Configures streaming of reports.
+    * <p>
+    *    When enabled, reports are serialized (and deflated, if configured) directly
+    *    into a chunked request body instead of to a byte array before send.
+    *    This avoids holding several copies of a large report in memory. Default is {@code false}.
+    * </p>
+    * @param streaming Should reports be streamed?
+    * @return A self-reference.
+    */
+   public Builder withStreaming(final boolean streaming) {
+      this.streaming = streaming;
+      return this;
+   }
+
+   /**
+    * Configures the name dictionary.
+    * <p>
+    *    When enabled, metrics are reported with an integer id in place of the name
+    *    once the server has acknowledged a report that defines the name.
+    *    The server must support the name dictionary extension. Default is {@code false}.
+    * </p>
+    * @param nameDictionary Should the name dictionary be used?
+    * @return A self-reference.
+    * @see NameDictionary
+    */
+   public Builder withNameDictionary(final boolean nameDictionary) {
+      this.nameDictionary = nameDictionary;
+      return this;
+   }
+
+   /**
+    * Configures the reservoir footprint gauge.
+    * <p>
+    *    When enabled, the reporter's metrics include {@code reservoir-footprint-bytes}, the estimated memory
+    *    retained by the registry's essem histograms and timers. Each read visits every metric in the registry,
+    *    so it is not free for large registries. Default is {@code false}.
+    * </p>
+    * @param reservoirFootprint Should the reservoir footprint be reported?
+    * @return A self-reference.
+    */
+   public Builder withReservoirFootprint(final boolean reservoirFootprint) {
+      this.reservoirFootprint = reservoirFootprint;
+      return this;
+   }
+
+   /**
+    * Configures a durable spool for reports that fail to send.
+    * <p>
+    *    Failed reports are written to segment files in the directory and replayed,
+    *    oldest first, in the background when the endpoint is available again.
+    * </p>
+    * @param directory The spool directory.
+    * @param maxBytes The maximum number of bytes spooled. The oldest reports are dropped when exceeded.
+    * @param maxAgeMillis The maximum age of a spooled report. Older reports are dropped.
+    * @return A self-reference.
+    */
+   public Builder withSpool(final File directory, final long maxBytes, final long maxAgeMillis) {
+      this.spoolDirectory = directory;
+      this.spoolMaxBytes = maxBytes;
+      this.spoolMaxAgeMillis = maxAgeMillis;
+      return this;
+   }
+
+   /**
+    * Configures a bounded queue and dedicated thread for sending reports.
+    * <p>
+    *    Reports are built on the reporting thread and handed to the sender thread, so
+    *    a slow endpoint does not delay the next snapshot. By default, reports are sent
+    *    on the reporting thread.
+    * </p>
+    * @param capacity The maximum number of queued reports. If {@code 0}, reports are sent on the reporting thread.
+    * @param overflowPolicy Selects the report dropped when the queue is full.
+    * @return A self-reference.
+    */
+   public Builder withSendQueue(final int capacity, final SendQueue.OverflowPolicy overflowPolicy) {
+      this.sendQueueCapacity = capacity;
+      this.sendQueueOverflowPolicy = overflowPolicy;
+      return this;
+   }
+
+   /**
+    * Configures parallel report building.
+    * <p>
+    *    Metrics are partitioned, in name order, into shards that are snapshot and encoded
+    *    concurrently on a dedicated pool, then joined in order. This is worthwhile for registries
+    *    with many thousands of histograms and timers. By default, reports are built on the reporting thread.
+    * </p>
+    * @param parallelism The maximum number of build threads. If {@code 0}, reports are built on the reporting thread.
+    * @return A self-reference.
+    */
+   public Builder withBuildParallelism(final int parallelism) {
+      if(parallelism < 0) {
+         throw new IllegalArgumentException("The 'parallelism' must be >= 0");
+      }
+      this.buildParallelism = parallelism;
+      return this;
+   }
+
+   /**
+    * Configures the maximum report size.
+    * <p>
+    *    A report larger than this is split into several complete reports, each with the
+    *    same timestamp and identity fields. Chunks are sent concurrently when the transport
+    *    supports asynchronous send (for example, a {@link URLConnectionTransport} with send threads) and are retried independently.
+    *    The size is measured before compression. A single metric larger than the maximum is sent alone.
+    *    By default, reports are never split.
+    * </p>
+    * @param maxReportBytes The maximum size in bytes. If {@code 0}, reports are never split.
+    * @return A self-reference.
+    */
+   public Builder withMaxReportBytes(final int maxReportBytes) {
+      if(maxReportBytes < 0) {
+         throw new IllegalArgumentException("The 'maxReportBytes' must be >= 0");
+      }
+      this.maxReportBytes = maxReportBytes;
+      return this;
+   }
+
+   /**
+    * Configures logging of slow report cycles.
+    * <p>
+    *    When a cycle takes longer than the threshold, a warning is logged with the time
+    *    for each phase and the metrics that took the longest to snapshot, evaluate and encode.
+    *    Tracking per-metric time adds a map update per metric to every cycle. By default, slow cycles are not logged.
+    * </p>
+    * @param thresholdMillis The threshold in milliseconds. If {@code 0}, slow cycles are not logged.
+    * @return A self-reference.
+    */
+   public Builder withSlowCycleLog(final long thresholdMillis) {
+      if(thresholdMillis < 0L) {
+         throw new IllegalArgumentException("The 'thresholdMillis' must be >= 0");
+      }
+      this.slowCycleMillis = thresholdMillis;
+      return this;
+   }
+
+   /**
+    * Configures concurrent, deadline-bounded gauge evaluation.
+    * <p>
+    *    By default, gauges are evaluated on the reporting thread with no timeout,
+    *    so a gauge that blocks, for example, on a hung file system, stalls reporting.
+    * </p>
+    * @param timeoutMillis The maximum time to wait for a gauge, in milliseconds. If {@code 0}, gauges are evaluated inline.
+    * @param threads The number of evaluation threads.
+    * @param fallback Selects the value reported when a gauge times out.
+    * @return A self-reference.
+    * @see GaugeEvaluator
+    */
+   public Builder withGaugeTimeout(final long timeoutMillis, final int threads, final GaugeEvaluator.Fallback fallback) {
+      if(timeoutMillis < 0L) {
+         throw new IllegalArgumentException("The 'timeoutMillis' must be >= 0");
+      }
+      if(threads < 1) {
+         throw new IllegalArgumentException("The 'threads' must be > 0");
+      }
+      this.gaugeTimeoutMillis = timeoutMillis;
+      this.gaugeThreads = threads;
+      this.gaugeTimeoutFallback = fallback;
+      return this;
+   }
+
    /**
     * @return The report URI or {@code null}.
     */
@@ -501,6 +1215,13 @@ public abstract class Builder {
       return deflate;
    }
 
+   /**
+    * @return The configured compressor or {@code null} if none is configured.
+    */
+   public ReportCompressor getCompressor() {
+      return compressor;
+   }
+
    /**
     * @return The report rate unit.
     */
@@ -522,6 +1243,20 @@ public abstract class Builder {
       return skipUnchangedMetrics;
    }
 
+   /**
+    * @return Is skip of unchanged gauges configured?
+    */
+   public boolean isSkipUnchangedGauges() {
+      return skipUnchangedGauges;
+   }
+
+   /**
+    * @return The maximum consecutive intervals an unchanged metric is skipped, or {@code 0} if there is no limit.
+    */
+   public int getRefreshIntervals() {
+      return refreshIntervals;
+   }
+
    /**
     * @return The metric filter or {@code null}.
     */
@@ -536,29 +1271,114 @@ public abstract class Builder {
       return hdrReport;
    }
 
+   /**
+    * @return The HDR histogram encoding.
+    */
+   public EssemReporter.HdrEncoding getHdrEncoding() {
+      return hdrEncoding;
+   }
+
+   /**
+    * @return Are lean reports configured?
+    */
+   public boolean isLean() {
+      return lean;
+   }
+
+   /**
+    * @return The HDR reservoir consumer name, or {@code null} for the default consumer.
+    */
+   public String getHdrConsumer() {
+      return hdrConsumer;
+   }
+
+   /**
+    * @return The configured HDR precisions, in match order.
+    */
+   public ImmutableList<HDRPrecision> getHdrPrecisions() {
+      return hdrPrecisions();
+   }
+
+   /**
+    * @return The reported quantiles.
+    */
+   public double[] getQuantiles() {
+      return quantiles.clone();
+   }
+
+   /**
+    * @return The transport or {@code null} if the default transport is configured.
+    */
+   public ReportTransport getTransport() {
+      return transport;
+   }
+
+   /**
+    * @return Is report streaming configured?
+    */
+   public boolean isStreaming() {
+      return streaming;
+   }
+
+   /**
+    * @return Is the name dictionary configured?
+    */
+   public boolean isNameDictionary() {
+      return nameDictionary;
+   }
+
+   /**
+    * @return Is the reservoir footprint gauge configured?
+    */
+   public boolean isReservoirFootprint() {
+      return reservoirFootprint;
+   }
+
+   /**
+    * @return The spool directory or {@code null} if spooling is not configured.
+    */
+   public File getSpoolDirectory() {
+      return spoolDirectory;
+   }
+
+   /**
+    * @return The send queue capacity or {@code 0} if reports are sent on the reporting thread.
+    */
+   public int getSendQueueCapacity() {
+      return sendQueueCapacity;
+   }
+
+   /**
+    * @return The build parallelism or {@code 0} if reports are built on the reporting thread.
+    */
+   public int getBuildParallelism() {
+      return buildParallelism;
+   }
+
+   /**
+    * @return The maximum report size or {@code 0} if reports are never split.
+    */
+   public int getMaxReportBytes() {
+      return maxReportBytes;
+   }
+
+   /**
+    * @return The slow report cycle threshold in milliseconds or {@code 0} if slow cycles are not logged.
+    */
+   public long getSlowCycleMillis() {
+      return slowCycleMillis;
+   }
+
+   /**
+    * @return The gauge timeout in milliseconds or {@code 0} if gauges are evaluated inline.
+    */
+   public long getGaugeTimeoutMillis() {
+      return gaugeTimeoutMillis;
+   }
+
    /**
     * Builds a reporter instance.
     * @return The reporter.
     */
    public abstract EssemReporter build();
-
-   protected final URI uri;
-   protected final MetricRegistry registry;
-   protected String authValue;
-
-   protected Clock clock;
-   protected String application;
-   protected String host;
-   protected String instance;
-   protected String role;
-   protected String description;
-   protected Supplier<String> statusSupplier = () -> null;
-   protected Supplier<List<Alert>> alertSupplier = () -> null;
-
-   protected boolean deflate;
-   protected TimeUnit rateUnit;
-   protected TimeUnit durationUnit;
-   protected boolean skipUnchangedMetrics = false;
-   protected MetricFilter filter;
-   protected EssemReporter.HdrReport hdrReport = EssemReporter.HdrReport.SNAPSHOT;
 }
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2018 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.essem.reporter;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.Timer;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.CountingOutputStream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Compresses reports with zlib 'deflate' at a fixed level, reusing pooled {@code Deflater} instances.
+ */
+public class DeflateCompressor implements ReportCompressor {
+
+   /**
+    * Creates a compressor.
+    * @param level The deflate level (1-9).
+    */
+   public DeflateCompressor(final int level) {
+      this.level = level;
+   }
+
+   @Override
+   public byte[] compress(final byte[] report) {
+      try {
+         ByteArrayOutputStream baos = new ByteArrayOutputStream(report.length / 4 + 64);
+         compress(os -> os.write(report), baos);
+         return baos.toByteArray();
+      } catch(IOException ioe) {
+         throw new AssertionError("I/O exception on in-memory stream");
+      }
+   }
+
+   @Override
+   public void compress(final ReportTransport.BodyWriter writer, final OutputStream os) throws IOException {
+      final int level = selectLevel();
+      final Deflater deflater = acquire(level);
+      final long startNanos = System.nanoTime();
+      final long startCPUNanos = AdaptiveCompressor.currentThreadCPUNanos();
+      try {
+         CountingOutputStream compressed = new CountingOutputStream(os);
+         CountingOutputStream uncompressed = new CountingOutputStream(
+                 new DeflaterOutputStream(compressed, deflater, BUFFER_SIZE) {
+                    @Override
+                    public void close() throws IOException {
+                       finish();
+                    }
+                 });
+         writer.writeTo(uncompressed);
+         uncompressed.close();
+         final long elapsedNanos = System.nanoTime() - startNanos;
+         compressTimer.update(elapsedNanos, TimeUnit.NANOSECONDS);
+         bytesIn.inc(uncompressed.getCount());
+         bytesOut.inc(compressed.getCount());
+         lastBytesIn = uncompressed.getCount();
+         lastBytesOut = compressed.getCount();
+         completed(level, uncompressed.getCount(), compressed.getCount(),
+                 AdaptiveCompressor.currentThreadCPUNanos() - startCPUNanos);
+      } finally {
+         release(deflater);
+      }
+   }
+
+   @Override
+   public Map<String, Metric> getMetrics() {
+      return ImmutableMap.<String, Metric>builder()
+              .put("compress-time", compressTimer)
+              .put("compress-bytes-in", bytesIn)
+              .put("compress-bytes-out", bytesOut)
+              .put("compression-ratio", (Gauge<Double>)() ->
+                      lastBytesOut > 0L ? (double)lastBytesIn / (double)lastBytesOut : 0.0)
+              .build();
+   }
+
+   /**
+    * Selects the level for the next report.
+    * @return The level.
+    */
+   protected int selectLevel() {
+      return level;
+   }
+
+   /**
+    * Called after a report is compressed.
+    * @param level The level used.
+    * @param bytesIn The uncompressed size.
+    * @param bytesOut The compressed size.
+    * @param cpuNanos The CPU time used by compression, or elapsed time if CPU time is unavailable.
+    */
+   protected void completed(final int level, final long bytesIn, final long bytesOut, final long cpuNanos) {
+   }
+
+   /**
+    * Prepares a reset deflater for use. Called before any input is supplied.
+    * @param deflater The deflater.
+    */
+   protected void prepare(final Deflater deflater) {
+   }
+
+   /**
+    * Gets a deflater from the pool or creates one, configured for the level.
+    * @param level The level.
+    * @return The deflater.
+    */
+   private Deflater acquire(final int level) {
+      Deflater deflater = pool.poll();
+      if(deflater == null) {
+         deflater = new Deflater(level, false); //nowrap = false
+      } else {
+         deflater.setLevel(level);
+      }
+      prepare(deflater);
+      return deflater;
+   }
+
+   /**
+    * Resets a deflater and returns it to the pool.
+    * @param deflater The deflater.
+    */
+   private void release(final Deflater deflater) {
+      deflater.reset();
+      if(pool.size() < MAX_POOLED) {
+         pool.offer(deflater);
+      } else {
+         deflater.end();
+      }
+   }
+
+   /**
+    * The maximum number of pooled deflaters.
+    */
+   private static final int MAX_POOLED = 4;
+
+   /**
+    * The deflate output buffer size.
+    */
+   private static final int BUFFER_SIZE = 8192;
+
+   /**
+    * The configured level.
+    */
+   protected final int level;
+
+   private final ConcurrentLinkedQueue<Deflater> pool = new ConcurrentLinkedQueue<>();
+   private final Timer compressTimer = new org.attribyte.essem.metrics.Timer();
+   private final Counter bytesIn = new Counter();
+   private final Counter bytesOut = new Counter();
+   private volatile long lastBytesIn;
+   private volatile long lastBytesOut;
+}
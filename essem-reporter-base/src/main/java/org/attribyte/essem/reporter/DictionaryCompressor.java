@@ -0,0 +1,184 @@
+/*
+ * Copyright 2018 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.essem.reporter;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Metric;
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.zip.Adler32;
+import java.util.zip.Deflater;
+
+/**
+ * Compresses reports with zlib 'deflate' and a preset dictionary trained on metric names.
+ * <p>
+ *    Reports are small and repeat the same metric names every interval, so a preset dictionary
+ *    lets even the first occurrence of a name be encoded as a back-reference.
+ *    The server must inflate with exactly the same dictionary. The zlib header of each
+ *    report carries the dictionary id (the Adler-32 checksum of the dictionary), available
+ *    with {@link #getDictionaryId()}, so the server can select the right one.
+ * </p>
+ * <p>
+ *    The dictionary is trained when the first report is compressed and changes only when {@link #retrain()} is called.
+ * </p>
+ */
+public class DictionaryCompressor extends DeflateCompressor {
+
+   /**
+    * Creates a dictionary compressor.
+    * @param level The deflate level (1-9).
+    * @param names Supplies the metric names used to train the dictionary.
+    */
+   public DictionaryCompressor(final int level, final Supplier<? extends Collection<String>> names) {
+      super(level);
+      this.names = names;
+   }
+
+   /**
+    * Rebuilds the dictionary from the current metric names.
+    * <p>
+    *    The server must be given the new dictionary before reports compressed with it arrive.
+    * </p>
+    * @return The new dictionary.
+    */
+   public byte[] retrain() {
+      byte[] dictionary = train(names.get());
+      this.dictionary = dictionary;
+      Adler32 adler = new Adler32();
+      adler.update(dictionary);
+      this.dictionaryId = adler.getValue();
+      return dictionary;
+   }
+
+   /**
+    * Gets the dictionary, training it if required.
+    * @return A copy of the dictionary.
+    */
+   public byte[] getDictionary() {
+      return currentDictionary().clone();
+   }
+
+   /**
+    * Gets the dictionary id: the Adler-32 checksum of the dictionary, as found in the zlib header.
+    * @return The dictionary id.
+    */
+   public long getDictionaryId() {
+      currentDictionary();
+      return dictionaryId;
+   }
+
+   @Override
+   protected void prepare(final Deflater deflater) {
+      deflater.setDictionary(currentDictionary());
+   }
+
+   @Override
+   public Map<String, Metric> getMetrics() {
+      return ImmutableMap.<String, Metric>builder()
+              .putAll(super.getMetrics())
+              .put("compress-dictionary-bytes", (Gauge<Integer>)() -> {
+                 byte[] dictionary = this.dictionary;
+                 return dictionary != null ? dictionary.length : 0;
+              })
+              .build();
+   }
+
+   /**
+    * Gets the current dictionary, training it on first use.
+    * @return The dictionary.
+    */
+   private byte[] currentDictionary() {
+      byte[] dictionary = this.dictionary;
+      if(dictionary == null) {
+         synchronized(this) {
+            dictionary = this.dictionary;
+            if(dictionary == null) {
+               dictionary = retrain();
+            }
+         }
+      }
+      return dictionary;
+   }
+
+   /**
+    * Builds a dictionary from metric names.
+    * <p>
+    *    Names are split into segments on '.', '-' and '_'. Segments are ordered by the number of
+    *    times they appear, with the most frequent last, because deflate encodes
+    *    matches near the end of the dictionary with the shortest distances.
+    *    Segments that do not fit in {@value #MAX_DICTIONARY_BYTES} bytes are discarded, least frequent first.
+    * </p>
+    * @param names The metric names.
+    * @return The dictionary.
+    */
+   static byte[] train(final Collection<String> names) {
+      Map<String, Integer> frequency = Maps.newHashMap();
+      for(String name : names) {
+         for(String segment : SEGMENT_SPLITTER.split(name)) {
+            if(segment.length() > 1) {
+               frequency.merge(segment, 1, Integer::sum);
+            }
+         }
+      }
+
+      List<Map.Entry<String, Integer>> segments = new ArrayList<>(frequency.entrySet());
+      segments.sort((a, b) -> {
+         int cmp = Integer.compare(b.getValue(), a.getValue());
+         return cmp != 0 ? cmp : a.getKey().compareTo(b.getKey());
+      });
+
+      List<byte[]> selected = new ArrayList<>();
+      int size = 0;
+      for(Map.Entry<String, Integer> segment : segments) {
+         byte[] bytes = segment.getKey().getBytes(StandardCharsets.UTF_8);
+         if(size + bytes.length > MAX_DICTIONARY_BYTES) {
+            break;
+         }
+         selected.add(bytes);
+         size += bytes.length;
+      }
+
+      byte[] dictionary = new byte[size];
+      int pos = size;
+      for(byte[] bytes : selected) { //Most frequent at the end...
+         pos -= bytes.length;
+         System.arraycopy(bytes, 0, dictionary, pos, bytes.length);
+      }
+      return dictionary;
+   }
+
+   /**
+    * The maximum dictionary size. Deflate can't reference anything further back than its 32K window.
+    */
+   static final int MAX_DICTIONARY_BYTES = 32 * 1024;
+
+   private static final Splitter SEGMENT_SPLITTER = Splitter.onPattern("[.\\-_]").omitEmptyStrings();
+
+   private final Supplier<? extends Collection<String>> names;
+   private volatile byte[] dictionary;
+   private volatile long dictionaryId;
+}
@@ -27,31 +27,45 @@ import com.codahale.metrics.Metric;
 import com.codahale.metrics.MetricFilter;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.MetricSet;
+import com.codahale.metrics.Sampling;
 import com.codahale.metrics.ScheduledReporter;
+import com.codahale.metrics.Snapshot;
 import com.codahale.metrics.Timer;
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Strings;
+import com.google.common.base.Throwables;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
-import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingOutputStream;
+import org.HdrHistogram.AbstractHistogram;
 import org.attribyte.essem.metrics.HDRReservoir;
+import org.attribyte.essem.metrics.IntervalConsumers;
+import org.attribyte.essem.metrics.ReservoirFootprintGauge;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
-import java.net.HttpURLConnection;
+import java.io.UncheckedIOException;
 import java.net.URI;
-import java.net.URL;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.SortedMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.zip.Deflater;
-import java.util.zip.DeflaterOutputStream;
 
 public abstract class EssemReporter extends ScheduledReporter implements MetricSet {
 
@@ -76,6 +90,129 @@ public abstract class EssemReporter extends ScheduledReporter implements MetricS
       SNAPSHOT
    }
 
+   /**
+    * Selects the encoding of reported HDR histograms.
+    */
+   public enum HdrEncoding {
+
+      /**
+       * Each histogram is individually compressed.
+       */
+      COMPRESSED,
+
+      /**
+       * Histograms are not compressed. Appropriate when the report is compressed.
+       */
+      RAW
+   }
+
+   /**
+    * Creates a reporter from a builder.
+    * @param builder The builder.
+    */
+   protected EssemReporter(final Builder builder) {
+      this((ReporterArguments)builder);
+   }
+
+   /**
+    * Creates a reporter from arguments.
+    * @param arguments The arguments.
+    */
+   private EssemReporter(final ReporterArguments arguments) {
+      super(arguments.registry, "essem-reporter", arguments.filter, arguments.rateUnit, arguments.durationUnit);
+      this.uri = arguments.uri;
+      this.authValue = arguments.authValue;
+      this.compressor = arguments.compressor != null ? arguments.compressor :
+              arguments.deflate ? new DeflateCompressor(Deflater.BEST_COMPRESSION) : null;
+      this.deflate = compressor != null;
+      this.clock = arguments.clock;
+      this.application = arguments.application;
+      this.host = arguments.host;
+      this.instance = arguments.instance;
+      this.role = arguments.role;
+      this.description = arguments.description;
+      this.statusSupplier = arguments.statusSupplier;
+      this.rateUnit = arguments.rateUnit;
+      this.durationUnit = arguments.durationUnit;
+      this.skipUnchangedMetrics = arguments.skipUnchangedMetrics;
+      this.skipUnchangedGauges = arguments.skipUnchangedGauges;
+      this.metricState = skipUnchangedMetrics || skipUnchangedGauges ?
+              new MetricState(arguments.gaugeAbsoluteEpsilon, arguments.gaugeRelativeEpsilon, arguments.refreshIntervals) : null;
+      this.hdrReport = arguments.hdrReport;
+      this.quantiles = arguments.quantiles.clone();
+      this.hdrEncoder = new HDREncoder(Math.max(1, arguments.buildParallelism));
+      this.hdrEncoding = arguments.hdrEncoding;
+      this.lean = arguments.lean;
+      this.hdrPrecisions = arguments.hdrPrecisions();
+      this.hdrConsumer = arguments.hdrConsumer;
+      this.alertSupplier = arguments.alertSupplier;
+      this.transport = arguments.transport != null ? arguments.transport : new URLConnectionTransport();
+      this.streaming = arguments.streaming;
+      this.maxReportBytes = arguments.maxReportBytes;
+      this.phases = new ReportPhases(arguments.slowCycleMillis);
+      this.cycle = phases.begin();
+      this.registry = arguments.registry;
+      this.index = new MetricIndex(arguments.filter);
+      registry.addListener(index);
+      if(metricState != null) {
+         registry.addListener(metricState);
+      }
+      this.gaugeEvaluator = arguments.gaugeTimeoutMillis > 0L ?
+              new GaugeEvaluator(arguments.gaugeThreads, arguments.gaugeTimeoutMillis, arguments.gaugeTimeoutFallback) : null;
+      this.nameDictionary = arguments.nameDictionary ? new NameDictionary() : null;
+      this.buildPool = arguments.buildParallelism > 0 ? new ForkJoinPool(arguments.buildParallelism, pool -> {
+         ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+         thread.setName("essem-build-" + thread.getPoolIndex());
+         return thread;
+      }, null, false) : null;
+      if(arguments.spoolDirectory != null) {
+         try {
+            this.spool = new ReportSpool(arguments.spoolDirectory, arguments.spoolMaxBytes, arguments.spoolMaxAgeMillis, this::send);
+         } catch(IOException ioe) {
+            throw new UncheckedIOException("Unable to open spool", ioe);
+         }
+      } else {
+         this.spool = null;
+      }
+      if(arguments.sendQueueCapacity > 0) {
+         this.sendQueue = new SendQueue<>("essem-sender", arguments.sendQueueCapacity, arguments.sendQueueOverflowPolicy,
+                 this::sendNow,
+                 pending -> pending.spool(this));
+      } else {
+         this.sendQueue = null;
+      }
+      ImmutableMap.Builder<String, Metric> metrics = ImmutableMap.<String, Metric>builder()
+              .put("reports", sendTimer)
+              .put("failed-reports", sendErrors)
+              .put("report-size-bytes", reportSize)
+              .put("skipped-unchanged", skippedUnchanged)
+              .put("report-count", (Gauge<Integer>)lastMetricCount::get)
+              .putAll(phases.getMetrics())
+              .putAll(transport.getMetrics());
+      if(arguments.reservoirFootprint) {
+         metrics.put("reservoir-footprint-bytes", new ReservoirFootprintGauge(registry));
+      }
+      if(compressor != null) {
+         metrics.putAll(compressor.getMetrics());
+      }
+      if(gaugeEvaluator != null) {
+         metrics.putAll(gaugeEvaluator.getMetrics());
+      }
+      if(nameDictionary != null) {
+         metrics.putAll(nameDictionary.getMetrics());
+      }
+      if(metricState != null) {
+         metrics.putAll(metricState.getMetrics());
+      }
+      if(spool != null) {
+         metrics.putAll(spool.getMetrics());
+      }
+      if(sendQueue != null) {
+         metrics.putAll(sendQueue.getMetrics());
+      }
+      this.metrics = metrics.build();
+   }
+
    protected EssemReporter(final URI uri,
                            final String authValue,
                            final boolean deflate,
@@ -93,22 +230,53 @@ public abstract class EssemReporter extends ScheduledReporter implements MetricS
                            final boolean skipUnchangedMetrics,
                            final HdrReport hdrReport,
                            final Supplier<List<Alert>> alertSupplier) {
-      super(registry, "essem-reporter", filter, rateUnit, durationUnit);
-      this.uri = uri;
-      this.authValue = authValue;
-      this.deflate = deflate;
-      this.clock = clock;
-      this.application = application;
-      this.host = host;
-      this.instance = instance;
-      this.role = role;
-      this.description = description;
-      this.statusSupplier = statusSupplier;
-      this.rateUnit = rateUnit;
-      this.durationUnit = durationUnit;
-      this.lastReportedCount = skipUnchangedMetrics ? Maps.newConcurrentMap() : null;
-      this.hdrReport = hdrReport;
-      this.alertSupplier = alertSupplier;
+      this(legacyArguments(uri, authValue, deflate, registry, clock, application, host, instance, role, description,
+              statusSupplier, filter, rateUnit, durationUnit, skipUnchangedMetrics, hdrReport, alertSupplier));
+   }
+
+   /**
+    * Creates the arguments for the legacy constructor.
+    * Arguments that are not specified have their default values.
+    * @return The arguments.
+    */
+   private static ReporterArguments legacyArguments(final URI uri,
+                                                    final String authValue,
+                                                    final boolean deflate,
+                                                    final MetricRegistry registry,
+                                                    final Clock clock,
+                                                    final String application,
+                                                    final String host,
+                                                    final String instance,
+                                                    final String role,
+                                                    final String description,
+                                                    final Supplier<String> statusSupplier,
+                                                    final MetricFilter filter,
+                                                    final TimeUnit rateUnit,
+                                                    final TimeUnit durationUnit,
+                                                    final boolean skipUnchangedMetrics,
+                                                    final HdrReport hdrReport,
+                                                    final Supplier<List<Alert>> alertSupplier) {
+      ReporterArguments arguments = new ReporterArguments(uri, registry);
+      arguments.authValue = authValue;
+      arguments.deflate = deflate;
+      arguments.clock = clock;
+      arguments.application = application;
+      arguments.host = host;
+      arguments.instance = instance;
+      arguments.role = role;
+      arguments.description = description;
+      if(statusSupplier != null) {
+         arguments.statusSupplier = statusSupplier;
+      }
+      arguments.filter = filter;
+      arguments.rateUnit = rateUnit;
+      arguments.durationUnit = durationUnit;
+      arguments.skipUnchangedMetrics = skipUnchangedMetrics;
+      arguments.hdrReport = hdrReport;
+      if(alertSupplier != null) {
+         arguments.alertSupplier = alertSupplier;
+      }
+      return arguments;
    }
 
    /**
@@ -117,80 +285,468 @@ public abstract class EssemReporter extends ScheduledReporter implements MetricS
     * @throws IOException on read error.
     */
    protected void discardInputAndClose(final InputStream is) throws IOException {
-      if(is != null) {
-         ByteStreams.toByteArray(is);
-         try {
-            is.close();
-         } catch(IOException ioe) {
-            //Ignore
-         }
-      }
+      URLConnectionTransport.discardInputAndClose(is);
    }
 
    /**
-    * Deflates bytes.
+    * Deflates bytes at the best compression level.
+    * <p>
+    *    Uses a shared {@link DeflateCompressor}, so deflaters are pooled and reused.
+    *    Reports are compressed with the configured {@link ReportCompressor}.
+    * </p>
     * @param b The bytes to deflate.
     * @return The deflated bytes.
     */
    protected static byte[] deflate(final byte[] b) {
-      try {
-         Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, false); //nowrap = false
-         ByteArrayOutputStream baos = new ByteArrayOutputStream();
-         DeflaterOutputStream dos = new DeflaterOutputStream(baos, deflater);
-         dos.write(b);
-         dos.close();
-         return baos.toByteArray();
-      } catch(IOException ioe) {
-         throw new AssertionError("I/O exception on in-memory stream");
+      return DEFLATE_COMPRESSOR.compress(b);
+   }
+
+   /**
+    * The compressor used by {@link #deflate(byte[])}.
+    */
+   private static final DeflateCompressor DEFLATE_COMPRESSOR = new DeflateCompressor(Deflater.BEST_COMPRESSION);
+
+   /**
+    * Creates the request headers for a report.
+    * @return The mutable headers.
+    */
+   private Map<String, String> newHeaders() {
+      Map<String, String> headers = Maps.newLinkedHashMap();
+      headers.put(CONTENT_TYPE_HEADER, PROTOBUF_CONTENT_TYPE);
+      if(!Strings.isNullOrEmpty(authValue)) {
+         headers.put(AUTHORIZATION_HEADER, authValue);
+      }
+      return headers;
+   }
+
+   /**
+    * Sends the report bytes asynchronously with the configured transport.
+    * <p>
+    *    The time to complete is recorded with the {@code reports} timer.
+    * </p>
+    * @param reportBytes The report bytes.
+    * @return A future with the HTTP response code.
+    */
+   protected CompletableFuture<Integer> sendAsync(byte[] reportBytes) {
+      Map<String, String> headers = newHeaders();
+      if(compressor != null) {
+         headers.put(CONTENT_ENCODING_HEADER, compressor.getEncoding());
+         reportBytes = compressor.compress(reportBytes);
       }
+      reportSize.update(reportBytes.length);
+      final Timer.Context context = sendTimer.time();
+      final Timer.Context networkContext = phases.network();
+      return transport.sendAsync(uri, headers, reportBytes).whenComplete((code, t) -> {
+         networkContext.stop();
+         context.stop();
+      });
    }
 
    /**
-    * Sends the report bytes.
+    * Sends the report bytes with the configured transport.
     * @param reportBytes The report bytes.
-    * @return The number of bytes sent.
+    * @return The HTTP response code.
     * @throws IOException on output error.
     */
    protected int send(byte[] reportBytes) throws IOException {
-      HttpURLConnection conn = null;
-      InputStream is = null;
-      try(Timer.Context ignore = sendTimer.time()) {
-         URL url = uri.toURL();
-         conn = (HttpURLConnection)url.openConnection();
-         if(conn != null) {
-            conn.setRequestMethod("PUT");
-            conn.setRequestProperty(CONTENT_TYPE_HEADER, PROTOBUF_CONTENT_TYPE);
-            if(!Strings.isNullOrEmpty(authValue)) {
-               conn.setRequestProperty(AUTHORIZATION_HEADER, authValue);
-            }
-            conn.setDoOutput(true);
-            conn.setInstanceFollowRedirects(false);
-
-            if(deflate) {
-               conn.setRequestProperty(CONTENT_ENCODING_HEADER, DEFLATE_ENCODING);
-               reportBytes = deflate(reportBytes);
-            }
-            conn.setFixedLengthStreamingMode(reportBytes.length);
-            reportSize.update(reportBytes.length);
-            conn.connect();
-            OutputStream os = conn.getOutputStream();
-            os.write(reportBytes);
-            os.flush();
-            os.close();
-            int code = conn.getResponseCode();
-            is = code / 100 == 2 ? conn.getInputStream() : conn.getErrorStream();
-            discardInputAndClose(is);
-            is = null;
-            return code;
+      final Timer.Context context = sendTimer.time();
+      try {
+         Map<String, String> headers = newHeaders();
+         if(compressor != null) {
+            headers.put(CONTENT_ENCODING_HEADER, compressor.getEncoding());
+            reportBytes = compressor.compress(reportBytes);
+         }
+         reportSize.update(reportBytes.length);
+         final Timer.Context networkContext = phases.network();
+         try {
+            return transport.send(uri, headers, reportBytes);
+         } finally {
+            networkContext.stop();
+         }
+      } finally {
+         context.stop();
+      }
+   }
+
+   /**
+    * Streams a report with the configured transport.
+    * <p>
+    *    The report is written (and deflated, if configured) directly to the request body,
+    *    so the encoded report is never held in memory.
+    * </p>
+    * @param writer Writes the (uncompressed) report.
+    * @return The HTTP response code.
+    * @throws IOException on output error.
+    */
+   protected int send(final ReportTransport.BodyWriter writer) throws IOException {
+      final Timer.Context context = sendTimer.time();
+      try {
+         Map<String, String> headers = newHeaders();
+         if(compressor != null) {
+            headers.put(CONTENT_ENCODING_HEADER, compressor.getEncoding());
+         }
+         final CountingOutputStream[] counter = new CountingOutputStream[1];
+         final int code;
+         final Timer.Context networkContext = phases.network();
+         try {
+            code = transport.send(uri, headers, os -> {
+               counter[0] = new CountingOutputStream(os);
+               if(compressor != null) {
+                  compressor.compress(writer, counter[0]);
+               } else {
+                  writer.writeTo(counter[0]);
+               }
+            });
+         } finally {
+            networkContext.stop();
+         }
+         if(counter[0] != null) {
+            reportSize.update(counter[0].getCount());
+         }
+         return code;
+      } finally {
+         context.stop();
+      }
+   }
+
+   /**
+    * Sends a report, or queues it for the sender thread if a send queue is configured.
+    * <p>
+    *    If a spool is configured, a report that fails with an I/O error, a server error
+    *    or {@code 429}, or that is dropped from a full send queue, is appended to the spool for later replay.
+    * </p>
+    * @param writer Writes the report when streaming.
+    * @param encoder Encodes the report to bytes.
+    */
+   protected void sendReport(final ReportTransport.BodyWriter writer, final Supplier<byte[]> encoder) {
+      sendReport(writer, encoder, encoder, null);
+   }
+
+   /**
+    * Sends a report that uses names from the name dictionary.
+    * <p>
+    *    The names are confirmed if the report is acknowledged. Otherwise, the dictionary is reset.
+    *    Reports are spooled with full names because a spooled report may be replayed after
+    *    the server has discarded the dictionary. A report rejected with {@code 409}
+    *    (unknown name id) is also spooled.
+    * </p>
+    * @param writer Writes the report when streaming.
+    * @param encoder Encodes the report to bytes.
+    * @param spoolEncoder Encodes the report, with full names, for the spool.
+    * @param names The report names, or {@code null} if the name dictionary is not used.
+    */
+   protected void sendReport(final ReportTransport.BodyWriter writer, final Supplier<byte[]> encoder,
+                             final Supplier<byte[]> spoolEncoder, final NameDictionary.Names names) {
+      PendingReport pending = new PendingReport(writer, encoder, spoolEncoder, names);
+      if(sendQueue != null) {
+         sendQueue.enqueue(pending);
+      } else {
+         sendNow(pending);
+      }
+   }
+
+   /**
+    * Sends a report that has been split into chunks, or queues the chunks for the sender thread.
+    * <p>
+    *    Chunks are sent concurrently, if supported by the transport, and each chunk
+    *    that fails with an I/O error, a server error or {@code 429} is retried once.
+    *    Chunks that still fail are handled independently, as they would be for a single report.
+    * </p>
+    * @param encoders Encodes each chunk to bytes.
+    * @param spoolEncoders Encodes each chunk, with full names, for the spool.
+    * @param names The report names, or {@code null} if the name dictionary is not used.
+    */
+   protected void sendReportChunks(final List<Supplier<byte[]>> encoders,
+                                   final List<Supplier<byte[]>> spoolEncoders,
+                                   final NameDictionary.Names names) {
+      List<PendingReport> chunks = Lists.newArrayListWithCapacity(encoders.size());
+      for(int i = 0; i < encoders.size(); i++) {
+         chunks.add(new PendingReport(null, encoders.get(i), spoolEncoders.get(i), names));
+      }
+      PendingReport pending = new PendingReport(chunks);
+      if(sendQueue != null) {
+         sendQueue.enqueue(pending);
+      } else {
+         sendNow(pending);
+      }
+   }
+
+   /**
+    * Sends a report, recording and logging any failure.
+    * @param pending The report.
+    */
+   private void sendNow(final PendingReport pending) {
+      if(pending.chunks != null) {
+         sendChunks(pending.chunks);
+         return;
+      }
+
+      byte[] reportBytes = null;
+      try {
+         final int responseCode;
+         if(streaming) {
+            responseCode = send(pending.writer);
          } else {
-            throw new IOException("Unable to 'PUT' to " + uri.toString());
+            reportBytes = pending.encoder.get();
+            responseCode = send(reportBytes);
          }
+         completed(pending, responseCode, reportBytes);
       } catch(IOException ioe) {
-         if(conn != null && is == null) discardInputAndClose(conn.getErrorStream());
-         throw ioe;
+         failed(pending, ioe, reportBytes);
+      }
+   }
+
+   /**
+    * Sends chunks concurrently, waiting for all to complete.
+    * @param chunks The chunks.
+    */
+   private void sendChunks(final List<PendingReport> chunks) {
+      CompletableFuture<?>[] futures = new CompletableFuture<?>[chunks.size()];
+      for(int i = 0; i < futures.length; i++) {
+         futures[i] = sendChunk(chunks.get(i), chunks.get(i).encoder.get(), CHUNK_RETRIES);
+      }
+      CompletableFuture.allOf(futures).join();
+   }
+
+   /**
+    * Sends a chunk asynchronously, retrying on I/O error, server error or {@code 429}.
+    * @param chunk The chunk.
+    * @param chunkBytes The encoded chunk.
+    * @param retries The number of retries remaining.
+    * @return A future that completes when the chunk is sent, or failure is handled.
+    */
+   private CompletableFuture<Void> sendChunk(final PendingReport chunk, final byte[] chunkBytes, final int retries) {
+      return sendAsync(chunkBytes).handle((code, t) -> {
+         Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+         boolean retry = cause != null || code / 100 == 5 || code == 429;
+         if(retry && retries > 0) {
+            LOGGER.debug("EssemReporter: Retrying report chunk");
+            return sendChunk(chunk, chunkBytes, retries - 1);
+         } else if(cause != null) {
+            failed(chunk, cause, chunkBytes);
+         } else {
+            completed(chunk, code, chunkBytes);
+         }
+         return CompletableFuture.<Void>completedFuture(null);
+      }).thenCompose(Function.identity());
+   }
+
+   /**
+    * Handles the response to a report.
+    * @param pending The report.
+    * @param responseCode The HTTP response code.
+    * @param reportBytes The encoded report, or {@code null} if the report was streamed.
+    */
+   private void completed(final PendingReport pending, final int responseCode, final byte[] reportBytes) {
+      if(responseCode / 100 != 2) {
+         LOGGER.warn("EssemReporter: Unable to report (" + responseCode + ")");
+         sendErrors.mark();
+         if(pending.names != null) {
+            pending.names.rejected();
+         }
+         if(responseCode / 100 == 5 || responseCode == 429) {
+            spool(pending.names == null && reportBytes != null ? reportBytes : pending.spoolEncoder.get());
+         } else if(responseCode == 409 && pending.names != null) {
+            spool(pending.spoolEncoder.get());
+         }
+      } else {
+         LOGGER.debug("EssemReporter: Reported (" + responseCode + ")");
+         if(pending.names != null) {
+            pending.names.acknowledged();
+         }
+      }
+   }
+
+   /**
+    * Handles a report that could not be sent.
+    * @param pending The report.
+    * @param t The failure.
+    * @param reportBytes The encoded report, or {@code null} if the report was streamed.
+    */
+   private void failed(final PendingReport pending, final Throwable t, final byte[] reportBytes) {
+      LOGGER.warn("Unable to report to Essem", t);
+      sendErrors.mark();
+      if(pending.names != null) {
+         pending.names.rejected();
+      }
+      spool(pending.names == null && reportBytes != null ? reportBytes : pending.spoolEncoder.get());
+   }
+
+   /**
+    * Appends a report to the spool, if configured.
+    * @param reportBytes The report bytes.
+    */
+   private void spool(final byte[] reportBytes) {
+      if(spool != null) {
+         try {
+            spool.append(reportBytes);
+         } catch(IOException ioe) {
+            LOGGER.error("Unable to spool report", ioe);
+         }
+      }
+   }
+
+   /**
+    * A report waiting in the send queue.
+    */
+   private static final class PendingReport {
+
+      PendingReport(final ReportTransport.BodyWriter writer, final Supplier<byte[]> encoder,
+                    final Supplier<byte[]> spoolEncoder, final NameDictionary.Names names) {
+         this.writer = writer;
+         this.encoder = encoder;
+         this.spoolEncoder = spoolEncoder;
+         this.names = names;
+         this.chunks = null;
+      }
+
+      PendingReport(final List<PendingReport> chunks) {
+         this.writer = null;
+         this.encoder = null;
+         this.spoolEncoder = null;
+         this.names = null;
+         this.chunks = chunks;
+      }
+
+      /**
+       * Spools the report or, if chunked, each chunk.
+       */
+      void spool(final EssemReporter reporter) {
+         if(chunks != null) {
+            chunks.forEach(chunk -> reporter.spool(chunk.spoolEncoder.get()));
+         } else {
+            reporter.spool(spoolEncoder.get());
+         }
+      }
+
+      final ReportTransport.BodyWriter writer;
+      final Supplier<byte[]> encoder;
+      final Supplier<byte[]> spoolEncoder;
+      final NameDictionary.Names names;
+      final List<PendingReport> chunks;
+   }
+
+   /**
+    * Reports all metrics, timing the phases of the cycle.
+    * <p>
+    *    Metrics are read from the index maintained as metrics are added to and removed
+    *    from the registry, instead of filtered and sorted from the registry every cycle.
+    * </p>
+    */
+   @Override
+   public synchronized void report() {
+      final ReportPhases.Cycle cycle = phases.begin();
+      this.cycle = cycle;
+      try {
+         report(index.gauges(), index.counters(), index.histograms(), index.meters(), index.timers());
       } finally {
-         if(conn != null) {
-            conn.disconnect();
+         phases.end(cycle);
+      }
+   }
+
+   /**
+    * Evaluates gauges with deadlines, if configured.
+    * @param gauges The gauges.
+    * @return Gauges that return the evaluated values, or the input gauges if deadlines are not configured.
+    */
+   @SuppressWarnings("rawtypes")
+   protected SortedMap<String, Gauge> evaluateGauges(final SortedMap<String, Gauge> gauges) {
+      return gaugeEvaluator != null && !gauges.isEmpty() ? gaugeEvaluator.evaluate(gauges, cycle) : gauges;
+   }
+
+   /**
+    * Runs tasks on the build pool, waiting for all to complete.
+    * @param tasks The tasks.
+    * @param <T> The result type.
+    * @return The results, in task order.
+    * @throws RuntimeException if a task fails or the reporting thread is interrupted.
+    */
+   protected <T> List<T> invokeAll(final List<? extends Callable<T>> tasks) {
+      List<T> results = Lists.newArrayListWithCapacity(tasks.size());
+      try {
+         for(Future<T> future : buildPool.invokeAll(tasks)) {
+            results.add(future.get());
+         }
+         return results;
+      } catch(InterruptedException ie) {
+         Thread.currentThread().interrupt();
+         throw new RuntimeException("Interrupted while building report", ie);
+      } catch(ExecutionException ee) {
+         Throwables.throwIfUnchecked(ee.getCause());
+         throw new RuntimeException(ee.getCause());
+      }
+   }
+
+   /**
+    * Partitions a sorted map of metrics into shards for parallel build, preserving name order.
+    * @param metrics The metrics.
+    * @param <M> The metric type.
+    * @return The shards.
+    */
+   protected static <M> List<List<Map.Entry<String, M>>> partition(final SortedMap<String, M> metrics) {
+      return metrics.isEmpty() ? ImmutableList.of() : Lists.partition(Lists.newArrayList(metrics.entrySet()), SHARD_SIZE);
+   }
+
+   /**
+    * Concatenates encoded report shards.
+    * @param shards The encoded shards.
+    * @return The encoded report.
+    */
+   protected static byte[] concat(final List<byte[]> shards) {
+      int size = 0;
+      for(byte[] shard : shards) {
+         size += shard.length;
+      }
+      byte[] report = new byte[size];
+      int pos = 0;
+      for(byte[] shard : shards) {
+         System.arraycopy(shard, 0, report, pos, shard.length);
+         pos += shard.length;
+      }
+      return report;
+   }
+
+   /**
+    * Stops the reporter and releases resources held by the send queue, transport and spool.
+    * <p>
+    *    Queued reports are sent before the transport is shut down, waiting up to 10 seconds.
+    * </p>
+    */
+   @Override
+   public void stop() {
+      try {
+         super.stop();
+      } finally {
+         registry.removeListener(index);
+         if(metricState != null) {
+            registry.removeListener(metricState);
+         }
+         if(sendQueue != null) {
+            sendQueue.shutdown(SEND_QUEUE_SHUTDOWN_SECONDS, TimeUnit.SECONDS);
+         }
+         if(spool != null) {
+            spool.shutdown();
+         }
+         if(buildPool != null) {
+            buildPool.shutdown();
+         }
+         if(gaugeEvaluator != null) {
+            gaugeEvaluator.shutdown();
+         }
+         transport.shutdown();
+         if(hdrConsumer != null) {
+            removeHdrConsumer();
+         }
+      }
+   }
+
+   /**
+    * Removes the configured HDR consumer from every metric in the registry that keeps consumer intervals.
+    */
+   private void removeHdrConsumer() {
+      for(Metric metric : registry.getMetrics().values()) {
+         if(metric instanceof IntervalConsumers) {
+            ((IntervalConsumers)metric).removeConsumer(hdrConsumer);
          }
       }
    }
@@ -232,6 +788,11 @@ public abstract class EssemReporter extends ScheduledReporter implements MetricS
    protected final TimeUnit durationUnit;
    protected final String authValue;
    protected final boolean deflate;
+
+   /**
+    * The compressor applied to sent reports, or {@code null} if reports are sent uncompressed.
+    */
+   protected final ReportCompressor compressor;
    protected Supplier<List<Alert>> alertSupplier;
 
    private final Timer sendTimer = new org.attribyte.essem.metrics.Timer();
@@ -239,18 +800,12 @@ public abstract class EssemReporter extends ScheduledReporter implements MetricS
    protected final Histogram reportSize = new Histogram(new HDRReservoir(2, HDRReservoir.REPORT_SNAPSHOT_HISTOGRAM));
    protected final Counter skippedUnchanged = new Counter();
 
-   private final ImmutableMap<String, Metric> metrics =
-           ImmutableMap.of(
-                   "reports", sendTimer,
-                   "failed-reports", sendErrors,
-                   "report-size-bytes", reportSize,
-                   "skipped-unchanged", skippedUnchanged,
-                   "report-count", new Gauge<Integer>() {
-                      public Integer getValue() {
-                         return lastMetricCount.get();
-                      }
-                   }
-           );
+   /**
+    * The transport used to send reports.
+    */
+   protected final ReportTransport transport;
+
+   private final ImmutableMap<String, Metric> metrics;
 
    @Override
    public Map<String, Metric> getMetrics() {
@@ -270,19 +825,45 @@ public abstract class EssemReporter extends ScheduledReporter implements MetricS
               .add("rateUnit", rateUnit)
               .add("durationUnit", durationUnit)
               .add("deflate", deflate)
-              .add("skippedUnchanged", lastReportedCount != null)
+              .add("compressor", compressor != null ? compressor.getClass().getSimpleName() : null)
+              .add("skipUnchangedMetrics", skipUnchangedMetrics)
+              .add("skipUnchangedGauges", skipUnchangedGauges)
               .add("hdrReport", hdrReport)
+              .add("hdrEncoding", hdrEncoding)
+              .add("lean", lean)
+              .add("hdrPrecisions", hdrPrecisions)
+              .add("hdrConsumer", hdrConsumer)
+              .add("quantiles", Arrays.toString(quantiles))
+              .add("transport", transport.getClass().getSimpleName())
+              .add("streaming", streaming)
+              .add("maxReportBytes", maxReportBytes)
+              .add("nameDictionary", nameDictionary != null)
+              .add("gaugeEvaluator", gaugeEvaluator != null)
+              .add("buildParallelism", buildPool != null ? buildPool.getParallelism() : 0)
+              .add("spool", spool != null)
+              .add("sendQueue", sendQueue != null)
               .toString();
    }
 
    /**
-    * A map that contains the last reported value for counters, meters, histograms and timers.
+    * The last reported values for skipped metrics,
+    * or {@code null} if unchanged metrics are always reported.
     * <p>
     *    If configured, and the previously reported value is unchanged, the metric
     *    will not be reported.
     * </p>
     */
-   protected final Map<String, Long> lastReportedCount;
+   protected final MetricState metricState;
+
+   /**
+    * Are counters, meters, histograms and timers with unchanged counts skipped?
+    */
+   protected final boolean skipUnchangedMetrics;
+
+   /**
+    * Are gauges with unchanged numeric values skipped?
+    */
+   protected final boolean skipUnchangedGauges;
 
 
    /**
@@ -302,22 +883,217 @@ public abstract class EssemReporter extends ScheduledReporter implements MetricS
     * @return Should reporting be skipped?
     */
    protected boolean skipCountedReport(final String name, final long currentValue) {
-      if(lastReportedCount == null) {
+      if(!skipUnchangedMetrics) {
          return false;
-      } else if(lastReportedCount.getOrDefault(name, Long.MIN_VALUE) == currentValue) {
+      } else if(metricState.unchanged(name, currentValue)) {
          skippedUnchanged.inc();
          return true;
       } else {
-         lastReportedCount.put(name, currentValue);
          return false;
       }
    }
 
+   /**
+    * Should reporting be skipped for this gauge?
+    * <p>
+    *    Only numeric values are skipped, when within the configured epsilon of the last reported value.
+    * </p>
+    * @param name The gauge name.
+    * @param value The current gauge value.
+    * @return Should reporting be skipped?
+    */
+   protected boolean skipGaugeReport(final String name, final Object value) {
+      if(!skipUnchangedGauges || !(value instanceof Number)) {
+         return false;
+      } else if(metricState.unchanged(name, ((Number)value).doubleValue())) {
+         skippedUnchanged.inc();
+         return true;
+      } else {
+         return false;
+      }
+   }
+
+   /**
+    * If {@code true}, reports are streamed to the transport instead of encoded in memory before send.
+    */
+   protected final boolean streaming;
+
+   /**
+    * The dictionary that assigns ids to reported names, or {@code null} if full names are always reported.
+    */
+   protected final NameDictionary nameDictionary;
+
+   /**
+    * The pool used to build reports in parallel, or {@code null} if reports are built on the reporting thread.
+    */
+   protected final ForkJoinPool buildPool;
+
+   /**
+    * The reported registry.
+    */
+   private final MetricRegistry registry;
+
+   /**
+    * The filtered, sorted index of reported metrics.
+    */
+   protected final MetricIndex index;
+
+   /**
+    * Evaluates gauges with deadlines, or {@code null} if gauges are evaluated inline.
+    */
+   protected final GaugeEvaluator gaugeEvaluator;
+
+   /**
+    * Times the phases of the reporting cycle.
+    */
+   protected final ReportPhases phases;
+
+   /**
+    * The current reporting cycle. Phase times for metrics built outside a report cycle
+    * are added to a cycle that is never recorded.
+    */
+   protected volatile ReportPhases.Cycle cycle;
+
+   /**
+    * The maximum size of an encoded report before it is split into chunks, or {@code 0} if reports are never split.
+    */
+   protected final int maxReportBytes;
+
+   /**
+    * The number of times a failed chunk is resent before it is spooled.
+    */
+   private static final int CHUNK_RETRIES = 1;
+
+   /**
+    * The maximum number of metrics in a shard built in parallel.
+    */
+   protected static final int SHARD_SIZE = 256;
+
+   /**
+    * The spool for reports that fail to send, or {@code null} if not configured.
+    */
+   protected final ReportSpool spool;
+
+   /**
+    * The queue that hands built reports to the sender thread, or {@code null} if reports are sent
+    * on the reporting thread.
+    */
+   private final SendQueue<PendingReport> sendQueue;
+
+   /**
+    * The maximum time to wait for queued reports to be sent on stop.
+    */
+   private static final long SEND_QUEUE_SHUTDOWN_SECONDS = 10L;
+
    /**
     * The HDR histogram report mode.
     */
    protected final HdrReport hdrReport;
 
+   /**
+    * Encodes reported HDR histograms with reused buffers.
+    */
+   protected final HDREncoder hdrEncoder;
+
+   /**
+    * The encoding of reported HDR histograms.
+    */
+   protected final HdrEncoding hdrEncoding;
+
+   /**
+    * If {@code true}, meters report only counts, and histograms and timers with HDR histograms
+    * report only counts and the HDR histogram, from which the server derives everything else.
+    */
+   protected final boolean lean;
+
+   /**
+    * Encodes a reported HDR histogram with the configured precision and encoding.
+    * @param name The metric name.
+    * @param histogram The histogram.
+    * @param factory Creates the payload from the encoded bytes.
+    * @param <T> The payload type.
+    * @return The payload.
+    */
+   protected <T> T encodeHdr(final String name, final org.HdrHistogram.Histogram histogram,
+                             final HDREncoder.PayloadFactory<T> factory) {
+      final HDRPrecision precision = hdrPrecision(name);
+      if(precision == null) {
+         return encodeHdr(histogram, factory);
+      } else {
+         return precision.downsample(histogram, downsampled -> encodeHdr(downsampled, factory));
+      }
+   }
+
+   /**
+    * Encodes an HDR histogram with the configured encoding.
+    * @param histogram The histogram.
+    * @param factory Creates the payload from the encoded bytes.
+    * @param <T> The payload type.
+    * @return The payload.
+    */
+   private <T> T encodeHdr(final AbstractHistogram histogram, final HDREncoder.PayloadFactory<T> factory) {
+      return hdrEncoding == HdrEncoding.RAW ?
+              hdrEncoder.encodeUncompressed(histogram, factory) : hdrEncoder.encode(histogram, factory);
+   }
+
+   /**
+    * Gets the first configured precision that applies to a metric.
+    * @param name The metric name.
+    * @return The precision, or {@code null} if histograms are reported at recording precision.
+    */
+   protected HDRPrecision hdrPrecision(final String name) {
+      for(HDRPrecision precision : hdrPrecisions) {
+         if(precision.matches(name)) {
+            return precision;
+         }
+      }
+      return null;
+   }
+
+   /**
+    * Gets a snapshot of a histogram or timer, read as the configured HDR consumer.
+    * @param sampling The histogram or timer.
+    * @return The snapshot.
+    */
+   protected Snapshot snapshot(final Sampling sampling) {
+      return hdrConsumer == null ? sampling.getSnapshot() : HDRReservoir.readAs(hdrConsumer, sampling::getSnapshot);
+   }
+
+   /**
+    * The name of the consumer that reads HDR reservoir intervals, or {@code null} for the default consumer.
+    */
+   protected final String hdrConsumer;
+
+   /**
+    * The precisions applied to reported HDR histograms, in match order.
+    */
+   protected final ImmutableList<HDRPrecision> hdrPrecisions;
+
+   /**
+    * The quantiles reported for histograms and timers.
+    */
+   protected final double[] quantiles;
+
+   /**
+    * Gets the values at the reported quantiles.
+    * <p>
+    *    For HDR snapshots, all values are found with a single pass over the histogram.
+    * </p>
+    * @param snapshot The snapshot.
+    * @return The values, in the same order as {@link #quantiles}.
+    */
+   protected double[] quantileValues(final Snapshot snapshot) {
+      if(snapshot instanceof HDRReservoir.HDRSnapshot) {
+         return ((HDRReservoir.HDRSnapshot)snapshot).getValues(quantiles);
+      } else {
+         final double[] values = new double[quantiles.length];
+         for(int i = 0; i < quantiles.length; i++) {
+            values[i] = snapshot.getValue(quantiles[i]);
+         }
+         return values;
+      }
+   }
+
    /**
     * The default logger.
     */
@@ -0,0 +1,274 @@
+/*
+ * Copyright 2018 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.essem.reporter;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricSet;
+import com.codahale.metrics.Timer;
+import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Evaluates gauges concurrently, each with a deadline.
+ * <p>
+ *    A gauge that does not return a value within the timeout of starting evaluation
+ *    is reported with its last value or, if there is none or so configured,
+ *    without a value and with the comment {@value #TIMEOUT_COMMENT}.
+ *    A gauge still running from a previous cycle is not started again, so a hung gauge occupies at most one thread.
+ *    If every thread is occupied by a hung gauge, all gauges time out.
+ * </p>
+ * <p>
+ *    Each cycle waits at most twice the timeout: a gauge queued behind slow gauges has until then to
+ *    start and complete, so a cycle with more hung gauges than threads does not wait a timeout for each.
+ * </p>
+ */
+public class GaugeEvaluator implements MetricSet {
+
+   /**
+    * Selects the value reported for a gauge that times out.
+    */
+   public enum Fallback {
+
+      /**
+       * Report the last value, if any.
+       */
+      LAST_VALUE,
+
+      /**
+       * Report no value, with a comment.
+       */
+      COMMENT
+   }
+
+   /**
+    * Creates a gauge evaluator.
+    * @param threads The number of evaluation threads.
+    * @param timeoutMillis The maximum time to wait for a gauge value, in milliseconds.
+    * @param fallback Selects the value reported when a gauge times out.
+    */
+   public GaugeEvaluator(final int threads, final long timeoutMillis, final Fallback fallback) {
+      if(threads < 1) {
+         throw new IllegalArgumentException("The 'threads' must be > 0");
+      }
+      if(timeoutMillis < 1L) {
+         throw new IllegalArgumentException("The 'timeoutMillis' must be > 0");
+      }
+      this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+      this.fallback = fallback;
+      this.evaluationService = Executors.newFixedThreadPool(threads,
+              new ThreadFactoryBuilder().setNameFormat("essem-gauge-%d").setDaemon(true).build());
+      this.metrics = ImmutableMap.of(
+              "gauge-evaluation", evaluationTimer,
+              "gauge-timeouts", timeoutMeter,
+              "gauge-timed-out", (Gauge<String>)() -> Joiner.on(',').join(lastTimedOut)
+      );
+   }
+
+   /**
+    * Evaluates gauges.
+    * @param gauges The gauges.
+    * @param cycle The reporting cycle.
+    * @return A sorted map of gauges that return the evaluated (or fallback) values.
+    */
+   @SuppressWarnings("rawtypes")
+   public SortedMap<String, Gauge> evaluate(final SortedMap<String, Gauge> gauges, final ReportPhases.Cycle cycle) {
+      final long cycleDeadlineNanos = System.nanoTime() + 2L * timeoutNanos;
+      Map<String, Evaluation> evaluations = Maps.newLinkedHashMap();
+      gauges.forEach((name, gauge) -> evaluations.put(name, inFlight.computeIfAbsent(name, key -> start(key, gauge, cycle))));
+
+      SortedMap<String, Gauge> evaluated = Maps.newTreeMap();
+      List<String> timedOut = Lists.newArrayList();
+      evaluations.forEach((name, evaluation) -> {
+         Object value = await(evaluation, cycleDeadlineNanos);
+         if(value == TIMED_OUT) {
+            timedOut.add(name);
+            timeoutMeter.mark();
+            Object lastValue = fallback == Fallback.LAST_VALUE ? lastValues.get(name) : null;
+            value = lastValue != null ? lastValue : TIMEOUT_COMMENT;
+         }
+         evaluated.put(name, new EvaluatedGauge(value));
+      });
+
+      lastValues.keySet().retainAll(gauges.keySet());
+      lastTimedOut = ImmutableList.copyOf(timedOut);
+      if(!timedOut.isEmpty()) {
+         LOGGER.warn("EssemReporter: Gauge evaluation timed out for " + Joiner.on(", ").join(timedOut));
+      }
+      return evaluated;
+   }
+
+   /**
+    * A gauge that returns an evaluated (or fallback) value.
+    * <p>
+    *    Evaluation time is recorded when the gauge is evaluated, so it is not recorded again when reported.
+    * </p>
+    */
+   @SuppressWarnings("rawtypes")
+   static final class EvaluatedGauge implements Gauge {
+
+      EvaluatedGauge(final Object value) {
+         this.value = value;
+      }
+
+      @Override
+      public Object getValue() {
+         return value;
+      }
+
+      private final Object value;
+   }
+
+   /**
+    * Stops the evaluation threads.
+    */
+   public void shutdown() {
+      evaluationService.shutdownNow();
+   }
+
+   @Override
+   public Map<String, Metric> getMetrics() {
+      return metrics;
+   }
+
+   /**
+    * Starts evaluating a gauge.
+    * @param name The gauge name.
+    * @param gauge The gauge.
+    * @param cycle The reporting cycle.
+    * @return The evaluation.
+    */
+   @SuppressWarnings("rawtypes")
+   private Evaluation start(final String name, final Gauge gauge, final ReportPhases.Cycle cycle) {
+      final Evaluation evaluation = new Evaluation();
+      evaluation.future = CompletableFuture.supplyAsync(() -> {
+         evaluation.startNanos = System.nanoTime();
+         try {
+            Object value = gauge.getValue();
+            if(value != null) {
+               lastValues.put(name, value);
+            }
+            return value;
+         } finally {
+            long elapsedNanos = System.nanoTime() - evaluation.startNanos;
+            evaluationTimer.update(elapsedNanos, TimeUnit.NANOSECONDS);
+            cycle.gauge(name, elapsedNanos);
+            inFlight.remove(name, evaluation);
+         }
+      }, evaluationService);
+      return evaluation;
+   }
+
+   /**
+    * Waits for an evaluation to complete until its deadline.
+    * <p>
+    *    The deadline is the timeout after evaluation starts, capped at the cycle deadline.
+    *    An evaluation that is queued waits until the cycle deadline to start.
+    * </p>
+    * @param evaluation The evaluation.
+    * @param cycleDeadlineNanos The deadline for all evaluations in the cycle.
+    * @return The value, or {@code TIMED_OUT}.
+    */
+   private Object await(final Evaluation evaluation, final long cycleDeadlineNanos) {
+      try {
+         long deadlineNanos = deadline(evaluation, cycleDeadlineNanos);
+         while(true) {
+            try {
+               return evaluation.future.get(Math.max(0L, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch(TimeoutException te) {
+               long nextDeadlineNanos = deadline(evaluation, cycleDeadlineNanos);
+               if(nextDeadlineNanos == deadlineNanos || nextDeadlineNanos - System.nanoTime() <= 0L) {
+                  return TIMED_OUT;
+               }
+               deadlineNanos = nextDeadlineNanos; //Started while waiting
+            }
+         }
+      } catch(ExecutionException ee) {
+         LOGGER.warn("EssemReporter: Gauge evaluation failed", ee.getCause());
+         return String.valueOf(ee.getCause());
+      } catch(InterruptedException ie) {
+         Thread.currentThread().interrupt();
+         return TIMED_OUT;
+      }
+   }
+
+   /**
+    * Gets the deadline for an evaluation.
+    * @param evaluation The evaluation.
+    * @param cycleDeadlineNanos The deadline for all evaluations in the cycle.
+    * @return The timeout after the evaluation started, or the cycle deadline if earlier or not started.
+    */
+   private long deadline(final Evaluation evaluation, final long cycleDeadlineNanos) {
+      final long startNanos = evaluation.startNanos;
+      if(startNanos == 0L) {
+         return cycleDeadlineNanos;
+      }
+      final long deadlineNanos = startNanos + timeoutNanos;
+      return deadlineNanos - cycleDeadlineNanos < 0L ? deadlineNanos : cycleDeadlineNanos;
+   }
+
+   /**
+    * A gauge evaluation.
+    */
+   private static final class Evaluation {
+      volatile long startNanos;
+      volatile CompletableFuture<Object> future;
+   }
+
+   /**
+    * The comment reported for a gauge that times out with no fallback value ({@value}).
+    */
+   public static final String TIMEOUT_COMMENT = "timeout";
+
+   /**
+    * Marks an evaluation that timed out.
+    */
+   private static final Object TIMED_OUT = new Object();
+
+   private final long timeoutNanos;
+   private final Fallback fallback;
+   private final ExecutorService evaluationService;
+   private final ConcurrentHashMap<String, Evaluation> inFlight = new ConcurrentHashMap<>();
+   private final ConcurrentHashMap<String, Object> lastValues = new ConcurrentHashMap<>();
+   private volatile List<String> lastTimedOut = ImmutableList.of();
+
+   private final Timer evaluationTimer = new org.attribyte.essem.metrics.Timer();
+   private final Meter timeoutMeter = new Meter();
+   private final ImmutableMap<String, Metric> metrics;
+
+   private static final Logger LOGGER = LoggerFactory.getLogger(GaugeEvaluator.class);
+}
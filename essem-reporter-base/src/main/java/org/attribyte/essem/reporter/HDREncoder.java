@@ -0,0 +1,205 @@
+/*
+ * Copyright 2018 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.essem.reporter;
+
+import org.HdrHistogram.AbstractHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.zip.Deflater;
+
+/**
+ * Encodes HDR histograms in the formats produced by {@code AbstractHistogram.encodeIntoCompressedByteBuffer}
+ * and {@code AbstractHistogram.encodeIntoByteBuffer}, reusing buffers and deflaters.
+ * <p>
+ *    The library method allocates a buffer sized for the uncompressed histogram, an intermediate
+ *    buffer for every histogram instance, and a new {@code Deflater} for each call. Here, encode buffers and
+ *    deflaters are pooled, so in steady state the only allocation is the payload created by the caller.
+ * </p>
+ * <p>
+ *    Encoded bytes are only valid until the payload factory returns. The payload must copy them because
+ *    the buffer is immediately reused, while reports that are queued or chunked retain their payloads.
+ * </p>
+ */
+public class HDREncoder {
+
+   /**
+    * Creates a payload from encoded bytes.
+    * @param <T> The payload type.
+    */
+   @FunctionalInterface
+   public interface PayloadFactory<T> {
+
+      /**
+       * Creates a payload. The bytes must be copied.
+       * @param bytes The buffer.
+       * @param offset The offset of the first encoded byte.
+       * @param length The number of encoded bytes.
+       * @return The payload.
+       */
+      public T create(byte[] bytes, int offset, int length);
+   }
+
+   /**
+    * Creates an encoder.
+    * @param maxPooled The maximum number of pooled buffers. Set to the number of threads that encode concurrently.
+    */
+   public HDREncoder(final int maxPooled) {
+      this.maxPooled = Math.max(1, maxPooled);
+   }
+
+   /**
+    * Encodes a histogram.
+    * @param histogram The histogram.
+    * @param factory Creates the payload from the encoded bytes.
+    * @param <T> The payload type.
+    * @return The payload.
+    */
+   public <T> T encode(final AbstractHistogram histogram, final PayloadFactory<T> factory) {
+      final Buffers buffers = acquire();
+      try {
+         final int uncompressedLength = encodeUncompressed(histogram, buffers);
+         final Deflater deflater = buffers.deflater;
+         deflater.setInput(buffers.uncompressed.array(), 0, uncompressedLength);
+         deflater.finish();
+         int position = HEADER_BYTES;
+         while(!deflater.finished()) {
+            if(position == buffers.compressed.length) {
+               buffers.compressed = Arrays.copyOf(buffers.compressed, buffers.compressed.length * 2);
+            }
+            position += deflater.deflate(buffers.compressed, position, buffers.compressed.length - position);
+         }
+         putInt(buffers.compressed, 0, COMPRESSED_ENCODING_COOKIE);
+         putInt(buffers.compressed, 4, position - HEADER_BYTES);
+         return factory.create(buffers.compressed, 0, position);
+      } finally {
+         release(buffers);
+      }
+   }
+
+   /**
+    * Encodes a histogram in the uncompressed format produced by {@code AbstractHistogram.encodeIntoByteBuffer}.
+    * <p>
+    *    Appropriate when the report is compressed, so that each histogram is not compressed twice.
+    * </p>
+    * @param histogram The histogram.
+    * @param factory Creates the payload from the encoded bytes.
+    * @param <T> The payload type.
+    * @return The payload.
+    */
+   public <T> T encodeUncompressed(final AbstractHistogram histogram, final PayloadFactory<T> factory) {
+      final Buffers buffers = acquire();
+      try {
+         final int length = encodeUncompressed(histogram, buffers);
+         return factory.create(buffers.uncompressed.array(), 0, length);
+      } finally {
+         release(buffers);
+      }
+   }
+
+   /**
+    * Encodes a histogram, uncompressed, into the pooled buffer.
+    * @param histogram The histogram.
+    * @param buffers The buffers.
+    * @return The encoded length.
+    */
+   private static int encodeUncompressed(final AbstractHistogram histogram, final Buffers buffers) {
+      final int capacity = histogram.getNeededByteBufferCapacity();
+      if(buffers.uncompressed.capacity() < capacity) {
+         buffers.uncompressed = ByteBuffer.allocate(capacity);
+      }
+      buffers.uncompressed.clear();
+      return histogram.encodeIntoByteBuffer(buffers.uncompressed);
+   }
+
+   /**
+    * Writes a big-endian int.
+    * @param bytes The buffer.
+    * @param offset The offset.
+    * @param value The value.
+    */
+   private static void putInt(final byte[] bytes, final int offset, final int value) {
+      bytes[offset] = (byte)(value >>> 24);
+      bytes[offset + 1] = (byte)(value >>> 16);
+      bytes[offset + 2] = (byte)(value >>> 8);
+      bytes[offset + 3] = (byte)value;
+   }
+
+   /**
+    * Gets buffers from the pool or creates them.
+    * @return The buffers.
+    */
+   private Buffers acquire() {
+      Buffers buffers = pool.poll();
+      return buffers != null ? buffers : new Buffers();
+   }
+
+   /**
+    * Resets buffers and returns them to the pool.
+    * @param buffers The buffers.
+    */
+   private void release(final Buffers buffers) {
+      buffers.deflater.reset();
+      if(pool.size() < maxPooled) {
+         pool.offer(buffers);
+      } else {
+         buffers.deflater.end();
+      }
+   }
+
+   /**
+    * The reusable buffers and deflater used by a single encode.
+    */
+   private static final class Buffers {
+      ByteBuffer uncompressed = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+      byte[] compressed = new byte[INITIAL_BUFFER_SIZE];
+      final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+   }
+
+   /**
+    * Gets the cookie that starts the compressed encoding from the library.
+    * @return The cookie.
+    */
+   private static int compressedEncodingCookie() {
+      Histogram histogram = new Histogram(2);
+      ByteBuffer buf = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+      histogram.encodeIntoCompressedByteBuffer(buf);
+      return buf.getInt(0);
+   }
+
+   /**
+    * The compressed encoding cookie.
+    */
+   private static final int COMPRESSED_ENCODING_COOKIE = compressedEncodingCookie();
+
+   /**
+    * The size of the compressed encoding header: the cookie and the compressed length.
+    */
+   private static final int HEADER_BYTES = 8;
+
+   /**
+    * The initial size of the encode buffers.
+    */
+   private static final int INITIAL_BUFFER_SIZE = 4096;
+
+   private final int maxPooled;
+   private final ConcurrentLinkedQueue<Buffers> pool = new ConcurrentLinkedQueue<>();
+}
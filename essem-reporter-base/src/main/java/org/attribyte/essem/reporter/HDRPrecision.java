@@ -0,0 +1,147 @@
+/*
+ * Copyright 2018 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.essem.reporter;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramIterationValue;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Reduces the precision, and optionally caps the value range, of HDR histograms before they are encoded.
+ * <p>
+ *    Each recorded bucket is re-recorded in a histogram with fewer significant digits. The bucket
+ *    boundaries of the coarser histogram contain those of the finer, so counts move to exactly one bucket,
+ *    and the total count is unchanged. The payload shrinks roughly by a factor of ten for every digit dropped.
+ * </p>
+ * <p>
+ *    Error bounds: a value at any quantile of a histogram with {@code d} significant digits is within
+ *    a relative error of {@code 10^-d} of the recorded value. After downsampling to {@code d} digits,
+ *    the error is bounded by {@code 10^-d}, plus the (smaller) error of the recording precision.
+ *    For example, at 1 digit, a quantile reported as 100ms represents a value within 10% of 100ms.
+ *    Values greater than the maximum value, if configured, are recorded as the maximum value,
+ *    so quantiles that fall above the maximum are reported as the maximum.
+ * </p>
+ */
+public class HDRPrecision {
+
+   /**
+    * Creates a precision that applies to all metrics.
+    * @param significantDigits The number of significant digits (0-5).
+    * @param maxValue The maximum value, or {@code 0} if the value range is not capped.
+    */
+   public HDRPrecision(final int significantDigits, final long maxValue) {
+      this(null, significantDigits, maxValue);
+   }
+
+   /**
+    * Creates a precision that applies to metrics with names that match a pattern.
+    * @param pattern The pattern, or {@code null} to match all metrics.
+    * @param significantDigits The number of significant digits (0-5).
+    * @param maxValue The maximum value, or {@code 0} if the value range is not capped.
+    */
+   public HDRPrecision(final Pattern pattern, final int significantDigits, final long maxValue) {
+      if(significantDigits < 0 || significantDigits > 5) {
+         throw new IllegalArgumentException("The 'significantDigits' must be 0-5");
+      }
+      if(maxValue < 0L || (maxValue > 0L && maxValue < 2L)) {
+         throw new IllegalArgumentException("The 'maxValue' must be 0 or >= 2");
+      }
+      this.pattern = pattern;
+      this.significantDigits = significantDigits;
+      this.maxValue = maxValue;
+   }
+
+   /**
+    * Does this precision apply to a metric?
+    * @param name The metric name.
+    * @return Does the precision apply?
+    */
+   public boolean matches(final String name) {
+      return pattern == null || pattern.matcher(name).matches();
+   }
+
+   /**
+    * Downsamples a histogram, if required, and encodes it.
+    * <p>
+    *    The downsampled histogram is reused and must not be retained by the encoder.
+    * </p>
+    * @param histogram The histogram.
+    * @param encoder Encodes the histogram.
+    * @param <T> The encoded type.
+    * @return The encoded histogram.
+    */
+   public <T> T downsample(final Histogram histogram, final Function<Histogram, T> encoder) {
+      if(histogram.getNumberOfSignificantValueDigits() <= significantDigits &&
+              (maxValue == 0L || histogram.getMaxValue() <= maxValue)) {
+         return encoder.apply(histogram);
+      }
+
+      Histogram downsampled = pool.poll();
+      if(downsampled == null) {
+         downsampled = maxValue > 0L ? new Histogram(maxValue, significantDigits) : new Histogram(significantDigits);
+      }
+      try {
+         for(HistogramIterationValue value : histogram.recordedValues()) {
+            long recordedValue = value.getValueIteratedTo();
+            downsampled.recordValueWithCount(maxValue > 0L && recordedValue > maxValue ? maxValue : recordedValue,
+                    value.getCountAddedInThisIterationStep());
+         }
+         downsampled.setStartTimeStamp(histogram.getStartTimeStamp());
+         downsampled.setEndTimeStamp(histogram.getEndTimeStamp());
+         return encoder.apply(downsampled);
+      } finally {
+         downsampled.reset();
+         if(pool.size() < MAX_POOLED) {
+            pool.offer(downsampled);
+         }
+      }
+   }
+
+   /**
+    * @return The number of significant digits.
+    */
+   public int getSignificantDigits() {
+      return significantDigits;
+   }
+
+   /**
+    * @return The maximum value, or {@code 0} if the value range is not capped.
+    */
+   public long getMaxValue() {
+      return maxValue;
+   }
+
+   @Override
+   public String toString() {
+      return (pattern != null ? pattern.pattern() + "=" : "") + significantDigits + (maxValue > 0L ? ":" + maxValue : "");
+   }
+
+   /**
+    * The maximum number of pooled histograms.
+    */
+   private static final int MAX_POOLED = 8;
+
+   private final Pattern pattern;
+   private final int significantDigits;
+   private final long maxValue;
+   private final ConcurrentLinkedQueue<Histogram> pool = new ConcurrentLinkedQueue<>();
+}
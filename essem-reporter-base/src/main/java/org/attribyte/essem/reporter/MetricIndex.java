@@ -0,0 +1,152 @@
+/*
+ * Copyright 2018 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.essem.reporter;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricFilter;
+import com.codahale.metrics.MetricRegistryListener;
+import com.codahale.metrics.Timer;
+
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * A filtered, sorted index of the metrics in a registry, maintained as metrics are added and removed.
+ * <p>
+ *    The filter is applied once, when a metric is added, instead of every reporting cycle,
+ *    and the sorted maps are read directly instead of copied. A filter whose result
+ *    changes over time for the same metric is not supported.
+ * </p>
+ */
+@SuppressWarnings("rawtypes")
+public class MetricIndex implements MetricRegistryListener {
+
+   /**
+    * Creates an empty index.
+    * @param filter The filter applied to added metrics.
+    */
+   public MetricIndex(final MetricFilter filter) {
+      this.filter = filter;
+   }
+
+   /**
+    * @return The gauges, sorted by name.
+    */
+   public ConcurrentSkipListMap<String, Gauge> gauges() {
+      return gauges;
+   }
+
+   /**
+    * @return The counters, sorted by name.
+    */
+   public ConcurrentSkipListMap<String, Counter> counters() {
+      return counters;
+   }
+
+   /**
+    * @return The histograms, sorted by name.
+    */
+   public ConcurrentSkipListMap<String, Histogram> histograms() {
+      return histograms;
+   }
+
+   /**
+    * @return The meters, sorted by name.
+    */
+   public ConcurrentSkipListMap<String, Meter> meters() {
+      return meters;
+   }
+
+   /**
+    * @return The timers, sorted by name.
+    */
+   public ConcurrentSkipListMap<String, Timer> timers() {
+      return timers;
+   }
+
+   @Override
+   public void onGaugeAdded(final String name, final Gauge<?> gauge) {
+      if(matches(name, gauge)) gauges.put(name, gauge);
+   }
+
+   @Override
+   public void onGaugeRemoved(final String name) {
+      gauges.remove(name);
+   }
+
+   @Override
+   public void onCounterAdded(final String name, final Counter counter) {
+      if(matches(name, counter)) counters.put(name, counter);
+   }
+
+   @Override
+   public void onCounterRemoved(final String name) {
+      counters.remove(name);
+   }
+
+   @Override
+   public void onHistogramAdded(final String name, final Histogram histogram) {
+      if(matches(name, histogram)) histograms.put(name, histogram);
+   }
+
+   @Override
+   public void onHistogramRemoved(final String name) {
+      histograms.remove(name);
+   }
+
+   @Override
+   public void onMeterAdded(final String name, final Meter meter) {
+      if(matches(name, meter)) meters.put(name, meter);
+   }
+
+   @Override
+   public void onMeterRemoved(final String name) {
+      meters.remove(name);
+   }
+
+   @Override
+   public void onTimerAdded(final String name, final Timer timer) {
+      if(matches(name, timer)) timers.put(name, timer);
+   }
+
+   @Override
+   public void onTimerRemoved(final String name) {
+      timers.remove(name);
+   }
+
+   /**
+    * Applies the filter.
+    * @param name The metric name.
+    * @param metric The metric.
+    * @return Does the metric match the filter?
+    */
+   private boolean matches(final String name, final Metric metric) {
+      return filter == null || filter.matches(name, metric);
+   }
+
+   private final MetricFilter filter;
+   private final ConcurrentSkipListMap<String, Gauge> gauges = new ConcurrentSkipListMap<>();
+   private final ConcurrentSkipListMap<String, Counter> counters = new ConcurrentSkipListMap<>();
+   private final ConcurrentSkipListMap<String, Histogram> histograms = new ConcurrentSkipListMap<>();
+   private final ConcurrentSkipListMap<String, Meter> meters = new ConcurrentSkipListMap<>();
+   private final ConcurrentSkipListMap<String, Timer> timers = new ConcurrentSkipListMap<>();
+}
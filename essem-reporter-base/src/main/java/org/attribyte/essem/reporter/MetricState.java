@@ -0,0 +1,227 @@
+/*
+ * Copyright 2018 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.essem.reporter;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricRegistryListener;
+import com.codahale.metrics.MetricSet;
+import com.google.common.collect.ImmutableMap;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-metric state used to skip reporting unchanged metrics.
+ * <p>
+ *    Each metric is assigned a mutable slot, created the first time the metric is reported,
+ *    that holds its last reported values as primitives, so no values are boxed when they change.
+ *    As a registry listener, entries are evicted when metrics are removed from the registry, so
+ *    registries that add and remove metrics do not grow the state without bound.
+ * </p>
+ * <p>
+ *    A gauge value is unchanged if it is within an absolute or relative epsilon of the
+ *    last <em>reported</em> value, so slow drift is reported once it exceeds the epsilon.
+ *    If configured, a metric is reported after it has been skipped for a number of consecutive intervals,
+ *    even if unchanged, so the server never holds a stale value for longer than that.
+ * </p>
+ * <p>
+ *    A slot is only read and written by the thread reporting its metric. Reporting cycles are
+ *    serialized, so slot values are not otherwise synchronized.
+ * </p>
+ */
+public class MetricState extends MetricRegistryListener.Base implements MetricSet {
+
+   /**
+    * Creates state that skips only exactly unchanged values, and never forces a refresh.
+    */
+   public MetricState() {
+      this(0.0, 0.0, 0);
+   }
+
+   /**
+    * Creates state.
+    * @param absoluteEpsilon The maximum absolute difference for gauge values considered unchanged.
+    * @param relativeEpsilon The maximum difference, relative to the last reported value, for gauge values considered unchanged.
+    * @param refreshIntervals The maximum number of consecutive intervals an unchanged metric is skipped, or {@code 0} for no limit.
+    */
+   public MetricState(final double absoluteEpsilon, final double relativeEpsilon, final int refreshIntervals) {
+      if(absoluteEpsilon < 0.0 || relativeEpsilon < 0.0) {
+         throw new IllegalArgumentException("The epsilon must be >= 0");
+      }
+      if(refreshIntervals < 0) {
+         throw new IllegalArgumentException("The 'refreshIntervals' must be >= 0");
+      }
+      this.absoluteEpsilon = absoluteEpsilon;
+      this.relativeEpsilon = relativeEpsilon;
+      this.refreshIntervals = refreshIntervals;
+   }
+
+   /**
+    * The state kept for a single metric.
+    */
+   private static final class Slot {
+
+      /**
+       * The last reported count.
+       */
+      long lastCount = Long.MIN_VALUE;
+
+      /**
+       * The last reported gauge value.
+       */
+      double lastValue = Double.NaN;
+
+      /**
+       * The number of consecutive intervals skipped.
+       */
+      int skipped;
+   }
+
+   /**
+    * Determines if a count is unchanged since last reported, and records it if reported.
+    * @param name The metric name.
+    * @param count The current count.
+    * @return Is the count unchanged, and reporting to be skipped?
+    */
+   public boolean unchanged(final String name, final long count) {
+      Slot slot = slot(name);
+      if(count == slot.lastCount && !refresh(slot)) {
+         return true;
+      } else {
+         slot.lastCount = count;
+         slot.skipped = 0;
+         return false;
+      }
+   }
+
+   /**
+    * Determines if a gauge value is unchanged since last reported, and records it if reported.
+    * @param name The gauge name.
+    * @param value The current value.
+    * @return Is the value unchanged, and reporting to be skipped?
+    */
+   public boolean unchanged(final String name, final double value) {
+      Slot slot = slot(name);
+      if(within(value, slot.lastValue) && !refresh(slot)) {
+         return true;
+      } else {
+         slot.lastValue = value;
+         slot.skipped = 0;
+         return false;
+      }
+   }
+
+   /**
+    * Removes the state for a metric.
+    * @param name The metric name.
+    */
+   public void evict(final String name) {
+      if(slots.remove(name) != null) {
+         evictions.inc();
+      }
+   }
+
+   /**
+    * @return The number of metrics with state.
+    */
+   public int size() {
+      return slots.size();
+   }
+
+   @Override
+   public Map<String, Metric> getMetrics() {
+      return ImmutableMap.of(
+              "change-state-size", (Gauge<Integer>)this::size,
+              "change-state-evictions", evictions
+      );
+   }
+
+   @Override
+   public void onGaugeRemoved(final String name) {
+      evict(name);
+   }
+
+   @Override
+   public void onCounterRemoved(final String name) {
+      evict(name);
+   }
+
+   @Override
+   public void onHistogramRemoved(final String name) {
+      evict(name);
+   }
+
+   @Override
+   public void onMeterRemoved(final String name) {
+      evict(name);
+   }
+
+   @Override
+   public void onTimerRemoved(final String name) {
+      evict(name);
+   }
+
+   /**
+    * Gets the slot for a metric, creating it if required.
+    * @param name The metric name.
+    * @return The slot.
+    */
+   private Slot slot(final String name) {
+      Slot slot = slots.get(name);
+      return slot != null ? slot : slots.computeIfAbsent(name, key -> new Slot());
+   }
+
+   /**
+    * Determines if a skipped metric must be reported because it has been skipped for the maximum number of intervals.
+    * Otherwise, the skip is counted.
+    * @param slot The metric slot.
+    * @return Must the metric be reported?
+    */
+   private boolean refresh(final Slot slot) {
+      if(refreshIntervals > 0 && slot.skipped >= refreshIntervals) {
+         return true;
+      } else {
+         slot.skipped++;
+         return false;
+      }
+   }
+
+   /**
+    * Determines if a value is within the configured epsilon of the last reported value.
+    * @param value The value.
+    * @param lastValue The last reported value.
+    * @return Is the value within the epsilon?
+    */
+   private boolean within(final double value, final double lastValue) {
+      if(value == lastValue) {
+         return true;
+      } else {
+         double diff = Math.abs(value - lastValue);
+         return diff <= absoluteEpsilon || diff <= relativeEpsilon * Math.abs(lastValue);
+      }
+   }
+
+   private final double absoluteEpsilon;
+   private final double relativeEpsilon;
+   private final int refreshIntervals;
+   private final ConcurrentHashMap<String, Slot> slots = new ConcurrentHashMap<>();
+   private final Counter evictions = new Counter();
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2018 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.essem.reporter;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricSet;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiConsumer;
+
+/**
+ * Assigns integer ids to metric names so that reports may send an id in place of a name
+ * the server has already seen.
+ * <p>
+ *    Ids are scoped to a dictionary, identified by a random, non-zero dictionary id sent with every report.
+ *    A report defines (sends the full name for) every name it uses that has not been confirmed,
+ *    so a name is defined until a report that defines it is acknowledged with a {@code 2xx} response.
+ *    When a report fails, the dictionary is reset: a new dictionary id is selected
+ *    and all names are defined again.
+ * </p>
+ * <p>
+ *    A server that receives an id it can't resolve, for example, after restart, should respond with
+ *    {@code 409 Conflict}. The report is spooled with full names, if a spool is configured,
+ *    and the next report starts a new dictionary.
+ * </p>
+ */
+public class NameDictionary implements MetricSet {
+
+   /**
+    * Creates an empty dictionary.
+    */
+   public NameDictionary() {
+      this.current = new Dictionary(newDictionaryId());
+      this.metrics = ImmutableMap.of(
+              "name-dictionary-size", (Gauge<Integer>)() -> current.size(),
+              "name-dictionary-resets", resets
+      );
+   }
+
+   /**
+    * Starts the names for a new report.
+    * @return The report names.
+    */
+   public Names begin() {
+      return new Names(current);
+   }
+
+   /**
+    * Discards all names and selects a new dictionary id.
+    */
+   public synchronized void reset() {
+      current = new Dictionary(newDictionaryId());
+      resets.inc();
+   }
+
+   @Override
+   public Map<String, Metric> getMetrics() {
+      return metrics;
+   }
+
+   /**
+    * The names used by a single report.
+    * <p>
+    *    Ids may be requested concurrently when a report is built in parallel.
+    * </p>
+    */
+   public final class Names {
+
+      private Names(final Dictionary dictionary) {
+         this.dictionary = dictionary;
+      }
+
+      /**
+       * @return The id of the dictionary that scopes the name ids.
+       */
+      public long dictionaryId() {
+         return dictionary.id;
+      }
+
+      /**
+       * Gets the id for a name, assigning a new id, if required.
+       * <p>
+       *    If the name is not confirmed, it is added to the definitions for this report.
+       * </p>
+       * @param name The name.
+       * @return The id.
+       */
+      public int id(final String name) {
+         return dictionary.id(name, defined);
+      }
+
+      /**
+       * Gets the name for an id.
+       * @param id The id.
+       * @return The name or {@code null} if the id is unknown.
+       */
+      public String name(final int id) {
+         return dictionary.name(id);
+      }
+
+      /**
+       * Supplies every name defined by this report with its id.
+       * @param consumer The consumer.
+       */
+      public void forEachDefinition(final BiConsumer<Integer, String> consumer) {
+         for(int id = defined.nextSetBit(0); id >= 0; id = defined.nextSetBit(id + 1)) {
+            consumer.accept(id, dictionary.name(id));
+         }
+      }
+
+      /**
+       * @return The number of names defined by this report.
+       */
+      public int definitionCount() {
+         return defined.cardinality();
+      }
+
+      /**
+       * Confirms the names defined by this report after it is acknowledged by the server.
+       */
+      void acknowledged() {
+         dictionary.confirm(defined);
+      }
+
+      /**
+       * Resets the dictionary after this report is rejected, unless it has already been reset.
+       */
+      void rejected() {
+         synchronized(NameDictionary.this) {
+            if(current == dictionary) {
+               reset();
+            }
+         }
+      }
+
+      private final Dictionary dictionary;
+      private final BitSet defined = new BitSet();
+   }
+
+   /**
+    * The names assigned ids with a single dictionary id.
+    */
+   private static final class Dictionary {
+
+      Dictionary(final long id) {
+         this.id = id;
+      }
+
+      synchronized int id(final String name, final BitSet defined) {
+         Integer nameId = ids.get(name);
+         if(nameId == null) {
+            names.add(name);
+            nameId = names.size(); //Ids start at 1...
+            ids.put(name, nameId);
+         }
+         if(!confirmed.get(nameId)) {
+            defined.set(nameId);
+         }
+         return nameId;
+      }
+
+      synchronized String name(final int nameId) {
+         return nameId > 0 && nameId <= names.size() ? names.get(nameId - 1) : null;
+      }
+
+      synchronized void confirm(final BitSet defined) {
+         confirmed.or(defined);
+      }
+
+      synchronized int size() {
+         return names.size();
+      }
+
+      final long id;
+      private final Map<String, Integer> ids = Maps.newHashMap();
+      private final List<String> names = Lists.newArrayList();
+      private final BitSet confirmed = new BitSet();
+   }
+
+   /**
+    * Selects a random, non-zero dictionary id.
+    * @return The id.
+    */
+   private static long newDictionaryId() {
+      long id;
+      do {
+         id = ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE;
+      } while(id == 0L);
+      return id;
+   }
+
+   private volatile Dictionary current;
+   private final Counter resets = new Counter();
+   private final ImmutableMap<String, Metric> metrics;
+}
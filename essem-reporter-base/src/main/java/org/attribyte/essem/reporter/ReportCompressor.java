@@ -0,0 +1,109 @@
+/*
+ * Copyright 2018 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.essem.reporter;
+
+import com.codahale.metrics.MetricSet;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+
+/**
+ * A strategy for compressing reports before they are sent.
+ */
+public interface ReportCompressor extends MetricSet {
+
+   /**
+    * Compresses a report.
+    * @param report The report bytes.
+    * @return The compressed bytes.
+    */
+   public byte[] compress(byte[] report);
+
+   /**
+    * Compresses a report as it is written to a stream.
+    * @param writer Writes the (uncompressed) report.
+    * @param os The stream to which compressed bytes are written. It is not closed.
+    * @throws IOException on write error.
+    */
+   public void compress(ReportTransport.BodyWriter writer, OutputStream os) throws IOException;
+
+   /**
+    * @return The value sent with the {@code Content-Encoding} header.
+    */
+   public default String getEncoding() {
+      return EssemReporter.DEFLATE_ENCODING;
+   }
+
+   /**
+    * Creates a compressor from a configuration string.
+    * <p>
+    *    Allowed values:
+    *    <ul>
+    *       <li>{@code true} - deflate with the best compression</li>
+    *       <li>{@code false} - no compression ({@code null} is returned)</li>
+    *       <li>{@code level:N} - deflate with level {@code N} (1-9)</li>
+    *       <li>{@code dictionary} or {@code dictionary:N} - deflate with a preset dictionary trained on metric names</li>
+    *       <li>{@code adaptive} - deflate with a level selected from measured CPU time and bytes saved</li>
+    *    </ul>
+    * </p>
+    * @param config The configuration string.
+    * @param names Supplies the metric names used to train dictionaries.
+    * @return The compressor or {@code null} if compression is disabled.
+    * @throws IllegalArgumentException if the configuration is invalid.
+    */
+   public static ReportCompressor fromConfig(final String config, final Supplier<? extends Collection<String>> names) {
+      String value = config.trim().toLowerCase();
+      if(value.isEmpty() || value.equals("false")) {
+         return null;
+      } else if(value.equals("true")) {
+         return new DeflateCompressor(Deflater.BEST_COMPRESSION);
+      } else if(value.startsWith("level:")) {
+         return new DeflateCompressor(parseLevel(value.substring("level:".length())));
+      } else if(value.equals("dictionary")) {
+         return new DictionaryCompressor(Deflater.BEST_COMPRESSION, names);
+      } else if(value.startsWith("dictionary:")) {
+         return new DictionaryCompressor(parseLevel(value.substring("dictionary:".length())), names);
+      } else if(value.equals("adaptive")) {
+         return new AdaptiveCompressor();
+      } else {
+         throw new IllegalArgumentException("Invalid compression: '" + config + "'");
+      }
+   }
+
+   /**
+    * Parses and validates a deflate level.
+    * @param level The level string.
+    * @return The level.
+    * @throws IllegalArgumentException if the level is invalid.
+    */
+   static int parseLevel(final String level) {
+      try {
+         int parsedLevel = Integer.parseInt(level.trim());
+         if(parsedLevel < Deflater.BEST_SPEED || parsedLevel > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("The deflate level must be 1-9");
+         }
+         return parsedLevel;
+      } catch(NumberFormatException nfe) {
+         throw new IllegalArgumentException("Invalid deflate level: '" + level + "'");
+      }
+   }
+}
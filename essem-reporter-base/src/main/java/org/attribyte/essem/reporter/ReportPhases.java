@@ -0,0 +1,230 @@
+/*
+ * Copyright 2018 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.essem.reporter;
+
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricSet;
+import com.codahale.metrics.Timer;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Times the phases of the reporting cycle.
+ * <p>
+ *    Per-metric phases (snapshot, gauge evaluation and HDR encoding) are summed for each
+ *    cycle, including work done on build threads, and recorded once per cycle.
+ *    Build time includes these per-metric phases.
+ *    Network time is recorded for each send. When reports are streamed, network time includes
+ *    serialization and compression.
+ * </p>
+ */
+public class ReportPhases implements MetricSet {
+
+   /**
+    * Creates report phases.
+    * @param slowCycleMillis If a cycle takes longer than this, it is logged with the most expensive metrics.
+    * If {@code 0}, slow cycles are not logged and per-metric cost is not tracked.
+    */
+   public ReportPhases(final long slowCycleMillis) {
+      this.slowCycleNanos = TimeUnit.MILLISECONDS.toNanos(slowCycleMillis);
+      this.metrics = ImmutableMap.<String, Metric>builder()
+              .put("report-snapshot", snapshotTimer)
+              .put("report-gauges", gaugeTimer)
+              .put("report-build", buildTimer)
+              .put("report-hdr-encode", hdrEncodeTimer)
+              .put("report-network", networkTimer)
+              .put("report-cycle", cycleTimer)
+              .put("report-cycle-cpu", cycleCPUTimer)
+              .build();
+   }
+
+   /**
+    * Starts a reporting cycle.
+    * @return The cycle.
+    */
+   public Cycle begin() {
+      return new Cycle(slowCycleNanos > 0L);
+   }
+
+   /**
+    * Ends a reporting cycle, recording the phase times, and logging the cycle if slow.
+    * @param cycle The cycle.
+    */
+   public void end(final Cycle cycle) {
+      final long elapsedNanos = System.nanoTime() - cycle.startNanos;
+      cycleTimer.update(elapsedNanos, TimeUnit.NANOSECONDS);
+      if(cycle.startCPUNanos >= 0L) {
+         cycleCPUTimer.update(THREAD_MX_BEAN.getCurrentThreadCpuTime() - cycle.startCPUNanos, TimeUnit.NANOSECONDS);
+      }
+      snapshotTimer.update(cycle.snapshotNanos.sum(), TimeUnit.NANOSECONDS);
+      gaugeTimer.update(cycle.gaugeNanos.sum(), TimeUnit.NANOSECONDS);
+      buildTimer.update(cycle.buildNanos.sum(), TimeUnit.NANOSECONDS);
+      hdrEncodeTimer.update(cycle.hdrEncodeNanos.sum(), TimeUnit.NANOSECONDS);
+
+      if(slowCycleNanos > 0L && elapsedNanos > slowCycleNanos) {
+         LOGGER.warn(slowCycleMessage(cycle, elapsedNanos));
+      }
+   }
+
+   /**
+    * Records the time for a send.
+    * @return The timer context.
+    */
+   public Timer.Context network() {
+      return networkTimer.time();
+   }
+
+   @Override
+   public Map<String, Metric> getMetrics() {
+      return metrics;
+   }
+
+   /**
+    * Creates the slow cycle log message.
+    * @param cycle The cycle.
+    * @param elapsedNanos The cycle time.
+    * @return The message.
+    */
+   private static String slowCycleMessage(final Cycle cycle, final long elapsedNanos) {
+      StringBuilder buf = new StringBuilder("EssemReporter: Slow report cycle (");
+      buf.append(millis(elapsedNanos)).append(" ms; snapshot ").append(millis(cycle.snapshotNanos.sum()));
+      buf.append(" ms, gauges ").append(millis(cycle.gaugeNanos.sum()));
+      buf.append(" ms, build ").append(millis(cycle.buildNanos.sum()));
+      buf.append(" ms, hdr-encode ").append(millis(cycle.hdrEncodeNanos.sum())).append(" ms)");
+      List<Map.Entry<String, Long>> costs = Lists.newArrayList(cycle.metricNanos.entrySet());
+      if(!costs.isEmpty()) {
+         costs.sort((a, b) -> Long.compare(b.getValue(), a.getValue()));
+         buf.append(" Most expensive: ");
+         for(int i = 0; i < Math.min(MAX_LOGGED_METRICS, costs.size()); i++) {
+            if(i > 0) {
+               buf.append(", ");
+            }
+            buf.append(costs.get(i).getKey()).append(" (").append(millis(costs.get(i).getValue())).append(" ms)");
+         }
+      }
+      return buf.toString();
+   }
+
+   /**
+    * Formats nanoseconds as milliseconds.
+    * @param nanos The nanoseconds.
+    * @return The formatted milliseconds.
+    */
+   private static String millis(final long nanos) {
+      return String.format("%.3f", nanos / 1e6);
+   }
+
+   /**
+    * A single reporting cycle.
+    * <p>
+    *    Phase times may be added from any thread.
+    * </p>
+    */
+   public static final class Cycle {
+
+      private Cycle(final boolean trackMetrics) {
+         this.metricNanos = trackMetrics ? new ConcurrentHashMap<>() : null;
+         this.startNanos = System.nanoTime();
+         this.startCPUNanos = CPU_TIME_SUPPORTED ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : -1L;
+      }
+
+      /**
+       * Adds the time to snapshot a metric.
+       * @param name The metric name.
+       * @param nanos The time in nanoseconds.
+       */
+      public void snapshot(final String name, final long nanos) {
+         snapshotNanos.add(nanos);
+         metric(name, nanos);
+      }
+
+      /**
+       * Adds the time to evaluate a gauge.
+       * @param name The gauge name.
+       * @param nanos The time in nanoseconds.
+       */
+      public void gauge(final String name, final long nanos) {
+         gaugeNanos.add(nanos);
+         metric(name, nanos);
+      }
+
+      /**
+       * Adds the time to encode a HDR histogram.
+       * @param name The metric name.
+       * @param nanos The time in nanoseconds.
+       */
+      public void hdrEncode(final String name, final long nanos) {
+         hdrEncodeNanos.add(nanos);
+         metric(name, nanos);
+      }
+
+      /**
+       * Adds the time to build a report.
+       * @param nanos The time in nanoseconds.
+       */
+      public void build(final long nanos) {
+         buildNanos.add(nanos);
+      }
+
+      private void metric(final String name, final long nanos) {
+         if(metricNanos != null) {
+            metricNanos.merge(name, nanos, Long::sum);
+         }
+      }
+
+      private final long startNanos;
+      private final long startCPUNanos;
+      private final LongAdder snapshotNanos = new LongAdder();
+      private final LongAdder gaugeNanos = new LongAdder();
+      private final LongAdder buildNanos = new LongAdder();
+      private final LongAdder hdrEncodeNanos = new LongAdder();
+      private final ConcurrentHashMap<String, Long> metricNanos;
+   }
+
+   /**
+    * The maximum number of metrics named in the slow cycle log.
+    */
+   private static final int MAX_LOGGED_METRICS = 10;
+
+   private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+   private static final boolean CPU_TIME_SUPPORTED =
+           THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported() && THREAD_MX_BEAN.isThreadCpuTimeEnabled();
+
+   private final long slowCycleNanos;
+   private final Timer snapshotTimer = new org.attribyte.essem.metrics.Timer();
+   private final Timer gaugeTimer = new org.attribyte.essem.metrics.Timer();
+   private final Timer buildTimer = new org.attribyte.essem.metrics.Timer();
+   private final Timer hdrEncodeTimer = new org.attribyte.essem.metrics.Timer();
+   private final Timer networkTimer = new org.attribyte.essem.metrics.Timer();
+   private final Timer cycleTimer = new org.attribyte.essem.metrics.Timer();
+   private final Timer cycleCPUTimer = new org.attribyte.essem.metrics.Timer();
+   private final ImmutableMap<String, Metric> metrics;
+
+   private static final Logger LOGGER = LoggerFactory.getLogger(ReportPhases.class);
+}
@@ -0,0 +1,515 @@
+/*
+ * Copyright 2018 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.essem.reporter;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricSet;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * A durable, bounded, on-disk spool for reports that could not be sent.
+ * <p>
+ *    Reports are appended to a log of segment files in a directory. A background thread
+ *    replays spooled reports, oldest first, backing off exponentially while sends fail.
+ *    Appends never wait for replay, so the reporting interval is never blocked by an outage.
+ * </p>
+ * <p>
+ *    The spool is bounded by total bytes and by age. When appending a report would exceed
+ *    the byte limit, the oldest reports are dropped. Reports older than the maximum age
+ *    are dropped instead of replayed. The replay position is recorded in a cursor file so
+ *    reports are not replayed again after a restart.
+ * </p>
+ */
+public class ReportSpool implements MetricSet {
+
+   /**
+    * Sends a spooled report.
+    */
+   @FunctionalInterface
+   public interface Sender {
+
+      /**
+       * Sends the report.
+       * @param report The (uncompressed) report bytes.
+       * @return The HTTP response code.
+       * @throws IOException on send error.
+       */
+      public int send(byte[] report) throws IOException;
+   }
+
+   /**
+    * The default maximum segment size ({@value}).
+    */
+   public static final long DEFAULT_MAX_SEGMENT_BYTES = 4L * 1024L * 1024L;
+
+   /**
+    * The default minimum replay delay in milliseconds ({@value}).
+    */
+   public static final long DEFAULT_MIN_BACKOFF_MILLIS = 5000L;
+
+   /**
+    * The default maximum replay delay in milliseconds ({@value}).
+    */
+   public static final long DEFAULT_MAX_BACKOFF_MILLIS = 300000L;
+
+   /**
+    * Creates a spool with default segment size and backoff.
+    * @param directory The spool directory. Created if it does not exist.
+    * @param maxBytes The maximum number of bytes retained.
+    * @param maxAgeMillis The maximum age of a retained report.
+    * @param sender The sender used for replay.
+    * @throws IOException if the spool could not be opened.
+    */
+   public ReportSpool(final File directory, final long maxBytes, final long maxAgeMillis,
+                      final Sender sender) throws IOException {
+      this(directory, maxBytes, maxAgeMillis, DEFAULT_MAX_SEGMENT_BYTES,
+              DEFAULT_MIN_BACKOFF_MILLIS, DEFAULT_MAX_BACKOFF_MILLIS, sender);
+   }
+
+   /**
+    * Creates a spool.
+    * @param directory The spool directory. Created if it does not exist.
+    * @param maxBytes The maximum number of bytes retained.
+    * @param maxAgeMillis The maximum age of a retained report.
+    * @param maxSegmentBytes The size at which a new segment is started.
+    * @param minBackoffMillis The delay between replay checks, and after the first failed replay.
+    * @param maxBackoffMillis The maximum delay after repeated failed replay.
+    * @param sender The sender used for replay.
+    * @throws IOException if the spool could not be opened.
+    */
+   public ReportSpool(final File directory,
+                      final long maxBytes,
+                      final long maxAgeMillis,
+                      final long maxSegmentBytes,
+                      final long minBackoffMillis,
+                      final long maxBackoffMillis,
+                      final Sender sender) throws IOException {
+      this.directory = directory.toPath();
+      this.maxBytes = maxBytes;
+      this.maxAgeMillis = maxAgeMillis;
+      this.maxSegmentBytes = maxSegmentBytes;
+      this.minBackoffMillis = minBackoffMillis;
+      this.maxBackoffMillis = maxBackoffMillis;
+      this.sender = sender;
+      Files.createDirectories(this.directory);
+      this.cursorChannel = FileChannel.open(this.directory.resolve(CURSOR_FILE),
+              StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+      recover();
+      this.metrics = ImmutableMap.<String, Metric>builder()
+              .put("spool-depth", (Gauge<Integer>)this::depth)
+              .put("spool-bytes", (Gauge<Long>)this::bytes)
+              .put("spool-oldest-age-millis", (Gauge<Long>)this::oldestAgeMillis)
+              .put("spool-replayed", replayed)
+              .put("spool-dropped", dropped)
+              .put("spool-replay-failures", replayFailures)
+              .build();
+      this.replayService = Executors.newSingleThreadScheduledExecutor(
+              new ThreadFactoryBuilder().setNameFormat("essem-spool-%d").setDaemon(true).build());
+      this.replayService.schedule(this::replay, minBackoffMillis, TimeUnit.MILLISECONDS);
+   }
+
+   /**
+    * Appends a report to the spool.
+    * <p>
+    *    If the spool would exceed its byte limit, the oldest reports are dropped.
+    *    Reports larger than the limit are not spooled.
+    * </p>
+    * @param report The report bytes.
+    * @throws IOException on write error.
+    */
+   public void append(final byte[] report) throws IOException {
+
+      final long recordBytes = HEADER_BYTES + report.length;
+      if(recordBytes > maxBytes) {
+         dropped.mark();
+         return;
+      }
+
+      final long createdMillis = System.currentTimeMillis();
+      CRC32 crc = new CRC32();
+      crc.update(report);
+      ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+      header.putInt(report.length).putLong(createdMillis).putInt((int)crc.getValue()).flip();
+
+      synchronized(this) {
+         while(!entries.isEmpty() && totalBytes + recordBytes > maxBytes) {
+            dropped.mark();
+            acknowledge(entries.peekFirst());
+         }
+
+         if(writeChannel == null || (writeOffset > 0L && writeOffset + recordBytes > maxSegmentBytes)) {
+            rollSegment();
+         }
+
+         final long offset = writeOffset;
+         ByteBuffer[] buffers = new ByteBuffer[]{header, ByteBuffer.wrap(report)};
+         while(header.hasRemaining() || buffers[1].hasRemaining()) {
+            writeChannel.write(buffers);
+         }
+         writeChannel.force(false);
+         writeOffset += recordBytes;
+         entries.addLast(new Entry(writeSegment, offset, report.length, createdMillis));
+         totalBytes += recordBytes;
+      }
+   }
+
+   /**
+    * Stops replay and closes the spool. Spooled reports remain on disk.
+    */
+   public void shutdown() {
+      replayService.shutdownNow();
+      synchronized(this) {
+         closeQuietly(writeChannel);
+         writeChannel = null;
+         closeQuietly(cursorChannel);
+      }
+   }
+
+   @Override
+   public Map<String, Metric> getMetrics() {
+      return metrics;
+   }
+
+   /**
+    * @return The number of spooled reports.
+    */
+   public synchronized int depth() {
+      return entries.size();
+   }
+
+   /**
+    * @return The number of bytes spooled.
+    */
+   public synchronized long bytes() {
+      return totalBytes;
+   }
+
+   /**
+    * @return The age of the oldest spooled report in milliseconds, or {@code 0} if the spool is empty.
+    */
+   public synchronized long oldestAgeMillis() {
+      Entry first = entries.peekFirst();
+      return first != null ? System.currentTimeMillis() - first.createdMillis : 0L;
+   }
+
+   /**
+    * Replays spooled reports until the spool is empty or a send fails, then reschedules.
+    */
+   private void replay() {
+      long delayMillis = minBackoffMillis;
+      try {
+         Entry entry;
+         while((entry = peek()) != null) {
+            if(System.currentTimeMillis() - entry.createdMillis > maxAgeMillis) {
+               dropped.mark();
+               acknowledge(entry);
+               continue;
+            }
+
+            final byte[] report;
+            try {
+               report = read(entry);
+            } catch(IOException ioe) {
+               LOGGER.warn("Dropping unreadable spooled report", ioe);
+               dropped.mark();
+               acknowledge(entry);
+               continue;
+            }
+
+            final int code;
+            try {
+               code = sender.send(report);
+            } catch(IOException ioe) {
+               replayFailures.mark();
+               delayMillis = nextBackoff();
+               break;
+            }
+
+            if(code / 100 == 2) {
+               replayed.mark();
+               acknowledge(entry);
+               backoffMillis = 0L;
+            } else if(code / 100 == 5 || code == 429) {
+               replayFailures.mark();
+               delayMillis = nextBackoff();
+               break;
+            } else {
+               LOGGER.warn("Dropping spooled report rejected by server (" + code + ")");
+               dropped.mark();
+               acknowledge(entry);
+            }
+         }
+      } catch(Throwable t) {
+         LOGGER.error("Spool replay failed", t);
+      } finally {
+         if(!replayService.isShutdown()) {
+            replayService.schedule(this::replay, delayMillis, TimeUnit.MILLISECONDS);
+         }
+      }
+   }
+
+   /**
+    * Doubles the current backoff, up to the maximum.
+    * @return The next backoff delay.
+    */
+   private long nextBackoff() {
+      backoffMillis = backoffMillis == 0L ? minBackoffMillis : Math.min(backoffMillis * 2L, maxBackoffMillis);
+      return backoffMillis;
+   }
+
+   private synchronized Entry peek() {
+      return entries.peekFirst();
+   }
+
+   /**
+    * Reads a spooled report.
+    * @param entry The entry.
+    * @return The report bytes.
+    * @throws IOException on read error or if the record is corrupt.
+    */
+   private byte[] read(final Entry entry) throws IOException {
+      try(FileChannel channel = FileChannel.open(segmentPath(entry.segment), StandardOpenOption.READ)) {
+         ByteBuffer buf = ByteBuffer.allocate(HEADER_BYTES + entry.length);
+         readFully(channel, buf, entry.offset);
+         buf.flip();
+         int length = buf.getInt();
+         buf.getLong();
+         int expectedCRC = buf.getInt();
+         byte[] report = new byte[length];
+         buf.get(report);
+         CRC32 crc = new CRC32();
+         crc.update(report);
+         if((int)crc.getValue() != expectedCRC) {
+            throw new IOException("Corrupt spool record in segment " + entry.segment + " at " + entry.offset);
+         }
+         return report;
+      }
+   }
+
+   /**
+    * Removes the first entry, records the new replay position and deletes fully consumed segments.
+    * @param entry The entry, which must be first.
+    */
+   private synchronized void acknowledge(final Entry entry) {
+      if(entries.peekFirst() != entry) {
+         return;
+      }
+      entries.removeFirst();
+      totalBytes -= HEADER_BYTES + entry.length;
+      Entry next = entries.peekFirst();
+      long cursorSegment = next != null ? next.segment : entry.segment;
+      long cursorOffset = next != null ? next.offset : entry.offset + HEADER_BYTES + entry.length;
+      try {
+         writeCursor(cursorSegment, cursorOffset);
+         for(long segment = entry.segment; segment < cursorSegment; segment++) {
+            Files.deleteIfExists(segmentPath(segment));
+         }
+      } catch(IOException ioe) {
+         LOGGER.warn("Unable to update spool cursor", ioe);
+      }
+   }
+
+   /**
+    * Starts a new segment.
+    * @throws IOException on create error.
+    */
+   private void rollSegment() throws IOException {
+      closeQuietly(writeChannel);
+      writeSegment++;
+      writeOffset = 0L;
+      writeChannel = FileChannel.open(segmentPath(writeSegment),
+              StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+   }
+
+   /**
+    * Rebuilds the in-memory index from the cursor and existing segments, truncating any partial
+    * record at the end of the last segment.
+    * @throws IOException on read error.
+    */
+   private void recover() throws IOException {
+
+      long cursorSegment = 0L;
+      long cursorOffset = 0L;
+      if(cursorChannel.size() >= CURSOR_BYTES) {
+         ByteBuffer buf = ByteBuffer.allocate(CURSOR_BYTES);
+         readFully(cursorChannel, buf, 0L);
+         buf.flip();
+         cursorSegment = buf.getLong();
+         cursorOffset = buf.getLong();
+      }
+
+      File[] segmentFiles = directory.toFile().listFiles((dir, name) -> name.endsWith(SEGMENT_SUFFIX));
+      long[] segments = segmentFiles == null ? new long[0] : Arrays.stream(segmentFiles)
+              .map(File::getName)
+              .mapToLong(name -> {
+                 try {
+                    return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+                 } catch(NumberFormatException nfe) {
+                    return -1L;
+                 }
+              })
+              .filter(segment -> segment >= 0L)
+              .sorted()
+              .toArray();
+
+      for(long segment : segments) {
+         if(segment < cursorSegment) {
+            Files.deleteIfExists(segmentPath(segment));
+            continue;
+         }
+         try(FileChannel channel = FileChannel.open(segmentPath(segment), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long offset = segment == cursorSegment ? cursorOffset : 0L;
+            final long size = channel.size();
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            while(offset + HEADER_BYTES <= size) {
+               header.clear();
+               readFully(channel, header, offset);
+               header.flip();
+               int length = header.getInt();
+               long createdMillis = header.getLong();
+               if(length < 0 || offset + HEADER_BYTES + length > size) {
+                  break;
+               }
+               entries.addLast(new Entry(segment, offset, length, createdMillis));
+               totalBytes += HEADER_BYTES + length;
+               offset += HEADER_BYTES + length;
+            }
+            if(offset < size) {
+               LOGGER.warn("Truncating partial spool record in segment " + segment + " at " + offset);
+               channel.truncate(offset);
+            }
+         }
+         writeSegment = segment;
+      }
+   }
+
+   private void writeCursor(final long segment, final long offset) throws IOException {
+      ByteBuffer buf = ByteBuffer.allocate(CURSOR_BYTES);
+      buf.putLong(segment).putLong(offset).flip();
+      while(buf.hasRemaining()) {
+         cursorChannel.write(buf, buf.position());
+      }
+   }
+
+   private static void readFully(final FileChannel channel, final ByteBuffer buf, long position) throws IOException {
+      while(buf.hasRemaining()) {
+         int read = channel.read(buf, position);
+         if(read < 0) {
+            throw new IOException("Unexpected end of spool segment");
+         }
+         position += read;
+      }
+   }
+
+   private static void closeQuietly(final FileChannel channel) {
+      if(channel != null) {
+         try {
+            channel.close();
+         } catch(IOException ioe) {
+            //Ignore
+         }
+      }
+   }
+
+   private Path segmentPath(final long segment) {
+      return directory.resolve(String.format("%020d", segment) + SEGMENT_SUFFIX);
+   }
+
+   /**
+    * The location and creation time of a spooled report.
+    */
+   private static final class Entry {
+
+      Entry(final long segment, final long offset, final int length, final long createdMillis) {
+         this.segment = segment;
+         this.offset = offset;
+         this.length = length;
+         this.createdMillis = createdMillis;
+      }
+
+      final long segment;
+      final long offset;
+      final int length;
+      final long createdMillis;
+   }
+
+   /**
+    * The record header: length (int), created time (long), CRC32 (int).
+    */
+   private static final int HEADER_BYTES = 16;
+
+   /**
+    * The cursor: segment (long), offset (long).
+    */
+   private static final int CURSOR_BYTES = 16;
+
+   private static final String SEGMENT_SUFFIX = ".seg";
+   private static final String CURSOR_FILE = "cursor";
+
+   private final Path directory;
+   private final long maxBytes;
+   private final long maxAgeMillis;
+   private final long maxSegmentBytes;
+   private final long minBackoffMillis;
+   private final long maxBackoffMillis;
+   private final Sender sender;
+   private final FileChannel cursorChannel;
+   private final ScheduledExecutorService replayService;
+
+   /**
+    * Spooled entries, oldest first.
+    */
+   private final ArrayDeque<Entry> entries = new ArrayDeque<>();
+   private long totalBytes;
+   private FileChannel writeChannel;
+   private long writeSegment;
+   private long writeOffset;
+
+   /**
+    * The current backoff. Accessed only by the replay thread.
+    */
+   private long backoffMillis;
+
+   private final Meter replayed = new Meter();
+   private final Meter dropped = new Meter();
+   private final Meter replayFailures = new Meter();
+   private final ImmutableMap<String, Metric> metrics;
+
+   private static final Logger LOGGER = LoggerFactory.getLogger(ReportSpool.class);
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2018 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.essem.reporter;
+
+import com.codahale.metrics.MetricSet;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Sends encoded reports to an essem endpoint with an HTTP {@code PUT}.
+ */
+public interface ReportTransport extends MetricSet {
+
+   /**
+    * Writes a request body to a stream.
+    * <p>
+    *    A writer may be invoked more than once if a request is retried.
+    * </p>
+    */
+   @FunctionalInterface
+   public interface BodyWriter {
+
+      /**
+       * Writes the body.
+       * @param os The output stream. Implementations must not close the stream.
+       * @throws IOException on write error.
+       */
+      public void writeTo(OutputStream os) throws IOException;
+   }
+
+   /**
+    * Sends a report, blocking until the response is received.
+    * @param uri The endpoint URI.
+    * @param headers The request headers.
+    * @param body The request body.
+    * @return The HTTP response code.
+    * @throws IOException on send error.
+    */
+   public int send(URI uri, Map<String, String> headers, byte[] body) throws IOException;
+
+   /**
+    * Streams a report of unknown length, blocking until the response is received.
+    * <p>
+    *    The default implementation writes the body to memory and sends the bytes.
+    *    Streaming transports send the body with chunked transfer encoding as it is written.
+    * </p>
+    * @param uri The endpoint URI.
+    * @param headers The request headers.
+    * @param body Writes the request body.
+    * @return The HTTP response code.
+    * @throws IOException on send error.
+    */
+   public default int send(final URI uri, final Map<String, String> headers, final BodyWriter body) throws IOException {
+      ByteArrayOutputStream baos = new ByteArrayOutputStream();
+      body.writeTo(baos);
+      return send(uri, headers, baos.toByteArray());
+   }
+
+   /**
+    * Sends a report without blocking the caller.
+    * <p>
+    *    The default implementation sends on the calling thread and returns a completed future.
+    * </p>
+    * @param uri The endpoint URI.
+    * @param headers The request headers.
+    * @param body The request body.
+    * @return A future that completes with the HTTP response code.
+    */
+   public default CompletableFuture<Integer> sendAsync(final URI uri, final Map<String, String> headers,
+                                                      final byte[] body) {
+      CompletableFuture<Integer> future = new CompletableFuture<>();
+      try {
+         future.complete(send(uri, headers, body));
+      } catch(IOException ioe) {
+         future.completeExceptionally(ioe);
+      }
+      return future;
+   }
+
+   /**
+    * Releases any resources (connections, threads) held by the transport.
+    */
+   public default void shutdown() {
+   }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2018 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.essem.reporter;
+
+import com.codahale.metrics.Clock;
+import com.codahale.metrics.MetricFilter;
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+
+import java.io.File;
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * The arguments used to create a reporter.
+ * <p>
+ *    Configured by a {@link Builder}, or directly by the legacy reporter constructor.
+ * </p>
+ */
+class ReporterArguments {
+
+   /**
+    * The quantiles reported by default: the median, 75th, 95th, 98th, 99th and 99.9th percentiles.
+    */
+   private static final double[] DEFAULT_QUANTILES = {0.5, 0.75, 0.95, 0.98, 0.99, 0.999};
+
+   /**
+    * Creates arguments with default values.
+    * @param uri The essem endpoint URI.
+    * @param registry The registry to report.
+    */
+   ReporterArguments(final URI uri, final MetricRegistry registry) {
+      this.uri = uri;
+      this.registry = registry;
+      this.clock = Clock.defaultClock();
+      this.rateUnit = TimeUnit.SECONDS;
+      this.durationUnit = TimeUnit.MILLISECONDS;
+      this.filter = MetricFilter.ALL;
+      this.application = null;
+      this.host = null;
+      this.instance = null;
+   }
+
+   /**
+    * @return The configured HDR precisions, in match order.
+    */
+   final ImmutableList<HDRPrecision> hdrPrecisions() {
+      ImmutableList.Builder<HDRPrecision> precisions = ImmutableList.<HDRPrecision>builder().addAll(hdrPatternPrecisions);
+      if(hdrPrecision != null) {
+         precisions.add(hdrPrecision);
+      }
+      return precisions.build();
+   }
+
+   protected final URI uri;
+   protected final MetricRegistry registry;
+   protected String authValue;
+
+   protected Clock clock;
+   protected String application;
+   protected String host;
+   protected String instance;
+   protected String role;
+   protected String description;
+   protected Supplier<String> statusSupplier = () -> null;
+   protected Supplier<List<Alert>> alertSupplier = () -> null;
+
+   protected boolean deflate;
+   protected ReportCompressor compressor;
+   protected TimeUnit rateUnit;
+   protected TimeUnit durationUnit;
+   protected boolean skipUnchangedMetrics = false;
+   protected boolean skipUnchangedGauges = false;
+   protected double gaugeAbsoluteEpsilon;
+   protected double gaugeRelativeEpsilon;
+   protected int refreshIntervals;
+   protected MetricFilter filter;
+   protected EssemReporter.HdrReport hdrReport = EssemReporter.HdrReport.SNAPSHOT;
+   protected EssemReporter.HdrEncoding hdrEncoding = EssemReporter.HdrEncoding.COMPRESSED;
+   protected boolean lean;
+   protected HDRPrecision hdrPrecision;
+   protected String hdrConsumer;
+   protected final List<HDRPrecision> hdrPatternPrecisions = Lists.newArrayList();
+   protected double[] quantiles = DEFAULT_QUANTILES;
+   protected ReportTransport transport;
+   protected boolean streaming;
+   protected boolean nameDictionary;
+   protected boolean reservoirFootprint;
+   protected File spoolDirectory;
+   protected long spoolMaxBytes = Builder.DEFAULT_SPOOL_MAX_BYTES;
+   protected long spoolMaxAgeMillis = Builder.DEFAULT_SPOOL_MAX_AGE_MILLIS;
+   protected int sendQueueCapacity;
+   protected int buildParallelism;
+   protected int maxReportBytes;
+   protected long slowCycleMillis;
+   protected long gaugeTimeoutMillis;
+   protected int gaugeThreads = Builder.DEFAULT_GAUGE_THREADS;
+   protected GaugeEvaluator.Fallback gaugeTimeoutFallback = GaugeEvaluator.Fallback.LAST_VALUE;
+   protected SendQueue.OverflowPolicy sendQueueOverflowPolicy = SendQueue.OverflowPolicy.DROP_OLDEST;
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2018 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.essem.reporter;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricSet;
+import com.codahale.metrics.Timer;
+import com.google.common.collect.ImmutableMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * A bounded queue, drained by a dedicated thread, that decouples building reports from sending them.
+ * @param <T> The queued item type.
+ */
+public class SendQueue<T> implements MetricSet {
+
+   /**
+    * Selects what happens when an item is added to a full queue.
+    */
+   public enum OverflowPolicy {
+
+      /**
+       * Drop the oldest queued item to make room for the new item.
+       */
+      DROP_OLDEST,
+
+      /**
+       * Drop the new item.
+       */
+      DROP_NEWEST,
+
+      /**
+       * Drop all queued items and keep only the new item.
+       * <p>
+       *    Items are not merged: values recorded only in the dropped items, for example,
+       *    interval histograms, are lost unless the dropped consumer retains them.
+       *    Appropriate when the newest report supersedes older ones,
+       *    for example, when counts are cumulative and interval histograms are not reported.
+       * </p>
+       */
+      KEEP_NEWEST
+   }
+
+   /**
+    * Creates a queue and starts the sender thread.
+    * @param name The name of the sender thread.
+    * @param capacity The maximum number of queued items.
+    * @param overflowPolicy The overflow policy.
+    * @param sender Sends an item. Called only on the sender thread.
+    * @param dropped Receives items dropped on overflow or left unsent on shutdown.
+    */
+   public SendQueue(final String name,
+                    final int capacity,
+                    final OverflowPolicy overflowPolicy,
+                    final Consumer<T> sender,
+                    final Consumer<T> dropped) {
+      if(capacity < 1) {
+         throw new IllegalArgumentException("The 'capacity' must be > 0");
+      }
+      this.capacity = capacity;
+      this.overflowPolicy = overflowPolicy;
+      this.sender = sender;
+      this.dropped = dropped;
+      this.queue = new ArrayDeque<>(capacity);
+      this.metrics = ImmutableMap.<String, Metric>builder()
+              .put("send-queue-depth", (Gauge<Integer>)this::size)
+              .put("send-queue-lag", lagTimer)
+              .put("send-queue-dropped", droppedMeter)
+              .build();
+      this.senderThread = new Thread(this::drain, name);
+      this.senderThread.setDaemon(true);
+      this.senderThread.start();
+   }
+
+   /**
+    * Adds an item to the queue, applying the overflow policy if the queue is full.
+    * @param item The item.
+    */
+   public void enqueue(final T item) {
+      T overflow = null;
+      ArrayDeque<Queued<T>> replaced = null;
+      synchronized(queue) {
+         if(stopped) {
+            overflow = item;
+         } else if(queue.size() < capacity) {
+            queue.addLast(new Queued<>(item));
+            queue.notifyAll();
+         } else {
+            switch(overflowPolicy) {
+               case DROP_OLDEST:
+                  overflow = queue.removeFirst().item;
+                  queue.addLast(new Queued<>(item));
+                  break;
+               case DROP_NEWEST:
+                  overflow = item;
+                  break;
+               case KEEP_NEWEST:
+                  replaced = new ArrayDeque<>(queue);
+                  queue.clear();
+                  queue.addLast(new Queued<>(item));
+                  break;
+            }
+         }
+      }
+
+      if(overflow != null) {
+         droppedMeter.mark();
+         dropped.accept(overflow);
+      } else if(replaced != null) {
+         droppedMeter.mark(replaced.size());
+         replaced.forEach(queued -> dropped.accept(queued.item));
+      }
+   }
+
+   /**
+    * Stops the sender thread, waiting for queued items to be sent.
+    * Items not sent before the timeout are passed to the dropped consumer.
+    * @param timeout The maximum time to wait.
+    * @param unit The timeout units.
+    */
+   public void shutdown(final long timeout, final TimeUnit unit) {
+      synchronized(queue) {
+         stopped = true;
+         queue.notifyAll();
+      }
+
+      try {
+         senderThread.join(unit.toMillis(timeout));
+      } catch(InterruptedException ie) {
+         Thread.currentThread().interrupt();
+      }
+
+      senderThread.interrupt();
+      ArrayDeque<Queued<T>> unsent;
+      synchronized(queue) {
+         unsent = new ArrayDeque<>(queue);
+         queue.clear();
+      }
+      unsent.forEach(queued -> dropped.accept(queued.item));
+   }
+
+   /**
+    * @return The number of queued items.
+    */
+   public int size() {
+      synchronized(queue) {
+         return queue.size();
+      }
+   }
+
+   @Override
+   public Map<String, Metric> getMetrics() {
+      return metrics;
+   }
+
+   /**
+    * Sends queued items until stopped and the queue is empty.
+    */
+   private void drain() {
+      while(true) {
+         final Queued<T> next;
+         synchronized(queue) {
+            while(queue.isEmpty() && !stopped) {
+               try {
+                  queue.wait();
+               } catch(InterruptedException ie) {
+                  return;
+               }
+            }
+            if(queue.isEmpty()) {
+               return;
+            }
+            next = queue.removeFirst();
+         }
+
+         lagTimer.update(System.nanoTime() - next.enqueuedNanos, TimeUnit.NANOSECONDS);
+         try {
+            sender.accept(next.item);
+         } catch(Throwable t) {
+            LOGGER.error("Send failed", t);
+         }
+      }
+   }
+
+   /**
+    * A queued item with its enqueue time.
+    * @param <T> The item type.
+    */
+   private static final class Queued<T> {
+
+      Queued(final T item) {
+         this.item = item;
+         this.enqueuedNanos = System.nanoTime();
+      }
+
+      final T item;
+      final long enqueuedNanos;
+   }
+
+   private final int capacity;
+   private final OverflowPolicy overflowPolicy;
+   private final Consumer<T> sender;
+   private final Consumer<T> dropped;
+   private final ArrayDeque<Queued<T>> queue;
+   private final Thread senderThread;
+   private boolean stopped;
+
+   private final Timer lagTimer = new org.attribyte.essem.metrics.Timer();
+   private final Meter droppedMeter = new Meter();
+   private final ImmutableMap<String, Metric> metrics;
+
+   private static final Logger LOGGER = LoggerFactory.getLogger(SendQueue.class);
+}
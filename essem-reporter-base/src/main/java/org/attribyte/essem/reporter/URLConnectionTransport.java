@@ -0,0 +1,295 @@
+/*
+ * Copyright 2018 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.essem.reporter;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.Timer;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLSocketFactory;
+
+/**
+ * A transport that sends reports with {@code HttpURLConnection}.
+ * <p>
+ *    This is the default transport. It honors the JVM proxy configuration.
+ *    The response is read fully and closed, and the connection is disconnected only if the request fails,
+ *    so the JDK's keep-alive cache reuses connections for later reports
+ *    (see the {@code http.keepAlive} and {@code http.maxConnections} system properties).
+ * </p>
+ * <p>
+ *    Metrics report the time to connect (near zero when a cached connection is reused), the time to the
+ *    response status, and the number of sends. {@code HttpURLConnection} does not report whether a connection
+ *    was reused, so new connections are counted, and the reuse ratio computed, only for HTTPS endpoints,
+ *    where the TLS sockets are created by this transport's socket factory.
+ * </p>
+ */
+public class URLConnectionTransport implements ReportTransport {
+
+   /**
+    * Creates a transport that sends asynchronous reports on the calling thread.
+    */
+   public URLConnectionTransport() {
+      this(0);
+   }
+
+   /**
+    * Creates a transport.
+    * @param maxConcurrentSends The number of threads that send asynchronous reports.
+    * If {@code 0}, asynchronous reports are sent on the calling thread.
+    */
+   public URLConnectionTransport(final int maxConcurrentSends) {
+      this.sendService = maxConcurrentSends > 0 ? Executors.newFixedThreadPool(maxConcurrentSends,
+              new ThreadFactoryBuilder().setNameFormat("essem-transport-%d").setDaemon(true).build()) : null;
+      this.metrics = ImmutableMap.<String, Metric>builder()
+              .put("in-flight", (Gauge<Integer>)inFlight::get)
+              .put("sends", sends)
+              .put("connect-time", connectTimer)
+              .put("time-to-first-byte", firstByteTimer)
+              .put("connections-opened", connectionsOpened)
+              .put("connection-reuse-ratio", (Gauge<Double>)() -> {
+                 long tlsSendCount = tlsSends.getCount();
+                 return tlsSendCount > 0L ? 1.0 - (double)connectionsOpened.getCount() / (double)tlsSendCount : 0.0;
+              })
+              .build();
+   }
+
+   @Override
+   public int send(final URI uri, final Map<String, String> headers, final byte[] body) throws IOException {
+      return send(uri, headers, os -> os.write(body), body.length);
+   }
+
+   @Override
+   public int send(final URI uri, final Map<String, String> headers, final BodyWriter body) throws IOException {
+      return send(uri, headers, body, -1);
+   }
+
+   /**
+    * Sends a request on a cached connection, if available, or a new connection.
+    * @param uri The endpoint URI.
+    * @param headers The request headers.
+    * @param body Writes the request body.
+    * @param contentLength The length of the body or {@code -1} if the body is sent chunked.
+    * @return The response code.
+    * @throws IOException on send error.
+    */
+   private int send(final URI uri, final Map<String, String> headers,
+                    final BodyWriter body, final int contentLength) throws IOException {
+      HttpURLConnection conn = null;
+      InputStream is = null;
+      boolean completed = false;
+      inFlight.incrementAndGet();
+      sends.inc();
+      final long startNanos = System.nanoTime();
+      try {
+         URL url = uri.toURL();
+         conn = (HttpURLConnection)url.openConnection();
+         if(conn != null) {
+            if(conn instanceof HttpsURLConnection) {
+               ((HttpsURLConnection)conn).setSSLSocketFactory(socketFactory);
+               tlsSends.inc();
+            }
+            conn.setRequestMethod("PUT");
+            headers.forEach(conn::setRequestProperty);
+            conn.setDoOutput(true);
+            conn.setInstanceFollowRedirects(false);
+            if(contentLength >= 0) {
+               conn.setFixedLengthStreamingMode(contentLength);
+            } else {
+               conn.setChunkedStreamingMode(0);
+            }
+            conn.connect();
+            connectTimer.update(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            OutputStream os = conn.getOutputStream();
+            body.writeTo(os);
+            os.flush();
+            os.close();
+            int code = conn.getResponseCode();
+            firstByteTimer.update(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            is = code / 100 == 2 ? conn.getInputStream() : conn.getErrorStream();
+            discardInputAndClose(is);
+            is = null;
+            completed = true;
+            return code;
+         } else {
+            throw new IOException("Unable to 'PUT' to " + uri.toString());
+         }
+      } catch(IOException ioe) {
+         if(conn != null && is == null) discardInputAndClose(conn.getErrorStream());
+         throw ioe;
+      } finally {
+         inFlight.decrementAndGet();
+         if(conn != null && !completed) {
+            conn.disconnect();
+         }
+      }
+   }
+
+   @Override
+   public CompletableFuture<Integer> sendAsync(final URI uri, final Map<String, String> headers,
+                                               final byte[] body) {
+      if(sendService == null) {
+         return ReportTransport.super.sendAsync(uri, headers, body);
+      }
+
+      CompletableFuture<Integer> future = new CompletableFuture<>();
+      try {
+         sendService.execute(() -> {
+            try {
+               future.complete(send(uri, headers, body));
+            } catch(Throwable t) {
+               future.completeExceptionally(t);
+            }
+         });
+      } catch(RejectedExecutionException re) {
+         future.completeExceptionally(re);
+      }
+      return future;
+   }
+
+   @Override
+   public void shutdown() {
+      if(sendService != null) {
+         sendService.shutdown();
+      }
+   }
+
+   @Override
+   public Map<String, Metric> getMetrics() {
+      return metrics;
+   }
+
+   /**
+    * Reads and discards all input from a stream.
+    * @param is The input stream.
+    * @throws IOException on read error.
+    */
+   static void discardInputAndClose(final InputStream is) throws IOException {
+      if(is != null) {
+         ByteStreams.toByteArray(is);
+         try {
+            is.close();
+         } catch(IOException ioe) {
+            //Ignore
+         }
+      }
+   }
+
+   /**
+    * Sends asynchronous reports, or {@code null} if they are sent on the calling thread.
+    */
+   private final ExecutorService sendService;
+
+   /**
+    * A TLS socket factory that counts the sockets it creates.
+    * <p>
+    *    A single instance is shared by all connections from a transport, because the JDK caches
+    *    HTTPS connections by socket factory.
+    * </p>
+    */
+   private final class CountingSocketFactory extends SSLSocketFactory {
+
+      CountingSocketFactory(final SSLSocketFactory delegate) {
+         this.delegate = delegate;
+      }
+
+      @Override
+      public String[] getDefaultCipherSuites() {
+         return delegate.getDefaultCipherSuites();
+      }
+
+      @Override
+      public String[] getSupportedCipherSuites() {
+         return delegate.getSupportedCipherSuites();
+      }
+
+      @Override
+      public Socket createSocket() throws IOException {
+         connectionsOpened.inc();
+         return delegate.createSocket();
+      }
+
+      @Override
+      public Socket createSocket(final Socket socket, final String host, final int port,
+                                 final boolean autoClose) throws IOException {
+         connectionsOpened.inc();
+         return delegate.createSocket(socket, host, port, autoClose);
+      }
+
+      @Override
+      public Socket createSocket(final String host, final int port) throws IOException {
+         connectionsOpened.inc();
+         return delegate.createSocket(host, port);
+      }
+
+      @Override
+      public Socket createSocket(final String host, final int port,
+                                 final InetAddress localHost, final int localPort) throws IOException {
+         connectionsOpened.inc();
+         return delegate.createSocket(host, port, localHost, localPort);
+      }
+
+      @Override
+      public Socket createSocket(final InetAddress host, final int port) throws IOException {
+         connectionsOpened.inc();
+         return delegate.createSocket(host, port);
+      }
+
+      @Override
+      public Socket createSocket(final InetAddress address, final int port,
+                                 final InetAddress localAddress, final int localPort) throws IOException {
+         connectionsOpened.inc();
+         return delegate.createSocket(address, port, localAddress, localPort);
+      }
+
+      private final SSLSocketFactory delegate;
+   }
+
+   /**
+    * Creates the TLS sockets for HTTPS connections.
+    */
+   private final SSLSocketFactory socketFactory = new CountingSocketFactory(HttpsURLConnection.getDefaultSSLSocketFactory());
+
+   private final AtomicInteger inFlight = new AtomicInteger();
+   private final Counter sends = new Counter();
+   private final Counter tlsSends = new Counter();
+   private final Counter connectionsOpened = new Counter();
+   private final Timer connectTimer = new org.attribyte.essem.metrics.Timer();
+   private final Timer firstByteTimer = new org.attribyte.essem.metrics.Timer();
+   private final ImmutableMap<String, Metric> metrics;
+}
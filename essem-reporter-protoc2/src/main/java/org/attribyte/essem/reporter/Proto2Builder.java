@@ -48,8 +48,6 @@ public class Proto2Builder extends Builder {
 
    @Override
    public EssemReporter build() {
-      return new Proto2Reporter(uri, authValue, deflate,
-              registry, clock, application, host, instance, role, description, statusSupplier, filter, rateUnit, durationUnit,
-              skipUnchangedMetrics, hdrReport, alertSupplier);
+      return new Proto2Reporter(this);
    }
 }
\ No newline at end of file
@@ -15,29 +15,35 @@
 
 package org.attribyte.essem.reporter;
 
-import com.codahale.metrics.Clock;
 import com.codahale.metrics.Counter;
 import com.codahale.metrics.Gauge;
 import com.codahale.metrics.Histogram;
 import com.codahale.metrics.Meter;
-import com.codahale.metrics.MetricFilter;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.MetricSet;
 import com.codahale.metrics.Snapshot;
 import com.codahale.metrics.Timer;
 import com.google.common.base.Strings;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.MessageLite;
 import org.attribyte.essem.metrics.HDRReservoir;
 import org.attribyte.essem.proto.ReportProtos;
 
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 import java.util.SortedMap;
+import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
 
 /**
@@ -70,26 +76,12 @@ public class Proto2Reporter extends EssemReporter implements MetricSet {
       return new Proto2Builder(props, registry);
    }
 
-   Proto2Reporter(final URI uri,
-                  final String authValue,
-                  final boolean deflate,
-                  final MetricRegistry registry,
-                  final Clock clock,
-                  final String application,
-                  final String host,
-                  final String instance,
-                  final String role,
-                  final String description,
-                  final Supplier<String> statusSupplier,
-                  final MetricFilter filter,
-                  final TimeUnit rateUnit,
-                  final TimeUnit durationUnit,
-                  final boolean skipUnchangedMetrics,
-                  final HdrReport hdrReport,
-                  final Supplier<List<Alert>> alertSupplier) {
-      super(uri, authValue, deflate, registry, clock, application, host, instance,
-              role, description, statusSupplier,
-              filter, rateUnit, durationUnit, skipUnchangedMetrics, hdrReport, alertSupplier);
+   /**
+    * Creates a reporter from a builder.
+    * @param builder The builder.
+    */
+   Proto2Reporter(final Proto2Builder builder) {
+      super(builder);
    }
 
    /**
@@ -106,6 +98,134 @@ public class Proto2Reporter extends EssemReporter implements MetricSet {
                                                SortedMap<String, Histogram> histograms,
                                                SortedMap<String, Meter> meters,
                                                SortedMap<String, Timer> timers) {
+      return buildReport(gauges, counters, histograms, meters, timers, null);
+   }
+
+   /**
+    * Builds a report from various types of metrics, reporting name ids from the name dictionary.
+    * @param gauges A sorted map of gauges.
+    * @param counters A sorted map of counters.
+    * @param histograms A sorted map of histograms.
+    * @param meters A sorted map of meters.
+    * @param timers A sorted map of timers.
+    * @param names The report names, or {@code null} to report full names.
+    * @return The report.
+    */
+   protected ReportProtos.EssemReport buildReport(SortedMap<String, Gauge> gauges,
+                                                  SortedMap<String, Counter> counters,
+                                                  SortedMap<String, Histogram> histograms,
+                                                  SortedMap<String, Meter> meters,
+                                                  SortedMap<String, Timer> timers,
+                                                  final NameDictionary.Names names) {
+
+      if(buildPool != null) {
+         return merge(buildShards(gauges, counters, histograms, meters, timers, names));
+      }
+
+      ReportProtos.EssemReport.Builder builder = newReportBuilder();
+      lastMetricCount.set(gauges.size() + counters.size() + histograms.size() + meters.size() + timers.size());
+      gauges.forEach((name, gauge) -> addGauge(builder, name, gauge, names));
+      counters.forEach((name, counter) -> addCounter(builder, name, counter, names));
+      meters.forEach((name, meter) -> addMeter(builder, name, meter, names));
+      histograms.forEach((name, histogram) -> addHistogram(builder, name, histogram, names));
+      timers.forEach((name, timer) -> addTimer(builder, name, timer, names));
+      addNameDefinitions(builder, names);
+      return builder.build();
+   }
+
+   /**
+    * Builds a report as a list of partial reports (shards) on the build pool.
+    * <p>
+    *    Each shard holds a range of metrics of one type, in name order. The first shard holds the report
+    *    header fields and, if names are reported, the last holds the name definitions.
+    *    Because repeated fields of concatenated messages are appended, the encoded shards
+    *    may be concatenated to form the complete report.
+    * </p>
+    * @param gauges A sorted map of gauges.
+    * @param counters A sorted map of counters.
+    * @param histograms A sorted map of histograms.
+    * @param meters A sorted map of meters.
+    * @param timers A sorted map of timers.
+    * @param names The report names, or {@code null} to report full names.
+    * @return The shards.
+    */
+   protected List<ReportProtos.EssemReport> buildShards(SortedMap<String, Gauge> gauges,
+                                                        SortedMap<String, Counter> counters,
+                                                        SortedMap<String, Histogram> histograms,
+                                                        SortedMap<String, Meter> meters,
+                                                        SortedMap<String, Timer> timers,
+                                                        final NameDictionary.Names names) {
+      lastMetricCount.set(gauges.size() + counters.size() + histograms.size() + meters.size() + timers.size());
+      List<Callable<ReportProtos.EssemReport>> tasks = Lists.newArrayList();
+      tasks.add(() -> newReportBuilder().build());
+      addShardTasks(tasks, gauges, names, this::addGauge);
+      addShardTasks(tasks, counters, names, this::addCounter);
+      addShardTasks(tasks, meters, names, this::addMeter);
+      addShardTasks(tasks, histograms, names, this::addHistogram);
+      addShardTasks(tasks, timers, names, this::addTimer);
+      List<ReportProtos.EssemReport> shards = Lists.newArrayList(invokeAll(tasks));
+      if(names != null) {
+         ReportProtos.EssemReport.Builder builder = ReportProtos.EssemReport.newBuilder();
+         addNameDefinitions(builder, names);
+         shards.add(builder.build());
+      }
+      return shards;
+   }
+
+   /**
+    * Adds a metric to a report.
+    * @param <M> The metric type.
+    */
+   @FunctionalInterface
+   private interface MetricAppender<M> {
+
+      /**
+       * Adds a metric to a report.
+       * @param builder The report builder.
+       * @param name The metric name.
+       * @param metric The metric.
+       * @param names The report names, or {@code null} to report full names.
+       */
+      void add(ReportProtos.EssemReport.Builder builder, String name, M metric, NameDictionary.Names names);
+   }
+
+   /**
+    * Adds a task that builds a shard for each partition of a sorted map of metrics.
+    * @param tasks The list of tasks.
+    * @param metrics The metrics.
+    * @param names The report names, or {@code null} to report full names.
+    * @param appender Adds a metric to a shard.
+    * @param <M> The metric type.
+    */
+   private <M> void addShardTasks(final List<Callable<ReportProtos.EssemReport>> tasks,
+                                  final SortedMap<String, M> metrics,
+                                  final NameDictionary.Names names,
+                                  final MetricAppender<M> appender) {
+      for(List<Map.Entry<String, M>> partition : partition(metrics)) {
+         tasks.add(() -> {
+            ReportProtos.EssemReport.Builder builder = ReportProtos.EssemReport.newBuilder();
+            partition.forEach(metric -> appender.add(builder, metric.getKey(), metric.getValue(), names));
+            return builder.build();
+         });
+      }
+   }
+
+   /**
+    * Merges shards into a single report.
+    * @param shards The shards.
+    * @return The report.
+    */
+   private ReportProtos.EssemReport merge(final List<ReportProtos.EssemReport> shards) {
+      ReportProtos.EssemReport.Builder builder = ReportProtos.EssemReport.newBuilder();
+      shards.forEach(builder::mergeFrom);
+      return builder.build();
+   }
+
+   /**
+    * Creates a report builder with the header fields, status and alerts set.
+    * @return The builder.
+    */
+   private ReportProtos.EssemReport.Builder newReportBuilder() {
 
       ReportProtos.EssemReport.Builder builder = ReportProtos.EssemReport.newBuilder();
       builder.setTimestamp(clock.getTime());
@@ -116,6 +236,10 @@ public class Proto2Reporter extends EssemReporter implements MetricSet {
       if(!Strings.isNullOrEmpty(instance)) builder.setInstance(instance);
       if(!Strings.isNullOrEmpty(role)) builder.setRole(role);
       if(!Strings.isNullOrEmpty(description)) builder.setDescription(description);
+      if(hdrEncoding == HdrEncoding.RAW && hdrReport != HdrReport.NONE) {
+         builder.setHdrEncoding(ReportProtos.EssemReport.HdrEncoding.RAW);
+      }
+      if(lean) builder.setLean(true);
 
       if(statusSupplier != null) {
          String status = statusSupplier.get();
@@ -133,138 +257,239 @@ public class Proto2Reporter extends EssemReporter implements MetricSet {
          }
       }
 
-      lastMetricCount.set(gauges.size() + counters.size() + histograms.size() + meters.size() + timers.size());
+      return builder;
+   }
 
-      for(Map.Entry<String, Gauge> gauge : gauges.entrySet()) {
-         Object val = gauge.getValue().getValue();
-         ReportProtos.EssemReport.Gauge.Builder gaugeBuilder = builder.addGaugeBuilder();
-         gaugeBuilder.setName(gauge.getKey());
-         if(val instanceof Number) {
-            gaugeBuilder.setValue(((Number)val).doubleValue());
-         } else {
-            gaugeBuilder.setComment(val.toString());
-         }
+   /**
+    * Adds the name dictionary id and definitions to a report, if names are reported.
+    * @param builder The report builder.
+    * @param names The report names, or {@code null} if full names are reported.
+    */
+   private void addNameDefinitions(final ReportProtos.EssemReport.Builder builder, final NameDictionary.Names names) {
+      if(names != null) {
+         builder.setNameDictionaryId(names.dictionaryId());
+         names.forEachDefinition((id, name) -> builder.addNameDefinitionBuilder().setId(id).setName(name));
       }
+   }
 
-      for(Map.Entry<String, Counter> counter : counters.entrySet()) {
-         String name = counter.getKey();
-         long value = counter.getValue().getCount();
-         if(!skipCountedReport(name, value)) {
-            builder.addCounterBuilder()
-                    .setName(name)
-                    .setCount(value);
-         }
+   /**
+    * Adds a gauge to a report, unless unchanged and skipped.
+    * @param builder The report builder.
+    * @param name The gauge name.
+    * @param gauge The gauge.
+    * @param names The report names, or {@code null} to report full names.
+    */
+   private void addGauge(final ReportProtos.EssemReport.Builder builder, final String name,
+                         final Gauge gauge, final NameDictionary.Names names) {
+      final Object val;
+      if(gauge instanceof GaugeEvaluator.EvaluatedGauge) {
+         val = gauge.getValue(); //Timed by the gauge evaluator
+      } else {
+         final long startNanos = System.nanoTime();
+         val = gauge.getValue();
+         cycle.gauge(name, System.nanoTime() - startNanos);
+      }
+      if(skipGaugeReport(name, val)) {
+         return;
+      }
+      ReportProtos.EssemReport.Gauge.Builder gaugeBuilder = builder.addGaugeBuilder();
+      if(names != null) gaugeBuilder.setNameId(names.id(name));
+      else gaugeBuilder.setName(name);
+      if(val instanceof Number) {
+         gaugeBuilder.setValue(((Number)val).doubleValue());
+      } else {
+         gaugeBuilder.setComment(val.toString());
       }
+   }
+
+   /**
+    * Adds a counter to a report, unless unchanged and skipped.
+    * @param builder The report builder.
+    * @param name The counter name.
+    * @param counter The counter.
+    * @param names The report names, or {@code null} to report full names.
+    */
+   private void addCounter(final ReportProtos.EssemReport.Builder builder, final String name,
+                           final Counter counter, final NameDictionary.Names names) {
+      long value = counter.getCount();
+      if(!skipCountedReport(name, value)) {
+         ReportProtos.EssemReport.Counter.Builder counterBuilder = builder.addCounterBuilder().setCount(value);
+         if(names != null) counterBuilder.setNameId(names.id(name));
+         else counterBuilder.setName(name);
+      }
+   }
 
-      for(Map.Entry<String, Meter> nv : meters.entrySet()) {
-         String name = nv.getKey();
-         Meter meter = nv.getValue();
-         if(!skipCountedReport(name, meter.getCount())) {
-            builder.addMeterBuilder()
-                    .setName(name)
-                    .setCount(meter.getCount())
+   /**
+    * Adds a meter to a report, unless unchanged and skipped. Lean reports include only the count.
+    * @param builder The report builder.
+    * @param name The meter name.
+    * @param meter The meter.
+    * @param names The report names, or {@code null} to report full names.
+    */
+   private void addMeter(final ReportProtos.EssemReport.Builder builder, final String name,
+                         final Meter meter, final NameDictionary.Names names) {
+      if(!skipCountedReport(name, meter.getCount())) {
+         ReportProtos.EssemReport.Meter.Builder meterBuilder = builder.addMeterBuilder();
+         if(names != null) meterBuilder.setNameId(names.id(name));
+         else meterBuilder.setName(name);
+         meterBuilder.setCount(meter.getCount());
+         if(!lean) {
+            meterBuilder
                     .setOneMinuteRate(convertRate(meter.getOneMinuteRate()))
                     .setFiveMinuteRate(convertRate(meter.getFiveMinuteRate()))
                     .setFifteenMinuteRate(convertRate(meter.getFifteenMinuteRate()))
                     .setMeanRate(convertRate(meter.getMeanRate()));
          }
       }
+   }
 
-      for(Map.Entry<String, Histogram> nv : histograms.entrySet()) {
-         String name = nv.getKey();
-         Histogram histogram = nv.getValue();
-         if(!skipCountedReport(name, histogram.getCount())) {
-            Snapshot snapshot = histogram.getSnapshot();
-            final HDRReservoir.HDRSnapshot hdrSnapshot;
-            if(snapshot instanceof HDRReservoir.HDRSnapshot && hdrReport != HdrReport.NONE) {
-               hdrSnapshot = (HDRReservoir.HDRSnapshot)snapshot;
-               switch(hdrReport) {
-                  case TOTAL:
-                     snapshot = hdrSnapshot.totalSnapshot();
-                     break;
-                  case SNAPSHOT:
-                     snapshot = hdrSnapshot.sinceLastSnapshot();
-                     break;
-               }
-            } else {
-               hdrSnapshot = null;
+   /**
+    * Adds a histogram to a report, unless unchanged and skipped.
+    * Lean reports include only the count and HDR histogram, if available.
+    * @param builder The report builder.
+    * @param name The histogram name.
+    * @param histogram The histogram.
+    * @param names The report names, or {@code null} to report full names.
+    */
+   private void addHistogram(final ReportProtos.EssemReport.Builder builder, final String name,
+                             final Histogram histogram, final NameDictionary.Names names) {
+      if(!skipCountedReport(name, histogram.getCount())) {
+         final long startNanos = System.nanoTime();
+         Snapshot snapshot = snapshot(histogram);
+         cycle.snapshot(name, System.nanoTime() - startNanos);
+         final HDRReservoir.HDRSnapshot hdrSnapshot;
+         if(snapshot instanceof HDRReservoir.HDRSnapshot && hdrReport != HdrReport.NONE) {
+            hdrSnapshot = (HDRReservoir.HDRSnapshot)snapshot;
+            switch(hdrReport) {
+               case TOTAL:
+                  snapshot = hdrSnapshot.totalSnapshot();
+                  break;
+               case SNAPSHOT:
+                  snapshot = hdrSnapshot.sinceLastSnapshot();
+                  break;
             }
+         } else {
+            hdrSnapshot = null;
+         }
 
-            ReportProtos.EssemReport.Histogram.Builder histogramBuilder = builder.addHistogramBuilder();
+         ReportProtos.EssemReport.Histogram.Builder histogramBuilder = builder.addHistogramBuilder();
+         if(names != null) histogramBuilder.setNameId(names.id(name));
+         else histogramBuilder.setName(name);
+         histogramBuilder.setCount(histogram.getCount());
+         if(!lean || hdrSnapshot == null) {
             histogramBuilder
-                    .setName(name)
-                    .setCount(histogram.getCount())
                     .setMax(snapshot.getMax())
                     .setMin(snapshot.getMin())
-                    .setMedian(snapshot.getMedian())
                     .setMean(snapshot.getMean())
-                    .setStd(snapshot.getStdDev())
-                    .setPercentile75(snapshot.get75thPercentile())
-                    .setPercentile95(snapshot.get95thPercentile())
-                    .setPercentile98(snapshot.get98thPercentile())
-                    .setPercentile99(snapshot.get99thPercentile())
-                    .setPercentile999(snapshot.get999thPercentile());
-
-            if(hdrSnapshot != null) {
-               org.HdrHistogram.Histogram storedHistogram = hdrSnapshot.sinceLastSnapshot().getHistogram();
-               ByteBuffer buf = ByteBuffer.allocate(storedHistogram.getNeededByteBufferCapacity());
-               int compressedSize = storedHistogram.encodeIntoCompressedByteBuffer(buf);
-               buf.rewind();
-               histogramBuilder.setHdrHistogram(ByteString.copyFrom(buf, compressedSize));
+                    .setStd(snapshot.getStdDev());
+            final double[] values = quantileValues(snapshot);
+            for(int i = 0; i < quantiles.length; i++) {
+               setQuantile(histogramBuilder, quantiles[i], values[i]);
             }
          }
+
+         if(hdrSnapshot != null) {
+            final long encodeStartNanos = System.nanoTime();
+            histogramBuilder.setHdrHistogram(encodeHdr(name, hdrSnapshot.sinceLastSnapshot().getHistogram(), ByteString::copyFrom));
+            cycle.hdrEncode(name, System.nanoTime() - encodeStartNanos);
+            hdrSnapshot.recycle();
+         }
       }
+   }
 
-      for(Map.Entry<String, Timer> nv : timers.entrySet()) {
-         final String name = nv.getKey();
-         Timer timer = nv.getValue();
-         if(!skipCountedReport(name, timer.getCount())) {
-            Snapshot snapshot = timer.getSnapshot();
-            final HDRReservoir.HDRSnapshot hdrSnapshot;
-            if(snapshot instanceof HDRReservoir.HDRSnapshot && hdrReport != HdrReport.NONE) {
-               hdrSnapshot = (HDRReservoir.HDRSnapshot)snapshot;
-               switch(hdrReport) {
-                  case TOTAL:
-                     snapshot = hdrSnapshot.totalSnapshot();
-                     break;
-                  case SNAPSHOT:
-                     snapshot = hdrSnapshot.sinceLastSnapshot();
-                     break;
-               }
-            } else {
-               hdrSnapshot = null;
+   /**
+    * Adds a timer to a report, unless unchanged and skipped.
+    * Lean reports include only the count and HDR histogram, if available.
+    * @param builder The report builder.
+    * @param name The timer name.
+    * @param timer The timer.
+    * @param names The report names, or {@code null} to report full names.
+    */
+   private void addTimer(final ReportProtos.EssemReport.Builder builder, final String name,
+                         final Timer timer, final NameDictionary.Names names) {
+      if(!skipCountedReport(name, timer.getCount())) {
+         final long startNanos = System.nanoTime();
+         Snapshot snapshot = snapshot(timer);
+         cycle.snapshot(name, System.nanoTime() - startNanos);
+         final HDRReservoir.HDRSnapshot hdrSnapshot;
+         if(snapshot instanceof HDRReservoir.HDRSnapshot && hdrReport != HdrReport.NONE) {
+            hdrSnapshot = (HDRReservoir.HDRSnapshot)snapshot;
+            switch(hdrReport) {
+               case TOTAL:
+                  snapshot = hdrSnapshot.totalSnapshot();
+                  break;
+               case SNAPSHOT:
+                  snapshot = hdrSnapshot.sinceLastSnapshot();
+                  break;
             }
+         } else {
+            hdrSnapshot = null;
+         }
 
-            ReportProtos.EssemReport.Timer.Builder timerBuilder = builder.addTimerBuilder();
+         ReportProtos.EssemReport.Timer.Builder timerBuilder = builder.addTimerBuilder();
+         if(names != null) timerBuilder.setNameId(names.id(name));
+         else timerBuilder.setName(name);
+         timerBuilder.setCount(timer.getCount());
+         if(!lean) {
             timerBuilder
-                    .setName(nv.getKey())
                     .setOneMinuteRate(convertRate(timer.getOneMinuteRate()))
                     .setFiveMinuteRate(convertRate(timer.getFiveMinuteRate()))
                     .setFifteenMinuteRate(convertRate(timer.getFifteenMinuteRate()))
-                    .setMeanRate(convertRate(timer.getMeanRate()))
-                    .setCount(timer.getCount())
+                    .setMeanRate(convertRate(timer.getMeanRate()));
+         }
+         if(!lean || hdrSnapshot == null) {
+            timerBuilder
                     .setMax(convertDuration(snapshot.getMax()))
                     .setMin(convertDuration(snapshot.getMin()))
-                    .setMedian(convertDuration(snapshot.getMedian()))
                     .setMean(convertDuration(snapshot.getMean()))
-                    .setStd(convertDuration(snapshot.getStdDev()))
-                    .setPercentile75(convertDuration(snapshot.get75thPercentile()))
-                    .setPercentile95(convertDuration(snapshot.get95thPercentile()))
-                    .setPercentile98(convertDuration(snapshot.get98thPercentile()))
-                    .setPercentile99(convertDuration(snapshot.get99thPercentile()))
-                    .setPercentile999(convertDuration(snapshot.get999thPercentile()));
-
-            if(hdrSnapshot != null) {
-               org.HdrHistogram.Histogram storedHistogram = hdrSnapshot.sinceLastSnapshot().getHistogram();
-               ByteBuffer buf = ByteBuffer.allocate(storedHistogram.getNeededByteBufferCapacity());
-               int compressedSize = storedHistogram.encodeIntoCompressedByteBuffer(buf);
-               buf.rewind();
-               timerBuilder.setHdrHistogram(ByteString.copyFrom(buf, compressedSize));
+                    .setStd(convertDuration(snapshot.getStdDev()));
+            final double[] values = quantileValues(snapshot);
+            for(int i = 0; i < quantiles.length; i++) {
+               setQuantile(timerBuilder, quantiles[i], convertDuration(values[i]));
             }
          }
+
+         if(hdrSnapshot != null) {
+            final long encodeStartNanos = System.nanoTime();
+            timerBuilder.setHdrHistogram(encodeHdr(name, hdrSnapshot.sinceLastSnapshot().getHistogram(), ByteString::copyFrom));
+            cycle.hdrEncode(name, System.nanoTime() - encodeStartNanos);
+            hdrSnapshot.recycle();
+         }
       }
+   }
 
-      return builder.build();
+   /**
+    * Sets a quantile value in its dedicated histogram field or, if none, adds it to the quantile list.
+    * @param histogramBuilder The histogram builder.
+    * @param quantile The quantile.
+    * @param value The value.
+    */
+   private static void setQuantile(final ReportProtos.EssemReport.Histogram.Builder histogramBuilder,
+                                   final double quantile, final double value) {
+      if(quantile == 0.5) histogramBuilder.setMedian(value);
+      else if(quantile == 0.75) histogramBuilder.setPercentile75(value);
+      else if(quantile == 0.95) histogramBuilder.setPercentile95(value);
+      else if(quantile == 0.98) histogramBuilder.setPercentile98(value);
+      else if(quantile == 0.99) histogramBuilder.setPercentile99(value);
+      else if(quantile == 0.999) histogramBuilder.setPercentile999(value);
+      else histogramBuilder.addQuantileBuilder().setQuantile(quantile).setValue(value);
+   }
+
+   /**
+    * Sets a quantile value in its dedicated timer field or, if none, adds it to the quantile list.
+    * @param timerBuilder The timer builder.
+    * @param quantile The quantile.
+    * @param value The value.
+    */
+   private static void setQuantile(final ReportProtos.EssemReport.Timer.Builder timerBuilder,
+                                   final double quantile, final double value) {
+      if(quantile == 0.5) timerBuilder.setMedian(value);
+      else if(quantile == 0.75) timerBuilder.setPercentile75(value);
+      else if(quantile == 0.95) timerBuilder.setPercentile95(value);
+      else if(quantile == 0.98) timerBuilder.setPercentile98(value);
+      else if(quantile == 0.99) timerBuilder.setPercentile99(value);
+      else if(quantile == 0.999) timerBuilder.setPercentile999(value);
+      else timerBuilder.addQuantileBuilder().setQuantile(quantile).setValue(value);
    }
 
    @Override
@@ -275,20 +500,176 @@ public class Proto2Reporter extends EssemReporter implements MetricSet {
                       SortedMap<String, Timer> timers) {
 
       try {
-         int responseCode = send(buildReport(gauges, counters, histograms, meters, timers).toByteArray());
-         if(responseCode / 100 != 2) {
-            LOGGER.warn("EssemReporter: Unable to report (" + responseCode + ")");
-            sendErrors.mark();
+         gauges = evaluateGauges(gauges);
+         final NameDictionary.Names names = nameDictionary != null ? nameDictionary.begin() : null;
+         final long buildStartNanos = System.nanoTime();
+         if(buildPool != null && maxReportBytes == 0) {
+            final List<ReportProtos.EssemReport> shards = buildShards(gauges, counters, histograms, meters, timers, names);
+            List<Callable<byte[]>> encoders = Lists.newArrayListWithCapacity(shards.size());
+            shards.forEach(shard -> encoders.add(shard::toByteArray));
+            final List<byte[]> encoded = invokeAll(encoders);
+            cycle.build(System.nanoTime() - buildStartNanos);
+            ReportTransport.BodyWriter writer = os -> {
+               for(byte[] shard : encoded) {
+                  os.write(shard);
+               }
+            };
+            if(names != null) {
+               sendReport(writer, () -> concat(encoded),
+                       () -> expandNames(merge(shards), names::name).toByteArray(), names);
+            } else {
+               sendReport(writer, () -> concat(encoded));
+            }
+            return;
+         }
+
+         ReportProtos.EssemReport report = buildReport(gauges, counters, histograms, meters, timers, names);
+         cycle.build(System.nanoTime() - buildStartNanos);
+         if(maxReportBytes > 0 && report.getSerializedSize() > maxReportBytes) {
+            List<ReportProtos.EssemReport> chunks = split(report, maxReportBytes);
+            List<Supplier<byte[]>> encoders = Lists.newArrayListWithCapacity(chunks.size());
+            List<Supplier<byte[]>> spoolEncoders = Lists.newArrayListWithCapacity(chunks.size());
+            for(ReportProtos.EssemReport chunk : chunks) {
+               encoders.add(chunk::toByteArray);
+               spoolEncoders.add(names != null ?
+                       () -> expandNames(chunk, names::name).toByteArray() : chunk::toByteArray);
+            }
+            sendReportChunks(encoders, spoolEncoders, names);
+         } else if(names != null) {
+            sendReport(report::writeTo, report::toByteArray,
+                    () -> expandNames(report, names::name).toByteArray(), names);
          } else {
-            LOGGER.debug("EssemReporter: Reported (" + responseCode + ")");
+            sendReport(report::writeTo, report::toByteArray);
          }
-      } catch(Throwable ioe) {
-         ioe.printStackTrace();
-         LOGGER.warn("Unable to report to Essem", ioe);
+      } catch(Throwable t) {
+         LOGGER.warn("Unable to report to Essem", t);
          sendErrors.mark();
       }
    }
 
+   /**
+    * Replaces name ids with names and removes the dictionary fields from a report.
+    * @param report The report.
+    * @param names Resolves a name id.
+    * @return The expanded report.
+    */
+   static ReportProtos.EssemReport expandNames(final ReportProtos.EssemReport report, final IntFunction<String> names) {
+      ReportProtos.EssemReport.Builder builder = report.toBuilder();
+      builder.clearNameDefinition().clearNameDictionaryId();
+      for(ReportProtos.EssemReport.Gauge.Builder gauge : builder.getGaugeBuilderList()) {
+         if(gauge.getNameId() != 0) {
+            gauge.setName(names.apply(gauge.getNameId())).clearNameId();
+         }
+      }
+      for(ReportProtos.EssemReport.Counter.Builder counter : builder.getCounterBuilderList()) {
+         if(counter.getNameId() != 0) {
+            counter.setName(names.apply(counter.getNameId())).clearNameId();
+         }
+      }
+      for(ReportProtos.EssemReport.Meter.Builder meter : builder.getMeterBuilderList()) {
+         if(meter.getNameId() != 0) {
+            meter.setName(names.apply(meter.getNameId())).clearNameId();
+         }
+      }
+      for(ReportProtos.EssemReport.Histogram.Builder histogram : builder.getHistogramBuilderList()) {
+         if(histogram.getNameId() != 0) {
+            histogram.setName(names.apply(histogram.getNameId())).clearNameId();
+         }
+      }
+      for(ReportProtos.EssemReport.Timer.Builder timer : builder.getTimerBuilderList()) {
+         if(timer.getNameId() != 0) {
+            timer.setName(names.apply(timer.getNameId())).clearNameId();
+         }
+      }
+      return builder.build();
+   }
+
+   /**
+    * Splits a report into chunks no larger than a maximum size, if possible.
+    * <p>
+    *    Every chunk has the timestamp, units and identity fields of the report.
+    *    Status and alerts are sent with the first chunk. Metrics keep their order, and each chunk
+    *    carries the name definitions for the name ids it uses. A metric larger than the maximum is sent in a chunk by itself.
+    * </p>
+    * @param report The report.
+    * @param maxBytes The maximum encoded size of a chunk.
+    * @return The chunks.
+    */
+   protected List<ReportProtos.EssemReport> split(final ReportProtos.EssemReport report, final int maxBytes) {
+      Chunker chunker = new Chunker(report, maxBytes);
+      report.getGaugeList().forEach(gauge -> chunker.add(gauge, ReportProtos.EssemReport.GAUGE_FIELD_NUMBER,
+              gauge.getNameId(), ReportProtos.EssemReport.Builder::addGauge));
+      report.getCounterList().forEach(counter -> chunker.add(counter, ReportProtos.EssemReport.COUNTER_FIELD_NUMBER,
+              counter.getNameId(), ReportProtos.EssemReport.Builder::addCounter));
+      report.getMeterList().forEach(meter -> chunker.add(meter, ReportProtos.EssemReport.METER_FIELD_NUMBER,
+              meter.getNameId(), ReportProtos.EssemReport.Builder::addMeter));
+      report.getHistogramList().forEach(histogram -> chunker.add(histogram, ReportProtos.EssemReport.HISTOGRAM_FIELD_NUMBER,
+              histogram.getNameId(), ReportProtos.EssemReport.Builder::addHistogram));
+      report.getTimerList().forEach(timer -> chunker.add(timer, ReportProtos.EssemReport.TIMER_FIELD_NUMBER,
+              timer.getNameId(), ReportProtos.EssemReport.Builder::addTimer));
+      return chunker.finish();
+   }
+
+   /**
+    * Accumulates metrics into size-bounded chunks.
+    */
+   private static final class Chunker {
+
+      Chunker(final ReportProtos.EssemReport report, final int maxBytes) {
+         this.maxBytes = maxBytes;
+         ReportProtos.EssemReport.Builder first = report.toBuilder()
+                 .clearGauge().clearCounter().clearMeter().clearHistogram().clearTimer().clearNameDefinition();
+         this.header = first.clone().clearStatus().clearAlert().build();
+         this.current = first;
+         this.currentSize = first.build().getSerializedSize();
+         for(ReportProtos.EssemReport.NameDefinition definition : report.getNameDefinitionList()) {
+            definitions.put(definition.getId(), definition);
+         }
+      }
+
+      <M extends MessageLite> void add(final M metric, final int fieldNumber, final int nameId,
+                                       final BiConsumer<ReportProtos.EssemReport.Builder, M> adder) {
+         ReportProtos.EssemReport.NameDefinition definition = nameId != 0 ? definitions.get(nameId) : null;
+         int size = CodedOutputStream.computeMessageSize(fieldNumber, metric);
+         if(definition != null && !defined.contains(nameId)) {
+            size += CodedOutputStream.computeMessageSize(ReportProtos.EssemReport.NAMEDEFINITION_FIELD_NUMBER, definition);
+         }
+
+         if(currentMetrics > 0 && currentSize + size > maxBytes) {
+            chunks.add(current.build());
+            current = header.toBuilder();
+            currentSize = header.getSerializedSize();
+            currentMetrics = 0;
+            defined.clear();
+            if(definition != null) {
+               size = CodedOutputStream.computeMessageSize(fieldNumber, metric) +
+                       CodedOutputStream.computeMessageSize(ReportProtos.EssemReport.NAMEDEFINITION_FIELD_NUMBER, definition);
+            }
+         }
+
+         adder.accept(current, metric);
+         if(definition != null && defined.add(nameId)) {
+            current.addNameDefinition(definition);
+         }
+         currentSize += size;
+         currentMetrics++;
+      }
+
+      List<ReportProtos.EssemReport> finish() {
+         chunks.add(current.build());
+         return chunks;
+      }
+
+      private final int maxBytes;
+      private final ReportProtos.EssemReport header;
+      private final Map<Integer, ReportProtos.EssemReport.NameDefinition> definitions = Maps.newHashMap();
+      private final Set<Integer> defined = Sets.newHashSet();
+      private final List<ReportProtos.EssemReport> chunks = Lists.newArrayList();
+      private ReportProtos.EssemReport.Builder current;
+      private int currentSize;
+      private int currentMetrics;
+   }
+
    /**
     * Converts time units to the proto enum.
     * @param timeUnit The time unit.
@@ -14,19 +14,48 @@
  */
 
 package org.attribyte.essem.reporter;
+import com.codahale.metrics.Clock;
 import com.codahale.metrics.Counter;
 import com.codahale.metrics.Gauge;
 import com.codahale.metrics.Histogram;
 import com.codahale.metrics.Meter;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Timer;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.google.common.io.ByteStreams;
+import com.google.protobuf.ByteString;
+import com.sun.net.httpserver.HttpServer;
+import org.attribyte.essem.metrics.CompactHDRReservoir;
+import org.attribyte.essem.metrics.HDRReservoir;
 import org.attribyte.essem.proto.ReportProtos;
 import org.junit.Test;
 
 import static org.junit.Assert.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
 
 /**
  * Very basic reporter tests.
@@ -138,6 +167,835 @@ public class EssemReporterTest {
       assertEquals(500, (int)report.getHistogram(0).getPercentile999());
    }
 
+   @Test
+   public void testKeepAliveTransport() throws Exception {
+      List<ReportProtos.EssemReport> received = new CopyOnWriteArrayList<>();
+      Set<Integer> clientPorts = Sets.newConcurrentHashSet();
+      HttpServer server = startServer(received);
+      server.createContext("/keep-alive", exchange -> {
+         clientPorts.add(exchange.getRemoteAddress().getPort());
+         try(InputStream is = exchange.getRequestBody()) {
+            received.add(ReportProtos.EssemReport.parseFrom(ByteStreams.toByteArray(is)));
+         }
+         exchange.sendResponseHeaders(202, -1);
+         exchange.close();
+      });
+      try {
+         MetricRegistry registry = new MetricRegistry();
+         registry.counter("test-counter-0").inc(314);
+         Proto2Reporter reporter = (Proto2Reporter)Proto2Reporter.newBuilder(
+                 new URI("http://127.0.0.1:" + server.getAddress().getPort() + "/keep-alive"), registry)
+                 .withTransport(new URLConnectionTransport(1))
+                 .build();
+         reporter.report();
+         reporter.report();
+         reporter.report();
+         assertEquals(3, received.size());
+         assertEquals(314, received.get(2).getCounter(0).getCount());
+         assertEquals(1, clientPorts.size());
+         assertEquals(0, ((Gauge<?>)reporter.getMetrics().get("in-flight")).getValue());
+         assertEquals(3L, ((Counter)reporter.getMetrics().get("sends")).getCount());
+         assertEquals(3L, ((Timer)reporter.getMetrics().get("connect-time")).getCount());
+         assertEquals(3L, ((Timer)reporter.getMetrics().get("time-to-first-byte")).getCount());
+         assertEquals(0L, ((Meter)reporter.getMetrics().get("failed-reports")).getCount());
+         reporter.stop();
+      } finally {
+         server.stop(0);
+      }
+   }
+
+   @Test
+   public void testStreaming() throws Exception {
+      List<ReportProtos.EssemReport> received = new CopyOnWriteArrayList<>();
+      HttpServer server = startServer(received);
+      try {
+         MetricRegistry registry = new MetricRegistry();
+         for(int i = 0; i < 20000; i++) {
+            registry.counter("test-counter-with-a-typically-long-metric-name-" + i).inc(i);
+         }
+
+         Proto2Reporter bufferedReporter = (Proto2Reporter)Proto2Reporter.newBuilder(serverURI(server), registry)
+                 .withTransport(new URLConnectionTransport(4))
+                 .withDeflate(true)
+                 .build();
+         Proto2Reporter streamingReporter = (Proto2Reporter)Proto2Reporter.newBuilder(serverURI(server), registry)
+                 .withTransport(new URLConnectionTransport(4))
+                 .withDeflate(true)
+                 .withStreaming(true)
+                 .build();
+
+         bufferedReporter.report();
+         streamingReporter.report();
+         long bufferedBytes = allocatedBytes(bufferedReporter::report);
+         long streamingBytes = allocatedBytes(streamingReporter::report);
+         int reportSize = received.get(0).getSerializedSize();
+         //Streaming must save (at least) the serialized copy of the report...
+         assertTrue(bufferedBytes - streamingBytes >= reportSize);
+         assertEquals(received.get(0).getCounterList(), received.get(1).getCounterList());
+         assertEquals(20000, received.get(1).getCounterCount());
+         assertTrue(((Histogram)streamingReporter.getMetrics().get("report-size-bytes")).getSnapshot().getMax() > 0L);
+         bufferedReporter.stop();
+         streamingReporter.stop();
+      } finally {
+         server.stop(0);
+      }
+   }
+
+   @Test
+   public void testSpool() throws Exception {
+      File directory = Files.createTempDirectory("essem-spool").toFile();
+      List<String> sent = new CopyOnWriteArrayList<>();
+      AtomicBoolean available = new AtomicBoolean(false);
+      ReportSpool.Sender sender = report -> {
+         if(!available.get()) {
+            throw new IOException("Unavailable");
+         }
+         sent.add(new String(report, StandardCharsets.UTF_8));
+         return 202;
+      };
+
+      ReportSpool spool = new ReportSpool(directory, 1024L, 60000L, 64L, 10L, 20L, sender);
+      for(int i = 0; i < 5; i++) {
+         spool.append(("report-" + i).getBytes(StandardCharsets.UTF_8));
+      }
+      assertEquals(5, spool.depth());
+      spool.shutdown();
+
+      spool = new ReportSpool(directory, 1024L, 60000L, 64L, 10L, 20L, sender);
+      assertEquals(5, spool.depth());
+      available.set(true);
+      for(int i = 0; i < 100 && spool.depth() > 0; i++) {
+         Thread.sleep(20L);
+      }
+      assertEquals(0, spool.depth());
+      assertEquals(0L, spool.bytes());
+      assertEquals(Arrays.asList("report-0", "report-1", "report-2", "report-3", "report-4"), sent);
+      spool.shutdown();
+
+      spool = new ReportSpool(directory, 1024L, 60000L, 64L, 10L, 20L, sender);
+      assertEquals(0, spool.depth());
+      spool.shutdown();
+   }
+
+   @Test
+   public void testSendQueue() throws Exception {
+      CountDownLatch blocked = new CountDownLatch(1);
+      CountDownLatch release = new CountDownLatch(1);
+      List<Integer> sent = new CopyOnWriteArrayList<>();
+      List<Integer> dropped = new CopyOnWriteArrayList<>();
+      SendQueue<Integer> queue = new SendQueue<>("test-sender", 2, SendQueue.OverflowPolicy.DROP_OLDEST, item -> {
+         if(item == 0) {
+            blocked.countDown();
+            try {
+               release.await();
+            } catch(InterruptedException ie) {
+               return;
+            }
+         }
+         sent.add(item);
+      }, dropped::add);
+
+      queue.enqueue(0);
+      blocked.await();
+      for(int i = 1; i < 5; i++) {
+         queue.enqueue(i);
+      }
+      assertEquals(2, queue.size());
+      assertEquals(Arrays.asList(1, 2), dropped);
+      release.countDown();
+      queue.shutdown(10L, TimeUnit.SECONDS);
+      assertEquals(Arrays.asList(0, 3, 4), sent);
+      assertEquals(2L, ((Meter)queue.getMetrics().get("send-queue-dropped")).getCount());
+   }
+
+   @Test
+   public void testSendQueueKeepNewest() throws Exception {
+      CountDownLatch blocked = new CountDownLatch(1);
+      CountDownLatch release = new CountDownLatch(1);
+      List<Integer> sent = new CopyOnWriteArrayList<>();
+      List<Integer> dropped = new CopyOnWriteArrayList<>();
+      SendQueue<Integer> queue = new SendQueue<>("test-sender", 2, SendQueue.OverflowPolicy.KEEP_NEWEST, item -> {
+         if(item == 0) {
+            blocked.countDown();
+            try {
+               release.await();
+            } catch(InterruptedException ie) {
+               return;
+            }
+         }
+         sent.add(item);
+      }, dropped::add);
+
+      queue.enqueue(0);
+      blocked.await();
+      for(int i = 1; i < 5; i++) {
+         queue.enqueue(i);
+      }
+      assertEquals(2, queue.size());
+      assertEquals(Arrays.asList(1, 2), dropped); //Replaced items are passed to the dropped consumer...
+      release.countDown();
+      queue.shutdown(10L, TimeUnit.SECONDS);
+      assertEquals(Arrays.asList(0, 3, 4), sent);
+      assertEquals(2L, ((Meter)queue.getMetrics().get("send-queue-dropped")).getCount());
+   }
+
+   @Test
+   public void testDeflate() throws Exception {
+      byte[] b = "test-counter-0,test-counter-1,test-counter-2".getBytes(StandardCharsets.UTF_8);
+      byte[] deflated = EssemReporter.deflate(b);
+      assertArrayEquals(b, ByteStreams.toByteArray(new InflaterInputStream(new ByteArrayInputStream(deflated))));
+      assertArrayEquals(deflated, EssemReporter.deflate(b));
+   }
+
+   @Test
+   public void testDictionaryCompressor() throws Exception {
+      MetricRegistry registry = new MetricRegistry();
+      for(int i = 0; i < 20; i++) {
+         registry.counter("org.attribyte.essem.service.requests-" + i);
+      }
+      EssemReporter reporter = Proto2Reporter.newBuilder(new URI("http://127.0.0.1"), registry).build();
+      ReportProtos.EssemReport report = buildReport(reporter, registry);
+      byte[] reportBytes = report.toByteArray();
+
+      DictionaryCompressor compressor = (DictionaryCompressor)ReportCompressor.fromConfig("dictionary:6", registry::getNames);
+      byte[] compressed = compressor.compress(reportBytes);
+      byte[] plain = ReportCompressor.fromConfig("level:6", registry::getNames).compress(reportBytes);
+      assertTrue(compressed.length < plain.length);
+
+      Inflater inflater = new Inflater();
+      inflater.setInput(compressed);
+      byte[] inflated = new byte[reportBytes.length];
+      assertEquals(0, inflater.inflate(inflated));
+      assertTrue(inflater.needsDictionary());
+      assertEquals(compressor.getDictionaryId(), inflater.getAdler() & 0xFFFFFFFFL);
+      inflater.setDictionary(compressor.getDictionary());
+      assertEquals(reportBytes.length, inflater.inflate(inflated));
+      inflater.end();
+      assertArrayEquals(reportBytes, inflated);
+
+      //Pooled deflaters are reset and reused...
+      assertArrayEquals(compressed, compressor.compress(reportBytes));
+      assertNull(ReportCompressor.fromConfig("false", registry::getNames));
+   }
+
+   @Test
+   public void testNameDictionary() throws Exception {
+      List<ReportProtos.EssemReport> received = new CopyOnWriteArrayList<>();
+      HttpServer server = startServer(received);
+      try {
+         MetricRegistry registry = new MetricRegistry();
+         registry.counter("test-counter-0").inc(314);
+         registry.meter("test-meter-0").mark();
+         Proto2Reporter reporter = (Proto2Reporter)Proto2Reporter.newBuilder(serverURI(server), registry)
+                 .withNameDictionary(true)
+                 .build();
+         reporter.report();
+         registry.counter("test-counter-1").inc();
+         reporter.report();
+         reporter.stop();
+
+         assertEquals(2, received.size());
+         ReportProtos.EssemReport first = received.get(0);
+         ReportProtos.EssemReport second = received.get(1);
+         assertEquals(2, first.getNameDefinitionCount());
+         assertEquals(1, second.getNameDefinitionCount()); //Only the new counter...
+         assertEquals("test-counter-1", second.getNameDefinition(0).getName());
+         assertFalse(second.getCounter(0).hasName());
+         assertEquals(first.getNameDictionaryId(), second.getNameDictionaryId());
+
+         NameDictionaryDecoder decoder = new NameDictionaryDecoder();
+         decoder.decode(first);
+         ReportProtos.EssemReport decoded = decoder.decode(second);
+         assertEquals("test-counter-0", decoded.getCounter(0).getName());
+         assertEquals("test-counter-1", decoded.getCounter(1).getName());
+         assertEquals("test-meter-0", decoded.getMeter(0).getName());
+         assertEquals(0L, decoded.getNameDictionaryId());
+
+         try {
+            new NameDictionaryDecoder().decode(second);
+            fail("Expected unknown name");
+         } catch(NameDictionaryDecoder.UnknownNameException une) {
+            //Expected
+         }
+      } finally {
+         server.stop(0);
+      }
+   }
+
+   @Test
+   public void testParallelBuild() throws Exception {
+      List<ReportProtos.EssemReport> received = new CopyOnWriteArrayList<>();
+      HttpServer server = startServer(received);
+      try {
+         MetricRegistry registry = new MetricRegistry();
+         for(int i = 0; i < 1000; i++) {
+            registry.counter(String.format("test-counter-%04d", i)).inc(i);
+         }
+         for(int i = 0; i < 300; i++) {
+            registry.timer(String.format("test-timer-%04d", i)).update(i + 1, TimeUnit.MILLISECONDS);
+         }
+         EssemReporter sequential = Proto2Reporter.newBuilder(serverURI(server), registry).build();
+         EssemReporter parallel = Proto2Reporter.newBuilder(serverURI(server), registry)
+                 .withBuildParallelism(4)
+                 .build();
+         ReportProtos.EssemReport expected = buildReport(sequential, registry);
+         assertEquals(expected.getCounterList(), buildReport(parallel, registry).getCounterList());
+         parallel.report();
+         parallel.stop();
+         sequential.stop();
+
+         assertEquals(1, received.size());
+         ReportProtos.EssemReport report = received.get(0);
+         assertEquals(expected.getCounterList(), report.getCounterList());
+         assertEquals(300, report.getTimerCount());
+         for(int i = 0; i < 300; i++) {
+            assertEquals(expected.getTimer(i).getName(), report.getTimer(i).getName());
+         }
+         assertTrue(report.getTimestamp() > 0L);
+      } finally {
+         server.stop(0);
+      }
+   }
+
+   @Test
+   public void testChunkedReport() throws Exception {
+      List<ReportProtos.EssemReport> received = new CopyOnWriteArrayList<>();
+      HttpServer server = startServer(received);
+      try {
+         MetricRegistry registry = new MetricRegistry();
+         for(int i = 0; i < 500; i++) {
+            registry.counter(String.format("test-counter-%04d", i)).inc(i);
+         }
+         Proto2Reporter reporter = (Proto2Reporter)Proto2Reporter.newBuilder(serverURI(server), registry)
+                 .forApplication("test-app")
+                 .withTransport(new URLConnectionTransport(4))
+                 .withMaxReportBytes(2048)
+                 .build();
+         reporter.report();
+         reporter.stop();
+
+         assertTrue(received.size() > 1);
+         received.sort(Comparator.comparing(chunk -> chunk.getCounter(0).getName()));
+         int count = 0;
+         for(ReportProtos.EssemReport chunk : received) {
+            assertTrue(chunk.getSerializedSize() <= 2048);
+            assertEquals("test-app", chunk.getApplication());
+            assertEquals(received.get(0).getTimestamp(), chunk.getTimestamp());
+            for(ReportProtos.EssemReport.Counter counter : chunk.getCounterList()) {
+               assertEquals(String.format("test-counter-%04d", count), counter.getName());
+               assertEquals(count++, counter.getCount());
+            }
+         }
+         assertEquals(500, count);
+         assertEquals(received.size(), ((Histogram)reporter.getMetrics().get("report-size-bytes")).getCount());
+      } finally {
+         server.stop(0);
+      }
+   }
+
+   @Test
+   public void testReportPhases() throws Exception {
+      List<ReportProtos.EssemReport> received = new CopyOnWriteArrayList<>();
+      HttpServer server = startServer(received);
+      try {
+         MetricRegistry registry = new MetricRegistry();
+         registry.timer("test-timer-0").update(5, TimeUnit.MILLISECONDS);
+         registry.register("test-gauge-0", (Gauge<Integer>)() -> 7);
+         Proto2Reporter reporter = (Proto2Reporter)Proto2Reporter.newBuilder(serverURI(server), registry)
+                 .withSlowCycleLog(1L)
+                 .build();
+         reporter.report();
+         reporter.stop();
+         assertEquals(1, received.size());
+         for(String phase : Arrays.asList("report-snapshot", "report-gauges", "report-build",
+                 "report-hdr-encode", "report-network", "report-cycle", "report-cycle-cpu")) {
+            assertEquals(phase, 1L, ((Timer)reporter.getMetrics().get(phase)).getCount());
+         }
+         assertTrue(((Timer)reporter.getMetrics().get("report-build")).getSnapshot().getMax() > 0L);
+      } finally {
+         server.stop(0);
+      }
+   }
+
+   /**
+    * Verifies that a report that can't be built is logged and counted as failed, and the cycle still ends.
+    */
+   @Test
+   public void testReportError() throws Exception {
+      List<ReportProtos.EssemReport> received = new CopyOnWriteArrayList<>();
+      HttpServer server = startServer(received);
+      try {
+         MetricRegistry registry = new MetricRegistry();
+         registry.counter("test-counter-0").inc();
+         registry.register("test-gauge-0", (Gauge<Integer>)() -> {
+            throw new IllegalStateException("Gauge failed");
+         });
+         Proto2Reporter reporter = (Proto2Reporter)Proto2Reporter.newBuilder(serverURI(server), registry).build();
+         reporter.report();
+         assertEquals(0, received.size());
+         assertEquals(1L, ((Meter)reporter.getMetrics().get("failed-reports")).getCount());
+         assertEquals(1L, ((Timer)reporter.getMetrics().get("report-cycle")).getCount());
+
+         registry.remove("test-gauge-0");
+         reporter.report();
+         reporter.stop();
+         assertEquals(1, received.size());
+         assertEquals(1L, ((Meter)reporter.getMetrics().get("failed-reports")).getCount());
+      } finally {
+         server.stop(0);
+      }
+   }
+
+   @Test
+   public void testGaugeTimeout() throws Exception {
+      List<ReportProtos.EssemReport> received = new CopyOnWriteArrayList<>();
+      HttpServer server = startServer(received);
+      CountDownLatch release = new CountDownLatch(1);
+      try {
+         MetricRegistry registry = new MetricRegistry();
+         registry.register("test-gauge-0", (Gauge<Integer>)() -> {
+            try {
+               release.await();
+            } catch(InterruptedException ie) {
+               //Ignore
+            }
+            return 1;
+         });
+         registry.register("test-gauge-1", (Gauge<Integer>)() -> 2);
+         Proto2Reporter reporter = (Proto2Reporter)Proto2Reporter.newBuilder(serverURI(server), registry)
+                 .withGaugeTimeout(100L, 2, GaugeEvaluator.Fallback.COMMENT)
+                 .build();
+         reporter.report();
+         reporter.report(); //Hung gauge is not started again...
+         assertEquals(2, received.size());
+         ReportProtos.EssemReport report = received.get(1);
+         assertEquals(2, report.getGaugeCount());
+         assertEquals(GaugeEvaluator.TIMEOUT_COMMENT, report.getGauge(0).getComment());
+         assertFalse(report.getGauge(0).hasValue());
+         assertEquals(2.0, report.getGauge(1).getValue(), 0.0);
+         assertEquals(2L, ((Meter)reporter.getMetrics().get("gauge-timeouts")).getCount());
+         assertEquals("test-gauge-0", ((Gauge)reporter.getMetrics().get("gauge-timed-out")).getValue());
+         release.countDown();
+         reporter.stop();
+      } finally {
+         server.stop(0);
+      }
+   }
+
+   @Test
+   public void testGaugeCycleDeadline() throws Exception {
+      List<ReportProtos.EssemReport> received = new CopyOnWriteArrayList<>();
+      HttpServer server = startServer(received);
+      CountDownLatch release = new CountDownLatch(1);
+      try {
+         MetricRegistry registry = new MetricRegistry();
+         for(int i = 0; i < 6; i++) {
+            registry.register("test-gauge-" + i, (Gauge<Integer>)() -> {
+               try {
+                  release.await();
+               } catch(InterruptedException ie) {
+                  //Ignore
+               }
+               return 1;
+            });
+         }
+         Proto2Reporter reporter = (Proto2Reporter)Proto2Reporter.newBuilder(serverURI(server), registry)
+                 .withGaugeTimeout(200L, 2, GaugeEvaluator.Fallback.COMMENT)
+                 .build();
+         long startMillis = System.currentTimeMillis();
+         reporter.report(); //More hung gauges than threads...
+         long elapsedMillis = System.currentTimeMillis() - startMillis;
+         assertTrue("Cycle took " + elapsedMillis + " ms", elapsedMillis < 800L);
+         assertEquals(1, received.size());
+         assertEquals(6, received.get(0).getGaugeCount());
+         assertEquals(6L, ((Meter)reporter.getMetrics().get("gauge-timeouts")).getCount());
+         release.countDown();
+         reporter.stop();
+      } finally {
+         server.stop(0);
+      }
+   }
+
+   /**
+    * Verifies that the legacy constructor applies its arguments.
+    */
+   @Test
+   public void testLegacyConstructor() throws Exception {
+      MetricRegistry registry = new MetricRegistry();
+      registry.counter("test-counter-0").inc();
+      registry.counter("ignored-counter-0").inc();
+      EssemReporter reporter = new EssemReporter(new URI("http://127.0.0.1"), "auth", true, registry, Clock.defaultClock(),
+              "app", "host", "instance", "role", "description", () -> "status",
+              (name, metric) -> name.startsWith("test-"), TimeUnit.MINUTES, TimeUnit.MICROSECONDS,
+              true, EssemReporter.HdrReport.TOTAL, null) {
+         @Override
+         @SuppressWarnings("rawtypes")
+         public void report(final SortedMap<String, Gauge> gauges, final SortedMap<String, Counter> counters,
+                            final SortedMap<String, Histogram> histograms, final SortedMap<String, Meter> meters,
+                            final SortedMap<String, Timer> timers) {
+         }
+      };
+      try {
+         assertEquals("app", reporter.application);
+         assertEquals("host", reporter.host);
+         assertEquals("instance", reporter.instance);
+         assertEquals("role", reporter.role);
+         assertEquals("description", reporter.description);
+         assertEquals("status", reporter.statusSupplier.get());
+         assertEquals("auth", reporter.authValue);
+         assertTrue(reporter.deflate);
+         assertEquals(TimeUnit.MINUTES, reporter.rateUnit);
+         assertEquals(TimeUnit.MICROSECONDS, reporter.durationUnit);
+         assertTrue(reporter.skipUnchangedMetrics);
+         assertEquals(EssemReporter.HdrReport.TOTAL, reporter.hdrReport);
+         assertEquals(1, reporter.index.counters().size());
+      } finally {
+         reporter.stop();
+      }
+   }
+
+   @Test
+   public void testMetricIndex() throws Exception {
+      List<ReportProtos.EssemReport> received = new CopyOnWriteArrayList<>();
+      HttpServer server = startServer(received);
+      try {
+         MetricRegistry registry = new MetricRegistry();
+         registry.counter("test-counter-1").inc();
+         registry.counter("ignored-counter-0").inc();
+         Proto2Reporter reporter = (Proto2Reporter)Proto2Reporter.newBuilder(serverURI(server), registry)
+                 .filter((name, metric) -> name.startsWith("test-"))
+                 .build();
+         registry.counter("test-counter-0").inc();
+         reporter.report();
+         registry.remove("test-counter-1");
+         reporter.report();
+         reporter.stop();
+
+         assertEquals(2, received.size());
+         assertEquals(2, received.get(0).getCounterCount());
+         assertEquals("test-counter-0", received.get(0).getCounter(0).getName());
+         assertEquals("test-counter-1", received.get(0).getCounter(1).getName());
+         assertEquals(1, received.get(1).getCounterCount());
+         assertEquals("test-counter-0", received.get(1).getCounter(0).getName());
+      } finally {
+         server.stop(0);
+      }
+   }
+
+   @Test
+   public void testMetricStateEviction() throws Exception {
+      MetricRegistry registry = new MetricRegistry();
+      Proto2Reporter reporter = (Proto2Reporter)Proto2Reporter.newBuilder(URI.create("http://localhost"), registry)
+              .skipUnchangedMetrics(true)
+              .build();
+      registry.counter("test-counter-0").inc();
+      registry.counter("test-counter-1").inc();
+      assertEquals(2, buildReport(reporter, registry).getCounterCount());
+      assertEquals(0, buildReport(reporter, registry).getCounterCount());
+      assertEquals(2, reporter.metricState.size());
+
+      registry.remove("test-counter-1");
+      assertEquals(1, reporter.metricState.size());
+      assertEquals(1, ((Gauge<?>)reporter.getMetrics().get("change-state-size")).getValue());
+      assertEquals(1L, ((Counter)reporter.getMetrics().get("change-state-evictions")).getCount());
+
+      registry.counter("test-counter-1").inc();
+      assertEquals(1, buildReport(reporter, registry).getCounterCount());
+      reporter.stop();
+   }
+
+   @Test
+   public void testSkipUnchangedGauges() throws Exception {
+      MetricRegistry registry = new MetricRegistry();
+      AtomicReference<Object> value = new AtomicReference<>(100.0);
+      registry.register("test-gauge-0", (Gauge<Object>)value::get);
+      Proto2Reporter reporter = (Proto2Reporter)Proto2Reporter.newBuilder(URI.create("http://localhost"), registry)
+              .skipUnchangedGauges(0.0, 0.01)
+              .withRefreshIntervals(2)
+              .build();
+      assertEquals(1, buildReport(reporter, registry).getGaugeCount());
+      value.set(100.5);
+      assertEquals(0, buildReport(reporter, registry).getGaugeCount()); //Within 1%
+      value.set(100.9);
+      assertEquals(0, buildReport(reporter, registry).getGaugeCount());
+      assertEquals(1, buildReport(reporter, registry).getGaugeCount()); //Refreshed after 2 skipped intervals
+      value.set(102.0);
+      assertEquals(1, buildReport(reporter, registry).getGaugeCount());
+      value.set("comment");
+      assertEquals(1, buildReport(reporter, registry).getGaugeCount());
+      assertEquals(1, buildReport(reporter, registry).getGaugeCount());
+      assertEquals(2L, reporter.skippedUnchanged.getCount());
+      reporter.stop();
+   }
+
+   @Test
+   public void testQuantiles() throws Exception {
+      HDRReservoir reservoir = new HDRReservoir(2, HDRReservoir.REPORT_SNAPSHOT_HISTOGRAM);
+      Random random = new Random(42L);
+      for(int i = 0; i < 10000; i++) {
+         reservoir.update((long)(random.nextGaussian() * 1000.0 + 20000.0));
+      }
+      HDRReservoir.HDRSnapshot snapshot = (HDRReservoir.HDRSnapshot)reservoir.getSnapshot();
+      double[] quantiles = {0.999, 0.0, 0.5, 0.75, 1.0, 0.9999, 0.01, 0.95, 0.98, 0.99};
+      double[] values = snapshot.getValues(quantiles);
+      for(int i = 0; i < quantiles.length; i++) {
+         assertEquals(snapshot.getValue(quantiles[i]), values[i], 0.0);
+      }
+
+      MetricRegistry registry = new MetricRegistry();
+      Histogram histogram = registry.register("test-histo-0",
+              new Histogram(new HDRReservoir(2, HDRReservoir.REPORT_SNAPSHOT_HISTOGRAM)));
+      for(int i = 1; i <= 10000; i++) {
+         histogram.update(i);
+      }
+      EssemReporter reporter = Proto2Reporter.newBuilder(new URI("http://127.0.0.1"), registry)
+              .withQuantiles(0.5, 0.9999)
+              .build();
+      ReportProtos.EssemReport.Histogram reported = buildReport(reporter, registry).getHistogram(0);
+      assertTrue(reported.getMedian() > 0.0);
+      assertFalse(reported.hasPercentile98());
+      assertEquals(1, reported.getQuantileCount());
+      assertEquals(0.9999, reported.getQuantile(0).getQuantile(), 0.0);
+      assertTrue(reported.getQuantile(0).getValue() >= 9900.0);
+   }
+
+   @Test
+   public void testHDREncoder() throws Exception {
+      org.HdrHistogram.Histogram histogram = new org.HdrHistogram.Histogram(2);
+      Random random = new Random(42L);
+      for(int i = 0; i < 10000; i++) {
+         histogram.recordValue(Math.abs((long)(random.nextGaussian() * 100000.0)));
+      }
+
+      ByteBuffer expected = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+      int expectedLength = histogram.encodeIntoCompressedByteBuffer(expected);
+      HDREncoder encoder = new HDREncoder(1);
+      byte[] encoded = encoder.encode(histogram, (bytes, offset, length) -> Arrays.copyOfRange(bytes, offset, offset + length));
+      assertArrayEquals(Arrays.copyOf(expected.array(), expectedLength), Arrays.copyOfRange(encoded, 0, expectedLength));
+      assertEquals(histogram, org.HdrHistogram.Histogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(encoded), 0L));
+
+      //Warm up, then verify that, other than the payload, encoding does not allocate
+      for(int i = 0; i < 1000; i++) {
+         encoder.encode(histogram, (bytes, offset, length) -> null);
+      }
+      long allocated = allocatedBytes(() -> {
+         for(int i = 0; i < 1000; i++) {
+            encoder.encode(histogram, (bytes, offset, length) -> null);
+         }
+      });
+      assertTrue("Allocated " + allocated, allocated < 1000L * 64L);
+   }
+
+   @Test
+   public void testHdrPrecision() throws Exception {
+      MetricRegistry registry = new MetricRegistry();
+      Histogram fine = registry.register("test-histo-0", new Histogram(new HDRReservoir(3, HDRReservoir.REPORT_SNAPSHOT_HISTOGRAM)));
+      Histogram coarse = registry.register("coarse-histo-0", new Histogram(new HDRReservoir(3, HDRReservoir.REPORT_SNAPSHOT_HISTOGRAM)));
+      Random random = new Random(42L);
+      for(int i = 0; i < 10000; i++) {
+         long value = (long)(Math.exp(random.nextGaussian()) * 100000.0);
+         fine.update(value);
+         coarse.update(value);
+      }
+
+      EssemReporter reporter = Proto2Reporter.newBuilder(new URI("http://127.0.0.1"), registry)
+              .withHdrPrecision("coarse-.*", 1, 0L)
+              .withHdrPrecision(2, 1000000L)
+              .build();
+      ReportProtos.EssemReport report = buildReport(reporter, registry);
+      org.HdrHistogram.Histogram coarseHistogram = org.HdrHistogram.Histogram.decodeFromCompressedByteBuffer(
+              report.getHistogram(0).getHdrHistogram().asReadOnlyByteBuffer(), 0L);
+      org.HdrHistogram.Histogram fineHistogram = org.HdrHistogram.Histogram.decodeFromCompressedByteBuffer(
+              report.getHistogram(1).getHdrHistogram().asReadOnlyByteBuffer(), 0L);
+
+      assertEquals("coarse-histo-0", report.getHistogram(0).getName());
+      assertEquals(1, coarseHistogram.getNumberOfSignificantValueDigits());
+      assertEquals(10000L, coarseHistogram.getTotalCount());
+      assertTrue(report.getHistogram(0).getHdrHistogram().size() * 2 < report.getHistogram(1).getHdrHistogram().size());
+      double median = report.getHistogram(0).getMedian();
+      assertEquals(median, coarseHistogram.getValueAtPercentile(50.0), median * 0.1);
+
+      assertEquals(2, fineHistogram.getNumberOfSignificantValueDigits());
+      assertEquals(10000L, fineHistogram.getTotalCount());
+      assertTrue(fineHistogram.getMaxValue() <= fineHistogram.highestEquivalentValue(1000000L));
+   }
+
+   @Test
+   public void testHdrConsumers() throws Exception {
+      MetricRegistry registry = new MetricRegistry();
+      HDRReservoir reservoir = new HDRReservoir(2, HDRReservoir.REPORT_SNAPSHOT_HISTOGRAM);
+      Histogram histogram = registry.register("test-histo-0", new org.attribyte.essem.metrics.Histogram(reservoir));
+      histogram.update(100L);
+      histogram.update(200L);
+      assertEquals(2, reservoir.size());
+      assertEquals(2, reservoir.size()); //No side-effect
+      assertEquals(2, reservoir.peek().size());
+
+      EssemReporter reporter0 = Proto2Reporter.newBuilder(new URI("http://127.0.0.1"), registry)
+              .withHdrConsumer("reporter-0")
+              .build();
+      EssemReporter reporter1 = Proto2Reporter.newBuilder(new URI("http://127.0.0.1"), registry)
+              .withHdrConsumer("reporter-1")
+              .build();
+      assertEquals(200, (int)buildReport(reporter0, registry).getHistogram(0).getMax());
+      histogram.update(250L);
+      assertEquals(250, (int)buildReport(reporter1, registry).getHistogram(0).getMax()); //Includes values since start
+      assertEquals(250, (int)buildReport(reporter0, registry).getHistogram(0).getMax());
+      assertEquals(0, reservoir.peek("reporter-0").size());
+      assertEquals(0, reservoir.peek("reporter-1").size());
+      histogram.update(50L);
+      assertEquals(50, (int)buildReport(reporter0, registry).getHistogram(0).getMax());
+      assertEquals(50, (int)buildReport(reporter1, registry).getHistogram(0).getMax());
+      assertEquals(4, histogram.getSnapshot().size()); //Default consumer, unchanged by named consumers
+      assertEquals(0, reservoir.size());
+
+      assertEquals(0, (int)HDRReservoir.readAs("reporter-0", reservoir::size));
+      reporter0.stop(); //Removes the consumer...
+      assertEquals(4, (int)HDRReservoir.readAs("reporter-0", reservoir::size));
+      assertEquals(0, (int)HDRReservoir.readAs("reporter-1", reservoir::size));
+      reporter1.stop();
+   }
+
+   /**
+    * Verifies that the reservoir footprint gauge is reported only when configured.
+    */
+   @Test
+   public void testReservoirFootprintGauge() throws Exception {
+      MetricRegistry registry = new MetricRegistry();
+      CompactHDRReservoir reservoir = new CompactHDRReservoir(2, HDRReservoir.REPORT_SNAPSHOT_HISTOGRAM);
+      registry.register("test-histo-0", new org.attribyte.essem.metrics.Histogram(reservoir));
+      Proto2Reporter reporter = (Proto2Reporter)Proto2Reporter.newBuilder(new URI("http://127.0.0.1"), registry).build();
+      assertFalse(reporter.getMetrics().containsKey("reservoir-footprint-bytes"));
+      reporter.stop();
+
+      reporter = (Proto2Reporter)Proto2Reporter.newBuilder(new URI("http://127.0.0.1"), registry)
+              .withReservoirFootprint(true)
+              .build();
+      assertEquals(reservoir.getEstimatedFootprintInBytes(),
+              (long)(Long)((Gauge)reporter.getMetrics().get("reservoir-footprint-bytes")).getValue());
+      reporter.stop();
+   }
+
+   /**
+    * Verifies that reports with raw HDR histograms deflate to fewer bytes than reports with compressed histograms.
+    */
+   @Test
+   public void testRawHdrEncoding() throws Exception {
+      Random random = new Random(42L);
+      List<org.HdrHistogram.Histogram> histograms = Lists.newArrayList();
+      for(int i = 0; i < 500; i++) {
+         org.HdrHistogram.Histogram histogram = new org.HdrHistogram.Histogram(2);
+         int count = 10 + random.nextInt(2000);
+         double scale = 1000.0 + random.nextInt(1000000);
+         for(int j = 0; j < count; j++) {
+            histogram.recordValue((long)(Math.exp(random.nextGaussian()) * scale));
+         }
+         histograms.add(histogram);
+      }
+
+      HDREncoder encoder = new HDREncoder(1);
+      for(int level : new int[] {1, 6, 9}) {
+         DeflateCompressor compressor = new DeflateCompressor(level);
+         int compressed = encodeAndDeflate(histograms, compressor, histogram -> encoder.encode(histogram, ByteString::copyFrom));
+         int raw = encodeAndDeflate(histograms, compressor, histogram -> encoder.encodeUncompressed(histogram, ByteString::copyFrom));
+         assertTrue("Level " + level + ": raw " + raw + " bytes, compressed " + compressed + " bytes", raw < compressed);
+      }
+
+      ByteString encoded = encoder.encodeUncompressed(histograms.get(0), ByteString::copyFrom);
+      assertEquals(histograms.get(0), org.HdrHistogram.Histogram.decodeFromByteBuffer(encoded.asReadOnlyByteBuffer(), 0L));
+   }
+
+   /**
+    * Encodes histograms as a report would, then deflates the report.
+    * @param histograms The histograms.
+    * @param compressor The report compressor.
+    * @param encoder Encodes a histogram.
+    * @return The deflated size.
+    */
+   private static int encodeAndDeflate(final List<org.HdrHistogram.Histogram> histograms,
+                                          final ReportCompressor compressor,
+                                          final Function<org.HdrHistogram.Histogram, ByteString> encoder) {
+      ReportProtos.EssemReport.Builder report = ReportProtos.EssemReport.newBuilder();
+      for(int i = 0; i < histograms.size(); i++) {
+         report.addHistogramBuilder().setName("test-histo-" + i).setHdrHistogram(encoder.apply(histograms.get(i)));
+      }
+      return compressor.compress(report.build().toByteArray()).length;
+   }
+
+   @Test
+   public void testLeanReport() throws Exception {
+      MetricRegistry registry = new MetricRegistry();
+      Timer timer = registry.register("test-timer-0", new org.attribyte.essem.metrics.Timer());
+      timer.update(100L, TimeUnit.MILLISECONDS);
+      registry.meter("test-meter-0").mark();
+      registry.histogram("test-histo-0").update(10L); //Not HDR
+      EssemReporter reporter = Proto2Reporter.newBuilder(new URI("http://127.0.0.1"), registry)
+              .withLeanReports(true)
+              .build();
+      ReportProtos.EssemReport report = buildReport(reporter, registry);
+      assertTrue(report.getLean());
+
+      ReportProtos.EssemReport.Timer reportedTimer = report.getTimer(0);
+      assertEquals(1L, reportedTimer.getCount());
+      assertTrue(reportedTimer.hasHdrHistogram());
+      assertFalse(reportedTimer.hasMax());
+      assertFalse(reportedTimer.hasMedian());
+      assertFalse(reportedTimer.hasOneMinuteRate());
+
+      ReportProtos.EssemReport.Meter reportedMeter = report.getMeter(0);
+      assertEquals(1L, reportedMeter.getCount());
+      assertFalse(reportedMeter.hasMeanRate());
+
+      ReportProtos.EssemReport.Histogram reportedHistogram = report.getHistogram(0);
+      assertFalse(reportedHistogram.hasHdrHistogram());
+      assertEquals(10, (int)reportedHistogram.getMax());
+   }
+
+   /**
+    * Measures the bytes allocated by the current thread while running a task.
+    * @param task The task.
+    * @return The number of bytes allocated.
+    */
+   static long allocatedBytes(final Runnable task) {
+      com.sun.management.ThreadMXBean threadBean =
+              (com.sun.management.ThreadMXBean)java.lang.management.ManagementFactory.getThreadMXBean();
+      long threadId = Thread.currentThread().getId();
+      long start = threadBean.getThreadAllocatedBytes(threadId);
+      task.run();
+      return threadBean.getThreadAllocatedBytes(threadId) - start;
+   }
+
+   /**
+    * Starts a server that accepts reports.
+    * @param received A list to which received reports are added.
+    * @return The server.
+    * @throws Exception on start error.
+    */
+   static HttpServer startServer(final List<ReportProtos.EssemReport> received) throws Exception {
+      HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+      server.createContext("/", exchange -> {
+         String encoding = exchange.getRequestHeaders().getFirst(EssemReporter.CONTENT_ENCODING_HEADER);
+         try(InputStream is = EssemReporter.DEFLATE_ENCODING.equals(encoding) ?
+                 new InflaterInputStream(exchange.getRequestBody()) : exchange.getRequestBody()) {
+            received.add(ReportProtos.EssemReport.parseFrom(ByteStreams.toByteArray(is)));
+         }
+         exchange.sendResponseHeaders(202, -1);
+         exchange.close();
+      });
+      server.start();
+      return server;
+   }
+
+   /**
+    * Gets the report URI for a server.
+    * @param server The server.
+    * @return The URI.
+    * @throws Exception on invalid URI.
+    */
+   static URI serverURI(final HttpServer server) throws Exception {
+      return new URI("http://127.0.0.1:" + server.getAddress().getPort() + "/report");
+   }
+
    /**
     * Builds a report for a specified registry.
     * @param registry The registry.
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2018 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ */
+
+package org.attribyte.essem.reporter;
+
+import com.google.common.collect.Maps;
+import org.attribyte.essem.proto.ReportProtos;
+
+import java.util.Map;
+
+/**
+ * A reference decoder for reports sent with a {@link NameDictionary}, used to verify reports in tests.
+ * <p>
+ *    A decoder holds the dictionary for a single reporter (application, host and instance).
+ *    Decoded reports have full names and no dictionary fields.
+ * </p>
+ */
+public class NameDictionaryDecoder {
+
+   /**
+    * Thrown when a report uses a name id that has not been defined.
+    * A server should respond with {@code 409}.
+    */
+   public static class UnknownNameException extends Exception {
+
+      private static final long serialVersionUID = 1L;
+
+      /**
+       * Creates the exception.
+       * @param dictionaryId The dictionary id.
+       * @param nameId The unknown name id.
+       */
+      public UnknownNameException(final long dictionaryId, final int nameId) {
+         super("Unknown name id " + nameId + " in dictionary " + dictionaryId);
+      }
+   }
+
+   /**
+    * Decodes a report, resolving name ids.
+    * <p>
+    *    If the report's dictionary id is different from the last seen, all names are discarded.
+    *    Name definitions in the report are applied before ids are resolved.
+    * </p>
+    * @param report The report.
+    * @return The report with full names.
+    * @throws UnknownNameException if the report uses an id that has not been defined.
+    */
+   public synchronized ReportProtos.EssemReport decode(final ReportProtos.EssemReport report) throws UnknownNameException {
+      if(report.getNameDictionaryId() == 0L) {
+         return report;
+      }
+
+      if(report.getNameDictionaryId() != dictionaryId) {
+         dictionaryId = report.getNameDictionaryId();
+         names.clear();
+      }
+
+      for(ReportProtos.EssemReport.NameDefinition definition : report.getNameDefinitionList()) {
+         names.put(definition.getId(), definition.getName());
+      }
+
+      for(int nameId : nameIds(report)) {
+         if(nameId != 0 && !names.containsKey(nameId)) {
+            throw new UnknownNameException(dictionaryId, nameId);
+         }
+      }
+
+      return Proto2Reporter.expandNames(report, names::get);
+   }
+
+   /**
+    * Gets all name ids used in a report.
+    * @param report The report.
+    * @return The name ids, including zero for metrics reported with a full name.
+    */
+   private static int[] nameIds(final ReportProtos.EssemReport report) {
+      int[] ids = new int[report.getGaugeCount() + report.getCounterCount() + report.getMeterCount() +
+              report.getHistogramCount() + report.getTimerCount()];
+      int pos = 0;
+      for(ReportProtos.EssemReport.Gauge gauge : report.getGaugeList()) ids[pos++] = gauge.getNameId();
+      for(ReportProtos.EssemReport.Counter counter : report.getCounterList()) ids[pos++] = counter.getNameId();
+      for(ReportProtos.EssemReport.Meter meter : report.getMeterList()) ids[pos++] = meter.getNameId();
+      for(ReportProtos.EssemReport.Histogram histogram : report.getHistogramList()) ids[pos++] = histogram.getNameId();
+      for(ReportProtos.EssemReport.Timer timer : report.getTimerList()) ids[pos++] = timer.getNameId();
+      return ids;
+   }
+
+   private long dictionaryId;
+   private final Map<Integer, String> names = Maps.newHashMap();
+}
@@ -48,9 +48,7 @@ public class Proto3Builder extends Builder {
 
    @Override
    public EssemReporter build() {
-      return new Proto3Reporter(uri, authValue, deflate,
-              registry, clock, application, host, instance, role, description, statusSupplier, filter, rateUnit, durationUnit,
-              skipUnchangedMetrics, hdrReport, alertSupplier);
+      return new Proto3Reporter(this);
    }
 
    /**